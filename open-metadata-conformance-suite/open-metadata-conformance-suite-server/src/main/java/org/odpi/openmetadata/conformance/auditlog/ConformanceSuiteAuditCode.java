@@ -144,6 +144,18 @@ public enum ConformanceSuiteAuditCode
             "The execution of tests will now pause for the specified number of seconds, based on the configuration of the workbench.",
             "No action is required.  This is part of the normal operation of the service."),
 
+    LOAD_RESULTS_WRITTEN("CONFORMANCE-SUITE-0021",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The results of {0} concurrent load operations have been written to {1} and {2}",
+            "The latency and throughput of each operation have been saved as CSV files.",
+            "Compare the files with those from earlier runs to see how the performance of the technology under test has changed."),
+
+    LOAD_RESULTS_NOT_WRITTEN("CONFORMANCE-SUITE-0022",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The results of the concurrent load could not be written to directory {0}.  The {1} exception was returned with message {2}",
+            "The results are still available from the workbench report.",
+            "Check that the directory configured in loadResultsDirectory exists and can be written to by the server."),
+
     ;
 
     private String                     logMessageId;
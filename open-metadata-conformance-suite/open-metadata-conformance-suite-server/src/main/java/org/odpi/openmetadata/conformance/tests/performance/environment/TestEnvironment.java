@@ -58,6 +58,12 @@ public class TestEnvironment extends OpenMetadataPerformanceTestCase
         addProperty("maxSearchResults", performanceWorkPad.getMaxSearchResults());
         addProperty("waitBetweenScenarios", performanceWorkPad.getWaitBetweenScenarios());
         addProperty("profilesToSkip", performanceWorkPad.getProfilesToSkip());
+        addProperty("loadClients", performanceWorkPad.getLoadClients());
+        addProperty("loadTargetOperationsPerSecond", performanceWorkPad.getLoadTargetOperationsPerSecond());
+        addProperty("loadWarmUpSeconds", performanceWorkPad.getLoadWarmUpSeconds());
+        addProperty("loadDurationSeconds", performanceWorkPad.getLoadDurationSeconds());
+        addProperty("loadScenarios", performanceWorkPad.getLoadScenarios());
+        addProperty("loadScalingSteps", performanceWorkPad.getLoadScalingSteps());
     }
 
 
@@ -0,0 +1,789 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance.load;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryPerformanceScenarioConfig;
+import org.odpi.openmetadata.conformance.tests.performance.OpenMetadataPerformanceTestCase;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceKeyChooser;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceLoadGenerator;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceLoadOperation;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceLoadResult;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Test the latency and throughput of the technology under test when it is called by several clients at the
+ * same time.  Each configured scenario mixes reads and searches, updates and graph queries in set proportions
+ * and picks the instances to call either uniformly or with a zipfian skew towards a few hot instances.
+ * The scenarios are run against the instances created by the earlier profiles and then again each time the
+ * repository has been grown to one of the configured scaling steps, so that the change in latency as the
+ * amount of metadata grows can be seen.
+ */
+public class TestConcurrentLoad extends OpenMetadataPerformanceTestCase
+{
+    private static final String TEST_CASE_ID   = "repository-concurrent-load-performance";
+    private static final String TEST_CASE_NAME = "Repository concurrent load performance test case";
+
+    private static final String DEFAULT_SCENARIO_NAME = "production-mix";
+    private static final long   KEY_SHUFFLE_SEED      = 42L;
+
+    private static final String A_LOAD     = TEST_CASE_ID + "-";
+    private static final String A_LOAD_MSG = "Repository completes calls from concurrent clients for operation: ";
+
+    private static final String A_GROW     = TEST_CASE_ID + "-addEntity";
+    private static final String A_GROW_MSG = "Repository adds the entities needed to reach the scaling step of: ";
+
+    private final Collection<EntityDef>       entityDefs;
+    private final Collection<RelationshipDef> relationshipDefs;
+
+    /*
+     * The instances that the clients call.  The updatable entities are those homed in the technology under
+     * test, since reference copies can not be updated, and are held with their types so that new property
+     * values can be generated.  These lists are only changed between loads.
+     */
+    private final List<String>                        entityGUIDs           = new ArrayList<>();
+    private final List<String>                        relationshipGUIDs     = new ArrayList<>();
+    private final List<String>                        updatableEntityGUIDs  = new ArrayList<>();
+    private final List<EntityDef>                     updatableEntityTypes  = new ArrayList<>();
+    private final List<String>                        entityTypeGUIDs       = new ArrayList<>();
+    private final List<String>                        relationshipTypeGUIDs = new ArrayList<>();
+    private final Map<String, List<TypeDefAttribute>> typeAttributes        = new HashMap<>();
+    private final Map<String, Boolean>                operationSupport      = new HashMap<>();
+
+    private AtomicInteger nextInstanceNumber = null;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDefs types of valid entities
+     * @param relationshipDefs types of valid relationships
+     */
+    public TestConcurrentLoad(PerformanceWorkPad          workPad,
+                              Collection<EntityDef>       entityDefs,
+                              Collection<RelationshipDef> relationshipDefs)
+    {
+        super(workPad, PerformanceProfile.CONCURRENT_LOAD.getProfileId());
+
+        this.entityDefs = entityDefs;
+        this.relationshipDefs = relationshipDefs;
+
+        super.updateTestId(TEST_CASE_ID, TEST_CASE_ID, TEST_CASE_NAME);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+
+        /*
+         * Generated property values start after those used by the creation profile so that unique
+         * properties stay unique.
+         */
+        nextInstanceNumber = new AtomicInteger(super.getInstancesPerType());
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            entityTypeGUIDs.add(entityDef.getGUID());
+        }
+
+        for (RelationshipDef relationshipDef : relationshipDefs)
+        {
+            relationshipTypeGUIDs.add(relationshipDef.getGUID());
+        }
+
+        findEntities(metadataCollection);
+        findRelationships(metadataCollection);
+
+        long instanceCount = Math.max(performanceWorkPad.getTotalEntitiesCreated(), entityGUIDs.size());
+
+        runScenarios(metadataCollection, instanceCount);
+
+        for (Long scalingStep : getScalingSteps())
+        {
+            if (scalingStep > instanceCount)
+            {
+                long entitiesAdded = addEntities(metadataCollection, scalingStep, scalingStep - instanceCount);
+
+                if (entitiesAdded == 0)
+                {
+                    break;
+                }
+
+                instanceCount += entitiesAdded;
+
+                runScenarios(metadataCollection, instanceCount);
+            }
+        }
+
+        super.setSuccessMessage("Concurrent load performance tests complete with " + performanceWorkPad.getLoadClients() +
+                                        " clients and " + instanceCount + " entities");
+    }
+
+
+    /**
+     * Run each of the configured scenarios against the current set of instances.
+     *
+     * @param metadataCollection through which to call the technology under test
+     * @param instanceCount number of entities in the repository
+     * @throws Exception the load could not be run
+     */
+    private void runScenarios(OMRSMetadataCollection metadataCollection,
+                              long                   instanceCount) throws Exception
+    {
+        /*
+         * Shuffle the instances so that the hot instances of a skewed scenario are spread across the types.
+         * The updatable GUIDs and their types are shuffled with identically seeded generators so that they
+         * stay in step.
+         */
+        Collections.shuffle(entityGUIDs, new Random(KEY_SHUFFLE_SEED));
+        Collections.shuffle(relationshipGUIDs, new Random(KEY_SHUFFLE_SEED));
+        Collections.shuffle(updatableEntityGUIDs, new Random(KEY_SHUFFLE_SEED));
+        Collections.shuffle(updatableEntityTypes, new Random(KEY_SHUFFLE_SEED));
+
+        List<RepositoryPerformanceScenarioConfig> scenarios = getScenarios();
+
+        for (int scenarioNumber = 0; scenarioNumber < scenarios.size(); scenarioNumber++)
+        {
+            RepositoryPerformanceScenarioConfig scenario     = scenarios.get(scenarioNumber);
+            String                              scenarioName = scenario.getScenarioName();
+
+            if (scenarioName == null)
+            {
+                scenarioName = "scenario-" + (scenarioNumber + 1);
+            }
+
+            runScenario(metadataCollection, scenarioName, scenario, instanceCount);
+        }
+    }
+
+
+    /**
+     * Run one scenario against the current set of instances and record its results.
+     *
+     * @param metadataCollection through which to call the technology under test
+     * @param scenarioName name of the scenario used in the results
+     * @param scenario mix of operations and key distribution
+     * @param instanceCount number of entities in the repository
+     * @throws Exception the load could not be run
+     */
+    private void runScenario(OMRSMetadataCollection              metadataCollection,
+                             String                              scenarioName,
+                             RepositoryPerformanceScenarioConfig scenario,
+                             long                                instanceCount) throws Exception
+    {
+        String userId   = workPad.getLocalServerUserId();
+        int    pageSize = performanceWorkPad.getMaxSearchResults();
+
+        String keyDistribution = scenario.getKeyDistribution();
+        double zipfianExponent = scenario.getZipfianExponent();
+
+        PerformanceKeyChooser entityKeys           = new PerformanceKeyChooser(entityGUIDs.size(), keyDistribution, zipfianExponent);
+        PerformanceKeyChooser relationshipKeys     = new PerformanceKeyChooser(relationshipGUIDs.size(), keyDistribution, zipfianExponent);
+        PerformanceKeyChooser updatableKeys        = new PerformanceKeyChooser(updatableEntityGUIDs.size(), keyDistribution, zipfianExponent);
+        PerformanceKeyChooser entityTypeKeys       = new PerformanceKeyChooser(entityTypeGUIDs.size(), keyDistribution, zipfianExponent);
+        PerformanceKeyChooser relationshipTypeKeys = new PerformanceKeyChooser(relationshipTypeGUIDs.size(), keyDistribution, zipfianExponent);
+
+        List<PerformanceLoadOperation> readOperations   = new ArrayList<>();
+        List<PerformanceLoadOperation> updateOperations = new ArrayList<>();
+        List<PerformanceLoadOperation> graphOperations  = new ArrayList<>();
+
+        if (! entityGUIDs.isEmpty())
+        {
+            readOperations.add(new LoadOperation("getEntityDetail",
+                                                 () -> metadataCollection.getEntityDetail(userId, entityGUIDs.get(entityKeys.nextIndex()))));
+            readOperations.add(new LoadOperation("findEntities",
+                                                 () -> metadataCollection.findEntities(userId,
+                                                                                       entityTypeGUIDs.get(entityTypeKeys.nextIndex()),
+                                                                                       null,
+                                                                                       null,
+                                                                                       0,
+                                                                                       null,
+                                                                                       null,
+                                                                                       null,
+                                                                                       null,
+                                                                                       SequencingOrder.GUID,
+                                                                                       pageSize)));
+            graphOperations.add(new LoadOperation("getRelationshipsForEntity",
+                                                  () -> metadataCollection.getRelationshipsForEntity(userId,
+                                                                                                     entityGUIDs.get(entityKeys.nextIndex()),
+                                                                                                     null,
+                                                                                                     0,
+                                                                                                     null,
+                                                                                                     null,
+                                                                                                     null,
+                                                                                                     null,
+                                                                                                     pageSize)));
+            graphOperations.add(new LoadOperation("getEntityNeighborhood",
+                                                  () -> metadataCollection.getEntityNeighborhood(userId,
+                                                                                                 entityGUIDs.get(entityKeys.nextIndex()),
+                                                                                                 null,
+                                                                                                 null,
+                                                                                                 null,
+                                                                                                 null,
+                                                                                                 null,
+                                                                                                 1)));
+        }
+
+        if (! relationshipGUIDs.isEmpty())
+        {
+            readOperations.add(new LoadOperation("getRelationship",
+                                                 () -> metadataCollection.getRelationship(userId, relationshipGUIDs.get(relationshipKeys.nextIndex()))));
+            readOperations.add(new LoadOperation("findRelationships",
+                                                 () -> metadataCollection.findRelationships(userId,
+                                                                                            relationshipTypeGUIDs.get(relationshipTypeKeys.nextIndex()),
+                                                                                            null,
+                                                                                            null,
+                                                                                            0,
+                                                                                            null,
+                                                                                            null,
+                                                                                            null,
+                                                                                            SequencingOrder.GUID,
+                                                                                            pageSize)));
+        }
+
+        if (! updatableEntityGUIDs.isEmpty())
+        {
+            updateOperations.add(new LoadOperation("updateEntityProperties",
+                                                   () -> {
+                                                       int       index      = updatableKeys.nextIndex();
+                                                       EntityDef entityType = updatableEntityTypes.get(index);
+
+                                                       return metadataCollection.updateEntityProperties(userId,
+                                                                                                        updatableEntityGUIDs.get(index),
+                                                                                                        super.generatePropertiesForInstance(userId,
+                                                                                                                                            typeAttributes.get(entityType.getName()),
+                                                                                                                                            nextInstanceNumber.getAndIncrement()));
+                                                   }));
+        }
+
+        List<PerformanceLoadOperation> operations = new ArrayList<>();
+        List<Double>                   weights    = new ArrayList<>();
+
+        addOperations(readOperations, scenario.getReadPercentage(), operations, weights);
+        addOperations(updateOperations, scenario.getUpdatePercentage(), operations, weights);
+        addOperations(graphOperations, scenario.getGraphQueryPercentage(), operations, weights);
+
+        if (operations.isEmpty())
+        {
+            return;
+        }
+
+        PerformanceLoadGenerator loadGenerator = new PerformanceLoadGenerator(scenarioName,
+                                                                              instanceCount,
+                                                                              performanceWorkPad.getLoadClients(),
+                                                                              performanceWorkPad.getLoadTargetOperationsPerSecond(),
+                                                                              performanceWorkPad.getLoadWarmUpSeconds(),
+                                                                              performanceWorkPad.getLoadDurationSeconds());
+
+        for (PerformanceLoadResult result : loadGenerator.run(operations, weights))
+        {
+            assertCondition(result.getOperationCount() > 0,
+                    A_LOAD + result.getOperationName(),
+                    A_LOAD_MSG + result.getOperationName(),
+                    PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                    null);
+
+            addDiscoveredProperty(scenarioName + "-" + instanceCount + "-" + result.getOperationName(),
+                    getResultProperties(result),
+                    PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                    null);
+
+            performanceWorkPad.addLoadResult(result);
+        }
+    }
+
+
+    /**
+     * Add the supported operations of one class (reads, updates or graph queries) to the load, sharing the
+     * percentage for the class equally between them.
+     *
+     * @param candidateOperations operations of the class
+     * @param percentage share of the calls for the class
+     * @param operations operations for the load
+     * @param weights weights for the load, in the same order as the operations
+     * @throws Exception the operation failed for a reason other than not being supported
+     */
+    private void addOperations(List<PerformanceLoadOperation> candidateOperations,
+                               int                            percentage,
+                               List<PerformanceLoadOperation> operations,
+                               List<Double>                   weights) throws Exception
+    {
+        if (percentage <= 0)
+        {
+            return;
+        }
+
+        List<PerformanceLoadOperation> supportedOperations = new ArrayList<>();
+
+        for (PerformanceLoadOperation operation : candidateOperations)
+        {
+            if (isSupported(operation))
+            {
+                supportedOperations.add(operation);
+            }
+        }
+
+        for (PerformanceLoadOperation operation : supportedOperations)
+        {
+            operations.add(operation);
+            weights.add((double) percentage / supportedOperations.size());
+        }
+    }
+
+
+    /**
+     * Call an operation once, the first time it is seen, to find out whether the technology under test
+     * supports it.
+     *
+     * @param operation operation to try
+     * @return whether the operation is supported
+     * @throws Exception the operation failed for a reason other than not being supported
+     */
+    private boolean isSupported(PerformanceLoadOperation operation) throws Exception
+    {
+        Boolean supported = operationSupport.get(operation.getOperationName());
+
+        if (supported == null)
+        {
+            try
+            {
+                operation.execute();
+                supported = true;
+            }
+            catch (FunctionNotSupportedException exception)
+            {
+                super.addNotSupportedAssertion(A_LOAD + operation.getOperationName(),
+                        A_LOAD_MSG + operation.getOperationName(),
+                        PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                        null);
+                supported = false;
+            }
+
+            operationSupport.put(operation.getOperationName(), supported);
+        }
+
+        return supported;
+    }
+
+
+    /**
+     * Add entities to the repository until it reaches a scaling step.  The entities are copies of the types
+     * of the entities that are homed in the technology under test, since these are known to be creatable,
+     * and are added by the same number of threads as there are load clients.
+     *
+     * @param metadataCollection through which to call addEntity
+     * @param scalingStep number of entities that the repository is being grown to
+     * @param entitiesToAdd number of entities to add
+     * @return number of entities added
+     * @throws Exception on any error other than addEntity not being supported
+     */
+    private long addEntities(OMRSMetadataCollection metadataCollection,
+                             long                   scalingStep,
+                             long                   entitiesToAdd) throws Exception
+    {
+        List<EntityDef> entityTypes = new ArrayList<>();
+        Set<String>     typeNames   = new HashSet<>();
+
+        for (EntityDef entityType : updatableEntityTypes)
+        {
+            if (typeNames.add(entityType.getName()))
+            {
+                entityTypes.add(entityType);
+            }
+        }
+
+        if (entityTypes.isEmpty())
+        {
+            return 0;
+        }
+
+        String                        userId   = workPad.getLocalServerUserId();
+        int                           threads  = Math.max(1, performanceWorkPad.getLoadClients());
+        List<Callable<EntitiesAdded>> tasks    = new ArrayList<>();
+        ExecutorService               executor = Executors.newFixedThreadPool(threads);
+        long                          added    = 0;
+
+        for (int threadNumber = 0; threadNumber < threads; threadNumber++)
+        {
+            final int firstEntity = threadNumber;
+
+            tasks.add(() -> {
+                EntitiesAdded entitiesAdded = new EntitiesAdded();
+
+                for (long entityNumber = firstEntity; entityNumber < entitiesToAdd; entityNumber += threads)
+                {
+                    EntityDef    entityType = entityTypes.get((int) (entityNumber % entityTypes.size()));
+                    EntityDetail entity     = metadataCollection.addEntity(userId,
+                                                                           entityType.getGUID(),
+                                                                           super.generatePropertiesForInstance(userId,
+                                                                                                               typeAttributes.get(entityType.getName()),
+                                                                                                               nextInstanceNumber.getAndIncrement()),
+                                                                           null,
+                                                                           null);
+
+                    entitiesAdded.entityGUIDs.add(entity.getGUID());
+                    entitiesAdded.entityTypes.add(entityType);
+                }
+
+                return entitiesAdded;
+            });
+        }
+
+        try
+        {
+            for (Future<EntitiesAdded> future : executor.invokeAll(tasks))
+            {
+                EntitiesAdded entitiesAdded = future.get();
+
+                entityGUIDs.addAll(entitiesAdded.entityGUIDs);
+                updatableEntityGUIDs.addAll(entitiesAdded.entityGUIDs);
+                updatableEntityTypes.addAll(entitiesAdded.entityTypes);
+                added += entitiesAdded.entityGUIDs.size();
+            }
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof FunctionNotSupportedException)
+            {
+                super.addNotSupportedAssertion(A_GROW,
+                        A_GROW_MSG + scalingStep,
+                        PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                        null);
+                return 0;
+            }
+
+            if (error.getCause() instanceof Exception)
+            {
+                throw (Exception) error.getCause();
+            }
+
+            throw error;
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        /*
+         * The counter in the work pad is not thread-safe so it is only updated once all of the threads are done.
+         */
+        performanceWorkPad.incrementEntitiesCreated((int) added);
+
+        assertCondition(added == entitiesToAdd,
+                A_GROW,
+                A_GROW_MSG + scalingStep,
+                PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                null);
+
+        return added;
+    }
+
+
+    /**
+     * Retrieve the GUIDs of up to instancesPerType entities of each type, noting those that are homed in the
+     * technology under test.
+     *
+     * @param metadataCollection through which to call findEntities
+     * @throws Exception on any error other than the search not being supported
+     */
+    private void findEntities(OMRSMetadataCollection metadataCollection) throws Exception
+    {
+        String                 userId           = workPad.getLocalServerUserId();
+        String                 tutCollectionId  = performanceWorkPad.getTutMetadataCollectionId();
+        Map<String, EntityDef> entityDefsByName = new HashMap<>();
+        Set<String>            foundGUIDs       = new HashSet<>();
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            entityDefsByName.put(entityDef.getName(), entityDef);
+        }
+
+        try
+        {
+            for (EntityDef entityDef : entityDefs)
+            {
+                List<EntityDetail> entities = metadataCollection.findEntities(userId,
+                        entityDef.getGUID(),
+                        null,
+                        null,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        super.getInstancesPerType());
+
+                if (entities != null)
+                {
+                    for (EntityDetail entity : entities)
+                    {
+                        /*
+                         * Searches by type also return subtypes so the same entity can be found more than once.
+                         */
+                        if (foundGUIDs.add(entity.getGUID()))
+                        {
+                            entityGUIDs.add(entity.getGUID());
+
+                            EntityDef entityType = (entity.getType() == null) ? null : entityDefsByName.get(entity.getType().getTypeDefName());
+
+                            if ((entityType != null) && (tutCollectionId != null) && (tutCollectionId.equals(entity.getMetadataCollectionId()))
+                                    && (hasGeneratedProperties(userId, entityType)))
+                            {
+                                updatableEntityGUIDs.add(entity.getGUID());
+                                updatableEntityTypes.add(entityType);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        catch (FunctionNotSupportedException exception)
+        {
+            super.addNotSupportedAssertion(A_LOAD + "findEntities",
+                    A_LOAD_MSG + "findEntities",
+                    PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                    null);
+        }
+    }
+
+
+    /**
+     * Retrieve the GUIDs of up to instancesPerType relationships of each type.
+     *
+     * @param metadataCollection through which to call findRelationships
+     * @throws Exception on any error other than the search not being supported
+     */
+    private void findRelationships(OMRSMetadataCollection metadataCollection) throws Exception
+    {
+        Set<String> foundGUIDs = new HashSet<>();
+
+        try
+        {
+            for (RelationshipDef relationshipDef : relationshipDefs)
+            {
+                List<Relationship> relationships = metadataCollection.findRelationships(workPad.getLocalServerUserId(),
+                        relationshipDef.getGUID(),
+                        null,
+                        null,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        super.getInstancesPerType());
+
+                if (relationships != null)
+                {
+                    for (Relationship relationship : relationships)
+                    {
+                        if (foundGUIDs.add(relationship.getGUID()))
+                        {
+                            relationshipGUIDs.add(relationship.getGUID());
+                        }
+                    }
+                }
+            }
+        }
+        catch (FunctionNotSupportedException exception)
+        {
+            super.addNotSupportedAssertion(A_LOAD + "findRelationships",
+                    A_LOAD_MSG + "findRelationships",
+                    PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                    null);
+        }
+    }
+
+
+    /**
+     * Work out (once for each type) whether property values can be generated for an entity type, saving its
+     * attributes so that the clients can generate new values without looking up the type again.
+     *
+     * @param userId calling user
+     * @param entityType type of the entity
+     * @return whether there are properties to update
+     * @throws Exception problem manipulating types
+     */
+    private boolean hasGeneratedProperties(String    userId,
+                                           EntityDef entityType) throws Exception
+    {
+        if (! typeAttributes.containsKey(entityType.getName()))
+        {
+            List<TypeDefAttribute> attributes = super.getPropertiesForTypeDef(userId, entityType);
+
+            if (super.generatePropertiesForInstance(userId, attributes, 0) == null)
+            {
+                attributes = null;
+            }
+
+            typeAttributes.put(entityType.getName(), attributes);
+        }
+
+        return typeAttributes.get(entityType.getName()) != null;
+    }
+
+
+    /**
+     * Return the configured scenarios, or the default mix if none are configured.
+     *
+     * @return list of scenarios
+     */
+    private List<RepositoryPerformanceScenarioConfig> getScenarios()
+    {
+        List<RepositoryPerformanceScenarioConfig> scenarios = performanceWorkPad.getLoadScenarios();
+
+        if ((scenarios == null) || (scenarios.isEmpty()))
+        {
+            RepositoryPerformanceScenarioConfig defaultScenario = new RepositoryPerformanceScenarioConfig();
+
+            defaultScenario.setScenarioName(DEFAULT_SCENARIO_NAME);
+
+            scenarios = Collections.singletonList(defaultScenario);
+        }
+
+        return scenarios;
+    }
+
+
+    /**
+     * Return the configured scaling steps in ascending order.
+     *
+     * @return list of entity counts
+     */
+    private List<Long> getScalingSteps()
+    {
+        List<Long> scalingSteps = new ArrayList<>();
+
+        if (performanceWorkPad.getLoadScalingSteps() != null)
+        {
+            for (Long scalingStep : performanceWorkPad.getLoadScalingSteps())
+            {
+                if (scalingStep != null)
+                {
+                    scalingSteps.add(scalingStep);
+                }
+            }
+        }
+
+        Collections.sort(scalingSteps);
+
+        return scalingSteps;
+    }
+
+
+    /**
+     * Return the statistics for an operation as a map so that they appear together in the workbench report.
+     *
+     * @param result results for the operation
+     * @return map of statistic name to value
+     */
+    private Map<String, Object> getResultProperties(PerformanceLoadResult result)
+    {
+        Map<String, Object> properties = new LinkedHashMap<>();
+
+        properties.put("instanceCount", result.getInstanceCount());
+        properties.put("clients", result.getClients());
+        properties.put("targetOperationsPerSecond", result.getTargetOperationsPerSecond());
+        properties.put("durationSeconds", result.getDurationSeconds());
+        properties.put("operationCount", result.getOperationCount());
+        properties.put("errorCount", result.getErrorCount());
+        properties.put("throughput", result.getThroughput());
+        properties.put("minMicros", result.getMinMicros());
+        properties.put("meanMicros", result.getMeanMicros());
+        properties.put("p50Micros", result.getP50Micros());
+        properties.put("p95Micros", result.getP95Micros());
+        properties.put("p99Micros", result.getP99Micros());
+        properties.put("p999Micros", result.getP999Micros());
+        properties.put("maxMicros", result.getMaxMicros());
+        properties.put("operationsPerSecond", result.getOperationsPerSecond());
+
+        return properties;
+    }
+
+
+    /**
+     * EntitiesAdded collects the entities added by one thread while the repository is grown.
+     */
+    private static class EntitiesAdded
+    {
+        private final List<String>    entityGUIDs = new ArrayList<>();
+        private final List<EntityDef> entityTypes = new ArrayList<>();
+    }
+
+
+    /**
+     * LoadOperation names a call to the metadata collection for the load generator.
+     */
+    private static class LoadOperation implements PerformanceLoadOperation
+    {
+        private final String      operationName;
+        private final Callable<?> call;
+
+
+        /**
+         * Constructor
+         *
+         * @param operationName name of the metadata collection method
+         * @param call call to make
+         */
+        LoadOperation(String      operationName,
+                      Callable<?> call)
+        {
+            this.operationName = operationName;
+            this.call = call;
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getOperationName()
+        {
+            return operationName;
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void execute() throws Exception
+        {
+            call.call();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryPerformanceScenarioConfig;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * PerformanceKeyChooser picks the position of the next instance to call in a list of instances.  With the
+ * uniform distribution every position is equally likely.  With the zipfian distribution the position with
+ * rank k is picked in proportion to 1/k^s, so a few hot instances at the front of the list receive most of
+ * the calls, as they tend to in a production catalog.  Callers shuffle the list first if the hot instances
+ * should not all be of the same type.
+ * <p>
+ * The chooser is safe to use from several client threads at once.
+ * </p>
+ */
+public class PerformanceKeyChooser
+{
+    private final int      keyCount;
+    private final double[] cumulativeProbabilities;
+
+
+    /**
+     * Constructor
+     *
+     * @param keyCount number of instances to choose from
+     * @param keyDistribution "uniform" or "zipfian"
+     * @param zipfianExponent skew of the zipfian distribution
+     */
+    public PerformanceKeyChooser(int    keyCount,
+                                 String keyDistribution,
+                                 double zipfianExponent)
+    {
+        this.keyCount = keyCount;
+
+        if ((keyCount > 0) && (RepositoryPerformanceScenarioConfig.ZIPFIAN_KEY_DISTRIBUTION.equalsIgnoreCase(keyDistribution)))
+        {
+            this.cumulativeProbabilities = new double[keyCount];
+
+            double runningTotal = 0;
+
+            for (int rank = 1; rank <= keyCount; rank++)
+            {
+                runningTotal += 1.0 / Math.pow(rank, zipfianExponent);
+                cumulativeProbabilities[rank - 1] = runningTotal;
+            }
+
+            for (int position = 0; position < keyCount; position++)
+            {
+                cumulativeProbabilities[position] = cumulativeProbabilities[position] / runningTotal;
+            }
+
+            cumulativeProbabilities[keyCount - 1] = 1.0;
+        }
+        else
+        {
+            this.cumulativeProbabilities = null;
+        }
+    }
+
+
+    /**
+     * Return the number of instances to choose from.
+     *
+     * @return count
+     */
+    public int getKeyCount()
+    {
+        return keyCount;
+    }
+
+
+    /**
+     * Return the position of the next instance to call.
+     *
+     * @return position in the list of instances
+     */
+    public int nextIndex()
+    {
+        if (cumulativeProbabilities == null)
+        {
+            return ThreadLocalRandom.current().nextInt(keyCount);
+        }
+
+        int index = Arrays.binarySearch(cumulativeProbabilities, ThreadLocalRandom.current().nextDouble());
+
+        return (index >= 0) ? Math.min(index + 1, keyCount - 1) : -(index + 1);
+    }
+}
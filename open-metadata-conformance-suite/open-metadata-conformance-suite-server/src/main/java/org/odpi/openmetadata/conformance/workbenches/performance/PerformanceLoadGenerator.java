@@ -0,0 +1,465 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * PerformanceLoadGenerator calls the technology under test from several client threads at the same time
+ * and records the latency of each call in a histogram for its operation.  The clients either share out the
+ * operations in turn or, when each operation is given a weight, pick each call's operation at random in
+ * proportion to the weights so that a mixed workload can be described as, for example, 80% reads, 15%
+ * updates and 5% graph queries.
+ * <p>
+ * The load runs for a warm up period, whose calls are not recorded, and then for the measured period.
+ * If a target rate is set, each client paces its calls to its share of the rate.  The latency of a paced
+ * call is measured from the time it was due to start, so that time spent waiting for an earlier slow call
+ * is included rather than hidden.
+ * </p>
+ * <p>
+ * A call belongs to the measured period if it was due to start within it.  No new call is started once the
+ * measured period is over, even by a paced client that has fallen behind its schedule, but a call that is
+ * still running when the period ends is recorded so that the slowest calls are not dropped from the results.
+ * Its completion is counted in the last second of the period.
+ * </p>
+ * <p>
+ * Each client records into its own histograms and counters, which are merged once the load is complete,
+ * so the clients do not contend with one another while the load is running.
+ * </p>
+ */
+public class PerformanceLoadGenerator
+{
+    private static final int  SIGNIFICANT_DIGITS = 3;
+    private static final long NANOS_PER_SECOND   = TimeUnit.SECONDS.toNanos(1);
+
+    private final String loadName;
+    private final long   instanceCount;
+    private final int    clients;
+    private final int    targetOperationsPerSecond;
+    private final int    warmUpSeconds;
+    private final int    durationSeconds;
+
+
+    /**
+     * Constructor
+     *
+     * @param loadName name of the load used in the results
+     * @param instanceCount number of instances in the repository while the load runs, used in the results
+     * @param clients number of client threads
+     * @param targetOperationsPerSecond total rate the clients aim for (0 for no limit)
+     * @param warmUpSeconds time that the load runs before it is measured
+     * @param durationSeconds time that the load is measured for
+     */
+    public PerformanceLoadGenerator(String loadName,
+                                    long   instanceCount,
+                                    int    clients,
+                                    int    targetOperationsPerSecond,
+                                    int    warmUpSeconds,
+                                    int    durationSeconds)
+    {
+        this.loadName = loadName;
+        this.instanceCount = instanceCount;
+        this.clients = Math.max(1, clients);
+        this.targetOperationsPerSecond = Math.max(0, targetOperationsPerSecond);
+        this.warmUpSeconds = Math.max(0, warmUpSeconds);
+        this.durationSeconds = Math.max(1, durationSeconds);
+    }
+
+
+    /**
+     * Run the load, calling the operations in turn, and return the results for each operation.
+     *
+     * @param operations calls to issue
+     * @return one result for each operation, in the order of the operations
+     * @throws InterruptedException the load was interrupted before it completed
+     */
+    public List<PerformanceLoadResult> run(List<PerformanceLoadOperation> operations) throws InterruptedException
+    {
+        return run(operations, null);
+    }
+
+
+    /**
+     * Run the load, choosing the operation for each call at random in proportion to its weight, and return
+     * the results for each operation.
+     *
+     * @param operations calls to issue
+     * @param weights relative share of the calls for each operation, in the order of the operations
+     *                (null to call the operations in turn)
+     * @return one result for each operation, in the order of the operations
+     * @throws InterruptedException the load was interrupted before it completed
+     */
+    public List<PerformanceLoadResult> run(List<PerformanceLoadOperation> operations,
+                                           List<Double>                   weights) throws InterruptedException
+    {
+        List<PerformanceLoadResult> results = new ArrayList<>();
+
+        if ((operations == null) || (operations.isEmpty()))
+        {
+            return results;
+        }
+
+        double[] cumulativeWeights = getCumulativeWeights(operations, weights);
+
+        long intervalNanos     = (targetOperationsPerSecond == 0) ? 0 : (NANOS_PER_SECOND * clients) / targetOperationsPerSecond;
+        long startTime         = System.nanoTime();
+        long measurementStart  = startTime + warmUpSeconds * NANOS_PER_SECOND;
+        long measurementEnd    = measurementStart + durationSeconds * NANOS_PER_SECOND;
+
+        List<LoadClient> loadClients = new ArrayList<>();
+
+        for (int clientNumber = 0; clientNumber < clients; clientNumber++)
+        {
+            long firstCallTime = startTime + (intervalNanos * clientNumber) / clients;
+
+            loadClients.add(new LoadClient(clientNumber,
+                                           operations,
+                                           cumulativeWeights,
+                                           firstCallTime,
+                                           intervalNanos,
+                                           measurementStart,
+                                           measurementEnd));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients, new LoadThreadFactory(loadName));
+
+        try
+        {
+            for (Future<Void> future : executor.invokeAll(loadClients))
+            {
+                try
+                {
+                    future.get();
+                }
+                catch (ExecutionException error)
+                {
+                    /*
+                     * The client catches the errors from the operations so this is unexpected.
+                     * The results from the other clients are still returned.
+                     */
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        for (int operationIndex = 0; operationIndex < operations.size(); operationIndex++)
+        {
+            results.add(getResult(operations.get(operationIndex).getOperationName(), operationIndex, loadClients));
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Turn the weights into a running total so that an operation can be picked with a binary search.
+     *
+     * @param operations calls to issue
+     * @param weights relative share of the calls for each operation (or null)
+     * @return running total of the weights, ending at 1.0 (or null to call the operations in turn)
+     */
+    private double[] getCumulativeWeights(List<PerformanceLoadOperation> operations,
+                                          List<Double>                   weights)
+    {
+        if (weights == null)
+        {
+            return null;
+        }
+
+        if (weights.size() != operations.size())
+        {
+            throw new IllegalArgumentException("There are " + weights.size() + " weights for " + operations.size() + " operations");
+        }
+
+        double totalWeight = 0;
+
+        for (Double weight : weights)
+        {
+            if ((weight == null) || (weight < 0))
+            {
+                throw new IllegalArgumentException("Operation weights must not be negative: " + weights);
+            }
+
+            totalWeight += weight;
+        }
+
+        if (totalWeight <= 0)
+        {
+            throw new IllegalArgumentException("At least one operation must have a weight: " + weights);
+        }
+
+        double[] cumulativeWeights = new double[weights.size()];
+        double   runningTotal      = 0;
+
+        for (int operationIndex = 0; operationIndex < weights.size(); operationIndex++)
+        {
+            runningTotal += weights.get(operationIndex);
+            cumulativeWeights[operationIndex] = runningTotal / totalWeight;
+        }
+
+        cumulativeWeights[cumulativeWeights.length - 1] = 1.0;
+
+        return cumulativeWeights;
+    }
+
+
+    /**
+     * Merge the measurements from each client for one operation.
+     *
+     * @param operationName name of the operation
+     * @param operationIndex position of the operation in the list
+     * @param loadClients clients that issued the load
+     * @return results for the operation
+     */
+    private PerformanceLoadResult getResult(String           operationName,
+                                            int              operationIndex,
+                                            List<LoadClient> loadClients)
+    {
+        Histogram histogram           = new Histogram(SIGNIFICANT_DIGITS);
+        long      errorCount          = 0;
+        long[]    operationsPerSecond = new long[durationSeconds];
+
+        for (LoadClient loadClient : loadClients)
+        {
+            histogram.add(loadClient.histograms[operationIndex]);
+            errorCount += loadClient.errorCounts[operationIndex];
+
+            for (int second = 0; second < durationSeconds; second++)
+            {
+                operationsPerSecond[second] += loadClient.operationsPerSecond[operationIndex][second];
+            }
+        }
+
+        List<Long> throughputCurve = new ArrayList<>();
+
+        for (long count : operationsPerSecond)
+        {
+            throughputCurve.add(count);
+        }
+
+        boolean noCalls = (histogram.getTotalCount() == 0);
+
+        return new PerformanceLoadResult(loadName,
+                                         instanceCount,
+                                         operationName,
+                                         clients,
+                                         targetOperationsPerSecond,
+                                         durationSeconds,
+                                         histogram.getTotalCount(),
+                                         errorCount,
+                                         noCalls ? 0 : histogram.getMinValue(),
+                                         noCalls ? 0 : histogram.getMean(),
+                                         histogram.getValueAtPercentile(50.0),
+                                         histogram.getValueAtPercentile(95.0),
+                                         histogram.getValueAtPercentile(99.0),
+                                         histogram.getValueAtPercentile(99.9),
+                                         histogram.getMaxValue(),
+                                         throughputCurve);
+    }
+
+
+    /**
+     * LoadClient is one of the client threads.  Without weights it calls the operations in turn, starting with
+     * a different operation for each client so that the operations are spread evenly across the clients.
+     * With weights it picks the operation for each call at random.
+     */
+    private class LoadClient implements Callable<Void>
+    {
+        private final int                            clientNumber;
+        private final List<PerformanceLoadOperation> operations;
+        private final double[]                       cumulativeWeights;
+        private final long                           firstCallTime;
+        private final long                           intervalNanos;
+        private final long                           measurementStart;
+        private final long                           measurementEnd;
+
+        private final Histogram[]                    histograms;
+        private final long[]                         errorCounts;
+        private final long[][]                       operationsPerSecond;
+
+
+        /**
+         * Constructor
+         *
+         * @param clientNumber index of the client
+         * @param operations calls to issue
+         * @param cumulativeWeights running total of the operation weights (null to call the operations in turn)
+         * @param firstCallTime time that the first call is due (nanoTime)
+         * @param intervalNanos time between the start of each call (0 for no pacing)
+         * @param measurementStart time that the warm up ends (nanoTime)
+         * @param measurementEnd time that the load ends (nanoTime)
+         */
+        LoadClient(int                            clientNumber,
+                   List<PerformanceLoadOperation> operations,
+                   double[]                       cumulativeWeights,
+                   long                           firstCallTime,
+                   long                           intervalNanos,
+                   long                           measurementStart,
+                   long                           measurementEnd)
+        {
+            this.clientNumber = clientNumber;
+            this.operations = operations;
+            this.cumulativeWeights = cumulativeWeights;
+            this.firstCallTime = firstCallTime;
+            this.intervalNanos = intervalNanos;
+            this.measurementStart = measurementStart;
+            this.measurementEnd = measurementEnd;
+
+            this.histograms = new Histogram[operations.size()];
+            this.errorCounts = new long[operations.size()];
+            this.operationsPerSecond = new long[operations.size()][durationSeconds];
+
+            for (int operationIndex = 0; operationIndex < operations.size(); operationIndex++)
+            {
+                histograms[operationIndex] = new Histogram(SIGNIFICANT_DIGITS);
+            }
+        }
+
+
+        /**
+         * Issue calls until the end of the load.
+         *
+         * @return null
+         */
+        @Override
+        public Void call()
+        {
+            int  operationIndex = clientNumber % operations.size();
+            long nextCallTime   = firstCallTime;
+
+            while (! Thread.currentThread().isInterrupted())
+            {
+                long now = System.nanoTime();
+
+                if ((intervalNanos > 0) && (nextCallTime < measurementEnd) && (nextCallTime > now))
+                {
+                    LockSupport.parkNanos(nextCallTime - now);
+                    now = System.nanoTime();
+                }
+
+                /*
+                 * A paced client that is behind its schedule may still have calls due before the end,
+                 * but they are not started once the load has ended.
+                 */
+                if ((now >= measurementEnd) || ((intervalNanos > 0) && (nextCallTime >= measurementEnd)))
+                {
+                    break;
+                }
+
+                if (cumulativeWeights != null)
+                {
+                    operationIndex = getWeightedOperationIndex();
+                }
+
+                long    callStart = (intervalNanos > 0) ? nextCallTime : now;
+                boolean succeeded = true;
+
+                try
+                {
+                    operations.get(operationIndex).execute();
+                }
+                catch (Exception error)
+                {
+                    succeeded = false;
+                }
+
+                long callEnd = System.nanoTime();
+
+                /*
+                 * A call that started before the end is recorded even if it completes after the end.
+                 */
+                if ((callStart >= measurementStart) && (callStart < measurementEnd))
+                {
+                    if (succeeded)
+                    {
+                        int second = (int) Math.min((callEnd - measurementStart) / NANOS_PER_SECOND, durationSeconds - 1);
+
+                        histograms[operationIndex].recordValue(Math.max(0, callEnd - callStart) / 1000);
+                        operationsPerSecond[operationIndex][second]++;
+                    }
+                    else
+                    {
+                        errorCounts[operationIndex]++;
+                    }
+                }
+
+                operationIndex = (operationIndex + 1) % operations.size();
+                nextCallTime += intervalNanos;
+            }
+
+            return null;
+        }
+
+
+        /**
+         * Pick an operation at random in proportion to its weight.
+         *
+         * @return index of the operation
+         */
+        private int getWeightedOperationIndex()
+        {
+            int index = Arrays.binarySearch(cumulativeWeights, ThreadLocalRandom.current().nextDouble());
+
+            /*
+             * A miss returns (-(insertion point) - 1) and the insertion point is the first running total
+             * above the random number, which is the operation whose share it falls in.
+             */
+            return (index >= 0) ? Math.min(index + 1, cumulativeWeights.length - 1) : -(index + 1);
+        }
+    }
+
+
+    /**
+     * LoadThreadFactory names the client threads after the load so they can be picked out in a thread dump.
+     */
+    private static class LoadThreadFactory implements ThreadFactory
+    {
+        private final String        loadName;
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+
+        /**
+         * Constructor
+         *
+         * @param loadName name of the load
+         */
+        LoadThreadFactory(String loadName)
+        {
+            this.loadName = loadName;
+        }
+
+
+        /**
+         * Create a daemon thread for a client.
+         *
+         * @param runnable client
+         * @return new thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "PerformanceLoad-" + loadName + "-" + threadNumber.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+/**
+ * PerformanceLoadOperation is one of the calls to the technology under test that the PerformanceLoadGenerator
+ * issues from its client threads.  The operation is called by several threads at the same time so it must
+ * not keep any state between calls that is not thread safe.
+ */
+public interface PerformanceLoadOperation
+{
+    /**
+     * Return the name of the operation used in the results.  This is typically the name of the method
+     * on the metadata collection that is called.
+     *
+     * @return operation name
+     */
+    String getOperationName();
+
+
+    /**
+     * Call the technology under test once.  An exception counts as an error for the operation.
+     *
+     * @throws Exception the call failed
+     */
+    void execute() throws Exception;
+}
@@ -0,0 +1,306 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PerformanceLoadResult records the latency and throughput of one operation during a concurrent load.
+ * The number of instances in the repository is recorded with the results so that runs against repositories
+ * of different sizes can be compared.
+ * Latencies are in microseconds.  The throughput curve lists the number of calls that completed in each
+ * second of the measured period so that a slow down part way through the load can be seen.
+ */
+public class PerformanceLoadResult
+{
+    private final String     loadName;
+    private final long       instanceCount;
+    private final String     operationName;
+    private final int        clients;
+    private final int        targetOperationsPerSecond;
+    private final int        durationSeconds;
+    private final long       operationCount;
+    private final long       errorCount;
+    private final long       minMicros;
+    private final double     meanMicros;
+    private final long       p50Micros;
+    private final long       p95Micros;
+    private final long       p99Micros;
+    private final long       p999Micros;
+    private final long       maxMicros;
+    private final List<Long> operationsPerSecond;
+
+
+    /**
+     * Constructor
+     *
+     * @param loadName name of the load that the operation was part of
+     * @param instanceCount number of instances in the repository while the load ran
+     * @param operationName name of the operation
+     * @param clients number of client threads issuing the load
+     * @param targetOperationsPerSecond total rate that the clients aimed for (0 for no limit)
+     * @param durationSeconds length of the measured period
+     * @param operationCount number of calls that succeeded in the measured period
+     * @param errorCount number of calls that failed in the measured period
+     * @param minMicros shortest latency
+     * @param meanMicros average latency
+     * @param p50Micros median latency
+     * @param p95Micros 95th percentile latency
+     * @param p99Micros 99th percentile latency
+     * @param p999Micros 99.9th percentile latency
+     * @param maxMicros longest latency
+     * @param operationsPerSecond number of calls that completed in each second of the measured period
+     */
+    public PerformanceLoadResult(String     loadName,
+                                 long       instanceCount,
+                                 String     operationName,
+                                 int        clients,
+                                 int        targetOperationsPerSecond,
+                                 int        durationSeconds,
+                                 long       operationCount,
+                                 long       errorCount,
+                                 long       minMicros,
+                                 double     meanMicros,
+                                 long       p50Micros,
+                                 long       p95Micros,
+                                 long       p99Micros,
+                                 long       p999Micros,
+                                 long       maxMicros,
+                                 List<Long> operationsPerSecond)
+    {
+        this.loadName = loadName;
+        this.instanceCount = instanceCount;
+        this.operationName = operationName;
+        this.clients = clients;
+        this.targetOperationsPerSecond = targetOperationsPerSecond;
+        this.durationSeconds = durationSeconds;
+        this.operationCount = operationCount;
+        this.errorCount = errorCount;
+        this.minMicros = minMicros;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p95Micros = p95Micros;
+        this.p99Micros = p99Micros;
+        this.p999Micros = p999Micros;
+        this.maxMicros = maxMicros;
+        this.operationsPerSecond = (operationsPerSecond == null) ? new ArrayList<>() : new ArrayList<>(operationsPerSecond);
+    }
+
+
+    /**
+     * Return the name of the load that the operation was part of.
+     *
+     * @return name
+     */
+    public String getLoadName()
+    {
+        return loadName;
+    }
+
+
+    /**
+     * Return the number of instances in the repository while the load ran.
+     *
+     * @return count
+     */
+    public long getInstanceCount()
+    {
+        return instanceCount;
+    }
+
+
+    /**
+     * Return the name of the operation.
+     *
+     * @return name
+     */
+    public String getOperationName()
+    {
+        return operationName;
+    }
+
+
+    /**
+     * Return the number of client threads that issued the load.
+     *
+     * @return number of threads
+     */
+    public int getClients()
+    {
+        return clients;
+    }
+
+
+    /**
+     * Return the total rate that the clients aimed for.
+     *
+     * @return operations per second (0 for no limit)
+     */
+    public int getTargetOperationsPerSecond()
+    {
+        return targetOperationsPerSecond;
+    }
+
+
+    /**
+     * Return the length of the measured period.
+     *
+     * @return seconds
+     */
+    public int getDurationSeconds()
+    {
+        return durationSeconds;
+    }
+
+
+    /**
+     * Return the number of calls that succeeded in the measured period.
+     *
+     * @return count
+     */
+    public long getOperationCount()
+    {
+        return operationCount;
+    }
+
+
+    /**
+     * Return the number of calls that failed in the measured period.
+     *
+     * @return count
+     */
+    public long getErrorCount()
+    {
+        return errorCount;
+    }
+
+
+    /**
+     * Return the average number of successful calls per second over the measured period.
+     *
+     * @return operations per second
+     */
+    public double getThroughput()
+    {
+        return (durationSeconds == 0) ? 0 : (double) operationCount / durationSeconds;
+    }
+
+
+    /**
+     * Return the shortest latency.
+     *
+     * @return microseconds
+     */
+    public long getMinMicros()
+    {
+        return minMicros;
+    }
+
+
+    /**
+     * Return the average latency.
+     *
+     * @return microseconds
+     */
+    public double getMeanMicros()
+    {
+        return meanMicros;
+    }
+
+
+    /**
+     * Return the median latency.
+     *
+     * @return microseconds
+     */
+    public long getP50Micros()
+    {
+        return p50Micros;
+    }
+
+
+    /**
+     * Return the 95th percentile latency.
+     *
+     * @return microseconds
+     */
+    public long getP95Micros()
+    {
+        return p95Micros;
+    }
+
+
+    /**
+     * Return the 99th percentile latency.
+     *
+     * @return microseconds
+     */
+    public long getP99Micros()
+    {
+        return p99Micros;
+    }
+
+
+    /**
+     * Return the 99.9th percentile latency.
+     *
+     * @return microseconds
+     */
+    public long getP999Micros()
+    {
+        return p999Micros;
+    }
+
+
+    /**
+     * Return the longest latency.
+     *
+     * @return microseconds
+     */
+    public long getMaxMicros()
+    {
+        return maxMicros;
+    }
+
+
+    /**
+     * Return the number of calls that completed in each second of the measured period.
+     *
+     * @return list of counts, one per second
+     */
+    public List<Long> getOperationsPerSecond()
+    {
+        return new ArrayList<>(operationsPerSecond);
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "PerformanceLoadResult{" +
+                "loadName='" + loadName + '\'' +
+                ", instanceCount=" + instanceCount +
+                ", operationName='" + operationName + '\'' +
+                ", clients=" + clients +
+                ", targetOperationsPerSecond=" + targetOperationsPerSecond +
+                ", durationSeconds=" + durationSeconds +
+                ", operationCount=" + operationCount +
+                ", errorCount=" + errorCount +
+                ", throughput=" + getThroughput() +
+                ", minMicros=" + minMicros +
+                ", meanMicros=" + meanMicros +
+                ", p50Micros=" + p50Micros +
+                ", p95Micros=" + p95Micros +
+                ", p99Micros=" + p99Micros +
+                ", p999Micros=" + p999Micros +
+                ", maxMicros=" + maxMicros +
+                ", operationsPerSecond=" + operationsPerSecond +
+                '}';
+    }
+}
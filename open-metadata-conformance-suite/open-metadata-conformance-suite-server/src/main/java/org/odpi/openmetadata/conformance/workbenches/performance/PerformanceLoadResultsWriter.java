@@ -0,0 +1,175 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PerformanceLoadResultsWriter saves the results of the concurrent loads as two CSV files so that the
+ * results of different runs can be compared with a diff tool or loaded into a spreadsheet.
+ * <ul>
+ *     <li>
+ *         &lt;server&gt;-load-latency.csv has one row per load, instance count and operation with its counts, throughput and
+ *         latency percentiles (in microseconds).
+ *     </li>
+ *     <li>
+ *         &lt;server&gt;-load-throughput.csv has one row per load, instance count, operation and second of the measured period
+ *         with the number of calls that completed in that second.
+ *     </li>
+ * </ul>
+ * The rows are sorted by load name, instance count and operation name and the files contain no timestamps, so two runs with the
+ * same configuration produce files whose lines match up.
+ */
+public class PerformanceLoadResultsWriter
+{
+    private static final String LATENCY_FILE_SUFFIX    = "-load-latency.csv";
+    private static final String THROUGHPUT_FILE_SUFFIX = "-load-throughput.csv";
+
+    private static final String LATENCY_HEADER    = "load,instanceCount,operation,clients,targetOperationsPerSecond,durationSeconds,operationCount,"
+                                                  + "errorCount,throughput,minMicros,meanMicros,p50Micros,p95Micros,p99Micros,p999Micros,maxMicros";
+    private static final String THROUGHPUT_HEADER = "load,instanceCount,operation,second,operationCount";
+
+    private final File latencyFile;
+    private final File throughputFile;
+
+
+    /**
+     * Constructor
+     *
+     * @param directoryName directory to write the files to
+     * @param serverName name of the technology under test, used to name the files
+     */
+    public PerformanceLoadResultsWriter(String directoryName,
+                                        String serverName)
+    {
+        this.latencyFile = new File(directoryName, serverName + LATENCY_FILE_SUFFIX);
+        this.throughputFile = new File(directoryName, serverName + THROUGHPUT_FILE_SUFFIX);
+    }
+
+
+    /**
+     * Return the file that the latencies are written to.
+     *
+     * @return file
+     */
+    public File getLatencyFile()
+    {
+        return latencyFile;
+    }
+
+
+    /**
+     * Return the file that the throughput curves are written to.
+     *
+     * @return file
+     */
+    public File getThroughputFile()
+    {
+        return throughputFile;
+    }
+
+
+    /**
+     * Write the results, replacing the contents of any existing files.
+     *
+     * @param loadResults results to write
+     * @throws IOException the files could not be written
+     */
+    public void writeResults(List<PerformanceLoadResult> loadResults) throws IOException
+    {
+        List<PerformanceLoadResult> sortedResults = new ArrayList<>();
+
+        if (loadResults != null)
+        {
+            sortedResults.addAll(loadResults);
+        }
+
+        sortedResults.sort(Comparator.comparing(PerformanceLoadResult::getLoadName)
+                                     .thenComparingLong(PerformanceLoadResult::getInstanceCount)
+                                     .thenComparing(PerformanceLoadResult::getOperationName));
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(latencyFile.toPath(), StandardCharsets.UTF_8)))
+        {
+            writer.println(LATENCY_HEADER);
+
+            for (PerformanceLoadResult result : sortedResults)
+            {
+                writer.println(getCSVValue(result.getLoadName()) + "," +
+                               result.getInstanceCount() + "," +
+                               getCSVValue(result.getOperationName()) + "," +
+                               result.getClients() + "," +
+                               result.getTargetOperationsPerSecond() + "," +
+                               result.getDurationSeconds() + "," +
+                               result.getOperationCount() + "," +
+                               result.getErrorCount() + "," +
+                               String.format(Locale.ROOT, "%.1f", result.getThroughput()) + "," +
+                               result.getMinMicros() + "," +
+                               String.format(Locale.ROOT, "%.1f", result.getMeanMicros()) + "," +
+                               result.getP50Micros() + "," +
+                               result.getP95Micros() + "," +
+                               result.getP99Micros() + "," +
+                               result.getP999Micros() + "," +
+                               result.getMaxMicros());
+            }
+
+            if (writer.checkError())
+            {
+                throw new IOException("Unable to write " + latencyFile.getPath());
+            }
+        }
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(throughputFile.toPath(), StandardCharsets.UTF_8)))
+        {
+            writer.println(THROUGHPUT_HEADER);
+
+            for (PerformanceLoadResult result : sortedResults)
+            {
+                List<Long> operationsPerSecond = result.getOperationsPerSecond();
+
+                for (int second = 0; second < operationsPerSecond.size(); second++)
+                {
+                    writer.println(getCSVValue(result.getLoadName()) + "," +
+                                   result.getInstanceCount() + "," +
+                                   getCSVValue(result.getOperationName()) + "," +
+                                   (second + 1) + "," +
+                                   operationsPerSecond.get(second));
+                }
+            }
+
+            if (writer.checkError())
+            {
+                throw new IOException("Unable to write " + throughputFile.getPath());
+            }
+        }
+    }
+
+
+    /**
+     * Quote a name if it contains characters that have a meaning in CSV.
+     *
+     * @param value name
+     * @return value for the CSV file
+     */
+    private String getCSVValue(String value)
+    {
+        if (value == null)
+        {
+            return "";
+        }
+
+        if ((value.indexOf(',') >= 0) || (value.indexOf('"') >= 0) || (value.indexOf('\n') >= 0))
+        {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        return value;
+    }
+}
@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.conformance.workbenches.performance;
 
+import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryPerformanceScenarioConfig;
 import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryPerformanceWorkbenchConfig;
 import org.odpi.openmetadata.conformance.beans.*;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -31,6 +32,13 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
     private int                     maxSearchResults            = 10;
     private int                     waitBetweenScenarios        = 0;
     private List<String>            profilesToSkip              = Collections.emptyList();
+    private int                     loadClients                 = 0;
+    private int                     loadTargetOperationsPerSecond = 0;
+    private int                     loadWarmUpSeconds           = 10;
+    private int                     loadDurationSeconds         = 60;
+    private String                  loadResultsDirectory        = null;
+    private List<RepositoryPerformanceScenarioConfig> loadScenarios = null;
+    private List<Long>              loadScalingSteps            = null;
 
     private OMRSRepositoryConnector tutRepositoryConnector      = null;
 
@@ -42,6 +50,8 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
     private long totalEntitiesFound        = 0L;
     private long totalRelationshipsFound   = 0L;
 
+    private final List<PerformanceLoadResult> loadResults = new ArrayList<>();
+
     private static final String referenceCopyMetadataCollectionId = UUID.randomUUID().toString();
 
 
@@ -78,6 +88,13 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
             this.maxSearchResults = configuration.getMaxSearchResults();
             this.waitBetweenScenarios = configuration.getWaitBetweenScenarios();
             this.profilesToSkip = configuration.getProfilesToSkip();
+            this.loadClients = configuration.getLoadClients();
+            this.loadTargetOperationsPerSecond = configuration.getLoadTargetOperationsPerSecond();
+            this.loadWarmUpSeconds = configuration.getLoadWarmUpSeconds();
+            this.loadDurationSeconds = configuration.getLoadDurationSeconds();
+            this.loadResultsDirectory = configuration.getLoadResultsDirectory();
+            this.loadScenarios = configuration.getLoadScenarios();
+            this.loadScalingSteps = configuration.getLoadScalingSteps();
             super.tutName = this.tutServerName;
         }
     }
@@ -146,6 +163,80 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
         return profilesToSkip;
     }
 
+    /**
+     * Return the number of client threads that call the technology under test at the same time during the
+     * concurrent load profile.  Zero means the profile is not run.
+     *
+     * @return number of client threads
+     */
+    public int getLoadClients()
+    {
+        return loadClients;
+    }
+
+    /**
+     * Return the total number of operations per second that the client threads aim to issue during the
+     * concurrent load profile.  Zero means there is no limit.
+     *
+     * @return operations per second
+     */
+    public int getLoadTargetOperationsPerSecond()
+    {
+        return loadTargetOperationsPerSecond;
+    }
+
+    /**
+     * Return the time (in seconds) that the load runs before its measurements are recorded.
+     *
+     * @return time in seconds
+     */
+    public int getLoadWarmUpSeconds()
+    {
+        return loadWarmUpSeconds;
+    }
+
+    /**
+     * Return the time (in seconds) that the load is measured for.
+     *
+     * @return time in seconds
+     */
+    public int getLoadDurationSeconds()
+    {
+        return loadDurationSeconds;
+    }
+
+    /**
+     * Return the directory where the results of the concurrent load profile are written (or null if they are
+     * not written to files).
+     *
+     * @return directory name
+     */
+    public String getLoadResultsDirectory()
+    {
+        return loadResultsDirectory;
+    }
+
+    /**
+     * Return the mixed workloads run by the concurrent load profile (or null for the default workload).
+     *
+     * @return list of scenarios
+     */
+    public List<RepositoryPerformanceScenarioConfig> getLoadScenarios()
+    {
+        return loadScenarios;
+    }
+
+    /**
+     * Return the numbers of entities that the repository is grown to for the concurrent load profile
+     * (or null if the repository is not grown).
+     *
+     * @return list of entity counts
+     */
+    public List<Long> getLoadScalingSteps()
+    {
+        return loadScalingSteps;
+    }
+
     /**
      * Return the server type of the technology under test.  This is extracted from the registration
      * events.
@@ -601,6 +692,31 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
     }
 
 
+    /**
+     * Save the results of one operation from a concurrent load.
+     *
+     * @param loadResult latency and throughput of the operation
+     */
+    public synchronized void addLoadResult(PerformanceLoadResult loadResult)
+    {
+        if (loadResult != null)
+        {
+            loadResults.add(loadResult);
+        }
+    }
+
+
+    /**
+     * Return the results of the concurrent loads run so far.
+     *
+     * @return list of results
+     */
+    public synchronized List<PerformanceLoadResult> getLoadResults()
+    {
+        return new ArrayList<>(loadResults);
+    }
+
+
     /**
      * Return the external metadata collection ID that can be used for reference copies.
      *
@@ -631,6 +747,13 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
                 ", tutType='" + tutType + '\'' +
                 ", maxPageSize=" + maxPageSize +
                 ", profilesToSkip=" + profilesToSkip +
+                ", loadClients=" + loadClients +
+                ", loadTargetOperationsPerSecond=" + loadTargetOperationsPerSecond +
+                ", loadWarmUpSeconds=" + loadWarmUpSeconds +
+                ", loadDurationSeconds=" + loadDurationSeconds +
+                ", loadResultsDirectory='" + loadResultsDirectory + '\'' +
+                ", loadScenarios=" + loadScenarios +
+                ", loadScalingSteps=" + loadScalingSteps +
                 '}';
     }
 }
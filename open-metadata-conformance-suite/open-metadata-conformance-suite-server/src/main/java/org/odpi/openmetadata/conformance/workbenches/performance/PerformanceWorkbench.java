@@ -12,6 +12,7 @@ import org.odpi.openmetadata.conformance.tests.performance.delete.TestRelationsh
 import org.odpi.openmetadata.conformance.tests.performance.environment.TestEnvironment;
 import org.odpi.openmetadata.conformance.tests.performance.graph.TestGraphHistoryQueries;
 import org.odpi.openmetadata.conformance.tests.performance.graph.TestGraphQueries;
+import org.odpi.openmetadata.conformance.tests.performance.load.TestConcurrentLoad;
 import org.odpi.openmetadata.conformance.tests.performance.purge.TestEntityPurge;
 import org.odpi.openmetadata.conformance.tests.performance.purge.TestRelationshipPurge;
 import org.odpi.openmetadata.conformance.tests.performance.rehome.TestEntityReHome;
@@ -206,6 +207,13 @@ public class PerformanceWorkbench extends OpenMetadataConformanceWorkbench
             }
         }
 
+        // Drive concurrent load against the instances created above
+        if ((workPad.getLoadClients() > 0) && (!profilesToSkip.contains(PerformanceProfile.CONCURRENT_LOAD.getProfileName())))
+        {
+            TestConcurrentLoad testConcurrentLoad = new TestConcurrentLoad(workPad, entityDefs.values(), relationshipDefs.values());
+            testConcurrentLoad.executeTest();
+        }
+
         // Record the date and time prior to any instance updates
         Date priorToInstanceUpdates = new Date();
 
@@ -604,6 +612,60 @@ public class PerformanceWorkbench extends OpenMetadataConformanceWorkbench
         TestEnvironment testEnvironment = new TestEnvironment(workPad);
         testEnvironment.executeTest();
 
+        exportLoadResults();
+
+    }
+
+
+    /**
+     * Write the results of the concurrent loads to CSV files if a directory has been configured.
+     * A failure to write the files is logged but does not fail the workbench since the results are
+     * also in the workbench report.
+     */
+    private void exportLoadResults()
+    {
+        final String methodName = "exportLoadResults";
+
+        List<PerformanceLoadResult> loadResults = workPad.getLoadResults();
+
+        if ((workPad.getLoadResultsDirectory() == null) || (loadResults.isEmpty()))
+        {
+            return;
+        }
+
+        PerformanceLoadResultsWriter writer = new PerformanceLoadResultsWriter(workPad.getLoadResultsDirectory(), workPad.getTutServerName());
+        ConformanceSuiteAuditCode    auditCode;
+
+        try
+        {
+            writer.writeResults(loadResults);
+
+            auditCode = ConformanceSuiteAuditCode.LOAD_RESULTS_WRITTEN;
+            workPad.getAuditLog().logRecord(methodName,
+                    auditCode.getLogMessageId(),
+                    auditCode.getSeverity(),
+                    auditCode.getFormattedLogMessage(Integer.toString(loadResults.size()),
+                            writer.getLatencyFile().getPath(),
+                            writer.getThroughputFile().getPath()),
+                    null,
+                    auditCode.getSystemAction(),
+                    auditCode.getUserAction());
+        }
+        catch (Exception error)
+        {
+            log.error("Unable to write load results.", error);
+
+            auditCode = ConformanceSuiteAuditCode.LOAD_RESULTS_NOT_WRITTEN;
+            workPad.getAuditLog().logRecord(methodName,
+                    auditCode.getLogMessageId(),
+                    auditCode.getSeverity(),
+                    auditCode.getFormattedLogMessage(workPad.getLoadResultsDirectory(),
+                            error.getClass().getName(),
+                            error.getMessage()),
+                    error.toString(),
+                    auditCode.getSystemAction(),
+                    auditCode.getUserAction());
+        }
     }
 
 
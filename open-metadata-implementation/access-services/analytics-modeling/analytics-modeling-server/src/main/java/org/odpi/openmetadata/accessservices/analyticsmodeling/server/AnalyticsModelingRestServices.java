@@ -82,7 +82,7 @@ public class AnalyticsModelingRestServices {
 		} catch (Exception e) {
 			ret = handleErrorResponse(e, methodName);
 		}
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -118,7 +118,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleErrorResponse(e, methodName);
 		}
 
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -149,7 +149,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleErrorResponse(e, methodName);
 		}
 		
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -184,7 +184,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleErrorResponse(e, methodName);
 		}
 		
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 	
@@ -215,7 +215,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleErrorResponse(e, methodName);
 		}
 		
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -246,7 +246,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleErrorResponse(e, methodName);
 		}
 		
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 	
@@ -278,7 +278,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleErrorResponse(e, methodName);
 		}
 		
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -56,6 +56,21 @@ public enum AssetCatalogErrorCode implements ExceptionMessageSet {
             "The system is unable to retrieve linking assets.",
             "Check that the unique identifiers of the assets are correct."),
 
+    FULL_TEXT_INDEX_NOT_ENABLED(400, "OMAS-ASSET-CATALOG-400-001 ",
+            "The full-text index is not enabled for the Asset Catalog OMAS in server {0}",
+            "The system is unable to rebuild the full-text index because it is not configured.",
+            "Set the EnableFullTextIndex or FullTextIndexDirectory access service option and restart the server."),
+
+    FULL_TEXT_INDEX_NOT_AVAILABLE(500, "OMAS-ASSET-CATALOG-500-001 ",
+            "The full-text index at {0} could not be opened for server {1}; error message is {2}",
+            "The system is unable to start the Asset Catalog OMAS because the configured full-text index is not available.",
+            "Check that the directory of the full-text index exists, is writable and is not used by another server, then restart the server."),
+
+    CONTEXT_LOOKUP_FAILED(500, "OMAS-ASSET-CATALOG-500-002 ",
+            "The lookup of the entities related by {0} failed in method {1}; error message is {2}",
+            "The system is unable to build the context of the element.",
+            "Review the error message and the logs of the metadata repositories to determine the cause of the problem."),
+
     SERVICE_NOT_INITIALIZED(503, "OMAS-ASSET-CATALOG-503-001 ",
             "The access service has not been initialized for server {0} and can not support REST API calls",
             "The server has received a call to one of its open metadata access services but is unable to process it because the access service is not active for the requested server.",
@@ -128,4 +128,16 @@ public class Element implements Serializable {
     private List<Classification> classifications;
     private Element parentElement;
 
+    /**
+     * The relationship types that were truncated while building the context
+     * -- GETTER --
+     * Returns the relationship types whose related elements were left out of the context because
+     * there were more of them than the configured fan-out limit, or null if nothing was left out
+     * @return a list of relationship type names
+     * -- SETTER --
+     * Set up the relationship types that were truncated while building the context
+     * @param truncatedRelationshipTypes the relationship type names
+     */
+    private List<String> truncatedRelationshipTypes;
+
 }
@@ -0,0 +1,46 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * The FullTextIndexStatus object describes the state of the optional full-text index that the Asset Catalog OMAS
+ * consults before searching the repositories.  The lag is the time between the last change to an entity and
+ * the moment the index was updated with it.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+public class FullTextIndexStatus implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private boolean enabled;
+    private boolean ready;
+    private boolean rebuilding;
+    private String location;
+    private long documentCount;
+    private long eventsApplied;
+    private Date lastEventTime;
+    private long lastEventLag;
+    private long maxEventLag;
+    private Date lastRebuildTime;
+    private long lastRebuildDuration;
+}
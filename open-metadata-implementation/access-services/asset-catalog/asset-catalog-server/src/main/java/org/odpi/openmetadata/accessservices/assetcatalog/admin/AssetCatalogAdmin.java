@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.assetcatalog.admin;
 
 import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.listener.AssetCatalogOMRSTopicListener;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
@@ -22,6 +23,15 @@ import java.util.List;
 public class AssetCatalogAdmin extends AccessServiceAdmin {
 
     public static final String SUPPORTED_TYPES_FOR_SEARCH = "SupportedTypesForSearch";
+    /**
+     * Access service options that turn on the full-text index.  Case-insensitive searches that are answered from the
+     * index match words (and the start of words) in several text properties rather than a substring of the display
+     * name, so the results differ from those of the repository search.  See AssetCatalogFullTextIndex.
+     */
+    public static final String ENABLE_FULL_TEXT_INDEX = "EnableFullTextIndex";
+    public static final String FULL_TEXT_INDEX_DIRECTORY = "FullTextIndexDirectory";
+    public static final String MAX_CONTEXT_FAN_OUT = "MaxContextFanOut";
+    public static final String CONTEXT_LOOKUP_THREADS = "ContextLookupThreads";
     private AuditLog auditLog;
     private String serverName;
     private AssetCatalogServicesInstance instance;
@@ -54,11 +64,29 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
 
             List<String> supportedTypesForSearch = getSupportedTypesForSearchOption(accessServiceConfigurationProperties);
 
+            String fullTextIndexDirectory = getFullTextIndexDirectoryOption(accessServiceConfigurationProperties);
+            boolean enableFullTextIndex = fullTextIndexDirectory != null || getEnableFullTextIndexOption(accessServiceConfigurationProperties);
+
+            int maxContextFanOut = getIntegerOption(accessServiceConfigurationProperties, MAX_CONTEXT_FAN_OUT);
+            int contextLookupThreads = getIntegerOption(accessServiceConfigurationProperties, CONTEXT_LOOKUP_THREADS);
+
             instance = new AssetCatalogServicesInstance(repositoryConnector, supportedZones, auditLog, serverUserName,
-                    accessServiceConfigurationProperties.getAccessServiceName(), supportedTypesForSearch);
+                    accessServiceConfigurationProperties.getAccessServiceName(), supportedTypesForSearch,
+                    enableFullTextIndex, fullTextIndexDirectory, maxContextFanOut, contextLookupThreads);
 
             this.serverName = instance.getServerName();
 
+            if (instance.getFullTextIndex() != null) {
+                String accessServiceFullName = AccessServiceDescription.ASSET_CATALOG_OMAS.getAccessServiceFullName();
+
+                registerWithEnterpriseTopic(accessServiceFullName,
+                        serverName,
+                        enterpriseOMRSTopicConnector,
+                        new AssetCatalogOMRSTopicListener(instance.getFullTextIndex()),
+                        AssetCatalogOMRSTopicListener.getEventFilter(accessServiceFullName, repositoryConnector.getRepositoryHelper()),
+                        auditLog);
+            }
+
             auditLog.logMessage(actionDescription, AssetCatalogAuditCode.SERVICE_INITIALIZED.getMessageDefinition(serverName));
         } catch (Exception error) {
             auditLog.logException(actionDescription, AssetCatalogAuditCode.SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(), serverName), error);
@@ -92,4 +120,43 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
 
         return Collections.emptyList();
     }
-}
\ No newline at end of file
+
+    private boolean getEnableFullTextIndexOption(AccessServiceConfig accessServiceConfigurationProperties) {
+        if (accessServiceConfigurationProperties.getAccessServiceOptions() != null) {
+            Object enableFullTextIndexProperty = accessServiceConfigurationProperties.getAccessServiceOptions().get(ENABLE_FULL_TEXT_INDEX);
+            if (enableFullTextIndexProperty instanceof Boolean) {
+                return (Boolean) enableFullTextIndexProperty;
+            }
+            if (enableFullTextIndexProperty instanceof String) {
+                return Boolean.parseBoolean((String) enableFullTextIndexProperty);
+            }
+        }
+
+        return false;
+    }
+
+    private String getFullTextIndexDirectoryOption(AccessServiceConfig accessServiceConfigurationProperties) {
+        if (accessServiceConfigurationProperties.getAccessServiceOptions() != null) {
+            Object fullTextIndexDirectoryProperty = accessServiceConfigurationProperties.getAccessServiceOptions().get(FULL_TEXT_INDEX_DIRECTORY);
+            if (fullTextIndexDirectoryProperty instanceof String) {
+                return (String) fullTextIndexDirectoryProperty;
+            }
+        }
+
+        return null;
+    }
+
+    private int getIntegerOption(AccessServiceConfig accessServiceConfigurationProperties, String optionName) {
+        if (accessServiceConfigurationProperties.getAccessServiceOptions() != null) {
+            Object optionProperty = accessServiceConfigurationProperties.getAccessServiceOptions().get(optionName);
+            if (optionProperty instanceof Integer) {
+                return Math.max((Integer) optionProperty, 0);
+            }
+            if (optionProperty instanceof String) {
+                return Math.max(Integer.parseInt((String) optionProperty), 0);
+            }
+        }
+
+        return 0;
+    }
+}
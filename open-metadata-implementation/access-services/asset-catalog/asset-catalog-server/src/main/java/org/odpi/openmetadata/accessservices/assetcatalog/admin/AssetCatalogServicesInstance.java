@@ -5,14 +5,20 @@ package org.odpi.openmetadata.accessservices.assetcatalog.admin;
 import lombok.Getter;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogErrorCode;
 import org.odpi.openmetadata.accessservices.assetcatalog.handlers.AssetCatalogHandler;
+import org.odpi.openmetadata.accessservices.assetcatalog.handlers.RelatedEntitiesHandler;
 import org.odpi.openmetadata.accessservices.assetcatalog.handlers.RelationshipHandler;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogFullTextIndex;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.multitenant.OMASServiceInstance;
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.exceptions.NewInstanceException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * AssetCatalogServicesInstance caches references to OMRS objects for a specific server.
@@ -36,25 +42,50 @@ class AssetCatalogServicesInstance extends OMASServiceInstance {
     @Getter
     private RelationshipHandler relationshipHandler;
 
+    /**
+     * Return the full-text index used for searching, or null if it is not enabled
+     * @return index object
+     */
+    @Getter
+    private AssetCatalogFullTextIndex fullTextIndex;
+
+    private ExecutorService contextLookupExecutor;
+
     /**
      * @param repositoryConnector     link to the repository responsible for servicing the REST calls.
      * @param supportedZones          configurable list of zones that Asset Catalog is allowed to serve Assets from
      * @param auditLog                logging destination
      * @param serverUserName          userId used for server initiated actions
      * @param supportedTypesForSearch default list of supported types for search method
+     * @param enableFullTextIndex     whether searches use a full-text index that is kept up to date from the instance events
+     * @param fullTextIndexDirectory  directory for the full-text index files or null to hold the index in memory
+     * @param maxContextFanOut        maximum number of entities retrieved for a relationship type at each hop of the context, or 0 for no limit
+     * @param contextLookupThreads    number of threads that retrieve the entities of a hop of the context, or 0 to retrieve them one by one
      * @throws NewInstanceException a problem occurred during initialization
      */
     AssetCatalogServicesInstance(OMRSRepositoryConnector repositoryConnector, List<String> supportedZones,
                                  AuditLog auditLog, String serverUserName, String sourceName,
-                                 List<String> supportedTypesForSearch) throws NewInstanceException {
+                                 List<String> supportedTypesForSearch, boolean enableFullTextIndex,
+                                 String fullTextIndexDirectory, int maxContextFanOut,
+                                 int contextLookupThreads) throws NewInstanceException {
 
         super(description.getAccessServiceName() + " OMAS", repositoryConnector, auditLog, serverUserName, repositoryConnector.getMaxPageSize());
         super.supportedZones = supportedZones;
 
         if (repositoryHandler != null) {
 
+            if (enableFullTextIndex) {
+                fullTextIndex = openFullTextIndex(serverUserName, fullTextIndexDirectory, auditLog);
+            }
+
+            if (contextLookupThreads > 0) {
+                contextLookupExecutor = newContextLookupExecutor(contextLookupThreads);
+            }
+            RelatedEntitiesHandler relatedEntitiesHandler = new RelatedEntitiesHandler(repositoryHandler, maxContextFanOut,
+                    contextLookupExecutor);
+
             assetCatalogHandler = new AssetCatalogHandler(serverName, sourceName, invalidParameterHandler, repositoryHandler, repositoryHelper,
-                    errorHandler, supportedZones, supportedTypesForSearch);
+                    errorHandler, supportedZones, supportedTypesForSearch, fullTextIndex, relatedEntitiesHandler);
             relationshipHandler = new RelationshipHandler(sourceName, invalidParameterHandler, repositoryHandler, repositoryHelper, errorHandler);
         } else {
             final String methodName = "new ServiceInstance";
@@ -63,4 +94,47 @@ class AssetCatalogServicesInstance extends OMASServiceInstance {
                     methodName);
         }
     }
+
+    private AssetCatalogFullTextIndex openFullTextIndex(String serverUserName, String fullTextIndexDirectory, AuditLog auditLog)
+            throws NewInstanceException {
+        final String methodName = "openFullTextIndex";
+
+        try {
+            AssetCatalogFullTextIndex index = new AssetCatalogFullTextIndex(serverName, serverUserName, repositoryHandler,
+                    maxPageSize, fullTextIndexDirectory, auditLog);
+            index.start();
+            return index;
+        } catch (IOException error) {
+            throw new NewInstanceException(AssetCatalogErrorCode.FULL_TEXT_INDEX_NOT_AVAILABLE.getMessageDefinition(fullTextIndexDirectory,
+                    serverName, error.getMessage()),
+                    this.getClass().getName(),
+                    methodName,
+                    error);
+        }
+    }
+
+    private ExecutorService newContextLookupExecutor(int contextLookupThreads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(contextLookupThreads, runnable -> {
+            Thread thread = new Thread(runnable, "AssetCatalogContextLookup-" + serverName + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Close the full-text index, stop the context lookup threads and unregister the instance.
+     */
+    @Override
+    public void shutdown() {
+        if (fullTextIndex != null) {
+            fullTextIndex.close();
+        }
+        if (contextLookupExecutor != null) {
+            contextLookupExecutor.shutdownNow();
+        }
+
+        super.shutdown();
+    }
 }
@@ -45,7 +45,31 @@ public enum AssetCatalogAuditCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.SHUTDOWN,
             "The Asset Catalog Open Metadata Access Service (OMAS) is shutting down its instance for server {0}",
             "The local server has requested shut down of an Asset Catalog OMAS instance.",
-            "No action is required.  This is part of the normal operation of the service.");
+            "No action is required.  This is part of the normal operation of the service."),
+
+    FULL_TEXT_INDEX_OPENED("OMAS-ASSET-CATALOG-0005",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The Asset Catalog Open Metadata Access Service (OMAS) has opened its full-text index at {0} for server {1}; the index holds {2} entities",
+            "The search requests are answered from the full-text index once it is ready and kept up to date from the instance events.",
+            "No action is required.  This is part of the normal operation of the service."),
+
+    FULL_TEXT_INDEX_REBUILD_STARTED("OMAS-ASSET-CATALOG-0006",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Asset Catalog Open Metadata Access Service (OMAS) is rebuilding the full-text index for server {0}",
+            "The searches use the metadata repositories until the rebuild is complete.",
+            "No action is required.  This is part of the normal operation of the service."),
+
+    FULL_TEXT_INDEX_REBUILD_COMPLETED("OMAS-ASSET-CATALOG-0007",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Asset Catalog Open Metadata Access Service (OMAS) has rebuilt the full-text index for server {0} with {1} entities in {2} milliseconds",
+            "The searches are answered from the full-text index.",
+            "No action is required.  This is part of the normal operation of the service."),
+
+    FULL_TEXT_INDEX_FAILURE("OMAS-ASSET-CATALOG-0008",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The Asset Catalog Open Metadata Access Service (OMAS) full-text index for server {0} failed during {1}; error message is {2}",
+            "The searches use the metadata repositories while the full-text index is not ready.",
+            "Review the error message to determine the cause of the problem.  Once this is resolved, rebuild the full-text index.");
 
 
     private AuditLogMessageDefinition messageDefinition;
@@ -6,11 +6,13 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.odpi.openmetadata.accessservices.assetcatalog.builders.AssetConverter;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogErrorCode;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogException;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogFullTextIndex;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetDescription;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetElement;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetElements;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.Connection;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.Element;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.FullTextIndexStatus;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.Type;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.body.SearchParameters;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
@@ -28,12 +30,15 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
@@ -42,11 +47,13 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorExceptio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -61,6 +68,12 @@ public class AssetCatalogHandler {
 
     private static final Logger log = LoggerFactory.getLogger(AssetCatalogHandler.class);
 
+    /*
+     * The number of repository pages read to fill one page of search results for a type, beyond those
+     * needed to skip to the start of the page.
+     */
+    private static final int MAX_BACKFILL_PAGES = 10;
+
     private final String serverUserName;
     private final String sourceName;
     private final RepositoryHandler repositoryHandler;
@@ -73,6 +86,8 @@ public class AssetCatalogHandler {
     private List<String> supportedTypesForSearch = new ArrayList<>(Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT));
 
     private List<String> supportedZones;
+    private final AssetCatalogFullTextIndex fullTextIndex;
+    private final RelatedEntitiesHandler relatedEntitiesHandler;
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -85,10 +100,13 @@ public class AssetCatalogHandler {
      * @param errorHandler            provides common validation routines for the other handler classes
      * @param supportedZones          configurable list of zones that Asset Catalog is allowed to serve Assets from
      * @param supportedTypesForSearch configurable list of supported types used for search
+     * @param fullTextIndex           optional full-text index consulted before the repositories are searched
+     * @param relatedEntitiesHandler  retrieves the related entities when the context is built, or null to retrieve all of them one by one
      */
     public AssetCatalogHandler(String serverUserName, String sourceName, InvalidParameterHandler invalidParameterHandler,
                                RepositoryHandler repositoryHandler, OMRSRepositoryHelper repositoryHelper,
-                               RepositoryErrorHandler errorHandler, List<String> supportedZones, List<String> supportedTypesForSearch) {
+                               RepositoryErrorHandler errorHandler, List<String> supportedZones, List<String> supportedTypesForSearch,
+                               AssetCatalogFullTextIndex fullTextIndex, RelatedEntitiesHandler relatedEntitiesHandler) {
         this.serverUserName = serverUserName;
         this.sourceName = sourceName;
         this.invalidParameterHandler = invalidParameterHandler;
@@ -96,6 +114,9 @@ public class AssetCatalogHandler {
         this.repositoryHandler = repositoryHandler;
         this.errorHandler = errorHandler;
         this.supportedZones = supportedZones;
+        this.fullTextIndex = fullTextIndex;
+        this.relatedEntitiesHandler = relatedEntitiesHandler != null ? relatedEntitiesHandler
+                : new RelatedEntitiesHandler(repositoryHandler, 0, null);
         this.commonHandler = new CommonHandler(sourceName, repositoryHandler, repositoryHelper, errorHandler);
         if (CollectionUtils.isNotEmpty(supportedTypesForSearch)) {
             this.supportedTypesForSearch = supportedTypesForSearch;
@@ -392,39 +413,73 @@ public class AssetCatalogHandler {
         invalidParameterHandler.validateObject(searchParameters, SEARCH_PARAMETER, methodName);
         invalidParameterHandler.validatePaging(searchParameters.getFrom(), searchParameters.getPageSize(), methodName);
 
-        List<EntityDetail> result;
-        List<String> typesFilter = Collections.emptyList();
+        List<String> types = defaultSearchTypes;
         if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
-            typesFilter = commonHandler.getTypesGUID(userId, searchParameters.getEntityTypes());
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesFilter);
-        } else {
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, defaultSearchTypes);
+            types = commonHandler.getTypesGUID(userId, searchParameters.getEntityTypes());
         }
 
-        Set<AssetElements> searchResults = new HashSet<>();
-
-        for (EntityDetail entityDetail : result) {
-            try {
-                invalidParameterHandler.validateAssetInSupportedZone(entityDetail.getGUID(),
-                        GUID_PARAMETER,
-                        commonHandler.getAssetZoneMembership(entityDetail.getClassifications()),
-                        supportedZones,
-                        serverUserName,
-                        methodName);
-                AssetElements assetElements = assetConverter.buildAssetElements(entityDetail);
-                searchResults.add(assetElements);
-            } catch (org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException e) {
-                log.debug("This asset if a different zone: {}", entityDetail.getGUID());
+        if (canUseFullTextIndex(searchParameters)) {
+            List<AssetElements> results = collectIndexedEntities(userId, searchCriteria, searchParameters, types);
+            if (results != null) {
+                return results;
             }
         }
+
+        List<AssetElements> results = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, types);
+
+        /*
+         * The results are always sorted here, even for a single type, because the repository does not know
+         * the type sequencing, the fall back from display name to name or the case-insensitive order.
+         */
         SequencingOrder sequencingOrder = searchParameters.getSequencingOrder();
         String sequencingProperty = searchParameters.getSequencingProperty();
-        List<AssetElements> results = new ArrayList<>(searchResults);
         results.sort((firstAsset, secondAsset) ->
                 orderElements(firstAsset, secondAsset, sequencingProperty, sequencingOrder));
         return results;
     }
 
+    /**
+     * Return the state of the full-text index.
+     *
+     * @param userId user identifier that issues the call
+     * @return the status of the index; the enabled flag is false if the index is not configured
+     * @throws InvalidParameterException is thrown by the OMAG Service when a parameter is null or an invalid value.
+     */
+    public FullTextIndexStatus getFullTextIndexStatus(String userId) throws InvalidParameterException {
+        String methodName = "getFullTextIndexStatus";
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        if (fullTextIndex == null) {
+            return new FullTextIndexStatus();
+        }
+        return fullTextIndex.getStatus();
+    }
+
+    /**
+     * Start a rebuild of the full-text index from the repositories.  The searches use the repositories until
+     * the rebuild is complete.  The caller checks that the user is allowed to issue operator requests.
+     *
+     * @param serverName name of the local server
+     * @param userId     user identifier that issues the call
+     * @return the status of the index
+     * @throws InvalidParameterException is thrown by the OMAG Service when a parameter is null or an invalid value,
+     *                                   or when the full-text index is not enabled.
+     */
+    public FullTextIndexStatus rebuildFullTextIndex(String serverName, String userId) throws InvalidParameterException {
+        String methodName = "rebuildFullTextIndex";
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        if (fullTextIndex == null) {
+            throw new InvalidParameterException(AssetCatalogErrorCode.FULL_TEXT_INDEX_NOT_ENABLED.getMessageDefinition(serverName),
+                    this.getClass().getName(),
+                    methodName,
+                    "fullTextIndex");
+        }
+
+        fullTextIndex.startRebuild();
+        return fullTextIndex.getStatus();
+    }
+
     /**
      * @param userId            user identifier that issues the call
      * @param entityGUID        the identifier of the entity
@@ -547,14 +602,15 @@ public class AssetCatalogHandler {
         invalidParameterHandler.validateGUID(endAssetGUID, "endAssetGUID", methodName);
     }
 
-    private List<EntityDetail> collectSearchedEntitiesByType(String userId,
-                                                             String searchCriteria,
-                                                             SearchParameters searchParameters,
-                                                             List<String> types)
+    private List<AssetElements> collectSearchedEntitiesByType(String userId,
+                                                              String searchCriteria,
+                                                              SearchParameters searchParameters,
+                                                              List<String> types)
             throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException, FunctionNotSupportedException,
             org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, PropertyErrorException,
             TypeErrorException, PagingErrorException, RepositoryErrorException, InvalidParameterException {
-        List<EntityDetail> result = new ArrayList<>();
+        List<AssetElements> result = new ArrayList<>();
+        Set<String> returnedGUIDs = new HashSet<>();
 
         OMRSMetadataCollection metadataCollection = commonHandler.getOMRSMetadataCollection();
 
@@ -566,11 +622,241 @@ public class AssetCatalogHandler {
         }
 
         for (String type : types) {
-            result.addAll(searchEntityByCriteria(userId, searchCriteria, type, searchParameters, metadataCollection));
+            addPageOfEntitiesForType(userId, searchCriteria, type, searchParameters, metadataCollection, returnedGUIDs, result);
         }
         return result;
     }
 
+    /**
+     * Add one page of the entities of a type that match the search criteria and can be served from the supported zones.
+     * Entities outside the supported zones, and entities already returned for another type, are skipped and further
+     * pages are fetched from the repository, each starting where the previous one ended, until the requested page is
+     * full or there are no more matching entities, so the caller does not receive short pages.  The number of extra
+     * pages is limited by MAX_BACKFILL_PAGES, so a page may still be short if most matching entities are hidden.
+     * When zones are in use the start of the page is counted in visible entities, so that the pages line up as the
+     * caller moves through the results.
+     *
+     * @param userId             user identifier that issues the call
+     * @param searchCriteria     regular expression used for finding the entities
+     * @param entityTypeGUID     the type to search
+     * @param searchParameters   additional parameters for searching, paging and ordering
+     * @param metadataCollection the metadata collection to search
+     * @param returnedGUIDs      the entities already added, used to avoid duplicates when types overlap
+     * @param result             the list to add the page to
+     */
+    private void addPageOfEntitiesForType(String userId,
+                                          String searchCriteria,
+                                          String entityTypeGUID,
+                                          SearchParameters searchParameters,
+                                          OMRSMetadataCollection metadataCollection,
+                                          Set<String> returnedGUIDs,
+                                          List<AssetElements> result)
+            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException, FunctionNotSupportedException,
+            org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, PropertyErrorException,
+            TypeErrorException, PagingErrorException, RepositoryErrorException, InvalidParameterException {
+        int pageSize = searchParameters.getPageSize();
+        boolean filterByZone = CollectionUtils.isNotEmpty(supportedZones);
+
+        int entitiesToSkip = filterByZone ? searchParameters.getFrom() : 0;
+        int startFrom = filterByZone ? 0 : searchParameters.getFrom();
+        int added = 0;
+        int pagesRead = 0;
+        int maxPages = MAX_BACKFILL_PAGES + (filterByZone && pageSize > 0 ? entitiesToSkip / pageSize : 0);
+
+        InstanceProperties matchProperties = getMatchProperties(userId, searchCriteria, entityTypeGUID);
+
+        while (true) {
+            List<EntityDetail> entities = searchEntityByCriteria(userId, matchProperties, entityTypeGUID, startFrom,
+                    searchParameters, metadataCollection);
+
+            for (EntityDetail entityDetail : entities) {
+                if (!commonHandler.isInSupportedZone(entityDetail.getClassifications(), supportedZones)) {
+                    log.debug("This asset is in a different zone: {}", entityDetail.getGUID());
+                    continue;
+                }
+                if (entitiesToSkip > 0) {
+                    entitiesToSkip--;
+                    continue;
+                }
+                if (returnedGUIDs.add(entityDetail.getGUID())) {
+                    result.add(assetConverter.buildAssetElements(entityDetail));
+                    added++;
+                    if (pageSize > 0 && added == pageSize) {
+                        return;
+                    }
+                }
+            }
+
+            if (pageSize == 0 || entities.size() < pageSize) {
+                return;
+            }
+            if (++pagesRead >= maxPages) {
+                log.debug("Stopped filling the page for type {} after {} repository pages", entityTypeGUID, pagesRead);
+                return;
+            }
+            startFrom += entities.size();
+        }
+    }
+
+    /**
+     * The full-text index matches the words of the search criteria regardless of case and orders the results by
+     * relevance, so it is only used for searches that ask for this.  It only holds the assets, glossary terms and
+     * schema elements, so the requested types must be one of these or their subtypes.
+     * <p>
+     * The results are not the same as those of the search of the repositories, which looks for the search criteria
+     * as a case-insensitive substring of the display name (or name) of each entity.  The index matches each word of
+     * the search criteria against the start of the words in the qualified name, display name, name, description,
+     * summary and classification names, in any order.  So "cust ord" finds "Customer orders", while a fragment from
+     * the middle of a word (such as "tomer") is not found.  Servers that need the substring behaviour should not
+     * enable the index (EnableFullTextIndex / FullTextIndexDirectory).
+     * </p>
+     *
+     * @param searchParameters additional parameters for searching, paging and ordering
+     * @return whether the search can be answered from the full-text index
+     */
+    private boolean canUseFullTextIndex(SearchParameters searchParameters) {
+        if (fullTextIndex == null || !fullTextIndex.isReady()) {
+            return false;
+        }
+        if (searchParameters.getExactMatch() || !searchParameters.getCaseInsensitive()
+                || searchParameters.getSequencingProperty() != null) {
+            return false;
+        }
+        if (CollectionUtils.isEmpty(searchParameters.getEntityTypes())) {
+            return true;
+        }
+
+        for (String entityType : searchParameters.getEntityTypes()) {
+            if (!repositoryHelper.isTypeOf(sourceName, entityType, ASSET)
+                    && !repositoryHelper.isTypeOf(sourceName, entityType, GLOSSARY_TERM)
+                    && !repositoryHelper.isTypeOf(sourceName, entityType, SCHEMA_ELEMENT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return a page of the entities found in the full-text index.  Each entity is retrieved from the repositories so
+     * the results hold the current values and pass the same status, zone and classification checks as the search of
+     * the repositories.  Entities that can not be returned are skipped and further results are taken from the index
+     * until the requested page is full.  Entities that are no longer known to the repositories are removed from the index.
+     *
+     * @param userId           user identifier that issues the call
+     * @param searchCriteria   the words to search for
+     * @param searchParameters additional parameters for searching, paging and ordering
+     * @param types            the types to search
+     * @return the page of entities or null if the search criteria can not be answered from the index
+     */
+    private List<AssetElements> collectIndexedEntities(String userId,
+                                                       String searchCriteria,
+                                                       SearchParameters searchParameters,
+                                                       List<String> types)
+            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
+            org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException {
+        int pageSize = searchParameters.getPageSize();
+        int batchSize = pageSize > 0 ? pageSize : 0;
+        int entitiesToSkip = searchParameters.getFrom();
+        int startFrom = 0;
+
+        List<AssetElements> result = new ArrayList<>();
+        OMRSMetadataCollection metadataCollection = commonHandler.getOMRSMetadataCollection();
+
+        while (true) {
+            List<String> guids;
+            try {
+                guids = fullTextIndex.search(searchCriteria, types, startFrom, batchSize);
+            } catch (IOException e) {
+                log.debug("The full-text index could not be searched, searching the repositories instead", e);
+                return null;
+            }
+            if (guids == null) {
+                return null;
+            }
+
+            for (String guid : guids) {
+                EntityDetail entityDetail = getIndexedEntity(userId, guid, metadataCollection);
+                if (entityDetail == null || !isIndexedEntityOfType(entityDetail, types)
+                        || !isVisibleSearchResult(entityDetail, searchParameters)) {
+                    continue;
+                }
+                if (entitiesToSkip > 0) {
+                    entitiesToSkip--;
+                    continue;
+                }
+                result.add(assetConverter.buildAssetElements(entityDetail));
+                if (pageSize > 0 && result.size() == pageSize) {
+                    return result;
+                }
+            }
+
+            if (batchSize == 0 || guids.size() < batchSize) {
+                return result;
+            }
+            startFrom += guids.size();
+        }
+    }
+
+    private EntityDetail getIndexedEntity(String userId, String guid, OMRSMetadataCollection metadataCollection)
+            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
+            org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException {
+        try {
+            return metadataCollection.getEntityDetail(userId, guid);
+        } catch (EntityNotKnownException | EntityProxyOnlyException e) {
+            log.debug("The entity {} is no longer available, removing it from the full-text index", guid);
+            fullTextIndex.removeEntity(guid);
+            return null;
+        }
+    }
+
+    /**
+     * Check that an entity found in the full-text index is still one of the types searched.  An entity that was
+     * retyped to a type that is not indexed may still be in the index, because the event filter of the listener
+     * only passes on the events for the indexed types, so its entry is refreshed from the retrieved entity.
+     *
+     * @param entityDetail the current version of the entity
+     * @param types        the types searched
+     * @return whether the entity is of one of the types searched
+     */
+    private boolean isIndexedEntityOfType(EntityDetail entityDetail, List<String> types) {
+        InstanceType instanceType = entityDetail.getType();
+        if (instanceType != null) {
+            if (types.contains(instanceType.getTypeDefGUID())) {
+                return true;
+            }
+            if (instanceType.getTypeDefSuperTypes() != null) {
+                for (TypeDefLink superType : instanceType.getTypeDefSuperTypes()) {
+                    if (types.contains(superType.getGUID())) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        log.debug("The entity {} is no longer one of the types searched, refreshing it in the full-text index", entityDetail.getGUID());
+        fullTextIndex.indexEntity(entityDetail);
+        return false;
+    }
+
+    private boolean isVisibleSearchResult(EntityDetail entityDetail, SearchParameters searchParameters) {
+        if (entityDetail.getStatus() != InstanceStatus.ACTIVE) {
+            return false;
+        }
+        if (!commonHandler.isInSupportedZone(entityDetail.getClassifications(), supportedZones)) {
+            log.debug("This asset is in a different zone: {}", entityDetail.getGUID());
+            return false;
+        }
+        if (CollectionUtils.isEmpty(searchParameters.getLimitResultsByClassification())) {
+            return true;
+        }
+
+        Set<String> classificationNames = new HashSet<>();
+        if (entityDetail.getClassifications() != null) {
+            entityDetail.getClassifications().forEach(classification -> classificationNames.add(classification.getName()));
+        }
+        return classificationNames.containsAll(searchParameters.getLimitResultsByClassification());
+    }
+
     private void getContextForSchemaElement(String userId,
                                             EntityDetail entityDetail,
                                             AssetElement assetElement)
@@ -588,13 +874,12 @@ public class AssetCatalogHandler {
         }
         AssetElements assetElements = assetConverter.buildAssetElements(glossaryTerm);
 
-        List<EntityDetail> schemas = repositoryHandler.getEntitiesForRelationshipType(userId,
+        List<EntityDetail> schemas = relatedEntitiesHandler.getRelatedEntities(userId,
+                assetElements,
                 glossaryTerm.getGUID(),
                 GLOSSARY_TERM,
                 SEMANTIC_ASSIGNMENT_GUID,
                 SEMANTIC_ASSIGNMENT,
-                0,
-                0,
                 method);
 
         if (CollectionUtils.isEmpty(schemas)) {
@@ -629,22 +914,29 @@ public class AssetCatalogHandler {
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForDeployedAPI";
 
-        List<EntityDetail> endpoints = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> endpoints = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 entityDetail.getGUID(),
                 DEPLOYED_API,
                 API_ENDPOINT_GUID,
                 API_ENDPOINT,
-                0,
-                0,
                 method);
         if (CollectionUtils.isEmpty(endpoints)) {
             return;
         }
 
+        Map<String, List<EntityDetail>> connectionsByEndpoint = relatedEntitiesHandler.getRelatedEntitiesForEach(userId,
+                assetElement,
+                endpoints,
+                ENDPOINT,
+                CONNECTION_ENDPOINT_GUID,
+                CONNECTION_ENDPOINT,
+                method);
+
         for (EntityDetail endpoint : endpoints) {
             assetConverter.addContextElement(assetElement, endpoint);
-            getConnectionContext(userId, endpoint, assetElement);
+            addConnectionContext(userId, connectionsByEndpoint.get(endpoint.getGUID()), assetElement);
         }
 
     }
@@ -678,26 +970,30 @@ public class AssetCatalogHandler {
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForProcess";
 
-        List<EntityDetail> ports = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> ports = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 entityDetail.getGUID(),
                 PROCESS,
                 PROCESS_PORT_GUID,
                 PROCESS_PORT,
-                0,
-                0,
                 method);
 
         if (CollectionUtils.isNotEmpty(ports)) {
+            List<EntityDetail> portImplementations = ports.stream()
+                    .filter(port -> port.getType().getTypeDefName().equals(PORT_IMPLEMENTATION))
+                    .collect(Collectors.toList());
+            Map<String, EntityDetail> schemaTypesByPort = relatedEntitiesHandler.getRelatedEntityForEach(userId,
+                    portImplementations,
+                    DATABASE,
+                    PORT_SCHEMA_GUID,
+                    PORT_SCHEMA,
+                    method);
+
             for (EntityDetail port : ports) {
                 assetConverter.addContextElement(assetElement, port);
                 if (port.getType().getTypeDefName().equals(PORT_IMPLEMENTATION)) {
-                    EntityDetail schemaType = repositoryHandler.getEntityForRelationshipType(userId,
-                            port.getGUID(),
-                            DATABASE,
-                            PORT_SCHEMA_GUID,
-                            PORT_SCHEMA,
-                            method);
+                    EntityDetail schemaType = schemaTypesByPort.get(port.getGUID());
 
                     if (schemaType != null) {
                         assetConverter.addElement(assetElement, schemaType);
@@ -731,19 +1027,25 @@ public class AssetCatalogHandler {
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForDatabase";
 
-        List<EntityDetail> dataSets = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> dataSets = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 entityDetail.getGUID(),
                 DATABASE,
                 DATA_CONTENT_FOR_DATA_SET_GUID,
                 DATA_CONTENT_FOR_DATA_SET,
-                0,
-                0,
                 method);
 
         if (dataSets != null && !dataSets.isEmpty()) {
+            Map<String, EntityDetail> schemaTypesByDataSet = relatedEntitiesHandler.getRelatedEntityForEach(userId,
+                    dataSets,
+                    DATA_SET,
+                    ASSET_SCHEMA_TYPE_GUID,
+                    ASSET_SCHEMA_TYPE,
+                    method);
+
             for (EntityDetail dataSet : dataSets) {
-                getContextForDataSet(userId, dataSet, assetElement);
+                addSchemaTypeContext(userId, schemaTypesByDataSet.get(dataSet.getGUID()), assetElement);
             }
         }
     }
@@ -762,7 +1064,13 @@ public class AssetCatalogHandler {
                 ASSET_SCHEMA_TYPE,
                 method);
 
+        addSchemaTypeContext(userId, schemaType, assetElement);
+    }
 
+    private void addSchemaTypeContext(String userId,
+                                      EntityDetail schemaType,
+                                      AssetElement assetElement) throws
+            UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         if (schemaType == null) {
             return;
         }
@@ -781,14 +1089,13 @@ public class AssetCatalogHandler {
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForFileFolder";
 
-        List<EntityDetail> connections = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> connections = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 entityDetail.getGUID(),
                 FILE_FOLDER,
                 CONNECTION_TO_ASSET_GUID,
                 CONNECTION_TO_ASSET,
-                0,
-                0,
                 method);
 
 
@@ -839,14 +1146,13 @@ public class AssetCatalogHandler {
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForDataFile";
 
-        List<EntityDetail> fileFolders = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> fileFolders = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 entityDetail.getGUID(),
                 DATA_FILE,
                 NESTED_FILE_GUID,
                 NESTED_FILE,
-                0,
-                0,
                 method);
 
         if (CollectionUtils.isEmpty(fileFolders)) {
@@ -882,25 +1188,23 @@ public class AssetCatalogHandler {
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForNetwork";
 
-        List<EntityDetail> networkGateways = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> networkGateways = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 entityDetail.getGUID(),
                 NETWORK,
                 NETWORK_GATEWAY_LINK_GUID,
                 NETWORK_GATEWAY_LINK,
-                0,
-                0,
                 method);
         networkGateways.forEach(networkGateway -> assetConverter.addElement(assetElement, networkGateway));
 
-        List<EntityDetail> hosts = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> hosts = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 entityDetail.getGUID(),
                 NETWORK,
                 HOST_NETWORK_GUID,
                 HOST_NETWORK,
-                0,
-                0,
                 method);
 
         if (CollectionUtils.isNotEmpty(hosts)) {
@@ -918,24 +1222,23 @@ public class AssetCatalogHandler {
         String method = "getContextForHost";
         List<EntityDetail> hosts = null;
         if (entityDetail.getType().getTypeDefName().equals(VIRTUAL_CONTAINER)) {
-            hosts = repositoryHandler.getEntitiesForRelationshipType(userId,
+            hosts = relatedEntitiesHandler.getRelatedEntities(
+                    userId,
+                    assetElement,
                     entityDetail.getGUID(),
                     HOST,
                     DEPLOYED_VIRTUAL_CONTAINER_GUID,
                     DEPLOYED_VIRTUAL_CONTAINER,
-                    0,
-                    0,
                     method);
 
         } else if (entityDetail.getType().getTypeDefName().equals(HOST_CLUSTER)) {
-            hosts = repositoryHandler.getEntitiesForRelationshipType(
+            hosts = relatedEntitiesHandler.getRelatedEntities(
                     userId,
+                    assetElement,
                     entityDetail.getGUID(),
                     HOST,
                     HOST_CLUSTER_MEMBER_GUID,
                     HOST_CLUSTER_MEMBER,
-                    0,
-                    0,
                     method);
         }
         if (hosts != null) {
@@ -951,14 +1254,13 @@ public class AssetCatalogHandler {
 
         assetConverter.addElement(assetElement, operatingPlatform);
 
-        List<EntityDetail> locations = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> locations = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 entityDetail.getGUID(),
                 HOST,
                 HOST_LOCATION_GUID,
                 HOST_LOCATION,
-                0,
-                0,
                 method);
         if (CollectionUtils.isNotEmpty(locations)) {
             for (EntityDetail location : locations) {
@@ -974,14 +1276,13 @@ public class AssetCatalogHandler {
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForLocation";
 
-        List<EntityDetail> assetLocations = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> assetLocations = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 location.getGUID(),
                 LOCATION,
                 ASSET_LOCATION_GUID,
                 ASSET_LOCATION,
-                0,
-                0,
                 method);
 
         if (CollectionUtils.isNotEmpty(assetLocations)) {
@@ -991,14 +1292,13 @@ public class AssetCatalogHandler {
             }
         }
 
-        List<EntityDetail> nestedLocations = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> nestedLocations = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 location.getGUID(),
                 LOCATION,
                 NESTED_LOCATION_GUID,
                 NESTED_LOCATION,
-                0,
-                0,
                 method);
 
 
@@ -1056,43 +1356,56 @@ public class AssetCatalogHandler {
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String methodName = "getConnectionContext";
 
-        List<EntityDetail> connections = repositoryHandler.getEntitiesForRelationshipType(
+        List<EntityDetail> connections = relatedEntitiesHandler.getRelatedEntities(
                 userId,
+                assetElement,
                 endpoint.getGUID(),
                 ENDPOINT,
                 CONNECTION_ENDPOINT_GUID,
                 CONNECTION_ENDPOINT,
-                0,
-                0,
                 methodName);
 
+        addConnectionContext(userId, connections, assetElement);
+    }
+
+    private void addConnectionContext(String userId,
+                                      List<EntityDetail> connections,
+                                      AssetElement assetElement)
+            throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
+        String methodName = "addConnectionContext";
+
         if (CollectionUtils.isEmpty(connections)) {
             return;
         }
 
+        Map<String, EntityDetail> connectorTypes = relatedEntitiesHandler.getRelatedEntityForEach(userId,
+                connections,
+                CONNECTION,
+                CONNECTION_CONNECTOR_TYPE_GUID,
+                CONNECTION_CONNECTOR_TYPE,
+                methodName);
+        Map<String, EntityDetail> assets = relatedEntitiesHandler.getRelatedEntityForEach(userId,
+                connections,
+                CONNECTION,
+                CONNECTION_TO_ASSET_GUID,
+                CONNECTION_TO_ASSET,
+                methodName);
+
         for (EntityDetail connection : connections) {
             assetConverter.addElement(assetElement, connection);
 
             List<EntityDetail> elements = new ArrayList<>();
-            EntityDetail connectorType = repositoryHandler.getEntityForRelationshipType(
-                    userId,
-                    connection.getGUID(),
-                    CONNECTION,
-                    CONNECTION_CONNECTOR_TYPE_GUID,
-                    CONNECTION_CONNECTOR_TYPE,
-                    methodName);
+            EntityDetail connectorType = connectorTypes.get(connection.getGUID());
 
             if (connectorType != null) {
                 elements.add(connectorType);
             }
 
-            EntityDetail asset = repositoryHandler.getEntityForRelationshipType(
-                    userId,
-                    connection.getGUID(),
-                    CONNECTION,
-                    CONNECTION_TO_ASSET_GUID,
-                    CONNECTION_TO_ASSET,
-                    methodName);
+            EntityDetail asset = assets.get(connection.getGUID());
+            if (asset == null) {
+                elements.forEach(element -> assetConverter.addElement(assetElement, element));
+                continue;
+            }
 
             invalidParameterHandler.validateAssetInSupportedZone(asset.getGUID(),
                     GUID_PARAMETER,
@@ -1111,25 +1424,23 @@ public class AssetCatalogHandler {
 
         String method = "findAsset";
         for (EntityDetail entityDetail : entitiesByType) {
-            List<EntityDetail> schemaAttributes = repositoryHandler.getEntitiesForRelationshipType(
+            List<EntityDetail> schemaAttributes = relatedEntitiesHandler.getRelatedEntities(
                     userId,
+                    assetElement,
                     entityDetail.getGUID(),
                     SCHEMA_ATTRIBUTE,
                     ATTRIBUTE_FOR_SCHEMA_GUID,
                     ATTRIBUTE_FOR_SCHEMA,
-                    0,
-                    0,
                     method);
 
             if (CollectionUtils.isEmpty(schemaAttributes)) {
-                schemaAttributes = repositoryHandler.getEntitiesForRelationshipType(
+                schemaAttributes = relatedEntitiesHandler.getRelatedEntities(
                         userId,
+                        assetElement,
                         entityDetail.getGUID(),
                         SCHEMA_ATTRIBUTE,
                         NESTED_SCHEMA_ATTRIBUTE_GUID,
                         NESTED_SCHEMA_ATTRIBUTE,
-                        0,
-                        0,
                         method);
                 if (CollectionUtils.isEmpty(schemaAttributes)) {
                     continue;
@@ -1138,35 +1449,54 @@ public class AssetCatalogHandler {
 
             addSchemaAttributes(assetElement, schemaAttributes);
 
+            Map<String, List<EntityDetail>> schemaAttributeTypes = getSchemaAttributeTypes(userId, assetElement, method, schemaAttributes);
             for (EntityDetail schemaAttribute : schemaAttributes) {
-                if (processSchemaAttribute(userId, assetElement, method, schemaAttribute)) return;
+                if (processSchemaAttribute(userId, assetElement, method, schemaAttribute, schemaAttributeTypes)) return;
             }
         }
     }
 
-    private boolean processSchemaAttribute(String userId, AssetElement assetElement, String method, EntityDetail schemaAttribute)
+    /**
+     * Retrieve together the types of the schema attributes that are processed before the first complex schema
+     * attribute, as the context building stops at the first complex one.
+     */
+    private Map<String, List<EntityDetail>> getSchemaAttributeTypes(String userId,
+                                                                    AssetElement assetElement,
+                                                                    String method,
+                                                                    List<EntityDetail> schemaAttributes)
+            throws UserNotAuthorizedException, PropertyServerException {
+        List<EntityDetail> primitiveSchemaAttributes = new ArrayList<>();
+        for (EntityDetail schemaAttribute : schemaAttributes) {
+            if (isComplexSchemaType(schemaAttribute.getType().getTypeDefName()).isPresent()) {
+                break;
+            }
+            primitiveSchemaAttributes.add(schemaAttribute);
+        }
+
+        return relatedEntitiesHandler.getRelatedEntitiesForEach(userId,
+                assetElement,
+                primitiveSchemaAttributes,
+                null,
+                SCHEMA_ATTRIBUTE_TYPE_GUID,
+                SCHEMA_ATTRIBUTE_TYPE,
+                method);
+    }
+
+    private boolean processSchemaAttribute(String userId, AssetElement assetElement, String method, EntityDetail schemaAttribute,
+                                           Map<String, List<EntityDetail>> schemaAttributeTypes)
             throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         if (isComplexSchemaType(schemaAttribute.getType().getTypeDefName()).isPresent()) {
             setAssetDetails(userId, assetElement, schemaAttribute);
             return true;
         } else {
-            processPrimitiveSchema(userId, assetElement, method, schemaAttribute);
+            processPrimitiveSchema(userId, assetElement, schemaAttribute, schemaAttributeTypes.get(schemaAttribute.getGUID()));
         }
         return false;
     }
 
-    private void processPrimitiveSchema(String userId, AssetElement assetElement, String method, EntityDetail schemaAttribute)
+    private void processPrimitiveSchema(String userId, AssetElement assetElement, EntityDetail schemaAttribute,
+                                        List<EntityDetail> schemaAttributeTypeEntities)
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
-        List<EntityDetail> schemaAttributeTypeEntities = repositoryHandler.getEntitiesForRelationshipType(
-                userId,
-                schemaAttribute.getGUID(),
-                schemaAttribute.getType().getTypeDefName(),
-                SCHEMA_ATTRIBUTE_TYPE_GUID,
-                SCHEMA_ATTRIBUTE_TYPE,
-                0,
-                0,
-                method);
-
         if (CollectionUtils.isNotEmpty(schemaAttributeTypeEntities)) {
             schemaAttributeTypeEntities.forEach(schemaAttributeTypeEntity -> assetConverter.addElement(assetElement, schemaAttributeTypeEntity));
             findAsset(userId, assetElement, schemaAttributeTypeEntities.toArray(new EntityDetail[0]));
@@ -1197,19 +1527,19 @@ public class AssetCatalogHandler {
         if (isComplexSchemaType.isPresent()) {
             setAssetDetails(userId, assetElement, entityDetail);
         } else {
-            List<EntityDetail> attributeForSchemas = repositoryHandler.getEntitiesForRelationshipType(
+            List<EntityDetail> attributeForSchemas = relatedEntitiesHandler.getRelatedEntities(
                     userId,
+                    assetElement,
                     entityDetail.getGUID(),
                     entityDetail.getType().getTypeDefName(),
                     ATTRIBUTE_FOR_SCHEMA_GUID,
                     ATTRIBUTE_FOR_SCHEMA,
-                    0,
-                    0,
                     method);
             if (CollectionUtils.isEmpty(attributeForSchemas)) {
                 return;
             }
 
+            Map<String, List<EntityDetail>> schemaAttributeTypes = getSchemaAttributeTypes(userId, assetElement, method, attributeForSchemas);
             for (EntityDetail attributeForSchema : attributeForSchemas) {
                 assetConverter.addElement(assetElement, attributeForSchema);
 
@@ -1217,15 +1547,7 @@ public class AssetCatalogHandler {
                     setAssetDetails(userId, assetElement, attributeForSchema);
                     return;
                 } else {
-                    List<EntityDetail> schemaAttributeTypeEntities = repositoryHandler.getEntitiesForRelationshipType(
-                            userId,
-                            attributeForSchema.getGUID(),
-                            attributeForSchema.getType().getTypeDefName(),
-                            SCHEMA_ATTRIBUTE_TYPE_GUID,
-                            SCHEMA_ATTRIBUTE_TYPE,
-                            0,
-                            0,
-                            method);
+                    List<EntityDetail> schemaAttributeTypeEntities = schemaAttributeTypes.get(attributeForSchema.getGUID());
 
                     for (EntityDetail schema : schemaAttributeTypeEntities) {
                         assetConverter.addElement(assetElement, schema);
@@ -1383,14 +1705,8 @@ public class AssetCatalogHandler {
         return entityDetails.getClassifications();
     }
 
-    private List<EntityDetail> searchEntityByCriteria(String userId,
-                                                      String searchCriteria,
-                                                      String entityTypeGUID,
-                                                      SearchParameters searchParameters, OMRSMetadataCollection metadataCollection)
-            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
-            FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
-            PropertyErrorException, TypeErrorException, PagingErrorException, RepositoryErrorException, InvalidParameterException {
-
+    private InstanceProperties getMatchProperties(String userId, String searchCriteria, String entityTypeGUID)
+            throws InvalidParameterException {
         InstanceProperties matchProperties = new InstanceProperties();
         PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
 
@@ -1404,11 +1720,23 @@ public class AssetCatalogHandler {
         } else {
             matchProperties.setProperty(NAME, primitivePropertyValue);
         }
+        return matchProperties;
+    }
+
+    private List<EntityDetail> searchEntityByCriteria(String userId,
+                                                      InstanceProperties matchProperties,
+                                                      String entityTypeGUID,
+                                                      int from,
+                                                      SearchParameters searchParameters, OMRSMetadataCollection metadataCollection)
+            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
+            FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
+            PropertyErrorException, TypeErrorException, PagingErrorException, RepositoryErrorException {
+
         List<EntityDetail> entitiesByPropertyValue = metadataCollection.findEntitiesByProperty(userId,
                 entityTypeGUID,
                 matchProperties,
                 MatchCriteria.ANY,
-                searchParameters.getFrom(),
+                from,
                 Collections.singletonList(InstanceStatus.ACTIVE),
                 searchParameters.getLimitResultsByClassification(),
                 null,
@@ -143,6 +143,28 @@ public class CommonHandler {
 
     }
 
+    /**
+     * Check whether an entity may be returned from a server that only serves the supplied zones.  This gives
+     * the same answer as InvalidParameterHandler.validateAssetInSupportedZone without building an exception, so
+     * it can be used to filter search results.  Entities without a zone membership are visible in every zone.
+     *
+     * @param classifications classifications of the entity
+     * @param supportedZones  zones that the server is allowed to serve assets from - null or empty means all zones
+     * @return true if the entity may be returned
+     */
+    boolean isInSupportedZone(List<Classification> classifications, List<String> supportedZones) {
+        if (CollectionUtils.isEmpty(supportedZones)) {
+            return true;
+        }
+
+        List<String> assetZones = getAssetZoneMembership(classifications);
+        if (assetZones.isEmpty()) {
+            return true;
+        }
+
+        return assetZones.stream().anyMatch(supportedZones::contains);
+    }
+
     /**
      * Fetch the zone membership property
      *
@@ -0,0 +1,234 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.handlers;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogErrorCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.Element;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * RelatedEntitiesHandler retrieves the entities related to the elements of a context.  It limits the number of
+ * entities retrieved for each relationship type at each hop, so the context of an element with a very large number
+ * of neighbours (for example a table with thousands of columns) is built with a bounded number of repository calls.
+ * The relationship types that were cut at the limit are recorded on the element that is being built.
+ * <p>
+ * The lookups for all of the elements of a hop are issued together on the executor, when one is configured, and the
+ * results are returned in the order of the elements, so the context is the same as when the lookups run one by one.
+ * </p>
+ */
+public class RelatedEntitiesHandler {
+
+    private final RepositoryHandler repositoryHandler;
+    private final int maxFanOut;
+    private final ExecutorService executor;
+
+    /**
+     * Construct the handler information needed to retrieve the related entities
+     *
+     * @param repositoryHandler manages calls to the repository services
+     * @param maxFanOut         the maximum number of entities retrieved for a relationship type at each hop, or 0 for no limit
+     * @param executor          runs the lookups of a hop concurrently, or null to run them one by one
+     */
+    public RelatedEntitiesHandler(RepositoryHandler repositoryHandler, int maxFanOut, ExecutorService executor) {
+        this.repositoryHandler = repositoryHandler;
+        this.maxFanOut = maxFanOut;
+        this.executor = executor;
+    }
+
+    /**
+     * Return the entities linked to an entity by a relationship type, up to the fan-out limit.
+     *
+     * @param userId                 user identifier that issues the call
+     * @param element                the element being built, where a truncation is recorded
+     * @param startingEntityGUID     the entity to start from
+     * @param startingEntityTypeName the type of the entity to start from
+     * @param relationshipTypeGUID   the relationship type to follow
+     * @param relationshipTypeName   the relationship type to follow
+     * @param methodName             calling method
+     * @return the related entities; the list is empty if there are none
+     * @throws UserNotAuthorizedException the user is not allowed to retrieve the entities
+     * @throws PropertyServerException    there is a problem communicating with the metadata repository
+     */
+    public List<EntityDetail> getRelatedEntities(String userId,
+                                                 Element element,
+                                                 String startingEntityGUID,
+                                                 String startingEntityTypeName,
+                                                 String relationshipTypeGUID,
+                                                 String relationshipTypeName,
+                                                 String methodName) throws UserNotAuthorizedException, PropertyServerException {
+        List<EntityDetail> entities = repositoryHandler.getEntitiesForRelationshipType(userId,
+                startingEntityGUID,
+                startingEntityTypeName,
+                relationshipTypeGUID,
+                relationshipTypeName,
+                0,
+                maxFanOut > 0 ? maxFanOut + 1 : 0,
+                methodName);
+
+        return applyFanOutLimit(element, relationshipTypeName, entities);
+    }
+
+    /**
+     * Return the entities linked to each of the entities of a hop by a relationship type, up to the fan-out limit
+     * for each entity.
+     *
+     * @param userId                 user identifier that issues the call
+     * @param element                the element being built, where a truncation is recorded
+     * @param startingEntities       the entities of the hop
+     * @param startingEntityTypeName the type of the entities to start from, or null to use the type of each entity
+     * @param relationshipTypeGUID   the relationship type to follow
+     * @param relationshipTypeName   the relationship type to follow
+     * @param methodName             calling method
+     * @return the related entities for the GUID of each starting entity, in the order of the starting entities
+     * @throws UserNotAuthorizedException the user is not allowed to retrieve the entities
+     * @throws PropertyServerException    there is a problem communicating with the metadata repository
+     */
+    public Map<String, List<EntityDetail>> getRelatedEntitiesForEach(String userId,
+                                                                     Element element,
+                                                                     List<EntityDetail> startingEntities,
+                                                                     String startingEntityTypeName,
+                                                                     String relationshipTypeGUID,
+                                                                     String relationshipTypeName,
+                                                                     String methodName) throws UserNotAuthorizedException, PropertyServerException {
+        Map<String, List<EntityDetail>> lookups = runForEach(startingEntities, relationshipTypeName, methodName, startingEntity ->
+                repositoryHandler.getEntitiesForRelationshipType(userId,
+                        startingEntity.getGUID(),
+                        getTypeName(startingEntity, startingEntityTypeName),
+                        relationshipTypeGUID,
+                        relationshipTypeName,
+                        0,
+                        maxFanOut > 0 ? maxFanOut + 1 : 0,
+                        methodName));
+
+        Map<String, List<EntityDetail>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, List<EntityDetail>> lookup : lookups.entrySet()) {
+            result.put(lookup.getKey(), applyFanOutLimit(element, relationshipTypeName, lookup.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Return the entity linked to each of the entities of a hop by a relationship type with a single entity at the other end.
+     *
+     * @param userId                 user identifier that issues the call
+     * @param startingEntities       the entities of the hop
+     * @param startingEntityTypeName the type of the entities to start from, or null to use the type of each entity
+     * @param relationshipTypeGUID   the relationship type to follow
+     * @param relationshipTypeName   the relationship type to follow
+     * @param methodName             calling method
+     * @return the related entity, or null, for the GUID of each starting entity, in the order of the starting entities
+     * @throws UserNotAuthorizedException the user is not allowed to retrieve the entities
+     * @throws PropertyServerException    there is a problem communicating with the metadata repository
+     */
+    public Map<String, EntityDetail> getRelatedEntityForEach(String userId,
+                                                             List<EntityDetail> startingEntities,
+                                                             String startingEntityTypeName,
+                                                             String relationshipTypeGUID,
+                                                             String relationshipTypeName,
+                                                             String methodName) throws UserNotAuthorizedException, PropertyServerException {
+        return runForEach(startingEntities, relationshipTypeName, methodName, startingEntity ->
+                repositoryHandler.getEntityForRelationshipType(userId,
+                        startingEntity.getGUID(),
+                        getTypeName(startingEntity, startingEntityTypeName),
+                        relationshipTypeGUID,
+                        relationshipTypeName,
+                        methodName));
+    }
+
+    private List<EntityDetail> applyFanOutLimit(Element element, String relationshipTypeName, List<EntityDetail> entities) {
+        if (CollectionUtils.isEmpty(entities)) {
+            return Collections.emptyList();
+        }
+        if (maxFanOut <= 0 || entities.size() <= maxFanOut) {
+            return entities;
+        }
+
+        if (element != null) {
+            List<String> truncatedRelationshipTypes = element.getTruncatedRelationshipTypes();
+            if (truncatedRelationshipTypes == null) {
+                truncatedRelationshipTypes = new ArrayList<>();
+                element.setTruncatedRelationshipTypes(truncatedRelationshipTypes);
+            }
+            if (!truncatedRelationshipTypes.contains(relationshipTypeName)) {
+                truncatedRelationshipTypes.add(relationshipTypeName);
+            }
+        }
+        return new ArrayList<>(entities.subList(0, maxFanOut));
+    }
+
+    private String getTypeName(EntityDetail entityDetail, String defaultTypeName) {
+        if (defaultTypeName != null || entityDetail.getType() == null) {
+            return defaultTypeName;
+        }
+        return entityDetail.getType().getTypeDefName();
+    }
+
+    private <T> Map<String, T> runForEach(List<EntityDetail> startingEntities, String relationshipTypeName, String methodName,
+                                          Lookup<T> lookup)
+            throws UserNotAuthorizedException, PropertyServerException {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (CollectionUtils.isEmpty(startingEntities)) {
+            return result;
+        }
+
+        if (executor == null || startingEntities.size() == 1) {
+            for (EntityDetail startingEntity : startingEntities) {
+                result.put(startingEntity.getGUID(), lookup.apply(startingEntity));
+            }
+            return result;
+        }
+
+        Map<String, Future<T>> futures = new LinkedHashMap<>();
+        for (EntityDetail startingEntity : startingEntities) {
+            Callable<T> task = () -> lookup.apply(startingEntity);
+            futures.put(startingEntity.getGUID(), executor.submit(task));
+        }
+
+        try {
+            for (Map.Entry<String, Future<T>> future : futures.entrySet()) {
+                result.put(future.getKey(), future.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.values().forEach(future -> future.cancel(true));
+            throw lookupFailed(relationshipTypeName, methodName, e);
+        } catch (ExecutionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof UserNotAuthorizedException) {
+                throw (UserNotAuthorizedException) e.getCause();
+            }
+            if (e.getCause() instanceof PropertyServerException) {
+                throw (PropertyServerException) e.getCause();
+            }
+            throw lookupFailed(relationshipTypeName, methodName, e.getCause());
+        }
+        return result;
+    }
+
+    private PropertyServerException lookupFailed(String relationshipTypeName, String methodName, Throwable error) {
+        return new PropertyServerException(AssetCatalogErrorCode.CONTEXT_LOOKUP_FAILED.getMessageDefinition(relationshipTypeName,
+                methodName, error.getMessage()),
+                this.getClass().getName(),
+                methodName,
+                error);
+    }
+
+    @FunctionalInterface
+    private interface Lookup<T> {
+        T apply(EntityDetail startingEntity) throws UserNotAuthorizedException, PropertyServerException;
+    }
+}
@@ -0,0 +1,747 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.index;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.FullTextIndexStatus;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET_GUID;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DISPLAY_NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GLOSSARY_TERM_TYPE_GUID;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.QUALIFIED_NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.SCHEMA_ELEMENT_GUID;
+
+/**
+ * AssetCatalogFullTextIndex is an optional inverted index of the entities that the Asset Catalog OMAS searches.
+ * It holds the qualified name, display name, name, description and summary of each asset, glossary term and
+ * schema element along with the names of its classifications, so that a search can find the matching entities
+ * without scanning the repositories.  The index only holds the identifiers of the entities: the caller retrieves
+ * the current version of each entity from the repositories, so the results always reflect the latest values and
+ * the security and zone checks.
+ * <p>
+ * The index is kept up to date from the OMRS instance events.  It is stored in the local file system when a
+ * directory is configured, otherwise it is held in memory and rebuilt from the repositories each time the
+ * server starts.  The index is not used for searching until it has been built.
+ * </p>
+ * <p>
+ * A rebuild fills a new index and only replaces the current index once it is complete, so the current index is
+ * still used for searching during the rebuild and is kept if the rebuild fails.  The instance events received during
+ * the rebuild are applied to both.  The new index remembers the version of each entity written to it during the rebuild,
+ * so an entity read from the repositories before an event arrived does not overwrite the newer version from the event,
+ * and an entity removed by an event is not added back.  On disk, the new index is built in a sibling directory (with a ".rebuild" suffix)
+ * that is renamed to the configured directory when the rebuild is complete.
+ * </p>
+ * <p>
+ * Searches of the index match words, and the start of words, rather than a substring of a property value, so
+ * their results differ from those of the repository search (see AssetCatalogHandler).
+ * </p>
+ */
+public class AssetCatalogFullTextIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetCatalogFullTextIndex.class);
+
+    private static final String GUID_FIELD = "guid";
+    private static final String TYPE_FIELD = "type";
+    private static final String TEXT_FIELD = "text";
+    private static final String DESCRIPTION = "description";
+    private static final String SUMMARY = "summary";
+    private static final String IN_MEMORY_LOCATION = "memory";
+    private static final long COMMIT_INTERVAL_SECONDS = 60;
+    private static final String REBUILD_SUFFIX = ".rebuild";
+    private static final String PREVIOUS_SUFFIX = ".previous";
+
+    /*
+     * The root types of the entities held in the index.  The subtypes are indexed with the GUIDs of all of
+     * their super types, so a search for a root type also finds its subtypes.
+     */
+    private static final List<String> INDEXED_TYPE_GUIDS = Arrays.asList(ASSET_GUID, GLOSSARY_TERM_TYPE_GUID, SCHEMA_ELEMENT_GUID);
+    private static final List<String> TEXT_PROPERTIES = Arrays.asList(QUALIFIED_NAME, DISPLAY_NAME, NAME, DESCRIPTION, SUMMARY);
+
+    private final String serverName;
+    private final String serverUserName;
+    private final RepositoryHandler repositoryHandler;
+    private final int pageSize;
+    private final String location;
+    private final AuditLog auditLog;
+
+    private final Path indexPath;
+    private final Analyzer analyzer;
+    private final ScheduledExecutorService executor;
+
+    /*
+     * The current index is replaced when a rebuild completes.  The read lock is held while an index is used and
+     * the write lock while it is replaced.
+     */
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private volatile IndexGeneration current;
+    private volatile IndexGeneration rebuildTarget;
+    private final Map<String, Long> rebuildVersions = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final AtomicLong lastEventLag = new AtomicLong();
+    private final AtomicLong maxEventLag = new AtomicLong();
+    private final AtomicLong lastRebuildDuration = new AtomicLong();
+    private final AtomicReference<Date> lastEventTime = new AtomicReference<>();
+    private final AtomicReference<Date> lastRebuildTime = new AtomicReference<>();
+
+    /**
+     * Open the index.  An index that is stored in the file system and already holds entities can be used
+     * straight away; an empty index is not used until it has been rebuilt.
+     *
+     * @param serverName        name of this server
+     * @param serverUserName    user id used to read the entities from the repositories when the index is rebuilt
+     * @param repositoryHandler manages calls to the repository services
+     * @param pageSize          number of entities to read from the repositories in each call during a rebuild
+     * @param indexDirectory    directory for the index files or null to hold the index in memory
+     * @param auditLog          logging destination
+     * @throws IOException the index could not be opened
+     */
+    public AssetCatalogFullTextIndex(String serverName, String serverUserName, RepositoryHandler repositoryHandler,
+                                     int pageSize, String indexDirectory, AuditLog auditLog) throws IOException {
+        this.serverName = serverName;
+        this.serverUserName = serverUserName;
+        this.repositoryHandler = repositoryHandler;
+        this.pageSize = pageSize;
+        this.auditLog = auditLog;
+
+        this.analyzer = new StandardAnalyzer();
+
+        if (indexDirectory == null) {
+            this.location = IN_MEMORY_LOCATION;
+            this.indexPath = null;
+            this.current = new IndexGeneration(new ByteBuffersDirectory(), IndexWriterConfig.OpenMode.CREATE_OR_APPEND, analyzer);
+        } else {
+            this.location = indexDirectory;
+            this.indexPath = Paths.get(indexDirectory).toAbsolutePath();
+            recoverInterruptedSwap();
+            this.current = new IndexGeneration(FSDirectory.open(indexPath), IndexWriterConfig.OpenMode.CREATE_OR_APPEND, analyzer);
+        }
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AssetCatalogFullTextIndex-" + serverName);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ready.set(getDocumentCount() > 0);
+    }
+
+    /**
+     * Start the background work of the index: the periodic commit of the changes to the file system and,
+     * if the index is empty, a rebuild from the repositories.
+     */
+    public void start() {
+        final String actionDescription = "start";
+
+        if (auditLog != null) {
+            auditLog.logMessage(actionDescription, AssetCatalogAuditCode.FULL_TEXT_INDEX_OPENED.getMessageDefinition(location,
+                    serverName, String.valueOf(getDocumentCount())));
+        }
+
+        executor.scheduleWithFixedDelay(this::commit, COMMIT_INTERVAL_SECONDS, COMMIT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        if (!ready.get()) {
+            startRebuild();
+        }
+    }
+
+    /**
+     * Return whether the index has been built and can be used for searching.
+     *
+     * @return boolean flag
+     */
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    /**
+     * Add or replace the entry for an entity.  Entities that are no longer active, or that are not assets,
+     * glossary terms or schema elements, are removed from the index.
+     *
+     * @param entityDetail the latest version of the entity
+     */
+    public void indexEntity(EntityDetail entityDetail) {
+        if (entityDetail == null || entityDetail.getGUID() == null) {
+            return;
+        }
+
+        indexLock.readLock().lock();
+        try {
+            Document document = buildDocument(entityDetail);
+
+            writeDocument(current, entityDetail.getGUID(), document);
+
+            IndexGeneration target = rebuildTarget;
+            if (target != null) {
+                writeDocumentIfNewer(target, entityDetail.getGUID(), entityDetail.getVersion(), document);
+            }
+            recordEvent(entityDetail);
+        } catch (IOException e) {
+            logFailure("indexEntity", e);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the entry for an entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    public void removeEntity(String entityGUID) {
+        if (entityGUID == null) {
+            return;
+        }
+
+        indexLock.readLock().lock();
+        try {
+            writeDocument(current, entityGUID, null);
+
+            /*
+             * The entity is gone, so no version read by the rebuild may add it back.
+             */
+            IndexGeneration target = rebuildTarget;
+            if (target != null) {
+                writeDocumentIfNewer(target, entityGUID, Long.MAX_VALUE, null);
+            }
+            recordEvent(null);
+        } catch (IOException e) {
+            logFailure("removeEntity", e);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return the unique identifiers of the entities that match all of the words of the search criteria, most
+     * relevant first.  A word matches the start of a word in the text of the entity, so a partially typed
+     * word still finds its entities.
+     *
+     * @param searchCriteria the words to search for
+     * @param typeGUIDs      the types of the entities to return; subtypes are included
+     * @param from           the position of the first result to return
+     * @param pageSize       the maximum number of results to return, or 0 for all of them
+     * @return the unique identifiers of the matching entities or null if the search criteria does not contain any words
+     * @throws IOException the index could not be read
+     */
+    public List<String> search(String searchCriteria, List<String> typeGUIDs, int from, int pageSize) throws IOException {
+        List<String> terms = getTerms(searchCriteria);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder termQuery = new BooleanQuery.Builder();
+            termQuery.add(new TermQuery(new Term(TEXT_FIELD, term)), BooleanClause.Occur.SHOULD);
+            termQuery.add(new PrefixQuery(new Term(TEXT_FIELD, term)), BooleanClause.Occur.SHOULD);
+            query.add(termQuery.build(), BooleanClause.Occur.MUST);
+        }
+
+        if (CollectionUtils.isNotEmpty(typeGUIDs)) {
+            BooleanQuery.Builder typeQuery = new BooleanQuery.Builder();
+            for (String typeGUID : typeGUIDs) {
+                typeQuery.add(new TermQuery(new Term(TYPE_FIELD, typeGUID)), BooleanClause.Occur.SHOULD);
+            }
+            query.add(typeQuery.build(), BooleanClause.Occur.FILTER);
+        }
+
+        indexLock.readLock().lock();
+        try {
+            return search(current.searcherManager, query.build(), from, pageSize);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private List<String> search(SearcherManager searcherManager, BooleanQuery booleanQuery, int from, int pageSize) throws IOException {
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int numberOfHits = pageSize > 0 ? from + pageSize : Math.max(1, searcher.count(booleanQuery));
+
+            TopDocs topDocs = searcher.search(booleanQuery, numberOfHits);
+
+            List<String> guids = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = from; i < scoreDocs.length; i++) {
+                guids.add(searcher.doc(scoreDocs[i].doc).get(GUID_FIELD));
+            }
+            return guids;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Start a rebuild of the index from the repositories in the background.
+     *
+     * @return false if a rebuild is already running
+     */
+    public boolean startRebuild() {
+        if (rebuilding.get()) {
+            return false;
+        }
+
+        executor.execute(this::rebuild);
+        return true;
+    }
+
+    /**
+     * Rebuild the index from the repositories into a new index that replaces the current index when it is complete.
+     * The current index is still used for searching (if it was ready) until then, and is kept if the rebuild fails.
+     * The instance events received during the rebuild are applied to both indexes.
+     *
+     * @return false if a rebuild is already running
+     */
+    public boolean rebuild() {
+        final String actionDescription = "rebuild";
+
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+
+        if (auditLog != null) {
+            auditLog.logMessage(actionDescription, AssetCatalogAuditCode.FULL_TEXT_INDEX_REBUILD_STARTED.getMessageDefinition(serverName));
+        }
+
+        IndexGeneration newGeneration = null;
+        try {
+            newGeneration = openRebuildGeneration();
+            rebuildVersions.clear();
+            rebuildTarget = newGeneration;
+
+            long indexedEntities = 0;
+            for (String typeGUID : INDEXED_TYPE_GUIDS) {
+                indexedEntities += indexEntitiesOfType(newGeneration, typeGUID);
+            }
+
+            newGeneration.indexWriter.commit();
+            swap(newGeneration);
+            newGeneration = null;
+
+            lastRebuildTime.set(new Date());
+            lastRebuildDuration.set(System.currentTimeMillis() - start);
+            ready.set(true);
+
+            if (auditLog != null) {
+                auditLog.logMessage(actionDescription, AssetCatalogAuditCode.FULL_TEXT_INDEX_REBUILD_COMPLETED.getMessageDefinition(serverName,
+                        String.valueOf(indexedEntities), String.valueOf(lastRebuildDuration.get())));
+            }
+        } catch (IOException | UserNotAuthorizedException | PropertyServerException e) {
+            logFailure(actionDescription, e);
+        } finally {
+            rebuildTarget = null;
+            rebuildVersions.clear();
+            if (newGeneration != null) {
+                discardRebuildGeneration(newGeneration);
+            }
+            rebuilding.set(false);
+        }
+        return true;
+    }
+
+    /**
+     * Return the state of the index.
+     *
+     * @return status
+     */
+    public FullTextIndexStatus getStatus() {
+        FullTextIndexStatus status = new FullTextIndexStatus();
+
+        status.setEnabled(true);
+        status.setReady(ready.get());
+        status.setRebuilding(rebuilding.get());
+        status.setLocation(location);
+        status.setDocumentCount(getDocumentCount());
+        status.setEventsApplied(eventsApplied.get());
+        status.setLastEventTime(lastEventTime.get());
+        status.setLastEventLag(lastEventLag.get());
+        status.setMaxEventLag(maxEventLag.get());
+        status.setLastRebuildTime(lastRebuildTime.get());
+        status.setLastRebuildDuration(lastRebuildDuration.get());
+
+        return status;
+    }
+
+    /**
+     * Stop the background work, save the changes and close the index.
+     */
+    public void close() {
+        ready.set(false);
+        executor.shutdownNow();
+
+        indexLock.writeLock().lock();
+        try {
+            current.close();
+        } catch (IOException e) {
+            logFailure("close", e);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private static void writeDocument(IndexGeneration generation, String entityGUID, Document document) throws IOException {
+        if (document == null) {
+            generation.indexWriter.deleteDocuments(new Term(GUID_FIELD, entityGUID));
+        } else {
+            generation.indexWriter.updateDocument(new Term(GUID_FIELD, entityGUID), document);
+        }
+    }
+
+    /**
+     * Write an entity to the index being rebuilt unless a later version of the entity has already been written
+     * to it.  The rebuild and the instance events both write to this index, in no particular order.
+     *
+     * @param generation the index being rebuilt
+     * @param entityGUID unique identifier of the entity
+     * @param version    version of the entity (Long.MAX_VALUE if the entity has been removed)
+     * @param document   the entry for the entity, or null to remove it
+     * @return whether the entity was written
+     * @throws IOException the index could not be updated
+     */
+    private boolean writeDocumentIfNewer(IndexGeneration generation, String entityGUID, long version, Document document) throws IOException {
+        boolean[] written = new boolean[1];
+
+        try {
+            rebuildVersions.compute(entityGUID, (guid, writtenVersion) -> {
+                if (writtenVersion != null && writtenVersion >= version) {
+                    return writtenVersion;
+                }
+                try {
+                    writeDocument(generation, guid, document);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                written[0] = true;
+                return version;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written[0];
+    }
+
+    private IndexGeneration openRebuildGeneration() throws IOException {
+        if (indexPath == null) {
+            return new IndexGeneration(new ByteBuffersDirectory(), IndexWriterConfig.OpenMode.CREATE, analyzer);
+        }
+
+        Path rebuildPath = getSiblingPath(REBUILD_SUFFIX);
+        deleteDirectory(rebuildPath);
+        return new IndexGeneration(FSDirectory.open(rebuildPath), IndexWriterConfig.OpenMode.CREATE, analyzer);
+    }
+
+    /**
+     * Replace the current index with the rebuilt one.  On disk, the current directory is renamed out of the way and
+     * the rebuilt directory is renamed in its place; if this fails, the previous index is put back and reopened.
+     *
+     * @param newGeneration complete, committed index
+     * @throws IOException the index directories could not be renamed
+     */
+    private void swap(IndexGeneration newGeneration) throws IOException {
+        indexLock.writeLock().lock();
+        try {
+            rebuildTarget = null;
+            IndexGeneration oldGeneration = current;
+
+            if (indexPath == null) {
+                current = newGeneration;
+                oldGeneration.close();
+                return;
+            }
+
+            Path previousPath = getSiblingPath(PREVIOUS_SUFFIX);
+            newGeneration.close();
+            oldGeneration.close();
+            try {
+                deleteDirectory(previousPath);
+                if (Files.exists(indexPath)) {
+                    Files.move(indexPath, previousPath);
+                }
+                Files.move(getSiblingPath(REBUILD_SUFFIX), indexPath);
+            } finally {
+                if (!Files.exists(indexPath) && Files.exists(previousPath)) {
+                    Files.move(previousPath, indexPath);
+                }
+                current = new IndexGeneration(FSDirectory.open(indexPath), IndexWriterConfig.OpenMode.CREATE_OR_APPEND, analyzer);
+            }
+            deleteDirectory(previousPath);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private void discardRebuildGeneration(IndexGeneration generation) {
+        try {
+            generation.close();
+            if (indexPath != null) {
+                deleteDirectory(getSiblingPath(REBUILD_SUFFIX));
+            }
+        } catch (IOException e) {
+            log.debug("Unable to remove the incomplete full-text index", e);
+        }
+    }
+
+    /**
+     * Put back the previous index if the server stopped part way through replacing it, and remove any incomplete rebuild.
+     *
+     * @throws IOException the directories could not be renamed or removed
+     */
+    private void recoverInterruptedSwap() throws IOException {
+        Path previousPath = getSiblingPath(PREVIOUS_SUFFIX);
+
+        if (!Files.exists(indexPath) && Files.exists(previousPath)) {
+            Files.move(previousPath, indexPath);
+        }
+        deleteDirectory(previousPath);
+        deleteDirectory(getSiblingPath(REBUILD_SUFFIX));
+    }
+
+    private Path getSiblingPath(String suffix) {
+        return indexPath.resolveSibling(indexPath.getFileName() + suffix);
+    }
+
+    private static void deleteDirectory(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private long indexEntitiesOfType(IndexGeneration generation, String typeGUID) throws IOException, UserNotAuthorizedException, PropertyServerException {
+        final String methodName = "rebuildFullTextIndex";
+
+        long indexedEntities = 0;
+        int startFrom = 0;
+
+        while (true) {
+            List<EntityDetail> entities = repositoryHandler.getEntitiesByType(serverUserName, typeGUID, startFrom, pageSize, methodName);
+            if (CollectionUtils.isEmpty(entities)) {
+                return indexedEntities;
+            }
+
+            for (EntityDetail entityDetail : entities) {
+                Document document = buildDocument(entityDetail);
+                if (document != null && writeDocumentIfNewer(generation, entityDetail.getGUID(), entityDetail.getVersion(), document)) {
+                    indexedEntities++;
+                }
+            }
+
+            if (pageSize == 0 || entities.size() < pageSize) {
+                return indexedEntities;
+            }
+            startFrom += entities.size();
+        }
+    }
+
+    private Document buildDocument(EntityDetail entityDetail) {
+        InstanceType instanceType = entityDetail.getType();
+        if (instanceType == null || entityDetail.getStatus() != InstanceStatus.ACTIVE) {
+            return null;
+        }
+
+        Set<String> typeGUIDs = new HashSet<>();
+        typeGUIDs.add(instanceType.getTypeDefGUID());
+        if (instanceType.getTypeDefSuperTypes() != null) {
+            for (TypeDefLink superType : instanceType.getTypeDefSuperTypes()) {
+                typeGUIDs.add(superType.getGUID());
+            }
+        }
+
+        if (Collections.disjoint(typeGUIDs, INDEXED_TYPE_GUIDS)) {
+            return null;
+        }
+
+        Document document = new Document();
+        document.add(new StringField(GUID_FIELD, entityDetail.getGUID(), Field.Store.YES));
+        for (String typeGUID : typeGUIDs) {
+            if (typeGUID != null) {
+                document.add(new StringField(TYPE_FIELD, typeGUID, Field.Store.NO));
+            }
+        }
+
+        InstanceProperties properties = entityDetail.getProperties();
+        if (properties != null) {
+            for (String propertyName : TEXT_PROPERTIES) {
+                InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+                if (propertyValue instanceof PrimitivePropertyValue) {
+                    Object value = ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+                    if (value != null) {
+                        document.add(new TextField(TEXT_FIELD, value.toString(), Field.Store.NO));
+                    }
+                }
+            }
+        }
+
+        if (entityDetail.getClassifications() != null) {
+            for (Classification classification : entityDetail.getClassifications()) {
+                if (classification.getName() != null) {
+                    document.add(new TextField(TEXT_FIELD, classification.getName(), Field.Store.NO));
+                }
+            }
+        }
+
+        return document;
+    }
+
+    private List<String> getTerms(String searchCriteria) throws IOException {
+        List<String> terms = new ArrayList<>();
+        if (searchCriteria == null) {
+            return terms;
+        }
+
+        try (TokenStream tokenStream = analyzer.tokenStream(TEXT_FIELD, searchCriteria)) {
+            CharTermAttribute charTermAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                terms.add(charTermAttribute.toString());
+            }
+            tokenStream.end();
+        }
+        return terms;
+    }
+
+    private void recordEvent(EntityDetail entityDetail) {
+        Date now = new Date();
+
+        eventsApplied.incrementAndGet();
+        lastEventTime.set(now);
+
+        if (entityDetail != null) {
+            Date changeTime = entityDetail.getUpdateTime() != null ? entityDetail.getUpdateTime() : entityDetail.getCreateTime();
+            if (changeTime != null) {
+                long lag = Math.max(0, now.getTime() - changeTime.getTime());
+                lastEventLag.set(lag);
+                maxEventLag.accumulateAndGet(lag, Math::max);
+            }
+        }
+    }
+
+    private void commit() {
+        indexLock.readLock().lock();
+        try {
+            if (current.indexWriter.hasUncommittedChanges()) {
+                current.indexWriter.commit();
+            }
+        } catch (IOException e) {
+            logFailure("commit", e);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private long getDocumentCount() {
+        indexLock.readLock().lock();
+        try {
+            return current.indexWriter.getDocStats().numDocs;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private void logFailure(String actionDescription, Exception error) {
+        log.error("The full-text index failed during {}", actionDescription, error);
+
+        if (auditLog != null) {
+            auditLog.logException(actionDescription, AssetCatalogAuditCode.FULL_TEXT_INDEX_FAILURE.getMessageDefinition(serverName,
+                    actionDescription, error.getMessage()), error);
+        }
+    }
+
+    /**
+     * IndexGeneration is one copy of the index: its storage, the writer that updates it and the searchers that read it.
+     */
+    private static class IndexGeneration {
+        private final Directory directory;
+        private final IndexWriter indexWriter;
+        private final SearcherManager searcherManager;
+
+        IndexGeneration(Directory directory, IndexWriterConfig.OpenMode openMode, Analyzer analyzer) throws IOException {
+            IndexWriterConfig indexWriterConfig = new IndexWriterConfig(analyzer);
+            indexWriterConfig.setOpenMode(openMode);
+
+            this.directory = directory;
+            this.indexWriter = new IndexWriter(directory, indexWriterConfig);
+            this.searcherManager = new SearcherManager(indexWriter, null);
+        }
+
+        void close() throws IOException {
+            searcherManager.close();
+            indexWriter.close();
+            directory.close();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.listener;
+
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogFullTextIndex;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GLOSSARY_TERM;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.SCHEMA_ELEMENT;
+
+/**
+ * AssetCatalogOMRSTopicListener receives details of each OMRS event from the cohorts that the local server
+ * is connected to.  It keeps the full-text index of the Asset Catalog OMAS up to date with the changes to
+ * the assets, glossary terms and schema elements.
+ */
+public class AssetCatalogOMRSTopicListener implements OMRSTopicListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetCatalogOMRSTopicListener.class);
+
+    private static final List<String> entityTypeNames = Arrays.asList(ASSET, GLOSSARY_TERM, SCHEMA_ELEMENT);
+
+    private static final List<OMRSInstanceEventType> instanceEventTypes = Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+            OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+            OMRSInstanceEventType.UNDONE_ENTITY_EVENT,
+            OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+            OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+            OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+            OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+            OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+            OMRSInstanceEventType.DELETE_PURGED_ENTITY_EVENT,
+            OMRSInstanceEventType.RESTORED_ENTITY_EVENT,
+            OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+            OMRSInstanceEventType.RETYPED_ENTITY_EVENT,
+            OMRSInstanceEventType.RE_HOMED_ENTITY_EVENT,
+            OMRSInstanceEventType.REFRESHED_ENTITY_EVENT);
+
+    private final AssetCatalogFullTextIndex fullTextIndex;
+
+    /**
+     * @param fullTextIndex the index to keep up to date
+     */
+    public AssetCatalogOMRSTopicListener(AssetCatalogFullTextIndex fullTextIndex) {
+        this.fullTextIndex = fullTextIndex;
+    }
+
+    /**
+     * Return the filter that describes the instance events that this listener processes.  It is used when the
+     * listener registers with the enterprise topic so that the other instance events are not passed to it.
+     * The zones are not included because the zones are checked when the search results are retrieved.
+     *
+     * @param serviceName      name of this service
+     * @param repositoryHelper repository helper
+     * @return filter
+     */
+    public static OMRSTopicListenerFilter getEventFilter(String serviceName, OMRSRepositoryHelper repositoryHelper) {
+        return new OMRSTopicListenerFilter(serviceName, repositoryHelper, entityTypeNames, instanceEventTypes, null);
+    }
+
+    /**
+     * Method to pass a Registry event received on topic.
+     *
+     * @param event inbound event
+     */
+    public void processRegistryEvent(OMRSRegistryEvent event) {
+        log.trace("Ignoring registry event: {}", event);
+    }
+
+    /**
+     * Method to pass a TypeDef event received on topic.
+     *
+     * @param event inbound event
+     */
+    public void processTypeDefEvent(OMRSTypeDefEvent event) {
+        log.trace("Ignoring type event: {}", event);
+    }
+
+    /**
+     * Apply an instance event to the full-text index.
+     *
+     * @param instanceEvent event to unpack
+     */
+    public void processInstanceEvent(OMRSInstanceEvent instanceEvent) {
+        if (instanceEvent == null || instanceEvent.getInstanceEventType() == null) {
+            return;
+        }
+
+        EntityDetail entityDetail = instanceEvent.getEntity();
+
+        switch (instanceEvent.getInstanceEventType()) {
+            case NEW_ENTITY_EVENT:
+            case UPDATED_ENTITY_EVENT:
+            case UNDONE_ENTITY_EVENT:
+            case CLASSIFIED_ENTITY_EVENT:
+            case DECLASSIFIED_ENTITY_EVENT:
+            case RECLASSIFIED_ENTITY_EVENT:
+            case RESTORED_ENTITY_EVENT:
+            case RETYPED_ENTITY_EVENT:
+            case RE_HOMED_ENTITY_EVENT:
+            case REFRESHED_ENTITY_EVENT:
+                fullTextIndex.indexEntity(entityDetail);
+                break;
+            case RE_IDENTIFIED_ENTITY_EVENT:
+                fullTextIndex.removeEntity(instanceEvent.getOriginalInstanceGUID());
+                fullTextIndex.indexEntity(entityDetail);
+                break;
+            case DELETED_ENTITY_EVENT:
+            case PURGED_ENTITY_EVENT:
+            case DELETE_PURGED_ENTITY_EVENT:
+                fullTextIndex.removeEntity(entityDetail != null ? entityDetail.getGUID() : instanceEvent.getInstanceGUID());
+                break;
+            default:
+                log.trace("Ignoring instance event: {}", instanceEvent.getInstanceEventType());
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.As
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetListResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.ClassificationListResponse;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.FullTextIndexStatusResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.RelationshipListResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.util.ExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
@@ -393,4 +394,63 @@ public class AssetCatalogRESTService {
 
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the state of the full-text index used for searching.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     user identifier that issues the call
+     * @return the status of the full-text index
+     */
+    public FullTextIndexStatusResponse getFullTextIndexStatus(String serverName, String userId) {
+        String methodName = "getFullTextIndexStatus";
+        log.debug(CALLING_METHOD, methodName);
+
+        FullTextIndexStatusResponse response = new FullTextIndexStatusResponse();
+        try {
+            AssetCatalogHandler assetCatalogHandler = instanceHandler.getAssetCatalogHandler(userId, serverName, methodName);
+            response.setFullTextIndexStatus(assetCatalogHandler.getFullTextIndexStatus(userId));
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException e) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, e);
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException e) {
+            restExceptionHandler.captureInvalidParameterException(response, e);
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException e) {
+            restExceptionHandler.capturePropertyServerException(response, e);
+        }
+
+        log.debug(METHOD_WITH_RESPONSE, methodName, response);
+
+        return response;
+    }
+
+    /**
+     * Starts a rebuild of the full-text index from the metadata repositories.
+     * The searches use the repositories until the rebuild is complete.
+     * Only a user that is allowed to issue operator requests to the server can start a rebuild.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     user identifier that issues the call
+     * @return the status of the full-text index
+     */
+    public FullTextIndexStatusResponse rebuildFullTextIndex(String serverName, String userId) {
+        String methodName = "rebuildFullTextIndex";
+        log.debug(CALLING_METHOD, methodName);
+
+        FullTextIndexStatusResponse response = new FullTextIndexStatusResponse();
+        try {
+            AssetCatalogHandler assetCatalogHandler = instanceHandler.getAssetCatalogHandler(userId, serverName, methodName);
+            instanceHandler.getServerSecurityVerifier(userId, serverName).validateUserAsServerOperator(userId);
+            response.setFullTextIndexStatus(assetCatalogHandler.rebuildFullTextIndex(serverName, userId));
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException e) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, e);
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException e) {
+            restExceptionHandler.captureInvalidParameterException(response, e);
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException e) {
+            restExceptionHandler.capturePropertyServerException(response, e);
+        }
+
+        log.debug(METHOD_WITH_RESPONSE, methodName, response);
+
+        return response;
+    }
+}
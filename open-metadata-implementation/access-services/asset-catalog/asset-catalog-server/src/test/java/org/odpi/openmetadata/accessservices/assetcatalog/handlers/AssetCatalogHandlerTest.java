@@ -41,11 +41,16 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorEx
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -53,6 +58,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GUID_PARAMETER;
 import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.TYPE_SEQUENCING;
 
 public class AssetCatalogHandlerTest {
 
@@ -65,6 +71,11 @@ public class AssetCatalogHandlerTest {
     private static final String SEARCH_CRITERIA = "employee";
     private static final String FIRST_GUID = "ababa-123-acbd";
     private static final String SECOND_GUID = "ababc-2134-2341f";
+    private static final String THIRD_GUID = "ababd-3412-1234a";
+    private static final String FOURTH_GUID = "ababe-4123-4321b";
+    private static final String SOURCE_NAME = "Asset Catalog OMAS";
+    private static final String SUPPORTED_ZONE = "data-lake";
+    private static final String OTHER_ZONE = "quarantine";
     private static final String RELATIONSHIP_TYPE_GUID = "adadad-bcba-123";
     private final String USER = "test-user";
     private final String RELATIONSHIP_TYPE = "SemanticAssigment";
@@ -570,6 +581,127 @@ public class AssetCatalogHandlerTest {
         verify(invalidParameterHandler, times(1)).validateObject(searchParams, "searchParameter", methodName);
     }
 
+    @Test
+    public void searchByType_backfillsPageWithAssetsFromSupportedZones() throws InvalidParameterException, org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException, FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException {
+        AssetCatalogHandler zonedHandler = new AssetCatalogHandler(USER, SOURCE_NAME, invalidParameterHandler, repositoryHandler,
+                repositoryHelper, errorHandler, Collections.singletonList(SUPPORTED_ZONE), null, null, null);
+        SearchParameters searchParams = mockSearchParams();
+        searchParams.setPageSize(2);
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        mockSearchString(SEARCH_CRITERIA, searchParams.getCaseInsensitive());
+        InstanceProperties matchProperties = mockMatchProperties();
+
+        EntityDetail hiddenAsset = mockZonedEntity(SECOND_GUID, OTHER_ZONE);
+        EntityDetail firstVisibleAsset = mockZonedEntity(FIRST_GUID, SUPPORTED_ZONE);
+        EntityDetail secondVisibleAsset = mockZonedEntity(THIRD_GUID, null);
+        EntityDetail thirdVisibleAsset = mockZonedEntity(FOURTH_GUID, SUPPORTED_ZONE);
+
+        OMRSMetadataCollection metadataCollection = mockMetadataCollection();
+        when(metadataCollection.findEntitiesByProperty(USER,
+                ASSET_TYPE_GUID,
+                matchProperties,
+                MatchCriteria.ANY,
+                0,
+                Collections.singletonList(InstanceStatus.ACTIVE),
+                null,
+                null,
+                null,
+                SequencingOrder.ANY,
+                2)).thenReturn(Arrays.asList(hiddenAsset, firstVisibleAsset));
+        when(metadataCollection.findEntitiesByProperty(USER,
+                ASSET_TYPE_GUID,
+                matchProperties,
+                MatchCriteria.ANY,
+                2,
+                Collections.singletonList(InstanceStatus.ACTIVE),
+                null,
+                null,
+                null,
+                SequencingOrder.ANY,
+                2)).thenReturn(Arrays.asList(secondVisibleAsset, thirdVisibleAsset));
+
+        List<AssetElements> assetElements = zonedHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+        assertEquals(2, assetElements.size());
+        assertEquals(FIRST_GUID, assetElements.get(0).getGuid());
+        assertEquals(THIRD_GUID, assetElements.get(1).getGuid());
+
+        searchParams.setFrom(2);
+        assetElements = zonedHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+        assertEquals(1, assetElements.size());
+        assertEquals(FOURTH_GUID, assetElements.get(0).getGuid());
+    }
+
+    @Test
+    public void searchByType_stopsFillingPageAfterMaximumRepositoryPages() throws InvalidParameterException, org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException, FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException {
+        AssetCatalogHandler zonedHandler = new AssetCatalogHandler(USER, SOURCE_NAME, invalidParameterHandler, repositoryHandler,
+                repositoryHelper, errorHandler, Collections.singletonList(SUPPORTED_ZONE), null, null, null);
+        SearchParameters searchParams = mockSearchParams();
+        searchParams.setPageSize(2);
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        mockSearchString(SEARCH_CRITERIA, searchParams.getCaseInsensitive());
+        InstanceProperties matchProperties = mockMatchProperties();
+        List<EntityDetail> hiddenAssets = Arrays.asList(mockZonedEntity(FIRST_GUID, OTHER_ZONE), mockZonedEntity(SECOND_GUID, OTHER_ZONE));
+
+        OMRSMetadataCollection metadataCollection = mockMetadataCollection();
+        when(metadataCollection.findEntitiesByProperty(eq(USER),
+                eq(ASSET_TYPE_GUID),
+                eq(matchProperties),
+                eq(MatchCriteria.ANY),
+                anyInt(),
+                eq(Collections.singletonList(InstanceStatus.ACTIVE)),
+                isNull(),
+                isNull(),
+                isNull(),
+                eq(SequencingOrder.ANY),
+                eq(2))).thenReturn(hiddenAssets);
+
+        List<AssetElements> assetElements = zonedHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+        assertEquals(0, assetElements.size());
+        verify(metadataCollection, times(10)).findEntitiesByProperty(eq(USER),
+                eq(ASSET_TYPE_GUID),
+                eq(matchProperties),
+                eq(MatchCriteria.ANY),
+                anyInt(),
+                eq(Collections.singletonList(InstanceStatus.ACTIVE)),
+                isNull(),
+                isNull(),
+                isNull(),
+                eq(SequencingOrder.ANY),
+                eq(2));
+    }
+
+    @Test
+    public void searchByType_ordersResultsOfSingleType() throws InvalidParameterException, org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException, FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException {
+        SearchParameters searchParams = mockSearchParams();
+        searchParams.setSequencingProperty(TYPE_SEQUENCING);
+        searchParams.setSequencingOrder(SequencingOrder.PROPERTY_ASCENDING);
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        mockSearchString(SEARCH_CRITERIA, searchParams.getCaseInsensitive());
+        InstanceProperties matchProperties = mockMatchProperties();
+
+        EntityDetail process = mockZonedEntity(FIRST_GUID, null);
+        process.setType(mockInstanceType(PROCESS_TYPE, PROCESS_TYPE_GUID));
+        EntityDetail asset = mockZonedEntity(SECOND_GUID, null);
+
+        OMRSMetadataCollection metadataCollection = mockMetadataCollection();
+        when(metadataCollection.findEntitiesByProperty(USER,
+                ASSET_TYPE_GUID,
+                matchProperties,
+                MatchCriteria.ANY,
+                FROM,
+                Collections.singletonList(InstanceStatus.ACTIVE),
+                null,
+                null,
+                TYPE_SEQUENCING,
+                SequencingOrder.PROPERTY_ASCENDING,
+                PAGE_SIZE)).thenReturn(Arrays.asList(process, asset));
+
+        List<AssetElements> assetElements = assetCatalogHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+        assertEquals(2, assetElements.size());
+        assertEquals(SECOND_GUID, assetElements.get(0).getGuid());
+        assertEquals(FIRST_GUID, assetElements.get(1).getGuid());
+    }
+
     @Test
     public void searchByType_throwsInvalidParameterException() throws org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException, org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException, FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException {
         String methodName = "searchByType";
@@ -596,6 +728,14 @@ public class AssetCatalogHandlerTest {
 
     }
 
+    @Test
+    public void rebuildFullTextIndex_reportsTheServerWhenTheIndexIsNotEnabled() {
+        InvalidParameterException error = assertThrows(InvalidParameterException.class,
+                () -> assetCatalogHandler.rebuildFullTextIndex("cocoMDS1", USER));
+
+        assertTrue(error.getReportedErrorMessage().contains("cocoMDS1"));
+    }
+
     @Test
     public void buildContextByType() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException, RepositoryErrorException {
         String methodName = "buildContextByType";
@@ -745,6 +885,29 @@ public class AssetCatalogHandlerTest {
         when(entityTypeDef.getSuperType()).thenReturn(typeDefLink);
     }
 
+    private EntityDetail mockZonedEntity(String guid, String zone) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+        entityDetail.setType(mockInstanceType(ASSET_TYPE, ASSET_TYPE_GUID));
+
+        if (zone != null) {
+            InstanceProperties zoneProperties = new InstanceProperties();
+            PrimitivePropertyValue zoneValue = new PrimitivePropertyValue();
+            zoneValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            zoneValue.setPrimitiveValue(zone);
+            zoneProperties.setProperty("zoneMembership", zoneValue);
+            org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification classification =
+                    new org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification();
+            classification.setName("AssetZoneMembership");
+            classification.setProperties(zoneProperties);
+            entityDetail.setClassifications(Collections.singletonList(classification));
+
+            when(repositoryHelper.getStringArrayProperty(SOURCE_NAME, "zoneMembership", zoneProperties, "getAssetZoneMembership"))
+                    .thenReturn(Collections.singletonList(zone));
+        }
+        return entityDetail;
+    }
+
     private void mockSearchString(String searchCriteria, boolean isCaseSensitive) {
         when(repositoryHelper.getContainsRegex(searchCriteria, isCaseSensitive)).thenReturn(searchCriteria);
     }
@@ -0,0 +1,149 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.handlers;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogErrorCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.Element;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RelatedEntitiesHandlerTest {
+
+    private static final String USER = "test-user";
+    private static final String METHOD_NAME = "test";
+    private static final String FIRST_GUID = "ababa-123-acbd";
+    private static final String SECOND_GUID = "ababc-2134-2341f";
+    private static final String THIRD_GUID = "ababd-3412-1234a";
+    private static final String RELATIONSHIP_TYPE_GUID = "1c25f5a4-6be2-43a6-8c4e-97f1e2c7e4a8";
+    private static final String RELATIONSHIP_TYPE = "AttributeForSchema";
+    private static final String ENTITY_TYPE = "RelationalTable";
+
+    @Mock
+    private RepositoryHandler repositoryHandler;
+
+    private ExecutorService executor;
+
+    @After
+    public void after() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getRelatedEntities_truncatesAtFanOutLimit() throws UserNotAuthorizedException, PropertyServerException {
+        RelatedEntitiesHandler relatedEntitiesHandler = new RelatedEntitiesHandler(repositoryHandler, 2, null);
+        when(repositoryHandler.getEntitiesForRelationshipType(USER, FIRST_GUID, ENTITY_TYPE, RELATIONSHIP_TYPE_GUID,
+                RELATIONSHIP_TYPE, 0, 3, METHOD_NAME))
+                .thenReturn(Arrays.asList(mockEntity("a"), mockEntity("b"), mockEntity("c")));
+
+        Element element = new Element();
+        List<EntityDetail> result = relatedEntitiesHandler.getRelatedEntities(USER, element, FIRST_GUID, ENTITY_TYPE,
+                RELATIONSHIP_TYPE_GUID, RELATIONSHIP_TYPE, METHOD_NAME);
+
+        assertEquals(2, result.size());
+        assertEquals("a", result.get(0).getGUID());
+        assertEquals("b", result.get(1).getGUID());
+        assertEquals(Collections.singletonList(RELATIONSHIP_TYPE), element.getTruncatedRelationshipTypes());
+    }
+
+    @Test
+    public void getRelatedEntities_returnsEmptyListWhenNothingIsFound() throws UserNotAuthorizedException, PropertyServerException {
+        RelatedEntitiesHandler relatedEntitiesHandler = new RelatedEntitiesHandler(repositoryHandler, 0, null);
+        when(repositoryHandler.getEntitiesForRelationshipType(USER, FIRST_GUID, ENTITY_TYPE, RELATIONSHIP_TYPE_GUID,
+                RELATIONSHIP_TYPE, 0, 0, METHOD_NAME)).thenReturn(null);
+
+        Element element = new Element();
+        List<EntityDetail> result = relatedEntitiesHandler.getRelatedEntities(USER, element, FIRST_GUID, ENTITY_TYPE,
+                RELATIONSHIP_TYPE_GUID, RELATIONSHIP_TYPE, METHOD_NAME);
+
+        assertTrue(result.isEmpty());
+        assertNull(element.getTruncatedRelationshipTypes());
+    }
+
+    @Test
+    public void getRelatedEntitiesForEach_keepsTheOrderOfTheHop() throws UserNotAuthorizedException, PropertyServerException {
+        executor = Executors.newFixedThreadPool(2);
+        RelatedEntitiesHandler relatedEntitiesHandler = new RelatedEntitiesHandler(repositoryHandler, 1, executor);
+        List<EntityDetail> hop = Arrays.asList(mockEntity(FIRST_GUID), mockEntity(SECOND_GUID), mockEntity(THIRD_GUID));
+        when(repositoryHandler.getEntitiesForRelationshipType(eq(USER), anyString(), eq(ENTITY_TYPE), eq(RELATIONSHIP_TYPE_GUID),
+                eq(RELATIONSHIP_TYPE), eq(0), eq(2), eq(METHOD_NAME)))
+                .thenAnswer(invocation -> {
+                    String guid = invocation.getArgument(1);
+                    if (SECOND_GUID.equals(guid)) {
+                        return null;
+                    }
+                    List<EntityDetail> related = new ArrayList<>();
+                    related.add(mockEntity(guid + "-1"));
+                    if (THIRD_GUID.equals(guid)) {
+                        related.add(mockEntity(guid + "-2"));
+                    }
+                    return related;
+                });
+
+        Element element = new Element();
+        Map<String, List<EntityDetail>> result = relatedEntitiesHandler.getRelatedEntitiesForEach(USER, element, hop, null,
+                RELATIONSHIP_TYPE_GUID, RELATIONSHIP_TYPE, METHOD_NAME);
+
+        assertEquals(Arrays.asList(FIRST_GUID, SECOND_GUID, THIRD_GUID), new ArrayList<>(result.keySet()));
+        assertEquals(FIRST_GUID + "-1", result.get(FIRST_GUID).get(0).getGUID());
+        assertTrue(result.get(SECOND_GUID).isEmpty());
+        assertEquals(1, result.get(THIRD_GUID).size());
+        assertEquals(Collections.singletonList(RELATIONSHIP_TYPE), element.getTruncatedRelationshipTypes());
+    }
+
+    @Test
+    public void getRelatedEntityForEach_rethrowsTheRepositoryException() throws UserNotAuthorizedException, PropertyServerException {
+        executor = Executors.newFixedThreadPool(2);
+        RelatedEntitiesHandler relatedEntitiesHandler = new RelatedEntitiesHandler(repositoryHandler, 0, executor);
+        List<EntityDetail> hop = Arrays.asList(mockEntity(FIRST_GUID), mockEntity(SECOND_GUID));
+        UserNotAuthorizedException error = new UserNotAuthorizedException(AssetCatalogErrorCode.SERVICE_NOT_INITIALIZED.getMessageDefinition(),
+                this.getClass().getName(), METHOD_NAME, USER);
+        when(repositoryHandler.getEntityForRelationshipType(USER, FIRST_GUID, ENTITY_TYPE, RELATIONSHIP_TYPE_GUID,
+                RELATIONSHIP_TYPE, METHOD_NAME)).thenReturn(mockEntity("a"));
+        when(repositoryHandler.getEntityForRelationshipType(USER, SECOND_GUID, ENTITY_TYPE, RELATIONSHIP_TYPE_GUID,
+                RELATIONSHIP_TYPE, METHOD_NAME)).thenThrow(error);
+
+        UserNotAuthorizedException thrown = assertThrows(UserNotAuthorizedException.class,
+                () -> relatedEntitiesHandler.getRelatedEntityForEach(USER, hop, ENTITY_TYPE, RELATIONSHIP_TYPE_GUID,
+                        RELATIONSHIP_TYPE, METHOD_NAME));
+        assertSame(error, thrown);
+    }
+
+    private EntityDetail mockEntity(String guid) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName(ENTITY_TYPE);
+        entityDetail.setType(instanceType);
+
+        return entityDetail;
+    }
+}
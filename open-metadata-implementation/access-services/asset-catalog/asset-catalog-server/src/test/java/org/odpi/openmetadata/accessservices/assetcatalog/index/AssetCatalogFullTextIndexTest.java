@@ -0,0 +1,249 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.index;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.FullTextIndexStatus;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET_GUID;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GLOSSARY_TERM_TYPE_GUID;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AssetCatalogFullTextIndexTest {
+
+    private static final String SERVER_NAME = "test-server";
+    private static final String USER = "test-user";
+    private static final String DATA_SET_TYPE_GUID = "1449911c-4f44-4c22-abc0-7540154feefb";
+    private static final String FIRST_GUID = "ababa-123-acbd";
+    private static final String SECOND_GUID = "ababc-2134-2341f";
+    private static final String THIRD_GUID = "ababd-3412-1234a";
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private RepositoryHandler repositoryHandler;
+
+    private AssetCatalogFullTextIndex fullTextIndex;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Before
+    public void before() throws IOException {
+        fullTextIndex = new AssetCatalogFullTextIndex(SERVER_NAME, USER, repositoryHandler, PAGE_SIZE, null, null);
+    }
+
+    @After
+    public void after() {
+        fullTextIndex.close();
+    }
+
+    @Test
+    public void rebuild_indexesEntitiesFromRepositories() throws UserNotAuthorizedException, PropertyServerException, IOException {
+        EntityDetail customers = mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Customer accounts");
+        EntityDetail orders = mockEntity(SECOND_GUID, DATA_SET_TYPE_GUID, "Customer orders");
+        EntityDetail term = mockEntity(THIRD_GUID, GLOSSARY_TERM_TYPE_GUID, "Customer");
+        when(repositoryHandler.getEntitiesByType(eq(USER), anyString(), anyInt(), eq(PAGE_SIZE), anyString()))
+                .thenReturn(Collections.emptyList());
+        when(repositoryHandler.getEntitiesByType(eq(USER), eq(ASSET_GUID), eq(0), eq(PAGE_SIZE), anyString()))
+                .thenReturn(Arrays.asList(customers, orders));
+        when(repositoryHandler.getEntitiesByType(eq(USER), eq(GLOSSARY_TERM_TYPE_GUID), eq(0), eq(PAGE_SIZE), anyString()))
+                .thenReturn(Collections.singletonList(term));
+
+        assertFalse(fullTextIndex.isReady());
+        assertTrue(fullTextIndex.rebuild());
+        assertTrue(fullTextIndex.isReady());
+
+        FullTextIndexStatus status = fullTextIndex.getStatus();
+        assertEquals(3, status.getDocumentCount());
+        assertTrue(status.getEnabled());
+        assertFalse(status.getRebuilding());
+
+        List<String> guids = fullTextIndex.search("cust", Collections.singletonList(ASSET_GUID), 0, 0);
+        assertEquals(2, guids.size());
+        assertTrue(guids.containsAll(Arrays.asList(FIRST_GUID, SECOND_GUID)));
+    }
+
+    @Test
+    public void search_matchesAllWordsAndFiltersByType() throws IOException {
+        fullTextIndex.indexEntity(mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Customer accounts"));
+        fullTextIndex.indexEntity(mockEntity(SECOND_GUID, DATA_SET_TYPE_GUID, "Customer orders"));
+        fullTextIndex.indexEntity(mockEntity(THIRD_GUID, GLOSSARY_TERM_TYPE_GUID, "Customer"));
+
+        assertEquals(Collections.singletonList(SECOND_GUID), fullTextIndex.search("customer ORD", null, 0, 10));
+        assertEquals(Collections.singletonList(THIRD_GUID),
+                fullTextIndex.search("customer", Collections.singletonList(GLOSSARY_TERM_TYPE_GUID), 0, 10));
+        assertEquals(3, fullTextIndex.search("customer", null, 0, 0).size());
+        assertEquals(1, fullTextIndex.search("customer", null, 2, 10).size());
+        assertNull(fullTextIndex.search(".*", null, 0, 10));
+    }
+
+    @Test
+    public void search_matchesClassificationNames() throws IOException {
+        EntityDetail entityDetail = mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Customer accounts");
+        Classification classification = new Classification();
+        classification.setName("Confidentiality");
+        entityDetail.setClassifications(Collections.singletonList(classification));
+
+        fullTextIndex.indexEntity(entityDetail);
+
+        assertEquals(Collections.singletonList(FIRST_GUID), fullTextIndex.search("confidential", null, 0, 10));
+    }
+
+    @Test
+    public void indexEntity_removesEntitiesThatAreNotActiveOrNotIndexed() throws IOException {
+        EntityDetail entityDetail = mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Customer accounts");
+        fullTextIndex.indexEntity(entityDetail);
+        fullTextIndex.indexEntity(mockEntity(SECOND_GUID, "other-type-guid", "Customer process"));
+        assertEquals(Collections.singletonList(FIRST_GUID), fullTextIndex.search("customer", null, 0, 10));
+
+        entityDetail.setStatus(InstanceStatus.DELETED);
+        fullTextIndex.indexEntity(entityDetail);
+        assertTrue(fullTextIndex.search("customer", null, 0, 10).isEmpty());
+        assertEquals(3, fullTextIndex.getStatus().getEventsApplied());
+    }
+
+    @Test
+    public void removeEntity_removesEntityFromSearchResults() throws IOException {
+        fullTextIndex.indexEntity(mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Customer accounts"));
+        fullTextIndex.indexEntity(mockEntity(SECOND_GUID, DATA_SET_TYPE_GUID, "Customer orders"));
+
+        fullTextIndex.removeEntity(FIRST_GUID);
+
+        assertEquals(Collections.singletonList(SECOND_GUID), fullTextIndex.search("customer", null, 0, 10));
+    }
+
+    @Test
+    public void rebuild_replacesTheIndexWhenComplete() throws UserNotAuthorizedException, PropertyServerException, IOException {
+        fullTextIndex.indexEntity(mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Customer accounts"));
+        when(repositoryHandler.getEntitiesByType(eq(USER), anyString(), anyInt(), eq(PAGE_SIZE), anyString()))
+                .thenReturn(Collections.emptyList());
+        when(repositoryHandler.getEntitiesByType(eq(USER), eq(ASSET_GUID), eq(0), eq(PAGE_SIZE), anyString()))
+                .thenReturn(Collections.singletonList(mockEntity(SECOND_GUID, DATA_SET_TYPE_GUID, "Customer orders")));
+
+        assertTrue(fullTextIndex.rebuild());
+
+        assertEquals(Collections.singletonList(SECOND_GUID), fullTextIndex.search("customer", null, 0, 10));
+        assertEquals(1, fullTextIndex.getStatus().getDocumentCount());
+    }
+
+    @Test
+    public void rebuild_keepsTheIndexWhenItFails() throws UserNotAuthorizedException, PropertyServerException, IOException {
+        fullTextIndex.indexEntity(mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Customer accounts"));
+        when(repositoryHandler.getEntitiesByType(eq(USER), eq(ASSET_GUID), eq(0), eq(PAGE_SIZE), anyString()))
+                .thenReturn(Collections.singletonList(mockEntity(SECOND_GUID, DATA_SET_TYPE_GUID, "Customer orders")));
+        when(repositoryHandler.getEntitiesByType(eq(USER), eq(GLOSSARY_TERM_TYPE_GUID), eq(0), eq(PAGE_SIZE), anyString()))
+                .thenThrow(PropertyServerException.class);
+
+        assertTrue(fullTextIndex.rebuild());
+
+        assertEquals(Collections.singletonList(FIRST_GUID), fullTextIndex.search("customer", null, 0, 10));
+        assertFalse(fullTextIndex.getStatus().getRebuilding());
+    }
+
+    @Test
+    public void rebuild_keepsTheVersionsFromEventsReceivedDuringTheRebuild() throws UserNotAuthorizedException, PropertyServerException, IOException {
+        EntityDetail staleCustomers = mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Customer accounts");
+        staleCustomers.setVersion(1);
+        EntityDetail removedOrders = mockEntity(SECOND_GUID, DATA_SET_TYPE_GUID, "Customer orders");
+        removedOrders.setVersion(1);
+        EntityDetail updatedCustomers = mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Client accounts");
+        updatedCustomers.setVersion(2);
+
+        when(repositoryHandler.getEntitiesByType(eq(USER), anyString(), anyInt(), eq(PAGE_SIZE), anyString()))
+                .thenReturn(Collections.emptyList());
+        when(repositoryHandler.getEntitiesByType(eq(USER), eq(ASSET_GUID), eq(0), eq(PAGE_SIZE), anyString()))
+                .thenAnswer(invocation -> {
+                    fullTextIndex.indexEntity(updatedCustomers);
+                    fullTextIndex.removeEntity(SECOND_GUID);
+                    return Arrays.asList(staleCustomers, removedOrders);
+                });
+
+        assertTrue(fullTextIndex.rebuild());
+
+        assertEquals(Collections.singletonList(FIRST_GUID), fullTextIndex.search("client", null, 0, 10));
+        assertTrue(fullTextIndex.search("customer", null, 0, 10).isEmpty());
+        assertEquals(1, fullTextIndex.getStatus().getDocumentCount());
+    }
+
+    @Test
+    public void rebuild_swapsTheIndexDirectory() throws UserNotAuthorizedException, PropertyServerException, IOException {
+        File indexDirectory = new File(temporaryFolder.getRoot(), "index");
+        fullTextIndex.close();
+        fullTextIndex = new AssetCatalogFullTextIndex(SERVER_NAME, USER, repositoryHandler, PAGE_SIZE, indexDirectory.getPath(), null);
+        fullTextIndex.indexEntity(mockEntity(FIRST_GUID, DATA_SET_TYPE_GUID, "Customer accounts"));
+        when(repositoryHandler.getEntitiesByType(eq(USER), anyString(), anyInt(), eq(PAGE_SIZE), anyString()))
+                .thenReturn(Collections.emptyList());
+        when(repositoryHandler.getEntitiesByType(eq(USER), eq(ASSET_GUID), eq(0), eq(PAGE_SIZE), anyString()))
+                .thenReturn(Collections.singletonList(mockEntity(SECOND_GUID, DATA_SET_TYPE_GUID, "Customer orders")));
+
+        assertTrue(fullTextIndex.rebuild());
+        assertEquals(Collections.singletonList(SECOND_GUID), fullTextIndex.search("customer", null, 0, 10));
+
+        fullTextIndex.indexEntity(mockEntity(THIRD_GUID, GLOSSARY_TERM_TYPE_GUID, "Customer"));
+        fullTextIndex.close();
+
+        assertFalse(new File(temporaryFolder.getRoot(), "index.rebuild").exists());
+        assertFalse(new File(temporaryFolder.getRoot(), "index.previous").exists());
+
+        fullTextIndex = new AssetCatalogFullTextIndex(SERVER_NAME, USER, repositoryHandler, PAGE_SIZE, indexDirectory.getPath(), null);
+        assertTrue(fullTextIndex.isReady());
+        assertEquals(2, fullTextIndex.search("customer", null, 0, 10).size());
+    }
+
+    private EntityDetail mockEntity(String guid, String typeGUID, String displayName) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+        entityDetail.setStatus(InstanceStatus.ACTIVE);
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefGUID(typeGUID);
+        if (DATA_SET_TYPE_GUID.equals(typeGUID)) {
+            TypeDefLink superType = new TypeDefLink();
+            superType.setGUID(ASSET_GUID);
+            instanceType.setTypeDefSuperTypes(Collections.singletonList(superType));
+        }
+        entityDetail.setType(instanceType);
+
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(displayName);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty("displayName", propertyValue);
+        entityDetail.setProperties(properties);
+
+        return entityDetail;
+    }
+}
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.As
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetListResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.ClassificationListResponse;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.FullTextIndexStatusResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.RelationshipListResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.service.AssetCatalogRESTService;
 import org.springframework.http.MediaType;
@@ -228,4 +229,32 @@ public class AssetCatalogEntityResource {
         return assetService.getSupportedTypes(serverName, userId, type);
     }
 
+    /**
+     * Returns the state of the full-text index used for searching.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     the unique identifier for the user
+     * @return the status of the full-text index
+     */
+    @GetMapping(path = "/full-text-index",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public FullTextIndexStatusResponse getFullTextIndexStatus(@PathVariable("serverName") String serverName,
+                                                              @PathVariable("userId") String userId) {
+        return assetService.getFullTextIndexStatus(serverName, userId);
+    }
+
+    /**
+     * Starts a rebuild of the full-text index from the metadata repositories.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     the unique identifier for the user
+     * @return the status of the full-text index
+     */
+    @PostMapping(path = "/full-text-index/rebuild",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public FullTextIndexStatusResponse rebuildFullTextIndex(@PathVariable("serverName") String serverName,
+                                                            @PathVariable("userId") String userId) {
+        return assetService.rebuildFullTextIndex(serverName, userId);
+    }
+
 }
@@ -61,7 +61,7 @@ public class CommunityProfileOutTopicPublisher
 
         try
         {
-            outTopicServerConnector.sendEvent(event);
+            outTopicServerConnector.sendEvent(event, principleElementGUID);
         }
         catch (Exception error)
         {
@@ -122,6 +122,8 @@ public class DataManagerAdmin extends AccessServiceAdmin
                                                                                   AccessServiceDescription.DATA_MANAGER_OMAS.getAccessServiceFullName(),
                                                                                   serverName,
                                                                                   instance),
+                                                 DataManagerOMRSTopicListener.getEventFilter(AccessServiceDescription.DATA_MANAGER_OMAS.getAccessServiceFullName(),
+                                                                                             repositoryConnector.getRepositoryHelper()),
                                                  auditLog);
             }
 
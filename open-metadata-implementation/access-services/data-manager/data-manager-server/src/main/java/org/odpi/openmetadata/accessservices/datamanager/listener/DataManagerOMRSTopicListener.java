@@ -13,14 +13,18 @@ import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMappe
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -32,6 +36,44 @@ public class DataManagerOMRSTopicListener extends OMRSTopicListenerBase
 {
     private static final Logger log = LoggerFactory.getLogger(DataManagerOMRSTopicListener.class);
 
+    /*
+     * The types of the elements that are published on the out topic.
+     */
+    private static final List<String> entityTypeNames = Arrays.asList(OpenMetadataAPIMapper.DATA_SET_TYPE_NAME,
+                                                                        OpenMetadataAPIMapper.DATA_STORE_TYPE_NAME,
+                                                                        OpenMetadataAPIMapper.SCHEMA_ELEMENT_TYPE_NAME);
+
+    private static final List<String> relationshipTypeNames = Arrays.asList(OpenMetadataAPIMapper.DATA_CONTENT_FOR_DATA_SET_TYPE_NAME,
+                                                                              OpenMetadataAPIMapper.ASSET_TO_SCHEMA_TYPE_TYPE_NAME,
+                                                                              OpenMetadataAPIMapper.ATTRIBUTE_TO_TYPE_RELATIONSHIP_TYPE_NAME,
+                                                                              OpenMetadataAPIMapper.TYPE_TO_ATTRIBUTE_RELATIONSHIP_TYPE_NAME,
+                                                                              OpenMetadataAPIMapper.SCHEMA_QUERY_TARGET_RELATIONSHIP_TYPE_NAME,
+                                                                              OpenMetadataAPIMapper.LINKED_EXTERNAL_SCHEMA_TYPE_RELATIONSHIP_TYPE_NAME,
+                                                                              OpenMetadataAPIMapper.MAP_FROM_RELATIONSHIP_TYPE_NAME,
+                                                                              OpenMetadataAPIMapper.MAP_TO_RELATIONSHIP_TYPE_NAME,
+                                                                              OpenMetadataAPIMapper.SCHEMA_TYPE_OPTION_RELATIONSHIP_TYPE_NAME);
+
+    /*
+     * The instance events that this listener processes.
+     */
+    private static final List<OMRSInstanceEventType> instanceEventTypes = Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.DELETE_PURGED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.RETYPED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.RE_HOMED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.DELETED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.DELETE_PURGED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.RE_IDENTIFIED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.RETYPED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.RE_HOMED_RELATIONSHIP_EVENT);
+
     private List<String>                               supportedZones;
     private DataManagerOutTopicPublisher               publisher;
     private OMRSRepositoryHelper                       repositoryHelper;
@@ -71,6 +113,50 @@ public class DataManagerOMRSTopicListener extends OMRSTopicListenerBase
     }
 
 
+    /**
+     * Return the filter that describes the instance events that this listener processes.  It is used when the
+     * listener registers with the enterprise topic so that the other instance events are not passed to it.
+     * The zones are not included because the visibility of an element depends on the zones of its anchor.
+     *
+     * @param serviceName name of this service
+     * @param repositoryHelper repository helper
+     * @return filter
+     */
+    public static OMRSTopicListenerFilter getEventFilter(String               serviceName,
+                                                         OMRSRepositoryHelper repositoryHelper)
+    {
+        List<String> instanceTypeNames = new ArrayList<>(entityTypeNames);
+
+        instanceTypeNames.addAll(relationshipTypeNames);
+
+        return new OMRSTopicListenerFilter(serviceName, repositoryHelper, instanceTypeNames, instanceEventTypes, null);
+    }
+
+
+    /**
+     * Return whether the instance type is one of the types in the list or a subtype of one of them.
+     *
+     * @param sourceName source of the event
+     * @param instanceTypeName type of the instance
+     * @param typeNames list of types
+     * @return boolean flag
+     */
+    private boolean isTypeOf(String       sourceName,
+                             String       instanceTypeName,
+                             List<String> typeNames)
+    {
+        for (String typeName : typeNames)
+        {
+            if (repositoryHelper.isTypeOf(sourceName, instanceTypeName, typeName))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
     /**
      * An entity has been changed.
      *
@@ -112,9 +198,7 @@ public class DataManagerOMRSTopicListener extends OMRSTopicListenerBase
             {
                 ElementStub elementStub = converter.getElementStub(ElementStub.class, entity, methodName);
 
-                if ((repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.DATA_SET_TYPE_NAME)) ||
-                    (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.DATA_STORE_TYPE_NAME)) ||
-                    (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.SCHEMA_ELEMENT_TYPE_NAME)))
+                if (this.isTypeOf(sourceName, instanceTypeName, entityTypeNames))
                 {
                     genericHandler.validateAnchorEntity(serverUserId,
                                                         entity.getGUID(),
@@ -189,15 +273,7 @@ public class DataManagerOMRSTopicListener extends OMRSTopicListenerBase
                 ElementStub endOneElementStub = converter.getElementStub(ElementStub.class, relationship.getEntityOneProxy(), methodName);
                 ElementStub endTwoElementStub = converter.getElementStub(ElementStub.class, relationship.getEntityTwoProxy(), methodName);
 
-                if ((repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.DATA_CONTENT_FOR_DATA_SET_TYPE_NAME)) ||
-                            (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.ASSET_TO_SCHEMA_TYPE_TYPE_NAME)) ||
-                            (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.ATTRIBUTE_TO_TYPE_RELATIONSHIP_TYPE_NAME)) ||
-                            (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.TYPE_TO_ATTRIBUTE_RELATIONSHIP_TYPE_NAME)) ||
-                            (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.SCHEMA_QUERY_TARGET_RELATIONSHIP_TYPE_NAME)) ||
-                            (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.LINKED_EXTERNAL_SCHEMA_TYPE_RELATIONSHIP_TYPE_NAME)) ||
-                            (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.MAP_FROM_RELATIONSHIP_TYPE_NAME)) ||
-                            (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.MAP_TO_RELATIONSHIP_TYPE_NAME)) ||
-                            (repositoryHelper.isTypeOf(sourceName, instanceTypeName, OpenMetadataAPIMapper.SCHEMA_TYPE_OPTION_RELATIONSHIP_TYPE_NAME)))
+                if (this.isTypeOf(sourceName, instanceTypeName, relationshipTypeNames))
                 {
                     genericHandler.validateAnchorEntity(serverUserId,
                                                         relationship.getEntityOneProxy().getGUID(),
@@ -60,7 +60,7 @@ public class DataManagerOutTopicPublisher
 
         try
         {
-            outTopicServerConnector.sendEvent(event);
+            outTopicServerConnector.sendEvent(event, principleElementGUID);
         }
         catch (Exception error)
         {
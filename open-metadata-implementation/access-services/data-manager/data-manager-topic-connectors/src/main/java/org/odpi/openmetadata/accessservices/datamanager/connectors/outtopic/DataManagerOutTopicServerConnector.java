@@ -26,6 +26,21 @@ public class DataManagerOutTopicServerConnector extends OpenMetadataTopicSenderC
      * @throws ConnectorCheckedException there is a problem with the embedded event bus connector(s)./
      */
     public void sendEvent(DataManagerOutboundEvent event) throws InvalidParameterException, ConnectorCheckedException
+    {
+        sendEvent(event, null);
+    }
+
+
+    /**
+     * Send the request to the embedded event bus connector(s).
+     *
+     * @param event event object
+     * @param partitionKey key used to choose the partition for the event, typically the unique identifier of the principle element
+     * @throws InvalidParameterException the event is null
+     * @throws ConnectorCheckedException there is a problem with the embedded event bus connector(s)./
+     */
+    public void sendEvent(DataManagerOutboundEvent event,
+                          String                   partitionKey) throws InvalidParameterException, ConnectorCheckedException
     {
         final String methodName = "sendEvent";
         ObjectMapper objectMapper = new ObjectMapper();
@@ -33,7 +48,7 @@ public class DataManagerOutTopicServerConnector extends OpenMetadataTopicSenderC
         try
         {
             String eventString = objectMapper.writeValueAsString(event);
-            super.sendEvent(eventString);
+            super.sendEvent(eventString, partitionKey);
 
             if (super.auditLog != null)
             {
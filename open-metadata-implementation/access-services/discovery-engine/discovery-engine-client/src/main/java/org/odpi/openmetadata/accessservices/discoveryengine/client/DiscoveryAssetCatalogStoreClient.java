@@ -6,6 +6,7 @@ package org.odpi.openmetadata.accessservices.discoveryengine.client;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.AssetUniverse;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryAssetCatalogStore;
 
 import java.util.List;
@@ -145,4 +146,22 @@ public class DiscoveryAssetCatalogStoreClient extends DiscoveryAssetCatalogStore
     {
         return discoveryEngineClient.findAssetsByEndpoint(userId, networkAddress, startFrom, pageSize);
     }
+
+
+    /**
+     * Return the properties of an asset from the asset catalog.
+     *
+     * @param assetGUID unique identifier of the asset
+     * @return a comprehensive collection of properties about the asset
+     * @throws InvalidParameterException the asset guid is not recognized
+     * @throws UserNotAuthorizedException the user is not authorized to access the asset
+     * @throws PropertyServerException there was a problem in the store whether the asset properties are kept.
+     */
+    @Override
+    public AssetUniverse getAssetProperties(String   assetGUID) throws InvalidParameterException,
+                                                                       UserNotAuthorizedException,
+                                                                       PropertyServerException
+    {
+        return discoveryEngineClient.getAssetProperties(userId, assetGUID);
+    }
 }
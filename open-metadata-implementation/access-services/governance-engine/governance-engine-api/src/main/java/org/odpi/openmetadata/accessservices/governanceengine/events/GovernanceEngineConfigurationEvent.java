@@ -21,6 +21,7 @@ public class GovernanceEngineConfigurationEvent extends GovernanceEngineEvent
 {
     private static final long serialVersionUID = 1L;
 
+    private long configurationVersion = 0L;
 
 
     /**
@@ -40,6 +41,34 @@ public class GovernanceEngineConfigurationEvent extends GovernanceEngineEvent
     public GovernanceEngineConfigurationEvent(GovernanceEngineConfigurationEvent template)
     {
         super(template);
+
+        if (template != null)
+        {
+            configurationVersion = template.getConfigurationVersion();
+        }
+    }
+
+
+    /**
+     * Return the version of the metadata element whose change caused this event.  The governance server uses it to
+     * ignore events that arrive after a later change has been applied.  Zero means the version is not known.
+     *
+     * @return long version number
+     */
+    public long getConfigurationVersion()
+    {
+        return configurationVersion;
+    }
+
+
+    /**
+     * Set up the version of the metadata element whose change caused this event.
+     *
+     * @param configurationVersion long version number
+     */
+    public void setConfigurationVersion(long configurationVersion)
+    {
+        this.configurationVersion = configurationVersion;
     }
 
 
@@ -53,10 +82,49 @@ public class GovernanceEngineConfigurationEvent extends GovernanceEngineEvent
     public String toString()
     {
         return "GovernanceEngineConfigurationEvent{" +
-                       "eventVersionId=" + getEventVersionId() +
+                       "configurationVersion=" + configurationVersion +
+                       ", eventVersionId=" + getEventVersionId() +
                        ", eventType=" + getEventType() +
                        ", governanceEngineGUID='" + getGovernanceEngineGUID() + '\'' +
                        ", governanceEngineName='" + getGovernanceEngineName() + '\'' +
                        '}';
     }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        GovernanceEngineConfigurationEvent that = (GovernanceEngineConfigurationEvent) objectToCompare;
+        return configurationVersion == that.configurationVersion;
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), configurationVersion);
+    }
 }
@@ -26,8 +26,10 @@ public class GovernanceServiceConfigurationEvent extends GovernanceEngineEvent
     private static final long serialVersionUID = 1L;
 
     private String              registeredGovernanceServiceGUID = null;
+    private String              registrationGUID                = null;
     private String              requestType                     = null;
     private Map<String, String> requestParameters               = null;
+    private long                configurationVersion            = 0L;
 
 
     /**
@@ -50,8 +52,10 @@ public class GovernanceServiceConfigurationEvent extends GovernanceEngineEvent
         if (template != null)
         {
             registeredGovernanceServiceGUID = template.getRegisteredGovernanceServiceGUID();
+            registrationGUID = template.getRegistrationGUID();
             requestType = template.getRequestType();
             requestParameters = template.getRequestParameters();
+            configurationVersion = template.getConfigurationVersion();
         }
     }
 
@@ -78,6 +82,30 @@ public class GovernanceServiceConfigurationEvent extends GovernanceEngineEvent
     }
 
 
+    /**
+     * Return the unique identifier of the relationship that registers the governance service with the governance engine
+     * for the request type.  The configuration version is the version of this relationship.
+     *
+     * @return string guid
+     */
+    public String getRegistrationGUID()
+    {
+        return registrationGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the relationship that registers the governance service with the governance engine
+     * for the request type.
+     *
+     * @param registrationGUID string guid
+     */
+    public void setRegistrationGUID(String registrationGUID)
+    {
+        this.registrationGUID = registrationGUID;
+    }
+
+
     /**
      * Return a governance request type for the governance service affected by the change.
      *
@@ -131,6 +159,29 @@ public class GovernanceServiceConfigurationEvent extends GovernanceEngineEvent
     }
 
 
+    /**
+     * Return the version of the registered governance service relationship whose change caused this event.  The governance
+     * server uses it to ignore events that arrive after a later change to the same request type has been applied.  Zero means the version is not known.
+     *
+     * @return long version number
+     */
+    public long getConfigurationVersion()
+    {
+        return configurationVersion;
+    }
+
+
+    /**
+     * Set up the version of the metadata element whose change caused this event.
+     *
+     * @param configurationVersion long version number
+     */
+    public void setConfigurationVersion(long configurationVersion)
+    {
+        this.configurationVersion = configurationVersion;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -141,8 +192,10 @@ public class GovernanceServiceConfigurationEvent extends GovernanceEngineEvent
     {
         return "GovernanceServiceConfigurationEvent{" +
                        "registeredGovernanceServiceGUID='" + registeredGovernanceServiceGUID + '\'' +
+                       ", registrationGUID='" + registrationGUID + '\'' +
                        ", requestType='" + requestType + '\'' +
                        ", requestParameters=" + requestParameters +
+                       ", configurationVersion=" + configurationVersion +
                        ", eventVersionId=" + getEventVersionId() +
                        ", eventType=" + getEventType() +
                        ", governanceEngineGUID='" + getGovernanceEngineGUID() + '\'' +
@@ -174,8 +227,10 @@ public class GovernanceServiceConfigurationEvent extends GovernanceEngineEvent
         }
         GovernanceServiceConfigurationEvent that = (GovernanceServiceConfigurationEvent) objectToCompare;
         return Objects.equals(registeredGovernanceServiceGUID, that.registeredGovernanceServiceGUID) &&
+                Objects.equals(registrationGUID, that.registrationGUID) &&
                 Objects.equals(requestType, that.requestType) &&
-                Objects.equals(requestParameters, that.requestParameters);
+                Objects.equals(requestParameters, that.requestParameters) &&
+                configurationVersion == that.configurationVersion;
     }
 
 
@@ -187,6 +242,7 @@ public class GovernanceServiceConfigurationEvent extends GovernanceEngineEvent
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), registeredGovernanceServiceGUID, requestType, requestParameters);
+        return Objects.hash(super.hashCode(), registeredGovernanceServiceGUID, registrationGUID, requestType, requestParameters,
+                            configurationVersion);
     }
 }
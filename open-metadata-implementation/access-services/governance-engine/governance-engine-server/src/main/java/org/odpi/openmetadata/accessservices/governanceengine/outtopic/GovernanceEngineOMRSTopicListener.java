@@ -93,6 +93,24 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
     private boolean processGovernanceEngineEvent(String         sourceName,
                                                  EntityDetail   entity,
                                                  String         methodName)
+    {
+        return processGovernanceEngineEvent(sourceName, entity, (entity == null) ? 0L : entity.getVersion(), methodName);
+    }
+
+
+    /**
+     * Process an entity extracted from an event.
+     *
+     * @param sourceName source of the event
+     * @param entity entity from the event
+     * @param configurationVersion version to pass on to the governance engines - zero if they must not compare it
+     * @param methodName calling method (indicates type of event action)
+     * @return boolean flag indicating that the event is processed
+     */
+    private boolean processGovernanceEngineEvent(String         sourceName,
+                                                 EntityDetail   entity,
+                                                 long           configurationVersion,
+                                                 String         methodName)
     {
         if (entity != null)
         {
@@ -108,7 +126,8 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                                                                       repositoryHelper.getStringProperty(sourceName,
                                                                                                          OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
                                                                                                          entity.getProperties(),
-                                                                                                         methodName));
+                                                                                                         methodName),
+                                                                      configurationVersion);
                     return true;
                 }
             }
@@ -156,6 +175,27 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
     private boolean processSupportedGovernanceService(String       sourceName,
                                                       Relationship relationship,
                                                       String       methodName)
+    {
+        return processSupportedGovernanceService(sourceName,
+                                                 relationship,
+                                                 (relationship == null) ? 0L : relationship.getVersion(),
+                                                 methodName);
+    }
+
+
+    /**
+     * Process a relationship extracted from an event.
+     *
+     * @param sourceName source of the event
+     * @param relationship relationship from the event
+     * @param configurationVersion version to pass on to the governance engines - zero if they must not compare it
+     * @param methodName calling method (indicates type of event action)
+     * @return boolean flag indicating that the event is processed
+     */
+    private boolean processSupportedGovernanceService(String       sourceName,
+                                                      Relationship relationship,
+                                                      long         configurationVersion,
+                                                      String       methodName)
     {
         if (relationship != null)
         {
@@ -167,20 +207,26 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                                               type.getTypeDefName(),
                                               OpenMetadataAPIMapper.SUPPORTED_GOVERNANCE_SERVICE_TYPE_NAME))
                 {
+                    /*
+                     * End 1 is the governance engine and end 2 is the governance service.
+                     */
+                    EntityProxy end1 = relationship.getEntityOneProxy();
                     EntityProxy end2 = relationship.getEntityTwoProxy();
 
-                    if (end2 != null)
+                    if ((end1 != null) && (end2 != null))
                     {
-                        eventPublisher.publishRefreshGovernanceServiceEvent(end2.getGUID(),
+                        eventPublisher.publishRefreshGovernanceServiceEvent(end1.getGUID(),
                                                                            repositoryHelper.getStringProperty(sourceName,
                                                                                                               OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
-                                                                                                              end2.getUniqueProperties(),
+                                                                                                              end1.getUniqueProperties(),
                                                                                                               methodName),
+                                                                           end2.getGUID(),
                                                                            relationship.getGUID(),
                                                                            repositoryHelper.getStringProperty(sourceName,
                                                                                                               OpenMetadataAPIMapper.REQUEST_TYPE_PROPERTY_NAME,
                                                                                                               relationship.getProperties(),
-                                                                                                              methodName));
+                                                                                                              methodName),
+                                                                           configurationVersion);
                         return true;
                     }
                 }
@@ -939,7 +985,10 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
     {
         final String methodName = "processUndoneEntityEvent";
 
-        if ((! processGovernanceEngineEvent(sourceName, entity, methodName)) &&
+        /*
+         * An undo restores an earlier version of the entity, so the governance engines do not compare its version.
+         */
+        if ((! processGovernanceEngineEvent(sourceName, entity, 0L, methodName)) &&
                     (! processGovernanceActionEvent(sourceName, entity, methodName)) &&
                     (! excludeGovernanceManagementEvents(sourceName, entity)))
         {
@@ -1373,7 +1422,10 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
     {
         final String methodName = "processUndoneRelationshipEvent";
 
-        if ((! processSupportedGovernanceService(sourceName, relationship, methodName)) &&
+        /*
+         * An undo restores an earlier version of the relationship, so the governance engines do not compare its version.
+         */
+        if ((! processSupportedGovernanceService(sourceName, relationship, 0L, methodName)) &&
                     (! excludeGovernanceManagementEvents(sourceName, relationship)))
         {
             processWatchdogEvent(sourceName, WatchdogEventType.REFRESHED_RELATIONSHIP, relationship, nullRelationship, methodName);
@@ -48,9 +48,11 @@ public class GovernanceEngineOutTopicPublisher
      *
      * @param governanceEngineGUID unique identifier for the governance engine
      * @param governanceEngineName unique name for the governance engine
+     * @param configurationVersion version of the governance engine entity that changed
      */
     void publishRefreshGovernanceEngineEvent(String governanceEngineGUID,
-                                             String governanceEngineName)
+                                             String governanceEngineName,
+                                             long   configurationVersion)
     {
         final String methodName = "publishRefreshGovernanceEngineEvent";
 
@@ -63,6 +65,7 @@ public class GovernanceEngineOutTopicPublisher
                 newEvent.setEventType(GovernanceEngineEventType.REFRESH_GOVERNANCE_ENGINE_EVENT);
                 newEvent.setGovernanceEngineGUID(governanceEngineGUID);
                 newEvent.setGovernanceEngineName(governanceEngineName);
+                newEvent.setConfigurationVersion(configurationVersion);
 
                 outTopicServerConnector.sendEvent(newEvent);
 
@@ -87,13 +90,17 @@ public class GovernanceEngineOutTopicPublisher
      * @param governanceEngineGUID unique identifier for the governance engine
      * @param governanceEngineName unique name for the governance engine
      * @param registeredGovernanceServiceGUID unique identifier for the registered governance service
+     * @param registrationGUID unique identifier of the relationship that registers the governance service
      * @param governanceRequestType a governance request type that triggers the instantiation of the
      *                              governance service
+     * @param configurationVersion version of the relationship that registers the governance service
      */
     void publishRefreshGovernanceServiceEvent(String       governanceEngineGUID,
                                               String       governanceEngineName,
                                               String       registeredGovernanceServiceGUID,
-                                              String       governanceRequestType)
+                                              String       registrationGUID,
+                                              String       governanceRequestType,
+                                              long         configurationVersion)
     {
         final String methodName = "publishRefreshGovernanceServiceEvent";
 
@@ -107,7 +114,9 @@ public class GovernanceEngineOutTopicPublisher
                 newEvent.setGovernanceEngineGUID(governanceEngineGUID);
                 newEvent.setGovernanceEngineName(governanceEngineName);
                 newEvent.setRegisteredGovernanceServiceGUID(registeredGovernanceServiceGUID);
+                newEvent.setRegistrationGUID(registrationGUID);
                 newEvent.setRequestType(governanceRequestType);
+                newEvent.setConfigurationVersion(configurationVersion);
 
                 outTopicServerConnector.sendEvent(newEvent);
 
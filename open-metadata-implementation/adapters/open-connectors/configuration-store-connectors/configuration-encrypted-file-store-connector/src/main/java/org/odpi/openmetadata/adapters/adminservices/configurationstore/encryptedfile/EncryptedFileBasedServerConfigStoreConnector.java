@@ -7,6 +7,7 @@ import com.google.crypto.tink.*;
 import com.google.crypto.tink.aead.AeadConfig;
 import com.google.crypto.tink.aead.AeadKeyTemplates;
 import com.google.crypto.tink.proto.KeyTemplate;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigFileCache;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreRetrieveAll;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
@@ -24,6 +25,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.text.MessageFormat;
 import java.text.ParseException;
@@ -36,7 +38,11 @@ import java.util.stream.Stream;
 
 /**
  * EncryptedFileBasedServerConfigStoreConnector is the OCF connector for the encrypted file based server
- * configuration store.
+ * configuration store.  The decrypted content of the file is cached in an OMAGServerConfigFileCache that is shared
+ * by all of the connectors for the same file, and the encryption primitive is kept for as long as the key store
+ * is unchanged.  Updates are encrypted when they are saved and written to the file before saveServerConfig returns
+ * unless the connection's configuration properties set a write-behind delay (writeBehindDelay).  Any pending update
+ * is written when the connector is disconnected.
  */
 public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements OMAGServerConfigStoreRetrieveAll {
 
@@ -50,6 +56,16 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     private static final KeyTemplate KEY_TEMPLATE              = AeadKeyTemplates.CHACHA20_POLY1305;
 
     private String configStoreName  = null;
+    private long   writeBehindDelay = OMAGServerConfigFileCache.DEFAULT_WRITE_BEHIND_DELAY;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /*
+     * The encryption primitive built from the key store, along with a fingerprint of the key store it was built from.
+     * The fingerprint is a digest so that the key material is not held in a second place.
+     */
+    private static String cachedAeadSource = null;
+    private static Aead   cachedAead       = null;
 
     private static final Logger log = LoggerFactory.getLogger(EncryptedFileBasedServerConfigStoreConnector.class);
 
@@ -76,6 +92,7 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
         String configStoreTemplateName = getStoreTemplateName();
 
         configStoreName = super.getStoreName(configStoreTemplateName, serverName);
+        writeBehindDelay = OMAGServerConfigFileCache.getWriteBehindDelay(connectionProperties.getConfigurationProperties());
 
         try {
             AeadConfig.register();
@@ -123,10 +140,9 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
                 log.debug("Writing encrypted server configuration.");
                 Aead aead = getAead(true);
                 if (aead != null) {
-                    ObjectMapper objectMapper = new ObjectMapper();
                     String configStoreFileContents = objectMapper.writeValueAsString(omagServerConfig);
                     byte[] ciphertext = aead.encrypt(configStoreFileContents.getBytes(StandardCharsets.UTF_8), null);
-                    FileUtils.writeByteArrayToFile(configStoreFile, ciphertext, false);
+                    OMAGServerConfigFileCache.getCache(configStoreFile).saveServerConfig(omagServerConfig, ciphertext, writeBehindDelay);
                 } else {
                     throw new OCFRuntimeException(DocStoreErrorCode.AEAD_UNAVAILABLE.getMessageDefinition(),
                             this.getClass().getName(),
@@ -151,23 +167,43 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     public OMAGServerConfig  retrieveServerConfig() {
 
         final String methodName = "retrieveServerConfig";
-        OMAGServerConfig newConfigProperties = null;
+
+        try {
+            return OMAGServerConfigFileCache.getCache(getConfigStoreFile()).retrieveServerConfig(this::loadConfigStoreFileContents);
+        } catch (IOException e) {
+            throw new OCFRuntimeException(DocStoreErrorCode.READ_ERROR.getMessageDefinition(e.getClass().getName(), e.getMessage()),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
+    }
+
+    /**
+     * Read, decrypt and parse the configuration file.  This is called by the cache when the file has changed since it was
+     * last read.
+     * @param configStoreFile configuration file
+     * @return configuration document or null if there is no configuration file
+     * @throws IOException the decrypted configuration document can not be parsed
+     */
+    private OMAGServerConfig loadConfigStoreFileContents(File configStoreFile) throws IOException {
+
+        final String methodName = "retrieveServerConfig";
+        String configStoreFileContents = null;
 
         boolean isEnvVar  = isEnvBasedKeystore();
         boolean isKeyFile = isFileBasedKeystore();
 
-        File configStoreFile = getConfigStoreFile();
         if (configStoreFile.exists()) {
 
             // If we have a configuration file, first try to read it as clear-text (unencrypted)...
             try {
                 log.debug("Attempting to retrieve clear-text server configuration properties");
-                String configStoreFileContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
-                ObjectMapper objectMapper = new ObjectMapper();
-                newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+                String clearTextContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
+                OMAGServerConfig newConfigProperties = objectMapper.readValue(clearTextContents, OMAGServerConfig.class);
                 // Assuming we are able to read it (unencrypted), immediately auto-encrypt it
                 log.info("Found unencrypted configuration document -- automatically encrypting it.");
                 saveServerConfig(newConfigProperties);
+                return newConfigProperties;
             } catch (IOException e) {
                 // If reading it as clear-text fails, and we have no keyset defined, then the configuration document
                 // is probably encrypted and we have no way of decrypting it
@@ -175,24 +211,19 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
                     throw new OCFRuntimeException(DocStoreErrorCode.NO_KEYSTORE.getMessageDefinition(),
                             this.getClass().getName(),
                             methodName, e);
-                } else {
-                    // Ensure that nothing has been set to the config properties
-                    newConfigProperties = null;
                 }
             }
 
-            // If we are here, without a newConfigProperties set, we have an existing configuration file AND
+            // If we are here, without the contents set, we have an existing configuration file AND
             // a keyset, so attempt to decrypt the configuration file using that keyset
-            if (newConfigProperties == null) {
+            if (configStoreFileContents == null) {
                 try {
                     log.debug("Retrieving encrypted server configuration properties");
                     Aead aead = getAead(false);
                     if (aead != null) {
                         byte[] ciphertext = FileUtils.readFileToByteArray(configStoreFile);
                         byte[] decrypted = aead.decrypt(ciphertext, null);
-                        String configStoreFileContents = new String(decrypted, StandardCharsets.UTF_8);
-                        ObjectMapper objectMapper = new ObjectMapper();
-                        newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+                        configStoreFileContents = new String(decrypted, StandardCharsets.UTF_8);
                     } else {
                         // If we have a configuration file, but no key anywhere to use to decrypt it, throw an error immediately
                         throw new OCFRuntimeException(DocStoreErrorCode.NO_KEYSTORE.getMessageDefinition(),
@@ -208,7 +239,11 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
 
         }
 
-        return newConfigProperties;
+        if (configStoreFileContents != null) {
+            return objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+        }
+
+        return null;
 
     }
 
@@ -218,10 +253,12 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     @Override
     public void removeServerConfig() {
         final String methodName = "removeServerConfig";
+        OMAGServerConfigFileCache.getCache(getConfigStoreFile()).removeContent();
         File keystore = getFileBasedKeystore(false);
-        if (keystore.exists()) {
+        if (keystore != null && keystore.exists()) {
             try {
                 Files.delete(keystore.toPath());
+                clearCachedAead();
             } catch (IOException e) {
                 throw new OCFRuntimeException(DocStoreErrorCode.KEYSTORE_DELETE_ERROR.getMessageDefinition(e.getClass().getName(), e.getMessage()),
                         this.getClass().getName(),
@@ -243,6 +280,8 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     public Set<OMAGServerConfig> retrieveAllServerConfigs() {
         final String methodName = "retrieveAllServerConfigs";
         Set<OMAGServerConfig> omagServerConfigSet = new HashSet<>();
+        // Make sure that recently saved configuration documents are on disk before listing the files.
+        OMAGServerConfigFileCache.flushAll();
         try (Stream<Path> list = Files.list(Paths.get(".")))
         {
             // we need to use the configStoreTemplateName to pick up any files that match this shape.
@@ -289,11 +328,24 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     }
 
     /**
-     * {@inheritDoc}
+     * Close the config file.  Any update that is waiting for the write-behind delay is written now.
+     *
+     * @throws ConnectorCheckedException the pending update can not be written
      */
     @Override
-    public void disconnect() {
+    public void disconnect() throws ConnectorCheckedException {
+        final String methodName = "disconnect";
         log.debug("Closing Config Store.");
+        if (configStoreName != null) {
+            try {
+                OMAGServerConfigFileCache.getCache(new File(configStoreName)).flush();
+            } catch (IOException e) {
+                throw new ConnectorCheckedException(DocStoreErrorCode.WRITE_ERROR.getMessageDefinition(e.getClass().getName(), e.getMessage()),
+                        this.getClass().getName(),
+                        methodName, e);
+            }
+        }
+        super.disconnect();
     }
 
     /**
@@ -326,23 +378,70 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
 
 
     /**
-     * Retrieve the Authenticated Encryption with Associated Data handler.
+     * Retrieve the Authenticated Encryption with Associated Data handler.  The handler is reused for as long as
+     * the key store it was built from is unchanged.
      * @param generateIfNotExists indicates whether to generate a handler if it does not exist (true) or not (false)
      * @return Aead
      * @throws GeneralSecurityException on any error
      */
     private Aead getAead(boolean generateIfNotExists) throws GeneralSecurityException {
-        KeysetHandle keysetHandle = getKeysetHandleFromEnv();
-        if (keysetHandle == null) {
-            keysetHandle = getKeysetHandleFromFile(generateIfNotExists);
+        String envKeystore = getEnvKeystore();
+        File   secureFile  = null;
+        String aeadSource;
+        if (envKeystore != null) {
+            aeadSource = getFingerprint(KEY_ENV_VAR + ':' + envKeystore);
+        } else {
+            secureFile = getFileBasedKeystore(generateIfNotExists);
+            if (secureFile == null) {
+                return null;
+            }
+            aeadSource = getFingerprint(secureFile.getAbsolutePath() + ':' + secureFile.lastModified() + ':' + secureFile.length());
+        }
+
+        synchronized (EncryptedFileBasedServerConfigStoreConnector.class) {
+            if (aeadSource.equals(cachedAeadSource)) {
+                return cachedAead;
+            }
+        }
+
+        KeysetHandle keysetHandle;
+        if (envKeystore != null) {
+            keysetHandle = getKeysetHandleFromEnv();
+        } else {
+            keysetHandle = getKeysetHandleFromFile(secureFile);
         }
         if (keysetHandle != null) {
-            return keysetHandle.getPrimitive(Aead.class);
+            Aead aead = keysetHandle.getPrimitive(Aead.class);
+            synchronized (EncryptedFileBasedServerConfigStoreConnector.class) {
+                cachedAeadSource = aeadSource;
+                cachedAead = aead;
+            }
+            return aead;
         } else {
             return null;
         }
     }
 
+    /**
+     * Return a fingerprint that identifies a key store without revealing its content.
+     *
+     * @param keystoreDescription key material or the location and version of the key file
+     * @return base64 encoded SHA-256 digest
+     * @throws GeneralSecurityException the digest algorithm is not available
+     */
+    private static String getFingerprint(String keystoreDescription) throws GeneralSecurityException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return Base64.getEncoder().encodeToString(digest.digest(keystoreDescription.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Discard the encryption primitive because its key store has been removed.
+     */
+    private static synchronized void clearCachedAead() {
+        cachedAeadSource = null;
+        cachedAead = null;
+    }
+
     /**
      * Indicates whether there is any environment variable-based key store defined.
      * @return boolean true if the environment variable EGERIA_CONFIG_KEYS is defined, otherwise false
@@ -468,14 +567,13 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
 
     /**
      * Retrieves the keyset handle for a file-based key store.
-     * @param generateIfNotExists indicates whether to generate a new handle if none already exists (true) or not (false).
+     * @param secureFile file containing the key store
      * @return KeysetHandle
      */
-    private KeysetHandle getKeysetHandleFromFile(boolean generateIfNotExists) {
+    private KeysetHandle getKeysetHandleFromFile(File secureFile) {
 
         final String methodName = "getEncryptionKeyFromFile";
         KeysetHandle keysetHandle;
-        File secureFile = getFileBasedKeystore(generateIfNotExists);
 
         log.debug("Attempting to retrieve encryption key from secure local file.");
         try {
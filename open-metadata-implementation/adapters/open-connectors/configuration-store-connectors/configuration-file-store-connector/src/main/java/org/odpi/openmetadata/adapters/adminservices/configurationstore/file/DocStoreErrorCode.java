@@ -29,7 +29,11 @@ public enum DocStoreErrorCode implements ExceptionMessageSet
     CONFIG_RETRIEVE_ALL_ERROR(400, "FILE-DOC-STORE-400-001 ",
                         "Unable to retrieve the configuration files; exception was {0} with message {1}, while attempting access file {2}.",
                         "The system was unable to retrieve the configuration files.",
-                        "Review the full stack trace in the logs to troubleshoot further. Then retry the request.")
+                        "Review the full stack trace in the logs to troubleshoot further. Then retry the request."),
+    CONFIG_WRITE_ERROR(400, "FILE-DOC-STORE-400-002 ",
+                        "Unable to write the configuration file {2}; exception was {0} with message {1}.",
+                        "The system was unable to store the configuration document.  The latest configuration is kept in memory and is written by the next successful update.",
+                        "Check that the directory holding the configuration file exists and can be written to. Then retry the request.")
        ;
 
     private ExceptionMessageDefinition messageDefinition;
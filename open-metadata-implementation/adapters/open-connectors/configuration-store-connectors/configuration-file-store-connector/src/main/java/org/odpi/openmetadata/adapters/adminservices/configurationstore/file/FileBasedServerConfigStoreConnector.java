@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.adminservices.configurationstore.file;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigFileCache;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreRetrieveAll;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
@@ -15,6 +16,7 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -26,7 +28,11 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * FileBasedServerConfigStoreConnector provides a connector that manages a configuration document for an OMAG Server in a file
+ * FileBasedServerConfigStoreConnector provides a connector that manages a configuration document for an OMAG Server in a file.
+ * The content of the file is cached in an OMAGServerConfigFileCache that is shared by all of the connectors for the
+ * same file.  Updates are written to the file before saveServerConfig returns unless the connection's configuration
+ * properties set a write-behind delay (writeBehindDelay).  Any pending update is written when the connector
+ * is disconnected.
  */
 public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements OMAGServerConfigStoreRetrieveAll
 {
@@ -39,6 +45,12 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
      * Variables used in writing to the file.
      */
     private String           configStoreName  = null;
+    private long             writeBehindDelay = OMAGServerConfigFileCache.DEFAULT_WRITE_BEHIND_DELAY;
+
+    /*
+     * ObjectMapper is thread-safe and expensive to create so it is shared.
+     */
+    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     /*
      * Variables used for logging and debug.
@@ -67,6 +79,7 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
         String configStoreTemplateName = getStoreTemplateName();
 
         configStoreName = super.getStoreName(configStoreTemplateName, serverName);
+        writeBehindDelay = OMAGServerConfigFileCache.getWriteBehindDelay(connectionProperties.getConfigurationProperties());
     }
 
     /**
@@ -95,10 +108,13 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
      * Save the server configuration.
      *
      * @param omagServerConfig - configuration properties to save
+     * @throws OCFRuntimeException the configuration file can not be written
      */
     @Override
     public void saveServerConfig(OMAGServerConfig omagServerConfig)
     {
+        final String methodName = "saveServerConfig";
+
         File    configStoreFile = new File(configStoreName);
 
         try
@@ -107,20 +123,27 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
 
             if (omagServerConfig == null)
             {
-                configStoreFile.delete();
+                this.removeServerConfig();
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
                 String configStoreFileContents = objectMapper.writeValueAsString(omagServerConfig);
 
-                FileUtils.writeStringToFile(configStoreFile, configStoreFileContents, (String)null,false);
+                OMAGServerConfigFileCache.getCache(configStoreFile).saveServerConfig(omagServerConfig,
+                                                                                     configStoreFileContents.getBytes(StandardCharsets.UTF_8),
+                                                                                     writeBehindDelay);
             }
         }
         catch (IOException   ioException)
         {
             log.debug("Unusable Server config Store :(", ioException);
+
+            throw new OCFRuntimeException(DocStoreErrorCode.CONFIG_WRITE_ERROR.getMessageDefinition(ioException.getClass().getName(),
+                                                                                                   ioException.getMessage(),
+                                                                                                   configStoreName),
+                                          this.getClass().getName(),
+                                          methodName,
+                                          ioException);
         }
     }
 
@@ -140,11 +163,8 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
         {
             log.debug("Retrieving server configuration properties");
 
-            String configStoreFileContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
-
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+            newConfigProperties = OMAGServerConfigFileCache.getCache(configStoreFile).retrieveServerConfig(
+                    file -> objectMapper.readValue(FileUtils.readFileToString(file, "UTF-8"), OMAGServerConfig.class));
         }
         catch (IOException ioException)
         {
@@ -168,6 +188,7 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
     {
         File    configStoreFile = new File(configStoreName);
 
+        OMAGServerConfigFileCache.getCache(configStoreFile).removeContent();
         configStoreFile.delete();
     }
 
@@ -183,6 +204,11 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
         final String methodName = "retrieveAllServerConfigs";
         Set<OMAGServerConfig> omagServerConfigSet = new HashSet<>();
 
+        /*
+         * Make sure that recently saved configuration documents are on disk before listing the files.
+         */
+        OMAGServerConfigFileCache.flushAll();
+
         try (Stream<Path> list = Files.list(Paths.get(".")))
         {
             // we need to use the configStoreTemplateName to pick up any files that match this shape.
@@ -236,10 +262,34 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
 
 
     /**
-     * Close the config file
+     * Close the config file.  Any update that is waiting for the write-behind delay is written now.
+     *
+     * @throws ConnectorCheckedException the pending update can not be written
      */
-    public void disconnect()
+    @Override
+    public void disconnect() throws ConnectorCheckedException
     {
+        final String methodName = "disconnect";
+
         log.debug("Closing Config Store.");
+
+        if (configStoreName != null)
+        {
+            try
+            {
+                OMAGServerConfigFileCache.getCache(new File(configStoreName)).flush();
+            }
+            catch (IOException ioException)
+            {
+                throw new ConnectorCheckedException(DocStoreErrorCode.CONFIG_WRITE_ERROR.getMessageDefinition(ioException.getClass().getName(),
+                                                                                                             ioException.getMessage(),
+                                                                                                             configStoreName),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    ioException);
+            }
+        }
+
+        super.disconnect();
     }
 }
@@ -45,6 +45,12 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
              "No type name is available for the asset passed to discovery service {0}.  The full asset contents are: {1}.",
              "The discovery service terminates without running any automated metadata discovery function.",
              "This is an unexpected condition because if the metadata server was unavailable, an exception would have been caught."),
+
+    PIPELINE_SERVICE_FAILED(500, "OMAG-DISCOVERY-SERVICE-500-003 ",
+             "{0} of the {1} discovery services run by discovery pipeline {2} did not complete.  The first failure was in discovery service {3}: {4}",
+             "The discovery pipeline waited for its other discovery services to finish.  Discovery services that depend on annotations from " +
+                     "a failed discovery service were not run.",
+             "Review the error message of the failed discovery service and resolve the cause of the problem.  Once resolved, retry the discovery request."),
         ;
 
 
@@ -13,6 +13,8 @@ import org.odpi.openmetadata.frameworks.discovery.DiscoveryAssetCatalogStore;
 import org.odpi.openmetadata.frameworks.discovery.properties.SuspectDuplicateAnnotation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,12 +22,40 @@ import java.util.Map;
 /**
  * DuplicateSuspectDiscoveryService is a discovery service that looks for assets in the asset catalog that seem to be
  * duplicates of the asset supplied in the context.
+ *
+ * When the analysis parameter duplicateDetectionMode is set to bulk, it looks for duplicates among all of the
+ * assets in the asset catalog instead.  The catalog is read once to build a blocking index and an annotation
+ * is created for each pair of assets that are similar enough to be suspected duplicates.
  */
 public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
 {
-    private static final String   QUALIFIED_NAME_PROPERTY = "qualifiedName";
-    private static final String   DISPLAY_NAME_PROPERTY = "displayName";
-    private static final String   NETWORK_ADDRESS_PROPERTY = "Connection::Endpoint::address";
+    /**
+     * Analysis parameter that selects whether to look for duplicates of the asset (asset) or across the asset catalog (bulk).
+     */
+    public static final String    DETECTION_MODE_PARAMETER      = "duplicateDetectionMode";
+
+    /**
+     * Value of the duplicateDetectionMode analysis parameter that looks for duplicates across the asset catalog.
+     */
+    public static final String    BULK_DETECTION_MODE           = "bulk";
+
+    /**
+     * Analysis parameter for the lowest similarity score (0.0 to 1.0) reported in bulk mode.
+     */
+    public static final String    MINIMUM_SIMILARITY_PARAMETER  = "minimumSimilarity";
+
+    /**
+     * Analysis parameter for the largest block of the bulk index that is compared.  Larger blocks come from
+     * values that are too common to identify duplicates, such as the word "data".
+     */
+    public static final String    MAX_BLOCK_SIZE_PARAMETER      = "maxBlockSize";
+
+    private static final String   QUALIFIED_NAME_PROPERTY   = DuplicateSuspectIndex.QUALIFIED_NAME_PROPERTY;
+    private static final String   DISPLAY_NAME_PROPERTY     = DuplicateSuspectIndex.DISPLAY_NAME_PROPERTY;
+    private static final String   NETWORK_ADDRESS_PROPERTY  = DuplicateSuspectIndex.NETWORK_ADDRESS_PROPERTY;
+
+    private static final double   DEFAULT_MINIMUM_SIMILARITY = 0.5;
+    private static final int      DEFAULT_MAX_BLOCK_SIZE     = 1000;
 
     private Map<String, List<String>> suspectDuplicateReport = new HashMap<>();
 
@@ -41,6 +71,12 @@ public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
 
         super.start();
 
+        if (BULK_DETECTION_MODE.equalsIgnoreCase(getAnalysisParameter(DETECTION_MODE_PARAMETER)))
+        {
+            detectDuplicatesInCatalog();
+            return;
+        }
+
         try
         {
             String        assetGUID = discoveryContext.getAssetGUID();
@@ -80,12 +116,17 @@ public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
                 {
                     if (networkAddress != null)
                     {
-                        retrievedAssetGUIDs = assetCatalogStore.getAssetsByName(displayName,0, assetCatalogStore.getMaxPageSize());
+                        retrievedAssetGUIDs = assetCatalogStore.getAssetsByEndpoint(networkAddress,0, assetCatalogStore.getMaxPageSize());
                         this.captureDuplicateSuspects(retrievedAssetGUIDs, NETWORK_ADDRESS_PROPERTY);
                     }
                 }
             }
 
+            /*
+             * The asset matches itself.
+             */
+            suspectDuplicateReport.remove(assetGUID);
+
             recordAnnotations();
         }
         catch (ConnectorCheckedException error)
@@ -169,6 +210,7 @@ public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
 
                     annotation.setAnnotationType("Duplicate Suspect Asset");
                     annotation.setSummary("This asset appears to refer to the same physical asset.");
+                    annotation.setDuplicateAnchorGUIDs(Collections.singletonList(suspectGUID));
                     annotation.setMatchingPropertyNames(suspectDuplicateReport.get(suspectGUID));
 
                     annotationStore.addAnnotationToDiscoveryReport(annotation);
@@ -176,4 +218,181 @@ public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
             }
         }
     }
+
+
+    /**
+     * Look for duplicates across the whole asset catalog.  The catalog is read page by page and the properties
+     * of each asset are added to a blocking index.  Then the assets that share a block are compared and an
+     * annotation is created for each pair that is similar enough.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    private void detectDuplicatesInCatalog() throws ConnectorCheckedException
+    {
+        final String  methodName = "detectDuplicatesInCatalog";
+
+        try
+        {
+            DiscoveryAssetCatalogStore assetCatalogStore = discoveryContext.getAssetCatalogStore();
+            DuplicateSuspectIndex      index             = new DuplicateSuspectIndex(getIntegerAnalysisParameter(MAX_BLOCK_SIZE_PARAMETER,
+                                                                                                                 DEFAULT_MAX_BLOCK_SIZE));
+            int                        pageSize          = assetCatalogStore.getMaxPageSize();
+            int                        startFrom         = 0;
+            List<String>               assetGUIDs        = assetCatalogStore.getAssets(startFrom, pageSize);
+
+            while ((assetGUIDs != null) && (! assetGUIDs.isEmpty()))
+            {
+                for (String assetGUID : assetGUIDs)
+                {
+                    if (assetGUID != null)
+                    {
+                        AssetUniverse asset = assetCatalogStore.getAssetProperties(assetGUID);
+
+                        if (asset != null)
+                        {
+                            index.addAsset(assetGUID,
+                                           asset.getQualifiedName(),
+                                           asset.getDisplayName(),
+                                           super.getNetworkAddresses(asset));
+                        }
+                    }
+                }
+
+                if (assetGUIDs.size() < pageSize)
+                {
+                    break;
+                }
+
+                startFrom  = startFrom + pageSize;
+                assetGUIDs = assetCatalogStore.getAssets(startFrom, pageSize);
+            }
+
+            recordDuplicateSuspectPairs(index, index.getDuplicateSuspects(getMinimumSimilarity()));
+        }
+        catch (Throwable error)
+        {
+            super.handleUnexpectedException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Turn the suspected duplicate pairs from the bulk index into annotations.
+     *
+     * @param index blocking index of the asset catalog
+     * @param duplicateSuspectPairs pairs of assets that are suspected duplicates - most similar first
+     * @throws InvalidParameterException problem with the guid
+     * @throws UserNotAuthorizedException problem with user id
+     * @throws PropertyServerException problem connecting to metadata server
+     */
+    private void recordDuplicateSuspectPairs(DuplicateSuspectIndex                             index,
+                                             List<DuplicateSuspectIndex.DuplicateSuspectPair>  duplicateSuspectPairs) throws InvalidParameterException,
+                                                                                                                                 UserNotAuthorizedException,
+                                                                                                                                 PropertyServerException
+    {
+        DiscoveryAnnotationStore annotationStore = discoveryContext.getAnnotationStore();
+
+        if (duplicateSuspectPairs.isEmpty())
+        {
+            SuspectDuplicateAnnotation  annotation = new SuspectDuplicateAnnotation();
+
+            annotation.setAnnotationType("Unique Assets");
+            annotation.setSummary("No matching assets found in the " + index.getAssetCount() +
+                                          " catalogued assets based on qualified name, display name and endpoint addresses.");
+
+            annotationStore.addAnnotationToDiscoveryReport(annotation);
+        }
+        else
+        {
+            for (DuplicateSuspectIndex.DuplicateSuspectPair duplicateSuspectPair : duplicateSuspectPairs)
+            {
+                SuspectDuplicateAnnotation  annotation = new SuspectDuplicateAnnotation();
+                Map<String, String>         additionalProperties = new HashMap<>();
+
+                additionalProperties.put("similarity", String.format("%.3f", duplicateSuspectPair.getSimilarity()));
+
+                annotation.setAnnotationType("Duplicate Suspect Assets");
+                annotation.setSummary("These assets appear to refer to the same physical asset.");
+                annotation.setConfidenceLevel((int)Math.round(duplicateSuspectPair.getSimilarity() * 100));
+                annotation.setDuplicateAnchorGUIDs(Arrays.asList(duplicateSuspectPair.getFirstAssetGUID(),
+                                                                 duplicateSuspectPair.getSecondAssetGUID()));
+                annotation.setMatchingPropertyNames(duplicateSuspectPair.getMatchingPropertyNames());
+                annotation.setAdditionalProperties(additionalProperties);
+
+                annotationStore.addAnnotationToDiscoveryReport(annotation);
+            }
+        }
+    }
+
+
+    /**
+     * Return the minimum similarity score for bulk mode.
+     *
+     * @return score between 0.0 and 1.0
+     */
+    private double getMinimumSimilarity()
+    {
+        String parameterValue = getAnalysisParameter(MINIMUM_SIMILARITY_PARAMETER);
+
+        if (parameterValue != null)
+        {
+            try
+            {
+                return Double.parseDouble(parameterValue);
+            }
+            catch (NumberFormatException error)
+            {
+                // ignore the value and use the default
+            }
+        }
+
+        return DEFAULT_MINIMUM_SIMILARITY;
+    }
+
+
+    /**
+     * Return a numeric analysis parameter.
+     *
+     * @param parameterName name of the parameter
+     * @param defaultValue value to use if the parameter is not set or is not a number
+     * @return parameter value
+     */
+    private int getIntegerAnalysisParameter(String parameterName,
+                                            int    defaultValue)
+    {
+        String parameterValue = getAnalysisParameter(parameterName);
+
+        if (parameterValue != null)
+        {
+            try
+            {
+                return Integer.parseInt(parameterValue);
+            }
+            catch (NumberFormatException error)
+            {
+                // ignore the value and use the default
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Return an analysis parameter from the discovery context.
+     *
+     * @param parameterName name of the parameter
+     * @return parameter value or null
+     */
+    private String getAnalysisParameter(String parameterName)
+    {
+        Map<String, String> analysisParameters = discoveryContext.getAnalysisParameters();
+
+        if (analysisParameters != null)
+        {
+            return analysisParameters.get(parameterName);
+        }
+
+        return null;
+    }
 }
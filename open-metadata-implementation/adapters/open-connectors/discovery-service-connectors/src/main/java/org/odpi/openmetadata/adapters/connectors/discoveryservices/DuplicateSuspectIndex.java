@@ -0,0 +1,419 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * DuplicateSuspectIndex is the blocking index used by the DuplicateSuspectDiscoveryService to find suspected
+ * duplicate assets across the whole asset catalog.  Each asset is added once with its normalized qualified name,
+ * display name tokens and endpoint network addresses.  Assets are placed in blocks that share a name token,
+ * a network address or a pair of adjacent qualified name tokens.  Only assets in the same block are compared, so
+ * the catalog does not need to be searched for each asset.  A pair of assets that share several blocks is only
+ * compared in the first of them, so no record of the pairs already compared is needed.
+ */
+class DuplicateSuspectIndex
+{
+    static final String QUALIFIED_NAME_PROPERTY  = "qualifiedName";
+    static final String DISPLAY_NAME_PROPERTY    = "displayName";
+    static final String NETWORK_ADDRESS_PROPERTY = "Connection::Endpoint::address";
+
+    private static final String NAME_TOKEN_BLOCK      = "N:";
+    private static final String ADDRESS_BLOCK         = "A:";
+    private static final String QUALIFIED_NAME_BLOCK  = "Q:";
+
+    private static final double QUALIFIED_NAME_WEIGHT = 0.4;
+    private static final double DISPLAY_NAME_WEIGHT   = 0.4;
+    private static final double ADDRESS_WEIGHT        = 0.2;
+
+    private final int                         maxBlockSize;
+    private final List<AssetFingerprint>      assets = new ArrayList<>();
+    private final Map<String, List<Integer>>  blocks = new HashMap<>();
+
+
+    /**
+     * Create an empty index.
+     *
+     * @param maxBlockSize blocks with more assets than this are too common to identify duplicates and are ignored
+     */
+    DuplicateSuspectIndex(int maxBlockSize)
+    {
+        this.maxBlockSize = maxBlockSize;
+    }
+
+
+    /**
+     * Add an asset to the index.
+     *
+     * @param assetGUID unique identifier of the asset
+     * @param qualifiedName qualified name of the asset
+     * @param displayName display name of the asset
+     * @param networkAddresses network addresses of the asset's endpoints
+     */
+    void addAsset(String       assetGUID,
+                  String       qualifiedName,
+                  String       displayName,
+                  List<String> networkAddresses)
+    {
+        AssetFingerprint fingerprint = new AssetFingerprint(assetGUID, qualifiedName, displayName, networkAddresses);
+        int              assetIndex  = assets.size();
+        Set<String>      blockKeys   = new TreeSet<>();
+
+        assets.add(fingerprint);
+
+        for (String nameToken : fingerprint.nameTokens)
+        {
+            blockKeys.add(NAME_TOKEN_BLOCK + nameToken);
+        }
+
+        for (String networkAddress : fingerprint.networkAddresses)
+        {
+            blockKeys.add(ADDRESS_BLOCK + networkAddress);
+        }
+
+        for (String shingle : fingerprint.qualifiedNameShingles)
+        {
+            blockKeys.add(QUALIFIED_NAME_BLOCK + shingle);
+        }
+
+        for (String blockKey : blockKeys)
+        {
+            blocks.computeIfAbsent(blockKey, key -> new ArrayList<>()).add(assetIndex);
+            fingerprint.blockKeys.add(blockKey);
+        }
+    }
+
+
+    /**
+     * Return the number of assets in the index.
+     *
+     * @return count
+     */
+    int getAssetCount()
+    {
+        return assets.size();
+    }
+
+
+    /**
+     * Compare the assets that share a block and return the pairs that are similar enough to be suspected duplicates.
+     *
+     * @param minimumSimilarity lowest similarity score (0.0 to 1.0) that is returned
+     * @return list of suspected duplicate pairs
+     */
+    List<DuplicateSuspectPair> getDuplicateSuspects(double minimumSimilarity)
+    {
+        List<DuplicateSuspectPair> suspects = new ArrayList<>();
+
+        for (Map.Entry<String, List<Integer>> blockEntry : blocks.entrySet())
+        {
+            List<Integer> block = blockEntry.getValue();
+
+            if (! isComparedBlock(block))
+            {
+                continue;
+            }
+
+            for (int i = 0; i < block.size(); i++)
+            {
+                for (int j = i + 1; j < block.size(); j++)
+                {
+                    AssetFingerprint first  = assets.get(block.get(i));
+                    AssetFingerprint second = assets.get(block.get(j));
+
+                    if (blockEntry.getKey().equals(getFirstSharedBlockKey(first, second)))
+                    {
+                        DuplicateSuspectPair pair = compare(first, second);
+
+                        if (pair.getSimilarity() >= minimumSimilarity)
+                        {
+                            suspects.add(pair);
+                        }
+                    }
+                }
+            }
+        }
+
+        suspects.sort((pair1, pair2) -> Double.compare(pair2.getSimilarity(), pair1.getSimilarity()));
+
+        return suspects;
+    }
+
+
+    /**
+     * Return whether the assets in a block are compared.  A block with one asset has nothing to compare and
+     * a block with more than maxBlockSize assets is too common to identify duplicates.
+     *
+     * @param block positions of the assets in the block
+     * @return boolean
+     */
+    private boolean isComparedBlock(List<Integer> block)
+    {
+        return (block != null) && (block.size() >= 2) && (block.size() <= maxBlockSize);
+    }
+
+
+    /**
+     * Return the first (in key order) of the compared blocks that hold both assets.  The pair is only compared
+     * when this block is processed.
+     *
+     * @param first first asset
+     * @param second second asset
+     * @return block key or null if the assets do not share a compared block
+     */
+    private String getFirstSharedBlockKey(AssetFingerprint first,
+                                          AssetFingerprint second)
+    {
+        int firstPosition  = 0;
+        int secondPosition = 0;
+
+        while ((firstPosition < first.blockKeys.size()) && (secondPosition < second.blockKeys.size()))
+        {
+            String firstKey   = first.blockKeys.get(firstPosition);
+            int    comparison = firstKey.compareTo(second.blockKeys.get(secondPosition));
+
+            if (comparison == 0)
+            {
+                if (isComparedBlock(blocks.get(firstKey)))
+                {
+                    return firstKey;
+                }
+
+                firstPosition++;
+                secondPosition++;
+            }
+            else if (comparison < 0)
+            {
+                firstPosition++;
+            }
+            else
+            {
+                secondPosition++;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Score the similarity of two assets.  Identical qualified names always score 1.0.  Otherwise the score is a
+     * weighted combination of the overlap of the qualified name shingles, the display name tokens and the network
+     * addresses.
+     *
+     * @param first first asset
+     * @param second second asset
+     * @return scored pair
+     */
+    private DuplicateSuspectPair compare(AssetFingerprint first,
+                                         AssetFingerprint second)
+    {
+        List<String> matchingPropertyNames = new ArrayList<>();
+
+        boolean sameQualifiedName = (first.qualifiedName != null) && (first.qualifiedName.equals(second.qualifiedName));
+        boolean sameDisplayName   = (first.displayName != null) && (first.displayName.equals(second.displayName));
+        double  addressSimilarity = jaccard(first.networkAddresses, second.networkAddresses);
+
+        if (sameQualifiedName)
+        {
+            matchingPropertyNames.add(QUALIFIED_NAME_PROPERTY);
+        }
+
+        if (sameDisplayName)
+        {
+            matchingPropertyNames.add(DISPLAY_NAME_PROPERTY);
+        }
+
+        if (addressSimilarity > 0)
+        {
+            matchingPropertyNames.add(NETWORK_ADDRESS_PROPERTY);
+        }
+
+        double similarity;
+
+        if (sameQualifiedName)
+        {
+            similarity = 1.0;
+        }
+        else
+        {
+            similarity = (QUALIFIED_NAME_WEIGHT * jaccard(first.qualifiedNameShingles, second.qualifiedNameShingles)) +
+                         (DISPLAY_NAME_WEIGHT * jaccard(first.nameTokens, second.nameTokens)) +
+                         (ADDRESS_WEIGHT * addressSimilarity);
+        }
+
+        return new DuplicateSuspectPair(first.assetGUID, second.assetGUID, similarity, matchingPropertyNames);
+    }
+
+
+    /**
+     * Return the Jaccard similarity of two sets.
+     *
+     * @param first first set
+     * @param second second set
+     * @return size of the intersection divided by the size of the union (0 if both are empty)
+     */
+    private double jaccard(Set<String> first,
+                           Set<String> second)
+    {
+        if (first.isEmpty() || second.isEmpty())
+        {
+            return 0;
+        }
+
+        int intersection = 0;
+
+        for (String value : first)
+        {
+            if (second.contains(value))
+            {
+                intersection++;
+            }
+        }
+
+        return (double)intersection / (first.size() + second.size() - intersection);
+    }
+
+
+    /**
+     * Split a name into lower case tokens on any character that is not a letter or digit.
+     *
+     * @param name name to split
+     * @return list of tokens in order
+     */
+    private static List<String> tokenize(String name)
+    {
+        List<String> tokens = new ArrayList<>();
+
+        if (name != null)
+        {
+            for (String token : name.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+            {
+                if (! token.isEmpty())
+                {
+                    tokens.add(token);
+                }
+            }
+        }
+
+        return tokens;
+    }
+
+
+    /**
+     * AssetFingerprint holds the normalized properties of an asset that are used to detect duplicates.
+     */
+    private static class AssetFingerprint
+    {
+        private final String       assetGUID;
+        private final String       qualifiedName;
+        private final String       displayName;
+        private final Set<String>  nameTokens;
+        private final Set<String>  qualifiedNameShingles;
+        private final Set<String>  networkAddresses;
+        private final List<String> blockKeys = new ArrayList<>();
+
+
+        AssetFingerprint(String       assetGUID,
+                         String       qualifiedName,
+                         String       displayName,
+                         List<String> networkAddresses)
+        {
+            List<String> displayNameTokens   = tokenize(displayName);
+            List<String> qualifiedNameTokens = tokenize(qualifiedName);
+
+            this.assetGUID     = assetGUID;
+            this.qualifiedName = qualifiedNameTokens.isEmpty() ? null : String.join(" ", qualifiedNameTokens);
+            this.displayName   = displayNameTokens.isEmpty() ? null : String.join(" ", displayNameTokens);
+            this.nameTokens    = new HashSet<>(displayNameTokens);
+
+            /*
+             * Shingles are pairs of adjacent tokens so qualified names that share a path or naming scheme but
+             * not the same words in another order are grouped together.
+             */
+            if (qualifiedNameTokens.size() == 1)
+            {
+                this.qualifiedNameShingles = Collections.singleton(qualifiedNameTokens.get(0));
+            }
+            else
+            {
+                this.qualifiedNameShingles = new HashSet<>();
+
+                for (int i = 0; i < qualifiedNameTokens.size() - 1; i++)
+                {
+                    this.qualifiedNameShingles.add(qualifiedNameTokens.get(i) + " " + qualifiedNameTokens.get(i + 1));
+                }
+            }
+
+            this.networkAddresses = new HashSet<>();
+
+            if (networkAddresses != null)
+            {
+                for (String networkAddress : networkAddresses)
+                {
+                    if (networkAddress != null)
+                    {
+                        this.networkAddresses.add(networkAddress.trim().toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * DuplicateSuspectPair is a pair of assets that may be duplicates along with their similarity score.
+     */
+    static class DuplicateSuspectPair
+    {
+        private final String       firstAssetGUID;
+        private final String       secondAssetGUID;
+        private final double       similarity;
+        private final List<String> matchingPropertyNames;
+
+
+        DuplicateSuspectPair(String       firstAssetGUID,
+                             String       secondAssetGUID,
+                             double       similarity,
+                             List<String> matchingPropertyNames)
+        {
+            this.firstAssetGUID = firstAssetGUID;
+            this.secondAssetGUID = secondAssetGUID;
+            this.similarity = similarity;
+            this.matchingPropertyNames = matchingPropertyNames;
+        }
+
+
+        String getFirstAssetGUID()
+        {
+            return firstAssetGUID;
+        }
+
+
+        String getSecondAssetGUID()
+        {
+            return secondAssetGUID;
+        }
+
+
+        double getSimilarity()
+        {
+            return similarity;
+        }
+
+
+        List<String> getMatchingPropertyNames()
+        {
+            return matchingPropertyNames;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAssetSnapshotStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryContext;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryPipeline;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+import org.odpi.openmetadata.frameworks.discovery.ffdc.DiscoveryServiceException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ParallelDiscoveryPipeline is a discovery pipeline that runs its discovery services at the same time unless
+ * a discovery service needs the annotations produced by an earlier discovery service in the pipeline.  In that case
+ * it waits for the earlier discovery service to finish.  The dependencies come from the produced and required
+ * annotation types of each discovery service.
+ *
+ * The discovery services share a single snapshot of the asset properties.  Each discovery service that asks for
+ * a connector to the asset gets its own connector.
+ */
+public class ParallelDiscoveryPipeline extends DiscoveryPipeline
+{
+    /**
+     * Configuration property for the maximum number of discovery services that run at the same time.
+     */
+    public static final String MAX_PARALLEL_SERVICES_PROPERTY = "maxParallelServices";
+
+
+    /**
+     * This implementation runs the supplied discovery services in parallel, respecting their dependencies.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    @Override
+    protected void runDiscoveryPipeline() throws ConnectorCheckedException
+    {
+        final String methodName = "runDiscoveryPipeline";
+
+        DiscoveryAssetSnapshotStore assetSnapshotStore = new DiscoveryAssetSnapshotStore(super.discoveryContext.getAssetStore());
+        DiscoveryContext            sharedContext      = new DiscoveryContext(super.discoveryContext, assetSnapshotStore);
+
+        List<DiscoveryService> discoveryServices = new ArrayList<>();
+
+        for (DiscoveryService embeddedDiscoveryService : super.embeddedDiscoveryServices)
+        {
+            if (embeddedDiscoveryService != null)
+            {
+                discoveryServices.add(embeddedDiscoveryService);
+            }
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(getMaxParallelServices(discoveryServices.size()),
+                                                                       new PipelineThreadFactory(discoveryServiceName));
+
+        List<CompletableFuture<Void>>               serviceRuns         = new ArrayList<>();
+        Map<String, List<CompletableFuture<Void>>>  annotationProducers = new HashMap<>();
+
+        try
+        {
+            for (DiscoveryService discoveryService : discoveryServices)
+            {
+                List<CompletableFuture<Void>> prerequisites     = new ArrayList<>();
+                List<String>                  requiredTypeNames = discoveryService.getRequiredAnnotationTypes();
+
+                if (requiredTypeNames != null)
+                {
+                    for (String requiredTypeName : requiredTypeNames)
+                    {
+                        List<CompletableFuture<Void>> producers = annotationProducers.get(requiredTypeName);
+
+                        if (producers != null)
+                        {
+                            prerequisites.addAll(producers);
+                        }
+                    }
+                }
+
+                CompletableFuture<Void> serviceRun = CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture<?>[0]))
+                                                                      .thenRunAsync(() -> runDiscoveryService(discoveryService, sharedContext),
+                                                                                    executorService);
+                serviceRuns.add(serviceRun);
+
+                List<String> producedTypeNames = discoveryService.getProducedAnnotationTypes();
+
+                if (producedTypeNames != null)
+                {
+                    for (String producedTypeName : producedTypeNames)
+                    {
+                        annotationProducers.computeIfAbsent(producedTypeName, key -> new ArrayList<>()).add(serviceRun);
+                    }
+                }
+            }
+
+            /*
+             * Wait for all of the discovery services.  A discovery service only depends on earlier discovery services
+             * so the first failure in the list is the failure of a discovery service rather than of one of its dependents.
+             */
+            int       failureCount        = 0;
+            String    firstFailedService  = null;
+            Throwable firstFailure        = null;
+
+            for (int i = 0; i < serviceRuns.size(); i++)
+            {
+                try
+                {
+                    serviceRuns.get(i).join();
+                }
+                catch (CompletionException error)
+                {
+                    failureCount++;
+
+                    if (firstFailure == null)
+                    {
+                        firstFailedService = discoveryServices.get(i).getDiscoveryServiceName();
+                        firstFailure       = (error.getCause() == null) ? error : error.getCause();
+                    }
+                }
+            }
+
+            if (firstFailure != null)
+            {
+                throw new DiscoveryServiceException(DiscoveryServiceErrorCode.PIPELINE_SERVICE_FAILED.getMessageDefinition(Integer.toString(failureCount),
+                                                                                                                           Integer.toString(discoveryServices.size()),
+                                                                                                                           discoveryServiceName,
+                                                                                                                           firstFailedService,
+                                                                                                                           firstFailure.getMessage()),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    firstFailure);
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+            assetSnapshotStore.disconnect();
+        }
+    }
+
+
+    /**
+     * Run a single discovery service.  Checked exceptions are wrapped so they are passed to the discovery services
+     * that depend on this one.
+     *
+     * @param discoveryService discovery service to run
+     * @param sharedContext discovery context shared by the discovery services in the pipeline
+     */
+    private void runDiscoveryService(DiscoveryService discoveryService,
+                                     DiscoveryContext sharedContext)
+    {
+        try
+        {
+            discoveryService.setDiscoveryContext(sharedContext);
+            discoveryService.start();
+            discoveryService.disconnect();
+        }
+        catch (ConnectorCheckedException error)
+        {
+            throw new CompletionException(error);
+        }
+    }
+
+
+    /**
+     * Return the number of discovery services that can run at the same time.
+     *
+     * @param serviceCount number of discovery services in the pipeline
+     * @return thread count
+     */
+    private int getMaxParallelServices(int serviceCount)
+    {
+        int maxParallelServices = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        if ((connectionProperties != null) && (connectionProperties.getConfigurationProperties() != null))
+        {
+            Object propertyValue = connectionProperties.getConfigurationProperties().get(MAX_PARALLEL_SERVICES_PROPERTY);
+
+            if (propertyValue != null)
+            {
+                try
+                {
+                    maxParallelServices = Integer.parseInt(propertyValue.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    // ignore the value and use the default
+                }
+            }
+        }
+
+        return Math.max(1, Math.min(maxParallelServices, serviceCount));
+    }
+
+
+    /**
+     * PipelineThreadFactory names the threads after the pipeline and makes sure they do not stop the JVM from ending.
+     */
+    private static class PipelineThreadFactory implements ThreadFactory
+    {
+        private final String        threadNamePrefix;
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+        PipelineThreadFactory(String pipelineName)
+        {
+            this.threadNamePrefix = "DiscoveryPipeline:" + pipelineName + ":";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that DuplicateSuspectIndex compares the assets that share a block, reports each suspected pair once
+ * and ignores blocks that are too large.
+ */
+public class TestDuplicateSuspectIndex
+{
+    /**
+     * Default constructor
+     */
+    public TestDuplicateSuspectIndex()
+    {
+    }
+
+
+    /**
+     * Assets with the same qualified name are reported once with a similarity of 1.0 even though they
+     * share several blocks.
+     */
+    @Test
+    public void testIdenticalQualifiedNamesReportedOnce()
+    {
+        DuplicateSuspectIndex index = new DuplicateSuspectIndex(1000);
+
+        index.addAsset("guid-1", "Files::/data/customers.csv", "Customers", Collections.singletonList("host1:8080"));
+        index.addAsset("guid-2", "files::/data/CUSTOMERS.csv", "Customer File", Collections.singletonList("HOST1:8080 "));
+        index.addAsset("guid-3", "Database::sales::orders", "Orders", null);
+
+        List<DuplicateSuspectIndex.DuplicateSuspectPair> suspects = index.getDuplicateSuspects(0.5);
+
+        assertEquals(index.getAssetCount(), 3);
+        assertEquals(suspects.size(), 1);
+        assertEquals(suspects.get(0).getFirstAssetGUID(), "guid-1");
+        assertEquals(suspects.get(0).getSecondAssetGUID(), "guid-2");
+        assertEquals(suspects.get(0).getSimilarity(), 1.0);
+        assertTrue(suspects.get(0).getMatchingPropertyNames().contains(DuplicateSuspectIndex.QUALIFIED_NAME_PROPERTY));
+        assertTrue(suspects.get(0).getMatchingPropertyNames().contains(DuplicateSuspectIndex.NETWORK_ADDRESS_PROPERTY));
+    }
+
+
+    /**
+     * Pairs below the minimum similarity are not returned and the rest are ordered with the most similar first.
+     */
+    @Test
+    public void testMinimumSimilarityAndOrder()
+    {
+        DuplicateSuspectIndex index = new DuplicateSuspectIndex(1000);
+
+        index.addAsset("guid-1", "Files::/data/customer/contacts.csv", "Customer Contacts", null);
+        index.addAsset("guid-2", "Files::/data/customer/contacts.csv.bak", "Customer Contacts", null);
+        index.addAsset("guid-3", "Reports::weekly::customer", "Customer Report", null);
+
+        List<DuplicateSuspectIndex.DuplicateSuspectPair> allSuspects = index.getDuplicateSuspects(0.0);
+
+        assertEquals(allSuspects.size(), 3);
+
+        for (int i = 1; i < allSuspects.size(); i++)
+        {
+            assertTrue(allSuspects.get(i - 1).getSimilarity() >= allSuspects.get(i).getSimilarity());
+        }
+
+        List<DuplicateSuspectIndex.DuplicateSuspectPair> closeSuspects = index.getDuplicateSuspects(0.5);
+
+        assertEquals(closeSuspects.size(), 1);
+        assertEquals(closeSuspects.get(0).getFirstAssetGUID(), "guid-1");
+        assertEquals(closeSuspects.get(0).getSecondAssetGUID(), "guid-2");
+    }
+
+
+    /**
+     * Assets that only share a block larger than the maximum block size are not compared.
+     */
+    @Test
+    public void testLargeBlocksAreIgnored()
+    {
+        List<String> displayNames = Arrays.asList("Sales Data", "Finance Data", "Marketing Data");
+
+        DuplicateSuspectIndex smallBlockIndex = new DuplicateSuspectIndex(2);
+        DuplicateSuspectIndex largeBlockIndex = new DuplicateSuspectIndex(10);
+
+        for (int i = 0; i < displayNames.size(); i++)
+        {
+            smallBlockIndex.addAsset("guid-" + i, "qualifiedName" + i, displayNames.get(i), null);
+            largeBlockIndex.addAsset("guid-" + i, "qualifiedName" + i, displayNames.get(i), null);
+        }
+
+        assertTrue(smallBlockIndex.getDuplicateSuspects(0.0).isEmpty());
+        assertEquals(largeBlockIndex.getDuplicateSuspects(0.0).size(), 3);
+    }
+
+
+    /**
+     * Every pair of assets in a block is reported once however many blocks the assets share.
+     */
+    @Test
+    public void testEachPairReportedOnce()
+    {
+        DuplicateSuspectIndex index = new DuplicateSuspectIndex(1000);
+
+        for (int i = 0; i < 20; i++)
+        {
+            index.addAsset("guid-" + i,
+                           "Files::/landing/area/customer/extract" + i,
+                           "Customer Extract Landing " + i,
+                           Arrays.asList("host1", "host2"));
+        }
+
+        List<DuplicateSuspectIndex.DuplicateSuspectPair> suspects = index.getDuplicateSuspects(0.0);
+
+        assertEquals(suspects.size(), (20 * 19) / 2);
+    }
+}
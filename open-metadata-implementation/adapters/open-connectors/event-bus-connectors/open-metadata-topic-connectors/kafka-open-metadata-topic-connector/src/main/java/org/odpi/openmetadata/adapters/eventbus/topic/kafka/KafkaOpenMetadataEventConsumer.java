@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
@@ -22,6 +23,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.slf4j.Logger;
@@ -121,6 +123,28 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     }
 
 
+    /**
+     * Determine whether an event was sent by the local server.  The server id is carried in a header because
+     * the key of the record may be a partition key.  Records without the header come from producers that
+     * keyed every record by their server id.
+     *
+     * @param record record received from Kafka
+     * @return boolean flag
+     */
+    private boolean isLocalEvent(ConsumerRecord<String, String> record)
+    {
+        Header serverIdHeader = record.headers().lastHeader(KafkaOpenMetadataEventProducer.serverIdHeader);
+
+        if (serverIdHeader != null)
+        {
+            return serverIdHeader.value() != null &&
+                   localServerId.equals(new String(serverIdHeader.value(), StandardCharsets.UTF_8));
+        }
+
+        return localServerId.equals(record.key());
+    }
+
+
     private void updateNextMaxPollTimestamp() {
     	maxNextPollTimestampToAvoidConsumerTimeout = System.currentTimeMillis() + maxMsBetweenPolls - consumerTimeoutPreventionSafetyWindowMs;	
     }
@@ -172,7 +196,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                     String json = record.value();
                     log.debug("Received message: " + json);
                     final KafkaIncomingEvent event = new KafkaIncomingEvent(json, record.offset());
-                    if (! localServerId.equals(record.key()))
+                    if (! isLocalEvent(record))
                     {
                         try
                         {
@@ -5,6 +5,7 @@ package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
 import org.apache.kafka.common.errors.RetriableException;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -12,9 +13,16 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * KafkaOpenMetadataEventProducer manages the sending of events on Apache Kafka.  This is done through called to
@@ -23,21 +31,34 @@ import java.util.concurrent.TimeUnit;
  * Kafka is not always running.  When this occurs, the call to publish events hangs and this is disruptive to the
  * rest of the server.  So the role of this class is to manage the sending of events in a separate thread
  * and manage the logging of errors to alert the operations team that Kafka needs restarting.
+ *
+ * By default each event is sent once the acknowledgement of the previous event has been received.  When
+ * max_in_flight_sends is set above 1, the sends are pipelined: up to that number of events are passed to
+ * Kafka at once and the result of each send is processed in its callback.  Events that fail with a
+ * retryable error are put back at the front of the buffer.
  */
 public class KafkaOpenMetadataEventProducer implements Runnable
 {
-    private final List<String> sendBuffer = Collections.synchronizedList(new ArrayList<>());
+    private final BlockingDeque<BufferedEvent> sendBuffer = new LinkedBlockingDeque<>();
 
     private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventProducer.class);
 
     private static final String       defaultThreadName = "KafkaProducer for topic ";
 
+    /*
+     * The header that identifies the server that sent the event.  The consumers use it to ignore the events sent
+     * by their own server now that the record key may be a partition key rather than the server id.
+     */
+    static final String serverIdHeader = "egeria.server.id";
+
     private volatile boolean running = true;
 
     private final AuditLog auditLog;
     private final String   listenerThreadName;
     private final String   topicName;
-    private final int sleepTime = 1000;
+    private final long idleWaitTime;
+    private final int  maxInFlightSends;
+    private final int  sendRetryLimit;
     private static final long recoverySleepTimeSec = 10L;
 
     private final String                          localServerId;
@@ -46,7 +67,13 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
     private KafkaOpenMetadataTopicConnector connector;
 
-    private long    messageSendCount = 0;
+    private final Semaphore     inFlightPermits;
+    private final AtomicInteger inFlightSendCount   = new AtomicInteger(0);
+    private final AtomicLong    messageSendCount    = new AtomicLong(0);
+    private final AtomicLong    failedSendCount     = new AtomicLong(0);
+    private final AtomicLong    totalSendLatencyMs  = new AtomicLong(0);
+    private final AtomicLong    maxSendLatencyMs    = new AtomicLong(0);
+    private final AtomicBoolean inErrorLoop         = new AtomicBoolean(false);
 
 
     /**
@@ -56,14 +83,16 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      * @param topicName name of the topic to listen on.
      * @param localServerId identifier to enable receiver to identify that an event came from this server.
      * @param producerProperties properties for the consumer.
+     * @param config additional configuration for the sending of events.
      * @param connector connector holding the inbound listeners.
      * @param auditLog  audit log for this component.
      */
-    KafkaOpenMetadataEventProducer(String                          topicName,
-                                   String                          localServerId,
-                                   Properties                      producerProperties,
-                                   KafkaOpenMetadataTopicConnector connector,
-                                   AuditLog                        auditLog)
+    KafkaOpenMetadataEventProducer(String                                      topicName,
+                                   String                                      localServerId,
+                                   Properties                                  producerProperties,
+                                   KafkaOpenMetadataEventProducerConfiguration config,
+                                   KafkaOpenMetadataTopicConnector             connector,
+                                   AuditLog                                    auditLog)
     {
         this.auditLog = auditLog;
         this.topicName = topicName;
@@ -72,6 +101,11 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         this.producerProperties = producerProperties;
         this.listenerThreadName = defaultThreadName + topicName;
 
+        this.maxInFlightSends = Math.max(config.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_IN_FLIGHT_SENDS), 1);
+        this.sendRetryLimit = config.getIntProperty(KafkaOpenMetadataEventProducerProperty.SEND_RETRY_LIMIT);
+        this.idleWaitTime = Math.max(config.getLongProperty(KafkaOpenMetadataEventProducerProperty.IDLE_WAIT_TIME), 1L);
+        this.inFlightPermits = new Semaphore(maxInFlightSends);
+
         final String           actionDescription = "new producer";
 
         auditLog.logMessage(actionDescription,
@@ -86,43 +120,29 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      * Sends the supplied event to the topic.  It retries if Kafka is not responding.
      *
      * @param event object containing the event properties.
+     * @param partitionKey key for the record or null to use the local server id.
      * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
      */
-    private void publishEvent(String event) throws ConnectorCheckedException
+    private void publishEvent(String event, String partitionKey) throws ConnectorCheckedException
     {
         final String methodName = "publishEvent";
 
         boolean                  eventSent = false;
         long                     eventRetryCount = 0;
 
-        if (producer == null)
-        {
-            try
-            {
-                producer = new KafkaProducer<>(producerProperties);
-            }
-            catch ( Exception error )
-            {
-                if( auditLog != null)
-                {
-                    auditLog.logException(methodName, KafkaOpenMetadataTopicConnectorAuditCode.ERROR_CONNECTING_KAFKA_PRODUCER.getMessageDefinition(topicName), error);
-                }
+        connectProducer();
 
-                throw new ConnectorCheckedException( KafkaOpenMetadataTopicConnectorErrorCode.ERROR_CONNECTING_KAFKA_PRODUCER.getMessageDefinition(error.getMessage()),
-                                                    this.getClass().getName(),
-                                                    methodName,
-                                                    error);
-            }
-        }
         while (!eventSent)
         {
             try
             {
                 log.debug("Sending message {0}" + event);
-                ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
+                ProducerRecord<String, String> record = newRecord(event, partitionKey);
+                long sendStartTime = System.currentTimeMillis();
                 producer.send(record).get();
                 eventSent = true;
-                messageSendCount++;
+                recordSendLatency(sendStartTime);
+                messageSendCount.incrementAndGet();
             }
             catch (ExecutionException error)
             {
@@ -146,7 +166,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                                                                                                                                           methodName,
                                                                                                                                           error);
                 }
-                if (eventRetryCount == 10)
+                if (eventRetryCount >= sendRetryLimit)
                 {
                     /* we've retried now let the caller retry */
                     producer.close();
@@ -160,7 +180,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                     {
                         auditLog.logMessage(methodName,
                                             KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(topicName,
-                                                                                                                                   Long.toString(messageSendCount),
+                                                                                                                                   Long.toString(messageSendCount.get()),
                                                                                                                                    Long.toString(this.getSendBufferSize()),
                                                                                                                                    error.getMessage()));
                     }
@@ -191,6 +211,182 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     }
 
 
+    /**
+     * Sends the supplied event to the topic without waiting for the acknowledgement.  The result of the send is
+     * processed by sendCompleted when Kafka calls back.  This method waits while the maximum number of sends are
+     * in flight.  If the producer is stopping while it waits, the event is put back at the head of the send buffer
+     * and the caller must stop draining the buffer.
+     *
+     * @param bufferedEvent event taken from the send buffer.
+     * @return true if the event was passed to Kafka; false if it was put back because the producer is stopping
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     * @throws InterruptedException the thread was interrupted while waiting for an in-flight send to complete
+     */
+    private boolean publishEventAsync(BufferedEvent bufferedEvent) throws ConnectorCheckedException, InterruptedException
+    {
+        final String methodName = "publishEventAsync";
+
+        connectProducer();
+
+        while (!inFlightPermits.tryAcquire(idleWaitTime, TimeUnit.MILLISECONDS))
+        {
+            if (!isRunning())
+            {
+                sendBuffer.offerFirst(bufferedEvent);
+                return false;
+            }
+        }
+
+        inFlightSendCount.incrementAndGet();
+        try
+        {
+            log.debug("Sending message {0}" + bufferedEvent.event);
+            ProducerRecord<String, String> record = newRecord(bufferedEvent.event, bufferedEvent.partitionKey);
+            long sendStartTime = System.currentTimeMillis();
+            producer.send(record, (metadata, exception) -> sendCompleted(bufferedEvent, sendStartTime, exception));
+            return true;
+        }
+        catch (Throwable error)
+        {
+            /*
+             * The event was not passed to Kafka so it is put back for the next attempt.
+             */
+            inFlightSendCount.decrementAndGet();
+            inFlightPermits.release();
+            sendBuffer.offerFirst(bufferedEvent);
+
+            producer.close();
+            producer = null;
+            log.error("Exception in sendEvent " + error.toString());
+
+            throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(error.getClass().getName(),
+                                                                                                                                  topicName,
+                                                                                                                                  error.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+    }
+
+
+    /**
+     * Process the result of a pipelined send.  This is called on the Kafka producer's I/O thread.
+     *
+     * @param bufferedEvent event that was sent
+     * @param sendStartTime time that the event was passed to Kafka
+     * @param exception error reported by Kafka or null if the event was sent
+     */
+    private void sendCompleted(BufferedEvent bufferedEvent, long sendStartTime, Exception exception)
+    {
+        final String methodName = "sendCompleted";
+
+        inFlightSendCount.decrementAndGet();
+        inFlightPermits.release();
+
+        if (exception == null)
+        {
+            recordSendLatency(sendStartTime);
+            messageSendCount.incrementAndGet();
+            inErrorLoop.set(false);
+            return;
+        }
+
+        log.debug("Kafka had trouble sending event: " + bufferedEvent.event + "exception message is " + exception.getMessage());
+
+        if ((exception instanceof RetriableException || isExceptionRetryable(exception)) && bufferedEvent.retryCount < sendRetryLimit)
+        {
+            if (inErrorLoop.compareAndSet(false, true))
+            {
+                auditLog.logMessage(methodName,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(topicName,
+                                                                                                                           Long.toString(messageSendCount.get()),
+                                                                                                                           Long.toString(this.getSendBufferSize()),
+                                                                                                                           exception.getMessage()));
+            }
+
+            bufferedEvent.retryCount++;
+            sendBuffer.offerFirst(bufferedEvent);
+        }
+        else
+        {
+            auditLog.logException(methodName,
+                                  KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_FAILED.getMessageDefinition(topicName,
+                                                                                                                  Integer.toString(bufferedEvent.retryCount),
+                                                                                                                  Long.toString(failedSendCount.incrementAndGet()),
+                                                                                                                  exception.getClass().getName(),
+                                                                                                                  exception.getMessage()),
+                                  exception);
+        }
+    }
+
+
+    /**
+     * Build the Kafka record for an event.  Events without a partition key are keyed by the local server id,
+     * which sends them all to the same partition.
+     *
+     * @param event event to send
+     * @param partitionKey key for the record or null
+     * @return record
+     */
+    private ProducerRecord<String, String> newRecord(String event, String partitionKey)
+    {
+        ProducerRecord<String, String> record = new ProducerRecord<>(topicName,
+                                                                     partitionKey == null ? localServerId : partitionKey,
+                                                                     event);
+        if (localServerId != null)
+        {
+            record.headers().add(new RecordHeader(serverIdHeader, localServerId.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        return record;
+    }
+
+
+    /**
+     * Create the Kafka producer if it is not already connected.
+     *
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     */
+    private void connectProducer() throws ConnectorCheckedException
+    {
+        final String methodName = "connectProducer";
+
+        if (producer == null)
+        {
+            try
+            {
+                producer = new KafkaProducer<>(producerProperties);
+            }
+            catch ( Exception error )
+            {
+                if( auditLog != null)
+                {
+                    auditLog.logException(methodName, KafkaOpenMetadataTopicConnectorAuditCode.ERROR_CONNECTING_KAFKA_PRODUCER.getMessageDefinition(topicName), error);
+                }
+
+                throw new ConnectorCheckedException( KafkaOpenMetadataTopicConnectorErrorCode.ERROR_CONNECTING_KAFKA_PRODUCER.getMessageDefinition(error.getMessage()),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    error);
+            }
+        }
+    }
+
+
+    /**
+     * Add the time taken to send an event to the statistics.
+     *
+     * @param sendStartTime time that the event was passed to Kafka
+     */
+    private void recordSendLatency(long sendStartTime)
+    {
+        long latency = System.currentTimeMillis() - sendStartTime;
+
+        totalSendLatencyMs.addAndGet(latency);
+        maxSendLatencyMs.accumulateAndGet(latency, Math::max);
+    }
+
+
     /**
      * This is the method that provides the behaviour of the thread.
      */
@@ -209,25 +405,31 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         {
             try
             {
-                String bufferedEvent = this.getEvent();
+                /*
+                 * Wait for an event - a new event wakes the thread immediately
+                 */
+                BufferedEvent bufferedEvent = sendBuffer.pollFirst(idleWaitTime, TimeUnit.MILLISECONDS);
 
                 /*
-                 * If there are no events waiting then sleep
+                 * Send all waiting events
                  */
-                if (bufferedEvent == null)
-                {
-                    TimeUnit.MILLISECONDS.sleep(sleepTime);
-                }
-                else
+                while (bufferedEvent != null)
                 {
-                    /*
-                     * Send all waiting events
-                     */
-                    while (bufferedEvent != null)
+                    if (maxInFlightSends > 1)
                     {
-                        publishEvent(bufferedEvent);
-                        bufferedEvent = this.getEvent();
+                        if (! publishEventAsync(bufferedEvent))
+                        {
+                            /*
+                             * The producer is stopping and the event is back in the buffer.
+                             */
+                            break;
+                        }
                     }
+                    else
+                    {
+                        publishEvent(bufferedEvent.event, bufferedEvent.partitionKey);
+                    }
+                    bufferedEvent = this.getEvent();
                 }
             }
             catch (InterruptedException   error)
@@ -250,28 +452,80 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         }
 
         /* producer may have already closed by exception handler in publishEvent */
+        /* closing the producer waits for the sends that are still in flight */
         if(producer != null) {
             log.debug("");
             producer.close();
             producer = null;
         }
 
+        /*
+         * Once the producer is closed, nothing else will send the events left in the buffer.  This includes
+         * events that the send callbacks put back for retry while the producer was closing.
+         */
+        int unsentCount = discardUnsentEvents(actionDescription);
+
+        long sentCount = messageSendCount.get();
+        auditLog.logMessage(actionDescription,
+                            KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_STATISTICS.getMessageDefinition(topicName,
+                                                                                                                    Long.toString(sentCount),
+                                                                                                                    Long.toString(getAverageSendLatency()),
+                                                                                                                    Long.toString(maxSendLatencyMs.get()),
+                                                                                                                    Long.toString(failedSendCount.get())));
+
         auditLog.logMessage(actionDescription,
                             KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_SHUTDOWN.getMessageDefinition(topicName,
-                                                                                                                  Integer.toString(getSendBufferSize()),
-                                                                                                                  Long.toString(messageSendCount)),
+                                                                                                                  Integer.toString(unsentCount),
+                                                                                                                  Long.toString(sentCount)),
                            this.producerProperties.toString());
     }
 
 
+    /**
+     * Remove the events that are still in the send buffer after the producer has closed.  They are counted as
+     * failed sends and reported in the audit log.
+     *
+     * @param actionDescription calling activity
+     * @return number of events discarded
+     */
+    private int discardUnsentEvents(String actionDescription)
+    {
+        int unsentCount = 0;
+        int retryCount  = 0;
+
+        BufferedEvent bufferedEvent = this.getEvent();
+        while (bufferedEvent != null)
+        {
+            unsentCount++;
+            if (bufferedEvent.retryCount > 0)
+            {
+                retryCount++;
+            }
+            bufferedEvent = this.getEvent();
+        }
+
+        if (unsentCount > 0)
+        {
+            failedSendCount.addAndGet(unsentCount);
+            auditLog.logMessage(actionDescription,
+                                KafkaOpenMetadataTopicConnectorAuditCode.UNSENT_EVENTS_DISCARDED.getMessageDefinition(topicName,
+                                                                                                                      Integer.toString(unsentCount),
+                                                                                                                      Integer.toString(retryCount)));
+        }
+
+        return unsentCount;
+    }
+
+
     /**
      * Supports putting events to the in memory OMRS Topic
      *
      * @param newEvent  event to publish
+     * @param partitionKey key for the record or null
      */
-    private void putEvent(String  newEvent)
+    private void putEvent(String  newEvent, String partitionKey)
     {
-        sendBuffer.add(newEvent);
+        sendBuffer.offerLast(new BufferedEvent(newEvent, partitionKey));
     }
 
 
@@ -280,25 +534,66 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      *
      * @return int
      */
-    private int getSendBufferSize()
+    int getSendBufferSize()
     {
         return sendBuffer.size();
     }
 
 
     /**
-     * Returns all of the events found on the in memory OMRS Topic.
+     * Returns the number of events that have been passed to Kafka and are waiting for an acknowledgement.
      *
-     * @return list of received events.
+     * @return int
      */
-    private String getEvent()
+    int getInFlightSendCount()
     {
-        if (sendBuffer.isEmpty())
-        {
-            return null;
-        }
+        return inFlightSendCount.get();
+    }
+
+
+    /**
+     * Returns the number of events that have been sent and acknowledged.
+     *
+     * @return long
+     */
+    long getMessageSendCount()
+    {
+        return messageSendCount.get();
+    }
+
+
+    /**
+     * Returns the number of events that were discarded because they could not be sent.
+     *
+     * @return long
+     */
+    long getFailedSendCount()
+    {
+        return failedSendCount.get();
+    }
+
+
+    /**
+     * Returns the average time between passing an event to Kafka and receiving its acknowledgement.
+     *
+     * @return long milliseconds
+     */
+    long getAverageSendLatency()
+    {
+        long sentCount = messageSendCount.get();
+
+        return sentCount == 0 ? 0 : totalSendLatencyMs.get() / sentCount;
+    }
+
 
-        return sendBuffer.remove(0);
+    /**
+     * Returns the next event in the send buffer without waiting.
+     *
+     * @return event or null if the buffer is empty.
+     */
+    private BufferedEvent getEvent()
+    {
+        return sendBuffer.pollFirst();
     }
 
 
@@ -309,7 +604,19 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      */
     public void sendEvent(String event)
     {
-        this.putEvent(event);
+        this.putEvent(event, null);
+    }
+
+
+    /**
+     * Sends the supplied event to the topic with a partition key.
+     *
+     * @param event  OMRSEvent object containing the event properties.
+     * @param partitionKey key for the record or null to use the local server id.
+     */
+    public void sendEvent(String event, String partitionKey)
+    {
+        this.putEvent(event, partitionKey);
     }
 
 
@@ -371,4 +678,21 @@ public class KafkaOpenMetadataEventProducer implements Runnable
        }
         return false;
     }
+
+
+    /**
+     * An event waiting in the send buffer along with its partition key and the number of times it has been retried.
+     */
+    private static class BufferedEvent
+    {
+        private final String event;
+        private final String partitionKey;
+        private       int    retryCount = 0;
+
+        BufferedEvent(String event, String partitionKey)
+        {
+            this.event = event;
+            this.partitionKey = partitionKey;
+        }
+    }
 }
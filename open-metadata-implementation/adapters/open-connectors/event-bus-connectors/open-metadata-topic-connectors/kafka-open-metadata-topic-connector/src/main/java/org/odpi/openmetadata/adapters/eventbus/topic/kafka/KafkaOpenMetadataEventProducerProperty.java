@@ -0,0 +1,48 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+/**
+ * Configurable properties for the KafkaOpenMetadataEventProducer
+ *
+ */
+public enum KafkaOpenMetadataEventProducerProperty
+{
+	/*
+	 * Controls the number of events that may be sent to Kafka before their acknowledgements are received.
+	 * With the default value of 1 the producer waits for the acknowledgement of each event before sending
+	 * the next one.  With a larger value the sends are pipelined and the result of each send is processed
+	 * when Kafka calls back.  Events that are retried after a failure may then be sent after later events.
+	 */
+	MAX_IN_FLIGHT_SENDS("max_in_flight_sends", "1"),
+
+	/*
+	 * The number of times an event is resent after Kafka reports a retryable error.
+	 */
+	SEND_RETRY_LIMIT("send_retry_limit", "10"),
+
+	/*
+	 * The maximum time (in ms) that the producer waits for a new event, or for a free in-flight slot, before
+	 * checking whether it has been asked to shut down.  New events wake the producer immediately.
+	 */
+	IDLE_WAIT_TIME("idle_wait_time_ms", "1000");
+
+	private final String propertyName;
+	private final String defaultValue;
+
+	KafkaOpenMetadataEventProducerProperty(String name, String defaultValue)
+	{
+		this.propertyName = name;
+		this.defaultValue = defaultValue;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public String getDefaultValue() {
+		return defaultValue;
+	}
+
+
+}
@@ -32,6 +32,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     
     private final Properties producerProperties = new Properties();
+    private final Properties producerEgeriaProperties = new Properties();
     private final Properties consumerEgeriaProperties = new Properties();
     private final Properties consumerProperties = new Properties();
 
@@ -64,7 +65,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
             /* we don't care why the thread ended , we just restart it */
             /* The thread will log on exit and on restart already, so no need to let anyone know */
-            producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, KafkaOpenMetadataTopicConnector.this, auditLog);
+            producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties,
+                                                          new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog),
+                                                          KafkaOpenMetadataTopicConnector.this, auditLog);
             producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
             executor.execute(producerThread);
         }
@@ -177,6 +180,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.producerPropertyName);
             copyProperties(propertiesObject, producerProperties);
 
+            propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaProducerPropertyName);
+            copyProperties(propertiesObject, producerEgeriaProperties);
+
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.consumerPropertyName);
             copyProperties(propertiesObject, consumerProperties);
             
@@ -262,7 +268,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         consumerThread = new Thread(consumer, threadHeader + "Consumer-" + topicName);
         consumerThread.start();
 
-        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, this, auditLog);
+        KafkaOpenMetadataEventProducerConfiguration producerConfig = new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog);
+        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, producerConfig, this, auditLog);
         producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
         executor = new KafkaProducerExecutor();
         executor.execute(producerThread);
@@ -287,6 +294,24 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Sends the supplied event to the topic.  The partition key is used as the key of the Kafka record
+     * so that Kafka sends all of the events with the same key to the same partition.
+     *
+     * @param event object containing the event properties.
+     * @param partitionKey key used to choose the partition for the event, or null to use the local server id.
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     */
+    @Override
+    public void sendEvent(String event, String partitionKey) throws ConnectorCheckedException
+    {
+        if (producer != null)
+        {
+            producer.sendEvent(event, partitionKey);
+        }
+    }
+
+
     /**
      * Look to see if there is one of more new events to process.
      *
@@ -141,6 +141,29 @@ public enum KafkaOpenMetadataTopicConnectorAuditCode implements AuditLogMessageS
             "Check the  Kafka error logs for related messages that could " +
                     "indicate the cause of this error.  Work to clear the underlying error.  " +
                     "Once fixed, it may be necessary to restart the server to cause a reconnect to Kafka."),
+
+    EVENT_SEND_FAILED("OCF-KAFKA-TOPIC-CONNECTOR-0020",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "Unable to send event on topic {0} after {1} retries.  The event is discarded.  {2} events have failed in total; latest error {3} has message {4}",
+            "Apache Kafka reported an error for an event sent from the buffer.  The error is not retryable, or the event has been " +
+                    "retried the maximum number of times.  The producer continues to send the other buffered events.",
+            "Review the operational status of Apache Kafka to ensure it is running and the topic is defined.  " +
+                    "Check the Kafka error logs for related messages that indicate the cause of this error."),
+
+    KAFKA_PRODUCER_STATISTICS("OCF-KAFKA-TOPIC-CONNECTOR-0021",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Apache Kafka producer for topic {0} sent {1} messages with an average acknowledgement time of {2} ms and a maximum of {3} ms; {4} messages failed",
+            "The producer reports the statistics for its sends when it shuts down.",
+            "No action is required.  A high acknowledgement time may indicate that the producer should keep more sends in flight " +
+                    "using the max_in_flight_sends property."),
+
+    UNSENT_EVENTS_DISCARDED("OCF-KAFKA-TOPIC-CONNECTOR-0022",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The Apache Kafka producer for topic {0} discarded {1} unsent events when it shut down; {2} of them were waiting to be retried",
+            "The producer has closed and the events left in its send buffer, including events that Kafka rejected with a " +
+                    "retryable error while the producer was closing, can no longer be sent.",
+            "Review the operational status of Apache Kafka and the audit log for errors reported before the shutdown.  " +
+                    "The events may need to be republished once the server restarts."),
     ;
 
     private final AuditLogMessageDefinition messageDefinition;
@@ -192,6 +192,57 @@ public enum GovernanceActionConnectorsAuditCode implements AuditLogMessageSet
                                    "exception stack trace to determine why the connector is not able to initiate the process and resolve that issue.  " +
                                    "Use the messages that where subsequently logged during the error handling to discover how to restart the " +
                                    "connector in the integration daemon once the original cause of the error has been corrected."),
+
+    STREAMING_COPY("GOVERNANCE-ACTION-CONNECTORS-0023",
+                   OMRSAuditLogRecordSeverity.INFO,
+                   "The {0} governance action service is streaming {1} bytes from source file {2} to partial file {3} in chunks of {4} bytes",
+                   "The file is copied into a hidden partial file in the destination folder.  The partial file is renamed to the " +
+                           "destination file name once its checksum matches the source file.",
+                   "No specific action is required.  If the copy is interrupted, the next request for this file resumes the copy from the " +
+                           "end of the partial file."),
+
+    RESUMING_COPY("GOVERNANCE-ACTION-CONNECTORS-0024",
+                  OMRSAuditLogRecordSeverity.INFO,
+                  "The {0} governance action service is resuming the copy of source file {1} at byte {2} of {3} from partial file {4}",
+                  "An earlier request to copy this file was interrupted.  The data already in the partial file is kept and the copy " +
+                          "continues from the end of it.  If the checksum comparison at the end of the copy shows that the source file " +
+                          "has changed, the copy is restarted once from the beginning.",
+                  "No specific action is required."),
+
+    COPY_PROGRESS("GOVERNANCE-ACTION-CONNECTORS-0025",
+                  OMRSAuditLogRecordSeverity.INFO,
+                  "The {0} governance action service has copied {1}% ({2} of {3} bytes) of source file {4}",
+                  "The copy of a large file is in progress.",
+                  "No specific action is required.  The percentage copied is logged every ten percent."),
+
+    COPY_VERIFIED("GOVERNANCE-ACTION-CONNECTORS-0026",
+                  OMRSAuditLogRecordSeverity.INFO,
+                  "The {0} governance action service has verified that destination file {1} matches source file {2} with {3} checksum {4}",
+                  "The copy is complete and the destination file has been given its final name.  Lineage is created for the " +
+                          "destination file if it is configured.",
+                  "No specific action is required.  The checksum can be used to check the destination file later."),
+
+    CHECKSUM_MISMATCH("GOVERNANCE-ACTION-CONNECTORS-0027",
+                      OMRSAuditLogRecordSeverity.ERROR,
+                      "The {0} governance action service found that partial file {1} has {2} checksum {3} which does not match checksum {5} " +
+                              "of source file {4}",
+                      "The copy is corrupt or the source file changed while it was being copied.  The partial file is deleted and no lineage " +
+                              "is created.  The governance action completes with the provisioning-failed guard.",
+                      "Check that the source file is no longer being written to and then request the copy again.  It starts from the beginning " +
+                              "of the file."),
+
+    NO_MATCHING_SOURCE_FILES("GOVERNANCE-ACTION-CONNECTORS-0028",
+                             OMRSAuditLogRecordSeverity.ERROR,
+                             "The {0} governance action service did not find any files matching source file pattern {1}",
+                             "The governance action completes with the provisioning-failed guard.",
+                             "Check the source file pattern and that the files are in the source folder."),
+
+    RESTARTING_COPY("GOVERNANCE-ACTION-CONNECTORS-0029",
+                    OMRSAuditLogRecordSeverity.INFO,
+                    "The {0} governance action service is restarting the copy into partial file {1} because source file {2} has changed since the copy started",
+                    "The checksum of the resumed copy does not match the source file.  The partial file is emptied and the source file " +
+                            "is copied again from the beginning.  If the checksums still do not match, the provisioning fails.",
+                    "Check that no other process is updating the source file while it is being provisioned."),
     ;
 
     private String                     logMessageId;
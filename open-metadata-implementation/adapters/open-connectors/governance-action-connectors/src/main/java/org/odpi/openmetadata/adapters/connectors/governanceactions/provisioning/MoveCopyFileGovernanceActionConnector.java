@@ -16,19 +16,39 @@ import org.odpi.openmetadata.frameworks.governanceaction.search.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * MoveCopyFileGovernanceActionConnector moves or copies files from one location to another and optionally creates lineage between them.
+ *
+ * In streaming mode, the files are streamed in chunks on the connector's own threads so the governance action service returns
+ * to the governance engine straight away.  The source file name may then contain wildcards to provision each matching file.
+ * Each copy is verified with a checksum before lineage is created, and an interrupted copy resumes when the request is repeated.
  */
 public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanceActionService
 {
+    private static final String PROVISIONED_FILE_COUNT_PARAMETER = "provisionedFileCount";
+    private static final String PROVISIONED_BYTE_COUNT_PARAMETER = "provisionedByteCount";
+    private static final String CHECKSUM_PARAMETER               = "checksum";
+
     /*
      * This map remembers the index of the last file that was created in a destination folder.
      */
     private static volatile Map<String, Integer> fileIndexMap = new HashMap<>();
 
+    /*
+     * This set holds the destination file names chosen for streamed files that are still being copied.
+     */
+    private static final Set<String> reservedDestinationFileNames = new HashSet<>();
+
     private PropertyHelper propertyHelper = new PropertyHelper();
 
     private String  topLevelProcessName                  = this.getClass().getName();
@@ -38,9 +58,19 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
     private String  sourceFileName                       = null;
     private String  sourceFileGUID                       = null;
     private String  destinationFolderName                = null;
+    private String  sourceActionTargetGUID               = null;
     private boolean copyFile                             = true;
     private boolean deleteFile                           = false;
 
+    /*
+     * These control streaming mode
+     */
+    private boolean         streamingCopy     = false;
+    private long            copyChunkSize     = 64L * 1024 * 1024;
+    private String          checksumAlgorithm = "SHA-256";
+    private int             maxParallelCopies = 4;
+    private ExecutorService copyExecutor      = null;
+
     /*
      * This describes the default lineage pattern
      */
@@ -104,6 +134,48 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
     }
 
 
+    /**
+     * Choose the name of the destination file for a streamed file.  The name is reserved until the copy has finished
+     * so that files copied at the same time are given different names.
+     *
+     * @param destinationFolderName folder name where the file is to be copied to
+     * @param sourceFile File object pointing to the source file
+     * @param fileNamePattern pattern to generate the destination filename (or null to use the source file name)
+     * @return destination file name or null if no more are available
+     */
+    static synchronized String reserveDestinationFileName(String destinationFolderName,
+                                                          File   sourceFile,
+                                                          String fileNamePattern)
+    {
+        String destinationFileName = getDestinationFileName(null, destinationFolderName, sourceFile, fileNamePattern);
+
+        while (destinationFileName != null)
+        {
+            if ((! new File(destinationFileName).exists()) && (! reservedDestinationFileNames.contains(destinationFileName)))
+            {
+                reservedDestinationFileNames.add(destinationFileName);
+
+                return destinationFileName;
+            }
+
+            destinationFileName = getDestinationFileName(destinationFileName, destinationFolderName, sourceFile, fileNamePattern);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Release the reservation of a destination file name.
+     *
+     * @param destinationFileName name of the file
+     */
+    static synchronized void releaseDestinationFileName(String destinationFileName)
+    {
+        reservedDestinationFileNames.remove(destinationFileName);
+    }
+
+
     /**
      * Perform the file provisioning.
      *
@@ -267,6 +339,48 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
             {
                 childProcessLineage = false;
             }
+
+            Object streamingCopyOption = configurationProperties.get(MoveCopyFileGovernanceActionProvider.STREAMING_COPY_PROPERTY);
+
+            if (streamingCopyOption != null)
+            {
+                streamingCopy = true;
+            }
+
+            Object chunkSizeOption = configurationProperties.get(MoveCopyFileGovernanceActionProvider.COPY_CHUNK_SIZE_PROPERTY);
+
+            if (chunkSizeOption != null)
+            {
+                try
+                {
+                    copyChunkSize = Math.max(1L, Long.parseLong(chunkSizeOption.toString()));
+                }
+                catch (NumberFormatException error)
+                {
+                    // ignore the value and use the default
+                }
+            }
+
+            Object checksumAlgorithmOption = configurationProperties.get(MoveCopyFileGovernanceActionProvider.CHECKSUM_ALGORITHM_PROPERTY);
+
+            if (checksumAlgorithmOption != null)
+            {
+                checksumAlgorithm = checksumAlgorithmOption.toString();
+            }
+
+            Object maxParallelCopiesOption = configurationProperties.get(MoveCopyFileGovernanceActionProvider.MAX_PARALLEL_COPIES_PROPERTY);
+
+            if (maxParallelCopiesOption != null)
+            {
+                try
+                {
+                    maxParallelCopies = Math.max(1, Integer.parseInt(maxParallelCopiesOption.toString()));
+                }
+                catch (NumberFormatException error)
+                {
+                    // ignore the value and use the default
+                }
+            }
         }
     }
 
@@ -338,6 +452,7 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
                         {
                             sourceFileName = this.getPathName(sourceMetadataElement);
                             sourceFileGUID = sourceMetadataElement.getElementGUID();
+                            sourceActionTargetGUID = actionTargetElement.getActionTargetGUID();
                         }
                     }
                     else if (MoveCopyFileGovernanceActionProvider.DESTINATION_FOLDER_PROPERTY.equals(actionTargetElement.getActionTargetName()))
@@ -366,6 +481,12 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
                                                 methodName);
         }
 
+        if ((streamingCopy) && (! deleteFile))
+        {
+            startStreamingProvisioning();
+            return;
+        }
+
 
         List<NewActionTarget> newActionTargets = null;
 
@@ -399,7 +520,7 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
 
                     if (createLineage)
                     {
-                        newActionTargetGUID = createLineage(destinationFileName);
+                        newActionTargetGUID = createLineage(sourceFileName, destinationFileName);
                     }
 
                     if (newActionTargetGUID != null)
@@ -452,6 +573,333 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
     }
 
 
+    /**
+     * Start streaming the source files to the destination folder on the connector's own threads.  The completion status
+     * is recorded when all of the files have been provisioned.
+     *
+     * @throws ConnectorCheckedException there is a problem recording the completion status
+     */
+    private void startStreamingProvisioning() throws ConnectorCheckedException
+    {
+        final String methodName = "startStreamingProvisioning";
+
+        List<String> sourceFilePathNames = getMatchingSourceFiles(sourceFileName);
+
+        if (sourceFilePathNames.isEmpty())
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    GovernanceActionConnectorsAuditCode.NO_MATCHING_SOURCE_FILES.getMessageDefinition(governanceServiceName,
+                                                                                                                      sourceFileName));
+            }
+
+            try
+            {
+                governanceContext.recordCompletionStatus(CompletionStatus.FAILED,
+                                                         Collections.singletonList(MoveCopyFileGovernanceActionProvider.PROVISIONING_FAILED_GUARD),
+                                                         null,
+                                                         null);
+            }
+            catch (OCFCheckedExceptionBase error)
+            {
+                throw new ConnectorCheckedException(error.getReportedErrorMessage(), error);
+            }
+
+            return;
+        }
+
+        updateSourceActionTargetStatus(GovernanceActionStatus.IN_PROGRESS, new Date(), null);
+
+        StreamingFileProvisioner provisioner = new StreamingFileProvisioner(governanceServiceName,
+                                                                            copyChunkSize,
+                                                                            checksumAlgorithm,
+                                                                            auditLog);
+
+        AtomicInteger threadNumber = new AtomicInteger(0);
+
+        copyExecutor = Executors.newFixedThreadPool(Math.min(maxParallelCopies, sourceFilePathNames.size()),
+                                                    runnable ->
+                                                    {
+                                                        Thread thread = new Thread(runnable, governanceServiceName + ":Copy:" + threadNumber.getAndIncrement());
+
+                                                        thread.setDaemon(true);
+
+                                                        return thread;
+                                                    });
+
+        List<CompletableFuture<StreamingFileProvisioner.ProvisionedFile>> copies = new ArrayList<>();
+
+        for (String sourceFilePathName : sourceFilePathNames)
+        {
+            copies.add(CompletableFuture.supplyAsync(() -> provisionStreamedFile(provisioner, sourceFilePathName), copyExecutor));
+        }
+
+        CompletableFuture.allOf(copies.toArray(new CompletableFuture<?>[0])).whenComplete((result, error) -> completeStreamingProvisioning(copies));
+    }
+
+
+    /**
+     * Return the source files to provision.  If the file name part of the source file name contains wildcards,
+     * it is used as a pattern to select the files in the source folder.
+     *
+     * @param sourceFilePattern source file name or pattern
+     * @return list of full path names - sorted
+     */
+    private List<String> getMatchingSourceFiles(String sourceFilePattern)
+    {
+        final String methodName = "getMatchingSourceFiles";
+
+        File   sourceFile = new File(sourceFilePattern);
+        String fileName   = sourceFile.getName();
+
+        if ((! fileName.contains("*")) && (! fileName.contains("?")) && (! fileName.contains("[")) && (! fileName.contains("{")))
+        {
+            return Collections.singletonList(sourceFilePattern);
+        }
+
+        List<String> sourceFilePathNames = new ArrayList<>();
+        File         sourceFolder        = sourceFile.getAbsoluteFile().getParentFile();
+
+        try (DirectoryStream<Path> matchingFiles = Files.newDirectoryStream(sourceFolder.toPath(), fileName))
+        {
+            for (Path matchingFile : matchingFiles)
+            {
+                if (Files.isRegularFile(matchingFile))
+                {
+                    sourceFilePathNames.add(matchingFile.toString());
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      GovernanceActionConnectorsAuditCode.PROVISIONING_EXCEPTION.getMessageDefinition(governanceServiceName,
+                                                                                                                      error.getClass().getName(),
+                                                                                                                      sourceFilePattern,
+                                                                                                                      destinationFolderName,
+                                                                                                                      destinationFileNamePattern,
+                                                                                                                      error.getMessage()),
+                                      error);
+            }
+        }
+
+        Collections.sort(sourceFilePathNames);
+
+        return sourceFilePathNames;
+    }
+
+
+    /**
+     * Stream a single file.  This runs on one of the copy threads.
+     *
+     * @param provisioner streaming file provisioner
+     * @param sourceFilePathName full path name of the source file
+     * @return details of the new file or null if the file could not be provisioned
+     */
+    private StreamingFileProvisioner.ProvisionedFile provisionStreamedFile(StreamingFileProvisioner provisioner,
+                                                                           String                   sourceFilePathName)
+    {
+        final String methodName = "provisionStreamedFile";
+
+        try
+        {
+            return provisioner.provisionFile(sourceFilePathName, destinationFolderName, destinationFileNamePattern, copyFile);
+        }
+        catch (Exception error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      GovernanceActionConnectorsAuditCode.PROVISIONING_EXCEPTION.getMessageDefinition(governanceServiceName,
+                                                                                                                      error.getClass().getName(),
+                                                                                                                      sourceFilePathName,
+                                                                                                                      destinationFolderName,
+                                                                                                                      destinationFileNamePattern,
+                                                                                                                      error.getMessage()),
+                                      error);
+            }
+
+            return null;
+        }
+    }
+
+
+    /**
+     * Create the lineage for the verified files and record the completion status once all of the streamed files
+     * have finished.  The number of files and bytes provisioned are added to the request parameters.
+     *
+     * @param copies results of the copies
+     */
+    private void completeStreamingProvisioning(List<CompletableFuture<StreamingFileProvisioner.ProvisionedFile>> copies)
+    {
+        final String methodName = "completeStreamingProvisioning";
+
+        List<NewActionTarget> newActionTargets = new ArrayList<>();
+        boolean               allProvisioned   = true;
+        int                   fileCount        = 0;
+        long                  byteCount        = 0;
+        String                checksum         = null;
+
+        for (CompletableFuture<StreamingFileProvisioner.ProvisionedFile> copy : copies)
+        {
+            StreamingFileProvisioner.ProvisionedFile provisionedFile = null;
+
+            try
+            {
+                provisionedFile = copy.join();
+            }
+            catch (Exception error)
+            {
+                // the copy was cancelled
+            }
+
+            if (provisionedFile == null)
+            {
+                allProvisioned = false;
+                continue;
+            }
+
+            fileCount ++;
+            byteCount = byteCount + provisionedFile.getFileSize();
+            checksum  = provisionedFile.getChecksum();
+
+            if (createLineage)
+            {
+                try
+                {
+                    String newActionTargetGUID = createLineage(provisionedFile.getSourceFileName(), provisionedFile.getDestinationFileName());
+
+                    if (newActionTargetGUID != null)
+                    {
+                        NewActionTarget actionTarget = new NewActionTarget();
+
+                        actionTarget.setActionTargetGUID(newActionTargetGUID);
+                        actionTarget.setActionTargetName(provisionedFile.getDestinationFileName());
+                        newActionTargets.add(actionTarget);
+                    }
+                }
+                catch (Exception error)
+                {
+                    if (auditLog != null)
+                    {
+                        auditLog.logException(methodName,
+                                              GovernanceActionConnectorsAuditCode.PROVISIONING_EXCEPTION.getMessageDefinition(governanceServiceName,
+                                                                                                                              error.getClass().getName(),
+                                                                                                                              provisionedFile.getSourceFileName(),
+                                                                                                                              destinationFolderName,
+                                                                                                                              destinationFileNamePattern,
+                                                                                                                              error.getMessage()),
+                                              error);
+                    }
+
+                    allProvisioned = false;
+                }
+            }
+        }
+
+        Map<String, String> newRequestParameters = new HashMap<>();
+
+        newRequestParameters.put(PROVISIONED_FILE_COUNT_PARAMETER, Integer.toString(fileCount));
+        newRequestParameters.put(PROVISIONED_BYTE_COUNT_PARAMETER, Long.toString(byteCount));
+
+        if ((copies.size() == 1) && (checksum != null))
+        {
+            newRequestParameters.put(CHECKSUM_PARAMETER, checksum);
+        }
+
+        updateSourceActionTargetStatus(allProvisioned ? GovernanceActionStatus.ACTIONED : GovernanceActionStatus.FAILED, null, new Date());
+
+        try
+        {
+            if (allProvisioned)
+            {
+                governanceContext.recordCompletionStatus(CompletionStatus.ACTIONED,
+                                                         Collections.singletonList(MoveCopyFileGovernanceActionProvider.PROVISIONING_COMPLETE_GUARD),
+                                                         newRequestParameters,
+                                                         newActionTargets.isEmpty() ? null : newActionTargets);
+            }
+            else
+            {
+                governanceContext.recordCompletionStatus(CompletionStatus.FAILED,
+                                                         Collections.singletonList(MoveCopyFileGovernanceActionProvider.PROVISIONING_FAILED_GUARD),
+                                                         newRequestParameters,
+                                                         newActionTargets.isEmpty() ? null : newActionTargets);
+            }
+        }
+        catch (Exception error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      GovernanceActionConnectorsAuditCode.UNABLE_TO_SET_COMPLETION_STATUS.getMessageDefinition(governanceServiceName,
+                                                                                                                               error.getClass().getName(),
+                                                                                                                               error.getMessage()),
+                                      error);
+            }
+        }
+        finally
+        {
+            copyExecutor.shutdown();
+        }
+    }
+
+
+    /**
+     * Record the progress of the governance action on the action target for the source file (if there is one).
+     *
+     * @param status new status
+     * @param startDate date/time that the copy started - or null
+     * @param completionDate date/time that the copy finished - or null
+     */
+    private void updateSourceActionTargetStatus(GovernanceActionStatus status,
+                                                Date                   startDate,
+                                                Date                   completionDate)
+    {
+        final String methodName = "updateSourceActionTargetStatus";
+
+        if (sourceActionTargetGUID != null)
+        {
+            try
+            {
+                governanceContext.updateActionTargetStatus(sourceActionTargetGUID, status, startDate, completionDate);
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          GovernanceActionConnectorsAuditCode.UNABLE_TO_SET_COMPLETION_STATUS.getMessageDefinition(governanceServiceName,
+                                                                                                                                   error.getClass().getName(),
+                                                                                                                                   error.getMessage()),
+                                          error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Disconnect is called either because this governance action service called governanceContext.recordCompletionStatus()
+     * or the hosting server is shutting down.  Any copies still running are stopped.  Their partial files are kept so
+     * the copies resume when the governance action is run again.
+     *
+     * @throws ConnectorCheckedException there is a problem within the governance action service.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        if (copyExecutor != null)
+        {
+            copyExecutor.shutdownNow();
+        }
+
+        super.disconnect();
+    }
+
+
     /**
      * Extract the path name located in the properties of the the supplied asset metadata element (either a FileFolder or DataFile).
      * It looks first in the linked connection endpoint.  If this is not available then the qualified name of the asset is used.
@@ -686,6 +1134,7 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
      * It assumes the source file / folder is catalogued.  It attaches it to the the metadata element that represents this process
      * (if needed) and the destination file / folder.
      *
+     * @param sourceFilePathName name of the file that was copied
      * @param destinationFilePathName name of the file that was created
      * @return unique identifier if the new file asset
      *
@@ -693,9 +1142,10 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
      * @throws UserNotAuthorizedException the userId for the connector does not have the authority it needs
      * @throws PropertyServerException there is a problem with the metadata server(s)
      */
-    private String createLineage(String destinationFilePathName) throws InvalidParameterException,
-                                                                        UserNotAuthorizedException,
-                                                                        PropertyServerException
+    private synchronized String createLineage(String sourceFilePathName,
+                                              String destinationFilePathName) throws InvalidParameterException,
+                                                                                     UserNotAuthorizedException,
+                                                                                     PropertyServerException
     {
         final String methodName              = "createLineage";
         final String childProcessTypeName    = "TransientEmbeddedProcess";
@@ -747,18 +1197,23 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
             processGUID = topLevelProcessGUID;
         }
 
-        if (sourceFileGUID == null)
+        /*
+         * The action target only identifies the source file when the file name was not a pattern.
+         */
+        String sourceGUID = sourceFilePathName.equals(sourceFileName) ? sourceFileGUID : null;
+
+        if (sourceGUID == null)
         {
-            sourceFileGUID = metadataStore.getMetadataElementGUIDByUniqueName(sourceFileName, "pathName");
+            sourceGUID = metadataStore.getMetadataElementGUIDByUniqueName(sourceFilePathName, "pathName");
 
-            if (sourceFileGUID == null)
+            if (sourceGUID == null)
             {
-                sourceFileGUID = metadataStore.getMetadataElementGUIDByUniqueName(sourceFileName, null);
+                sourceGUID = metadataStore.getMetadataElementGUIDByUniqueName(sourceFilePathName, null);
             }
 
             if (! sourceLineageFromFile)
             {
-                sourceFileGUID = getFolderGUID(sourceFileGUID);
+                sourceGUID = getFolderGUID(sourceGUID);
             }
         }
 
@@ -781,10 +1236,9 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
             newFileGUID = getFolderGUID(newFileGUID);
         }
 
-        sourceFileGUID = governanceContext.getOpenMetadataStore().getMetadataElementGUIDByUniqueName(sourceFileName, null);
-        if (sourceFileGUID != null)
+        if (sourceGUID != null)
         {
-            governanceContext.createLineageMapping(sourceFileGUID, processGUID);
+            governanceContext.createLineageMapping(sourceGUID, processGUID);
         }
 
         governanceContext.createLineageMapping(processGUID, newFileGUID);
@@ -793,7 +1247,7 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
         {
             auditLog.logMessage(methodName,
                                 GovernanceActionConnectorsAuditCode.CREATED_LINEAGE.getMessageDefinition(governanceServiceName,
-                                                                                                         sourceFileGUID,
+                                                                                                         sourceGUID,
                                                                                                          processGUID,
                                                                                                          newFileGUID));
         }
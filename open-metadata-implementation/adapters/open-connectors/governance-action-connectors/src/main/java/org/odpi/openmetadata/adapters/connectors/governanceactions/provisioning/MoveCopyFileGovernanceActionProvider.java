@@ -30,6 +30,10 @@ public class MoveCopyFileGovernanceActionProvider extends GovernanceActionServic
     static final String TOP_LEVEL_PROCESS_ONLY_LINEAGE_PROPERTY                    = "topLevelProcessLineageOnly";
     static final String LINEAGE_TO_DESTINATION_FOLDER_ONLY_PROPERTY                = "lineageToDestinationFolderOnly";
     static final String LINEAGE_FROM_SOURCE_FOLDER_ONLY_PROPERTY                   = "lineageFromSourceFolderOnly";
+    static final String STREAMING_COPY_PROPERTY                                    = "streamingCopy";
+    static final String COPY_CHUNK_SIZE_PROPERTY                                   = "copyChunkSize";
+    static final String CHECKSUM_ALGORITHM_PROPERTY                                = "checksumAlgorithm";
+    static final String MAX_PARALLEL_COPIES_PROPERTY                               = "maxParallelCopies";
 
     static final String COPY_REQUEST_TYPE   = "copy-file";
     static final String MOVE_REQUEST_TYPE   = "move-file";
@@ -90,6 +94,10 @@ public class MoveCopyFileGovernanceActionProvider extends GovernanceActionServic
         recognizedConfigurationProperties.add(TOP_LEVEL_PROCESS_ONLY_LINEAGE_PROPERTY);
         recognizedConfigurationProperties.add(LINEAGE_FROM_SOURCE_FOLDER_ONLY_PROPERTY);
         recognizedConfigurationProperties.add(LINEAGE_TO_DESTINATION_FOLDER_ONLY_PROPERTY);
+        recognizedConfigurationProperties.add(STREAMING_COPY_PROPERTY);
+        recognizedConfigurationProperties.add(COPY_CHUNK_SIZE_PROPERTY);
+        recognizedConfigurationProperties.add(CHECKSUM_ALGORITHM_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_PARALLEL_COPIES_PROPERTY);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
@@ -0,0 +1,511 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.governanceactions.provisioning;
+
+import org.odpi.openmetadata.adapters.connectors.governanceactions.ffdc.GovernanceActionConnectorsAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.CRC32;
+
+/**
+ * StreamingFileProvisioner copies a single file for the MoveCopyFileGovernanceActionConnector when it is running in
+ * streaming mode.  The file is streamed into a hidden partial file in the destination folder in chunks using
+ * FileChannel.transferTo so the operating system can copy the data without passing it through the JVM.  If an earlier
+ * request was interrupted, the copy resumes from the end of its partial file.  Once all of the data is copied,
+ * the checksums of the source file and the partial file are compared and the partial file is renamed to the
+ * destination file name.  If the checksums of a resumed copy do not match, the source file may have changed since
+ * the partial file was written, so the copy is restarted once from the beginning.
+ *
+ * The partial file is named from the full path of the source file so copies of files with the same name from
+ * different folders do not share a partial file.  The partial file is locked while it is in use so that two requests
+ * to copy the same file (from this or another process) do not write to it at the same time.
+ *
+ * A move is a rename when the source and destination are on the same file system, and a verified copy followed by
+ * a delete of the source file when they are not.
+ */
+class StreamingFileProvisioner
+{
+    private static final String partialFilePrefix = ".";
+    private static final String partialFileSuffix = ".partial";
+    private static final int    checksumBufferSize = 1024 * 1024;
+    private static final int    progressSteps      = 10;
+
+    private final String   governanceServiceName;
+    private final long     chunkSize;
+    private final String   checksumAlgorithm;
+    private final AuditLog auditLog;
+
+
+    /**
+     * Constructor.
+     *
+     * @param governanceServiceName name of the governance action service - used in messages
+     * @param chunkSize number of bytes transferred in each call to the operating system
+     * @param checksumAlgorithm name of the message digest algorithm used to verify the copy
+     * @param auditLog logging destination
+     */
+    StreamingFileProvisioner(String   governanceServiceName,
+                             long     chunkSize,
+                             String   checksumAlgorithm,
+                             AuditLog auditLog)
+    {
+        this.governanceServiceName = governanceServiceName;
+        this.chunkSize             = chunkSize;
+        this.checksumAlgorithm     = checksumAlgorithm;
+        this.auditLog              = auditLog;
+    }
+
+
+    /**
+     * Move or copy a file into the destination folder.
+     *
+     * @param sourceFilePathName full path name of the source file
+     * @param destinationFolderName name of the folder where the file is to be provisioned into
+     * @param fileNamePattern pattern for generating the name of the destination file
+     * @param copyFile is this a copy or a move?
+     * @return details of the new file or null if no destination file name is available
+     * @throws IOException there is a problem reading or writing the files
+     * @throws NoSuchAlgorithmException the checksum algorithm is not supported by the JVM
+     */
+    ProvisionedFile provisionFile(String  sourceFilePathName,
+                                  String  destinationFolderName,
+                                  String  fileNamePattern,
+                                  boolean copyFile) throws IOException,
+                                                           NoSuchAlgorithmException
+    {
+        final String methodName = "provisionFile";
+
+        Path sourceFile        = Paths.get(sourceFilePathName);
+        Path destinationFolder = Paths.get(destinationFolderName);
+
+        Files.createDirectories(destinationFolder);
+
+        String destinationFileName = MoveCopyFileGovernanceActionConnector.reserveDestinationFileName(destinationFolderName,
+                                                                                                      new File(sourceFilePathName),
+                                                                                                      fileNamePattern);
+
+        if (destinationFileName == null)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    GovernanceActionConnectorsAuditCode.PROVISIONING_FAILURE.getMessageDefinition(governanceServiceName,
+                                                                                                                  sourceFilePathName,
+                                                                                                                  destinationFolderName,
+                                                                                                                  fileNamePattern));
+            }
+
+            return null;
+        }
+
+        try
+        {
+            Path destinationFile = Paths.get(destinationFileName);
+            long fileSize        = Files.size(sourceFile);
+
+            if (! copyFile)
+            {
+                if (renameFile(sourceFile, destinationFile))
+                {
+                    if (auditLog != null)
+                    {
+                        auditLog.logMessage(methodName,
+                                            GovernanceActionConnectorsAuditCode.MOVE_FILE.getMessageDefinition(governanceServiceName,
+                                                                                                               sourceFilePathName,
+                                                                                                               destinationFileName));
+                    }
+
+                    return new ProvisionedFile(sourceFilePathName, destinationFileName, fileSize, null);
+                }
+
+                /*
+                 * The source and destination are on different file systems so the file is copied and then
+                 * the source is deleted.
+                 */
+            }
+
+            Path   partialFile = destinationFolder.resolve(getPartialFileName(sourceFile));
+            String sourceChecksum;
+
+            try (FileChannel partial     = FileChannel.open(partialFile,
+                                                            StandardOpenOption.CREATE,
+                                                            StandardOpenOption.READ,
+                                                            StandardOpenOption.WRITE);
+                 FileLock    partialLock = lockPartialFile(partial, partialFile))
+            {
+                boolean resumed = streamFile(sourceFile, partial, partialFile, fileSize);
+
+                sourceChecksum = getChecksum(sourceFile);
+
+                String partialChecksum = getChecksum(partial);
+
+                if ((! sourceChecksum.equals(partialChecksum)) && (resumed))
+                {
+                    /*
+                     * The data already in the partial file came from an earlier version of the source file.
+                     */
+                    if (auditLog != null)
+                    {
+                        auditLog.logMessage(methodName,
+                                            GovernanceActionConnectorsAuditCode.RESTARTING_COPY.getMessageDefinition(governanceServiceName,
+                                                                                                                     partialFile.toString(),
+                                                                                                                     sourceFilePathName));
+                    }
+
+                    partial.truncate(0);
+                    fileSize = Files.size(sourceFile);
+                    streamFile(sourceFile, partial, partialFile, fileSize);
+
+                    sourceChecksum  = getChecksum(sourceFile);
+                    partialChecksum = getChecksum(partial);
+                }
+
+                if (! sourceChecksum.equals(partialChecksum))
+                {
+                    if (auditLog != null)
+                    {
+                        auditLog.logMessage(methodName,
+                                            GovernanceActionConnectorsAuditCode.CHECKSUM_MISMATCH.getMessageDefinition(governanceServiceName,
+                                                                                                                       partialFile.toString(),
+                                                                                                                       checksumAlgorithm,
+                                                                                                                       partialChecksum,
+                                                                                                                       sourceFilePathName,
+                                                                                                                       sourceChecksum));
+                    }
+
+                    Files.deleteIfExists(partialFile);
+                    return null;
+                }
+
+                /*
+                 * The partial file is renamed while it is still locked so no other request can start writing to it.
+                 */
+                Files.move(partialFile, destinationFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    GovernanceActionConnectorsAuditCode.COPY_VERIFIED.getMessageDefinition(governanceServiceName,
+                                                                                                           destinationFileName,
+                                                                                                           sourceFilePathName,
+                                                                                                           checksumAlgorithm,
+                                                                                                           sourceChecksum));
+            }
+
+            if (! copyFile)
+            {
+                Files.delete(sourceFile);
+
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        GovernanceActionConnectorsAuditCode.MOVE_FILE.getMessageDefinition(governanceServiceName,
+                                                                                                           sourceFilePathName,
+                                                                                                           destinationFileName));
+                }
+            }
+            else if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    GovernanceActionConnectorsAuditCode.COPY_FILE.getMessageDefinition(governanceServiceName,
+                                                                                                       sourceFilePathName,
+                                                                                                       destinationFileName));
+            }
+
+            return new ProvisionedFile(sourceFilePathName, destinationFileName, fileSize, sourceChecksum);
+        }
+        finally
+        {
+            MoveCopyFileGovernanceActionConnector.releaseDestinationFileName(destinationFileName);
+        }
+    }
+
+
+    /**
+     * Move a file with a rename.  This only works if the source and destination are on the same file system.
+     *
+     * @param sourceFile file to move
+     * @param destinationFile new name for the file
+     * @return boolean flag - false if the source and destination are on different file systems
+     * @throws IOException there is a problem renaming the file
+     */
+    boolean renameFile(Path sourceFile,
+                       Path destinationFile) throws IOException
+    {
+        try
+        {
+            Files.move(sourceFile, destinationFile, StandardCopyOption.ATOMIC_MOVE);
+
+            return true;
+        }
+        catch (AtomicMoveNotSupportedException error)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Return the name of the partial file for a source file.  It includes a checksum of the full path of the source file
+     * so files with the same name from different folders use different partial files.
+     *
+     * @param sourceFile file to copy
+     * @return file name
+     */
+    static String getPartialFileName(Path sourceFile)
+    {
+        CRC32 sourcePathChecksum = new CRC32();
+
+        sourcePathChecksum.update(sourceFile.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+
+        return partialFilePrefix + sourceFile.getFileName() + "." + Long.toHexString(sourcePathChecksum.getValue()) + partialFileSuffix;
+    }
+
+
+    /**
+     * Lock the partial file so that no other request writes to it at the same time.
+     *
+     * @param partial open partial file
+     * @param partialFile name of the partial file - used in messages
+     * @return lock
+     * @throws IOException the partial file is already locked by another request
+     */
+    private FileLock lockPartialFile(FileChannel partial,
+                                     Path        partialFile) throws IOException
+    {
+        FileLock partialLock;
+
+        try
+        {
+            partialLock = partial.tryLock();
+        }
+        catch (OverlappingFileLockException error)
+        {
+            partialLock = null;
+        }
+
+        if (partialLock == null)
+        {
+            throw new IOException("Partial file " + partialFile + " is in use by another copy of the same source file");
+        }
+
+        return partialLock;
+    }
+
+
+    /**
+     * Stream the source file into the partial file, starting from the end of any data already in the partial file.
+     *
+     * @param sourceFile file to copy
+     * @param partial open partial file to copy into
+     * @param partialFile name of the partial file - used in messages
+     * @param fileSize size of the source file
+     * @return boolean flag - true if the copy resumed from data already in the partial file
+     * @throws IOException there is a problem reading or writing the files, or the source file is shorter than expected
+     */
+    private boolean streamFile(Path        sourceFile,
+                               FileChannel partial,
+                               Path        partialFile,
+                               long        fileSize) throws IOException
+    {
+        final String methodName = "streamFile";
+
+        try (FileChannel source = FileChannel.open(sourceFile, StandardOpenOption.READ))
+        {
+            long position = partial.size();
+
+            if (position > fileSize)
+            {
+                /*
+                 * The partial file is from a different version of the source file.
+                 */
+                partial.truncate(0);
+                position = 0;
+            }
+
+            if (auditLog != null)
+            {
+                if (position > 0)
+                {
+                    auditLog.logMessage(methodName,
+                                        GovernanceActionConnectorsAuditCode.RESUMING_COPY.getMessageDefinition(governanceServiceName,
+                                                                                                               sourceFile.toString(),
+                                                                                                               Long.toString(position),
+                                                                                                               Long.toString(fileSize),
+                                                                                                               partialFile.toString()));
+                }
+                else
+                {
+                    auditLog.logMessage(methodName,
+                                        GovernanceActionConnectorsAuditCode.STREAMING_COPY.getMessageDefinition(governanceServiceName,
+                                                                                                                Long.toString(fileSize),
+                                                                                                                sourceFile.toString(),
+                                                                                                                partialFile.toString(),
+                                                                                                                Long.toString(chunkSize)));
+                }
+            }
+
+            boolean resumed          = (position > 0);
+            int     lastProgressStep = (fileSize == 0) ? progressSteps : (int)(position * progressSteps / fileSize);
+
+            partial.position(position);
+
+            while (position < fileSize)
+            {
+                long transferred = source.transferTo(position, Math.min(chunkSize, fileSize - position), partial);
+
+                if (transferred <= 0)
+                {
+                    throw new IOException("Source file " + sourceFile + " ended at byte " + position + " of " + fileSize);
+                }
+
+                position = position + transferred;
+                partial.position(position);
+
+                int progressStep = (int)(position * progressSteps / fileSize);
+
+                if ((progressStep > lastProgressStep) && (progressStep < progressSteps) && (auditLog != null))
+                {
+                    auditLog.logMessage(methodName,
+                                        GovernanceActionConnectorsAuditCode.COPY_PROGRESS.getMessageDefinition(governanceServiceName,
+                                                                                                               Integer.toString(progressStep * 100 / progressSteps),
+                                                                                                               Long.toString(position),
+                                                                                                               Long.toString(fileSize),
+                                                                                                               sourceFile.toString()));
+                }
+
+                lastProgressStep = progressStep;
+            }
+
+            partial.force(true);
+
+            return resumed;
+        }
+    }
+
+
+    /**
+     * Calculate the checksum of a file.
+     *
+     * @param file file to read
+     * @return checksum as a hex string
+     * @throws IOException there is a problem reading the file
+     * @throws NoSuchAlgorithmException the checksum algorithm is not supported by the JVM
+     */
+    private String getChecksum(Path file) throws IOException,
+                                                 NoSuchAlgorithmException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            return getChecksum(channel);
+        }
+    }
+
+
+    /**
+     * Calculate the checksum of an open file from its first byte.  The position of the channel is not changed.
+     *
+     * @param channel open file
+     * @return checksum as a hex string
+     * @throws IOException there is a problem reading the file
+     * @throws NoSuchAlgorithmException the checksum algorithm is not supported by the JVM
+     */
+    private String getChecksum(FileChannel channel) throws IOException,
+                                                           NoSuchAlgorithmException
+    {
+        MessageDigest messageDigest = MessageDigest.getInstance(checksumAlgorithm);
+        ByteBuffer    buffer        = ByteBuffer.allocateDirect(checksumBufferSize);
+        long          position      = 0;
+        int           bytesRead     = channel.read(buffer, position);
+
+        while (bytesRead != -1)
+        {
+            position = position + bytesRead;
+            buffer.flip();
+            messageDigest.update(buffer);
+            buffer.clear();
+            bytesRead = channel.read(buffer, position);
+        }
+
+        StringBuilder checksum = new StringBuilder();
+
+        for (byte digestByte : messageDigest.digest())
+        {
+            checksum.append(String.format("%02x", digestByte));
+        }
+
+        return checksum.toString();
+    }
+
+
+    /**
+     * ProvisionedFile describes a file that has been moved or copied.
+     */
+    static class ProvisionedFile
+    {
+        private final String sourceFileName;
+        private final String destinationFileName;
+        private final long   fileSize;
+        private final String checksum;
+
+
+        /**
+         * Constructor.
+         *
+         * @param sourceFileName full path name of the source file
+         * @param destinationFileName full path name of the new file
+         * @param fileSize number of bytes in the file
+         * @param checksum checksum of the file - null if the file was moved without copying
+         */
+        ProvisionedFile(String sourceFileName,
+                        String destinationFileName,
+                        long   fileSize,
+                        String checksum)
+        {
+            this.sourceFileName      = sourceFileName;
+            this.destinationFileName = destinationFileName;
+            this.fileSize            = fileSize;
+            this.checksum            = checksum;
+        }
+
+
+        String getSourceFileName()
+        {
+            return sourceFileName;
+        }
+
+
+        String getDestinationFileName()
+        {
+            return destinationFileName;
+        }
+
+
+        long getFileSize()
+        {
+            return fileSize;
+        }
+
+
+        String getChecksum()
+        {
+            return checksum;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.governanceactions.provisioning;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Validate that StreamingFileProvisioner copies and moves files through a locked partial file, resumes an interrupted
+ * copy and restarts a resumed copy once when the source file has changed.
+ */
+public class StreamingFileProvisionerTest
+{
+    private static final String governanceServiceName = "testService";
+    private static final long   chunkSize             = 1000;
+    private static final String checksumAlgorithm     = "SHA-256";
+    private static final int    fileSize              = 10000;
+
+    private Path sourceFolder      = null;
+    private Path destinationFolder = null;
+    private Path sourceFile        = null;
+
+
+    /**
+     * Default constructor
+     */
+    public StreamingFileProvisionerTest()
+    {
+    }
+
+
+    /**
+     * Create a source file and an empty destination folder.
+     *
+     * @throws IOException unable to create the files
+     */
+    @BeforeMethod
+    public void createFiles() throws IOException
+    {
+        sourceFolder      = Files.createTempDirectory("streaming-source");
+        destinationFolder = Files.createTempDirectory("streaming-destination");
+        sourceFile        = sourceFolder.resolve("data.bin");
+
+        Files.write(sourceFile, getContent((byte)1));
+    }
+
+
+    /**
+     * Remove the temporary folders.
+     *
+     * @throws IOException unable to delete the files
+     */
+    @AfterMethod
+    public void deleteFiles() throws IOException
+    {
+        deleteFolder(sourceFolder);
+        deleteFolder(destinationFolder);
+    }
+
+
+    /**
+     * A copy produces an identical destination file and leaves no partial file behind.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testCopy() throws Exception
+    {
+        StreamingFileProvisioner.ProvisionedFile provisionedFile = getProvisioner().provisionFile(sourceFile.toString(),
+                                                                                                  destinationFolder.toString(),
+                                                                                                  null,
+                                                                                                  true);
+
+        assertNotNull(provisionedFile);
+        assertNotNull(provisionedFile.getChecksum());
+        assertEquals(provisionedFile.getFileSize(), fileSize);
+        assertTrue(Files.exists(sourceFile));
+        assertTrue(Arrays.equals(Files.readAllBytes(Path.of(provisionedFile.getDestinationFileName())), getContent((byte)1)));
+        assertFalse(Files.exists(getPartialFile()));
+    }
+
+
+    /**
+     * A copy resumes from the data already in a partial file written from the same source file.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testResume() throws Exception
+    {
+        Files.write(getPartialFile(), Arrays.copyOf(getContent((byte)1), fileSize / 2));
+
+        StreamingFileProvisioner.ProvisionedFile provisionedFile = getProvisioner().provisionFile(sourceFile.toString(),
+                                                                                                  destinationFolder.toString(),
+                                                                                                  null,
+                                                                                                  true);
+
+        assertNotNull(provisionedFile);
+        assertTrue(Arrays.equals(Files.readAllBytes(Path.of(provisionedFile.getDestinationFileName())), getContent((byte)1)));
+        assertFalse(Files.exists(getPartialFile()));
+    }
+
+
+    /**
+     * A resumed copy whose partial file came from an earlier version of the source file is restarted from the beginning.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testResumeAfterSourceChanged() throws Exception
+    {
+        Files.write(getPartialFile(), Arrays.copyOf(getContent((byte)2), fileSize / 2));
+
+        StreamingFileProvisioner.ProvisionedFile provisionedFile = getProvisioner().provisionFile(sourceFile.toString(),
+                                                                                                  destinationFolder.toString(),
+                                                                                                  null,
+                                                                                                  true);
+
+        assertNotNull(provisionedFile);
+        assertTrue(Arrays.equals(Files.readAllBytes(Path.of(provisionedFile.getDestinationFileName())), getContent((byte)1)));
+        assertFalse(Files.exists(getPartialFile()));
+    }
+
+
+    /**
+     * A copy fails rather than writing into a partial file that another copy has locked.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testLockedPartialFile() throws Exception
+    {
+        try (FileChannel partial     = FileChannel.open(getPartialFile(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock    partialLock = partial.lock())
+        {
+            assertTrue(partialLock.isValid());
+
+            expectThrows(IOException.class, () -> getProvisioner().provisionFile(sourceFile.toString(),
+                                                                                 destinationFolder.toString(),
+                                                                                 null,
+                                                                                 true));
+        }
+
+        assertEquals(Files.size(getPartialFile()), 0L);
+        assertFalse(Files.exists(destinationFolder.resolve(sourceFile.getFileName())));
+    }
+
+
+    /**
+     * A move within the same file system is a rename, so there is no checksum.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testMoveOnSameFileSystem() throws Exception
+    {
+        StreamingFileProvisioner.ProvisionedFile provisionedFile = getProvisioner().provisionFile(sourceFile.toString(),
+                                                                                                  destinationFolder.toString(),
+                                                                                                  null,
+                                                                                                  false);
+
+        assertNotNull(provisionedFile);
+        assertNull(provisionedFile.getChecksum());
+        assertFalse(Files.exists(sourceFile));
+        assertTrue(Arrays.equals(Files.readAllBytes(Path.of(provisionedFile.getDestinationFileName())), getContent((byte)1)));
+    }
+
+
+    /**
+     * A move between file systems is a verified copy followed by the deletion of the source file.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testMoveAcrossFileSystems() throws Exception
+    {
+        StreamingFileProvisioner provisioner = new StreamingFileProvisioner(governanceServiceName, chunkSize, checksumAlgorithm, null)
+        {
+            @Override
+            boolean renameFile(Path sourceFile,
+                               Path destinationFile)
+            {
+                return false;
+            }
+        };
+
+        StreamingFileProvisioner.ProvisionedFile provisionedFile = provisioner.provisionFile(sourceFile.toString(),
+                                                                                             destinationFolder.toString(),
+                                                                                             null,
+                                                                                             false);
+
+        assertNotNull(provisionedFile);
+        assertNotNull(provisionedFile.getChecksum());
+        assertFalse(Files.exists(sourceFile));
+        assertFalse(Files.exists(getPartialFile()));
+        assertTrue(Arrays.equals(Files.readAllBytes(Path.of(provisionedFile.getDestinationFileName())), getContent((byte)1)));
+    }
+
+
+    /**
+     * Source files with the same name in different folders use different partial files.
+     */
+    @Test
+    public void testPartialFileNameIncludesSourcePath()
+    {
+        String firstPartialFileName  = StreamingFileProvisioner.getPartialFileName(sourceFolder.resolve("first").resolve("data.bin"));
+        String secondPartialFileName = StreamingFileProvisioner.getPartialFileName(sourceFolder.resolve("second").resolve("data.bin"));
+
+        assertTrue(firstPartialFileName.startsWith(".data.bin."));
+        assertTrue(firstPartialFileName.endsWith(".partial"));
+        assertNotEquals(firstPartialFileName, secondPartialFileName);
+        assertEquals(StreamingFileProvisioner.getPartialFileName(sourceFolder.resolve("first").resolve("data.bin")), firstPartialFileName);
+    }
+
+
+    /**
+     * Return a provisioner that copies in small chunks.
+     *
+     * @return provisioner
+     */
+    private StreamingFileProvisioner getProvisioner()
+    {
+        return new StreamingFileProvisioner(governanceServiceName, chunkSize, checksumAlgorithm, null);
+    }
+
+
+    /**
+     * Return the partial file for the source file.
+     *
+     * @return path of the partial file in the destination folder
+     */
+    private Path getPartialFile()
+    {
+        return destinationFolder.resolve(StreamingFileProvisioner.getPartialFileName(sourceFile));
+    }
+
+
+    /**
+     * Return the content of a test file.
+     *
+     * @param seed value that makes the content different for each version of the file
+     * @return bytes
+     */
+    private byte[] getContent(byte seed)
+    {
+        byte[] content = new byte[fileSize];
+
+        for (int i = 0; i < fileSize; i++)
+        {
+            content[i] = (byte)(i * seed);
+        }
+
+        return content;
+    }
+
+
+    /**
+     * Delete a folder and its contents.
+     *
+     * @param folder folder to delete
+     * @throws IOException unable to delete the files
+     */
+    private void deleteFolder(Path folder) throws IOException
+    {
+        if (folder != null)
+        {
+            try (Stream<Path> paths = Files.walk(folder))
+            {
+                for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+                {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+}
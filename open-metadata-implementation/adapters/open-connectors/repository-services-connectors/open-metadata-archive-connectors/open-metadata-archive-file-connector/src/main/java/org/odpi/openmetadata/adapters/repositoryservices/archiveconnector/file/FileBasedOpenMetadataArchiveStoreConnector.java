@@ -7,14 +7,26 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSConnectorErrorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * FileBasedOpenMetadataArchiveStoreConnector reads and writes an open metadata archive stored as a JSON file.
+ * Archive files may be compressed with gzip.  Compressed files are detected from their content when they are read
+ * and written compressed when the file name ends in ".gz".
+ */
 public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
 {
     /*
@@ -22,6 +34,11 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
      */
     private static final String defaultFilename = "open.metadata.archive";
 
+    /*
+     * Archive files with this suffix are written compressed.
+     */
+    private static final String compressedFileSuffix = ".gz";
+
     /*
      * Variables used in writing to the file.
      */
@@ -70,35 +87,89 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
      * Return the contents of the archive.
      *
      * @return OpenMetadataArchive object
+     * @throws OMRSConnectorErrorException the archive file is missing, truncated or corrupt
      */
     @Override
     public OpenMetadataArchive getArchiveContents()
     {
-        File                archiveStoreFile     = new File(archiveStoreName);
-        OpenMetadataArchive newOpenMetadataArchive;
+        final String methodName = "getArchiveContents";
 
-        try
-        {
-            log.debug("Retrieving server configuration properties");
+        File archiveStoreFile = new File(archiveStoreName);
 
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
+        try (InputStream archiveStoreStream = OpenMetadataArchiveStreamReader.openArchiveFile(archiveStoreFile))
+        {
+            log.debug("Retrieving open metadata archive contents");
 
             ObjectMapper objectMapper = new ObjectMapper();
 
-            newOpenMetadataArchive = objectMapper.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            return objectMapper.readValue(archiveStoreStream, OpenMetadataArchive.class);
+        }
+        catch (IOException ioException)
+        {
+            throw getUnreadableArchiveException(methodName, ioException);
+        }
+    }
+
+
+    /**
+     * Pass the contents of the archive to the supplied processor one element at a time.  The file is parsed
+     * incrementally so the instances in the archive are never all held in memory together.
+     *
+     * @param contentProcessor receiver of the archive content
+     * @throws OMRSConnectorErrorException the archive file is missing, truncated or corrupt
+     */
+    @Override
+    public void processArchiveContents(OpenMetadataArchiveContentProcessor contentProcessor)
+    {
+        final String methodName = "processArchiveContents";
+
+        File archiveStoreFile = new File(archiveStoreName);
+
+        try
+        {
+            log.debug("Streaming open metadata archive contents");
+
+            OpenMetadataArchiveStreamReader streamReader = new OpenMetadataArchiveStreamReader(contentProcessor);
+
+            streamReader.readArchive(OpenMetadataArchiveStreamReader.openArchiveFile(archiveStoreFile));
         }
         catch (IOException ioException)
         {
             /*
-             * The config file is not found, create a new one ...
+             * Any content that was read before the error has already been passed to the processor.
              */
+            throw getUnreadableArchiveException(methodName, ioException);
+        }
+    }
 
-            log.debug("New server config Store", ioException);
 
-            newOpenMetadataArchive = new OpenMetadataArchive();
+    /**
+     * Log that the archive file can not be read and return the exception to throw to the caller.
+     *
+     * @param methodName calling method
+     * @param ioException error from reading the file
+     * @return exception to throw
+     */
+    private OMRSConnectorErrorException getUnreadableArchiveException(String      methodName,
+                                                                      IOException ioException)
+    {
+        log.debug("Unable to read open metadata archive " + archiveStoreName, ioException);
+
+        if (auditLog != null)
+        {
+            auditLog.logException(methodName,
+                                  OMRSAuditCode.UNREADABLE_ARCHIVE.getMessageDefinition(archiveStoreName,
+                                                                                        ioException.getClass().getName(),
+                                                                                        ioException.getMessage()),
+                                  ioException);
         }
 
-        return newOpenMetadataArchive;
+        return new OMRSConnectorErrorException(OMRSErrorCode.UNREADABLE_ARCHIVE_STORE.getMessageDefinition(archiveStoreName,
+                                                                                                           ioException.getClass().getName(),
+                                                                                                           ioException.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               ioException);
     }
 
 
@@ -124,9 +195,10 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
             {
                 ObjectMapper objectMapper = new ObjectMapper();
 
-                String archiveStoreFileContents = objectMapper.writeValueAsString(archiveContents);
-
-                FileUtils.writeStringToFile(archiveStoreFile, archiveStoreFileContents, (String)null,false);
+                try (OutputStream archiveStoreStream = this.openArchiveFileForWrite(archiveStoreFile))
+                {
+                    objectMapper.writeValue(archiveStoreStream, archiveContents);
+                }
             }
         }
         catch (IOException   ioException)
@@ -136,6 +208,26 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Open the archive file for writing, compressing the content if the file name ends in ".gz".
+     *
+     * @param archiveStoreFile file to write
+     * @return output stream
+     * @throws IOException the file can not be opened
+     */
+    private OutputStream openArchiveFileForWrite(File archiveStoreFile) throws IOException
+    {
+        OutputStream outputStream = FileUtils.openOutputStream(archiveStoreFile);
+
+        if (archiveStoreName.endsWith(compressedFileSuffix))
+        {
+            return new GZIPOutputStream(outputStream);
+        }
+
+        return outputStream;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
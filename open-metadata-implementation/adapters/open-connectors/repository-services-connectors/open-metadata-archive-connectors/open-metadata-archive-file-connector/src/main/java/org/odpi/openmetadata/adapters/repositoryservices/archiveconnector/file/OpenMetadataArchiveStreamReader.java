@@ -0,0 +1,241 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * OpenMetadataArchiveStreamReader parses an open metadata archive JSON document token by token and passes its
+ * content to an OpenMetadataArchiveContentProcessor.  The archive properties and type store are small and are
+ * read as whole objects.  The entities, relationships and classifications of the instance store are read and
+ * passed to the processor one at a time so the memory needed to load an archive does not depend on the number
+ * of instances it contains.
+ * <p>
+ * The archive properties are needed to process the rest of the archive.  If a section appears before the
+ * archive properties in the document (archives written by Egeria always start with the archive properties)
+ * it is held in memory until the archive properties have been read.
+ * </p>
+ */
+public class OpenMetadataArchiveStreamReader
+{
+    private static final String archivePropertiesField    = "archiveProperties";
+    private static final String archiveTypeStoreField     = "archiveTypeStore";
+    private static final String archiveInstanceStoreField = "archiveInstanceStore";
+    private static final String entitiesField             = "entities";
+    private static final String relationshipsField        = "relationships";
+    private static final String classificationsField      = "classifications";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final OpenMetadataArchiveContentProcessor contentProcessor;
+
+    private boolean                          propertiesProcessed   = false;
+    private OpenMetadataArchiveTypeStore     deferredTypeStore     = null;
+    private OpenMetadataArchiveInstanceStore deferredInstanceStore = null;
+
+
+    /**
+     * Constructor
+     *
+     * @param contentProcessor receiver of the archive content
+     */
+    public OpenMetadataArchiveStreamReader(OpenMetadataArchiveContentProcessor contentProcessor)
+    {
+        this.contentProcessor = contentProcessor;
+    }
+
+
+    /**
+     * Open an input stream to an archive file.  Archive files that are compressed with gzip are detected from
+     * their content and decompressed as they are read.
+     *
+     * @param archiveFile file to read
+     * @return input stream positioned at the start of the JSON document
+     * @throws IOException the file can not be opened
+     */
+    public static InputStream openArchiveFile(File archiveFile) throws IOException
+    {
+        InputStream inputStream = new BufferedInputStream(new FileInputStream(archiveFile));
+
+        inputStream.mark(2);
+
+        int magic = inputStream.read() | (inputStream.read() << 8);
+
+        inputStream.reset();
+
+        if (magic == GZIPInputStream.GZIP_MAGIC)
+        {
+            return new GZIPInputStream(inputStream);
+        }
+
+        return inputStream;
+    }
+
+
+    /**
+     * Read the archive document from the supplied stream, passing its content to the processor.
+     * The stream is closed on return.
+     *
+     * @param inputStream stream containing a JSON encoded open metadata archive
+     * @throws IOException the stream can not be read or does not contain a valid archive
+     */
+    public void readArchive(InputStream inputStream) throws IOException
+    {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream))
+        {
+            JsonToken token = parser.nextToken();
+
+            if (token == null)
+            {
+                /*
+                 * Empty document.
+                 */
+                return;
+            }
+
+            if (token != JsonToken.START_OBJECT)
+            {
+                throw new IOException("Open metadata archive does not start with a JSON object: " + token);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+
+                parser.nextToken();
+
+                if (archivePropertiesField.equals(fieldName))
+                {
+                    this.processArchiveProperties(objectMapper.readValue(parser, OpenMetadataArchiveProperties.class));
+                }
+                else if (archiveTypeStoreField.equals(fieldName))
+                {
+                    OpenMetadataArchiveTypeStore typeStore = objectMapper.readValue(parser, OpenMetadataArchiveTypeStore.class);
+
+                    if (propertiesProcessed)
+                    {
+                        contentProcessor.processTypeStore(typeStore);
+                    }
+                    else
+                    {
+                        deferredTypeStore = typeStore;
+                    }
+                }
+                else if (archiveInstanceStoreField.equals(fieldName))
+                {
+                    if (propertiesProcessed)
+                    {
+                        this.streamInstanceStore(parser);
+                    }
+                    else
+                    {
+                        deferredInstanceStore = objectMapper.readValue(parser, OpenMetadataArchiveInstanceStore.class);
+                    }
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+
+            if (! propertiesProcessed)
+            {
+                this.processArchiveProperties(null);
+            }
+        }
+    }
+
+
+    /**
+     * Pass the archive properties to the processor followed by any sections that were read before them.
+     *
+     * @param archiveProperties header of the archive
+     */
+    private void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+    {
+        contentProcessor.processArchiveProperties(archiveProperties);
+        propertiesProcessed = true;
+
+        if (deferredTypeStore != null)
+        {
+            contentProcessor.processTypeStore(deferredTypeStore);
+            deferredTypeStore = null;
+        }
+
+        if (deferredInstanceStore != null)
+        {
+            contentProcessor.processInstanceStore(deferredInstanceStore);
+            deferredInstanceStore = null;
+        }
+    }
+
+
+    /**
+     * Read the instance store one instance at a time.  The parser is positioned at the start of the
+     * instance store object.
+     *
+     * @param parser JSON parser
+     * @throws IOException the instance store is not valid
+     */
+    private void streamInstanceStore(JsonParser parser) throws IOException
+    {
+        if (parser.currentToken() != JsonToken.START_OBJECT)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+
+            parser.nextToken();
+
+            if (parser.currentToken() != JsonToken.START_ARRAY)
+            {
+                parser.skipChildren();
+            }
+            else if (entitiesField.equals(fieldName))
+            {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    contentProcessor.processEntity(objectMapper.readValue(parser, EntityDetail.class));
+                }
+            }
+            else if (relationshipsField.equals(fieldName))
+            {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    contentProcessor.processRelationship(objectMapper.readValue(parser, Relationship.class));
+                }
+            }
+            else if (classificationsField.equals(fieldName))
+            {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    contentProcessor.processClassification(objectMapper.readValue(parser, ClassificationEntityExtension.class));
+                }
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+}
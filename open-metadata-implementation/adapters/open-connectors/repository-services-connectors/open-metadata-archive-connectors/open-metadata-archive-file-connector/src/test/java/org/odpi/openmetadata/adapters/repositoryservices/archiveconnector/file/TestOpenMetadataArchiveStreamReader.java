@@ -0,0 +1,273 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSConnectorErrorException;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that the stream reader passes the content of an archive to its processor in the standard order.
+ */
+public class TestOpenMetadataArchiveStreamReader
+{
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+
+    @Test
+    public void testStreamedContent() throws Exception
+    {
+        RecordingProcessor processor = new RecordingProcessor();
+
+        new OpenMetadataArchiveStreamReader(processor).readArchive(new ByteArrayInputStream(objectMapper.writeValueAsBytes(getArchive())));
+
+        assertEquals(processor.events, Arrays.asList("properties:TestArchive", "typeDef:TestType", "entity:e1", "entity:e2", "relationship:r1"));
+    }
+
+
+    @Test
+    public void testPropertiesAfterContent() throws Exception
+    {
+        OpenMetadataArchive archive = getArchive();
+        String              json    = "{\"archiveInstanceStore\":" + objectMapper.writeValueAsString(archive.getArchiveInstanceStore()) +
+                                      ",\"archiveTypeStore\":" + objectMapper.writeValueAsString(archive.getArchiveTypeStore()) +
+                                      ",\"archiveProperties\":" + objectMapper.writeValueAsString(archive.getArchiveProperties()) + "}";
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        new OpenMetadataArchiveStreamReader(processor).readArchive(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(processor.events, Arrays.asList("properties:TestArchive", "typeDef:TestType", "entity:e1", "entity:e2", "relationship:r1"));
+    }
+
+
+    @Test
+    public void testCompressedFile() throws Exception
+    {
+        File archiveFile = File.createTempFile("test-archive", ".json.gz");
+
+        try
+        {
+            try (OutputStream outputStream = new GZIPOutputStream(new FileOutputStream(archiveFile)))
+            {
+                objectMapper.writeValue(outputStream, getArchive());
+            }
+
+            RecordingProcessor processor = new RecordingProcessor();
+
+            new OpenMetadataArchiveStreamReader(processor).readArchive(OpenMetadataArchiveStreamReader.openArchiveFile(archiveFile));
+
+            assertEquals(processor.events, Arrays.asList("properties:TestArchive", "typeDef:TestType", "entity:e1", "entity:e2", "relationship:r1"));
+        }
+        finally
+        {
+            archiveFile.delete();
+        }
+    }
+
+
+    @Test
+    public void testEmptyDocument() throws Exception
+    {
+        RecordingProcessor processor = new RecordingProcessor();
+
+        new OpenMetadataArchiveStreamReader(processor).readArchive(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(processor.events, Arrays.asList("properties:null"));
+    }
+
+
+    @Test
+    public void testTruncatedFileFails() throws Exception
+    {
+        File archiveFile = File.createTempFile("test-archive", ".json");
+
+        try
+        {
+            byte[] archiveBytes = objectMapper.writeValueAsBytes(getArchive());
+
+            try (OutputStream outputStream = new FileOutputStream(archiveFile))
+            {
+                outputStream.write(archiveBytes, 0, archiveBytes.length - 20);
+            }
+
+            RecordingProcessor processor = new RecordingProcessor();
+
+            try
+            {
+                getArchiveStore(archiveFile.getAbsolutePath()).processArchiveContents(processor);
+                fail("Truncated archive was processed without an error");
+            }
+            catch (OMRSConnectorErrorException error)
+            {
+                assertEquals(error.getReportedErrorMessageId(), "OMRS-ARCHIVE-MANAGER-400-002");
+            }
+
+            assertEquals(processor.events.get(0), "properties:TestArchive");
+        }
+        finally
+        {
+            archiveFile.delete();
+        }
+    }
+
+
+    @Test
+    public void testMissingFileFails() throws Exception
+    {
+        RecordingProcessor processor = new RecordingProcessor();
+
+        try
+        {
+            getArchiveStore("does-not-exist.json").processArchiveContents(processor);
+            fail("Missing archive was processed without an error");
+        }
+        catch (OMRSConnectorErrorException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), "OMRS-ARCHIVE-MANAGER-400-002");
+        }
+
+        assertEquals(processor.events.size(), 0);
+    }
+
+
+    /**
+     * Create a file based archive store connector for the named file.
+     *
+     * @param fileName name of the archive file
+     * @return connector
+     * @throws Exception the connector can not be created
+     */
+    private FileBasedOpenMetadataArchiveStoreConnector getArchiveStore(String fileName) throws Exception
+    {
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setConnectorProviderClassName(FileBasedOpenMetadataArchiveStoreProvider.class.getName());
+
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress(fileName);
+
+        Connection connection = new Connection();
+        connection.setConnectorType(connectorType);
+        connection.setEndpoint(endpoint);
+
+        return (FileBasedOpenMetadataArchiveStoreConnector) new ConnectorBroker().getConnector(connection);
+    }
+
+
+    /**
+     * Build a small archive.
+     *
+     * @return archive
+     */
+    private OpenMetadataArchive getArchive()
+    {
+        OpenMetadataArchiveProperties properties = new OpenMetadataArchiveProperties();
+        properties.setArchiveGUID("test-archive-guid");
+        properties.setArchiveName("TestArchive");
+
+        EntityDef typeDef = new EntityDef();
+        typeDef.setGUID("test-type-guid");
+        typeDef.setName("TestType");
+
+        OpenMetadataArchiveTypeStore typeStore = new OpenMetadataArchiveTypeStore();
+        typeStore.setNewTypeDefs(Arrays.asList(typeDef));
+
+        EntityDetail entity1 = new EntityDetail();
+        entity1.setGUID("e1");
+        EntityDetail entity2 = new EntityDetail();
+        entity2.setGUID("e2");
+        Relationship relationship = new Relationship();
+        relationship.setGUID("r1");
+
+        OpenMetadataArchiveInstanceStore instanceStore = new OpenMetadataArchiveInstanceStore();
+        instanceStore.setEntities(Arrays.asList(entity1, entity2));
+        instanceStore.setRelationships(Arrays.asList(relationship));
+
+        OpenMetadataArchive archive = new OpenMetadataArchive();
+        archive.setArchiveProperties(properties);
+        archive.setArchiveTypeStore(typeStore);
+        archive.setArchiveInstanceStore(instanceStore);
+
+        return archive;
+    }
+
+
+    /**
+     * Records the content passed to the processor.
+     */
+    private static class RecordingProcessor implements OpenMetadataArchiveContentProcessor
+    {
+        List<String> events = new ArrayList<>();
+
+        @Override
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            events.add("properties:" + (archiveProperties == null ? null : archiveProperties.getArchiveName()));
+        }
+
+        @Override
+        public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
+        {
+            events.add("attributeTypeDef:" + attributeTypeDef.getName());
+        }
+
+        @Override
+        public void processTypeDef(TypeDef typeDef)
+        {
+            events.add("typeDef:" + typeDef.getName());
+        }
+
+        @Override
+        public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+        {
+            events.add("typeDefPatch:" + typeDefPatch.getTypeDefName());
+        }
+
+        @Override
+        public void processEntity(EntityDetail entity)
+        {
+            events.add("entity:" + entity.getGUID());
+        }
+
+        @Override
+        public void processRelationship(Relationship relationship)
+        {
+            events.add("relationship:" + relationship.getGUID());
+        }
+
+        @Override
+        public void processClassification(ClassificationEntityExtension classification)
+        {
+            events.add("classification");
+        }
+    }
+}
@@ -11,6 +11,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchClassificationsPredicate;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchPropertiesPredicate;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
@@ -514,10 +516,12 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * Perform operation
          *
          * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * the stored entities.  The search conditions are compiled once rather than for each entity.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>                 foundEntities = new ArrayList<>();
+        Map<String, EntityDetail>          entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        OMRSSearchClassificationsPredicate classificationsPredicate = new OMRSSearchClassificationsPredicate(matchClassifications);
+        OMRSSearchPropertiesPredicate      propertiesPredicate = new OMRSSearchPropertiesPredicate(matchProperties);
 
         for (EntityDetail  entity : entityStore.values())
         {
@@ -525,8 +529,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             {
                 if ((repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entitySubtypeGUIDs, entity)) &&
                     (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
-                    (repositoryValidator.verifyMatchingClassifications(matchClassifications, entity)) &&
-                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties, entity, entity.getProperties())))
+                    (classificationsPredicate.matches(entity)) &&
+                    (propertiesPredicate.matches(entity.getProperties())))
                 {
                     foundEntities.add(entity);
                 }
@@ -947,10 +951,11 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * Perform operation
          *
          * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * the stored entities.  The search conditions are compiled once rather than for each relationship.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        List<Relationship>             foundRelationships = new ArrayList<>();
+        Map<String, Relationship>      relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        OMRSSearchPropertiesPredicate  propertiesPredicate = new OMRSSearchPropertiesPredicate(matchProperties);
 
         for (Relationship  relationship : relationshipStore.values())
         {
@@ -958,7 +963,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             {
                 if ((repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationshipSubtypeGUIDs, relationship)) &&
                     (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship)) &&
-                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties, relationship, relationship.getProperties())))
+                    (propertiesPredicate.matches(relationship.getProperties())))
                 {
                     foundRelationships.add(relationship);
                 }
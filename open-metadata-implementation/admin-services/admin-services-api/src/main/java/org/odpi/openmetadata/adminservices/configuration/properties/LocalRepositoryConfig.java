@@ -57,6 +57,11 @@ import java.util.Objects;
  *         APIs that can change metadata in the repository without going through the OMRS interfaces.
  *         It maps the proprietary events from the local repository to the OMRS Events.
  *     </li>
+ *     <li>
+ *         inboundInstanceEventThreads - the number of threads used to apply the instance events received from
+ *         the cohorts to the local repository.  Events for the same instance are always applied by the same
+ *         thread.  The default of one applies the events on the thread of the cohort topic listener.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -76,6 +81,7 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
     private OpenMetadataExchangeRule eventsToSendRule                = null;
     private List<TypeDefSummary>     selectedTypesToSend             = null;
     private Connection               eventMapperConnection           = null;
+    private int                      inboundInstanceEventThreads     = 1;
 
 
     /**
@@ -109,6 +115,7 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
             this.eventsToSendRule = template.getEventsToSendRule();
             this.selectedTypesToSend = template.getSelectedTypesToSend();
             this.eventMapperConnection = template.getEventMapperConnection();
+            this.inboundInstanceEventThreads = template.getInboundInstanceEventThreads();
         }
     }
 
@@ -391,6 +398,32 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the number of threads used to apply the instance events received from the cohorts to the local
+     * repository.  Events for the same instance are always applied by the same thread, in the order they were
+     * received.  A value of one means the events are applied on the thread of the cohort topic listener.
+     *
+     * @return number of threads
+     */
+    public int getInboundInstanceEventThreads()
+    {
+        return inboundInstanceEventThreads;
+    }
+
+
+    /**
+     * Set up the number of threads used to apply the instance events received from the cohorts to the local
+     * repository.  Events for the same instance are always applied by the same thread, in the order they were
+     * received.  A value of one means the events are applied on the thread of the cohort topic listener.
+     *
+     * @param inboundInstanceEventThreads number of threads
+     */
+    public void setInboundInstanceEventThreads(int inboundInstanceEventThreads)
+    {
+        this.inboundInstanceEventThreads = inboundInstanceEventThreads;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -410,6 +443,7 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
                 ", eventsToSendRule=" + eventsToSendRule +
                 ", selectedTypesToSend=" + selectedTypesToSend +
                 ", eventMapperConnection=" + eventMapperConnection +
+                ", inboundInstanceEventThreads=" + inboundInstanceEventThreads +
                 '}';
     }
 
@@ -441,7 +475,8 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
                 Objects.equals(selectedTypesToSave, that.selectedTypesToSave) &&
                 eventsToSendRule == that.eventsToSendRule &&
                 Objects.equals(selectedTypesToSend, that.selectedTypesToSend) &&
-                Objects.equals(eventMapperConnection, that.eventMapperConnection);
+                Objects.equals(eventMapperConnection, that.eventMapperConnection) &&
+                inboundInstanceEventThreads == that.inboundInstanceEventThreads;
     }
 
 
@@ -456,6 +491,7 @@ public class LocalRepositoryConfig extends AdminServicesConfigHeader
         return Objects.hash(getMetadataCollectionId(), getMetadataCollectionName(), getLocalRepositoryMode(),
                             getLocalRepositoryLocalConnection(), getLocalRepositoryRemoteConnection(),
                             getEventsToSaveRule(), getSelectedTypesToSave(),
-                            getEventsToSendRule(), getSelectedTypesToSend(), getEventMapperConnection());
+                            getEventsToSendRule(), getSelectedTypesToSend(), getEventMapperConnection(),
+                            getInboundInstanceEventThreads());
     }
 }
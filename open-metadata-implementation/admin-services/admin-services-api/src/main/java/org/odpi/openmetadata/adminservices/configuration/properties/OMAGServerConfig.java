@@ -60,6 +60,14 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *
  *         The default value is 1000.
  *     </li>
+ *     <li>
+ *         maxServiceActivationThreads - the maximum number of independent services (such as access services)
+ *         that are initialized concurrently when the server starts.  A value of 0 or 1 means the services are
+ *         initialized one at a time.  Services that are initialized concurrently do not start in configuration
+ *         order and so must not depend on one another.
+ *
+ *         The default value is 1.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -81,6 +89,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
     private static final String  defaultLocalServerURL                    = "https://localhost:9443";
     private static final String  defaultLocalServerUserId                 = "OMAGServer";
     private static final int     defaultMaxPageSize                       = 1000;
+    private static final int     defaultMaxServiceActivationThreads       = 1;
 
     /*
      * Configuration document version number - if not in document then assume V1.0.
@@ -98,6 +107,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
     private String                          localServerUserId               = defaultLocalServerUserId;
     private String                          localServerPassword             = null;
     private int                             maxPageSize                     = defaultMaxPageSize;
+    private int                             maxServiceActivationThreads     = defaultMaxServiceActivationThreads;
     private Connection                      serverSecurityConnection        = null;
     private EventBusConfig                  eventBusConfig                  = null;
     private List<AccessServiceConfig>       accessServicesConfig            = null;
@@ -140,6 +150,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
             localServerUserId               = template.getLocalServerUserId();
             localServerPassword             = template.getLocalServerPassword();
             maxPageSize                     = template.getMaxPageSize();
+            maxServiceActivationThreads     = template.getMaxServiceActivationThreads();
             serverSecurityConnection        = template.getServerSecurityConnection();
             eventBusConfig                  = template.getEventBusConfig();
             accessServicesConfig            = template.getAccessServicesConfig();
@@ -359,6 +370,29 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of services that are initialized concurrently when the server starts.
+     * A value of 0 or 1 means the services are initialized one at a time.
+     *
+     * @return int number of threads
+     */
+    public int getMaxServiceActivationThreads()
+    {
+        return maxServiceActivationThreads;
+    }
+
+
+    /**
+     * Set up the maximum number of services that are initialized concurrently when the server starts.
+     *
+     * @param maxServiceActivationThreads int number of threads
+     */
+    public void setMaxServiceActivationThreads(int maxServiceActivationThreads)
+    {
+        this.maxServiceActivationThreads = maxServiceActivationThreads;
+    }
+
+
     /**
      * Return the connection for the optional server security connector that validates calls to
      * this server from admin to operations to metadata and governance services.
@@ -620,6 +654,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
                        ", localServerUserId='" + localServerUserId + '\'' +
                        ", localServerPassword='" + localServerPassword + '\'' +
                        ", maxPageSize=" + maxPageSize +
+                       ", maxServiceActivationThreads=" + maxServiceActivationThreads +
                        ", serverSecurityConnection=" + serverSecurityConnection +
                        ", eventBusConfig=" + eventBusConfig +
                        ", accessServicesConfig=" + accessServicesConfig +
@@ -654,6 +689,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
         }
         OMAGServerConfig that = (OMAGServerConfig) objectToCompare;
         return getMaxPageSize() == that.getMaxPageSize() &&
+                       getMaxServiceActivationThreads() == that.getMaxServiceActivationThreads() &&
                        Objects.equals(getVersionId(), that.getVersionId()) &&
                        Objects.equals(getLocalServerId(), that.getLocalServerId()) &&
                        Objects.equals(getLocalServerName(), that.getLocalServerName()) &&
@@ -686,7 +722,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
     {
         return Objects.hash(getVersionId(), getLocalServerId(), getLocalServerName(), getLocalServerType(), getOrganizationName(),
                             getLocalServerURL(),
-                            getLocalServerUserId(), getLocalServerPassword(), getMaxPageSize(), getServerSecurityConnection(), getEventBusConfig(),
+                            getLocalServerUserId(), getLocalServerPassword(), getMaxPageSize(), getMaxServiceActivationThreads(), getServerSecurityConnection(), getEventBusConfig(),
                             getAccessServicesConfig(), getIntegrationServicesConfig(), getEngineHostServicesConfig(), getViewServicesConfig(),
                             getRepositoryServicesConfig(), getConformanceSuiteConfig(),
                             getOpenLineageServerConfig(),
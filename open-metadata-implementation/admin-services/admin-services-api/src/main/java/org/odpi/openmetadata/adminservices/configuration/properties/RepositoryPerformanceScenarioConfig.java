@@ -0,0 +1,259 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.configuration.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RepositoryPerformanceScenarioConfig describes one of the mixed workloads that the performance workbench runs
+ * during its concurrent load profile.  The percentages set how the calls are shared between reads and searches,
+ * updates and graph queries.  The key distribution sets how the instances to call are chosen: "uniform" picks
+ * every instance equally often and "zipfian" makes a small set of hot instances much more popular than the rest.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RepositoryPerformanceScenarioConfig extends AdminServicesConfigHeader
+{
+    private static final long    serialVersionUID = 1L;
+
+    public static final String UNIFORM_KEY_DISTRIBUTION = "uniform";
+    public static final String ZIPFIAN_KEY_DISTRIBUTION = "zipfian";
+
+    private String scenarioName         = null;
+    private int    readPercentage       = 80;
+    private int    updatePercentage     = 15;
+    private int    graphQueryPercentage = 5;
+    private String keyDistribution      = UNIFORM_KEY_DISTRIBUTION;
+    private double zipfianExponent      = 0.99;
+
+
+    /**
+     * Default constructor does nothing.
+     */
+    public RepositoryPerformanceScenarioConfig()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RepositoryPerformanceScenarioConfig(RepositoryPerformanceScenarioConfig template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            scenarioName = template.getScenarioName();
+            readPercentage = template.getReadPercentage();
+            updatePercentage = template.getUpdatePercentage();
+            graphQueryPercentage = template.getGraphQueryPercentage();
+            keyDistribution = template.getKeyDistribution();
+            zipfianExponent = template.getZipfianExponent();
+        }
+    }
+
+
+    /**
+     * Return the name of the scenario used in the results.
+     *
+     * @return name
+     */
+    public String getScenarioName()
+    {
+        return scenarioName;
+    }
+
+
+    /**
+     * Set up the name of the scenario used in the results.
+     *
+     * @param scenarioName name
+     */
+    public void setScenarioName(String scenarioName)
+    {
+        this.scenarioName = scenarioName;
+    }
+
+
+    /**
+     * Return the share of the calls that retrieve or search for instances.
+     *
+     * @return percentage
+     */
+    public int getReadPercentage()
+    {
+        return readPercentage;
+    }
+
+
+    /**
+     * Set up the share of the calls that retrieve or search for instances.
+     *
+     * @param readPercentage percentage
+     */
+    public void setReadPercentage(int readPercentage)
+    {
+        this.readPercentage = readPercentage;
+    }
+
+
+    /**
+     * Return the share of the calls that update the properties of entities.
+     *
+     * @return percentage
+     */
+    public int getUpdatePercentage()
+    {
+        return updatePercentage;
+    }
+
+
+    /**
+     * Set up the share of the calls that update the properties of entities.
+     *
+     * @param updatePercentage percentage
+     */
+    public void setUpdatePercentage(int updatePercentage)
+    {
+        this.updatePercentage = updatePercentage;
+    }
+
+
+    /**
+     * Return the share of the calls that query the graph around an entity.
+     *
+     * @return percentage
+     */
+    public int getGraphQueryPercentage()
+    {
+        return graphQueryPercentage;
+    }
+
+
+    /**
+     * Set up the share of the calls that query the graph around an entity.
+     *
+     * @param graphQueryPercentage percentage
+     */
+    public void setGraphQueryPercentage(int graphQueryPercentage)
+    {
+        this.graphQueryPercentage = graphQueryPercentage;
+    }
+
+
+    /**
+     * Return how the instances to call are chosen: "uniform" or "zipfian".
+     *
+     * @return distribution name
+     */
+    public String getKeyDistribution()
+    {
+        return keyDistribution;
+    }
+
+
+    /**
+     * Set up how the instances to call are chosen: "uniform" or "zipfian".
+     *
+     * @param keyDistribution distribution name
+     */
+    public void setKeyDistribution(String keyDistribution)
+    {
+        this.keyDistribution = keyDistribution;
+    }
+
+
+    /**
+     * Return the skew of the zipfian distribution.  Larger values concentrate more of the calls on the
+     * hottest instances.
+     *
+     * @return exponent
+     */
+    public double getZipfianExponent()
+    {
+        return zipfianExponent;
+    }
+
+
+    /**
+     * Set up the skew of the zipfian distribution.  Larger values concentrate more of the calls on the
+     * hottest instances.
+     *
+     * @param zipfianExponent exponent
+     */
+    public void setZipfianExponent(double zipfianExponent)
+    {
+        this.zipfianExponent = zipfianExponent;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "RepositoryPerformanceScenarioConfig{" +
+                "scenarioName='" + scenarioName + '\'' +
+                ", readPercentage=" + readPercentage +
+                ", updatePercentage=" + updatePercentage +
+                ", graphQueryPercentage=" + graphQueryPercentage +
+                ", keyDistribution='" + keyDistribution + '\'' +
+                ", zipfianExponent=" + zipfianExponent +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        RepositoryPerformanceScenarioConfig that = (RepositoryPerformanceScenarioConfig) objectToCompare;
+        return getReadPercentage() == that.getReadPercentage()
+                && getUpdatePercentage() == that.getUpdatePercentage()
+                && getGraphQueryPercentage() == that.getGraphQueryPercentage()
+                && Double.compare(getZipfianExponent(), that.getZipfianExponent()) == 0
+                && Objects.equals(getScenarioName(), that.getScenarioName())
+                && Objects.equals(getKeyDistribution(), that.getKeyDistribution());
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getScenarioName(), getReadPercentage(), getUpdatePercentage(), getGraphQueryPercentage(),
+                            getKeyDistribution(), getZipfianExponent());
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -30,6 +31,13 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     private int      maxSearchResults = 10;
     private int      waitBetweenScenarios = 60;
     private List<String> profilesToSkip = Collections.emptyList();
+    private int      loadClients = 0;
+    private int      loadTargetOperationsPerSecond = 0;
+    private int      loadWarmUpSeconds = 10;
+    private int      loadDurationSeconds = 60;
+    private String   loadResultsDirectory = null;
+    private List<RepositoryPerformanceScenarioConfig> loadScenarios = null;
+    private List<Long> loadScalingSteps = null;
 
 
     /**
@@ -56,6 +64,13 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
             maxSearchResults = template.getMaxSearchResults();
             waitBetweenScenarios = template.getWaitBetweenScenarios();
             profilesToSkip = template.getProfilesToSkip();
+            loadClients = template.getLoadClients();
+            loadTargetOperationsPerSecond = template.getLoadTargetOperationsPerSecond();
+            loadWarmUpSeconds = template.getLoadWarmUpSeconds();
+            loadDurationSeconds = template.getLoadDurationSeconds();
+            loadResultsDirectory = template.getLoadResultsDirectory();
+            loadScenarios = template.getLoadScenarios();
+            loadScalingSteps = template.getLoadScalingSteps();
         }
     }
 
@@ -174,6 +189,182 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     }
 
 
+    /**
+     * Return the number of client threads that call the server under test at the same time during the
+     * concurrent load profile.  Zero means the concurrent load profile is not run.
+     *
+     * @return number of client threads
+     */
+    public int getLoadClients()
+    {
+        return loadClients;
+    }
+
+
+    /**
+     * Set up the number of client threads that call the server under test at the same time during the
+     * concurrent load profile.  Zero means the concurrent load profile is not run.
+     *
+     * @param loadClients number of client threads
+     */
+    public void setLoadClients(int loadClients)
+    {
+        this.loadClients = loadClients;
+    }
+
+
+    /**
+     * Return the total number of operations per second that the client threads aim to issue during the
+     * concurrent load profile.  Zero means each client issues its next request as soon as the last one completes.
+     *
+     * @return operations per second
+     */
+    public int getLoadTargetOperationsPerSecond()
+    {
+        return loadTargetOperationsPerSecond;
+    }
+
+
+    /**
+     * Set up the total number of operations per second that the client threads aim to issue during the
+     * concurrent load profile.  Zero means each client issues its next request as soon as the last one completes.
+     *
+     * @param loadTargetOperationsPerSecond operations per second
+     */
+    public void setLoadTargetOperationsPerSecond(int loadTargetOperationsPerSecond)
+    {
+        this.loadTargetOperationsPerSecond = loadTargetOperationsPerSecond;
+    }
+
+
+    /**
+     * Return the time (in seconds) that the load runs before its measurements are recorded.
+     *
+     * @return time in seconds
+     */
+    public int getLoadWarmUpSeconds()
+    {
+        return loadWarmUpSeconds;
+    }
+
+
+    /**
+     * Set up the time (in seconds) that the load runs before its measurements are recorded.
+     *
+     * @param loadWarmUpSeconds time in seconds
+     */
+    public void setLoadWarmUpSeconds(int loadWarmUpSeconds)
+    {
+        this.loadWarmUpSeconds = loadWarmUpSeconds;
+    }
+
+
+    /**
+     * Return the time (in seconds) that the load is measured for, after the warm up.
+     *
+     * @return time in seconds
+     */
+    public int getLoadDurationSeconds()
+    {
+        return loadDurationSeconds;
+    }
+
+
+    /**
+     * Set up the time (in seconds) that the load is measured for, after the warm up.
+     *
+     * @param loadDurationSeconds time in seconds
+     */
+    public void setLoadDurationSeconds(int loadDurationSeconds)
+    {
+        this.loadDurationSeconds = loadDurationSeconds;
+    }
+
+
+    /**
+     * Return the directory where the results of the concurrent load profile are written as CSV files.
+     * Null means the results are only available from the workbench report.
+     *
+     * @return directory name
+     */
+    public String getLoadResultsDirectory()
+    {
+        return loadResultsDirectory;
+    }
+
+
+    /**
+     * Set up the directory where the results of the concurrent load profile are written as CSV files.
+     * Null means the results are only available from the workbench report.
+     *
+     * @param loadResultsDirectory directory name
+     */
+    public void setLoadResultsDirectory(String loadResultsDirectory)
+    {
+        this.loadResultsDirectory = loadResultsDirectory;
+    }
+
+
+    /**
+     * Return the mixed workloads that are run during the concurrent load profile.  Null means a single
+     * workload of 80% reads and searches, 15% updates and 5% graph queries with uniformly chosen instances.
+     *
+     * @return list of scenarios
+     */
+    public List<RepositoryPerformanceScenarioConfig> getLoadScenarios()
+    {
+        if ((loadScenarios == null) || (loadScenarios.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(loadScenarios);
+    }
+
+
+    /**
+     * Set up the mixed workloads that are run during the concurrent load profile.  Null means a single
+     * workload of 80% reads and searches, 15% updates and 5% graph queries with uniformly chosen instances.
+     *
+     * @param loadScenarios list of scenarios
+     */
+    public void setLoadScenarios(List<RepositoryPerformanceScenarioConfig> loadScenarios)
+    {
+        this.loadScenarios = loadScenarios;
+    }
+
+
+    /**
+     * Return the numbers of entities that the repository is grown to before the load scenarios are run again.
+     * This shows how the latency of the technology under test changes as the amount of metadata grows.
+     * Null means the scenarios are only run against the instances created by the earlier profiles.
+     *
+     * @return list of entity counts
+     */
+    public List<Long> getLoadScalingSteps()
+    {
+        if ((loadScalingSteps == null) || (loadScalingSteps.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(loadScalingSteps);
+    }
+
+
+    /**
+     * Set up the numbers of entities that the repository is grown to before the load scenarios are run again.
+     * This shows how the latency of the technology under test changes as the amount of metadata grows.
+     * Null means the scenarios are only run against the instances created by the earlier profiles.
+     *
+     * @param loadScalingSteps list of entity counts
+     */
+    public void setLoadScalingSteps(List<Long> loadScalingSteps)
+    {
+        this.loadScalingSteps = loadScalingSteps;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -188,6 +379,13 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 "maxSearchResults='" + maxSearchResults + '\'' +
                 "waitBetweenScenarios='" + waitBetweenScenarios + '\'' +
                 "profilesToSkip=" + profilesToSkip +
+                "loadClients=" + loadClients +
+                "loadTargetOperationsPerSecond=" + loadTargetOperationsPerSecond +
+                "loadWarmUpSeconds=" + loadWarmUpSeconds +
+                "loadDurationSeconds=" + loadDurationSeconds +
+                "loadResultsDirectory='" + loadResultsDirectory + '\'' +
+                "loadScenarios=" + loadScenarios +
+                "loadScalingSteps=" + loadScalingSteps +
                 '}';
     }
 
@@ -214,7 +412,14 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 && Objects.equals(getInstancesPerType(), that.getInstancesPerType())
                 && Objects.equals(getMaxSearchResults(), that.getMaxSearchResults())
                 && Objects.equals(getWaitBetweenScenarios(), that.getWaitBetweenScenarios())
-                && Objects.equals(getProfilesToSkip(), that.getProfilesToSkip());
+                && Objects.equals(getProfilesToSkip(), that.getProfilesToSkip())
+                && getLoadClients() == that.getLoadClients()
+                && getLoadTargetOperationsPerSecond() == that.getLoadTargetOperationsPerSecond()
+                && getLoadWarmUpSeconds() == that.getLoadWarmUpSeconds()
+                && getLoadDurationSeconds() == that.getLoadDurationSeconds()
+                && Objects.equals(getLoadResultsDirectory(), that.getLoadResultsDirectory())
+                && Objects.equals(getLoadScenarios(), that.getLoadScenarios())
+                && Objects.equals(getLoadScalingSteps(), that.getLoadScalingSteps());
     }
 
 
@@ -226,6 +431,8 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     @Override
     public int hashCode()
     {
-        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip());
+        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip(),
+                            getLoadClients(), getLoadTargetOperationsPerSecond(), getLoadWarmUpSeconds(), getLoadDurationSeconds(),
+                            getLoadResultsDirectory(), getLoadScenarios(), getLoadScalingSteps());
     }
 }
@@ -250,6 +250,21 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                     "in the view service's configuration and restart the server instance. Otherwise, " +
                     "remove the configuration for this view service and restart the view server."),
 
+    SERVICE_ACTIVATION_TIME("OMAG-ADMIN-0030",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The {0} in server {1} completed its initialization in {2} milliseconds",
+            "The operational admin services have finished initializing this service.  It is ready for use.",
+            "Use the activation times to understand which services are contributing most to the start up time of the server."),
+
+    CONCURRENT_SERVICE_ACTIVATION("OMAG-ADMIN-0031",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The OMAG server {0} is initializing {1} {2} concurrently using up to {3} threads",
+            "The server is configured with a maximum number of service activation threads that is greater than one.  " +
+                    "Services that only depend on services that have already started are initialized in parallel.  " +
+                    "The server waits for all of them to complete before continuing with its start up.",
+            "No action is required.  If a service fails to start, the error for the first failing service in the configuration " +
+                    "document is reported.  Set the maximum number of service activation threads to 1 to initialize the services one at a time."),
+
     STARTING_ENGINE_SERVICES("OMAG-ADMIN-0040",
                            OMRSAuditLogRecordSeverity.STARTUP,
                            "The Open Metadata Engine Services (OMESs) are starting",
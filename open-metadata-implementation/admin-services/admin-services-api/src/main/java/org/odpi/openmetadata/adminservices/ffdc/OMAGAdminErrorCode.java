@@ -363,6 +363,12 @@ public enum OMAGAdminErrorCode implements ExceptionMessageSet
                                   "The local repository mode is supplied by the caller to the OMAG server when the repository connection is set up.  " +
                                           "This call to enable the repository connection needs to be made before the call to set the event mapper connection."),
 
+    BAD_MAX_SERVICE_ACTIVATION_THREADS(400, "OMAG-ADMIN-400-053",
+            "The OMAG server {0} has been passed an invalid maximum number of service activation threads of {1}",
+            "The system is unable to accept a negative value for the number of threads used to start the server's services.",
+            "The maximum number of service activation threads controls how many services are initialized concurrently when the server starts.  " +
+                    "A value of 0 or 1 means the services are started one at a time.  Correct the value and retry the request."),
+
     NO_CONFIG_DOC(400,"OMAG-ADMIN-400-101",
                   "An engine service for OMAG server {0} has been passed null configuration",
                   "The engine service can not retrieve its configuration values.  " +
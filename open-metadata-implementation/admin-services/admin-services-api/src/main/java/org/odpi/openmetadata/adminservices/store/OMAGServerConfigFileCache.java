@@ -0,0 +1,450 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OMAGServerConfigFileCache is used by the file based configuration document store connectors to avoid reading,
+ * decrypting and parsing a configuration document on every request, and rewriting it on every update.
+ * A new connector instance is created for each request to the admin services so there is one cache
+ * object per configuration file, shared by all of the connectors that work with that file.
+ * <p>
+ * The cache holds the parsed configuration document.  The callers are free to update the configuration they are
+ * given, so the cache keeps its own copy of a saved configuration and returns a new copy on each retrieve.
+ * The copies are made through a Jackson token buffer, so the document is not written or parsed as text.
+ * The cache is refreshed from the file
+ * whenever the file's modification time or size change, so that updates to the file made outside of this platform
+ * are picked up.  By default, a save writes the file before it returns (write-through).  A connection may
+ * set a write-behind delay so that a rapid sequence of updates results in a single write of the latest content.
+ * The file is always written to a temporary file that is then moved over the original so that a reader never
+ * sees a partially written configuration document.
+ * </p>
+ * <p>
+ * A write-behind update that can not be written is kept in the cache and the failure is returned by the
+ * next save or flush.  The connectors flush the pending update for their file when they are disconnected.
+ * </p>
+ */
+public class OMAGServerConfigFileCache
+{
+    /**
+     * ContentLoader reads a configuration document from its file.
+     */
+    public interface ContentLoader
+    {
+        /**
+         * Read, (if necessary) decrypt, and parse the configuration document.
+         *
+         * @param configFile file to read
+         * @return configuration document or null if there is no configuration document
+         * @throws IOException the file can not be read
+         */
+        OMAGServerConfig loadContent(File configFile) throws IOException;
+    }
+
+
+    /**
+     * Name of the connection's configuration property that sets the number of milliseconds to wait
+     * before an update is written to the file.  A value of 0 means each update is written straight away.
+     */
+    public static final String WRITE_BEHIND_DELAY_PROPERTY = "writeBehindDelay";
+
+    /**
+     * Number of milliseconds to wait before an update is written to the file if the connection
+     * does not set the writeBehindDelay configuration property.
+     */
+    public static final long   DEFAULT_WRITE_BEHIND_DELAY  = 0;
+
+    private static final Logger log = LoggerFactory.getLogger(OMAGServerConfigFileCache.class);
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final Map<String, OMAGServerConfigFileCache> fileCaches = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService writeBehindScheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "OMAGServerConfigFileCache-writeBehind");
+
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+
+    private final File configFile;
+
+    private OMAGServerConfig   cachedConfig   = null;
+    private FileStamp          cachedStamp    = null;
+    private byte[]             pendingWrite   = null;
+    private ScheduledFuture<?> scheduledFlush = null;
+    private IOException        writeFailure   = null;
+
+
+    /**
+     * Return the cache for a configuration file.
+     *
+     * @param configFile file holding the configuration document
+     * @return shared cache object for the file
+     */
+    public static OMAGServerConfigFileCache getCache(File configFile)
+    {
+        return fileCaches.computeIfAbsent(configFile.getAbsoluteFile().toPath().normalize().toString(),
+                                          fileName -> new OMAGServerConfigFileCache(new File(fileName)));
+    }
+
+
+    /**
+     * Return the write-behind delay from a connection's configuration properties.
+     *
+     * @param configurationProperties configuration properties from the connection (may be null)
+     * @return number of milliseconds
+     */
+    public static long getWriteBehindDelay(Map<String, Object> configurationProperties)
+    {
+        if (configurationProperties != null)
+        {
+            Object writeBehindDelay = configurationProperties.get(WRITE_BEHIND_DELAY_PROPERTY);
+
+            if (writeBehindDelay != null)
+            {
+                try
+                {
+                    return Long.parseLong(writeBehindDelay.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    log.error("Ignoring invalid value for " + WRITE_BEHIND_DELAY_PROPERTY + ": " + writeBehindDelay);
+                }
+            }
+        }
+
+        return DEFAULT_WRITE_BEHIND_DELAY;
+    }
+
+
+    /**
+     * Write all of the pending updates to their files.  This is called before the files are listed.
+     */
+    public static void flushAll()
+    {
+        for (OMAGServerConfigFileCache fileCache : fileCaches.values())
+        {
+            try
+            {
+                fileCache.flush();
+            }
+            catch (IOException error)
+            {
+                log.error("Unable to write configuration document " + fileCache.configFile.getPath(), error);
+            }
+        }
+    }
+
+
+    /**
+     * Constructor is private since the caches are shared through getCache().
+     *
+     * @param configFile file holding the configuration document
+     */
+    private OMAGServerConfigFileCache(File configFile)
+    {
+        this.configFile = configFile;
+    }
+
+
+    /**
+     * Return a copy of the configuration document.  The document is loaded from the file
+     * if it is not cached or the file has been changed outside of this cache.
+     *
+     * @param loader reads the configuration document from the file
+     * @return configuration document or null if there is no configuration document
+     * @throws IOException the file can not be read
+     */
+    public synchronized OMAGServerConfig retrieveServerConfig(ContentLoader loader) throws IOException
+    {
+        if (pendingWrite == null)
+        {
+            FileStamp currentStamp = FileStamp.getStamp(configFile);
+
+            if ((cachedConfig == null) || (currentStamp == null) || (! currentStamp.equals(cachedStamp)))
+            {
+                cachedConfig = null;
+                cachedStamp  = null;
+
+                OMAGServerConfig serverConfig = loader.loadContent(configFile);
+
+                /*
+                 * The loader may have saved the document (for example to encrypt a clear-text document) in which case
+                 * the cache is already up to date.
+                 */
+                if ((cachedConfig == null) && (pendingWrite == null))
+                {
+                    cachedConfig = serverConfig;
+                    cachedStamp  = currentStamp;
+                }
+            }
+        }
+
+        /*
+         * If there is a pending write, the cache holds an update that is newer than the file.
+         */
+        return copyServerConfig(cachedConfig);
+    }
+
+
+    /**
+     * Save a new version of the configuration document.  A copy of the document is cached straight away.
+     * The file content is written after the requested delay unless another save replaces it first.
+     * If an earlier write-behind failed, the file is written straight away so that the caller sees the failure.
+     *
+     * @param serverConfig configuration document
+     * @param fileContent bytes to store in the file (for example, the encrypted content)
+     * @param writeBehindDelay number of milliseconds to wait before writing the file - 0 means write it now
+     * @throws IOException the file can not be written
+     */
+    public synchronized void saveServerConfig(OMAGServerConfig serverConfig,
+                                              byte[]           fileContent,
+                                              long             writeBehindDelay) throws IOException
+    {
+        cachedConfig = copyServerConfig(serverConfig);
+        cachedStamp  = null;
+        pendingWrite = fileContent;
+
+        if ((writeBehindDelay <= 0) || (writeFailure != null))
+        {
+            this.flush();
+        }
+        else if (scheduledFlush == null)
+        {
+            scheduledFlush = writeBehindScheduler.schedule(this::backgroundFlush, writeBehindDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Discard the cached content and any pending write.  This is called before the file is deleted.
+     */
+    public synchronized void removeContent()
+    {
+        if (scheduledFlush != null)
+        {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        cachedConfig = null;
+        cachedStamp  = null;
+        pendingWrite = null;
+        writeFailure = null;
+    }
+
+
+    /**
+     * Write any pending update to the file.
+     *
+     * @throws IOException the file can not be written
+     */
+    public synchronized void flush() throws IOException
+    {
+        if (scheduledFlush != null)
+        {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        if (pendingWrite != null)
+        {
+            try
+            {
+                this.writeFile(pendingWrite);
+            }
+            catch (IOException error)
+            {
+                writeFailure = error;
+                throw error;
+            }
+
+            pendingWrite = null;
+            cachedStamp  = FileStamp.getStamp(configFile);
+        }
+
+        writeFailure = null;
+    }
+
+
+    /**
+     * Called by the write-behind scheduler.  A failure is logged and recorded by flush() so it is
+     * returned to the next caller that saves or flushes.  The update is kept so it is written by the next flush.
+     */
+    private synchronized void backgroundFlush()
+    {
+        scheduledFlush = null;
+
+        try
+        {
+            this.flush();
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to write configuration document " + configFile.getPath(), error);
+        }
+    }
+
+
+    /**
+     * Return a deep copy of a configuration document.
+     *
+     * @param serverConfig configuration document (may be null)
+     * @return new configuration document or null
+     * @throws IOException the document can not be copied
+     */
+    private static OMAGServerConfig copyServerConfig(OMAGServerConfig serverConfig) throws IOException
+    {
+        if (serverConfig == null)
+        {
+            return null;
+        }
+
+        TokenBuffer tokenBuffer = new TokenBuffer(objectMapper, false);
+
+        objectMapper.writeValue(tokenBuffer, serverConfig);
+
+        return objectMapper.readValue(tokenBuffer.asParser(objectMapper), OMAGServerConfig.class);
+    }
+
+
+    /**
+     * Write the content to a temporary file in the same directory and then move it over the configuration file.
+     *
+     * @param fileContent bytes to write
+     * @throws IOException the file can not be written
+     */
+    private void writeFile(byte[] fileContent) throws IOException
+    {
+        File directory = configFile.getParentFile();
+
+        if (directory != null)
+        {
+            Files.createDirectories(directory.toPath());
+        }
+
+        Path temporaryFile = Files.createTempFile(directory == null ? null : directory.toPath(), configFile.getName(), ".tmp");
+
+        try
+        {
+            Files.write(temporaryFile, fileContent);
+
+            try
+            {
+                Files.move(temporaryFile, configFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException error)
+            {
+                Files.move(temporaryFile, configFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+
+    /**
+     * FileStamp records the modification time and size of the file when it was last read or written by the cache.
+     */
+    private static class FileStamp
+    {
+        private final long lastModified;
+        private final long size;
+
+
+        /**
+         * Return the stamp for the current state of the file.
+         *
+         * @param file file to test
+         * @return stamp or null if the file does not exist
+         */
+        static FileStamp getStamp(File file)
+        {
+            try
+            {
+                BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+
+                return new FileStamp(attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS), attributes.size());
+            }
+            catch (IOException error)
+            {
+                return null;
+            }
+        }
+
+
+        /**
+         * Constructor
+         *
+         * @param lastModified modification time in nanoseconds
+         * @param size size in bytes
+         */
+        private FileStamp(long lastModified,
+                          long size)
+        {
+            this.lastModified = lastModified;
+            this.size         = size;
+        }
+
+
+        /**
+         * Compare the values.
+         *
+         * @param objectToCompare object
+         * @return boolean result
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            FileStamp that = (FileStamp) objectToCompare;
+            return lastModified == that.lastModified &&
+                           size == that.size;
+        }
+
+
+        /**
+         * Return a hash code based on the values of this object.
+         *
+         * @return int hash code
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(lastModified, size);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Validate that OMAGServerConfigFileCache serves repeated reads from memory, notices external changes to the file,
+ * coalesces saves into a single write, returns write failures and hands out copies of the configuration document.
+ */
+public class OMAGServerConfigFileCacheTest
+{
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private File                   testDirectory;
+    private File                   configFile;
+    private AtomicInteger          loadCount = new AtomicInteger(0);
+
+    private OMAGServerConfigFileCache.ContentLoader loader = file ->
+    {
+        loadCount.incrementAndGet();
+
+        if (file.exists())
+        {
+            return objectMapper.readValue(file, OMAGServerConfig.class);
+        }
+
+        return null;
+    };
+
+
+    /**
+     * Default constructor
+     */
+    public OMAGServerConfigFileCacheTest()
+    {
+    }
+
+
+    /**
+     * Create a new configuration file location for each test.
+     *
+     * @throws IOException unable to create directory
+     */
+    @BeforeMethod
+    public void setUp() throws IOException
+    {
+        testDirectory = Files.createTempDirectory("configcache").toFile();
+        configFile    = new File(testDirectory, "test.config");
+        loadCount.set(0);
+    }
+
+
+    /**
+     * Remove the files created by the test.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        OMAGServerConfigFileCache.getCache(configFile).removeContent();
+
+        File[] files = testDirectory.listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                assertTrue(file.delete());
+            }
+        }
+
+        assertTrue(testDirectory.delete());
+    }
+
+
+    /**
+     * Repeated retrieves only read the file once.
+     *
+     * @throws IOException problem with the file
+     */
+    @Test
+    public void testRetrieveIsCached() throws IOException
+    {
+        Files.write(configFile.toPath(), getFileContent("server1"));
+
+        OMAGServerConfigFileCache cache = OMAGServerConfigFileCache.getCache(configFile);
+
+        assertEquals(getServerName(cache), "server1");
+        assertEquals(getServerName(cache), "server1");
+        assertEquals(getServerName(OMAGServerConfigFileCache.getCache(new File(testDirectory, "./test.config"))), "server1");
+        assertEquals(loadCount.get(), 1);
+    }
+
+
+    /**
+     * Each retrieve returns a new copy of the document so updates by the caller do not change the cache.
+     *
+     * @throws IOException problem with the file
+     */
+    @Test
+    public void testRetrieveReturnsCopy() throws IOException
+    {
+        OMAGServerConfigFileCache cache = OMAGServerConfigFileCache.getCache(configFile);
+        OMAGServerConfig          saved = getServerConfig("server1");
+
+        saved.setAuditTrail(new ArrayList<>(Collections.singletonList("saved")));
+        cache.saveServerConfig(saved, getFileContent("server1"), 60000);
+
+        saved.setLocalServerName("changedAfterSave");
+        saved.getAuditTrail().add("changedAfterSave");
+
+        OMAGServerConfig first  = cache.retrieveServerConfig(loader);
+        OMAGServerConfig second = cache.retrieveServerConfig(loader);
+
+        assertTrue(first != second);
+        assertEquals(first.getLocalServerName(), "server1");
+        assertEquals(first.getAuditTrail(), Collections.singletonList("saved"));
+
+        first.setLocalServerName("changedAfterRetrieve");
+        first.getAuditTrail().add("changedAfterRetrieve");
+
+        assertEquals(getServerName(cache), "server1");
+        assertEquals(cache.retrieveServerConfig(loader).getAuditTrail(), Collections.singletonList("saved"));
+        assertEquals(loadCount.get(), 0);
+    }
+
+
+    /**
+     * A change to the file made outside of the cache is detected.
+     *
+     * @throws IOException problem with the file
+     */
+    @Test
+    public void testExternalChangeIsDetected() throws IOException
+    {
+        Files.write(configFile.toPath(), getFileContent("server1"));
+
+        OMAGServerConfigFileCache cache = OMAGServerConfigFileCache.getCache(configFile);
+
+        assertEquals(getServerName(cache), "server1");
+
+        Files.write(configFile.toPath(), getFileContent("server22"));
+        Files.setLastModifiedTime(configFile.toPath(), FileTime.fromMillis(System.currentTimeMillis() + 5000));
+
+        assertEquals(getServerName(cache), "server22");
+        assertEquals(loadCount.get(), 2);
+    }
+
+
+    /**
+     * Saves with a write-behind delay are visible straight away and written to the file once.
+     *
+     * @throws Exception problem with the file
+     */
+    @Test
+    public void testWriteBehindCoalescesSaves() throws Exception
+    {
+        OMAGServerConfigFileCache cache = OMAGServerConfigFileCache.getCache(configFile);
+
+        for (int i = 0; i < 10; i++)
+        {
+            cache.saveServerConfig(getServerConfig("server" + i), getFileContent("server" + i), 60000);
+        }
+
+        assertEquals(getServerName(cache), "server9");
+        assertFalse(configFile.exists());
+
+        cache.flush();
+
+        assertEquals(objectMapper.readValue(configFile, OMAGServerConfig.class).getLocalServerName(), "server9");
+        assertEquals(getServerName(cache), "server9");
+        assertEquals(loadCount.get(), 0);
+
+        String[] files = testDirectory.list();
+
+        assertEquals(files == null ? 0 : files.length, 1);
+    }
+
+
+    /**
+     * A save with no delay writes the file straight away and the background flush writes delayed saves.
+     *
+     * @throws Exception problem with the file
+     */
+    @Test
+    public void testImmediateAndBackgroundWrites() throws Exception
+    {
+        OMAGServerConfigFileCache cache = OMAGServerConfigFileCache.getCache(configFile);
+
+        cache.saveServerConfig(getServerConfig("now"), "now".getBytes(StandardCharsets.UTF_8), 0);
+
+        assertEquals(new String(Files.readAllBytes(configFile.toPath()), StandardCharsets.UTF_8), "now");
+
+        cache.saveServerConfig(getServerConfig("later"), "later".getBytes(StandardCharsets.UTF_8), 10);
+
+        for (int i = 0; (i < 500) && (! "later".equals(new String(Files.readAllBytes(configFile.toPath()), StandardCharsets.UTF_8))); i++)
+        {
+            Thread.sleep(10);
+        }
+
+        assertEquals(new String(Files.readAllBytes(configFile.toPath()), StandardCharsets.UTF_8), "later");
+    }
+
+
+    /**
+     * Removing the content discards pending writes.
+     *
+     * @throws Exception problem with the file
+     */
+    @Test
+    public void testRemoveDiscardsPendingWrite() throws Exception
+    {
+        OMAGServerConfigFileCache cache = OMAGServerConfigFileCache.getCache(configFile);
+
+        cache.saveServerConfig(getServerConfig("pending"), getFileContent("pending"), 60000);
+        cache.removeContent();
+        cache.flush();
+
+        assertFalse(configFile.exists());
+        assertNull(cache.retrieveServerConfig(loader));
+    }
+
+
+    /**
+     * A write-behind update that can not be written is kept, its failure is returned by the next save and flush,
+     * and it is written once the file can be written.
+     *
+     * @throws Exception problem with the file
+     */
+    @Test
+    public void testWriteFailureIsSurfaced() throws Exception
+    {
+        File blockingFile = new File(configFile, "blocking");
+
+        assertTrue(configFile.mkdir());
+        assertTrue(blockingFile.createNewFile());
+
+        OMAGServerConfigFileCache cache = OMAGServerConfigFileCache.getCache(configFile);
+
+        cache.saveServerConfig(getServerConfig("first"), "first".getBytes(StandardCharsets.UTF_8), 60000);
+        expectThrows(IOException.class, cache::flush);
+        expectThrows(IOException.class, () -> cache.saveServerConfig(getServerConfig("second"), "second".getBytes(StandardCharsets.UTF_8), 60000));
+        assertEquals(getServerName(cache), "second");
+
+        assertTrue(blockingFile.delete());
+        assertTrue(configFile.delete());
+
+        cache.flush();
+
+        assertEquals(new String(Files.readAllBytes(configFile.toPath()), StandardCharsets.UTF_8), "second");
+    }
+
+
+    /**
+     * The write-behind delay is read from the connection's configuration properties.  Write-through is the default.
+     */
+    @Test
+    public void testWriteBehindDelayProperty()
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        assertEquals(OMAGServerConfigFileCache.DEFAULT_WRITE_BEHIND_DELAY, 0L);
+        assertEquals(OMAGServerConfigFileCache.getWriteBehindDelay(null), OMAGServerConfigFileCache.DEFAULT_WRITE_BEHIND_DELAY);
+        assertEquals(OMAGServerConfigFileCache.getWriteBehindDelay(configurationProperties), OMAGServerConfigFileCache.DEFAULT_WRITE_BEHIND_DELAY);
+
+        configurationProperties.put(OMAGServerConfigFileCache.WRITE_BEHIND_DELAY_PROPERTY, 0);
+        assertEquals(OMAGServerConfigFileCache.getWriteBehindDelay(configurationProperties), 0L);
+
+        configurationProperties.put(OMAGServerConfigFileCache.WRITE_BEHIND_DELAY_PROPERTY, "250");
+        assertEquals(OMAGServerConfigFileCache.getWriteBehindDelay(configurationProperties), 250L);
+
+        configurationProperties.put(OMAGServerConfigFileCache.WRITE_BEHIND_DELAY_PROPERTY, "soon");
+        assertEquals(OMAGServerConfigFileCache.getWriteBehindDelay(configurationProperties), OMAGServerConfigFileCache.DEFAULT_WRITE_BEHIND_DELAY);
+    }
+
+
+    /**
+     * Return a configuration document for a server.
+     *
+     * @param serverName name of the server
+     * @return configuration document
+     */
+    private OMAGServerConfig getServerConfig(String serverName)
+    {
+        OMAGServerConfig serverConfig = new OMAGServerConfig();
+
+        serverConfig.setLocalServerName(serverName);
+
+        return serverConfig;
+    }
+
+
+    /**
+     * Return the file content for a server's configuration document.
+     *
+     * @param serverName name of the server
+     * @return JSON content
+     * @throws IOException unable to write the document
+     */
+    private byte[] getFileContent(String serverName) throws IOException
+    {
+        return objectMapper.writeValueAsBytes(getServerConfig(serverName));
+    }
+
+
+    /**
+     * Return the name of the server in the cached configuration document.
+     *
+     * @param cache cache to retrieve from
+     * @return server name
+     * @throws IOException unable to read the document
+     */
+    private String getServerName(OMAGServerConfigFileCache cache) throws IOException
+    {
+        return cache.retrieveServerConfig(loader).getLocalServerName();
+    }
+}
@@ -359,6 +359,40 @@ public class OMAGServerConfigurationClient
     }
 
 
+    /**
+     * Set an upper limit on the number of independent services (such as access services) that are initialized
+     * concurrently when the server starts.  The default value is 1 which means the services are initialized one
+     * at a time.  The value is validated server side.
+     *
+     * @param maxServiceActivationThreads  max number of services to initialize concurrently.
+     * @throws OMAGNotAuthorizedException the supplied userId is not authorized to issue this command.
+     * @throws OMAGInvalidParameterException invalid parameter.
+     * @throws OMAGConfigurationErrorException unusual state in the admin server.
+     */
+    public void setMaxServiceActivationThreads(int     maxServiceActivationThreads) throws OMAGNotAuthorizedException,
+                                                                                           OMAGInvalidParameterException,
+                                                                                           OMAGConfigurationErrorException
+    {
+        final String methodName  = "setMaxServiceActivationThreads";
+        final String urlTemplate = "/open-metadata/admin-services/users/{0}/servers/{1}/max-service-activation-threads?threads={2}";
+
+        if (maxServiceActivationThreads < 0)
+        {
+            throw new OMAGInvalidParameterException(OMAGAdminErrorCode.BAD_MAX_SERVICE_ACTIVATION_THREADS.getMessageDefinition(serverName,
+                                                                                                                               Integer.toString(maxServiceActivationThreads)),
+                                                    this.getClass().getName(),
+                                                    methodName);
+        }
+
+        restClient.callVoidPostRESTCall(methodName,
+                                        serverPlatformRootURL + urlTemplate,
+                                        nullRequestBody,
+                                        adminUserId,
+                                        serverName,
+                                        Integer.toString(maxServiceActivationThreads));
+    }
+
+
 
     /**
      * Set up the default audit log for the server.  This adds the console audit log destination.
@@ -379,6 +379,7 @@ public class OMAGServerOperationalServices
                                          configuration.getLocalServerUserId(),
                                          serverName,
                                          activatedServiceList,
+                                         configuration.getMaxServiceActivationThreads(),
                                          auditLog);
 
                 /*
@@ -456,6 +457,7 @@ public class OMAGServerOperationalServices
                                        serverName,
                                        activatedServiceList,
                                        configuration.getMaxPageSize(),
+                                       configuration.getMaxServiceActivationThreads(),
                                        auditLog);
             }
             else /* governance servers */
@@ -571,7 +573,7 @@ public class OMAGServerOperationalServices
             cleanUpRunningServiceInstances(userId, serverName, methodName, instance);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -620,7 +622,8 @@ public class OMAGServerOperationalServices
 
 
     /**
-     * Start up the access services.
+     * Start up the access services.  The access services only depend on the repository services and so they may be
+     * initialized concurrently if the server is configured with more than one service activation thread.
      *
      * @param instance server instance
      * @param accessServiceConfigList configured access services
@@ -629,9 +632,10 @@ public class OMAGServerOperationalServices
      * @param localServerUserId servers userId
      * @param serverName server name
      * @param activatedServiceList list of services (subsystems) running in the server
+     * @param maxServiceActivationThreads maximum number of access services to initialize concurrently
+     * @param auditLog audit log
      * @throws OMAGConfigurationErrorException problem with the configuration
      */
-    @SuppressWarnings(value = "deprecation")
     private void initializeAccessServices(OMAGOperationalServicesInstance instance,
                                           List<AccessServiceConfig>       accessServiceConfigList,
                                           OMRSOperationalServices         operationalRepositoryServices,
@@ -639,9 +643,9 @@ public class OMAGServerOperationalServices
                                           String                          localServerUserId,
                                           String                          serverName,
                                           List<String>                    activatedServiceList,
+                                          int                             maxServiceActivationThreads,
                                           OMRSAuditLog                    auditLog) throws OMAGConfigurationErrorException
     {
-        final String methodName = "initializeAccessServices";
         final String actionDescription = "Initialize Access Services";
 
         List<AccessServiceAdmin>        operationalAccessServiceAdminList = instance.getOperationalAccessServiceAdminList();
@@ -655,6 +659,12 @@ public class OMAGServerOperationalServices
             int  configuredAccessServiceCount = 0;
             int  enabledAccessServiceCount = 0;
 
+            OMAGServiceActivator<AccessServiceAdmin> serviceActivator = new OMAGServiceActivator<>(serverName,
+                                                                                                   "access services",
+                                                                                                   maxServiceActivationThreads,
+                                                                                                   auditLog,
+                                                                                                   actionDescription);
+
             for (AccessServiceConfig  accessServiceConfig : accessServiceConfigList)
             {
                 /*
@@ -670,57 +680,13 @@ public class OMAGServerOperationalServices
                     {
                         enabledAccessServiceCount ++;
 
-                        try
-                        {
-                            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
-
-                            /*
-                             * Each access service has its own audit log instance.
-                             */
-                            OMRSAuditLog accessServicesAuditLog
-                                    = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
-                                                                                accessServiceConfig.getAccessServiceFullName(),
-                                                                                accessServiceConfig.getAccessServiceDescription(),
-                                                                                accessServiceConfig.getAccessServiceWiki());
-
-                            /*
-                             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
-                             * AuditLog.  The default implementation of this method delegates to the new version of the method so
-                             */
-                            accessServiceAdmin.initialize(accessServiceConfig,
-                                                          enterpriseTopicConnector,
-                                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
-                                                          accessServicesAuditLog,
-                                                          localServerUserId);
-                            operationalAccessServiceAdminList.add(accessServiceAdmin);
-                            activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
-
-                        }
-                        catch (OMAGConfigurationErrorException error)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-                            throw error;
-                        }
-                        catch (Exception error)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
-                                                                                                                          accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-
-                            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
-                                                                                                                                                  accessServiceConfig.getAccessServiceName(),
-                                                                                                                                                  error.getMessage()),
-                                                                      this.getClass().getName(),
-                                                                      methodName,
-                                                                      error);
-                        }
+                        serviceActivator.addService(accessServiceConfig.getAccessServiceFullName(),
+                                                    () -> this.initializeAccessService(accessServiceConfig,
+                                                                                       operationalRepositoryServices,
+                                                                                       enterpriseTopicConnector,
+                                                                                       localServerUserId,
+                                                                                       serverName,
+                                                                                       auditLog));
                     }
                     else
                     {
@@ -731,6 +697,19 @@ public class OMAGServerOperationalServices
                 }
             }
 
+            /*
+             * The admin objects of the access services that started are saved even if one of the other access services fails
+             * so that they are shutdown when the server start up is abandoned.
+             */
+            try
+            {
+                serviceActivator.activateServices(operationalAccessServiceAdminList, activatedServiceList);
+            }
+            finally
+            {
+                instance.setOperationalAccessServiceAdminList(operationalAccessServiceAdminList);
+            }
+
             auditLog.logMessage(actionDescription,
                                 OMAGAdminAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceCount),
                                                                                                     Integer.toString(configuredAccessServiceCount)));
@@ -744,9 +723,85 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start up a single access service.
+     *
+     * @param accessServiceConfig configuration for the access service
+     * @param operationalRepositoryServices repository services
+     * @param enterpriseTopicConnector events from the cohort
+     * @param localServerUserId servers userId
+     * @param serverName server name
+     * @param auditLog audit log
+     * @return admin object for the running access service
+     * @throws OMAGConfigurationErrorException problem with the configuration
+     */
+    @SuppressWarnings(value = "deprecation")
+    private AccessServiceAdmin initializeAccessService(AccessServiceConfig     accessServiceConfig,
+                                                       OMRSOperationalServices operationalRepositoryServices,
+                                                       OMRSTopicConnector      enterpriseTopicConnector,
+                                                       String                  localServerUserId,
+                                                       String                  serverName,
+                                                       OMRSAuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeAccessServices";
+
+        try
+        {
+            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
+
+            /*
+             * Each access service has its own audit log instance.
+             */
+            OMRSAuditLog accessServicesAuditLog
+                    = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
+                                                                accessServiceConfig.getAccessServiceFullName(),
+                                                                accessServiceConfig.getAccessServiceDescription(),
+                                                                accessServiceConfig.getAccessServiceWiki());
+
+            /*
+             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
+             * AuditLog.  The default implementation of this method delegates to the new version of the method so
+             */
+            accessServiceAdmin.initialize(accessServiceConfig,
+                                          enterpriseTopicConnector,
+                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
+                                          accessServicesAuditLog,
+                                          localServerUserId);
+
+            return accessServiceAdmin;
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+            throw error;
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                          accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                  accessServiceConfig.getAccessServiceName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+    }
+
+
 
     /**
-     * Start up the view services.
+     * Start up the view services.  The view services are independent of one another and so they may be
+     * initialized concurrently if the server is configured with more than one service activation thread.
      *
      * @param instance                      server instance
      * @param viewServiceConfigList         configured view services
@@ -755,6 +810,7 @@ public class OMAGServerOperationalServices
      * @param serverName                    server name
      * @param activatedServiceList          list of services (subsystems) running in the server
      * @param maxPageSize                   maximum page size. 0 means unlimited
+     * @param maxServiceActivationThreads   maximum number of view services to initialize concurrently
      * @param auditLog                      audit log
      * @throws OMAGConfigurationErrorException problem with the configuration
      */
@@ -765,9 +821,9 @@ public class OMAGServerOperationalServices
                                         String                          serverName,
                                         List<String>                    activatedServiceList,
                                         int                             maxPageSize,
+                                        int                             maxServiceActivationThreads,
                                         OMRSAuditLog                    auditLog) throws OMAGConfigurationErrorException
     {
-        final String methodName = "initializeViewServices";
         final String actionDescription = "Initialize View Services";
 
         List<ViewServiceAdmin> operationalViewServiceAdminList = instance.getOperationalViewServiceAdminList();
@@ -781,6 +837,12 @@ public class OMAGServerOperationalServices
             int configuredViewServiceCount = 0;
             int enabledViewServiceCount = 0;
 
+            OMAGServiceActivator<ViewServiceAdmin> serviceActivator = new OMAGServiceActivator<>(serverName,
+                                                                                                 "view services",
+                                                                                                 maxServiceActivationThreads,
+                                                                                                 auditLog,
+                                                                                                 actionDescription);
+
             for (ViewServiceConfig viewServiceConfig : viewServiceConfigList)
             {
                 configuredViewServiceCount++;
@@ -789,53 +851,13 @@ public class OMAGServerOperationalServices
                 {
                     enabledViewServiceCount++;
 
-                    try
-                    {
-                        ViewServiceAdmin viewServiceAdmin = this.getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
-
-                        /*
-                         * Each view service has its own audit log instance.
-                         */
-                        OMRSAuditLog viewServicesAuditLog
-                                = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
-                                                                            viewServiceConfig.getViewServiceFullName(),
-                                                                            viewServiceConfig.getViewServiceDescription(),
-                                                                            viewServiceConfig.getViewServiceWiki());
-
-                        viewServiceAdmin.initialize(serverName,
-                                                    viewServiceConfig,
-                                                    viewServicesAuditLog,
-                                                    localServerUserId,
-                                                    maxPageSize);
-                        operationalViewServiceAdminList.add(viewServiceAdmin);
-                        activatedServiceList.add(viewServiceConfig.getViewServiceFullName());
-
-                    }
-                    catch (OMAGConfigurationErrorException error)
-                    {
-                        auditLog.logException(methodName,
-                                              OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
-                                                                                                                    error.getMessage()),
-                                              viewServiceConfig.toString(),
-                                              error);
-                        throw error;
-                    }
-                    catch (Exception error)
-                    {
-                        auditLog.logException(methodName,
-                                              OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
-                                                                                                                    viewServiceConfig.getViewServiceName(),
-                                                                                                                    error.getMessage()),
-                                              viewServiceConfig.toString(),
-                                              error);
-
-                        throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
-                                                                                                                                              viewServiceConfig.getViewServiceName(),
-                                                                                                                                              error.getMessage()),
-                                                                  this.getClass().getName(),
-                                                                  methodName,
-                                                                  error);
-                    }
+                    serviceActivator.addService(viewServiceConfig.getViewServiceFullName(),
+                                                () -> this.initializeViewService(viewServiceConfig,
+                                                                                 operationalRepositoryServices,
+                                                                                 localServerUserId,
+                                                                                 serverName,
+                                                                                 maxPageSize,
+                                                                                 auditLog));
                 }
                 else
                 {
@@ -846,6 +868,19 @@ public class OMAGServerOperationalServices
 
             }
 
+            /*
+             * The admin objects of the view services that started are saved even if one of the other view services fails
+             * so that they are shutdown when the server start up is abandoned.
+             */
+            try
+            {
+                serviceActivator.activateServices(operationalViewServiceAdminList, activatedServiceList);
+            }
+            finally
+            {
+                instance.setOperationalViewServiceAdminList(operationalViewServiceAdminList);
+            }
+
             auditLog.logMessage(actionDescription,
                                 OMAGAdminAuditCode.ALL_VIEW_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledViewServiceCount),
                                                                                                   Integer.toString(configuredViewServiceCount)));
@@ -859,6 +894,76 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start up a single view service.
+     *
+     * @param viewServiceConfig             configuration for the view service
+     * @param operationalRepositoryServices repository services
+     * @param localServerUserId             servers userId
+     * @param serverName                    server name
+     * @param maxPageSize                   maximum page size. 0 means unlimited
+     * @param auditLog                      audit log
+     * @return admin object for the running view service
+     * @throws OMAGConfigurationErrorException problem with the configuration
+     */
+    private ViewServiceAdmin initializeViewService(ViewServiceConfig       viewServiceConfig,
+                                                   OMRSOperationalServices operationalRepositoryServices,
+                                                   String                  localServerUserId,
+                                                   String                  serverName,
+                                                   int                     maxPageSize,
+                                                   OMRSAuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeViewServices";
+
+        try
+        {
+            ViewServiceAdmin viewServiceAdmin = this.getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
+
+            /*
+             * Each view service has its own audit log instance.
+             */
+            OMRSAuditLog viewServicesAuditLog
+                    = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
+                                                                viewServiceConfig.getViewServiceFullName(),
+                                                                viewServiceConfig.getViewServiceDescription(),
+                                                                viewServiceConfig.getViewServiceWiki());
+
+            viewServiceAdmin.initialize(serverName,
+                                        viewServiceConfig,
+                                        viewServicesAuditLog,
+                                        localServerUserId,
+                                        maxPageSize);
+
+            return viewServiceAdmin;
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
+                                                                                                        error.getMessage()),
+                                  viewServiceConfig.toString(),
+                                  error);
+            throw error;
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                        viewServiceConfig.getViewServiceName(),
+                                                                                                        error.getMessage()),
+                                  viewServiceConfig.toString(),
+                                  error);
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                  viewServiceConfig.getViewServiceName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+    }
+
+
     /**
      * Create an instance of the access service's admin class from the class name in the configuration.
      *
@@ -1325,7 +1430,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1391,7 +1496,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1449,7 +1554,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1509,7 +1614,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1566,7 +1671,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
@@ -0,0 +1,322 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminAuditCode;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminErrorCode;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OMAGServiceActivator activates a group of independent services (subsystems) for a server.  The services are
+ * added in the order they appear in the configuration document.  Services in a group may only depend on
+ * services that were activated before the group (for example, access services depend on the repository
+ * services) and so the group is a barrier in the server's start up sequence: activateServices() only returns
+ * once every service in the group has finished its initialization.
+ * <p>
+ * If the server is configured with more than one service activation thread, the services in the group are
+ * initialized concurrently on a bounded pool of threads.  Otherwise they are initialized one at a time on the
+ * calling thread.  Either way, the activation time of each service is reported through the audit log and
+ * the activated services are returned in configuration order.
+ * </p>
+ * <p>
+ * Ordering between the services in a group is only guaranteed when they are initialized one at a time.  When they
+ * are initialized concurrently:
+ * </p>
+ * <ul>
+ *     <li>A service's initialization may overlap with that of any other service in the group, so a service must not
+ *     call another service in the same group while it is initializing.</li>
+ *     <li>Listeners that the services register (for example with the OMRS topic) and the child audit logs they create
+ *     are added in the order the services reach that point rather than in configuration order.  Each listener
+ *     receives every event, but the order in which different services' listeners are called for the same event
+ *     is not fixed.</li>
+ *     <li>The activated services are still registered with the server in configuration order, and are shut down
+ *     in the same way as before.</li>
+ * </ul>
+ * <p>
+ * Ordering between groups is always preserved: every service in a group has finished initializing before
+ * the next step of the server's start up runs.
+ * </p>
+ * <p>
+ * Failure handling is deterministic.  Once a service fails, the services that follow it in the configuration are
+ * not started (unless they are already running) whereas the services ahead of it are always activated.  The services
+ * that activate successfully are returned so that they can be shutdown by the caller.  The exception reported
+ * is the one from the failing service that is earliest in the configuration, which is the same exception that
+ * would have been reported if the services had been activated one at a time.
+ * </p>
+ *
+ * @param <T> type of the object returned by each service's activation (typically its admin object)
+ */
+class OMAGServiceActivator<T>
+{
+    /**
+     * ServiceActivation is implemented by the caller to initialize a single service.
+     *
+     * @param <T> type of the object returned by the activation
+     */
+    interface ServiceActivation<T>
+    {
+        /**
+         * Initialize the service.
+         *
+         * @return object describing the activated service
+         * @throws OMAGConfigurationErrorException the service is not able to start
+         */
+        T activate() throws OMAGConfigurationErrorException;
+    }
+
+
+    private final String       serverName;
+    private final String       serviceGroupName;
+    private final int          maxActivationThreads;
+    private final OMRSAuditLog auditLog;
+    private final String       actionDescription;
+
+    private final List<String>               serviceNames = new ArrayList<>();
+    private final List<ServiceActivation<T>> activations  = new ArrayList<>();
+
+
+    /**
+     * Constructor takes the details of the group of services to activate.
+     *
+     * @param serverName name of the server being started
+     * @param serviceGroupName description of the group of services for messages, for example "access services"
+     * @param maxActivationThreads maximum number of services to initialize concurrently - 0 or 1 means one at a time
+     * @param auditLog logging destination for the activation timings
+     * @param actionDescription calling activity for the audit log
+     */
+    OMAGServiceActivator(String       serverName,
+                         String       serviceGroupName,
+                         int          maxActivationThreads,
+                         OMRSAuditLog auditLog,
+                         String       actionDescription)
+    {
+        this.serverName           = serverName;
+        this.serviceGroupName     = serviceGroupName;
+        this.maxActivationThreads = maxActivationThreads;
+        this.auditLog             = auditLog;
+        this.actionDescription    = actionDescription;
+    }
+
+
+    /**
+     * Add a service to the group.  Services must be added in configuration order.
+     *
+     * @param serviceName full name of the service
+     * @param activation logic to initialize the service
+     */
+    void addService(String               serviceName,
+                    ServiceActivation<T> activation)
+    {
+        serviceNames.add(serviceName);
+        activations.add(activation);
+    }
+
+
+    /**
+     * Activate all of the services in the group.  The results of the services that activated successfully are added
+     * to the supplied lists in configuration order, even if another service fails, so that the caller is able to
+     * shut them down.
+     *
+     * @param activatedServices list of objects returned from the successful activations
+     * @param activatedServiceNames list of names of the services that activated successfully
+     * @throws OMAGConfigurationErrorException one of the services failed to start
+     */
+    void activateServices(List<T>      activatedServices,
+                          List<String> activatedServiceNames) throws OMAGConfigurationErrorException
+    {
+        if ((maxActivationThreads <= 1) || (activations.size() <= 1))
+        {
+            for (int i = 0; i < activations.size(); i++)
+            {
+                activatedServices.add(this.activateService(i));
+                activatedServiceNames.add(serviceNames.get(i));
+            }
+        }
+        else
+        {
+            this.activateServicesConcurrently(activatedServices, activatedServiceNames);
+        }
+    }
+
+
+    /**
+     * Initialize the services on a bounded pool of threads and wait for them all to complete.
+     *
+     * @param activatedServices list of objects returned from the successful activations
+     * @param activatedServiceNames list of names of the services that activated successfully
+     * @throws OMAGConfigurationErrorException one of the services failed to start
+     */
+    private void activateServicesConcurrently(List<T>      activatedServices,
+                                              List<String> activatedServiceNames) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "activateServicesConcurrently";
+
+        int threadCount = Math.min(maxActivationThreads, activations.size());
+
+        auditLog.logMessage(actionDescription,
+                            OMAGAdminAuditCode.CONCURRENT_SERVICE_ACTIVATION.getMessageDefinition(serverName,
+                                                                                                  Integer.toString(activations.size()),
+                                                                                                  serviceGroupName,
+                                                                                                  Integer.toString(threadCount)));
+
+        AtomicInteger   firstFailedIndex = new AtomicInteger(Integer.MAX_VALUE);
+        ExecutorService executor         = Executors.newFixedThreadPool(threadCount, new ActivationThreadFactory());
+        List<Future<T>> results          = new ArrayList<>();
+
+        try
+        {
+            for (int i = 0; i < activations.size(); i++)
+            {
+                final int serviceIndex = i;
+
+                results.add(executor.submit(() ->
+                {
+                    /*
+                     * Services that come after a failed service in the configuration are skipped.  Every service
+                     * ahead of the failed service is still activated so the failure reported is the same as if the
+                     * services were activated one at a time.
+                     */
+                    if (firstFailedIndex.get() < serviceIndex)
+                    {
+                        return null;
+                    }
+
+                    try
+                    {
+                        return this.activateService(serviceIndex);
+                    }
+                    catch (Exception | Error error)
+                    {
+                        firstFailedIndex.accumulateAndGet(serviceIndex, Math::min);
+                        throw error;
+                    }
+                }));
+            }
+
+            OMAGConfigurationErrorException firstFailure = null;
+
+            for (int i = 0; i < results.size(); i++)
+            {
+                try
+                {
+                    T activatedService = results.get(i).get();
+
+                    if (activatedService != null)
+                    {
+                        activatedServices.add(activatedService);
+                        activatedServiceNames.add(serviceNames.get(i));
+                    }
+                }
+                catch (ExecutionException error)
+                {
+                    if (firstFailure == null)
+                    {
+                        firstFailure = this.getConfigurationError(serviceNames.get(i), error.getCause(), methodName);
+                    }
+                }
+            }
+
+            if (firstFailure != null)
+            {
+                throw firstFailure;
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            throw this.getConfigurationError(serviceGroupName, error, methodName);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Initialize a single service and log how long it took.
+     *
+     * @param serviceIndex position of the service in the configuration
+     * @return object returned from the activation
+     * @throws OMAGConfigurationErrorException the service failed to start
+     */
+    private T activateService(int serviceIndex) throws OMAGConfigurationErrorException
+    {
+        long startTime = System.currentTimeMillis();
+
+        T activatedService = activations.get(serviceIndex).activate();
+
+        auditLog.logMessage(actionDescription,
+                            OMAGAdminAuditCode.SERVICE_ACTIVATION_TIME.getMessageDefinition(serviceNames.get(serviceIndex),
+                                                                                            serverName,
+                                                                                            Long.toString(System.currentTimeMillis() - startTime)));
+        return activatedService;
+    }
+
+
+    /**
+     * Convert the exception from a failed activation into the exception that is returned to the caller.
+     * The activation logic normally logs and throws OMAGConfigurationErrorException itself.
+     *
+     * @param serviceName name of the failing service
+     * @param error exception from the activation
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private OMAGConfigurationErrorException getConfigurationError(String    serviceName,
+                                                                  Throwable error,
+                                                                  String    methodName)
+    {
+        if (error instanceof OMAGConfigurationErrorException)
+        {
+            return (OMAGConfigurationErrorException) error;
+        }
+
+        return new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                              serviceName,
+                                                                                                                              error.getMessage()),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   error);
+    }
+
+
+    /**
+     * Creates named daemon threads for the activation pool.  The threads use the class loader of the thread
+     * starting the server so that the services are able to locate their connectors.
+     */
+    private class ActivationThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger threadNumber      = new AtomicInteger(1);
+        private final ClassLoader   serverClassLoader = Thread.currentThread().getContextClassLoader();
+
+
+        /**
+         * Create a new thread for the pool.
+         *
+         * @param runnable work for the thread
+         * @return new thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, serverName + "-service-activation-" + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+            thread.setContextClassLoader(serverClassLoader);
+
+            return thread;
+        }
+    }
+}
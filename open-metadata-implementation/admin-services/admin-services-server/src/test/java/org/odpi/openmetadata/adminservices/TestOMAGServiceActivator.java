@@ -0,0 +1,160 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminErrorCode;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Test that OMAGServiceActivator returns services in configuration order and reports failures deterministically.
+ */
+public class TestOMAGServiceActivator
+{
+    private static final String serverName = "TestServer";
+
+    private OMRSAuditLog auditLog = new OMRSAuditLog(new OMRSAuditLogDestination(serverName, "TestServerType", "TestOrg", null),
+                                                     0,
+                                                     "TestComponent",
+                                                     "Test component",
+                                                     null);
+
+
+    /**
+     * Services started one at a time run on the calling thread in configuration order.
+     */
+    @Test
+    public void testSequentialActivation() throws OMAGConfigurationErrorException
+    {
+        OMAGServiceActivator<String> activator = new OMAGServiceActivator<>(serverName, "test services", 1, auditLog, "test");
+        List<String>                 runOrder  = new ArrayList<>();
+        Thread                       caller    = Thread.currentThread();
+
+        for (String serviceName : Arrays.asList("A", "B", "C"))
+        {
+            activator.addService(serviceName, () ->
+            {
+                assertEquals(caller, Thread.currentThread());
+                runOrder.add(serviceName);
+                return serviceName + "Admin";
+            });
+        }
+
+        List<String> admins = new ArrayList<>();
+        List<String> names  = new ArrayList<>();
+
+        activator.activateServices(admins, names);
+
+        assertEquals(Arrays.asList("A", "B", "C"), runOrder);
+        assertEquals(Arrays.asList("AAdmin", "BAdmin", "CAdmin"), admins);
+        assertEquals(Arrays.asList("A", "B", "C"), names);
+    }
+
+
+    /**
+     * Services started concurrently overlap and are still returned in configuration order.
+     */
+    @Test
+    public void testConcurrentActivation() throws OMAGConfigurationErrorException
+    {
+        OMAGServiceActivator<String> activator = new OMAGServiceActivator<>(serverName, "test services", 3, auditLog, "test");
+        CountDownLatch               allStarted = new CountDownLatch(3);
+
+        for (String serviceName : Arrays.asList("A", "B", "C"))
+        {
+            activator.addService(serviceName, () ->
+            {
+                allStarted.countDown();
+
+                try
+                {
+                    if (! allStarted.await(10, TimeUnit.SECONDS))
+                    {
+                        fail("Services were not started concurrently");
+                    }
+                }
+                catch (InterruptedException error)
+                {
+                    fail("Interrupted");
+                }
+
+                return serviceName + "Admin";
+            });
+        }
+
+        List<String> admins = new ArrayList<>();
+        List<String> names  = new ArrayList<>();
+
+        activator.activateServices(admins, names);
+
+        assertEquals(Arrays.asList("AAdmin", "BAdmin", "CAdmin"), admins);
+        assertEquals(Arrays.asList("A", "B", "C"), names);
+    }
+
+
+    /**
+     * When several services fail, the failure from the earliest service in the configuration is reported
+     * and the services that started are returned so they can be shutdown.
+     */
+    @Test
+    public void testConcurrentFailure()
+    {
+        OMAGServiceActivator<String> activator   = new OMAGServiceActivator<>(serverName, "test services", 4, auditLog, "test");
+        CountDownLatch               laterFailed = new CountDownLatch(1);
+
+        activator.addService("A", () -> "AAdmin");
+        activator.addService("B", () ->
+        {
+            /*
+             * Fail after the later service so the order of completion is the reverse of the configuration.
+             */
+            try
+            {
+                laterFailed.await(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException error)
+            {
+                fail("Interrupted");
+            }
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.NULL_ACCESS_SERVICE_ADMIN_CLASS.getMessageDefinition(serverName, "B"),
+                                                      this.getClass().getName(),
+                                                      "B");
+        });
+        activator.addService("C", () ->
+        {
+            laterFailed.countDown();
+            throw new IllegalStateException("C failed");
+        });
+
+        List<String> admins = Collections.synchronizedList(new ArrayList<>());
+        List<String> names  = new ArrayList<>();
+
+        try
+        {
+            activator.activateServices(admins, names);
+            fail("Failure not reported");
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            assertTrue(error.getReportedErrorMessage().contains("B"));
+            assertEquals("B", error.getReportingActionDescription());
+        }
+
+        assertEquals(Collections.singletonList("AAdmin"), admins);
+        assertEquals(Collections.singletonList("A"), names);
+    }
+}
@@ -144,4 +144,24 @@ public class ConfigPropertiesResource
     {
         return adminAPI.setMaxPageSize(userId, serverName, limit);
     }
+
+
+    /**
+     * Set an upper limit on the number of independent services (such as access services) that are initialized
+     * concurrently when the server starts.  The default value is 1 which means the services are initialized one at a time.
+     *
+     * @param userId  user that is issuing the request.
+     * @param serverName  local server name.
+     * @param threads  max number of services to initialize concurrently.
+     * @return void response or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException invalid serverName or threads parameter.
+     */
+    @PostMapping(path = "/max-service-activation-threads")
+    public VoidResponse setMaxServiceActivationThreads(@PathVariable String  userId,
+                                                       @PathVariable String  serverName,
+                                                       @RequestParam int     threads)
+    {
+        return adminAPI.setMaxServiceActivationThreads(userId, serverName, threads);
+    }
 }
@@ -3,16 +3,83 @@
 
 package org.odpi.openmetadata.commonservices.ffdc;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.OMRSAPIResponse;
 import org.slf4j.Logger;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
  * RESTCallLogger provides standard logging for REST API method invocations.  It logs
  * the start and end of the call and manages a timer so the the elapsed time of a call is logged.
+ * The elapsed time of each call is also recorded in a latency histogram for the server, service and method,
+ * and calls that return an error are counted.  These metrics are published through the Micrometer global
+ * registry, which the OMAG Server Platform exposes through its actuator endpoints.
+ * The server name comes from the request URL, so only the first MAX_SERVER_NAMES server names seen by any
+ * logger in the platform are used as tags.  Calls to other servers are recorded under the server tag "other".
  */
 public class RESTCallLogger
 {
-    private  Logger  log;
-    private  String  serviceName;
+    /**
+     * Name of the timer that records the elapsed time of the REST calls.
+     */
+    public static final String REST_CALL_TIMER_NAME   = "egeria.rest.call";
+
+    /**
+     * Name of the counter of the REST calls that return an error.
+     */
+    public static final String REST_CALL_ERRORS_NAME  = "egeria.rest.call.errors";
+
+    private static final String SERVER_TAG  = "server";
+    private static final String SERVICE_TAG = "service";
+    private static final String METHOD_TAG  = "method";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String STATUS_TAG  = "status";
+
+    private static final String SUCCESS_OUTCOME = "success";
+    private static final String ERROR_OUTCOME   = "error";
+
+    private static final int    SUCCESS_HTTP_CODE = 200;
+
+    /*
+     * Limit on the number of server names used as tags, shared by all loggers.
+     */
+    static final int            MAX_SERVER_NAMES   = 100;
+    static final String         OTHER_SERVERS_TAG  = "other";
+
+    private static final Set<String> taggedServerNames = ConcurrentHashMap.newKeySet();
+
+    /*
+     * Fixed latency buckets for the call timers.  They keep the number of time series per timer small
+     * compared with a full percentile histogram.
+     */
+    private static final Duration[] LATENCY_BUCKETS = { Duration.ofMillis(5),
+                                                        Duration.ofMillis(10),
+                                                        Duration.ofMillis(25),
+                                                        Duration.ofMillis(50),
+                                                        Duration.ofMillis(100),
+                                                        Duration.ofMillis(250),
+                                                        Duration.ofMillis(500),
+                                                        Duration.ofSeconds(1),
+                                                        Duration.ofMillis(2500),
+                                                        Duration.ofSeconds(5),
+                                                        Duration.ofSeconds(10) };
+
+    private  Logger        log;
+    private  String        serviceName;
+    private  MeterRegistry meterRegistry;
+
+    private final Map<String, Timer>   callTimers    = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+
 
     /**
      * Create a REST Call logger for a REST Service.
@@ -22,8 +89,22 @@ public class RESTCallLogger
      */
     public RESTCallLogger(Logger log, String serviceName)
     {
-        this.log         = log;
-        this.serviceName = serviceName;
+        this(log, serviceName, Metrics.globalRegistry);
+    }
+
+
+    /**
+     * Create a REST Call logger for a REST Service that records its metrics in a specific registry.
+     *
+     * @param log debug logger
+     * @param serviceName service name
+     * @param meterRegistry registry for the call metrics
+     */
+    public RESTCallLogger(Logger log, String serviceName, MeterRegistry meterRegistry)
+    {
+        this.log           = log;
+        this.serviceName   = serviceName;
+        this.meterRegistry = meterRegistry;
     }
 
 
@@ -41,12 +122,44 @@ public class RESTCallLogger
     {
         RESTCallToken token = new RESTCallToken(serviceName, serverName, userId, methodName);
 
-        log.debug(token.getRESTCallStartText());
+        token.setCallThreadName();
+
+        if (log.isDebugEnabled())
+        {
+            log.debug(token.getRESTCallStartText());
+        }
 
         return token;
     }
 
 
+    /**
+     * Log the return of an inbound REST Call.  The response is only converted to a string if debug logging
+     * is enabled.  If the response carries an HTTP code, a code other than 200 is counted as an error.
+     *
+     * @param token REST call token
+     * @param response result of call
+     */
+    public void logRESTCallReturn(RESTCallToken  token,
+                                  Object         response)
+    {
+        if (token != null)
+        {
+            token.resetCallThreadName();
+            recordCall(token, getRelatedHTTPCode(response));
+
+            if (log.isDebugEnabled())
+            {
+                log.debug(token.getRESTCallReturnText(String.valueOf(response)));
+            }
+        }
+        else
+        {
+            log.debug(serviceName + ":" + " returned with response " + response);
+        }
+    }
+
+
     /**
      * Log the return of an inbound REST Call.
      *
@@ -58,11 +171,125 @@ public class RESTCallLogger
     {
         if (token != null)
         {
-            log.debug(token.getRESTCallReturnText(response));
+            token.resetCallThreadName();
+            recordCall(token, SUCCESS_HTTP_CODE);
+
+            if (log.isDebugEnabled())
+            {
+                log.debug(token.getRESTCallReturnText(response));
+            }
         }
         else
         {
             log.debug(serviceName + ":" + " returned with response " + response);
         }
     }
+
+
+    /**
+     * Return the HTTP code carried by a REST response.
+     *
+     * @param response result of call
+     * @return HTTP code - 200 if the response does not carry one
+     */
+    private int getRelatedHTTPCode(Object response)
+    {
+        if (response instanceof FFDCResponse)
+        {
+            return ((FFDCResponse)response).getRelatedHTTPCode();
+        }
+        else if (response instanceof OMRSAPIResponse)
+        {
+            return ((OMRSAPIResponse)response).getRelatedHTTPCode();
+        }
+
+        return SUCCESS_HTTP_CODE;
+    }
+
+
+    /**
+     * Return the value of the server tag for a server name.  The first MAX_SERVER_NAMES server names seen by
+     * any logger are used as they are; any other server name is mapped to "other".
+     *
+     * @param serverName destination server
+     * @return tag value
+     */
+    private static String getServerTag(String serverName)
+    {
+        String serverTag = String.valueOf(serverName);
+
+        if (taggedServerNames.contains(serverTag))
+        {
+            return serverTag;
+        }
+
+        synchronized (taggedServerNames)
+        {
+            if (taggedServerNames.size() < MAX_SERVER_NAMES)
+            {
+                taggedServerNames.add(serverTag);
+                return serverTag;
+            }
+        }
+
+        return OTHER_SERVERS_TAG;
+    }
+
+
+    /**
+     * Forget the server names used as tags.  This is used by the tests.
+     */
+    static void resetServerTags()
+    {
+        synchronized (taggedServerNames)
+        {
+            taggedServerNames.clear();
+        }
+    }
+
+
+    /**
+     * Record the elapsed time of the call and count it if it failed.  The meters are cached by the logger
+     * so the registry is only consulted for the first call to each server and method.  The number of meters
+     * is bounded because the server tag has at most MAX_SERVER_NAMES + 1 values.
+     *
+     * @param token REST call token
+     * @param relatedHTTPCode HTTP code returned by the call
+     */
+    private void recordCall(RESTCallToken token,
+                            int           relatedHTTPCode)
+    {
+        String  serverName = getServerTag(token.getServerName());
+        String  methodName = token.getMethodName();
+        boolean failed     = (relatedHTTPCode != SUCCESS_HTTP_CODE);
+        String  outcome    = failed ? ERROR_OUTCOME : SUCCESS_OUTCOME;
+        String  timerKey   = serverName + ":" + methodName + ":" + outcome;
+
+        Timer callTimer = callTimers.computeIfAbsent(timerKey,
+                                                     key -> Timer.builder(REST_CALL_TIMER_NAME)
+                                                                 .description("Elapsed time of the REST calls to an OMAG Server")
+                                                                 .tags(SERVER_TAG, serverName,
+                                                                       SERVICE_TAG, String.valueOf(serviceName),
+                                                                       METHOD_TAG, String.valueOf(methodName),
+                                                                       OUTCOME_TAG, outcome)
+                                                                 .serviceLevelObjectives(LATENCY_BUCKETS)
+                                                                 .register(meterRegistry));
+
+        callTimer.record(token.getElapsedTime(), TimeUnit.NANOSECONDS);
+
+        if (failed)
+        {
+            String counterKey = serverName + ":" + methodName + ":" + relatedHTTPCode;
+
+            Counter errorCounter = errorCounters.computeIfAbsent(counterKey,
+                                                                 key -> Counter.builder(REST_CALL_ERRORS_NAME)
+                                                                               .description("REST calls to an OMAG Server that returned an error")
+                                                                               .tags(SERVER_TAG, serverName,
+                                                                                     SERVICE_TAG, String.valueOf(serviceName),
+                                                                                     METHOD_TAG, String.valueOf(methodName),
+                                                                                     STATUS_TAG, Integer.toString(relatedHTTPCode))
+                                                                               .register(meterRegistry));
+            errorCounter.increment();
+        }
+    }
 }
@@ -5,16 +5,18 @@ package org.odpi.openmetadata.commonservices.ffdc;
 
 import org.apache.commons.lang3.time.StopWatch;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * RESTCallToken provides a cache of information about a single REST API call invocation.
  * It is used for logging and diagnosis.
  */
 public class RESTCallToken
 {
-    static private long nextCallId = 0;
+    static private final AtomicLong nextCallId = new AtomicLong(0);
     static final String PLATFORM_NAME = "<*>";
 
-    static private synchronized long getNextCallId() { return nextCallId++; }
+    static private long getNextCallId() { return nextCallId.getAndIncrement(); }
 
     private StopWatch watch;
     private long      callId;
@@ -53,6 +55,57 @@ public class RESTCallToken
     }
 
 
+    /**
+     * Return the name of the server that the call is for.
+     *
+     * @return server name (or PLATFORM_NAME if it is a platform request)
+     */
+    String getServerName()
+    {
+        return serverName;
+    }
+
+
+    /**
+     * Return the name of the called method.
+     *
+     * @return method name
+     */
+    String getMethodName()
+    {
+        return methodName;
+    }
+
+
+    /**
+     * Return the time since the call started.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    long getElapsedTime()
+    {
+        return watch.getNanoTime();
+    }
+
+
+    /**
+     * Rename the current thread after the call so thread dumps show the call in progress.
+     */
+    void setCallThreadName()
+    {
+        Thread.currentThread().setName("REST:" + serviceName + ":" + methodName);
+    }
+
+
+    /**
+     * Restore the name of the current thread at the end of the call.
+     */
+    void resetCallThreadName()
+    {
+        Thread.currentThread().setName(threadName);
+    }
+
+
     /**
      * Build the start text.
      *
@@ -60,8 +113,6 @@ public class RESTCallToken
      */
     String getRESTCallStartText()
     {
-        Thread.currentThread().setName("REST:" + serviceName + ":" + methodName);
-
         return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId;
     }
 
@@ -74,8 +125,6 @@ public class RESTCallToken
      */
     String getRESTCallReturnText(String response)
     {
-        Thread.currentThread().setName(threadName);
-
         return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId + " returned with response " + response + "; Duration: " + watch.getTime()/1000 + "seconds";
     }
 }
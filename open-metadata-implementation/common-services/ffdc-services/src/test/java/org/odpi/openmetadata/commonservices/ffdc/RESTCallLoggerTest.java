@@ -0,0 +1,131 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ffdc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Validate that the RESTCallLogger records the elapsed time and errors of REST calls for each server, service
+ * and method.
+ */
+public class RESTCallLoggerTest
+{
+    private static final String serviceName = "TestService";
+    private static final String serverName  = "TestServer";
+    private static final String userId      = "TestUser";
+    private static final String methodName  = "testMethod";
+
+
+    /**
+     * Each test starts with no server names used as tags.
+     */
+    @BeforeMethod public void resetServerTags()
+    {
+        RESTCallLogger.resetServerTags();
+    }
+
+
+    /**
+     * Validate that successful calls are timed and not counted as errors.
+     */
+    @Test public void testSuccessfulCall()
+    {
+        SimpleMeterRegistry meterRegistry  = new SimpleMeterRegistry();
+        RESTCallLogger      restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(RESTCallLoggerTest.class), serviceName, meterRegistry);
+
+        for (int i = 0; i < 3; i++)
+        {
+            RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+            restCallLogger.logRESTCallReturn(token, new VoidResponse());
+        }
+
+        Timer timer = meterRegistry.find(RESTCallLogger.REST_CALL_TIMER_NAME)
+                                   .tags("server", serverName, "service", serviceName, "method", methodName, "outcome", "success")
+                                   .timer();
+
+        assertNotNull(timer);
+        assertEquals(timer.count(), 3);
+        assertEquals(timer.takeSnapshot().histogramCounts().length, 11);
+        assertNull(meterRegistry.find(RESTCallLogger.REST_CALL_ERRORS_NAME).counter());
+    }
+
+
+    /**
+     * Validate that once the limit on server names is reached, calls to new servers are recorded as "other"
+     * by every logger.
+     */
+    @Test public void testServerNameLimit()
+    {
+        SimpleMeterRegistry meterRegistry   = new SimpleMeterRegistry();
+        RESTCallLogger      restCallLogger  = new RESTCallLogger(LoggerFactory.getLogger(RESTCallLoggerTest.class), serviceName, meterRegistry);
+        RESTCallLogger      otherCallLogger = new RESTCallLogger(LoggerFactory.getLogger(RESTCallLoggerTest.class), "OtherService", meterRegistry);
+
+        for (int i = 0; i < RESTCallLogger.MAX_SERVER_NAMES; i++)
+        {
+            restCallLogger.logRESTCallReturn(restCallLogger.logRESTCall(serverName + i, userId, methodName), new VoidResponse());
+        }
+
+        restCallLogger.logRESTCallReturn(restCallLogger.logRESTCall(serverName, userId, methodName), new VoidResponse());
+        otherCallLogger.logRESTCallReturn(otherCallLogger.logRESTCall(serverName, userId, methodName), new VoidResponse());
+        otherCallLogger.logRESTCallReturn(otherCallLogger.logRESTCall(serverName + 0, userId, methodName), new VoidResponse());
+
+        assertNull(meterRegistry.find(RESTCallLogger.REST_CALL_TIMER_NAME).tag("server", serverName).timer());
+        assertEquals(meterRegistry.find(RESTCallLogger.REST_CALL_TIMER_NAME).tag("server", RESTCallLogger.OTHER_SERVERS_TAG).timers().size(), 2);
+        assertNotNull(meterRegistry.find(RESTCallLogger.REST_CALL_TIMER_NAME).tags("server", serverName + 0, "service", "OtherService").timer());
+    }
+
+
+    /**
+     * Validate that a response with an error code is counted as an error.
+     */
+    @Test public void testFailedCall()
+    {
+        SimpleMeterRegistry meterRegistry  = new SimpleMeterRegistry();
+        RESTCallLogger      restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(RESTCallLoggerTest.class), serviceName, meterRegistry);
+        VoidResponse        response       = new VoidResponse();
+
+        response.setRelatedHTTPCode(400);
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+        restCallLogger.logRESTCallReturn(token, response);
+
+        Counter counter = meterRegistry.find(RESTCallLogger.REST_CALL_ERRORS_NAME)
+                                       .tags("server", serverName, "method", methodName, "status", "400")
+                                       .counter();
+
+        assertNotNull(counter);
+        assertEquals(counter.count(), 1.0);
+        assertEquals(meterRegistry.find(RESTCallLogger.REST_CALL_TIMER_NAME).tag("outcome", "error").timer().count(), 1);
+    }
+
+
+    /**
+     * Validate that platform calls are recorded under the platform name and that the thread name is restored.
+     */
+    @Test public void testPlatformCall()
+    {
+        SimpleMeterRegistry meterRegistry  = new SimpleMeterRegistry();
+        RESTCallLogger      restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(RESTCallLoggerTest.class), serviceName, meterRegistry);
+        String              threadName     = Thread.currentThread().getName();
+
+        RESTCallToken token = restCallLogger.logRESTCall(null, userId, methodName);
+
+        assertEquals(Thread.currentThread().getName(), "REST:" + serviceName + ":" + methodName);
+
+        restCallLogger.logRESTCallReturn(token, "TestResponse");
+
+        assertEquals(Thread.currentThread().getName(), threadName);
+        assertNotNull(meterRegistry.find(RESTCallLogger.REST_CALL_TIMER_NAME).tag("server", RESTCallToken.PLATFORM_NAME).timer());
+    }
+}
@@ -106,7 +106,8 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
                                                                                                           configurationClient,
                                                                                                           governanceActionClient,
                                                                                                           restClient,
-                                                                                                          maxPageSize);
+                                                                                                          maxPageSize,
+                                                                                                          engineServiceConfig.getEngineServiceOptions());
 
             if (discoveryEngineHandlers == null)
             {
@@ -168,6 +169,7 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
      * @param governanceActionClient client used by the engine host services to connect to the Governance Engine OMAS to manage governance actions
      * @param odfRESTClient client for calling REST APIs
      * @param maxPageSize maximum number of records that can be requested on the pageSize parameter
+     * @param engineServiceOptions options that control the running of discovery services
      * @return map of discovery engine GUIDs to handlers
      * @throws OMAGConfigurationErrorException problem with config
      */
@@ -178,7 +180,8 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
                                                                             GovernanceEngineConfigurationClient configurationClient,
                                                                             GovernanceEngineClient              governanceActionClient,
                                                                             ODFRESTClient                       odfRESTClient,
-                                                                            int                                 maxPageSize) throws OMAGConfigurationErrorException
+                                                                            int                                 maxPageSize,
+                                                                            Map<String, Object>                 engineServiceOptions) throws OMAGConfigurationErrorException
     {
         final String methodName        = "getDiscoveryEngineHandlers";
 
@@ -221,7 +224,8 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
                                                                              governanceActionClient,
                                                                              discoveryEngineClient,
                                                                              auditLog,
-                                                                             maxPageSize);
+                                                                             maxPageSize,
+                                                                             engineServiceOptions);
 
                 discoveryEngineHandlers.put(discoveryEngine.getEngineQualifiedName(), handler);
             }
@@ -15,6 +15,7 @@ import org.odpi.openmetadata.frameworks.governanceaction.properties.ActionTarget
 import org.odpi.openmetadata.frameworks.governanceaction.properties.RequestSourceElement;
 import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceEngineHandler;
 import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceServiceCache;
+import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceServiceExecutor;
 import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceServiceHandler;
 
 import java.util.*;
@@ -42,6 +43,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
      * @param discoveryEngineClient REST client for direct REST Calls to Discovery Engine OMAS - used by discovery services
      * @param auditLog logging destination
      * @param maxPageSize maximum number of results that can be returned in a single request
+     * @param engineServiceOptions options from the engine service configuration
      */
     public DiscoveryEngineHandler(EngineConfig                        engineConfig,
                                   String                              serverName,
@@ -50,7 +52,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                   GovernanceEngineClient              serverClient,
                                   DiscoveryEngineClient               discoveryEngineClient,
                                   AuditLog                            auditLog,
-                                  int                                 maxPageSize)
+                                  int                                 maxPageSize,
+                                  Map<String, Object>                 engineServiceOptions)
     {
         super(engineConfig,
               serverName,
@@ -59,7 +62,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
               configurationClient,
               serverClient,
               auditLog,
-              maxPageSize);
+              maxPageSize,
+              engineServiceOptions);
 
         this.discoveryEngineClient = discoveryEngineClient;
     }
@@ -95,7 +99,12 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
         if (discoveryServiceCache != null)
         {
-            return runDiscoveryService(assetGUID, discoveryRequestType, analysisParameters, annotationTypes, discoveryServiceCache);
+            return runDiscoveryService(assetGUID,
+                                       discoveryRequestType,
+                                       analysisParameters,
+                                       annotationTypes,
+                                       discoveryServiceCache,
+                                       GovernanceServiceExecutor.REQUEST_PRIORITY);
         }
 
         return null;
@@ -146,7 +155,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                 discoveryRequestType,
                                                 analysisParameters,
                                                 annotationTypes,
-                                                discoveryServiceCache);
+                                                discoveryServiceCache,
+                                                GovernanceServiceExecutor.BULK_PRIORITY);
                         }
                     }
 
@@ -225,8 +235,9 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                               governanceActionGUID,
                                                                                               governanceServiceCache);
 
-            Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date().toString());
-            thread.start();
+            super.startGovernanceService(discoveryServiceHandler,
+                                         governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date().toString(),
+                                         GovernanceServiceExecutor.GOVERNANCE_ACTION_PRIORITY);
 
             return discoveryServiceHandler;
         }
@@ -236,13 +247,14 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a discovery service in its own thread.
+     * Queue an instance of a discovery service to run in its own thread.
      *
      * @param assetGUID unique identifier of the asset to analyse
      * @param discoveryRequestType type of discovery
      * @param suppliedAnalysisParameters parameters for the discovery
      * @param annotationTypes types of annotations that can be returned
      * @param governanceServiceCache factory for discovery services.
+     * @param priority priority of the request compared to the other requests queued for this discovery engine
      *
      * @return unique identifier for this request.
      *
@@ -254,9 +266,10 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                        String                 discoveryRequestType,
                                        Map<String, String>    suppliedAnalysisParameters,
                                        List<String>           annotationTypes,
-                                       GovernanceServiceCache governanceServiceCache) throws InvalidParameterException,
-                                                                                             UserNotAuthorizedException,
-                                                                                             PropertyServerException
+                                       GovernanceServiceCache governanceServiceCache,
+                                       int                    priority) throws InvalidParameterException,
+                                                                               UserNotAuthorizedException,
+                                                                               PropertyServerException
     {
         DiscoveryServiceHandler discoveryServiceHandler = this.getDiscoveryServiceHandler(assetGUID,
                                                                                           discoveryRequestType,
@@ -265,8 +278,9 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                           null,
                                                                                           governanceServiceCache);
 
-        Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date().toString());
-        thread.start();
+        super.startGovernanceService(discoveryServiceHandler,
+                                     governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date().toString(),
+                                     priority);
 
         return discoveryServiceHandler.getDiscoveryReportGUID();
     }
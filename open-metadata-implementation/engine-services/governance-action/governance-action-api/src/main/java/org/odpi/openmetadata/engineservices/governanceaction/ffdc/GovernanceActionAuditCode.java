@@ -186,6 +186,16 @@ public enum GovernanceActionAuditCode implements AuditLogMessageSet
                                                "Its class is {2} rather than a subclass of {3}",
                                        "The governance action request is not run and an error is returned to the caller.  Subsequent calls to this service will fail in the same way",
                                        "Correct the configuration for the Governance Action OMES to only include valid governance action service implementations."),
+
+    WATCHDOG_EVENTS_DROPPED("OMES-GOVERNANCE-ACTION-0032",
+                            OMRSAuditLogRecordSeverity.ERROR,
+                            "Watchdog events are being dropped for a watchdog governance action service in governance engine {0} " +
+                                    "because its queue of {1} events is full.  {2} events have been dropped for this service so far",
+                            "The watchdog governance action service is processing events more slowly than they are arriving.  " +
+                                    "Events continue to be dropped until the service catches up.  The other watchdog governance action " +
+                                    "services are not affected.",
+                            "Review the performance of the watchdog governance action service, narrow the types of events " +
+                                    "it listens for, or increase the watchdogQueueSize engine service option."),
     ;
 
 
@@ -9,60 +9,169 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.governanceaction.WatchdogGovernanceListener;
 import org.odpi.openmetadata.frameworks.governanceaction.events.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
  * GovernanceListenerManager manages the watchdog listeners through a single registration to the Governance Engine OMAS's
  * out topic.  This approach is used to enable the rapid changing list of watchdog listeners and their listening specification
  * without pushing that churn to the event bus.
+ *
+ * The listeners are indexed by the event types, metadata types and specific instance they are interested in so an
+ * incoming event is only considered by the listeners that match it.  Each listener has its own queue of events and
+ * worker thread, so a slow watchdog governance action service does not hold up the other listeners or the thread
+ * receiving events from the out topic.
  */
 public class GovernanceListenerManager
 {
-    private volatile Map<String, WatchdogListener> listenerMap = new HashMap<>();
+    /**
+     * Engine service option for the number of events that can wait for each watchdog governance action service.
+     */
+    public static final String WATCHDOG_QUEUE_SIZE_OPTION = "watchdogQueueSize";
+
+    /**
+     * Number of events that can wait for each watchdog governance action service if the option is not set.
+     */
+    public static final int DEFAULT_WATCHDOG_QUEUE_SIZE = 1000;
+
+    private final Map<String, WatchdogListener> listenerMap   = new HashMap<>();
+    private volatile ListenerIndex              listenerIndex = new ListenerIndex(new ArrayList<>());
 
     private InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
 
     private AuditLog auditLog;
     private String   governanceEngineName;
+    private int      watchdogQueueSize;
+
 
     /**
      * Create a governance listener manager for watchdog listeners.
      *
      * @param auditLog audit log for the listener manager
+     * @param governanceEngineName name of the governance engine that the watchdog governance action services belong to
      */
     public GovernanceListenerManager(AuditLog auditLog,
                                      String   governanceEngineName)
+    {
+        this(auditLog, governanceEngineName, DEFAULT_WATCHDOG_QUEUE_SIZE);
+    }
+
+
+    /**
+     * Create a governance listener manager for watchdog listeners with a specific queue size for each listener.
+     *
+     * @param auditLog audit log for the listener manager
+     * @param governanceEngineName name of the governance engine that the watchdog governance action services belong to
+     * @param watchdogQueueSize number of events that can wait for each listener before events are dropped
+     */
+    public GovernanceListenerManager(AuditLog auditLog,
+                                     String   governanceEngineName,
+                                     int      watchdogQueueSize)
     {
         this.auditLog = auditLog;
         this.governanceEngineName = governanceEngineName;
+        this.watchdogQueueSize = Math.max(1, watchdogQueueSize);
     }
 
 
     /**
-     * Process a watchdog event that was published by the Governance Engine OMAS.
+     * Process a watchdog event that was published by the Governance Engine OMAS.  The event is added to the queue
+     * of each interested listener and this method returns without waiting for the listeners to process it.
      *
      * @param event event object - call getEventType to find out what type of event.
      * @throws InvalidParameterException the event is incomplete
      */
-    public synchronized void processEvent(WatchdogGovernanceEvent event) throws InvalidParameterException
+    public void processEvent(WatchdogGovernanceEvent event) throws InvalidParameterException
     {
-        if ((listenerMap != null) && (event != null))
+        final String methodName             = "processEvent";
+        final String eventParameterName     = "event";
+        final String eventTypeParameterName = "eventType";
+
+        ListenerIndex currentIndex = listenerIndex;
+
+        if ((event == null) || (currentIndex.isEmpty()))
         {
-            for (String connectorId : listenerMap.keySet())
-            {
-                if (connectorId != null)
-                {
-                    WatchdogListener watchdogListener = listenerMap.get(connectorId);
+            return;
+        }
 
-                    if (watchdogListener != null)
-                    {
-                        watchdogListener.processWatchdogEvent(event);
-                    }
-                }
-            }
+        invalidParameterHandler.validateObject(event, eventParameterName, methodName);
+        invalidParameterHandler.validateEnum(event.getEventType(), eventTypeParameterName, methodName);
+
+        String       elementGUID;
+        String       elementTypeName;
+        List<String> elementSuperTypeNames;
+
+        if (event instanceof WatchdogClassificationEvent)
+        {
+            final String elementParameterName        = "watchdogClassificationEvent.getMetadataElement()";
+            final String classificationParameterName = "watchdogClassificationEvent.getChangedClassification()";
+            final String elementGUIDParameterName    = "watchdogClassificationEvent.getMetadataElement().getElementGUID()";
+            final String typeNameParameterName       = "watchdogClassificationEvent.getChangedClassification().getClassificationName()";
+
+            WatchdogClassificationEvent watchdogClassificationEvent = (WatchdogClassificationEvent)event;
+
+            invalidParameterHandler.validateObject(watchdogClassificationEvent.getMetadataElement(), elementParameterName, methodName);
+            invalidParameterHandler.validateObject(watchdogClassificationEvent.getChangedClassification(), classificationParameterName, methodName);
+            invalidParameterHandler.validateGUID(watchdogClassificationEvent.getMetadataElement().getElementGUID(), elementGUIDParameterName, methodName);
+            invalidParameterHandler.validateName(watchdogClassificationEvent.getChangedClassification().getClassificationName(), typeNameParameterName, methodName);
+
+            elementGUID           = watchdogClassificationEvent.getMetadataElement().getElementGUID();
+            elementTypeName       = watchdogClassificationEvent.getChangedClassification().getClassificationName();
+            elementSuperTypeNames = null;
+        }
+        else if (event instanceof WatchdogMetadataElementEvent)
+        {
+            final String elementParameterName     = "watchdogMetadataElementEvent.getMetadataElement()";
+            final String elementTypeParameterName = "watchdogMetadataElementEvent.getElementType()";
+            final String elementGUIDParameterName = "watchdogMetadataElementEvent.getMetadataElement().getElementGUID()";
+            final String typeNameParameterName    = "watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName()";
+
+            WatchdogMetadataElementEvent watchdogMetadataElementEvent = (WatchdogMetadataElementEvent)event;
+
+            invalidParameterHandler.validateObject(watchdogMetadataElementEvent.getMetadataElement(), elementParameterName, methodName);
+            invalidParameterHandler.validateObject(watchdogMetadataElementEvent.getMetadataElement().getElementType(), elementTypeParameterName, methodName);
+            invalidParameterHandler.validateGUID(watchdogMetadataElementEvent.getMetadataElement().getElementGUID(), elementGUIDParameterName, methodName);
+            invalidParameterHandler.validateName(watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName(), typeNameParameterName, methodName);
+
+            elementGUID           = watchdogMetadataElementEvent.getMetadataElement().getElementGUID();
+            elementTypeName       = watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName();
+            elementSuperTypeNames = watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementSuperTypeNames();
+        }
+        else if (event instanceof WatchdogRelatedElementsEvent)
+        {
+            final String relationshipParameterName     = "watchdogRelatedElementsEvent.getRelatedMetadataElements()";
+            final String relationshipTypeParameterName = "watchdogRelatedElementsEvent.getRelatedMetadataElements().getRelationshipType()";
+
+            WatchdogRelatedElementsEvent relatedElementsEvent = (WatchdogRelatedElementsEvent)event;
+
+            invalidParameterHandler.validateObject(relatedElementsEvent.getRelatedMetadataElements(), relationshipParameterName, methodName);
+            invalidParameterHandler.validateObject(relatedElementsEvent.getRelatedMetadataElements().getRelationshipType(), relationshipTypeParameterName, methodName);
+
+            elementGUID           = relatedElementsEvent.getRelatedMetadataElements().getRelationshipGUID();
+            elementTypeName       = relatedElementsEvent.getRelatedMetadataElements().getRelationshipType().getElementTypeName();
+            elementSuperTypeNames = relatedElementsEvent.getRelatedMetadataElements().getRelationshipType().getElementSuperTypeNames();
+        }
+        else
+        {
+            return;
+        }
+
+        for (WatchdogListener watchdogListener : currentIndex.getMatchingListeners(event.getEventType(),
+                                                                                     elementGUID,
+                                                                                     elementTypeName,
+                                                                                     elementSuperTypeNames))
+        {
+            watchdogListener.queueEvent(event);
         }
     }
 
@@ -98,127 +207,87 @@ public class GovernanceListenerManager
 
         if (watchdogListener == null)
         {
-            watchdogListener = new WatchdogListener();
+            watchdogListener = new WatchdogListener(connectorId);
+            listenerMap.put(connectorId, watchdogListener);
         }
 
         watchdogListener.setListenerSpec(listener, interestingEventTypes, interestingMetadataTypes, specificInstance);
 
-        listenerMap.put(connectorId, watchdogListener);
+        listenerIndex = new ListenerIndex(listenerMap.values());
     }
 
 
     /**
      * Remove the listener for a specific governance service because this service has been disconnected.
+     * Events still queued for the listener are discarded.
      *
      * @param connectorId unique id of governance service instance
      */
     public synchronized void removeListener(String connectorId)
     {
-        listenerMap.remove(connectorId);
+        WatchdogListener watchdogListener = listenerMap.remove(connectorId);
+
+        if (watchdogListener != null)
+        {
+            watchdogListener.stop();
+            listenerIndex = new ListenerIndex(listenerMap.values());
+        }
     }
 
 
     /**
-     * Inner class to manage a specific listener
+     * Stop the worker threads of all of the listeners because the governance engine is shutting down.
      */
-    private class WatchdogListener
+    public synchronized void shutdown()
     {
-        private WatchdogGovernanceListener listener                 = null;
-        private List<WatchdogEventType>    interestingEventTypes    = null;
-        private List<String>               interestingMetadataTypes = null;
-        private String                     specificInstance         = null;
-
-        WatchdogListener()
+        for (WatchdogListener watchdogListener : listenerMap.values())
         {
+            watchdogListener.stop();
         }
 
+        listenerMap.clear();
+        listenerIndex = new ListenerIndex(listenerMap.values());
+    }
 
-        void setListenerSpec(WatchdogGovernanceListener listener,
-                             List<WatchdogEventType>    interestingEventTypes,
-                             List<String>               interestingMetadataType,
-                             String                     specificInstance)
-        {
-            this.listener = listener;
-            this.interestingEventTypes = interestingEventTypes;
-            this.interestingMetadataTypes = interestingMetadataType;
-            this.specificInstance = specificInstance;
-        }
+
+    /**
+     * ListenerIndex is an immutable index of the listeners by the event types, metadata types and specific
+     * instances they are interested in.  A new index is built each time a listener is registered or removed
+     * so events can be routed without locking.
+     */
+    private static class ListenerIndex
+    {
+        private final Map<WatchdogEventType, EventTypeIndex> eventTypeIndexes = new EnumMap<>(WatchdogEventType.class);
 
 
         /**
-         * Process a the watchdog event that was published by the Governance Engine OMAS for a specific listener.
+         * Build the index from the current listeners.
          *
-         * @param event event object - call getEventType to find out what type of event.
-         * @throws InvalidParameterException the event is incomplete
+         * @param watchdogListeners registered listeners
          */
-        void processWatchdogEvent(WatchdogGovernanceEvent event) throws InvalidParameterException
+        ListenerIndex(Collection<WatchdogListener> watchdogListeners)
         {
-            final String methodName             = "WatchdogListener.processWatchdogEvent";
-            final String eventParameterName     = "event";
-            final String eventTypeParameterName = "eventType";
-
-            invalidParameterHandler.validateObject(event, eventParameterName, methodName);
-            invalidParameterHandler.validateEnum(event.getEventType(), eventTypeParameterName, methodName);
-
-            if (listener != null)
+            for (WatchdogListener watchdogListener : watchdogListeners)
             {
-                if ((interestingEventTypes == null) || (interestingEventTypes.contains(event.getEventType())))
+                if (watchdogListener.hasListener())
                 {
-                    /*
-                     * The event type is of interest, cast the event to its specific type and call the registered listener if
-                     * the event is interesting.
-                     */
-                    if (event instanceof WatchdogClassificationEvent)
-                    {
-                        final String elementParameterName = "watchdogClassificationEvent.getMetadataElement()";
-                        final String classificationParameterName = "watchdogClassificationEvent.getChangedClassification()";
-                        final String elementGUIDParameterName = "watchdogClassificationEvent.getMetadataElement().getElementGUID()";
-                        final String typeNameParameterName    = "watchdogClassificationEvent.getChangedClassification().getClassificationName()";
+                    List<WatchdogEventType> eventTypes = watchdogListener.getInterestingEventTypes();
 
-                        WatchdogClassificationEvent watchdogClassificationEvent = (WatchdogClassificationEvent)event;
-
-                        invalidParameterHandler.validateObject(watchdogClassificationEvent.getMetadataElement(), elementParameterName, methodName);
-                        invalidParameterHandler.validateObject(watchdogClassificationEvent.getChangedClassification(), classificationParameterName, methodName);
-                        invalidParameterHandler.validateGUID(watchdogClassificationEvent.getMetadataElement().getElementGUID(), elementGUIDParameterName, methodName);
-                        invalidParameterHandler.validateName(watchdogClassificationEvent.getChangedClassification().getClassificationName(), typeNameParameterName, methodName);
-
-                        if (this.elementIsInteresting(watchdogClassificationEvent.getMetadataElement().getElementGUID(),
-                                                      watchdogClassificationEvent.getChangedClassification().getClassificationName(),
-                                                      null))
-                        {
-                            this.callListener(event);
-                        }
-                    }
-                    else if (event instanceof WatchdogMetadataElementEvent)
+                    if (eventTypes == null)
                     {
-                        final String elementParameterName     = "watchdogMetadataElementEvent.getMetadataElement()";
-                        final String elementTypeParameterName = "watchdogMetadataElementEvent.getElementType()";
-                        final String elementGUIDParameterName = "watchdogMetadataElementEvent.getMetadataElement().getElementGUID()";
-                        final String typeNameParameterName    = "watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName()";
-
-                        WatchdogMetadataElementEvent watchdogMetadataElementEvent = (WatchdogMetadataElementEvent)event;
-
-                        invalidParameterHandler.validateObject(watchdogMetadataElementEvent.getMetadataElement(), elementParameterName, methodName);
-                        invalidParameterHandler.validateObject(watchdogMetadataElementEvent.getMetadataElement().getElementType(), elementTypeParameterName, methodName);
-                        invalidParameterHandler.validateGUID(watchdogMetadataElementEvent.getMetadataElement().getElementGUID(), elementGUIDParameterName, methodName);
-                        invalidParameterHandler.validateName(watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName(), typeNameParameterName, methodName);
-
-                        if (this.elementIsInteresting(watchdogMetadataElementEvent.getMetadataElement().getElementGUID(),
-                                                      watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName(),
-                                                      watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementSuperTypeNames()))
+                        for (WatchdogEventType eventType : WatchdogEventType.values())
                         {
-                            this.callListener(event);
+                            eventTypeIndexes.computeIfAbsent(eventType, key -> new EventTypeIndex()).add(watchdogListener);
                         }
                     }
-                    else if (event instanceof WatchdogRelatedElementsEvent)
+                    else
                     {
-                        WatchdogRelatedElementsEvent relatedElementsEvent = (WatchdogRelatedElementsEvent)event;
-
-                        if (this.elementIsInteresting(relatedElementsEvent.getRelatedMetadataElements().getRelationshipGUID(),
-                                                      relatedElementsEvent.getRelatedMetadataElements().getRelationshipType().getElementTypeName(),
-                                                      relatedElementsEvent.getRelatedMetadataElements().getRelationshipType().getElementSuperTypeNames()))
+                        for (WatchdogEventType eventType : eventTypes)
                         {
-                            this.callListener(event);
+                            if (eventType != null)
+                            {
+                                eventTypeIndexes.computeIfAbsent(eventType, key -> new EventTypeIndex()).add(watchdogListener);
+                            }
                         }
                     }
                 }
@@ -227,40 +296,251 @@ public class GovernanceListenerManager
 
 
         /**
-         * Determine if the element(s) passed in the event is interesting to this listener.
+         * Return whether there are any listeners to route events to.
          *
+         * @return boolean
+         */
+        boolean isEmpty()
+        {
+            return eventTypeIndexes.isEmpty();
+        }
+
+
+        /**
+         * Return the listeners interested in an event.  The event's type and each of its super types are looked up
+         * in the index so a listener interested in a super type receives events for all of its subtypes.
+         *
+         * @param eventType type of event
          * @param elementGUID unique identifier of principle metadata element
          * @param elementTypeName type name of event subject
          * @param elementSuperTypeNames super type names of event subject (or null)
-         * @return boolean flag
+         * @return matching listeners - each listener appears once
+         */
+        Set<WatchdogListener> getMatchingListeners(WatchdogEventType eventType,
+                                                   String            elementGUID,
+                                                   String            elementTypeName,
+                                                   List<String>      elementSuperTypeNames)
+        {
+            Set<WatchdogListener> matchingListeners = new LinkedHashSet<>();
+            EventTypeIndex        eventTypeIndex    = eventTypeIndexes.get(eventType);
+
+            if (eventTypeIndex != null)
+            {
+                matchingListeners.addAll(eventTypeIndex.anyMetadataTypeListeners);
+
+                addListeners(matchingListeners, eventTypeIndex.specificInstanceListeners, elementGUID);
+                addListeners(matchingListeners, eventTypeIndex.metadataTypeListeners, elementTypeName);
+
+                if (elementSuperTypeNames != null)
+                {
+                    for (String superTypeName : elementSuperTypeNames)
+                    {
+                        addListeners(matchingListeners, eventTypeIndex.metadataTypeListeners, superTypeName);
+                    }
+                }
+            }
+
+            return matchingListeners;
+        }
+
+
+        /**
+         * Add the listeners indexed under a key to the matching listeners.
+         *
+         * @param matchingListeners listeners matched so far
+         * @param listenerLookup index to look in
+         * @param key key to look up
+         */
+        private void addListeners(Set<WatchdogListener>               matchingListeners,
+                                  Map<String, List<WatchdogListener>> listenerLookup,
+                                  String                              key)
+        {
+            if (key != null)
+            {
+                List<WatchdogListener> listeners = listenerLookup.get(key);
+
+                if (listeners != null)
+                {
+                    matchingListeners.addAll(listeners);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * EventTypeIndex holds the listeners interested in a single event type.
+     */
+    private static class EventTypeIndex
+    {
+        private final List<WatchdogListener>              anyMetadataTypeListeners  = new ArrayList<>();
+        private final Map<String, List<WatchdogListener>> metadataTypeListeners     = new HashMap<>();
+        private final Map<String, List<WatchdogListener>> specificInstanceListeners = new HashMap<>();
+
+
+        /**
+         * Index a listener by its interesting metadata types and specific instance.
+         *
+         * @param watchdogListener listener to add
          */
-        private boolean elementIsInteresting(String       elementGUID,
-                                             String       elementTypeName,
-                                             List<String> elementSuperTypeNames)
+        void add(WatchdogListener watchdogListener)
         {
-            if ((specificInstance != null) && (specificInstance.equals(elementGUID)))
+            List<String> metadataTypes    = watchdogListener.getInterestingMetadataTypes();
+            String       specificInstance = watchdogListener.getSpecificInstance();
+
+            if (metadataTypes == null)
+            {
+                anyMetadataTypeListeners.add(watchdogListener);
+            }
+            else
+            {
+                for (String metadataType : metadataTypes)
+                {
+                    if (metadataType != null)
+                    {
+                        metadataTypeListeners.computeIfAbsent(metadataType, key -> new ArrayList<>()).add(watchdogListener);
+                    }
+                }
+            }
+
+            if (specificInstance != null)
             {
-                return true;
+                specificInstanceListeners.computeIfAbsent(specificInstance, key -> new ArrayList<>()).add(watchdogListener);
             }
-            else if ((interestingMetadataTypes == null) || (interestingMetadataTypes.contains(elementTypeName)))
+        }
+    }
+
+
+    /**
+     * Inner class to manage a specific listener.  The events for the listener are queued and passed to the listener
+     * on the listener's own worker thread.  If the queue is full, the event is dropped for this listener.
+     */
+    private class WatchdogListener implements Runnable
+    {
+        private volatile WatchdogGovernanceListener listener                 = null;
+        private volatile List<WatchdogEventType>    interestingEventTypes    = null;
+        private volatile List<String>               interestingMetadataTypes = null;
+        private volatile String                     specificInstance         = null;
+
+        private final BlockingQueue<WatchdogGovernanceEvent> eventQueue;
+        private final Thread                                 workerThread;
+        private final AtomicLong                             droppedEventCount = new AtomicLong(0);
+        private volatile boolean                             running           = true;
+        private volatile boolean                             queueFull         = false;
+
+
+        /**
+         * Create the listener and start its worker thread.
+         *
+         * @param connectorId unique identifier of the governance service instance - used to name the thread
+         */
+        WatchdogListener(String connectorId)
+        {
+            this.eventQueue   = new ArrayBlockingQueue<>(watchdogQueueSize);
+            this.workerThread = new Thread(this, "WatchdogListener:" + governanceEngineName + ":" + connectorId);
+            this.workerThread.setDaemon(true);
+            this.workerThread.start();
+        }
+
+
+        void setListenerSpec(WatchdogGovernanceListener listener,
+                             List<WatchdogEventType>    interestingEventTypes,
+                             List<String>               interestingMetadataType,
+                             String                     specificInstance)
+        {
+            this.listener = listener;
+            this.interestingEventTypes = (interestingEventTypes == null) ? null : new ArrayList<>(interestingEventTypes);
+            this.interestingMetadataTypes = (interestingMetadataType == null) ? null : new ArrayList<>(interestingMetadataType);
+            this.specificInstance = specificInstance;
+        }
+
+
+        boolean hasListener()
+        {
+            return listener != null;
+        }
+
+
+        List<WatchdogEventType> getInterestingEventTypes()
+        {
+            return interestingEventTypes;
+        }
+
+
+        List<String> getInterestingMetadataTypes()
+        {
+            return interestingMetadataTypes;
+        }
+
+
+        String getSpecificInstance()
+        {
+            return specificInstance;
+        }
+
+
+        /**
+         * Add an event to the listener's queue.  If the queue is full the event is dropped.  The first event dropped
+         * after the listener has caught up is logged.
+         *
+         * @param event event to pass to the listener
+         */
+        void queueEvent(WatchdogGovernanceEvent event)
+        {
+            final String actionDescription = "queue watchdog event for listener";
+
+            if (! eventQueue.offer(event))
             {
-                return true;
+                long droppedCount = droppedEventCount.incrementAndGet();
+
+                if (! queueFull)
+                {
+                    queueFull = true;
+
+                    auditLog.logMessage(actionDescription,
+                                        GovernanceActionAuditCode.WATCHDOG_EVENTS_DROPPED.getMessageDefinition(governanceEngineName,
+                                                                                                               Integer.toString(watchdogQueueSize),
+                                                                                                               Long.toString(droppedCount)));
+                }
             }
-            else if ((elementSuperTypeNames != null) && (! elementSuperTypeNames.isEmpty()))
+        }
+
+
+        /**
+         * Pass the queued events to the listener until the listener is stopped.
+         */
+        @Override
+        public void run()
+        {
+            while (running)
             {
-                for (String typeName : elementSuperTypeNames)
+                try
                 {
-                    if (typeName != null)
+                    WatchdogGovernanceEvent event = eventQueue.take();
+
+                    if (eventQueue.isEmpty())
                     {
-                        if (interestingMetadataTypes.contains(typeName))
-                        {
-                            return true;
-                        }
+                        queueFull = false;
                     }
+
+                    this.callListener(event);
+                }
+                catch (InterruptedException error)
+                {
+                    running = false;
                 }
             }
+        }
+
 
-            return false;
+        /**
+         * Stop the worker thread and discard any queued events.
+         */
+        void stop()
+        {
+            running = false;
+            workerThread.interrupt();
+            eventQueue.clear();
         }
 
 
@@ -271,9 +551,16 @@ public class GovernanceListenerManager
          */
         private void callListener(WatchdogGovernanceEvent event)
         {
+            WatchdogGovernanceListener currentListener = listener;
+
+            if (currentListener == null)
+            {
+                return;
+            }
+
             try
             {
-                listener.processEvent(event);
+                currentListener.processEvent(event);
             }
             catch (Exception error)
             {
@@ -13,6 +13,7 @@ import org.odpi.openmetadata.frameworks.governanceaction.properties.ActionTarget
 import org.odpi.openmetadata.frameworks.governanceaction.properties.RequestSourceElement;
 import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceEngineHandler;
 import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceServiceCache;
+import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceServiceExecutor;
 import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceServiceHandler;
 
 import java.util.*;
@@ -46,6 +47,7 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
      * @param governanceEngineClient REST client for calls made by the governance action services
      * @param auditLog logging destination
      * @param maxPageSize maximum number of results that can be returned in a single request
+     * @param engineServiceOptions options from the engine service configuration
      */
     public GovernanceActionEngineHandler(EngineConfig                        engineConfig,
                                          String                              localServerName,
@@ -56,7 +58,8 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
                                          GovernanceEngineClient              serverClient,
                                          GovernanceEngineClient              governanceEngineClient,
                                          AuditLog                            auditLog,
-                                         int                                 maxPageSize)
+                                         int                                 maxPageSize,
+                                         Map<String, Object>                 engineServiceOptions)
     {
         super(engineConfig,
               localServerName,
@@ -65,13 +68,49 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
               configurationClient,
               serverClient,
               auditLog,
-              maxPageSize);
+              maxPageSize,
+              engineServiceOptions);
 
         this.governanceEngineClient = governanceEngineClient;
         this.partnerServerName = partnerServerName;
         this.partnerURLRoot = partnerURLRoot;
 
-        this.governanceListenerManager = new GovernanceListenerManager(auditLog, engineConfig.getEngineQualifiedName());
+        this.governanceListenerManager = new GovernanceListenerManager(auditLog,
+                                                                       engineConfig.getEngineQualifiedName(),
+                                                                       this.getWatchdogQueueSize(engineServiceOptions));
+    }
+
+
+    /**
+     * Return the number of events that can wait for each watchdog governance action service.
+     *
+     * @param engineServiceOptions options from the engine service configuration
+     * @return queue size
+     */
+    private int getWatchdogQueueSize(Map<String, Object> engineServiceOptions)
+    {
+        if (engineServiceOptions != null)
+        {
+            Object watchdogQueueSize = engineServiceOptions.get(GovernanceListenerManager.WATCHDOG_QUEUE_SIZE_OPTION);
+
+            if (watchdogQueueSize instanceof Number)
+            {
+                return ((Number)watchdogQueueSize).intValue();
+            }
+            else if (watchdogQueueSize != null)
+            {
+                try
+                {
+                    return Integer.parseInt(watchdogQueueSize.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    return GovernanceListenerManager.DEFAULT_WATCHDOG_QUEUE_SIZE;
+                }
+            }
+        }
+
+        return GovernanceListenerManager.DEFAULT_WATCHDOG_QUEUE_SIZE;
     }
 
 
@@ -140,12 +179,25 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
                                                                                                                governanceListenerManager,
                                                                                                                auditLog);
 
-            Thread thread = new Thread(governanceActionServiceHandler, governanceServiceCache.getGovernanceServiceName() + governanceActionGUID + new Date().toString());
-            thread.start();
+            super.startGovernanceService(governanceActionServiceHandler,
+                                         governanceServiceCache.getGovernanceServiceName() + governanceActionGUID + new Date().toString(),
+                                         GovernanceServiceExecutor.GOVERNANCE_ACTION_PRIORITY);
 
             return governanceActionServiceHandler;
         }
 
         return null;
     }
+
+
+    /**
+     * Stop the watchdog listeners and shut down the governance engine.
+     */
+    @Override
+    public void terminate()
+    {
+        governanceListenerManager.shutdown();
+
+        super.terminate();
+    }
 }
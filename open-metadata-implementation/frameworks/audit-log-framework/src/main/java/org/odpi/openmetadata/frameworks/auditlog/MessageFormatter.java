@@ -8,6 +8,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.text.MessageFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * MessageFormatter is the superclass of audit log implementations.  It provides the ability to format a message.
@@ -16,6 +18,14 @@ public class MessageFormatter
 {
     private static final Logger log = LoggerFactory.getLogger(MessageFormatter.class);
 
+    /*
+     * Message templates come from a fixed set of message definitions, so the compiled form of each template is
+     * kept rather than parsing it again for every message.  The limit protects against callers that build
+     * their templates dynamically.
+     */
+    private static final int                        maxCachedTemplates = 5000;
+    private static final Map<String, MessageFormat> compiledTemplates  = new ConcurrentHashMap<>();
+
 
     /**
      * Default Constructor
@@ -35,9 +45,10 @@ public class MessageFormatter
     private String formatMessage(String     messageTemplate,
                                  String[]   messageParameters)
     {
-        MessageFormat mf        = new MessageFormat(messageTemplate);
+        MessageFormat mf        = getCompiledTemplate(messageTemplate);
         String formattedMessage = messageTemplate;
         int    parameterCount   = 0;
+        int    placeholderCount = mf.getFormats().length;
 
         if (messageParameters != null)
         {
@@ -45,11 +56,11 @@ public class MessageFormatter
             formattedMessage = mf.format(messageParameters);
         }
 
-        if (mf.getFormats().length > parameterCount)
+        if (placeholderCount > parameterCount)
         {
             log.error("Missing parameter for message {}", messageTemplate);
         }
-        else if (mf.getFormats().length < parameterCount)
+        else if (placeholderCount < parameterCount)
         {
             log.error("Too many parameters for message {}", messageTemplate);
         }
@@ -60,6 +71,31 @@ public class MessageFormatter
     }
 
 
+    /**
+     * Return a message format for the template.  MessageFormat is not thread-safe, so each caller receives
+     * a copy of the cached compiled template.  Copying is much cheaper than parsing the template.
+     *
+     * @param messageTemplate message with placeholders
+     * @return message format ready for use by the calling thread
+     */
+    private MessageFormat getCompiledTemplate(String messageTemplate)
+    {
+        MessageFormat compiledTemplate = compiledTemplates.get(messageTemplate);
+
+        if (compiledTemplate == null)
+        {
+            compiledTemplate = new MessageFormat(messageTemplate);
+
+            if (compiledTemplates.size() < maxCachedTemplates)
+            {
+                compiledTemplates.putIfAbsent(messageTemplate, compiledTemplate);
+            }
+        }
+
+        return (MessageFormat)compiledTemplate.clone();
+    }
+
+
     /**
      * Create a formatted message from a message definition instance.  This instance
      * contains the unique message identifier, the default message template and the
@@ -15,17 +15,31 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.VirtualConnection;
 
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * The ConnectorBroker is a generic factory for Open Connector Framework (OCF) Connectors.
  * The OCF provides a default implementation because all of the implementation that is specific to a
  * particular type of connector is delegated to the connector provider specified in the connection.
+ * <p>
+ * The classes of the connector providers (and connectors) are cached once they are loaded, so only the first
+ * request for a type of connector pays the cost of locating the class.
+ * </p>
+ * <p>
+ * Each broker counts the connectors it creates, how long they take to create and how often the class of the
+ * requested connector provider was already cached.  These counters are returned by getStatistics().
+ * </p>
  */
 public class ConnectorBroker
 {
     private static final Logger log      = LoggerFactory.getLogger(ConnectorBroker.class);
     private final        int    hashCode = UUID.randomUUID().hashCode();
 
+    private final LongAdder connectorsCreated  = new LongAdder();
+    private final LongAdder totalCreationNanos = new LongAdder();
+    private final LongAdder classCacheHits     = new LongAdder();
+    private final LongAdder classCacheMisses   = new LongAdder();
+
 
     private AuditLog auditLog = null;
 
@@ -50,6 +64,20 @@ public class ConnectorBroker
     }
 
 
+    /**
+     * Return the counters for the connectors created through this connector broker.
+     *
+     * @return snapshot of the counters
+     */
+    public ConnectorBrokerStatistics getStatistics()
+    {
+        return new ConnectorBrokerStatistics(connectorsCreated.sum(),
+                                             totalCreationNanos.sum(),
+                                             classCacheHits.sum(),
+                                             classCacheMisses.sum());
+    }
+
+
     /**
      * Validate that the connection (or the embedded connections if this is a virtual connection)
      * are not null.
@@ -155,8 +183,9 @@ public class ConnectorBroker
 
         try
         {
-            Class<?>   connectorProviderClass = Class.forName(connectorProviderClassName);
-            Object     potentialConnectorProvider = connectorProviderClass.getDeclaredConstructor().newInstance();
+            Object     potentialConnectorProvider = ConnectorClassCache.newInstance(connectorProviderClassName,
+                                                                                    classCacheHits,
+                                                                                    classCacheMisses);
 
             connectorProvider = (ConnectorProvider)potentialConnectorProvider;
         }
@@ -331,7 +360,7 @@ public class ConnectorBroker
 
         log.debug("==> ConnectorBroker." + methodName);
 
-        this.validateConnection(connection);
+        validateConnectionNotNull(connection, methodName);
         connectionName = connection.getConnectionName();
 
 
@@ -347,6 +376,7 @@ public class ConnectorBroker
          * connector provider.  This is the specialized factory for the connector.
          * Then create an instance of this class.
          */
+        long              startTime         = System.nanoTime();
         ConnectorProvider connectorProvider = this.getConnectorProvider(requestedConnectorType,
                                                                         connectionName,
                                                                         methodName);
@@ -409,6 +439,9 @@ public class ConnectorBroker
                                           methodName);
         }
 
+        connectorsCreated.increment();
+        totalCreationNanos.add(System.nanoTime() - startTime);
+
 
         /*
          * If a virtual connection was passed to the connector broker then (1) the connector provider
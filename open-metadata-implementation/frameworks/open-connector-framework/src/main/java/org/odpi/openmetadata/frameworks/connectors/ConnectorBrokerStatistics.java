@@ -0,0 +1,189 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * ConnectorBrokerStatistics is a snapshot of the counters maintained by a ConnectorBroker for the connectors
+ * it has created.  It shows how many connectors have been created and how long the connector providers took
+ * to create them, and how often the class of the requested connector provider was found in the class cache.
+ */
+public class ConnectorBrokerStatistics implements Serializable
+{
+    private static final long     serialVersionUID = 1L;
+
+    private final long connectorsCreated;
+    private final long totalCreationNanos;
+    private final long classCacheHits;
+    private final long classCacheMisses;
+
+
+    /**
+     * Constructor used by the ConnectorBroker.
+     *
+     * @param connectorsCreated number of connectors created by connector providers
+     * @param totalCreationNanos total time spent creating these connectors in nanoseconds
+     * @param classCacheHits number of connector provider classes found in the class cache
+     * @param classCacheMisses number of connector provider classes that needed to be loaded
+     */
+    ConnectorBrokerStatistics(long connectorsCreated,
+                              long totalCreationNanos,
+                              long classCacheHits,
+                              long classCacheMisses)
+    {
+        this.connectorsCreated  = connectorsCreated;
+        this.totalCreationNanos = totalCreationNanos;
+        this.classCacheHits     = classCacheHits;
+        this.classCacheMisses   = classCacheMisses;
+    }
+
+
+    /**
+     * Return the number of connectors (including embedded connectors) created by connector providers.
+     *
+     * @return count
+     */
+    public long getConnectorsCreated()
+    {
+        return connectorsCreated;
+    }
+
+
+    /**
+     * Return the total time that the connector providers took to create the connectors.
+     *
+     * @return nanoseconds
+     */
+    public long getTotalCreationNanos()
+    {
+        return totalCreationNanos;
+    }
+
+
+    /**
+     * Return the average time that a connector provider takes to create a connector.
+     *
+     * @return nanoseconds
+     */
+    public long getAverageCreationNanos()
+    {
+        if (connectorsCreated == 0)
+        {
+            return 0;
+        }
+
+        return totalCreationNanos / connectorsCreated;
+    }
+
+
+    /**
+     * Return the number of times that the class of a connector provider requested through the broker
+     * was found in the class cache.
+     *
+     * @return count
+     */
+    public long getClassCacheHits()
+    {
+        return classCacheHits;
+    }
+
+
+    /**
+     * Return the number of times that the class of a connector provider requested through the broker
+     * needed to be loaded.
+     *
+     * @return count
+     */
+    public long getClassCacheMisses()
+    {
+        return classCacheMisses;
+    }
+
+
+    /**
+     * Return the proportion of class lookups that were satisfied from the class cache.
+     *
+     * @return value between 0 and 1
+     */
+    public double getClassCacheHitRate()
+    {
+        return getRate(classCacheHits, classCacheMisses);
+    }
+
+
+    /**
+     * Calculate a hit rate.
+     *
+     * @param hits number of hits
+     * @param misses number of misses
+     * @return value between 0 and 1
+     */
+    private double getRate(long hits,
+                           long misses)
+    {
+        if (hits + misses == 0)
+        {
+            return 0;
+        }
+
+        return (double)hits / (double)(hits + misses);
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "ConnectorBrokerStatistics{" +
+                "connectorsCreated=" + connectorsCreated +
+                ", totalCreationNanos=" + totalCreationNanos +
+                ", averageCreationNanos=" + getAverageCreationNanos() +
+                ", classCacheHits=" + classCacheHits +
+                ", classCacheMisses=" + classCacheMisses +
+                ", classCacheHitRate=" + getClassCacheHitRate() +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        ConnectorBrokerStatistics that = (ConnectorBrokerStatistics) objectToCompare;
+        return connectorsCreated == that.connectorsCreated &&
+                       totalCreationNanos == that.totalCreationNanos &&
+                       classCacheHits == that.classCacheHits &&
+                       classCacheMisses == that.classCacheMisses;
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(connectorsCreated, totalCreationNanos, classCacheHits, classCacheMisses);
+    }
+}
@@ -0,0 +1,79 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ConnectorClassCache remembers the default constructors of the connector provider and connector classes that
+ * have been loaded by the ConnectorBroker and ConnectorProviderBase.  This avoids looking up the class by name
+ * and searching for its constructor each time a connector is requested.  Only classes that were successfully
+ * loaded are cached so a class that is not found is reported on every request, exactly as before.
+ * The classes are always loaded with the class loader of the open connector framework, so the class name
+ * is sufficient to identify the class.
+ */
+class ConnectorClassCache
+{
+    private static final Map<String, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
+
+    /**
+     * Private constructor since all of the methods are static.
+     */
+    private ConnectorClassCache()
+    {
+    }
+
+
+    /**
+     * Create a new instance of the named class using its default constructor.  The exceptions are the same
+     * as those from Class.forName() and Constructor.newInstance() so the callers are able to report
+     * the cause of any failure.
+     *
+     * @param className fully qualified name of the class
+     * @return new instance of the class
+     * @throws ReflectiveOperationException the class is not known or can not be instantiated
+     */
+    static Object newInstance(String className) throws ReflectiveOperationException
+    {
+        return newInstance(className, null, null);
+    }
+
+
+    /**
+     * Create a new instance of the named class using its default constructor and count whether the class
+     * was already cached.
+     *
+     * @param className fully qualified name of the class
+     * @param cacheHits counter to increment if the class was cached (may be null)
+     * @param cacheMisses counter to increment if the class needed to be loaded (may be null)
+     * @return new instance of the class
+     * @throws ReflectiveOperationException the class is not known or can not be instantiated
+     */
+    static Object newInstance(String    className,
+                              LongAdder cacheHits,
+                              LongAdder cacheMisses) throws ReflectiveOperationException
+    {
+        Constructor<?> constructor = constructors.get(className);
+
+        if (constructor == null)
+        {
+            if (cacheMisses != null)
+            {
+                cacheMisses.increment();
+            }
+
+            constructor = Class.forName(className).getDeclaredConstructor();
+            constructors.put(className, constructor);
+        }
+        else if (cacheHits != null)
+        {
+            cacheHits.increment();
+        }
+
+        return constructor.newInstance();
+    }
+}
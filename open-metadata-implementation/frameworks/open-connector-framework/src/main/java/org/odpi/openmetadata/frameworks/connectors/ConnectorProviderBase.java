@@ -237,8 +237,7 @@ public abstract class ConnectorProviderBase extends ConnectorProvider implements
          */
         try
         {
-            Class<?>   connectorClass = Class.forName(connectorClassName);
-            Object     potentialConnector = connectorClass.getDeclaredConstructor().newInstance();
+            Object     potentialConnector = ConnectorClassCache.newInstance(connectorClassName);
 
             connector = (Connector)potentialConnector;
             connector.initialize(guid, connection);
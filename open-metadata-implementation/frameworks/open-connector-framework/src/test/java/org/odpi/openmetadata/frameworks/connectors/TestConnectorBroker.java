@@ -9,6 +9,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -559,6 +560,68 @@ public class TestConnectorBroker
         }
     }
 
+    /**
+     * Return a connection for the mock connector.
+     *
+     * @param qualifiedName unique name of the connection
+     * @return connection
+     */
+    private Connection getMockConnection(String qualifiedName)
+    {
+        ConnectorType testConnType = new ConnectorType();
+
+        testConnType.setQualifiedName("Test.ConnectorType");
+        testConnType.setDisplayName("TestCT");
+        testConnType.setConnectorProviderClassName(MockConnectorProvider.class.getName());
+
+        Connection      testConnection = new Connection();
+
+        testConnection.setQualifiedName(qualifiedName);
+        testConnection.setDisplayName("Test");
+        testConnection.setConnectorType(testConnType);
+
+        return testConnection;
+    }
+
+
+    /**
+     * Validate that the class of the connector provider is loaded once and that each broker counts
+     * only the connectors that it creates.
+     */
+    @Test public void testClassCache() throws Exception
+    {
+        ConnectorBroker cb = new ConnectorBroker();
+
+        cb.getConnector(getMockConnection("Test.Connection"));
+
+        ConnectorBrokerStatistics before = cb.getStatistics();
+
+        assertEquals(before.getConnectorsCreated(), 1);
+        assertEquals(before.getClassCacheHits() + before.getClassCacheMisses(), 1);
+
+        cb.getConnector(getMockConnection("Test.Connection"));
+
+        ConnectorBrokerStatistics after = cb.getStatistics();
+
+        assertEquals(after.getClassCacheMisses(), before.getClassCacheMisses());
+        assertEquals(after.getClassCacheHits() - before.getClassCacheHits(), 1);
+        assertEquals(after.getConnectorsCreated(), 2);
+        assertTrue(after.getTotalCreationNanos() >= before.getTotalCreationNanos());
+        assertTrue(after.getClassCacheHitRate() > 0);
+
+        ConnectorBroker otherBroker = new ConnectorBroker();
+
+        otherBroker.getConnector(getMockConnection("Test.Connection"));
+
+        ConnectorBrokerStatistics other = otherBroker.getStatistics();
+
+        assertEquals(other.getConnectorsCreated(), 1);
+        assertEquals(other.getClassCacheHits(), 1);
+        assertEquals(other.getClassCacheMisses(), 0);
+        assertEquals(cb.getStatistics(), after);
+    }
+
+
     /**
      *  Validate that 2 different objects with the same content have the same hash code.
      */
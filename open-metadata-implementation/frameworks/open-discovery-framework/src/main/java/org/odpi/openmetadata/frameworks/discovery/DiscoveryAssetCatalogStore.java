@@ -6,6 +6,8 @@ package org.odpi.openmetadata.frameworks.discovery;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.AssetUniverse;
+import org.odpi.openmetadata.frameworks.discovery.ffdc.ODFErrorCode;
 
 import java.util.List;
 
@@ -133,4 +135,30 @@ public abstract class DiscoveryAssetCatalogStore
                                                      int      pageSize) throws InvalidParameterException,
                                                                                UserNotAuthorizedException,
                                                                                PropertyServerException;
+
+
+    /**
+     * Return the properties of an asset from the asset catalog.  This is used by discovery services that
+     * compare many assets in the catalog rather than just the asset they are analysing.  Implementations
+     * of the asset catalog store that were written before this method was added do not support it, so the
+     * default implementation throws PropertyServerException (ODF-DISCOVERY-SERVICE-501-001).
+     *
+     * @param assetGUID unique identifier of the asset
+     * @return a comprehensive collection of properties about the asset
+     * @throws InvalidParameterException the asset guid is not recognized
+     * @throws UserNotAuthorizedException the user is not authorized to access the asset
+     * @throws PropertyServerException there was a problem in the store whether the asset properties are kept,
+     *                                 or this asset catalog store does not support this method.
+     */
+    public AssetUniverse getAssetProperties(String   assetGUID) throws InvalidParameterException,
+                                                                       UserNotAuthorizedException,
+                                                                       PropertyServerException
+    {
+        final String methodName = "getAssetProperties";
+
+        throw new PropertyServerException(ODFErrorCode.ASSET_PROPERTIES_NOT_SUPPORTED.getMessageDefinition(this.getClass().getName(),
+                                                                                                           assetGUID),
+                                          this.getClass().getName(),
+                                          methodName);
+    }
 }
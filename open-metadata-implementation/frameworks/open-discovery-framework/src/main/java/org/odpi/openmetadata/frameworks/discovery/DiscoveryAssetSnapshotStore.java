@@ -0,0 +1,210 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.discovery;
+
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.*;
+import org.odpi.openmetadata.frameworks.connectors.properties.AssetUniverse;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DiscoveryAssetSnapshotStore is used by a discovery pipeline to share the asset properties between the discovery
+ * services it runs.  The asset properties and the connection for the asset are retrieved from the metadata store
+ * once and each discovery service receives its own copy of the asset properties.  Connectors are not thread-safe
+ * so each call to getConnectorToAsset() creates a new connector to the asset from the shared connection.
+ * The discovery pipeline disconnects these connectors when all of its discovery services have finished.
+ */
+public class DiscoveryAssetSnapshotStore extends DiscoveryAssetStore
+{
+    private DiscoveryAssetStore assetStore;
+    private AssetUniverse       assetSnapshot   = null;
+    private Connection          assetConnection = null;
+    private List<Connector>     assetConnectors = new ArrayList<>();
+
+
+    /**
+     * Constructor wraps the asset store supplied to the discovery pipeline.
+     *
+     * @param assetStore asset store for the discovery pipeline
+     */
+    public DiscoveryAssetSnapshotStore(DiscoveryAssetStore assetStore)
+    {
+        super(assetStore.assetGUID, assetStore.userId);
+
+        this.assetStore = assetStore;
+    }
+
+
+    /**
+     * Returns the connector corresponding to the supplied connection.
+     *
+     * @param connection   the connection object that contains the properties needed to create the connection.
+     *
+     * @return Connector   connector instance
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws ConnectionCheckedException there are errors in the configuration of the connection which is preventing
+     *                                      the creation of a connector.
+     * @throws ConnectorCheckedException there are errors in the initialization of the connector.
+     */
+    @Override
+    protected Connector getConnectorByConnection(Connection connection) throws InvalidParameterException,
+                                                                               ConnectionCheckedException,
+                                                                               ConnectorCheckedException
+    {
+        return assetStore.getConnectorByConnection(connection);
+    }
+
+
+    /**
+     * Return the connection information for the asset.
+     *
+     * @return Connection bean
+     * @throws InvalidParameterException the asset guid is not recognized
+     * @throws UserNotAuthorizedException the user is not authorized to access the asset and/or connection
+     * @throws PropertyServerException there was a problem in the store whether the asset/connection properties are kept.
+     */
+    @Override
+    protected Connection getConnectionForAsset() throws InvalidParameterException,
+                                                        UserNotAuthorizedException,
+                                                        PropertyServerException
+    {
+        return assetStore.getConnectionForAsset();
+    }
+
+
+    /**
+     * Returns a copy of the properties of the asset.  The properties are retrieved from the metadata store
+     * on the first call.
+     *
+     * @return a comprehensive collection of properties about the asset.
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property servers).
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    @Override
+    public synchronized AssetUniverse getAssetProperties() throws InvalidParameterException,
+                                                                  PropertyServerException,
+                                                                  UserNotAuthorizedException
+    {
+        if (assetSnapshot == null)
+        {
+            assetSnapshot = assetStore.getAssetProperties();
+
+            if (assetSnapshot == null)
+            {
+                return null;
+            }
+        }
+
+        return new AssetUniverse(assetSnapshot);
+    }
+
+
+    /**
+     * Log an audit message about this asset.
+     *
+     * @param discoveryService name of discovery service
+     * @param message message to log
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property servers).
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    @Override
+    public void logAssetAuditMessage(String discoveryService,
+                                     String message) throws InvalidParameterException,
+                                                            PropertyServerException,
+                                                            UserNotAuthorizedException
+    {
+        assetStore.logAssetAuditMessage(discoveryService, message);
+    }
+
+
+    /**
+     * Return a new connector to the asset.  The connection for the asset is retrieved on the first call and
+     * each call creates its own connector from it, so discovery services running at the same time do not
+     * share a connector.
+     *
+     * @return Open Connector Framework (OCF) connector
+     * @throws InvalidParameterException the asset guid is not recognized or the userId is null
+     * @throws ConnectionCheckedException there are errors in the configuration of the connection which is preventing
+     *                                      the creation of a connector.
+     * @throws ConnectorCheckedException there are errors in the initialization of the connector.
+     * @throws UserNotAuthorizedException the user is not authorized to access the asset and/or connection needed to
+     *                                    create the connector.
+     * @throws PropertyServerException there was a problem in the store whether the asset/connection properties are kept.
+     */
+    @Override
+    public Connector getConnectorToAsset() throws InvalidParameterException,
+                                                  ConnectionCheckedException,
+                                                  ConnectorCheckedException,
+                                                  UserNotAuthorizedException,
+                                                  PropertyServerException
+    {
+        Connection connection;
+
+        synchronized (this)
+        {
+            if (assetConnection == null)
+            {
+                assetConnection = assetStore.getConnectionForAsset();
+            }
+
+            connection = assetConnection;
+        }
+
+        Connector connector = assetStore.getConnectorByConnection(connection);
+
+        synchronized (this)
+        {
+            assetConnectors.add(connector);
+        }
+
+        return connector;
+    }
+
+
+    /**
+     * Disconnect the connectors to the asset that this store created and release the asset properties.
+     * All of the connectors are disconnected even if one of them fails.
+     *
+     * @throws ConnectorCheckedException there is a problem disconnecting a connector - the first problem is returned
+     */
+    public synchronized void disconnect() throws ConnectorCheckedException
+    {
+        ConnectorCheckedException firstError = null;
+
+        assetSnapshot   = null;
+        assetConnection = null;
+
+        for (Connector connector : assetConnectors)
+        {
+            try
+            {
+                if (connector != null)
+                {
+                    connector.disconnect();
+                }
+            }
+            catch (ConnectorCheckedException error)
+            {
+                if (firstError == null)
+                {
+                    firstError = error;
+                }
+            }
+        }
+
+        assetConnectors.clear();
+
+        if (firstError != null)
+        {
+            throw firstError;
+        }
+    }
+}
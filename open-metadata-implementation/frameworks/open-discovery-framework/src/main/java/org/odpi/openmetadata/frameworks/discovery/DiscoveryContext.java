@@ -73,6 +73,22 @@ public class DiscoveryContext
     }
 
 
+    /**
+     * Copy Constructor that replaces the asset store.  This is used by discovery pipelines that share
+     * a single asset store between their discovery services.
+     *
+     * @param template object being copied
+     * @param assetStore discovery asset store for the discovery services
+     */
+    public DiscoveryContext(DiscoveryContext    template,
+                            DiscoveryAssetStore assetStore)
+    {
+        this(template);
+
+        this.assetStore = assetStore;
+    }
+
+
     /**
      * Return the unique identifier of the asset being discovered.
      *
@@ -11,7 +11,9 @@ import org.odpi.openmetadata.frameworks.discovery.ffdc.DiscoveryServiceException
 import org.odpi.openmetadata.frameworks.discovery.ffdc.ODFErrorCode;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -24,6 +26,17 @@ import java.util.List;
  */
 public abstract class DiscoveryService extends ConnectorBase implements AuditLoggingComponent
 {
+    /**
+     * Configuration property listing the types of annotation that this discovery service produces.
+     */
+    public static final String PRODUCED_ANNOTATION_TYPES_PROPERTY = "producedAnnotationTypes";
+
+    /**
+     * Configuration property listing the types of annotation that this discovery service needs from the
+     * discovery services that run before it in a discovery pipeline.
+     */
+    public static final String REQUIRED_ANNOTATION_TYPES_PROPERTY = "requiredAnnotationTypes";
+
     protected String           discoveryServiceName = "<Unknown>";
     protected DiscoveryContext discoveryContext = null;
     protected AuditLog         auditLog = null;
@@ -65,6 +78,95 @@ public abstract class DiscoveryService extends ConnectorBase implements AuditLog
     }
 
 
+    /**
+     * Return the discovery service name.
+     *
+     * @return name of the discovery service
+     */
+    public String getDiscoveryServiceName()
+    {
+        return discoveryServiceName;
+    }
+
+
+    /**
+     * Return the types of annotation that this discovery service produces.  A discovery pipeline uses this to
+     * work out which discovery services depend on the results of others.  By default, the list comes from the
+     * producedAnnotationTypes configuration property.  A discovery service may override this method.
+     *
+     * @return list of annotation type names or null if not known
+     */
+    public List<String> getProducedAnnotationTypes()
+    {
+        return getConfiguredAnnotationTypes(PRODUCED_ANNOTATION_TYPES_PROPERTY);
+    }
+
+
+    /**
+     * Return the types of annotation that this discovery service needs from the discovery services that run before
+     * it in a discovery pipeline.  By default, the list comes from the requiredAnnotationTypes configuration
+     * property.  A discovery service may override this method.
+     *
+     * @return list of annotation type names or null if it does not depend on other discovery services
+     */
+    public List<String> getRequiredAnnotationTypes()
+    {
+        return getConfiguredAnnotationTypes(REQUIRED_ANNOTATION_TYPES_PROPERTY);
+    }
+
+
+    /**
+     * Return a list of annotation type names from the configuration properties of the connection.  The value
+     * may be a list or a comma separated string.
+     *
+     * @param propertyName name of the configuration property
+     * @return list of annotation type names or null
+     */
+    private List<String> getConfiguredAnnotationTypes(String propertyName)
+    {
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object propertyValue = configurationProperties.get(propertyName);
+
+                if (propertyValue instanceof Collection)
+                {
+                    List<String> annotationTypes = new ArrayList<>();
+
+                    for (Object annotationType : (Collection<?>)propertyValue)
+                    {
+                        if (annotationType != null)
+                        {
+                            annotationTypes.add(annotationType.toString().trim());
+                        }
+                    }
+
+                    return annotationTypes;
+                }
+                else if (propertyValue != null)
+                {
+                    List<String> annotationTypes = new ArrayList<>();
+
+                    for (String annotationType : propertyValue.toString().split(","))
+                    {
+                        if (! annotationType.trim().isEmpty())
+                        {
+                            annotationTypes.add(annotationType.trim());
+                        }
+                    }
+
+                    return annotationTypes;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the discovery context for this discovery service.  This is typically called after the disconnect()
      * method is called.  If called before disconnect(), it may only contain partial results.
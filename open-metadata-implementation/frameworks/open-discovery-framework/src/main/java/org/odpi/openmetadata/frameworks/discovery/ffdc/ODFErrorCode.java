@@ -60,7 +60,12 @@ public enum ODFErrorCode implements ExceptionMessageSet
     UNEXPECTED_EXCEPTION(500, "ODF-DISCOVERY-SERVICE-500-001 ",
             "Unexpected exception in discovery service {0} of type {1} detected by method {2}.  The error message was {3}",
             "The discovery service failed during its operation.",
-            "This may be a configuration or a code error.  Look for other error messages and review the code of the discovery service.  Once the cause is resolved, retry the discovery request.");
+            "This may be a configuration or a code error.  Look for other error messages and review the code of the discovery service.  Once the cause is resolved, retry the discovery request."),
+
+    ASSET_PROPERTIES_NOT_SUPPORTED(501, "ODF-DISCOVERY-SERVICE-501-001 ",
+            "The asset catalog store {0} is not able to return the properties of asset {1}",
+            "The discovery service is not able to retrieve the properties of assets from the asset catalog because this implementation of the asset catalog store does not support it.",
+            "Use an asset catalog store that implements getAssetProperties(assetGUID), or use a discovery service that does not need the properties of other assets.");
     ;
 
     private ExceptionMessageDefinition messageDefinition;
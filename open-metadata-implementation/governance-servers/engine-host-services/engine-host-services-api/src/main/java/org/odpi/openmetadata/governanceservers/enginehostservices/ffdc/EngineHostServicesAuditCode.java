@@ -256,9 +256,9 @@ public enum EngineHostServicesAuditCode implements AuditLogMessageSet
                                           OMRSAuditLogRecordSeverity.INFO,
                                           "All governance service configuration is being refreshed for governance engine {0}",
                                           "The engine host services will call the Governance Engine OMAS in the metadata server to " +
-                                                  "retrieve details of all of the governance services configured for this engine." +
-                                                  "During this process, some governance request may fail if the associated governance" +
-                                                  "service is only partially configured.",
+                                                  "retrieve details of all of the governance services configured for this engine.  " +
+                                                  "Governance services whose configuration has not changed are left in place, so governance " +
+                                                  "requests continue to run during this process.",
                                           "Monitor the engine host services to ensure all of the governance services are retrieved. " +
                                                   "Then it is ready to process new governance requests."),
 
@@ -298,6 +298,45 @@ public enum EngineHostServicesAuditCode implements AuditLogMessageSet
                                 "Review the error messages and resolve the cause of the problem.  Once resolved, it is possible to " +
                                         "retry the governance action by updating its status back to REQUESTED status."),
 
+    GOVERNANCE_SERVICE_EXECUTOR_STARTED("ENGINE-HOST-SERVICES-0033",
+                    OMRSAuditLogRecordSeverity.STARTUP,
+                    "The governance engine {0} in server {1} will run up to {2} governance services at a time on {3} threads",
+                    "Governance requests that arrive while this number of governance services are running wait in a queue.  " +
+                            "Requests made directly to the engine are run before governance actions and governance actions " +
+                            "are run before requests to process every asset.",
+                    "Set the maxConcurrentServices engine service option to change the number of governance services " +
+                            "that can run at the same time."),
+
+    QUEUED_SERVICES_NOT_STARTED("ENGINE-HOST-SERVICES-0034",
+                    OMRSAuditLogRecordSeverity.SHUTDOWN,
+                    "{0} governance requests queued for governance engine {1} in server {2} were not started before shutdown",
+                    "The governance actions among these requests have not been claimed by this server, so they remain approved " +
+                            "and can be run by a governance engine when one is available.",
+                    "Requests made directly to the governance engine need to be issued again once the server restarts."),
+
+    REQUEST_TYPE_REMOVED("ENGINE-HOST-SERVICES-0035",
+                    OMRSAuditLogRecordSeverity.INFO,
+                    "Governance engine {0} in engine host server {1} is no longer configured to process governance requests of type {2}",
+                    "The governance service registered for this governance request type has been removed from the governance engine's " +
+                            "configuration.  Governance services already running for this request type are allowed to finish.",
+                    "Verify that this governance request type should no longer be supported by the governance engine."),
+
+    STALE_CONFIGURATION_IGNORED("ENGINE-HOST-SERVICES-0036",
+                    OMRSAuditLogRecordSeverity.INFO,
+                    "Governance engine {0} in engine host server {1} ignored a configuration change event for {2} because " +
+                            "version {3} is not later than version {4} that is already in use",
+                    "Configuration change events can arrive more than once or out of order.  The governance engine already has " +
+                            "the configuration from the same or a later change so the event is ignored.",
+                    "No action is required."),
+
+    GOVERNANCE_SERVICE_QUEUE_FULL("ENGINE-HOST-SERVICES-0037",
+                    OMRSAuditLogRecordSeverity.ERROR,
+                    "Governance service {0} for request type {1} was rejected by governance engine {2} in server {3} because " +
+                            "{4} governance requests are already queued",
+                    "The request is not run.  A governance action that is rejected remains approved so it can be run later.",
+                    "Reduce the rate of requests to this governance engine, or raise the maxConcurrentServices or " +
+                            "maxQueuedServices engine service options."),
+
     NO_OMAS_SERVER_URL("ENGINE-HOST-SERVICES-0150",
                        OMRSAuditLogRecordSeverity.ERROR,
                        "{0} in server {1} is not configured with the platform URL root for the {2}",
@@ -327,6 +366,12 @@ public enum EngineHostServicesAuditCode implements AuditLogMessageSet
                                     "the server to fail too.",
                             "Add the qualified name for at least one engine to the engine service in this server's configuration document " +
                                     "and then restart the server."),
+
+    GOVERNANCE_SERVICE_FAILED( "ENGINE-HOST-SERVICES-2001",
+                            OMRSAuditLogRecordSeverity.EXCEPTION,
+                            "Governance service {0} running request type {1} in governance engine {2} on server {3} failed with exception {4} and message {5}",
+                            "The governance service ended without completing its work.  The governance engine carries on running other requests.",
+                            "Use the exception to diagnose the failure of the governance service, correct the cause and issue the request again."),
     ;
 
 
@@ -31,6 +31,11 @@ public class GovernanceEngineSummary implements Serializable
     private String                 governanceEngineDescription = null;
     private GovernanceEngineStatus governanceEngineStatus      = null;
     private List<String>           governanceRequestTypes      = null;
+    private int                    maxConcurrentServices       = 0;
+    private int                    queuedServiceCount          = 0;
+    private int                    activeServiceCount          = 0;
+    private long                   completedServiceCount       = 0;
+    private long                   failedServiceCount          = 0;
 
 
     /**
@@ -57,6 +62,11 @@ public class GovernanceEngineSummary implements Serializable
             governanceEngineDescription = template.getGovernanceEngineDescription();
             governanceEngineStatus = template.getGovernanceEngineStatus();
             governanceRequestTypes = template.getGovernanceRequestTypes();
+            maxConcurrentServices = template.getMaxConcurrentServices();
+            queuedServiceCount = template.getQueuedServiceCount();
+            activeServiceCount = template.getActiveServiceCount();
+            completedServiceCount = template.getCompletedServiceCount();
+            failedServiceCount = template.getFailedServiceCount();
         }
     }
 
@@ -224,6 +234,116 @@ public class GovernanceEngineSummary implements Serializable
     }
 
 
+    /**
+     * Return the number of governance services that can run at the same time in this governance engine.
+     *
+     * @return count
+     */
+    public int getMaxConcurrentServices()
+    {
+        return maxConcurrentServices;
+    }
+
+
+    /**
+     * Set up the number of governance services that can run at the same time in this governance engine.
+     *
+     * @param maxConcurrentServices count
+     */
+    public void setMaxConcurrentServices(int maxConcurrentServices)
+    {
+        this.maxConcurrentServices = maxConcurrentServices;
+    }
+
+
+    /**
+     * Return the number of governance services waiting to run.
+     *
+     * @return count
+     */
+    public int getQueuedServiceCount()
+    {
+        return queuedServiceCount;
+    }
+
+
+    /**
+     * Set up the number of governance services waiting to run.
+     *
+     * @param queuedServiceCount count
+     */
+    public void setQueuedServiceCount(int queuedServiceCount)
+    {
+        this.queuedServiceCount = queuedServiceCount;
+    }
+
+
+    /**
+     * Return the number of governance services running.
+     *
+     * @return count
+     */
+    public int getActiveServiceCount()
+    {
+        return activeServiceCount;
+    }
+
+
+    /**
+     * Set up the number of governance services running.
+     *
+     * @param activeServiceCount count
+     */
+    public void setActiveServiceCount(int activeServiceCount)
+    {
+        this.activeServiceCount = activeServiceCount;
+    }
+
+
+    /**
+     * Return the number of governance services that have finished running since the governance engine started.
+     *
+     * @return count
+     */
+    public long getCompletedServiceCount()
+    {
+        return completedServiceCount;
+    }
+
+
+    /**
+     * Set up the number of governance services that have finished running since the governance engine started.
+     *
+     * @param completedServiceCount count
+     */
+    public void setCompletedServiceCount(long completedServiceCount)
+    {
+        this.completedServiceCount = completedServiceCount;
+    }
+
+
+    /**
+     * Return the number of governance services that ended with an exception since the governance engine started.
+     *
+     * @return count
+     */
+    public long getFailedServiceCount()
+    {
+        return failedServiceCount;
+    }
+
+
+    /**
+     * Set up the number of governance services that ended with an exception since the governance engine started.
+     *
+     * @param failedServiceCount count
+     */
+    public void setFailedServiceCount(long failedServiceCount)
+    {
+        this.failedServiceCount = failedServiceCount;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -240,6 +360,11 @@ public class GovernanceEngineSummary implements Serializable
                        ", governanceEngineDescription='" + governanceEngineDescription + '\'' +
                        ", governanceEngineStatus=" + governanceEngineStatus +
                        ", governanceRequestTypes=" + governanceRequestTypes +
+                       ", maxConcurrentServices=" + maxConcurrentServices +
+                       ", queuedServiceCount=" + queuedServiceCount +
+                       ", activeServiceCount=" + activeServiceCount +
+                       ", completedServiceCount=" + completedServiceCount +
+                       ", failedServiceCount=" + failedServiceCount +
                        '}';
     }
 
@@ -268,7 +393,12 @@ public class GovernanceEngineSummary implements Serializable
                        Objects.equals(governanceEngineGUID, that.governanceEngineGUID) &&
                 Objects.equals(governanceEngineDescription, that.governanceEngineDescription) &&
                 governanceEngineStatus == that.governanceEngineStatus &&
-                Objects.equals(governanceRequestTypes, that.governanceRequestTypes);
+                Objects.equals(governanceRequestTypes, that.governanceRequestTypes) &&
+                maxConcurrentServices == that.maxConcurrentServices &&
+                queuedServiceCount == that.queuedServiceCount &&
+                activeServiceCount == that.activeServiceCount &&
+                completedServiceCount == that.completedServiceCount &&
+                failedServiceCount == that.failedServiceCount;
     }
 
 
@@ -281,6 +411,7 @@ public class GovernanceEngineSummary implements Serializable
    public int hashCode()
    {
        return Objects.hash(governanceEngineName, governanceEngineTypeName, governanceEngineService,
-                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes);
+                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes,
+                           maxConcurrentServices, queuedServiceCount, activeServiceCount, completedServiceCount, failedServiceCount);
    }
 }
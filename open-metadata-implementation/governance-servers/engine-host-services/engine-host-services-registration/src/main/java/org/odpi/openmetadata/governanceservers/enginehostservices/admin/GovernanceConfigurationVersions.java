@@ -0,0 +1,162 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GovernanceConfigurationVersions records the versions of the governance engine definition and of the relationships
+ * that register governance services with the governance engine that a governance engine handler has applied.  It is used
+ * to ignore configuration change events that arrive after a later change to the same metadata instance has been applied.
+ *
+ * Versions are only comparable for the same metadata instance, so they are recorded against the unique identifier
+ * of the governance engine or registration relationship.  A governance engine or registration that is deleted and
+ * created again has a new unique identifier and its versions start again.  An event with a version of zero
+ * (such as the undo of a change, which carries the earlier version) is never treated as stale.
+ */
+class GovernanceConfigurationVersions
+{
+    private String                               governanceEngineGUID    = null;
+    private long                                 governanceEngineVersion = 0L;
+    private final Map<String, Map<String, Long>> registrationVersions    = new HashMap<>();
+
+
+    /**
+     * Return whether a change to the governance engine definition has already been applied.
+     *
+     * @param governanceEngineGUID unique identifier of the governance engine that changed - null if not known
+     * @param configurationVersion version from the event - zero if not known
+     * @return boolean flag - true if the event can be ignored
+     */
+    synchronized boolean isStaleEngineVersion(String governanceEngineGUID,
+                                              long   configurationVersion)
+    {
+        return (configurationVersion != 0L) &&
+               (governanceEngineGUID != null) &&
+               (governanceEngineGUID.equals(this.governanceEngineGUID)) &&
+               (configurationVersion <= governanceEngineVersion);
+    }
+
+
+    /**
+     * Return the version of the governance engine definition that has been applied.
+     *
+     * @return version number - zero if not known
+     */
+    synchronized long getEngineVersion()
+    {
+        return governanceEngineVersion;
+    }
+
+
+    /**
+     * Record the version of the governance engine definition that has been applied.  The version restarts if the
+     * governance engine definition has a different unique identifier to the one recorded.
+     *
+     * @param governanceEngineGUID unique identifier of the governance engine definition that was retrieved
+     * @param configurationVersion version from the event - zero if not known or the event was for another instance
+     */
+    synchronized void setEngineVersion(String governanceEngineGUID,
+                                       long   configurationVersion)
+    {
+        if ((governanceEngineGUID == null) || (! governanceEngineGUID.equals(this.governanceEngineGUID)))
+        {
+            this.governanceEngineGUID    = governanceEngineGUID;
+            this.governanceEngineVersion = configurationVersion;
+        }
+        else if (configurationVersion > governanceEngineVersion)
+        {
+            this.governanceEngineVersion = configurationVersion;
+        }
+    }
+
+
+    /**
+     * Return whether a change to the registration of a governance service has already been applied.
+     *
+     * @param registeredGovernanceServiceGUID unique identifier of the governance service
+     * @param registrationGUID unique identifier of the registration relationship - null if not known
+     * @param configurationVersion version from the event - zero if not known
+     * @return boolean flag - true if the event can be ignored
+     */
+    synchronized boolean isStaleRegistrationVersion(String registeredGovernanceServiceGUID,
+                                                    String registrationGUID,
+                                                    long   configurationVersion)
+    {
+        return (configurationVersion != 0L) &&
+               (configurationVersion <= getRegistrationVersion(registeredGovernanceServiceGUID, registrationGUID));
+    }
+
+
+    /**
+     * Return the version of the registration of a governance service that has been applied.
+     *
+     * @param registeredGovernanceServiceGUID unique identifier of the governance service
+     * @param registrationGUID unique identifier of the registration relationship
+     * @return version number - zero if not known
+     */
+    synchronized long getRegistrationVersion(String registeredGovernanceServiceGUID,
+                                             String registrationGUID)
+    {
+        if ((registeredGovernanceServiceGUID != null) && (registrationGUID != null))
+        {
+            Map<String, Long> serviceRegistrations = registrationVersions.get(registeredGovernanceServiceGUID);
+
+            if (serviceRegistrations != null)
+            {
+                Long version = serviceRegistrations.get(registrationGUID);
+
+                if (version != null)
+                {
+                    return version;
+                }
+            }
+        }
+
+        return 0L;
+    }
+
+
+    /**
+     * Record the version of the registration of a governance service that has been applied.
+     *
+     * @param registeredGovernanceServiceGUID unique identifier of the governance service
+     * @param registrationGUID unique identifier of the registration relationship - null if not known
+     * @param configurationVersion version from the event - zero if not known
+     */
+    synchronized void setRegistrationVersion(String registeredGovernanceServiceGUID,
+                                             String registrationGUID,
+                                             long   configurationVersion)
+    {
+        if ((registeredGovernanceServiceGUID != null) &&
+            (registrationGUID != null) &&
+            (configurationVersion > getRegistrationVersion(registeredGovernanceServiceGUID, registrationGUID)))
+        {
+            registrationVersions.computeIfAbsent(registeredGovernanceServiceGUID,
+                                                 key -> new HashMap<>()).put(registrationGUID, configurationVersion);
+        }
+    }
+
+
+    /**
+     * Forget the registration versions of a governance service that is no longer registered with the governance engine.
+     *
+     * @param registeredGovernanceServiceGUID unique identifier of the governance service
+     */
+    synchronized void removeGovernanceService(String registeredGovernanceServiceGUID)
+    {
+        registrationVersions.remove(registeredGovernanceServiceGUID);
+    }
+
+
+    /**
+     * Forget all of the versions.
+     */
+    synchronized void clear()
+    {
+        governanceEngineGUID    = null;
+        governanceEngineVersion = 0L;
+        registrationVersions.clear();
+    }
+}
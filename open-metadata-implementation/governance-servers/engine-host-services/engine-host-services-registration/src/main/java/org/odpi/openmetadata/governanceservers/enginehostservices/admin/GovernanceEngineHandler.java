@@ -25,6 +25,7 @@ import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHos
 import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesErrorCode;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The GovernanceEngineHandler is responsible for running governance services on demand.  It is initialized
@@ -53,7 +54,11 @@ public abstract class GovernanceEngineHandler
     private GovernanceEngineConfigurationClient configurationClient;        /* Initialized in constructor */
 
 
-    private GovernanceServiceCacheMap  governanceServiceLookupTable = new GovernanceServiceCacheMap();
+    private final GovernanceConfigurationVersions configurationVersions        = new GovernanceConfigurationVersions();
+    private final GovernanceServiceCacheMap       governanceServiceLookupTable = new GovernanceServiceCacheMap(configurationVersions);
+    private GovernanceServiceExecutor             governanceServiceExecutor;  /* Initialized in constructor */
+
+    private final AtomicLong                      configurationGeneration      = new AtomicLong(0);
 
 
     /**
@@ -67,6 +72,7 @@ public abstract class GovernanceEngineHandler
      * @param serverClient client to control the execution of governance action requests
      * @param auditLog logging destination
      * @param maxPageSize maximum number of results that can be returned in a single request
+     * @param engineServiceOptions options from the engine service configuration that control the running of governance services
      */
     public GovernanceEngineHandler(EngineConfig                        engineConfig,
                                    String                              serverName,
@@ -75,8 +81,11 @@ public abstract class GovernanceEngineHandler
                                    GovernanceEngineConfigurationClient configurationClient,
                                    GovernanceEngineClient              serverClient,
                                    AuditLog                            auditLog,
-                                   int                                 maxPageSize)
+                                   int                                 maxPageSize,
+                                   Map<String, Object>                 engineServiceOptions)
     {
+        final String actionDescription = "Initialize governance engine";
+
         this.engineServiceName = engineServiceName;
         this.governanceEngineName = engineConfig.getEngineQualifiedName();
         this.serverName = serverName;
@@ -90,6 +99,14 @@ public abstract class GovernanceEngineHandler
         this.serverClient = serverClient;
         this.auditLog = auditLog;
         this.maxPageSize = maxPageSize;
+
+        this.governanceServiceExecutor = new GovernanceServiceExecutor(governanceEngineName, serverName, auditLog, engineServiceOptions);
+
+        auditLog.logMessage(actionDescription,
+                            EngineHostServicesAuditCode.GOVERNANCE_SERVICE_EXECUTOR_STARTED.getMessageDefinition(governanceEngineName,
+                                                                                                                 serverName,
+                                                                                                                 Integer.toString(governanceServiceExecutor.getMaxConcurrentServices()),
+                                                                                                                 governanceServiceExecutor.isUsingVirtualThreads() ? "virtual" : "platform"));
     }
 
 
@@ -138,6 +155,12 @@ public abstract class GovernanceEngineHandler
             mySummary.setGovernanceEngineStatus(GovernanceEngineStatus.RUNNING);
         }
 
+        mySummary.setMaxConcurrentServices(governanceServiceExecutor.getMaxConcurrentServices());
+        mySummary.setQueuedServiceCount(governanceServiceExecutor.getQueuedCount());
+        mySummary.setActiveServiceCount(governanceServiceExecutor.getActiveCount());
+        mySummary.setCompletedServiceCount(governanceServiceExecutor.getCompletedCount());
+        mySummary.setFailedServiceCount(governanceServiceExecutor.getFailedCount());
+
         return mySummary;
     }
 
@@ -153,9 +176,36 @@ public abstract class GovernanceEngineHandler
     public void refreshConfig() throws InvalidParameterException,
                                        UserNotAuthorizedException,
                                        PropertyServerException
+    {
+        refreshConfig(null, 0L);
+    }
+
+
+    /**
+     * Request that the governance engine refresh its configuration following a change to the governance engine's
+     * definition in the metadata server.  The request is ignored if the configuration from this or a later
+     * version of the same definition is already in use.  Versions are not compared if the definition has been
+     * deleted and created again since it then has a new unique identifier.
+     *
+     * @param changedGovernanceEngineGUID unique identifier of the governance engine definition that changed - null if not known
+     * @param configurationVersion version of the governance engine definition that changed - zero if not known
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user id not allowed to access configuration
+     * @throws PropertyServerException problem in configuration server
+     */
+    public void refreshConfig(String changedGovernanceEngineGUID,
+                              long   configurationVersion) throws InvalidParameterException,
+                                                                  UserNotAuthorizedException,
+                                                                  PropertyServerException
     {
         final String methodName = "refreshConfig";
 
+        if (configurationVersions.isStaleEngineVersion(changedGovernanceEngineGUID, configurationVersion))
+        {
+            logStaleConfiguration(governanceEngineName, configurationVersion, configurationVersions.getEngineVersion());
+            return;
+        }
+
         /*
          * Begin by extracting the properties for the governance engine from the metadata server.
          * This method throws exceptions if there is a problem retrieving the governance engine properties.
@@ -186,6 +236,18 @@ public abstract class GovernanceEngineHandler
             this.governanceEngineProperties = governanceEngineElement.getProperties();
 
             refreshAllServiceConfig();
+
+            /*
+             * The version in the event only applies to the definition that was retrieved if it has the same unique identifier.
+             */
+            if ((changedGovernanceEngineGUID != null) && (changedGovernanceEngineGUID.equals(governanceEngineGUID)))
+            {
+                configurationVersions.setEngineVersion(governanceEngineGUID, configurationVersion);
+            }
+            else
+            {
+                configurationVersions.setEngineVersion(governanceEngineGUID, 0L);
+            }
         }
     }
 
@@ -193,7 +255,8 @@ public abstract class GovernanceEngineHandler
     /**
      * Request that the governance engine refreshes its configuration for all governance services
      * by calling the metadata server. This request just ensures that the latest configuration
-     * is in use.
+     * is in use.  Governance services whose registration has not changed keep their current cache
+     * entries so governance requests continue to run while the configuration is refreshed.
      *
      * @throws InvalidParameterException one of the parameters is null or invalid.
      * @throws UserNotAuthorizedException user id not allowed to access configuration
@@ -203,19 +266,15 @@ public abstract class GovernanceEngineHandler
                                                   UserNotAuthorizedException,
                                                   PropertyServerException
     {
-        /*
-         * Clear the lookup table - this will cause temporary failures in governance requests if services were already
-         * configured.
-         */
         final String actionDescription = "Retrieve all governance service configuration";
 
         auditLog.logMessage(actionDescription,
                             EngineHostServicesAuditCode.CLEARING_ALL_GOVERNANCE_SERVICE_CONFIG.getMessageDefinition(governanceEngineName));
 
-        governanceServiceLookupTable.clear();
-
-        int      startingFrom = 0;
-        boolean  moreToReceive = true;
+        long         generation                       = configurationGeneration.incrementAndGet();
+        Set<String>  registeredGovernanceServiceGUIDs = new HashSet<>();
+        int          startingFrom                     = 0;
+        boolean      moreToReceive                    = true;
 
         while (moreToReceive)
         {
@@ -228,7 +287,11 @@ public abstract class GovernanceEngineHandler
             {
                 for (String registeredGovernanceServiceGUID : registeredGovernanceServices)
                 {
-                    refreshServiceConfig(registeredGovernanceServiceGUID);
+                    if (registeredGovernanceServiceGUID != null)
+                    {
+                        registeredGovernanceServiceGUIDs.add(registeredGovernanceServiceGUID);
+                        refreshServiceConfig(registeredGovernanceServiceGUID, generation);
+                    }
                 }
 
                 if (registeredGovernanceServices.size() < maxPageSize)
@@ -246,6 +309,12 @@ public abstract class GovernanceEngineHandler
             }
         }
 
+        /*
+         * Governance services that are no longer registered with the governance engine are removed.  Those refreshed
+         * after this refresh started are left in place since they may have been registered since the list was retrieved.
+         */
+        logRemovedRequestTypes(governanceServiceLookupTable.removeUnregisteredServices(registeredGovernanceServiceGUIDs, generation));
+
         auditLog.logMessage(actionDescription,
                             EngineHostServicesAuditCode.FINISHED_ALL_GOVERNANCE_SERVICE_CONFIG.getMessageDefinition(governanceEngineName));
     }
@@ -256,7 +325,7 @@ public abstract class GovernanceEngineHandler
      * by calling the metadata server. This request just ensures that the latest configuration
      * is in use.
      *
-     * @param registeredGovernanceServiceGUID unique identifier of the SupportedGovernanceService relationship
+     * @param registeredGovernanceServiceGUID unique identifier of the governance service
      * @throws InvalidParameterException one of the parameters is null or invalid.
      * @throws UserNotAuthorizedException user id not allowed to access configuration
      * @throws PropertyServerException problem in configuration server
@@ -265,37 +334,152 @@ public abstract class GovernanceEngineHandler
                                                                                      UserNotAuthorizedException,
                                                                                      PropertyServerException
     {
-        final String methodName = "refreshServiceConfig";
+        refreshServiceConfig(registeredGovernanceServiceGUID, null, null, 0L);
+    }
+
 
+    /**
+     * Request that the governance engine refreshes its configuration for a single governance service following a change to
+     * its registration for a governance request type.  The request is ignored if the configuration from this or a later
+     * version of the same registration relationship is already in use.  Only the cache entries for this governance
+     * service are updated.
+     *
+     * @param registeredGovernanceServiceGUID unique identifier of the governance service
+     * @param registrationGUID unique identifier of the relationship that registers the governance service - null if not known
+     * @param governanceRequestType governance request type whose registration changed - null if not known
+     * @param configurationVersion version of the registration relationship that changed - zero if not known
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user id not allowed to access configuration
+     * @throws PropertyServerException problem in configuration server
+     */
+    public void refreshServiceConfig(String  registeredGovernanceServiceGUID,
+                                     String  registrationGUID,
+                                     String  governanceRequestType,
+                                     long    configurationVersion) throws InvalidParameterException,
+                                                                          UserNotAuthorizedException,
+                                                                          PropertyServerException
+    {
         if (registeredGovernanceServiceGUID != null)
         {
-            RegisteredGovernanceServiceElement governanceServiceElement = configurationClient.getRegisteredGovernanceService(serverUserId,
-                                                                                                                             governanceEngineGUID,
-                                                                                                                             registeredGovernanceServiceGUID);
+            if (configurationVersions.isStaleRegistrationVersion(registeredGovernanceServiceGUID, registrationGUID, configurationVersion))
+            {
+                logStaleConfiguration(registeredGovernanceServiceGUID + ":" + governanceRequestType,
+                                      configurationVersion,
+                                      configurationVersions.getRegistrationVersion(registeredGovernanceServiceGUID, registrationGUID));
+                return;
+            }
 
-            if ((governanceServiceElement != null) &&
-                        (governanceServiceElement.getElementHeader() != null) &&
-                        (governanceServiceElement.getProperties() != null))
+            if (refreshServiceConfig(registeredGovernanceServiceGUID, configurationGeneration.incrementAndGet()))
             {
-                RegisteredGovernanceService governanceService = governanceServiceElement.getProperties();
+                configurationVersions.setRegistrationVersion(registeredGovernanceServiceGUID, registrationGUID, configurationVersion);
+            }
+        }
+    }
 
-                if (governanceService.getRequestTypes() != null)
-                {
-                    Set<String> governanceRequestTypes = governanceService.getRequestTypes().keySet();
 
-                    for (String governanceRequestType : governanceRequestTypes)
-                    {
-                        GovernanceServiceCache governanceServiceCache = new GovernanceServiceCache(serverName, governanceEngineName, governanceServiceElement);
-                        governanceServiceLookupTable.put(governanceRequestType, governanceServiceCache);
+    /**
+     * Retrieve the registration of a single governance service from the metadata server and update its entries in the
+     * lookup table.  A new cache entry is only created if the registration has changed.  The update is discarded if
+     * a refresh that started later has already updated this governance service.
+     *
+     * @param registeredGovernanceServiceGUID unique identifier of the governance service
+     * @param generation sequence number of this refresh
+     * @return boolean flag - true if the governance service is still registered with the governance engine
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user id not allowed to access configuration
+     * @throws PropertyServerException problem in configuration server
+     */
+    private boolean refreshServiceConfig(String  registeredGovernanceServiceGUID,
+                                      long    generation) throws InvalidParameterException,
+                                                                 UserNotAuthorizedException,
+                                                                 PropertyServerException
+    {
+        final String methodName = "refreshServiceConfig";
 
-                        auditLog.logMessage(methodName,
-                                            EngineHostServicesAuditCode.SUPPORTED_REQUEST_TYPE.getMessageDefinition(governanceEngineName,
-                                                                                                                    serverName,
-                                                                                                                    governanceRequestType));
-                    }
-                }
+        RegisteredGovernanceServiceElement governanceServiceElement = configurationClient.getRegisteredGovernanceService(serverUserId,
+                                                                                                                         governanceEngineGUID,
+                                                                                                                         registeredGovernanceServiceGUID);
+        GovernanceServiceCache governanceServiceCache = null;
+
+        if ((governanceServiceElement != null) &&
+                    (governanceServiceElement.getElementHeader() != null) &&
+                    (governanceServiceElement.getProperties() != null) &&
+                    (governanceServiceElement.getProperties().getRequestTypes() != null))
+        {
+            GovernanceServiceCache currentCache = governanceServiceLookupTable.getRegisteredService(registeredGovernanceServiceGUID);
+
+            if ((currentCache != null) && (currentCache.hasSameConfiguration(governanceServiceElement)))
+            {
+                governanceServiceCache = currentCache;
+            }
+            else
+            {
+                governanceServiceCache = new GovernanceServiceCache(serverName, governanceEngineName, governanceServiceElement);
             }
         }
+
+        List<String> updatedRequestTypes = new ArrayList<>();
+        List<String> removedRequestTypes = new ArrayList<>();
+
+        if (governanceServiceLookupTable.put(registeredGovernanceServiceGUID,
+                                             governanceServiceCache,
+                                             generation,
+                                             updatedRequestTypes,
+                                             removedRequestTypes))
+        {
+            for (String governanceRequestType : updatedRequestTypes)
+            {
+                auditLog.logMessage(methodName,
+                                    EngineHostServicesAuditCode.SUPPORTED_REQUEST_TYPE.getMessageDefinition(governanceEngineName,
+                                                                                                            serverName,
+                                                                                                            governanceRequestType));
+            }
+
+            logRemovedRequestTypes(removedRequestTypes);
+        }
+
+        return (governanceServiceCache != null);
+    }
+
+
+    /**
+     * Log that a configuration change event describes a change that has already been applied.
+     *
+     * @param configurationName name of the governance engine or registration that changed
+     * @param configurationVersion version from the event
+     * @param appliedVersion version already in use
+     */
+    private void logStaleConfiguration(String configurationName,
+                                       long   configurationVersion,
+                                       long   appliedVersion)
+    {
+        final String methodName = "logStaleConfiguration";
+
+        auditLog.logMessage(methodName,
+                            EngineHostServicesAuditCode.STALE_CONFIGURATION_IGNORED.getMessageDefinition(governanceEngineName,
+                                                                                                         serverName,
+                                                                                                         configurationName,
+                                                                                                         Long.toString(configurationVersion),
+                                                                                                         Long.toString(appliedVersion)));
+    }
+
+
+    /**
+     * Log the governance request types that are no longer supported.
+     *
+     * @param removedRequestTypes list of governance request types
+     */
+    private void logRemovedRequestTypes(List<String> removedRequestTypes)
+    {
+        final String methodName = "logRemovedRequestTypes";
+
+        for (String governanceRequestType : removedRequestTypes)
+        {
+            auditLog.logMessage(methodName,
+                                EngineHostServicesAuditCode.REQUEST_TYPE_REMOVED.getMessageDefinition(governanceEngineName,
+                                                                                                      serverName,
+                                                                                                      governanceRequestType));
+        }
     }
 
 
@@ -351,30 +535,140 @@ public abstract class GovernanceEngineHandler
 
     /**
      * GovernanceServiceCacheMap maintains the map of governance request types to governance services.
-     * It is synchronized because the map is being rebuilt periodically.
+     * It is synchronized because the map is updated by configuration events while governance requests are running.
+     * Each governance service is stamped with the generation of the refresh that last updated it so that a refresh
+     * that finishes after a later one does not overwrite the newer configuration.  The registration versions of
+     * a governance service are forgotten when it is no longer registered.
      */
     static private class  GovernanceServiceCacheMap
     {
-        private volatile Map<String, GovernanceServiceCache>  governanceServiceLookupTable = new HashMap<>();
+        private final Map<String, GovernanceServiceCache>  governanceServiceLookupTable = new HashMap<>();
+        private final Map<String, GovernanceServiceCache>  registeredGovernanceServices = new HashMap<>();
+        private final Map<String, Long>                    serviceGenerations           = new HashMap<>();
+        private final GovernanceConfigurationVersions      configurationVersions;
+
+
+        /**
+         * Constructor.
+         *
+         * @param configurationVersions versions of the configuration applied by the governance engine handler
+         */
+        GovernanceServiceCacheMap(GovernanceConfigurationVersions configurationVersions)
+        {
+            this.configurationVersions = configurationVersions;
+        }
+
 
         /**
          * Remove all governance services from the hash map
          */
         synchronized void clear()
         {
-            governanceServiceLookupTable = new HashMap<>();
+            governanceServiceLookupTable.clear();
+            registeredGovernanceServices.clear();
+            serviceGenerations.clear();
+            configurationVersions.clear();
         }
 
+
         /**
-         * Add a new governance service to the map.
+         * Replace the cache entry for a governance service.  Its governance request types are mapped to the new cache entry
+         * and any governance request types it no longer supports are removed.  Nothing changes if a later refresh has
+         * already updated the governance service.
          *
-         * @param governanceRequestType governance request type
-         * @param governanceServiceCache mapped governance service
+         * @param registeredGovernanceServiceGUID unique identifier of the governance service
+         * @param governanceServiceCache new cache entry - null if the governance service is no longer registered
+         * @param generation sequence number of the refresh
+         * @param updatedRequestTypes list to add the governance request types mapped to a new cache entry
+         * @param removedRequestTypes list to add the governance request types that are no longer supported
+         * @return boolean flag - false if the update was discarded
          */
-        synchronized void put(String                 governanceRequestType,
-                              GovernanceServiceCache governanceServiceCache)
+        synchronized boolean put(String                 registeredGovernanceServiceGUID,
+                                 GovernanceServiceCache governanceServiceCache,
+                                 long                   generation,
+                                 List<String>           updatedRequestTypes,
+                                 List<String>           removedRequestTypes)
         {
-            governanceServiceLookupTable.put(governanceRequestType, governanceServiceCache);
+            Long currentGeneration = serviceGenerations.get(registeredGovernanceServiceGUID);
+
+            if ((currentGeneration != null) && (currentGeneration > generation))
+            {
+                return false;
+            }
+
+            serviceGenerations.put(registeredGovernanceServiceGUID, generation);
+
+            GovernanceServiceCache currentCache = registeredGovernanceServices.remove(registeredGovernanceServiceGUID);
+            Set<String>            requestTypes = new HashSet<>();
+
+            if (governanceServiceCache != null)
+            {
+                requestTypes = governanceServiceCache.getRequestTypes();
+                registeredGovernanceServices.put(registeredGovernanceServiceGUID, governanceServiceCache);
+            }
+            else
+            {
+                configurationVersions.removeGovernanceService(registeredGovernanceServiceGUID);
+            }
+
+            if (currentCache != null)
+            {
+                for (String governanceRequestType : currentCache.getRequestTypes())
+                {
+                    if ((! requestTypes.contains(governanceRequestType)) &&
+                                (governanceServiceLookupTable.get(governanceRequestType) == currentCache))
+                    {
+                        governanceServiceLookupTable.remove(governanceRequestType);
+                        removedRequestTypes.add(governanceRequestType);
+                    }
+                }
+            }
+
+            for (String governanceRequestType : requestTypes)
+            {
+                if (governanceServiceLookupTable.put(governanceRequestType, governanceServiceCache) != governanceServiceCache)
+                {
+                    updatedRequestTypes.add(governanceRequestType);
+                }
+            }
+
+            return true;
+        }
+
+
+        /**
+         * Remove the governance services that are not in the supplied list unless they were updated by a later refresh.
+         *
+         * @param registeredGovernanceServiceGUIDs unique identifiers of the governance services still registered
+         * @param generation sequence number of the refresh that retrieved the list
+         * @return list of governance request types that are no longer supported
+         */
+        synchronized List<String> removeUnregisteredServices(Set<String> registeredGovernanceServiceGUIDs,
+                                                             long        generation)
+        {
+            List<String> removedRequestTypes = new ArrayList<>();
+
+            for (String registeredGovernanceServiceGUID : new ArrayList<>(registeredGovernanceServices.keySet()))
+            {
+                if (! registeredGovernanceServiceGUIDs.contains(registeredGovernanceServiceGUID))
+                {
+                    put(registeredGovernanceServiceGUID, null, generation, new ArrayList<>(), removedRequestTypes);
+                }
+            }
+
+            return removedRequestTypes;
+        }
+
+
+        /**
+         * Retrieve the cache entry for a governance service.
+         *
+         * @param registeredGovernanceServiceGUID unique identifier of the governance service
+         * @return cache entry or null
+         */
+        synchronized GovernanceServiceCache getRegisteredService(String registeredGovernanceServiceGUID)
+        {
+            return registeredGovernanceServices.get(registeredGovernanceServiceGUID);
         }
 
 
@@ -408,7 +702,10 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * Execute the requested governance action on or after the start time.
+     * Execute the requested governance action on or after the start time.  The governance action is queued
+     * with the other requests for this governance engine and is only claimed when it reaches the front of the queue.
+     * This means a governance action that is still queued when the server shuts down remains approved and can be
+     * run by another engine host server.
      *
      * @param governanceActionGUID unique identifier of potential governance action to run.
      */
@@ -423,18 +720,51 @@ public abstract class GovernanceEngineHandler
 
             if (properties.getActionStatus() == GovernanceActionStatus.APPROVED)
             {
-                serverClient.claimGovernanceAction(serverUserId, governanceActionGUID);
+                GovernanceServiceCache governanceServiceCache = governanceServiceLookupTable.get(properties.getRequestType());
+
+                governanceServiceExecutor.execute(() -> runGovernanceAction(governanceActionGUID, properties),
+                                                  (governanceServiceCache == null) ? null : governanceServiceCache.getGovernanceServiceName(),
+                                                  properties.getRequestType(),
+                                                  governanceEngineName + ":" + properties.getRequestType() + ":" + governanceActionGUID,
+                                                  properties.getStartTime(),
+                                                  GovernanceServiceExecutor.GOVERNANCE_ACTION_PRIORITY);
+            }
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  EngineHostServicesAuditCode.ACTION_PROCESSING_ERROR.getMessageDefinition(methodName,
+                                                                                                           error.getClass().getName(),
+                                                                                                           governanceActionGUID,
+                                                                                                           error.getMessage()),
+                                  error);
+        }
+    }
+
+
+    /**
+     * Claim the governance action and run its governance service.  This is called from the governance
+     * service executor once the governance action reaches the front of the queue.
+     *
+     * @param governanceActionGUID unique identifier of the governance action to run
+     * @param properties properties of the governance action
+     */
+    private void runGovernanceAction(String                     governanceActionGUID,
+                                     GovernanceActionProperties properties)
+    {
+        final String methodName = "runGovernanceAction";
 
-                // todo if the start date is in the future then the governance action should be given to the scheduler
+        try
+        {
+            serverClient.claimGovernanceAction(serverUserId, governanceActionGUID);
 
-                serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, GovernanceActionStatus.IN_PROGRESS);
+            serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, GovernanceActionStatus.IN_PROGRESS);
 
-                runGovernanceService(governanceActionGUID,
-                                     properties.getRequestType(),
-                                     properties.getRequestParameters(),
-                                     properties.getRequestSourceElements(),
-                                     properties.getActionTargetElements());
-            }
+            runGovernanceService(governanceActionGUID,
+                                 properties.getRequestType(),
+                                 properties.getRequestParameters(),
+                                 properties.getRequestSourceElements(),
+                                 properties.getActionTargetElements());
         }
         catch (Exception error)
         {
@@ -448,6 +778,28 @@ public abstract class GovernanceEngineHandler
     }
 
 
+    /**
+     * Run a governance service through the governance service executor for this governance engine.  The number of
+     * governance services that run at the same time is limited and the rest wait in a queue ordered by priority.
+     * The request is rejected with a RejectedExecutionException if this queue is full.
+     *
+     * @param governanceServiceHandler handler for the governance service
+     * @param threadName name of the thread while the governance service is running
+     * @param priority priority of the request - see the constants on GovernanceServiceExecutor
+     */
+    protected void startGovernanceService(GovernanceServiceHandler governanceServiceHandler,
+                                          String                   threadName,
+                                          int                      priority)
+    {
+        governanceServiceExecutor.execute(governanceServiceHandler,
+                                          governanceServiceHandler.getGovernanceServiceName(),
+                                          governanceServiceHandler.getRequestType(),
+                                          threadName,
+                                          null,
+                                          priority);
+    }
+
+
     /**
      * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
      *
@@ -491,6 +843,16 @@ public abstract class GovernanceEngineHandler
     }
 
 
+    /**
+     * Stop the governance engine from starting more governance services.  The wait for the running and queued
+     * governance services to finish starts now and terminate() waits for the rest of this time.
+     */
+    public void startTermination()
+    {
+        governanceServiceExecutor.startShutdown();
+    }
+
+
     /**
      * Confirms termination of the governance engine.
      */
@@ -501,6 +863,16 @@ public abstract class GovernanceEngineHandler
         auditLog.logMessage(actionDescription,
                             EngineHostServicesAuditCode.ENGINE_SHUTDOWN.getMessageDefinition(governanceEngineName, serverName));
 
+        int notStartedCount = governanceServiceExecutor.shutdown();
+
+        if (notStartedCount > 0)
+        {
+            auditLog.logMessage(actionDescription,
+                                EngineHostServicesAuditCode.QUEUED_SERVICES_NOT_STARTED.getMessageDefinition(Integer.toString(notStartedCount),
+                                                                                                             governanceEngineName,
+                                                                                                             serverName));
+        }
+
         governanceEngineElement = null;
         governanceEngineGUID = null;
         governanceEngineProperties = null;
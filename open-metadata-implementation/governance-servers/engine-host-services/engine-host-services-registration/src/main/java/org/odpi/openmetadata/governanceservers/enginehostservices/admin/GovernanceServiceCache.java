@@ -12,11 +12,16 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesErrorCode;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * GovernanceServiceCache maintains the information about a registered governance service.  A single governance service may be registered using
- * different request types and analysis parameter pairs.
+ * different request types and analysis parameter pairs.  When the configuration of the governance service changes, a new
+ * GovernanceServiceCache replaces this one.  Governance services already created from this cache keep running with their
+ * own connector instances.
  */
 public class GovernanceServiceCache
 {
@@ -84,6 +89,34 @@ public class GovernanceServiceCache
     }
 
 
+    /**
+     * Return the governance request types that this governance service is registered for.
+     *
+     * @return set of request type names
+     */
+    Set<String> getRequestTypes()
+    {
+        if (requestTypeMapping == null)
+        {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(requestTypeMapping.keySet());
+    }
+
+
+    /**
+     * Return whether the supplied registration of the governance service matches the registration used to create this cache.
+     *
+     * @param element registered properties of the governance service retrieved from the metadata server
+     * @return boolean
+     */
+    boolean hasSameConfiguration(RegisteredGovernanceServiceElement element)
+    {
+        return (element != null) && Objects.equals(properties, element.getProperties());
+    }
+
+
     /**
      * Return the analysis parameters to use if none supplied from the caller - these can be null too.
      *
@@ -0,0 +1,562 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesAuditCode;
+
+import java.lang.reflect.Method;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GovernanceServiceExecutor runs the governance services for a single governance engine.  It limits the number of
+ * governance services that run at the same time and queues the rest.  The queue is ordered by priority, then
+ * by start time and then by arrival.  Requests with a start time in the future are held back until that time.
+ * The number of queued requests is limited; requests that arrive when the queue is full are rejected.
+ * The governance services can run on virtual threads when the JVM supports them.
+ */
+public class GovernanceServiceExecutor
+{
+    /**
+     * Priority of the requests made directly to the governance engine.
+     */
+    public static final int REQUEST_PRIORITY = 2;
+
+    /**
+     * Priority of governance actions.
+     */
+    public static final int GOVERNANCE_ACTION_PRIORITY = 1;
+
+    /**
+     * Priority of the requests that process every asset.
+     */
+    public static final int BULK_PRIORITY = 0;
+
+    /**
+     * Engine service option for the number of governance services that can run at the same time in each governance engine.
+     */
+    public static final String MAX_CONCURRENT_SERVICES_OPTION = "maxConcurrentServices";
+
+    /**
+     * Engine service option to run governance services on virtual threads.
+     */
+    public static final String USE_VIRTUAL_THREADS_OPTION = "useVirtualThreads";
+
+    /**
+     * Engine service option for the number of seconds to wait for running and queued governance services at shutdown.
+     */
+    public static final String SHUTDOWN_WAIT_TIME_OPTION = "shutdownWaitTime";
+
+    /**
+     * Engine service option for the number of governance services that can wait in the queue of each governance engine.
+     */
+    public static final String MAX_QUEUED_SERVICES_OPTION = "maxQueuedServices";
+
+    private static final int  defaultMaxConcurrentServices = 10;
+    private static final int  defaultMaxQueuedServices     = 1000;
+    private static final long defaultShutdownWaitTime      = 30;
+    private static final long idleThreadKeepAliveTime      = 60;
+
+    /*
+     * Identifies the executor that is running on the current thread, so a governance service started by
+     * a task of this executor runs on the same thread rather than waiting in the queue a second time.
+     */
+    private static final ThreadLocal<GovernanceServiceExecutor> currentExecutor = new ThreadLocal<>();
+
+    private final String                   governanceEngineName;
+    private final String                   serverName;
+    private final AuditLog                 auditLog;
+    private final ThreadPoolExecutor       threadPool;
+    private final ScheduledExecutorService startTimeScheduler;
+    private final int                      maxConcurrentServices;
+    private final int                      maxQueuedServices;
+    private final boolean                  virtualThreads;
+    private final long                     shutdownWaitTime;
+
+    private final AtomicLong    nextSequenceNumber = new AtomicLong(0);
+    private final AtomicInteger waitingCount       = new AtomicInteger(0);
+    private final AtomicInteger queuedCount        = new AtomicInteger(0);
+    private final AtomicLong    completedCount     = new AtomicLong(0);
+    private final AtomicLong    failedCount        = new AtomicLong(0);
+
+    private long shutdownDeadline = 0;
+    private int  notStartedCount  = 0;
+
+
+    /**
+     * Create the executor for a governance engine.
+     *
+     * @param governanceEngineName name of the governance engine - used to name the threads
+     * @param serverName name of the engine host server - used in messages
+     * @param auditLog logging destination for failed and rejected governance services
+     * @param engineServiceOptions options from the engine service configuration - may be null
+     */
+    public GovernanceServiceExecutor(String              governanceEngineName,
+                                     String              serverName,
+                                     AuditLog            auditLog,
+                                     Map<String, Object> engineServiceOptions)
+    {
+        this.governanceEngineName  = governanceEngineName;
+        this.serverName            = serverName;
+        this.auditLog              = auditLog;
+        this.maxConcurrentServices = Math.max(1, (int)getLongOption(engineServiceOptions, MAX_CONCURRENT_SERVICES_OPTION, defaultMaxConcurrentServices));
+        this.maxQueuedServices     = Math.max(1, (int)getLongOption(engineServiceOptions, MAX_QUEUED_SERVICES_OPTION, defaultMaxQueuedServices));
+        this.shutdownWaitTime      = getLongOption(engineServiceOptions, SHUTDOWN_WAIT_TIME_OPTION, defaultShutdownWaitTime);
+
+        ThreadFactory virtualThreadFactory = null;
+
+        if ((engineServiceOptions != null) && Boolean.parseBoolean(String.valueOf(engineServiceOptions.get(USE_VIRTUAL_THREADS_OPTION))))
+        {
+            virtualThreadFactory = getVirtualThreadFactory();
+        }
+
+        this.virtualThreads = (virtualThreadFactory != null);
+
+        this.threadPool = new ThreadPoolExecutor(maxConcurrentServices,
+                                                 maxConcurrentServices,
+                                                 idleThreadKeepAliveTime,
+                                                 TimeUnit.SECONDS,
+                                                 new PriorityBlockingQueue<>(),
+                                                 getThreadFactory(governanceEngineName + ":", virtualThreadFactory));
+        this.threadPool.allowCoreThreadTimeOut(true);
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, getThreadFactory(governanceEngineName + ":StartTimeScheduler:", null));
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.startTimeScheduler = scheduler;
+    }
+
+
+    /**
+     * Return the number of governance services that can run at the same time.
+     *
+     * @return count
+     */
+    public int getMaxConcurrentServices()
+    {
+        return maxConcurrentServices;
+    }
+
+
+    /**
+     * Return the number of governance services that can wait in the queue.
+     *
+     * @return count
+     */
+    public int getMaxQueuedServices()
+    {
+        return maxQueuedServices;
+    }
+
+
+    /**
+     * Return whether the governance services run on virtual threads.
+     *
+     * @return boolean
+     */
+    public boolean isUsingVirtualThreads()
+    {
+        return virtualThreads;
+    }
+
+
+    /**
+     * Return the number of governance services waiting for their start time or for a thread.
+     *
+     * @return count
+     */
+    public int getQueuedCount()
+    {
+        return waitingCount.get() + threadPool.getQueue().size();
+    }
+
+
+    /**
+     * Return the number of governance services running.
+     *
+     * @return count
+     */
+    public int getActiveCount()
+    {
+        return threadPool.getActiveCount();
+    }
+
+
+    /**
+     * Return the number of governance services that have finished running.
+     *
+     * @return count
+     */
+    public long getCompletedCount()
+    {
+        return completedCount.get();
+    }
+
+
+    /**
+     * Return the number of governance services that ended with an exception.
+     *
+     * @return count
+     */
+    public long getFailedCount()
+    {
+        return failedCount.get();
+    }
+
+
+    /**
+     * Run a governance service on or after its start time.  If this is called from a task of this executor,
+     * the governance service runs immediately on the calling thread since it already holds one of the
+     * executor's threads.  Otherwise, it is rejected if the queue already holds the maximum number of
+     * governance services.
+     *
+     * @param governanceService governance service (or task that starts it)
+     * @param governanceServiceName name of the governance service - used in messages
+     * @param requestType governance request type being run - used in messages
+     * @param threadName name of the thread while the governance service is running
+     * @param startTime time that the governance service should start - null means now
+     * @param priority priority of the request - see the constants on this class
+     * @throws RejectedExecutionException the executor has been shut down or its queue is full
+     */
+    public void execute(Runnable governanceService,
+                        String   governanceServiceName,
+                        String   requestType,
+                        String   threadName,
+                        Date     startTime,
+                        int      priority) throws RejectedExecutionException
+    {
+        final String methodName = "execute";
+
+        GovernanceServiceTask task = new GovernanceServiceTask(governanceService,
+                                                               governanceServiceName,
+                                                               requestType,
+                                                               threadName,
+                                                               startTime,
+                                                               priority,
+                                                               nextSequenceNumber.getAndIncrement());
+
+        if (currentExecutor.get() == this)
+        {
+            task.run();
+            return;
+        }
+
+        if (queuedCount.incrementAndGet() > maxQueuedServices)
+        {
+            queuedCount.decrementAndGet();
+
+            auditLog.logMessage(methodName,
+                                EngineHostServicesAuditCode.GOVERNANCE_SERVICE_QUEUE_FULL.getMessageDefinition(governanceServiceName,
+                                                                                                               requestType,
+                                                                                                               governanceEngineName,
+                                                                                                               serverName,
+                                                                                                               Integer.toString(maxQueuedServices)));
+
+            throw new RejectedExecutionException("The queue of governance engine " + governanceEngineName + " is full");
+        }
+
+        task.queued = true;
+
+        long delay = (startTime == null) ? 0 : startTime.getTime() - System.currentTimeMillis();
+
+        try
+        {
+            if (delay > 0)
+            {
+                waitingCount.incrementAndGet();
+                startTimeScheduler.schedule(() ->
+                                            {
+                                                waitingCount.decrementAndGet();
+                                                threadPool.execute(task);
+                                            },
+                                            delay,
+                                            TimeUnit.MILLISECONDS);
+            }
+            else
+            {
+                threadPool.execute(task);
+            }
+        }
+        catch (RejectedExecutionException error)
+        {
+            queuedCount.decrementAndGet();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Stop accepting governance services.  The running and queued governance services carry on and the wait time
+     * for them to finish starts now.  This means the executors of several governance engines can be shut down
+     * together and share the same wait time rather than waiting for each engine in turn.
+     */
+    public synchronized void startShutdown()
+    {
+        if (shutdownDeadline == 0)
+        {
+            shutdownDeadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(shutdownWaitTime);
+
+            /*
+             * Governance services still waiting for their start time are not started.
+             */
+            notStartedCount = startTimeScheduler.shutdownNow().size();
+
+            waitingCount.set(0);
+            threadPool.shutdown();
+        }
+    }
+
+
+    /**
+     * Stop accepting governance services and wait for the running and queued governance services to finish.
+     * Those still queued when the wait time ends are not started.  The wait time is measured from the call to
+     * startShutdown() if it was called first.
+     *
+     * @return number of governance services that were not started
+     */
+    public synchronized int shutdown()
+    {
+        startShutdown();
+
+        int notStarted = notStartedCount;
+
+        try
+        {
+            long remainingWaitTime = Math.max(0, shutdownDeadline - System.currentTimeMillis());
+
+            if (! threadPool.awaitTermination(remainingWaitTime, TimeUnit.MILLISECONDS))
+            {
+                List<Runnable> queuedServices = threadPool.shutdownNow();
+
+                notStarted = notStarted + queuedServices.size();
+            }
+        }
+        catch (InterruptedException error)
+        {
+            notStarted = notStarted + threadPool.shutdownNow().size();
+            Thread.currentThread().interrupt();
+        }
+
+        return notStarted;
+    }
+
+
+    /**
+     * Return a numeric option from the engine service options.
+     *
+     * @param engineServiceOptions options from the configuration
+     * @param optionName name of the option
+     * @param defaultValue value to use if the option is not set or is not a number
+     * @return option value
+     */
+    private long getLongOption(Map<String, Object> engineServiceOptions,
+                               String              optionName,
+                               long                defaultValue)
+    {
+        if (engineServiceOptions != null)
+        {
+            Object optionValue = engineServiceOptions.get(optionName);
+
+            if (optionValue instanceof Number)
+            {
+                return ((Number)optionValue).longValue();
+            }
+            else if (optionValue != null)
+            {
+                try
+                {
+                    return Long.parseLong(optionValue.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    return defaultValue;
+                }
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Return the factory for virtual threads if the JVM supports them.  This code is compiled for a level of
+     * Java without virtual threads, so the factory is retrieved by reflection.
+     *
+     * @return thread factory or null if virtual threads are not supported
+     */
+    private ThreadFactory getVirtualThreadFactory()
+    {
+        try
+        {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder   = ofVirtual.invoke(null);
+            Method factory   = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+
+            return (ThreadFactory)factory.invoke(builder);
+        }
+        catch (Exception error)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Return a thread factory that names the threads and makes sure they do not stop the JVM from ending.
+     *
+     * @param threadNamePrefix prefix for the thread names
+     * @param delegateFactory factory that creates the threads - null for platform threads
+     * @return thread factory
+     */
+    private ThreadFactory getThreadFactory(String        threadNamePrefix,
+                                           ThreadFactory delegateFactory)
+    {
+        AtomicLong threadNumber = new AtomicLong(0);
+
+        return runnable ->
+        {
+            Thread thread;
+
+            if (delegateFactory == null)
+            {
+                thread = new Thread(runnable);
+                thread.setDaemon(true);
+            }
+            else
+            {
+                thread = delegateFactory.newThread(runnable);
+            }
+
+            thread.setName(threadNamePrefix + threadNumber.getAndIncrement());
+
+            return thread;
+        };
+    }
+
+
+    /**
+     * GovernanceServiceTask wraps a governance service with the information used to order the queue.
+     */
+    private class GovernanceServiceTask implements Runnable, Comparable<GovernanceServiceTask>
+    {
+        private final Runnable governanceService;
+        private final String   governanceServiceName;
+        private final String   requestType;
+        private final String   threadName;
+        private final long     startTime;
+        private final int      priority;
+        private final long     sequenceNumber;
+
+        private volatile boolean queued = false;
+
+
+        /**
+         * Constructor.
+         *
+         * @param governanceService governance service (or task that starts it)
+         * @param governanceServiceName name of the governance service
+         * @param requestType governance request type being run
+         * @param threadName name of the thread while the governance service is running
+         * @param startTime time that the governance service should start - null means now
+         * @param priority priority of the request
+         * @param sequenceNumber order of arrival
+         */
+        GovernanceServiceTask(Runnable governanceService,
+                              String   governanceServiceName,
+                              String   requestType,
+                              String   threadName,
+                              Date     startTime,
+                              int      priority,
+                              long     sequenceNumber)
+        {
+            this.governanceService     = governanceService;
+            this.governanceServiceName = governanceServiceName;
+            this.requestType           = requestType;
+            this.threadName            = threadName;
+            this.startTime             = (startTime == null) ? 0 : startTime.getTime();
+            this.priority              = priority;
+            this.sequenceNumber        = sequenceNumber;
+        }
+
+
+        /**
+         * Run the governance service under its own thread name.  A failure is counted and logged.
+         */
+        @Override
+        public void run()
+        {
+            final String methodName = "run";
+
+            if (queued)
+            {
+                queued = false;
+                queuedCount.decrementAndGet();
+            }
+
+            Thread                    currentThread    = Thread.currentThread();
+            String                    poolThreadName   = currentThread.getName();
+            GovernanceServiceExecutor callingExecutor  = currentExecutor.get();
+
+            currentThread.setName(threadName);
+            currentExecutor.set(GovernanceServiceExecutor.this);
+
+            try
+            {
+                governanceService.run();
+                completedCount.incrementAndGet();
+            }
+            catch (Throwable error)
+            {
+                failedCount.incrementAndGet();
+
+                auditLog.logException(methodName,
+                                      EngineHostServicesAuditCode.GOVERNANCE_SERVICE_FAILED.getMessageDefinition(governanceServiceName,
+                                                                                                                 requestType,
+                                                                                                                 governanceEngineName,
+                                                                                                                 serverName,
+                                                                                                                 error.getClass().getName(),
+                                                                                                                 error.getMessage()),
+                                      error);
+            }
+            finally
+            {
+                currentExecutor.set(callingExecutor);
+                currentThread.setName(poolThreadName);
+            }
+        }
+
+
+        /**
+         * Order the tasks by priority (highest first), then start time and then arrival.
+         *
+         * @param other task to compare with
+         * @return comparison result
+         */
+        @Override
+        public int compareTo(GovernanceServiceTask other)
+        {
+            if (priority != other.priority)
+            {
+                return Integer.compare(other.priority, priority);
+            }
+
+            if (startTime != other.startTime)
+            {
+                return Long.compare(startTime, other.startTime);
+            }
+
+            return Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+}
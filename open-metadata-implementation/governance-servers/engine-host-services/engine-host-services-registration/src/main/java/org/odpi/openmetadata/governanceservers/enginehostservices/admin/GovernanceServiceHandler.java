@@ -100,6 +100,17 @@ public abstract class GovernanceServiceHandler implements Runnable
     }
 
 
+    /**
+     * Return the governance request type that this governance service is running.
+     *
+     * @return string name
+     */
+    public String getRequestType()
+    {
+        return requestType;
+    }
+
+
     /**
      * Return the unique name for the hosting governance engine.
      *
@@ -0,0 +1,128 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that GovernanceConfigurationVersions only treats a configuration change event as stale when a later
+ * version of the same metadata instance has been applied.
+ */
+public class GovernanceConfigurationVersionsTest
+{
+    private static final String engineGUID       = "engine-guid";
+    private static final String serviceGUID      = "service-guid";
+    private static final String registrationGUID = "registration-guid";
+
+
+    /**
+     * Default constructor
+     */
+    public GovernanceConfigurationVersionsTest()
+    {
+    }
+
+
+    /**
+     * Events at or below the applied version of a registration are stale and later ones are not.
+     */
+    @Test
+    public void testOlderRegistrationVersionIsStale()
+    {
+        GovernanceConfigurationVersions versions = new GovernanceConfigurationVersions();
+
+        assertFalse(versions.isStaleRegistrationVersion(serviceGUID, registrationGUID, 3L));
+
+        versions.setRegistrationVersion(serviceGUID, registrationGUID, 3L);
+
+        assertTrue(versions.isStaleRegistrationVersion(serviceGUID, registrationGUID, 2L));
+        assertTrue(versions.isStaleRegistrationVersion(serviceGUID, registrationGUID, 3L));
+        assertFalse(versions.isStaleRegistrationVersion(serviceGUID, registrationGUID, 4L));
+
+        versions.setRegistrationVersion(serviceGUID, registrationGUID, 2L);
+
+        assertEquals(versions.getRegistrationVersion(serviceGUID, registrationGUID), 3L);
+    }
+
+
+    /**
+     * A registration that is deleted and created again has a new relationship, so its first version is applied.
+     */
+    @Test
+    public void testRecreatedRegistrationIsNotStale()
+    {
+        GovernanceConfigurationVersions versions = new GovernanceConfigurationVersions();
+
+        versions.setRegistrationVersion(serviceGUID, registrationGUID, 5L);
+
+        assertFalse(versions.isStaleRegistrationVersion(serviceGUID, "new-registration-guid", 1L));
+    }
+
+
+    /**
+     * The versions of a governance service are forgotten when it is no longer registered.
+     */
+    @Test
+    public void testRemovedServiceIsForgotten()
+    {
+        GovernanceConfigurationVersions versions = new GovernanceConfigurationVersions();
+
+        versions.setRegistrationVersion(serviceGUID, registrationGUID, 5L);
+        versions.removeGovernanceService(serviceGUID);
+
+        assertEquals(versions.getRegistrationVersion(serviceGUID, registrationGUID), 0L);
+        assertFalse(versions.isStaleRegistrationVersion(serviceGUID, registrationGUID, 1L));
+    }
+
+
+    /**
+     * Events without a version (such as undo events) and events without a registration are never stale.
+     */
+    @Test
+    public void testUnversionedEventsAreNotStale()
+    {
+        GovernanceConfigurationVersions versions = new GovernanceConfigurationVersions();
+
+        versions.setRegistrationVersion(serviceGUID, registrationGUID, 5L);
+        versions.setEngineVersion(engineGUID, 5L);
+
+        assertFalse(versions.isStaleRegistrationVersion(serviceGUID, registrationGUID, 0L));
+        assertFalse(versions.isStaleRegistrationVersion(serviceGUID, null, 4L));
+        assertFalse(versions.isStaleEngineVersion(engineGUID, 0L));
+        assertFalse(versions.isStaleEngineVersion(null, 4L));
+    }
+
+
+    /**
+     * The engine version is compared for the same governance engine definition and restarts for a new one.
+     */
+    @Test
+    public void testEngineVersionIsKeyedByGUID()
+    {
+        GovernanceConfigurationVersions versions = new GovernanceConfigurationVersions();
+
+        versions.setEngineVersion(engineGUID, 4L);
+
+        assertTrue(versions.isStaleEngineVersion(engineGUID, 4L));
+        assertFalse(versions.isStaleEngineVersion(engineGUID, 5L));
+        assertFalse(versions.isStaleEngineVersion("new-engine-guid", 1L));
+
+        versions.setEngineVersion(engineGUID, 0L);
+
+        assertEquals(versions.getEngineVersion(), 4L);
+
+        versions.setEngineVersion("new-engine-guid", 1L);
+
+        assertEquals(versions.getEngineVersion(), 1L);
+        assertFalse(versions.isStaleEngineVersion(engineGUID, 2L));
+        assertTrue(versions.isStaleEngineVersion("new-engine-guid", 1L));
+
+        versions.clear();
+
+        assertFalse(versions.isStaleEngineVersion("new-engine-guid", 1L));
+    }
+}
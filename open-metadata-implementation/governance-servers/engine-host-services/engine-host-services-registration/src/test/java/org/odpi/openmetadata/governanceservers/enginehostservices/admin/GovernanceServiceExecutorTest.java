@@ -0,0 +1,317 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesAuditCode;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Validate that GovernanceServiceExecutor runs queued governance services in priority order, holds back
+ * governance services until their start time, rejects governance services when its queue is full and
+ * drains or cancels the queued governance services at shutdown.
+ */
+public class GovernanceServiceExecutorTest
+{
+    private static final String governanceEngineName  = "TestEngine";
+    private static final String serverName            = "TestServer";
+    private static final String governanceServiceName = "TestService";
+    private static final String requestType           = "test-request";
+    private static final long   waitTime              = 10;
+
+    private final List<AuditLogRecord> auditLogRecords = Collections.synchronizedList(new ArrayList<>());
+
+
+    /**
+     * Default constructor
+     */
+    public GovernanceServiceExecutorTest()
+    {
+    }
+
+
+    /**
+     * Queued governance services run highest priority first and in order of arrival within a priority.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testPriorityOrdering() throws Exception
+    {
+        GovernanceServiceExecutor executor  = getExecutor(1, 10, waitTime);
+        CountDownLatch            started   = new CountDownLatch(1);
+        CountDownLatch            release   = new CountDownLatch(1);
+        CountDownLatch            completed = new CountDownLatch(4);
+        List<String>              runOrder  = Collections.synchronizedList(new ArrayList<>());
+
+        executeBlocker(executor, started, release);
+        assertTrue(started.await(waitTime, TimeUnit.SECONDS));
+
+        executeRecorder(executor, "bulk1", null, GovernanceServiceExecutor.BULK_PRIORITY, runOrder, completed);
+        executeRecorder(executor, "action", null, GovernanceServiceExecutor.GOVERNANCE_ACTION_PRIORITY, runOrder, completed);
+        executeRecorder(executor, "bulk2", null, GovernanceServiceExecutor.BULK_PRIORITY, runOrder, completed);
+        executeRecorder(executor, "request", null, GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed);
+
+        assertEquals(executor.getQueuedCount(), 4);
+
+        release.countDown();
+
+        assertTrue(completed.await(waitTime, TimeUnit.SECONDS));
+        assertEquals(runOrder, Arrays.asList("request", "action", "bulk1", "bulk2"));
+
+        executor.shutdown();
+    }
+
+
+    /**
+     * A governance service with a start time in the future waits until that time, and governance services
+     * that can start now run ahead of it.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testDelayedStart() throws Exception
+    {
+        GovernanceServiceExecutor executor  = getExecutor(1, 10, waitTime);
+        CountDownLatch            completed = new CountDownLatch(2);
+        List<String>              runOrder  = Collections.synchronizedList(new ArrayList<>());
+        Date                      startTime = new Date(System.currentTimeMillis() + 500);
+        List<Long>                runTimes  = Collections.synchronizedList(new ArrayList<>());
+
+        executor.execute(() ->
+                         {
+                             runTimes.add(System.currentTimeMillis());
+                             runOrder.add("delayed");
+                             completed.countDown();
+                         },
+                         governanceServiceName,
+                         requestType,
+                         "delayed",
+                         startTime,
+                         GovernanceServiceExecutor.REQUEST_PRIORITY);
+
+        assertEquals(executor.getQueuedCount(), 1);
+
+        executeRecorder(executor, "immediate", null, GovernanceServiceExecutor.BULK_PRIORITY, runOrder, completed);
+
+        assertTrue(completed.await(waitTime, TimeUnit.SECONDS));
+        assertEquals(runOrder, Arrays.asList("immediate", "delayed"));
+        assertTrue(runTimes.get(0) >= startTime.getTime());
+        assertEquals(executor.getQueuedCount(), 0);
+
+        executor.shutdown();
+    }
+
+
+    /**
+     * A governance service is rejected and reported in the audit log when maxQueuedServices governance
+     * services are already queued.  The queued governance services still run.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testQueueFull() throws Exception
+    {
+        GovernanceServiceExecutor executor  = getExecutor(1, 2, waitTime);
+        CountDownLatch            started   = new CountDownLatch(1);
+        CountDownLatch            release   = new CountDownLatch(1);
+        CountDownLatch            completed = new CountDownLatch(2);
+        List<String>              runOrder  = Collections.synchronizedList(new ArrayList<>());
+
+        auditLogRecords.clear();
+
+        executeBlocker(executor, started, release);
+        assertTrue(started.await(waitTime, TimeUnit.SECONDS));
+
+        executeRecorder(executor, "first", null, GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed);
+        executeRecorder(executor, "second", null, GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed);
+
+        expectThrows(RejectedExecutionException.class,
+                     () -> executeRecorder(executor, "third", null, GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed));
+
+        assertEquals(auditLogRecords.size(), 1);
+        assertEquals(auditLogRecords.get(0).getMessageId(),
+                     EngineHostServicesAuditCode.GOVERNANCE_SERVICE_QUEUE_FULL.getMessageDefinition().getMessageId());
+
+        release.countDown();
+
+        assertTrue(completed.await(waitTime, TimeUnit.SECONDS));
+        assertEquals(runOrder, Arrays.asList("first", "second"));
+
+        executor.shutdown();
+
+        assertEquals(executor.getCompletedCount(), 3L);
+    }
+
+
+    /**
+     * Shutdown waits for the queued governance services to run, except those still waiting for their start time,
+     * and then rejects new governance services.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testShutdownDrainsQueue() throws Exception
+    {
+        GovernanceServiceExecutor executor  = getExecutor(1, 10, waitTime);
+        CountDownLatch            started   = new CountDownLatch(1);
+        CountDownLatch            release   = new CountDownLatch(1);
+        CountDownLatch            completed = new CountDownLatch(3);
+        List<String>              runOrder  = Collections.synchronizedList(new ArrayList<>());
+
+        executeBlocker(executor, started, release);
+        assertTrue(started.await(waitTime, TimeUnit.SECONDS));
+
+        executeRecorder(executor, "first", null, GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed);
+        executeRecorder(executor, "second", null, GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed);
+        executeRecorder(executor, "later", new Date(System.currentTimeMillis() + 3600000), GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed);
+
+        executor.startShutdown();
+        release.countDown();
+
+        assertEquals(executor.shutdown(), 1);
+        assertEquals(runOrder, Arrays.asList("first", "second"));
+        assertEquals(executor.getCompletedCount(), 3L);
+
+        expectThrows(RejectedExecutionException.class,
+                     () -> executeRecorder(executor, "afterShutdown", null, GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed));
+    }
+
+
+    /**
+     * Shutdown cancels the queued governance services that have not started when the wait time ends.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testShutdownCancelsQueue() throws Exception
+    {
+        GovernanceServiceExecutor executor  = getExecutor(1, 10, 0);
+        CountDownLatch            started   = new CountDownLatch(1);
+        CountDownLatch            release   = new CountDownLatch(1);
+        CountDownLatch            completed = new CountDownLatch(2);
+        List<String>              runOrder  = Collections.synchronizedList(new ArrayList<>());
+
+        executeBlocker(executor, started, release);
+        assertTrue(started.await(waitTime, TimeUnit.SECONDS));
+
+        executeRecorder(executor, "first", null, GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed);
+        executeRecorder(executor, "second", null, GovernanceServiceExecutor.REQUEST_PRIORITY, runOrder, completed);
+
+        assertEquals(executor.shutdown(), 2);
+        assertTrue(runOrder.isEmpty());
+    }
+
+
+    /**
+     * Return an executor for the test.
+     *
+     * @param maxConcurrentServices number of governance services that run at the same time
+     * @param maxQueuedServices number of governance services that can be queued
+     * @param shutdownWaitTime seconds to wait for the queued governance services at shutdown
+     * @return executor
+     */
+    private GovernanceServiceExecutor getExecutor(int  maxConcurrentServices,
+                                                  int  maxQueuedServices,
+                                                  long shutdownWaitTime)
+    {
+        Map<String, Object> engineServiceOptions = new HashMap<>();
+
+        engineServiceOptions.put(GovernanceServiceExecutor.MAX_CONCURRENT_SERVICES_OPTION, maxConcurrentServices);
+        engineServiceOptions.put(GovernanceServiceExecutor.MAX_QUEUED_SERVICES_OPTION, maxQueuedServices);
+        engineServiceOptions.put(GovernanceServiceExecutor.SHUTDOWN_WAIT_TIME_OPTION, shutdownWaitTime);
+
+        AuditLogDestination destination = new AuditLogDestination(null)
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                auditLogRecords.add(logRecord);
+            }
+        };
+
+        return new GovernanceServiceExecutor(governanceEngineName,
+                                             serverName,
+                                             new AuditLog(destination, 0, "GovernanceServiceExecutorTest", "Test", null),
+                                             engineServiceOptions);
+    }
+
+
+    /**
+     * Run a governance service that holds the executor's thread until it is released or interrupted.
+     *
+     * @param executor executor under test
+     * @param started counted down when the governance service is running
+     * @param release counted down to let the governance service finish
+     */
+    private void executeBlocker(GovernanceServiceExecutor executor,
+                                CountDownLatch            started,
+                                CountDownLatch            release)
+    {
+        executor.execute(() ->
+                         {
+                             started.countDown();
+
+                             try
+                             {
+                                 release.await(waitTime, TimeUnit.SECONDS);
+                             }
+                             catch (InterruptedException error)
+                             {
+                                 Thread.currentThread().interrupt();
+                             }
+                         },
+                         governanceServiceName,
+                         requestType,
+                         "blocker",
+                         null,
+                         GovernanceServiceExecutor.REQUEST_PRIORITY);
+    }
+
+
+    /**
+     * Run a governance service that records that it has run.
+     *
+     * @param executor executor under test
+     * @param name name recorded when the governance service runs
+     * @param startTime time that the governance service should start - null means now
+     * @param priority priority of the request
+     * @param runOrder list of the governance services that have run
+     * @param completed counted down when the governance service has run
+     */
+    private void executeRecorder(GovernanceServiceExecutor executor,
+                                 String                    name,
+                                 Date                      startTime,
+                                 int                       priority,
+                                 List<String>              runOrder,
+                                 CountDownLatch            completed)
+    {
+        executor.execute(() ->
+                         {
+                             runOrder.add(name);
+                             completed.countDown();
+                         },
+                         governanceServiceName,
+                         requestType,
+                         name,
+                         startTime,
+                         priority);
+    }
+}
@@ -62,7 +62,10 @@ public class GovernanceEngineOutTopicListener extends GovernanceEngineEventListe
                 {
                     try
                     {
-                        governanceEngineHandler.refreshServiceConfig(governanceServiceEvent.getRegisteredGovernanceServiceGUID());
+                        governanceEngineHandler.refreshServiceConfig(governanceServiceEvent.getRegisteredGovernanceServiceGUID(),
+                                                                     governanceServiceEvent.getRegistrationGUID(),
+                                                                     governanceServiceEvent.getRequestType(),
+                                                                     governanceServiceEvent.getConfigurationVersion());
                     }
                     catch (Exception error)
                     {
@@ -86,7 +89,8 @@ public class GovernanceEngineOutTopicListener extends GovernanceEngineEventListe
                 {
                     try
                     {
-                        governanceEngineHandler.refreshConfig();
+                        governanceEngineHandler.refreshConfig(governanceEngineEvent.getGovernanceEngineGUID(),
+                                                              governanceEngineEvent.getConfigurationVersion());
                     }
                     catch (Exception error)
                     {
@@ -238,6 +238,18 @@ public class EngineHostInstance extends GovernanceServerServiceInstance
     {
         if ((governanceEngineHandlers != null) && (! governanceEngineHandlers.isEmpty()))
         {
+            /*
+             * All the engines stop taking new work first so the wait for their governance services to finish
+             * runs at the same time for every engine rather than one engine after another.
+             */
+            for (GovernanceEngineHandler handler : governanceEngineHandlers.values())
+            {
+                if (handler != null)
+                {
+                    handler.startTermination();
+                }
+            }
+
             for (GovernanceEngineHandler handler : governanceEngineHandlers.values())
             {
                 if (handler != null)
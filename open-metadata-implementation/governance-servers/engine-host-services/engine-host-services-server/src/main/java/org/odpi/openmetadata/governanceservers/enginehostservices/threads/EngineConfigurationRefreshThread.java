@@ -20,11 +20,16 @@ import java.util.Map;
 
 /**
  * EngineConfigurationRefreshThread is the class responsible for establishing the listener for configuration
- * updates.  It runs as a separate thread until the listener is registered with the Governance Engine OMAS.
+ * updates.  It runs as a separate thread until the listener is registered with the Governance Engine OMAS
+ * and the initial configuration of each governance engine has been retrieved.
  * At that point, the listener is able to process incoming configuration updates and this thread can end.
+ * Failed requests are retried after a wait that starts short and doubles with each failure.
  */
 public class EngineConfigurationRefreshThread implements Runnable
 {
+    private static final long minimumRetryWait = 5000;     /* 5 seconds */
+    private static final long maximumRetryWait = 300000;   /* 5 minutes */
+
     private Map<String, GovernanceEngineHandler> engineHandlers;
     private GovernanceEngineConfigurationClient  configurationClient;
     private GovernanceEngineEventClient          eventClient;
@@ -35,6 +40,7 @@ public class EngineConfigurationRefreshThread implements Runnable
     private String                               accessServiceRootURL;
 
     private volatile boolean                     keepTrying = true;
+    private long                                 retryWait  = minimumRetryWait;
 
     private static final Logger log = LoggerFactory.getLogger(EngineConfigurationRefreshThread.class);
 
@@ -100,6 +106,7 @@ public class EngineConfigurationRefreshThread implements Runnable
                 {
                     eventClient.registerListener(localServerUserId, new GovernanceEngineOutTopicListener(engineHandlers, auditLog));
                     listenerRegistered = true;
+                    retryWait = minimumRetryWait;
 
                     auditLog.logMessage(actionDescription,
                                         EngineHostServicesAuditCode.CONFIGURATION_LISTENER_REGISTERED.getMessageDefinition(localServerName,
@@ -162,24 +169,27 @@ public class EngineConfigurationRefreshThread implements Runnable
 
                 configToRetrieve = configFailed;
 
-                waitToRetry();
+                if (! configToRetrieve.isEmpty())
+                {
+                    waitToRetry();
+                }
             }
         }
     }
 
 
     /**
-     * Wait before retrying ...
+     * Wait before retrying ... each wait is twice as long as the last, up to the maximum.
      */
     private void waitToRetry()
     {
-        final int  sleepTime = 2000000;
-
         if (keepTrying)
         {
             try
             {
-                Thread.sleep(sleepTime);
+                Thread.sleep(retryWait);
+
+                retryWait = Math.min(retryWait * 2, maximumRetryWait);
             }
             catch (Exception error)
             {
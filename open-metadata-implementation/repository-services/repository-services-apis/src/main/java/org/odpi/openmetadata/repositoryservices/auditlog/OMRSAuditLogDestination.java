@@ -9,23 +9,45 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecordOriginator;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogReportingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
 /**
  * OMRSAuditLogDestination provides information needed to log records to the configured audit log destinations
- * for a specific server instance.
+ * for a specific server instance.  By default, each audit log store has its own buffer and dispatcher thread so
+ * the thread that logs a record does not wait for the store to write it.  The size of the buffer and the
+ * severities that are never dropped when the buffer is full are set in the configuration properties of the
+ * audit log store's connection.  The synchronous mode writes every record on the caller's thread, which is
+ * useful for tests.
  */
 public class OMRSAuditLogDestination extends AuditLogDestination
 {
-    private final OMRSAuditLogRecordOriginator omrsOriginator = new OMRSAuditLogRecordOriginator();
-    private       List<OMRSAuditLogStore>      auditLogStores = null;
+    /**
+     * Number of log records that may wait for an audit log store when its connection does not set a buffer size.
+     */
+    public static final int          defaultDispatchBufferSize = 1024;
+
+    /**
+     * Severities of the log records that are written on the caller's thread rather than dropped when the buffer
+     * of an audit log store is full, when its connection does not set them.
+     */
+    public static final List<String> defaultRetainedSeverities = Arrays.asList(OMRSAuditLogRecordSeverity.ACTION.getName(),
+                                                                               OMRSAuditLogRecordSeverity.ERROR.getName(),
+                                                                               OMRSAuditLogRecordSeverity.EXCEPTION.getName(),
+                                                                               OMRSAuditLogRecordSeverity.SECURITY.getName());
+
+    private static final long        shutdownWaitTime          = 5000;
+
+    private final OMRSAuditLogRecordOriginator      omrsOriginator       = new OMRSAuditLogRecordOriginator();
+    private       List<OMRSAuditLogStoreDispatcher> auditLogDispatchers  = null;
 
     private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogDestination.class);
 
@@ -43,6 +65,26 @@ public class OMRSAuditLogDestination extends AuditLogDestination
                                    String                  localServerType,
                                    String                  localOrganizationName,
                                    List<OMRSAuditLogStore> auditLogStores)
+    {
+        this(localServerName, localServerType, localOrganizationName, auditLogStores, false);
+    }
+
+
+    /**
+     * Initialize the static values used in all log records.  These values help to pin-point the source of messages
+     * when audit log records from many servers are consolidated into centralized operational tooling.
+     *
+     * @param localServerName name of the local server
+     * @param localServerType type of the local server
+     * @param localOrganizationName name of the organization that owns the local server
+     * @param auditLogStores list of destinations for the audit log records
+     * @param synchronousDispatch write every log record to the stores on the thread that logs it
+     */
+    public OMRSAuditLogDestination(String                  localServerName,
+                                   String                  localServerType,
+                                   String                  localOrganizationName,
+                                   List<OMRSAuditLogStore> auditLogStores,
+                                   boolean                 synchronousDispatch)
     {
         super();
 
@@ -66,7 +108,41 @@ public class OMRSAuditLogDestination extends AuditLogDestination
 
         if (auditLogStores != null)
         {
-            this.auditLogStores = new ArrayList<>(auditLogStores);
+            this.auditLogDispatchers = new ArrayList<>();
+
+            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            {
+                if (auditLogStore != null)
+                {
+                    int          dispatchBufferSize = defaultDispatchBufferSize;
+                    List<String> retainedSeverities = defaultRetainedSeverities;
+
+                    if (auditLogStore instanceof OMRSAuditLogStoreConnectorBase)
+                    {
+                        OMRSAuditLogStoreConnectorBase auditLogStoreConnector = (OMRSAuditLogStoreConnectorBase)auditLogStore;
+
+                        if (auditLogStoreConnector.getDispatchBufferSize() != null)
+                        {
+                            dispatchBufferSize = auditLogStoreConnector.getDispatchBufferSize();
+                        }
+
+                        if (auditLogStoreConnector.getRetainedSeverities() != null)
+                        {
+                            retainedSeverities = auditLogStoreConnector.getRetainedSeverities();
+                        }
+                    }
+
+                    if (synchronousDispatch)
+                    {
+                        dispatchBufferSize = 0;
+                    }
+
+                    this.auditLogDispatchers.add(new OMRSAuditLogStoreDispatcher(auditLogStore,
+                                                                                 dispatchBufferSize,
+                                                                                 retainedSeverities,
+                                                                                 "OMRSAuditLog-" + localServerName + "-" + auditLogStore.getDestinationName()));
+                }
+            }
         }
     }
 
@@ -114,26 +190,34 @@ public class OMRSAuditLogDestination extends AuditLogDestination
      */
     void addLogRecord(OMRSAuditLogRecord logRecord)
     {
-        if (auditLogStores != null)
+        if (auditLogDispatchers != null)
         {
-            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            for (OMRSAuditLogStoreDispatcher auditLogDispatcher : auditLogDispatchers)
             {
-                if (auditLogStore != null)
-                {
-                    try
-                    {
-                        auditLogStore.storeLogRecord(new OMRSAuditLogRecord(logRecord));
-                    }
-                    catch (Throwable error)
-                    {
-                        log.error("Error: " + error + " writing audit log: " + logRecord + " to destination " + auditLogStore.getClass().getName());
-                    }
-                }
+                auditLogDispatcher.dispatch(new OMRSAuditLogRecord(logRecord));
             }
         }
     }
 
 
+    /**
+     * Stop the dispatcher threads once the log records waiting for the audit log stores have been written.
+     * Log records added after this call are written on the caller's thread.
+     */
+    public void shutdown()
+    {
+        if (auditLogDispatchers != null)
+        {
+            for (OMRSAuditLogStoreDispatcher auditLogDispatcher : auditLogDispatchers)
+            {
+                auditLogDispatcher.shutdown(shutdownWaitTime);
+            }
+        }
+
+        log.debug("Audit log destination shutdown");
+    }
+
+
     /**
      * Return information about the audit log stores configured for this server.
      *
@@ -143,24 +227,28 @@ public class OMRSAuditLogDestination extends AuditLogDestination
     {
         OMRSAuditLogDestinationsReport report = null;
 
-        if (auditLogStores != null)
+        if (auditLogDispatchers != null)
         {
             report = new OMRSAuditLogDestinationsReport();
 
             List<OMRSAuditLogStoreReport>  storeReportList = new ArrayList<>();
 
-            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            for (OMRSAuditLogStoreDispatcher auditLogDispatcher : auditLogDispatchers)
             {
-                if (auditLogStore != null)
-                {
-                    OMRSAuditLogStoreReport auditLogStoreReport = new OMRSAuditLogStoreReport();
+                OMRSAuditLogStore       auditLogStore       = auditLogDispatcher.getAuditLogStore();
+                OMRSAuditLogStoreReport auditLogStoreReport = new OMRSAuditLogStoreReport();
 
-                    auditLogStoreReport.setDestinationName(auditLogStore.getDestinationName());
-                    auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
-                    auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
+                auditLogStoreReport.setDestinationName(auditLogStore.getDestinationName());
+                auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
+                auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
+                auditLogStoreReport.setDispatchBufferSize(auditLogDispatcher.getDispatchBufferSize());
+                auditLogStoreReport.setPendingRecordCount(auditLogDispatcher.getPendingRecordCount());
+                auditLogStoreReport.setStoredRecordCount(auditLogDispatcher.getStoredRecordCount());
+                auditLogStoreReport.setDroppedRecordCount(auditLogDispatcher.getDroppedRecordCount());
+                auditLogStoreReport.setFailedRecordCount(auditLogDispatcher.getFailedRecordCount());
+                auditLogStoreReport.setAverageStoreTime(auditLogDispatcher.getAverageStoreTime());
 
-                    storeReportList.add(auditLogStoreReport);
-                }
+                storeReportList.add(auditLogStoreReport);
             }
 
             if (! storeReportList.isEmpty())
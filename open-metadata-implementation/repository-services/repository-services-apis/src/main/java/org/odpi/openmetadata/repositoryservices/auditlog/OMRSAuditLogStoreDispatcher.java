@@ -0,0 +1,283 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OMRSAuditLogStoreDispatcher passes log records to a single audit log store.  When it has a buffer, the log records
+ * are queued by the thread that logs them and written to the store by a dispatcher thread, so the caller
+ * does not wait for the I/O of the store.  When the buffer is full, log records with one of the retained severities
+ * are written on the caller's thread and the others are dropped and counted.  Without a buffer, every log record
+ * is written on the caller's thread.
+ */
+class OMRSAuditLogStoreDispatcher implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogStoreDispatcher.class);
+
+    private static final long   pollWaitTime = 1000;
+
+    private final OMRSAuditLogStore                 auditLogStore;
+    private final BlockingQueue<OMRSAuditLogRecord> dispatchBuffer;
+    private final int                               dispatchBufferSize;
+    private final List<String>                      retainedSeverities;
+    private final Thread                            dispatcherThread;
+
+    private final AtomicLong storedRecordCount  = new AtomicLong(0);
+    private final AtomicLong droppedRecordCount = new AtomicLong(0);
+    private final AtomicLong failedRecordCount  = new AtomicLong(0);
+    private final AtomicLong totalStoreTime     = new AtomicLong(0);
+
+    private volatile boolean running = true;
+
+
+    /**
+     * Set up the dispatcher for an audit log store and start its dispatcher thread if it has a buffer.
+     *
+     * @param auditLogStore destination for the log records
+     * @param dispatchBufferSize number of log records that may wait for the store - zero means no buffer
+     * @param retainedSeverities severities of the log records that are not dropped when the buffer is full
+     * @param threadName name of the dispatcher thread
+     */
+    OMRSAuditLogStoreDispatcher(OMRSAuditLogStore auditLogStore,
+                                int               dispatchBufferSize,
+                                List<String>      retainedSeverities,
+                                String            threadName)
+    {
+        this.auditLogStore      = auditLogStore;
+        this.dispatchBufferSize = Math.max(dispatchBufferSize, 0);
+        this.retainedSeverities = retainedSeverities == null ? new ArrayList<>() : new ArrayList<>(retainedSeverities);
+
+        if (this.dispatchBufferSize > 0)
+        {
+            this.dispatchBuffer   = new ArrayBlockingQueue<>(this.dispatchBufferSize);
+            this.dispatcherThread = new Thread(this, threadName);
+            this.dispatcherThread.setDaemon(true);
+            this.dispatcherThread.start();
+        }
+        else
+        {
+            this.dispatchBuffer   = null;
+            this.dispatcherThread = null;
+        }
+    }
+
+
+    /**
+     * Return the store that this dispatcher writes to.
+     *
+     * @return audit log store
+     */
+    OMRSAuditLogStore getAuditLogStore()
+    {
+        return auditLogStore;
+    }
+
+
+    /**
+     * Pass a log record to the store.  The log record is written on the caller's thread if there is no buffer,
+     * if the dispatcher has stopped or if the caller is the dispatcher thread itself (a store that logs
+     * its own errors would otherwise wait for itself).
+     *
+     * @param logRecord log record to store
+     */
+    void dispatch(OMRSAuditLogRecord logRecord)
+    {
+        if ((dispatchBuffer == null) || (! running) || (Thread.currentThread() == dispatcherThread))
+        {
+            storeLogRecord(logRecord);
+        }
+        else if (! dispatchBuffer.offer(logRecord))
+        {
+            if (retainedSeverities.contains(logRecord.getSeverity()))
+            {
+                storeLogRecord(logRecord);
+            }
+            else
+            {
+                droppedRecordCount.incrementAndGet();
+            }
+        }
+    }
+
+
+    /**
+     * Write the queued log records to the store until the dispatcher is stopped.
+     */
+    @Override
+    public void run()
+    {
+        while (running)
+        {
+            try
+            {
+                OMRSAuditLogRecord logRecord = dispatchBuffer.poll(pollWaitTime, TimeUnit.MILLISECONDS);
+
+                if (logRecord != null)
+                {
+                    storeLogRecord(logRecord);
+                }
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Audit log dispatcher for {} interrupted", auditLogStore.getDestinationName());
+            }
+        }
+
+        drain();
+    }
+
+
+    /**
+     * Stop the dispatcher thread.  The log records still queued are written to the store before the thread ends,
+     * for up to the supplied wait time.
+     *
+     * @param waitTime maximum number of milliseconds to wait for the queued log records
+     */
+    void shutdown(long waitTime)
+    {
+        running = false;
+
+        if (dispatcherThread != null)
+        {
+            try
+            {
+                dispatcherThread.join(waitTime);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            /*
+             * Pick up log records queued while the dispatcher thread was finishing.
+             */
+            if (! dispatcherThread.isAlive())
+            {
+                drain();
+            }
+        }
+    }
+
+
+    /**
+     * Write the log record to the store, recording the time it took or the failure.
+     *
+     * @param logRecord log record to store
+     */
+    private void storeLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        long startTime = System.nanoTime();
+
+        try
+        {
+            auditLogStore.storeLogRecord(logRecord);
+            storedRecordCount.incrementAndGet();
+        }
+        catch (Throwable error)
+        {
+            failedRecordCount.incrementAndGet();
+            log.error("Error: " + error + " writing audit log: " + logRecord + " to destination " + auditLogStore.getClass().getName());
+        }
+
+        totalStoreTime.addAndGet(System.nanoTime() - startTime);
+    }
+
+
+    /**
+     * Write any log records left in the buffer once the dispatcher has stopped.
+     */
+    private void drain()
+    {
+        OMRSAuditLogRecord logRecord = dispatchBuffer.poll();
+
+        while (logRecord != null)
+        {
+            storeLogRecord(logRecord);
+            logRecord = dispatchBuffer.poll();
+        }
+    }
+
+
+    /**
+     * Return the number of log records that may wait for the store.
+     *
+     * @return buffer size - zero means log records are written on the caller's thread
+     */
+    int getDispatchBufferSize()
+    {
+        return dispatchBufferSize;
+    }
+
+
+    /**
+     * Return the number of log records waiting for the store.
+     *
+     * @return count
+     */
+    int getPendingRecordCount()
+    {
+        return dispatchBuffer == null ? 0 : dispatchBuffer.size();
+    }
+
+
+    /**
+     * Return the number of log records written to the store.
+     *
+     * @return count
+     */
+    long getStoredRecordCount()
+    {
+        return storedRecordCount.get();
+    }
+
+
+    /**
+     * Return the number of log records dropped because the buffer was full.
+     *
+     * @return count
+     */
+    long getDroppedRecordCount()
+    {
+        return droppedRecordCount.get();
+    }
+
+
+    /**
+     * Return the number of log records that the store failed to write.
+     *
+     * @return count
+     */
+    long getFailedRecordCount()
+    {
+        return failedRecordCount.get();
+    }
+
+
+    /**
+     * Return the average time the store takes to write a log record.
+     *
+     * @return time in microseconds
+     */
+    long getAverageStoreTime()
+    {
+        long recordCount = storedRecordCount.get() + failedRecordCount.get();
+
+        if (recordCount == 0)
+        {
+            return 0;
+        }
+
+        return TimeUnit.NANOSECONDS.toMicros(totalStoreTime.get()) / recordCount;
+    }
+}
@@ -28,6 +28,12 @@ public class OMRSAuditLogStoreReport implements Serializable
     private String       destinationName     = null;
     private List<String> supportedSeverities = null;
     private String       implementationClass = null;
+    private int          dispatchBufferSize  = 0;
+    private int          pendingRecordCount  = 0;
+    private long         storedRecordCount   = 0;
+    private long         droppedRecordCount  = 0;
+    private long         failedRecordCount   = 0;
+    private long         averageStoreTime    = 0;
 
 
     /**
@@ -49,6 +55,12 @@ public class OMRSAuditLogStoreReport implements Serializable
         {
             destinationName = template.getDestinationName();
             supportedSeverities = template.getSupportedSeverities();
+            dispatchBufferSize = template.getDispatchBufferSize();
+            pendingRecordCount = template.getPendingRecordCount();
+            storedRecordCount = template.getStoredRecordCount();
+            droppedRecordCount = template.getDroppedRecordCount();
+            failedRecordCount = template.getFailedRecordCount();
+            averageStoreTime = template.getAverageStoreTime();
         }
     }
 
@@ -128,6 +140,140 @@ public class OMRSAuditLogStoreReport implements Serializable
     }
 
 
+    /**
+     * Return the number of log records that may wait to be written to this audit log store.  Zero means log
+     * records are written on the thread that logs them.
+     *
+     * @return buffer size
+     */
+    public int getDispatchBufferSize()
+    {
+        return dispatchBufferSize;
+    }
+
+
+    /**
+     * Set up the number of log records that may wait to be written to this audit log store.  Zero means log
+     * records are written on the thread that logs them.
+     *
+     * @param dispatchBufferSize buffer size
+     */
+    public void setDispatchBufferSize(int dispatchBufferSize)
+    {
+        this.dispatchBufferSize = dispatchBufferSize;
+    }
+
+
+    /**
+     * Return the number of log records waiting to be written to this audit log store.
+     *
+     * @return count
+     */
+    public int getPendingRecordCount()
+    {
+        return pendingRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records waiting to be written to this audit log store.
+     *
+     * @param pendingRecordCount count
+     */
+    public void setPendingRecordCount(int pendingRecordCount)
+    {
+        this.pendingRecordCount = pendingRecordCount;
+    }
+
+
+    /**
+     * Return the number of log records written to this audit log store.
+     *
+     * @return count
+     */
+    public long getStoredRecordCount()
+    {
+        return storedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records written to this audit log store.
+     *
+     * @param storedRecordCount count
+     */
+    public void setStoredRecordCount(long storedRecordCount)
+    {
+        this.storedRecordCount = storedRecordCount;
+    }
+
+
+    /**
+     * Return the number of log records dropped because the buffer of this audit log store was full.
+     *
+     * @return count
+     */
+    public long getDroppedRecordCount()
+    {
+        return droppedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records dropped because the buffer of this audit log store was full.
+     *
+     * @param droppedRecordCount count
+     */
+    public void setDroppedRecordCount(long droppedRecordCount)
+    {
+        this.droppedRecordCount = droppedRecordCount;
+    }
+
+
+    /**
+     * Return the number of log records that this audit log store failed to write.
+     *
+     * @return count
+     */
+    public long getFailedRecordCount()
+    {
+        return failedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records that this audit log store failed to write.
+     *
+     * @param failedRecordCount count
+     */
+    public void setFailedRecordCount(long failedRecordCount)
+    {
+        this.failedRecordCount = failedRecordCount;
+    }
+
+
+    /**
+     * Return the average time this audit log store takes to write a log record.
+     *
+     * @return time in microseconds
+     */
+    public long getAverageStoreTime()
+    {
+        return averageStoreTime;
+    }
+
+
+    /**
+     * Set up the average time this audit log store takes to write a log record.
+     *
+     * @param averageStoreTime time in microseconds
+     */
+    public void setAverageStoreTime(long averageStoreTime)
+    {
+        this.averageStoreTime = averageStoreTime;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -140,6 +286,12 @@ public class OMRSAuditLogStoreReport implements Serializable
                 "destinationName='" + destinationName + '\'' +
                 ", supportedSeverities=" + supportedSeverities +
                 ", implementationClass='" + implementationClass + '\'' +
+                ", dispatchBufferSize=" + dispatchBufferSize +
+                ", pendingRecordCount=" + pendingRecordCount +
+                ", storedRecordCount=" + storedRecordCount +
+                ", droppedRecordCount=" + droppedRecordCount +
+                ", failedRecordCount=" + failedRecordCount +
+                ", averageStoreTime=" + averageStoreTime +
                 '}';
     }
 
@@ -162,7 +314,13 @@ public class OMRSAuditLogStoreReport implements Serializable
             return false;
         }
         OMRSAuditLogStoreReport that = (OMRSAuditLogStoreReport) objectToCompare;
-        return Objects.equals(destinationName, that.destinationName) &&
+        return dispatchBufferSize == that.dispatchBufferSize &&
+                pendingRecordCount == that.pendingRecordCount &&
+                storedRecordCount == that.storedRecordCount &&
+                droppedRecordCount == that.droppedRecordCount &&
+                failedRecordCount == that.failedRecordCount &&
+                averageStoreTime == that.averageStoreTime &&
+                Objects.equals(destinationName, that.destinationName) &&
                 Objects.equals(supportedSeverities, that.supportedSeverities) &&
                 Objects.equals(implementationClass, that.implementationClass);
     }
@@ -176,6 +334,7 @@ public class OMRSAuditLogStoreReport implements Serializable
     @Override
     public int hashCode()
     {
-        return Objects.hash(destinationName, supportedSeverities, implementationClass);
+        return Objects.hash(destinationName, supportedSeverities, implementationClass, dispatchBufferSize, pendingRecordCount,
+                            storedRecordCount, droppedRecordCount, failedRecordCount, averageStoreTime);
     }
 }
@@ -43,6 +43,23 @@ public interface OMRSTopic
                           String            serviceName);
 
 
+    /**
+     * Register a listener object.  This object will be supplied with the registry and TypeDef events
+     * received on the topic and the instance events that match the filter.  Implementations that do not
+     * support filtering register the listener for all events.
+     *
+     * @param newListener object implementing the OMRSTopicListener interface
+     * @param serviceName name of service that the listener is from
+     * @param filter description of the instance events that the listener wants to receive (null means all events)
+     */
+    default void registerListener(OMRSTopicListener       newListener,
+                                  String                  serviceName,
+                                  OMRSTopicListenerFilter filter)
+    {
+        registerListener(newListener, serviceName);
+    }
+
+
     /**
      * Sends the supplied event to the topic.
      *
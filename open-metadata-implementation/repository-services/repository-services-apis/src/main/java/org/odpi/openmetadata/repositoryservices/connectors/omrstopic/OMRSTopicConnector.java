@@ -13,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
@@ -26,6 +27,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -61,11 +68,22 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 {
     private static final Logger       log      = LoggerFactory.getLogger(OMRSTopicConnector.class);
 
+    private static final int          maxDispatchThreads = 8;
+
     private List<Connector> embeddedConnectors = null;
 
-    private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
+    /*
+     * Listeners may be registered concurrently by the access services while the server is starting.
+     */
+    private List<OMRSTopicListenerWrapper>   internalTopicListeners = new CopyOnWriteArrayList<>();
     private List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
 
+    /*
+     * When an event is of interest to more than one listener, the listeners are called in parallel
+     * on the threads of the dispatch pool.  It is created when the connector starts.
+     */
+    private volatile ExecutorService         dispatchPool           = null;
+
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = "<Unknown>";
     private OMRSEventProtocolVersion  eventProtocolVersion = OMRSEventProtocolVersion.V1;
@@ -176,6 +194,38 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Register a listener object.  This object will be supplied with the registry and TypeDef events
+     * received on the topic and the instance events that match the filter.  The instance events that
+     * do not match the filter are not passed to the listener.
+     *
+     * @param topicListener object implementing the OMRSTopicListener interface
+     * @param serviceName name of the service that the listener is from
+     * @param filter description of the instance events that the listener wants to receive (null means all events)
+     */
+    @Override
+    public void registerListener(OMRSTopicListener       topicListener,
+                                 String                  serviceName,
+                                 OMRSTopicListenerFilter filter)
+    {
+        if (topicListener != null)
+        {
+            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
+                                                                    serviceName,
+                                                                    filter,
+                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+        }
+        else
+        {
+            final String            methodName = "registerListener";
+
+            throw new OMRSLogicErrorException(OMRSErrorCode.NULL_OPEN_METADATA_TOPIC_LISTENER.getMessageDefinition(connectionName),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      * OMRSTopicConnector needs to pass on the start() to its embedded connectors.
@@ -253,6 +303,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         }
         else
         {
+            dispatchPool = Executors.newFixedThreadPool(Math.min(maxDispatchThreads, Runtime.getRuntime().availableProcessors()),
+                                                        new DispatchThreadFactory(topicName));
+
             for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
             {
                 eventBusConnector.start();
@@ -299,7 +352,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
         {
-            this.sendEvent(registryEvent.getOMRSEventV1());
+            this.sendEvent(registryEvent.getOMRSEventV1(), null);
         }
         else
         {
@@ -321,7 +374,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
         {
-            this.sendEvent(typeDefEvent.getOMRSEventV1());
+            this.sendEvent(typeDefEvent.getOMRSEventV1(), null);
         }
         else
         {
@@ -344,7 +397,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
         {
-            this.sendEvent(instanceEvent.getOMRSEventV1());
+            this.sendEvent(instanceEvent.getOMRSEventV1(), instanceEvent.getInstanceGUID());
         }
         else
         {
@@ -356,10 +409,15 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     /**
      * Sends the supplied event outbound to the OMRSTopicListeners using the event bus connectors.
      *
+     * Instance events are keyed by the unique identifier of the instance so that the events for an instance
+     * stay in order while the events for different instances are spread across the partitions of the topic.
+     *
      * @param event OMRSEvent object containing the event properties.
+     * @param partitionKey key used to choose the partition for the event, or null to use the default partitioning.
      * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
      */
-    private void sendEvent(OMRSEventV1 event) throws ConnectorCheckedException
+    private void sendEvent(OMRSEventV1 event,
+                           String      partitionKey) throws ConnectorCheckedException
     {
         final String methodName = "send";
 
@@ -373,7 +431,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                 {
                     if (eventBusConnector != null)
                     {
-                        eventBusConnector.sendEvent(objectMapper.writeValueAsString(event));
+                        eventBusConnector.sendEvent(objectMapper.writeValueAsString(event), partitionKey);
                     }
                 }
             }
@@ -416,7 +474,6 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     public void processEvent(String event)
     {
         final String actionDescription = "Process an OMRS Event";
-        final String methodName = "processEvent";
 
         if (event != null)
         {
@@ -443,32 +500,22 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
 
             /*
-             * If the event bean is successfully created then pass it on to the registered listeners.
+             * If the event bean is successfully created then pass it on to the registered listeners
+             * that are interested in it.
              */
             if (eventBean instanceof OMRSEventV1)
             {
-                OMRSEventBean finalEventBean = eventBean;
-                internalTopicListeners.parallelStream().forEach((topicListener) ->
-                {
-                    try
-                    {
-                        this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
-                    }
-                    catch (Throwable  error)
-                    {
-                        log.debug("Unable to pass event to one of the topic listeners");
+                OMRSEventV1                    eventV1    = (OMRSEventV1) eventBean;
+                List<OMRSTopicListenerWrapper> recipients = this.getInterestedListeners(eventV1);
 
-                        if (auditLog != null)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
-                                                                                                            error.toString(),
-                                                                                                            topicListener.toString()),
-                                                  event,
-                                                  error);
-                        }
-                    }
-                });
+                if (recipients.size() == 1)
+                {
+                    this.dispatchOMRSEvent(eventV1, event, recipients.get(0));
+                }
+                else if (! recipients.isEmpty())
+                {
+                    this.dispatchOMRSEventInParallel(eventV1, event, recipients);
+                }
             }
         }
         else
@@ -483,6 +530,134 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the listeners that want to receive the event.  Instance events are passed to the listeners whose
+     * filter matches the event.  All other events are passed to all listeners.
+     *
+     * @param event Version 1 of the OMRSEvent that defines the category and payload of the incoming event.
+     * @return list of listeners
+     */
+    private List<OMRSTopicListenerWrapper> getInterestedListeners(OMRSEventV1 event)
+    {
+        if (event.getEventCategory() != OMRSEventCategory.INSTANCE)
+        {
+            return internalTopicListeners;
+        }
+
+        List<OMRSTopicListenerWrapper> interestedListeners = new ArrayList<>();
+        OMRSInstanceEvent              instanceEvent;
+
+        try
+        {
+            instanceEvent = new OMRSInstanceEvent(event);
+        }
+        catch (Throwable error)
+        {
+            /*
+             * The listeners are given the event so that the error is reported in the usual way.
+             */
+            return internalTopicListeners;
+        }
+
+        for (OMRSTopicListenerWrapper topicListener : internalTopicListeners)
+        {
+            if (topicListener.isInterestedIn(instanceEvent))
+            {
+                interestedListeners.add(topicListener);
+            }
+        }
+
+        if (log.isDebugEnabled() && (interestedListeners.size() < internalTopicListeners.size()))
+        {
+            log.debug("Instance event passed to " + interestedListeners.size() + " of " + internalTopicListeners.size() + " listeners");
+        }
+
+        return interestedListeners;
+    }
+
+
+    /**
+     * Pass the event to each of the listeners on the threads of the dispatch pool, and wait for them all to finish.
+     * Waiting means each listener receives the events in the order they were received from the topic.
+     *
+     * @param event Version 1 of the OMRSEvent that defines the category and payload of the incoming event.
+     * @param eventString event as received from the topic (for error logging)
+     * @param topicListeners listeners that will receive the event.
+     */
+    private void dispatchOMRSEventInParallel(OMRSEventV1                    event,
+                                             String                         eventString,
+                                             List<OMRSTopicListenerWrapper> topicListeners)
+    {
+        ExecutorService currentDispatchPool = dispatchPool;
+
+        if (currentDispatchPool == null)
+        {
+            for (OMRSTopicListenerWrapper topicListener : topicListeners)
+            {
+                this.dispatchOMRSEvent(event, eventString, topicListener);
+            }
+
+            return;
+        }
+
+        List<Callable<Void>> dispatchTasks = new ArrayList<>();
+
+        for (OMRSTopicListenerWrapper topicListener : topicListeners)
+        {
+            dispatchTasks.add(() ->
+                              {
+                                  this.dispatchOMRSEvent(event, eventString, topicListener);
+                                  return null;
+                              });
+        }
+
+        try
+        {
+            currentDispatchPool.invokeAll(dispatchTasks);
+        }
+        catch (InterruptedException error)
+        {
+            log.debug("Interrupted while waiting for the topic listeners to process an event");
+
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Pass the event to a listener, logging any error.
+     *
+     * @param event Version 1 of the OMRSEvent that defines the category and payload of the incoming event.
+     * @param eventString event as received from the topic (for error logging)
+     * @param topicListener listener that will receive the event.
+     */
+    private void dispatchOMRSEvent(OMRSEventV1              event,
+                                   String                   eventString,
+                                   OMRSTopicListenerWrapper topicListener)
+    {
+        final String methodName = "processEvent";
+
+        try
+        {
+            this.processOMRSEvent(event, topicListener);
+        }
+        catch (Throwable  error)
+        {
+            log.debug("Unable to pass event to one of the topic listeners");
+
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(eventString,
+                                                                                                error.toString(),
+                                                                                                topicListener.getServiceName()),
+                                      eventString,
+                                      error);
+            }
+        }
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
@@ -565,6 +740,12 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             eventBusConnector.disconnect();
         }
 
+        if (dispatchPool != null)
+        {
+            dispatchPool.shutdown();
+            dispatchPool = null;
+        }
+
         if (auditLog != null)
         {
             auditLog.logMessage(actionDescription,
@@ -572,4 +753,41 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                                 this.getConnection().toString());
         }
     }
+
+
+    /**
+     * DispatchThreadFactory creates the daemon threads for the dispatch pool.
+     */
+    private static class DispatchThreadFactory implements ThreadFactory
+    {
+        private final String        threadNamePrefix;
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+        /**
+         * Constructor
+         *
+         * @param topicName name of the topic (for thread names)
+         */
+        DispatchThreadFactory(String topicName)
+        {
+            this.threadNamePrefix = "OMRSTopicDispatch-" + topicName + "-";
+        }
+
+
+        /**
+         * Create a dispatch thread.
+         *
+         * @param runnable work for the thread
+         * @return new thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
 }
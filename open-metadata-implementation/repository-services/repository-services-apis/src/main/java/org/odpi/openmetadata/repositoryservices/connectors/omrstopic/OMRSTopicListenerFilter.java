@@ -0,0 +1,343 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OMRSTopicListenerFilter describes the instance events that a topic listener wants to receive.  It is passed
+ * to the OMRSTopicConnector when the listener registers, and the connector only passes the instance events
+ * that match the filter to the listener.  Registry and TypeDef events are always passed on.
+ * <p>
+ * The filter is made up of three optional parts.  A null value means that part of the filter matches every event.
+ * </p>
+ * <ul>
+ *     <li>
+ *         instanceTypeNames - the names of the entity and relationship types of interest.  An instance matches
+ *         if its type is one of these types or a subtype of one of them.
+ *     </li>
+ *     <li>
+ *         instanceEventTypes - the types of instance event of interest.
+ *     </li>
+ *     <li>
+ *         supportedZones - the zones of interest.  An entity with a zoneMembership property matches if it is
+ *         in at least one of these zones.  Entities without zones, and relationships, always match.
+ *     </li>
+ * </ul>
+ * <p>
+ * Whether a type is one of the types of interest is worked out the first time an instance of the type is seen
+ * and the answer is remembered, so each event is matched using set lookups.  The repository helper (if supplied)
+ * provides the type hierarchy, otherwise the super types listed in the instance's type are used.  If neither
+ * is available the event is passed to the listener so that it can make its own decision.
+ * </p>
+ */
+public class OMRSTopicListenerFilter
+{
+    private static final String zoneMembershipPropertyName = "zoneMembership";
+
+    private final String                     sourceName;
+    private final OMRSRepositoryHelper       repositoryHelper;
+    private final Set<String>                instanceTypeNames;
+    private final Set<OMRSInstanceEventType> instanceEventTypes;
+    private final Set<String>                supportedZones;
+
+    private final Map<String, Boolean>       matchingTypeNames = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor
+     *
+     * @param sourceName name of the service that owns the listener (used when calling the repository helper)
+     * @param repositoryHelper repository helper used to look up the type hierarchy (may be null)
+     * @param instanceTypeNames names of the types of interest (null means all types)
+     * @param instanceEventTypes types of instance event of interest (null means all events)
+     * @param supportedZones zones of interest (null means all zones)
+     */
+    public OMRSTopicListenerFilter(String                      sourceName,
+                                   OMRSRepositoryHelper        repositoryHelper,
+                                   List<String>                instanceTypeNames,
+                                   List<OMRSInstanceEventType> instanceEventTypes,
+                                   List<String>                supportedZones)
+    {
+        this.sourceName       = sourceName;
+        this.repositoryHelper = repositoryHelper;
+
+        this.instanceTypeNames  = (instanceTypeNames == null) ? null : new HashSet<>(instanceTypeNames);
+        this.instanceEventTypes = (instanceEventTypes == null) ? null :
+                                          (instanceEventTypes.isEmpty() ? EnumSet.noneOf(OMRSInstanceEventType.class) : EnumSet.copyOf(instanceEventTypes));
+        this.supportedZones     = ((supportedZones == null) || (supportedZones.isEmpty())) ? null : new HashSet<>(supportedZones);
+    }
+
+
+    /**
+     * Return whether the listener wants to receive the instance event.
+     *
+     * @param instanceEvent event received from the topic
+     * @return boolean flag
+     */
+    public boolean matches(OMRSInstanceEvent instanceEvent)
+    {
+        if (instanceEvent == null)
+        {
+            return false;
+        }
+
+        if ((instanceEventTypes != null) && (! instanceEventTypes.contains(instanceEvent.getInstanceEventType())))
+        {
+            return false;
+        }
+
+        if ((instanceTypeNames == null) && (supportedZones == null))
+        {
+            return true;
+        }
+
+        if (instanceEvent.getEntity() != null)
+        {
+            return matchesEntity(instanceEvent.getEntity());
+        }
+
+        if (instanceEvent.getRelationship() != null)
+        {
+            return matchesType(instanceEvent.getRelationship().getType());
+        }
+
+        if (instanceEvent.getInstanceBatch() != null)
+        {
+            return matchesBatch(instanceEvent.getInstanceBatch());
+        }
+
+        if (instanceEvent.getTypeDefName() != null)
+        {
+            return matchesTypeName(instanceEvent.getTypeDefName(), null);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return whether an entity is of a type of interest and in one of the zones of interest.
+     *
+     * @param entity entity from the event
+     * @return boolean flag
+     */
+    private boolean matchesEntity(EntityDetail entity)
+    {
+        return (matchesType(entity.getType()) && matchesZones(entity.getProperties()));
+    }
+
+
+    /**
+     * Return whether any of the instances in a batch event are of interest.
+     *
+     * @param instanceBatch instances from the event
+     * @return boolean flag
+     */
+    private boolean matchesBatch(InstanceGraph instanceBatch)
+    {
+        List<EntityDetail> entities = instanceBatch.getEntities();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                if ((entity != null) && (matchesEntity(entity)))
+                {
+                    return true;
+                }
+            }
+        }
+
+        List<Relationship> relationships = instanceBatch.getRelationships();
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                if ((relationship != null) && (matchesType(relationship.getType())))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return whether the type of an instance is one of the types of interest.
+     *
+     * @param instanceType type of the instance
+     * @return boolean flag
+     */
+    private boolean matchesType(InstanceType instanceType)
+    {
+        if (instanceTypeNames == null)
+        {
+            return true;
+        }
+
+        if ((instanceType == null) || (instanceType.getTypeDefName() == null))
+        {
+            return true;
+        }
+
+        /*
+         * The type of an instance lists all of its super types, so no super types means the type is at the top
+         * of its hierarchy.
+         */
+        List<TypeDefLink> superTypes = instanceType.getTypeDefSuperTypes();
+
+        return matchesTypeName(instanceType.getTypeDefName(), (superTypes == null) ? Collections.emptyList() : superTypes);
+    }
+
+
+    /**
+     * Return whether the named type is one of the types of interest, or a subtype of one of them.
+     * The answer is remembered if the type hierarchy is known.
+     *
+     * @param typeName name of the instance's type
+     * @param superTypes super types from the instance's type (null if the instance is not available)
+     * @return boolean flag
+     */
+    private boolean matchesTypeName(String            typeName,
+                                    List<TypeDefLink> superTypes)
+    {
+        if (instanceTypeNames == null)
+        {
+            return true;
+        }
+
+        Boolean knownResult = matchingTypeNames.get(typeName);
+
+        if (knownResult != null)
+        {
+            return knownResult;
+        }
+
+        Boolean result = null;
+
+        if (instanceTypeNames.contains(typeName))
+        {
+            result = true;
+        }
+        else if ((repositoryHelper != null) && (repositoryHelper.getTypeDefByName(sourceName, typeName) != null))
+        {
+            result = false;
+
+            for (String instanceTypeName : instanceTypeNames)
+            {
+                if (repositoryHelper.isTypeOf(sourceName, typeName, instanceTypeName))
+                {
+                    result = true;
+                    break;
+                }
+            }
+        }
+        else if (superTypes != null)
+        {
+            result = false;
+
+            for (TypeDefLink superType : superTypes)
+            {
+                if ((superType != null) && (instanceTypeNames.contains(superType.getName())))
+                {
+                    result = true;
+                    break;
+                }
+            }
+        }
+
+        if (result == null)
+        {
+            /*
+             * The type is not known so let the listener decide.  The result is not remembered because
+             * the type may be known by the time the next event arrives.
+             */
+            return true;
+        }
+
+        matchingTypeNames.put(typeName, result);
+
+        return result;
+    }
+
+
+    /**
+     * Return whether an entity's zones include one of the zones of interest.  An entity without zones
+     * is visible in every zone.
+     *
+     * @param properties properties of the entity
+     * @return boolean flag
+     */
+    private boolean matchesZones(InstanceProperties properties)
+    {
+        if ((supportedZones == null) || (properties == null))
+        {
+            return true;
+        }
+
+        InstancePropertyValue zoneMembership = properties.getPropertyValue(zoneMembershipPropertyName);
+
+        if (! (zoneMembership instanceof ArrayPropertyValue))
+        {
+            return true;
+        }
+
+        InstanceProperties zoneValues = ((ArrayPropertyValue) zoneMembership).getArrayValues();
+
+        if ((zoneValues == null) || (zoneValues.getPropertyCount() == 0))
+        {
+            return true;
+        }
+
+        for (InstancePropertyValue zoneValue : zoneValues.getInstanceProperties().values())
+        {
+            if ((zoneValue instanceof PrimitivePropertyValue) &&
+                (supportedZones.contains(String.valueOf(((PrimitivePropertyValue) zoneValue).getPrimitiveValue()))))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSTopicListenerFilter{" +
+                "sourceName='" + sourceName + '\'' +
+                ", instanceTypeNames=" + instanceTypeNames +
+                ", instanceEventTypes=" + instanceEventTypes +
+                ", supportedZones=" + supportedZones +
+                '}';
+    }
+}
@@ -15,15 +15,17 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
  * OMRSTopicConnector.  Its sole purpose is to catch exceptions from the real OMRSTopicListener and create
  * diagnostics.  The listeners are called in parallel with no mechanism for the connector to properly
  * manage errors from the listener so this wrapper has been installed.  If the real OMRSTopicListener
- * has been implemented properly then no errors should be handled by this wrapper class
+ * has been implemented properly then no errors should be handled by this wrapper class.
+ * It also holds the filter that the OMRSTopicConnector uses to decide which instance events to pass on.
  */
 public class OMRSTopicListenerWrapper implements OMRSTopicListener
 {
     private final String THREAD_NAME_DESCRIPTION = " OMRSTopicListener";
 
-    private OMRSTopicListener  realListener;
-    private AuditLog           auditLog;
-    private String             serviceName = "<Unknown Service>";
+    private OMRSTopicListener       realListener;
+    private AuditLog                auditLog;
+    private String                  serviceName = "<Unknown Service>";
+    private OMRSTopicListenerFilter filter      = null;
 
 
     /**
@@ -43,6 +45,25 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     }
 
 
+    /**
+     * Save the real listener, the filter for its instance events and other error handling information.
+     *
+     * @param realListener this is the topic listener that was registered.
+     * @param serviceName this is the name of the service that owns the topic listener.
+     * @param filter this describes the instance events that the listener wants to receive (null means all events).
+     * @param auditLog this is the log destination
+     */
+    OMRSTopicListenerWrapper(OMRSTopicListener       realListener,
+                             String                  serviceName,
+                             OMRSTopicListenerFilter filter,
+                             AuditLog                auditLog)
+    {
+        this(realListener, serviceName, auditLog);
+
+        this.filter = filter;
+    }
+
+
     /**
      * Save the real listener and other error handling information.
      *
@@ -58,6 +79,29 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     }
 
 
+    /**
+     * Return whether the real listener wants to receive an instance event.
+     *
+     * @param event inbound event
+     * @return boolean flag
+     */
+    boolean isInterestedIn(OMRSInstanceEvent event)
+    {
+        return (filter == null) || (filter.matches(event));
+    }
+
+
+    /**
+     * Return the name of the service that owns the real listener.
+     *
+     * @return service name
+     */
+    String getServiceName()
+    {
+        return serviceName;
+    }
+
+
     /**
      * Log an audit log message to record an unexpected exception.  We should never see this message.
      * It indicates a logic error in the service that threw the exception.
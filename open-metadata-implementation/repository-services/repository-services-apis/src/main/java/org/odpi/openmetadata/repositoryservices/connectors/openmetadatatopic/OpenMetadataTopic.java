@@ -29,4 +29,21 @@ public interface OpenMetadataTopic
      * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
      */
     void sendEvent(String event) throws ConnectorCheckedException;
+
+
+    /**
+     * Sends the supplied event to the topic with a partition key.  Event bus implementations that partition
+     * their topics use the key to choose the partition, so events with the same key are delivered in the order
+     * they are sent while events with different keys may be consumed in parallel.  Typically the key is the
+     * unique identifier of the instance that the event describes.  Implementations that do not partition their
+     * topics ignore the key.
+     *
+     * @param event  object containing the event properties.
+     * @param partitionKey key used to choose the partition for the event, or null to use the default partitioning.
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     */
+    default void sendEvent(String event, String partitionKey) throws ConnectorCheckedException
+    {
+        sendEvent(event);
+    }
 }
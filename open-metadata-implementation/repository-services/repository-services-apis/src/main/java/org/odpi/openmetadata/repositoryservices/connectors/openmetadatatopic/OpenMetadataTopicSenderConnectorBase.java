@@ -22,6 +22,22 @@ public class OpenMetadataTopicSenderConnectorBase extends OpenMetadataTopicConsu
      */
     protected void sendEvent(String event) throws InvalidParameterException,
                                                   ConnectorCheckedException
+    {
+        sendEvent(event, null);
+    }
+
+
+    /**
+     * Send the request to the embedded event bus connector(s) with a partition key.
+     *
+     * @param event event as a string
+     * @param partitionKey key used to choose the partition for the event, or null to use the default partitioning
+     * @throws InvalidParameterException the event is null
+     * @throws ConnectorCheckedException there is a problem with the embedded event bus connector(s)./
+     */
+    protected void sendEvent(String event,
+                             String partitionKey) throws InvalidParameterException,
+                                                         ConnectorCheckedException
     {
         final String methodName = "sendEvent";
 
@@ -42,7 +58,7 @@ public class OpenMetadataTopicSenderConnectorBase extends OpenMetadataTopicConsu
          */
         for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
         {
-            eventBusConnector.sendEvent(event);
+            eventBusConnector.sendEvent(event, partitionKey);
         }
     }
 }
@@ -0,0 +1,186 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+
+import java.util.List;
+
+/**
+ * OpenMetadataArchiveContentProcessor receives the content of an open metadata archive one element at a time.
+ * It allows an archive store connector to pass the content of a large archive to its consumer
+ * incrementally rather than as a single OpenMetadataArchive object.
+ * <p>
+ * The archive properties are always passed first.  They are followed by the type store (AttributeTypeDefs,
+ * then new TypeDefs, then TypeDef patches) and finally by the instance store (entities, relationships and
+ * classifications).
+ * </p>
+ */
+public interface OpenMetadataArchiveContentProcessor
+{
+    /**
+     * Process the header properties of the archive.  This is called once, before any other content.
+     *
+     * @param archiveProperties properties of the archive (may be null if the archive has no header)
+     */
+    void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties);
+
+
+    /**
+     * Process an AttributeTypeDef from the archive's type store.
+     *
+     * @param attributeTypeDef new attribute type definition
+     */
+    void processAttributeTypeDef(AttributeTypeDef attributeTypeDef);
+
+
+    /**
+     * Process a new TypeDef from the archive's type store.
+     *
+     * @param typeDef new type definition
+     */
+    void processTypeDef(TypeDef typeDef);
+
+
+    /**
+     * Process a patch to an existing TypeDef from the archive's type store.
+     *
+     * @param typeDefPatch patch
+     */
+    void processTypeDefPatch(TypeDefPatch typeDefPatch);
+
+
+    /**
+     * Process an entity from the archive's instance store.
+     *
+     * @param entity entity
+     */
+    void processEntity(EntityDetail entity);
+
+
+    /**
+     * Process a relationship from the archive's instance store.
+     *
+     * @param relationship relationship
+     */
+    void processRelationship(Relationship relationship);
+
+
+    /**
+     * Process a classification from the archive's instance store.
+     *
+     * @param classification classification and the entity it is attached to
+     */
+    void processClassification(ClassificationEntityExtension classification);
+
+
+    /**
+     * Pass the content of an archive held in memory to this processor in the standard order.
+     *
+     * @param archive archive to process
+     */
+    default void processArchive(OpenMetadataArchive archive)
+    {
+        if (archive == null)
+        {
+            return;
+        }
+
+        this.processArchiveProperties(archive.getArchiveProperties());
+        this.processTypeStore(archive.getArchiveTypeStore());
+        this.processInstanceStore(archive.getArchiveInstanceStore());
+    }
+
+
+    /**
+     * Pass the content of a type store held in memory to this processor in the standard order.
+     *
+     * @param typeStore type store to process
+     */
+    default void processTypeStore(OpenMetadataArchiveTypeStore typeStore)
+    {
+        if (typeStore == null)
+        {
+            return;
+        }
+
+        List<AttributeTypeDef> attributeTypeDefs = typeStore.getAttributeTypeDefs();
+        List<TypeDef>          newTypeDefs       = typeStore.getNewTypeDefs();
+        List<TypeDefPatch>     typeDefPatches    = typeStore.getTypeDefPatches();
+
+        if (attributeTypeDefs != null)
+        {
+            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+            {
+                this.processAttributeTypeDef(attributeTypeDef);
+            }
+        }
+
+        if (newTypeDefs != null)
+        {
+            for (TypeDef typeDef : newTypeDefs)
+            {
+                this.processTypeDef(typeDef);
+            }
+        }
+
+        if (typeDefPatches != null)
+        {
+            for (TypeDefPatch typeDefPatch : typeDefPatches)
+            {
+                this.processTypeDefPatch(typeDefPatch);
+            }
+        }
+    }
+
+
+    /**
+     * Pass the content of an instance store held in memory to this processor in the standard order.
+     *
+     * @param instanceStore instance store to process
+     */
+    default void processInstanceStore(OpenMetadataArchiveInstanceStore instanceStore)
+    {
+        if (instanceStore == null)
+        {
+            return;
+        }
+
+        List<EntityDetail>                  entities        = instanceStore.getEntities();
+        List<Relationship>                  relationships   = instanceStore.getRelationships();
+        List<ClassificationEntityExtension> classifications = instanceStore.getClassifications();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                this.processEntity(entity);
+            }
+        }
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                this.processRelationship(relationship);
+            }
+        }
+
+        if (classifications != null)
+        {
+            for (ClassificationEntityExtension classification : classifications)
+            {
+                this.processClassification(classification);
+            }
+        }
+    }
+}
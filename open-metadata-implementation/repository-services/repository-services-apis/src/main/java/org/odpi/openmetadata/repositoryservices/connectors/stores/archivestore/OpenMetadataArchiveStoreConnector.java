@@ -26,4 +26,17 @@ public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase im
     {
         this.auditLog = auditLog;
     }
+
+
+    /**
+     * Pass the contents of the archive to the supplied processor one element at a time.  The default
+     * implementation retrieves the whole archive through getArchiveContents().  Connectors for
+     * large archives override this method to read the content incrementally.
+     *
+     * @param contentProcessor receiver of the archive content
+     */
+    public void processArchiveContents(OpenMetadataArchiveContentProcessor contentProcessor)
+    {
+        contentProcessor.processArchive(this.getArchiveContents());
+    }
 }
@@ -32,6 +32,8 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
 
     private String        destinationName = "<Unknown";
     private List<String>  supportedSeverities = null;
+    private Integer       dispatchBufferSize  = null;
+    private List<String>  retainedSeverities  = null;
 
 
     /**
@@ -64,6 +66,30 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
     }
 
 
+    /**
+     * Return the number of log records that may be waiting to be written to this destination.
+     * Zero means the log records are written on the thread that logs them.
+     *
+     * @return buffer size or null if the destination is not configured with a buffer size
+     */
+    public Integer getDispatchBufferSize()
+    {
+        return dispatchBufferSize;
+    }
+
+
+    /**
+     * Return the list of severities of log records that are never dropped when the dispatch buffer is full.
+     *
+     * @return list of severity names (see OMRSAuditLogRecordSeverity) or null if the destination is not configured
+     * with a list
+     */
+    public List<String> getRetainedSeverities()
+    {
+        return retainedSeverities;
+    }
+
+
     /**
      * Store the audit log record in the audit log store.
      *
@@ -373,6 +399,38 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
                         }
                     }
                 }
+
+                Object dispatchBufferSizeProperty = configurationProperties.get(OMRSAuditLogStoreProviderBase.dispatchBufferSizeProperty);
+
+                if (dispatchBufferSizeProperty instanceof Number)
+                {
+                    dispatchBufferSize = ((Number)dispatchBufferSizeProperty).intValue();
+                }
+                else if (dispatchBufferSizeProperty != null)
+                {
+                    try
+                    {
+                        dispatchBufferSize = Integer.parseInt(dispatchBufferSizeProperty.toString());
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        log.debug("Ignored dispatch buffer size {} for destination {}", dispatchBufferSizeProperty, destinationName);
+                    }
+                }
+
+                Object retainedSeveritiesProperty = configurationProperties.get(OMRSAuditLogStoreProviderBase.retainedSeveritiesProperty);
+
+                if (retainedSeveritiesProperty instanceof List)
+                {
+                    try
+                    {
+                        retainedSeverities = (List<String>)retainedSeveritiesProperty;
+                    }
+                    catch (Exception error)
+                    {
+                        log.debug("Ignored exception: {} with message {}", error.getClass().getName(), error.getMessage());
+                    }
+                }
             }
         }
     }
@@ -0,0 +1,147 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.ClassificationCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OMRSSearchClassificationsPredicate is the compiled form of a SearchClassifications object.  Like the
+ * OMRSSearchPropertiesPredicate, it is created once for a search request and then used to test each candidate
+ * entity.  The match properties of each classification condition are compiled when the predicate is created.
+ */
+public class OMRSSearchClassificationsPredicate
+{
+    private final List<String>                        classificationNames = new ArrayList<>();
+    private final List<OMRSSearchPropertiesPredicate> propertyPredicates  = new ArrayList<>();
+    private final int                                 conditionCount;
+    private final MatchCriteria                       matchCriteria;
+
+
+    /**
+     * Compile the search classifications.
+     *
+     * @param matchClassifications search classifications from the request (null means match everything)
+     * @throws InvalidParameterException the match properties of one of the conditions are not valid
+     */
+    public OMRSSearchClassificationsPredicate(SearchClassifications matchClassifications) throws InvalidParameterException
+    {
+        if ((matchClassifications == null) || (matchClassifications.getConditions() == null))
+        {
+            this.conditionCount = 0;
+            this.matchCriteria  = null;
+        }
+        else
+        {
+            List<ClassificationCondition> conditions = matchClassifications.getConditions();
+
+            this.conditionCount = conditions.size();
+            this.matchCriteria  = (matchClassifications.getMatchCriteria() == null) ? MatchCriteria.ALL : matchClassifications.getMatchCriteria();
+
+            for (ClassificationCondition condition : conditions)
+            {
+                /*
+                 * Only conditions with a classification name can be matched.  The others are never satisfied.
+                 */
+                if ((condition != null) && (condition.getName() != null))
+                {
+                    classificationNames.add(condition.getName());
+                    propertyPredicates.add(new OMRSSearchPropertiesPredicate(condition.getMatchProperties()));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return whether the classifications of an entity satisfy the search classifications.  This gives the same
+     * result as OMRSRepositoryValidator's verifyMatchingClassifications().
+     *
+     * @param entity entity to test
+     * @return boolean result
+     */
+    public boolean matches(EntitySummary entity)
+    {
+        if (matchCriteria == null)
+        {
+            return true;
+        }
+
+        int matchingClassificationCount = 0;
+
+        for (int i = 0; i < classificationNames.size(); i++)
+        {
+            if (matchesCondition(classificationNames.get(i), propertyPredicates.get(i), entity))
+            {
+                matchingClassificationCount++;
+
+                if (matchCriteria != MatchCriteria.ALL)
+                {
+                    break;
+                }
+            }
+            else if (matchCriteria == MatchCriteria.ALL)
+            {
+                return false;
+            }
+        }
+
+        switch (matchCriteria)
+        {
+            case ALL:
+                return (matchingClassificationCount == conditionCount);
+
+            case ANY:
+                return (matchingClassificationCount > 0);
+
+            default:
+                return (matchingClassificationCount == 0);
+        }
+    }
+
+
+    /**
+     * Return whether the entity has the named classification with properties that match.
+     *
+     * @param classificationName name of the required classification
+     * @param propertyPredicate compiled match properties for the classification
+     * @param entity entity to test
+     * @return boolean result
+     */
+    private boolean matchesCondition(String                        classificationName,
+                                     OMRSSearchPropertiesPredicate propertyPredicate,
+                                     EntitySummary                 entity)
+    {
+        List<Classification> classifications = entity.getClassifications();
+        Classification       lastClassification = null;
+
+        if (classifications != null)
+        {
+            /*
+             * If the entity has more than one classification with the name, the last one is tested
+             * (as OMRSRepositoryValidator always has).
+             */
+            for (Classification classification : classifications)
+            {
+                if ((classification != null) && (classificationName.equals(classification.getName())))
+                {
+                    lastClassification = classification;
+                }
+            }
+        }
+
+        if (lastClassification == null)
+        {
+            return false;
+        }
+
+        return propertyPredicate.matches(lastClassification.getProperties());
+    }
+}
@@ -0,0 +1,368 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING;
+
+/**
+ * OMRSSearchPropertiesPredicate is the compiled form of a SearchProperties object.  A repository connector
+ * creates it once for a search request and then calls matches() for each candidate instance.  The work that
+ * does not depend on the instance is done when the predicate is created: the conditions are validated, the
+ * numeric form of each comparison value is calculated, the values of IN conditions are extracted and the
+ * regular expressions of LIKE conditions are compiled.  Evaluation stops as soon as the result is known.
+ */
+public class OMRSSearchPropertiesPredicate
+{
+    private final List<CompiledCondition> conditions = new ArrayList<>();
+    private final boolean                 matchEverything;
+    private final MatchCriteria           matchCriteria;
+
+
+    /**
+     * Compile the search properties.
+     *
+     * @param matchProperties search properties from the request (null means match everything)
+     * @throws InvalidParameterException one of the conditions is not valid
+     */
+    public OMRSSearchPropertiesPredicate(SearchProperties matchProperties) throws InvalidParameterException
+    {
+        if (matchProperties == null)
+        {
+            this.matchEverything = true;
+            this.matchCriteria   = MatchCriteria.ALL;
+        }
+        else
+        {
+            this.matchEverything = false;
+            this.matchCriteria   = (matchProperties.getMatchCriteria() == null) ? MatchCriteria.ALL : matchProperties.getMatchCriteria();
+
+            List<PropertyCondition> propertyConditions = matchProperties.getConditions();
+
+            if (propertyConditions != null)
+            {
+                for (PropertyCondition propertyCondition : propertyConditions)
+                {
+                    conditions.add(new CompiledCondition(propertyCondition));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return whether the properties of an instance satisfy the search properties.  This gives the same result as
+     * OMRSRepositoryValidator's verifyMatchingInstancePropertyValues() for the SearchProperties.
+     *
+     * @param instanceProperties properties of the instance (may be null)
+     * @return boolean result
+     */
+    public boolean matches(InstanceProperties instanceProperties)
+    {
+        if (matchEverything)
+        {
+            return true;
+        }
+
+        for (CompiledCondition condition : conditions)
+        {
+            boolean conditionMatches = condition.matches(instanceProperties);
+
+            switch (matchCriteria)
+            {
+                case ALL:
+                    if (! conditionMatches)
+                    {
+                        return false;
+                    }
+                    break;
+
+                case ANY:
+                case NONE:
+                    if (conditionMatches)
+                    {
+                        return (matchCriteria == MatchCriteria.ANY);
+                    }
+                    break;
+            }
+        }
+
+        return (matchCriteria != MatchCriteria.ANY);
+    }
+
+
+    /**
+     * Return the numeric representation of a property value, if it has one.  Dates are represented by
+     * their time in milliseconds.
+     *
+     * @param value property value
+     * @return numeric value or null if the value is not numeric
+     */
+    public static BigDecimal getNumericRepresentation(InstancePropertyValue value)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+        InstancePropertyCategory category = value.getInstancePropertyCategory();
+        if (category.equals(InstancePropertyCategory.PRIMITIVE))
+        {
+            PrimitivePropertyValue ppv = (PrimitivePropertyValue) value;
+            switch (ppv.getPrimitiveDefCategory())
+            {
+                case OM_PRIMITIVE_TYPE_DATE:
+                case OM_PRIMITIVE_TYPE_LONG:
+                    return BigDecimal.valueOf((Long)ppv.getPrimitiveValue());
+                case OM_PRIMITIVE_TYPE_SHORT:
+                    return BigDecimal.valueOf((Short)ppv.getPrimitiveValue());
+                case OM_PRIMITIVE_TYPE_INT:
+                    return BigDecimal.valueOf((Integer)ppv.getPrimitiveValue());
+                case OM_PRIMITIVE_TYPE_FLOAT:
+                    return BigDecimal.valueOf((Float) ppv.getPrimitiveValue());
+                case OM_PRIMITIVE_TYPE_DOUBLE:
+                    return BigDecimal.valueOf((Double) ppv.getPrimitiveValue());
+                case OM_PRIMITIVE_TYPE_BIGINTEGER:
+                    return new BigDecimal((BigInteger)ppv.getPrimitiveValue());
+                case OM_PRIMITIVE_TYPE_BIGDECIMAL:
+                    return (BigDecimal) ppv.getPrimitiveValue();
+                default:
+                    return null;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * CompiledCondition holds a single property condition along with the values that were calculated from it.
+     */
+    private static class CompiledCondition
+    {
+        private final String                        propertyName;
+        private final PropertyComparisonOperator    operator;
+        private final InstancePropertyValue         testValue;
+        private final BigDecimal                    testNumber;
+        private final List<InstancePropertyValue>   listValues;
+        private final OMRSSearchStringMatcher       likeMatcher;
+        private final OMRSSearchPropertiesPredicate nestedConditions;
+
+
+        /**
+         * Compile a single condition.
+         *
+         * @param condition condition from the search properties
+         * @throws InvalidParameterException the condition is not valid
+         */
+        CompiledCondition(PropertyCondition condition) throws InvalidParameterException
+        {
+            final String methodName = "verifyMatchingInstancePropertyValues";
+
+            this.propertyName     = condition.getProperty();
+            this.operator         = condition.getOperator();
+            this.testValue        = condition.getValue();
+            this.nestedConditions = (condition.getNestedConditions() == null) ? null : new OMRSSearchPropertiesPredicate(condition.getNestedConditions());
+
+            BigDecimal                  numericValue = null;
+            List<InstancePropertyValue> inValues     = null;
+            OMRSSearchStringMatcher     matcher      = null;
+
+            if (operator != null)
+            {
+                switch (operator)
+                {
+                    case LT:
+                    case LTE:
+                    case GT:
+                    case GTE:
+                        numericValue = getNumericRepresentation(testValue);
+                        break;
+
+                    case IN:
+                        // The value to test against must be a list (ArrayPropertyValue)
+                        if (testValue instanceof ArrayPropertyValue)
+                        {
+                            InstanceProperties values = ((ArrayPropertyValue) testValue).getArrayValues();
+
+                            if (values != null)
+                            {
+                                inValues = new ArrayList<>();
+
+                                Iterator<String> names = values.getPropertyNames();
+
+                                while (names.hasNext())
+                                {
+                                    InstancePropertyValue oneTestValue = values.getPropertyValue(names.next());
+
+                                    if (oneTestValue != null)
+                                    {
+                                        inValues.add(oneTestValue);
+                                    }
+                                }
+                            }
+                        }
+                        else
+                        {
+                            throw new InvalidParameterException(OMRSErrorCode.INVALID_LIST_CONDITION.getMessageDefinition(),
+                                                                OMRSSearchPropertiesPredicate.class.getName(),
+                                                                methodName,
+                                                                "matchProperties");
+                        }
+                        break;
+
+                    case LIKE:
+                        // Should only apply to strings, and a regular expression can not be built from a null value
+                        if ((testValue instanceof PrimitivePropertyValue) &&
+                            (((PrimitivePropertyValue) testValue).getPrimitiveDefCategory() == OM_PRIMITIVE_TYPE_STRING) &&
+                            (((PrimitivePropertyValue) testValue).getPrimitiveValue() != null) &&
+                            (testValue.valueAsString() != null))
+                        {
+                            matcher = OMRSSearchStringMatcher.getMatcher(testValue.valueAsString());
+                        }
+                        else
+                        {
+                            throw new InvalidParameterException(OMRSErrorCode.INVALID_LIKE_CONDITION.getMessageDefinition(),
+                                                                OMRSSearchPropertiesPredicate.class.getName(),
+                                                                methodName,
+                                                                "matchProperties");
+                        }
+                        break;
+
+                    default:
+                        break;
+                }
+            }
+
+            this.testNumber  = numericValue;
+            this.listValues  = inValues;
+            this.likeMatcher = matcher;
+        }
+
+
+        /**
+         * Return whether the instance satisfies this condition and its nested conditions.
+         *
+         * @param instanceProperties properties of the instance (may be null)
+         * @return boolean result
+         */
+        boolean matches(InstanceProperties instanceProperties)
+        {
+            if ((nestedConditions != null) && (! nestedConditions.matches(instanceProperties)))
+            {
+                return false;
+            }
+
+            /*
+             * When the nested branch is complete, operator will be null (along with propertyName, testValue, etc).
+             * The result is then the result of the nested conditions.
+             */
+            if (operator == null)
+            {
+                return true;
+            }
+
+            InstancePropertyValue actualValue = null;
+
+            if (instanceProperties != null)
+            {
+                actualValue = instanceProperties.getPropertyValue(propertyName);
+            }
+
+            switch (operator)
+            {
+                case EQ:
+                    return Objects.equals(actualValue, testValue);
+
+                case NEQ:
+                    return ! Objects.equals(actualValue, testValue);
+
+                case LT:
+                case LTE:
+                case GT:
+                case GTE:
+                    // Should only apply to numbers and dates
+                    return matchesNumber(actualValue);
+
+                case IN:
+                    // Impossible to match against an empty list, so always return false
+                    return (listValues != null) && listValues.contains(actualValue);
+
+                case IS_NULL:
+                    return (actualValue == null);
+
+                case NOT_NULL:
+                    return (actualValue != null);
+
+                case LIKE:
+                    if (actualValue == null)
+                    {
+                        return false;
+                    }
+
+                    String actual = actualValue.valueAsString();
+
+                    return (actual != null) && likeMatcher.matches(actual);
+
+                default:
+                    return true;
+            }
+        }
+
+
+        /**
+         * Compare the numeric value of the instance's property with the test value using the condition's operator.
+         * The condition is not satisfied if either value is not numeric.
+         *
+         * @param actualValue value from the instance
+         * @return boolean result
+         */
+        private boolean matchesNumber(InstancePropertyValue actualValue)
+        {
+            if (testNumber == null)
+            {
+                return false;
+            }
+
+            BigDecimal actualNumber = getNumericRepresentation(actualValue);
+
+            if (actualNumber == null)
+            {
+                return false;
+            }
+
+            int comparison = actualNumber.compareTo(testNumber);
+
+            switch (operator)
+            {
+                case LT:
+                    return comparison < 0;
+
+                case LTE:
+                    return comparison <= 0;
+
+                case GT:
+                    return comparison > 0;
+
+                default:
+                    return comparison >= 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * OMRSSearchStringMatcher is a compiled form of a regular expression used as search criteria.  It gives
+ * the same result as String.matches(regex) without compiling the regular expression on every call.
+ * <p>
+ * The regular expressions produced by OMRSRepositoryHelper's getExactMatchRegex(), getStartsWithRegex(),
+ * getEndsWithRegex() and getContainsRegex() methods (with or without the case insensitive option) and regular
+ * expressions that contain no special characters are recognized and matched as literal strings without using
+ * the regular expression engine.  All other regular expressions are compiled once into a Pattern.
+ * Matchers are cached by regular expression so they can be shared by all of the repository connectors.
+ * </p>
+ */
+public class OMRSSearchStringMatcher
+{
+    private static final String CASE_INSENSITIVE_PREFIX = "(?i)";
+    private static final String QUOTE_START             = "\\Q";
+    private static final String QUOTE_END               = "\\E";
+    private static final String ANY_CHARACTERS          = ".*";
+    private static final String SPECIAL_CHARACTERS      = "\\^$.|?*+()[]{}";
+
+    private static final int    MAX_CACHED_MATCHERS     = 1000;
+
+    private static final Map<String, OMRSSearchStringMatcher> matcherCache = new ConcurrentHashMap<>();
+
+    /**
+     * The different ways that a value is tested.
+     */
+    private enum MatchStyle
+    {
+        EXACT,
+        STARTS_WITH,
+        ENDS_WITH,
+        CONTAINS,
+        REGEX
+    }
+
+    private final String                    regex;
+    private final MatchStyle                matchStyle;
+    private final String                    literal;
+    private final boolean                   caseInsensitive;
+    private volatile Pattern                pattern      = null;
+    private volatile PatternSyntaxException patternError = null;
+
+
+    /**
+     * Return the matcher for a regular expression.
+     *
+     * @param regex regular expression
+     * @return matcher
+     */
+    public static OMRSSearchStringMatcher getMatcher(String regex)
+    {
+        OMRSSearchStringMatcher matcher = matcherCache.get(regex);
+
+        if (matcher == null)
+        {
+            matcher = new OMRSSearchStringMatcher(regex);
+
+            /*
+             * Search criteria are typically reused so the cache rarely fills up.  If it does, it is
+             * simply cleared rather than tracking which matchers are in use.
+             */
+            if (matcherCache.size() >= MAX_CACHED_MATCHERS)
+            {
+                matcherCache.clear();
+            }
+
+            matcherCache.put(regex, matcher);
+        }
+
+        return matcher;
+    }
+
+
+    /**
+     * Constructor analyses the regular expression to determine how to test the values.
+     *
+     * @param regex regular expression
+     */
+    private OMRSSearchStringMatcher(String regex)
+    {
+        this.regex = regex;
+
+        String body = regex;
+
+        if (regex.startsWith(CASE_INSENSITIVE_PREFIX))
+        {
+            body = regex.substring(CASE_INSENSITIVE_PREFIX.length());
+        }
+
+        boolean    startsWithAny = false;
+        boolean    endsWithAny   = false;
+        String     quoted        = body;
+
+        if (isQuoted(quoted))
+        {
+            this.matchStyle = MatchStyle.EXACT;
+        }
+        else
+        {
+            if (quoted.startsWith(ANY_CHARACTERS))
+            {
+                quoted        = quoted.substring(ANY_CHARACTERS.length());
+                startsWithAny = true;
+            }
+
+            if (quoted.endsWith(ANY_CHARACTERS))
+            {
+                quoted      = quoted.substring(0, quoted.length() - ANY_CHARACTERS.length());
+                endsWithAny = true;
+            }
+
+            if (isQuoted(quoted))
+            {
+                if (startsWithAny && endsWithAny)
+                {
+                    this.matchStyle = MatchStyle.CONTAINS;
+                }
+                else if (startsWithAny)
+                {
+                    this.matchStyle = MatchStyle.ENDS_WITH;
+                }
+                else
+                {
+                    this.matchStyle = MatchStyle.STARTS_WITH;
+                }
+            }
+            else if (isLiteral(body))
+            {
+                this.matchStyle = MatchStyle.EXACT;
+                quoted          = QUOTE_START + body + QUOTE_END;
+            }
+            else
+            {
+                this.matchStyle = MatchStyle.REGEX;
+            }
+        }
+
+        if (matchStyle == MatchStyle.REGEX)
+        {
+            this.literal         = null;
+            this.caseInsensitive = false;
+
+            try
+            {
+                this.pattern = Pattern.compile(regex);
+            }
+            catch (PatternSyntaxException error)
+            {
+                /*
+                 * The error is reported when a value is tested, which is when String.matches() would report it.
+                 */
+                this.patternError = error;
+            }
+        }
+        else
+        {
+            this.literal         = quoted.substring(QUOTE_START.length(), quoted.length() - QUOTE_END.length());
+            this.caseInsensitive = (body.length() != regex.length());
+        }
+    }
+
+
+    /**
+     * Return whether the string is a single quoted literal, as produced by Pattern.quote().
+     *
+     * @param candidate string to test
+     * @return boolean
+     */
+    private static boolean isQuoted(String candidate)
+    {
+        return candidate.startsWith(QUOTE_START)
+                && candidate.endsWith(QUOTE_END)
+                && candidate.indexOf(QUOTE_END) == candidate.length() - QUOTE_END.length();
+    }
+
+
+    /**
+     * Return whether the string contains any characters that have a special meaning in a regular expression.
+     *
+     * @param candidate string to test
+     * @return boolean
+     */
+    private static boolean isLiteral(String candidate)
+    {
+        for (int i = 0; i < candidate.length(); i++)
+        {
+            if (SPECIAL_CHARACTERS.indexOf(candidate.charAt(i)) >= 0)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return the regular expression that this matcher tests for.
+     *
+     * @return regular expression
+     */
+    public String getRegex()
+    {
+        return regex;
+    }
+
+
+    /**
+     * Return whether the value matches the regular expression.  The result is the same as value.matches(regex).
+     *
+     * @param value value to test
+     * @return boolean result
+     * @throws PatternSyntaxException the regular expression is not valid
+     */
+    public boolean matches(String value)
+    {
+        switch (matchStyle)
+        {
+            case EXACT:
+                return (value.length() == literal.length()) && regionMatches(value, 0);
+
+            case REGEX:
+                return getPattern().matcher(value).matches();
+
+            default:
+                break;
+        }
+
+        /*
+         * ".*" does not match line terminators so values that contain them are passed to the regular
+         * expression engine.
+         */
+        if (hasLineTerminator(value))
+        {
+            return getPattern().matcher(value).matches();
+        }
+
+        if (value.length() < literal.length())
+        {
+            return false;
+        }
+
+        switch (matchStyle)
+        {
+            case STARTS_WITH:
+                return regionMatches(value, 0);
+
+            case ENDS_WITH:
+                return regionMatches(value, value.length() - literal.length());
+
+            default:
+                if (! caseInsensitive)
+                {
+                    return value.contains(literal);
+                }
+
+                for (int offset = 0; offset <= value.length() - literal.length(); offset++)
+                {
+                    if (regionMatches(value, offset))
+                    {
+                        return true;
+                    }
+                }
+
+                return false;
+        }
+    }
+
+
+    /**
+     * Return whether the literal appears in the value at the requested offset.  The case insensitive
+     * comparison only ignores the case of ASCII characters in the same way as the (?i) flag.
+     *
+     * @param value value to test
+     * @param offset position in the value
+     * @return boolean result
+     */
+    private boolean regionMatches(String value,
+                                  int    offset)
+    {
+        if (! caseInsensitive)
+        {
+            return value.startsWith(literal, offset);
+        }
+
+        for (int i = 0; i < literal.length(); i++)
+        {
+            if (toLowerASCII(literal.charAt(i)) != toLowerASCII(value.charAt(offset + i)))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Convert an upper case ASCII character to lower case.  Other characters are returned unchanged.
+     *
+     * @param character character to convert
+     * @return converted character
+     */
+    private static char toLowerASCII(char character)
+    {
+        if ((character >= 'A') && (character <= 'Z'))
+        {
+            return (char)(character + ('a' - 'A'));
+        }
+
+        return character;
+    }
+
+
+    /**
+     * Return whether the value contains any of the characters that "." does not match.
+     *
+     * @param value value to test
+     * @return boolean result
+     */
+    private static boolean hasLineTerminator(String value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            char character = value.charAt(i);
+
+            if ((character == '\n') || (character == '\r') || (character == '\u0085') || (character == '\u2028') || (character == '\u2029'))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the compiled regular expression, compiling it if this is the first time it is needed.
+     *
+     * @return pattern
+     * @throws PatternSyntaxException the regular expression is not valid
+     */
+    private Pattern getPattern()
+    {
+        if (patternError != null)
+        {
+            throw patternError;
+        }
+
+        if (pattern == null)
+        {
+            pattern = Pattern.compile(regex);
+        }
+
+        return pattern;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSSearchStringMatcher{" +
+                "regex='" + regex + '\'' +
+                ", matchStyle=" + matchStyle +
+                ", literal='" + literal + '\'' +
+                ", caseInsensitive=" + caseInsensitive +
+                '}';
+    }
+}
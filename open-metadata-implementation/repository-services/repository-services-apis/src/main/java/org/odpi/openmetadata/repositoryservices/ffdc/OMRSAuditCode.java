@@ -370,6 +370,15 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                       "The local server has completed the processing of the open metadata archive.",
                       "Verify that the expected content has loaded into the local repository."),
 
+    UNREADABLE_ARCHIVE("OMRS-AUDIT-0054",
+                       OMRSAuditLogRecordSeverity.EXCEPTION,
+                       "The Open Metadata Repository Services (OMRS) is unable to read open metadata archive {0} because of a {1} exception " +
+                               "with message: {2}",
+                       "The local server stops processing the open metadata archive.  Any content that was read before the error " +
+                               "has already been loaded.",
+                       "Verify that the archive file exists and is a complete, valid open metadata archive.  Request a new version of " +
+                               "the archive or remove it from the server's archive list."),
+
     REGISTERED_WITH_COHORT("OMRS-AUDIT-0060",
                            OMRSAuditLogRecordSeverity.COHORT,
                            "Registering with open metadata repository cohort {0} using metadata collection id {1}",
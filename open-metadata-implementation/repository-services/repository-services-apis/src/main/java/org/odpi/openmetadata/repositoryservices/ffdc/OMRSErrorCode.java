@@ -472,6 +472,12 @@ public enum OMRSErrorCode implements ExceptionMessageSet
                                "Other services may fail if they were dependent on this open metadata archive.",
              "Correct the configuration for the open metadata archive connection in the server configuration. " +
                                  "Retry the request when the open metadata archive configuration is correct."),
+    UNREADABLE_ARCHIVE_STORE(400, "OMRS-ARCHIVE-MANAGER-400-002",
+            "Open metadata archive {0} could not be read because of a {1} exception with message: {2}",
+             "The system is unable to process the rest of this open metadata archive.  " +
+                               "Any content that was read before the error has already been processed.",
+             "Verify that the archive file exists and is a complete, valid open metadata archive. " +
+                                 "Retry the request when the archive is correct."),
     NULL_EVENT_MAPPER(400, "OMRS-LOCAL-REPOSITORY-400-001",
              "The repository event mapper configured for the local repository for server {0} is not accessible.",
              "The system is unable to create the repository event mapper which means that events from the " +
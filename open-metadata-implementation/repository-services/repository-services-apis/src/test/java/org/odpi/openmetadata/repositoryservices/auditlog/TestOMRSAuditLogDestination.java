@@ -0,0 +1,190 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the OMRSAuditLogDestination writes log records to its stores synchronously or through
+ * the dispatcher buffers, and drops only the log records that are not retained when a buffer is full.
+ */
+public class TestOMRSAuditLogDestination
+{
+    private static final String serverName = "TestServer";
+
+
+    /**
+     * Audit log store that remembers the thread that wrote each log record.  The store can be held
+     * so that log records pile up in the dispatcher buffer.
+     */
+    private static class TestAuditLogStore extends OMRSAuditLogStoreConnectorBase
+    {
+        private final List<String>   storingThreads = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch released       = new CountDownLatch(1);
+        private final CountDownLatch firstRecord    = new CountDownLatch(1);
+        private final boolean        held;
+
+        TestAuditLogStore(boolean held, Integer dispatchBufferSize)
+        {
+            this.held = held;
+
+            Map<String, Object> configurationProperties = new HashMap<>();
+            Connection          connection              = new Connection();
+
+            if (dispatchBufferSize != null)
+            {
+                configurationProperties.put(OMRSAuditLogStoreProviderBase.dispatchBufferSizeProperty, dispatchBufferSize);
+            }
+            connection.setDisplayName("TestAuditLogStore");
+            connection.setConfigurationProperties(configurationProperties);
+
+            super.initialize("TestConnectorInstance", new ConnectionProperties(connection));
+        }
+
+        @Override
+        public String storeLogRecord(OMRSAuditLogRecord logRecord)
+        {
+            firstRecord.countDown();
+
+            if (held)
+            {
+                try
+                {
+                    released.await(10, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            storingThreads.add(Thread.currentThread().getName());
+            return logRecord.getGUID();
+        }
+    }
+
+
+    private OMRSAuditLogRecord getLogRecord(OMRSAuditLogRecordSeverity severity)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setSeverity(severity.getName());
+        logRecord.setSeverityCode(severity.getOrdinal());
+
+        return logRecord;
+    }
+
+
+    private OMRSAuditLogStoreReport getStoreReport(OMRSAuditLogDestination destination)
+    {
+        return destination.getDestinationsReport().getLogStoreReports().get(0);
+    }
+
+
+    /**
+     * Validate that the synchronous mode writes the log records on the caller's thread.
+     */
+    @Test public void testSynchronousDispatch()
+    {
+        TestAuditLogStore       store       = new TestAuditLogStore(false, null);
+        List<OMRSAuditLogStore> stores      = Collections.singletonList(store);
+        OMRSAuditLogDestination destination = new OMRSAuditLogDestination(serverName, "TestServerType", "TestOrg", stores, true);
+
+        destination.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+        destination.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.ERROR));
+
+        assertEquals(store.storingThreads.size(), 2);
+        assertEquals(store.storingThreads.get(0), Thread.currentThread().getName());
+        assertEquals(getStoreReport(destination).getDispatchBufferSize(), 0);
+        assertEquals(getStoreReport(destination).getStoredRecordCount(), 2);
+    }
+
+
+    /**
+     * Validate that the buffered mode writes the log records on the dispatcher thread and that
+     * shutdown writes the records that are still waiting.
+     */
+    @Test public void testBufferedDispatch()
+    {
+        TestAuditLogStore       store       = new TestAuditLogStore(false, null);
+        List<OMRSAuditLogStore> stores      = Collections.singletonList(store);
+        OMRSAuditLogDestination destination = new OMRSAuditLogDestination(serverName, "TestServerType", "TestOrg", stores);
+
+        for (int i = 0; i < 10; i++)
+        {
+            destination.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+        }
+
+        destination.shutdown();
+
+        assertEquals(store.storingThreads.size(), 10);
+        assertTrue(store.storingThreads.get(0).startsWith("OMRSAuditLog-" + serverName));
+        assertEquals(getStoreReport(destination).getDispatchBufferSize(), OMRSAuditLogDestination.defaultDispatchBufferSize);
+        assertEquals(getStoreReport(destination).getDroppedRecordCount(), 0);
+    }
+
+
+    /**
+     * Validate that a full buffer drops informational log records and writes error log records on the
+     * caller's thread.
+     */
+    @Test public void testOverflow() throws InterruptedException
+    {
+        TestAuditLogStore       store       = new TestAuditLogStore(true, 1);
+        List<OMRSAuditLogStore> stores      = Collections.singletonList(store);
+        OMRSAuditLogDestination destination = new OMRSAuditLogDestination(serverName, "TestServerType", "TestOrg", stores);
+
+        /*
+         * The first record holds the dispatcher thread and the second fills the buffer.
+         */
+        destination.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+        assertTrue(store.firstRecord.await(10, TimeUnit.SECONDS));
+        destination.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+
+        destination.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+        assertEquals(getStoreReport(destination).getDroppedRecordCount(), 1);
+
+        /*
+         * The error record is written on this thread, which waits until the store is released.
+         */
+        Thread releaser = new Thread(() ->
+        {
+            try
+            {
+                Thread.sleep(200);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+            store.released.countDown();
+        });
+        releaser.start();
+
+        destination.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.ERROR));
+        assertTrue(store.storingThreads.contains(Thread.currentThread().getName()));
+
+        destination.shutdown();
+
+        assertEquals(getStoreReport(destination).getDroppedRecordCount(), 1);
+        assertEquals(getStoreReport(destination).getStoredRecordCount(), 3);
+    }
+}
@@ -0,0 +1,252 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * OMRSTopicListenerFilterTest checks that the filter selects the instance events that match its types,
+ * event types and zones.  The type hierarchy comes from the super types in the instances.
+ */
+public class OMRSTopicListenerFilterTest
+{
+    private static final String sourceName = "TestService";
+
+
+    /**
+     * Return an entity of the requested type.
+     *
+     * @param typeName name of the type
+     * @param superTypeNames names of the super types
+     * @param zones zones for the zoneMembership property (null for no property)
+     * @return entity
+     */
+    private EntityDetail getEntity(String       typeName,
+                                   List<String> superTypeNames,
+                                   List<String> zones)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(typeName + "GUID");
+        entity.setType(getType(typeName, superTypeNames));
+
+        if (zones != null)
+        {
+            ArrayPropertyValue zoneMembership = new ArrayPropertyValue();
+            int                elementNumber  = 0;
+
+            zoneMembership.setArrayCount(zones.size());
+
+            for (String zone : zones)
+            {
+                PrimitivePropertyValue zoneValue = new PrimitivePropertyValue();
+
+                zoneValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                zoneValue.setPrimitiveValue(zone);
+
+                zoneMembership.setArrayValue(elementNumber, zoneValue);
+                elementNumber++;
+            }
+
+            InstanceProperties properties = new InstanceProperties();
+
+            properties.setProperty("zoneMembership", zoneMembership);
+            entity.setProperties(properties);
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Return a relationship of the requested type.
+     *
+     * @param typeName name of the type
+     * @return relationship
+     */
+    private Relationship getRelationship(String typeName)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(typeName + "GUID");
+        relationship.setType(getType(typeName, null));
+
+        return relationship;
+    }
+
+
+    /**
+     * Return an instance type.
+     *
+     * @param typeName name of the type
+     * @param superTypeNames names of the super types
+     * @return instance type
+     */
+    private InstanceType getType(String       typeName,
+                                 List<String> superTypeNames)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefName(typeName);
+
+        if (superTypeNames != null)
+        {
+            List<TypeDefLink> superTypes = new ArrayList<>();
+
+            for (String superTypeName : superTypeNames)
+            {
+                TypeDefLink superType = new TypeDefLink();
+
+                superType.setName(superTypeName);
+                superTypes.add(superType);
+            }
+
+            instanceType.setTypeDefSuperTypes(superTypes);
+        }
+        else
+        {
+            instanceType.setTypeDefSuperTypes(new ArrayList<>());
+        }
+
+        return instanceType;
+    }
+
+
+    /**
+     * Test that a filter with no criteria matches everything.
+     */
+    @Test public void testEmptyFilter()
+    {
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter(sourceName, null, null, null, null);
+
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                        getEntity("GlossaryTerm", Arrays.asList("Referenceable", "OpenMetadataRoot"), null))));
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT, "guid", "Asset", "instanceGUID")));
+        assertFalse(filter.matches(null));
+    }
+
+
+    /**
+     * Test matching on types and subtypes.
+     */
+    @Test public void testTypes()
+    {
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter(sourceName,
+                                                                     null,
+                                                                     Arrays.asList("DataSet", "AssetSchemaType"),
+                                                                     null,
+                                                                     null);
+
+        EntityDetail dataSet  = getEntity("DataSet", Arrays.asList("Asset", "Referenceable", "OpenMetadataRoot"), null);
+        EntityDetail dataFile = getEntity("DataFile", Arrays.asList("DataStore", "Asset", "Referenceable", "OpenMetadataRoot"), null);
+        EntityDetail table    = getEntity("DeployedDatabaseSchema", Arrays.asList("DataSet", "Asset", "Referenceable", "OpenMetadataRoot"), null);
+
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, dataSet)));
+        assertFalse(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, dataFile)));
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, table)));
+
+        /*
+         * The second time the types are matched the remembered answers are used.
+         */
+        assertFalse(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, dataFile)));
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, table)));
+
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, getRelationship("AssetSchemaType"))));
+        assertFalse(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, getRelationship("SemanticAssignment"))));
+
+        /*
+         * Only the type name is known for a purge event, so unknown types are passed on for the listener to check.
+         */
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT, "guid", "DataSet", "instanceGUID")));
+        assertFalse(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT, "guid", "DataFile", "instanceGUID")));
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT, "guid", "Unknown", "instanceGUID")));
+    }
+
+
+    /**
+     * Test matching on event types.
+     */
+    @Test public void testEventTypes()
+    {
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter(sourceName,
+                                                                     null,
+                                                                     null,
+                                                                     Collections.singletonList(OMRSInstanceEventType.NEW_ENTITY_EVENT),
+                                                                     null);
+
+        EntityDetail entity = getEntity("DataSet", Collections.singletonList("Asset"), null);
+
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity)));
+        assertFalse(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, entity)));
+
+        OMRSTopicListenerFilter noEvents = new OMRSTopicListenerFilter(sourceName, null, null, new ArrayList<>(), null);
+
+        assertFalse(noEvents.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity)));
+    }
+
+
+    /**
+     * Test matching on zones.
+     */
+    @Test public void testZones()
+    {
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter(sourceName,
+                                                                     null,
+                                                                     null,
+                                                                     null,
+                                                                     Arrays.asList("data-lake", "quarantine"));
+
+        List<String> superTypes = Collections.singletonList("Asset");
+
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                        getEntity("DataSet", superTypes, Arrays.asList("finance", "data-lake")))));
+        assertFalse(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                         getEntity("DataSet", superTypes, Collections.singletonList("finance")))));
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                        getEntity("DataSet", superTypes, null))));
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, getRelationship("AssetSchemaType"))));
+    }
+
+
+    /**
+     * Test that a batch event matches if any of its instances match.
+     */
+    @Test public void testBatch()
+    {
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter(sourceName,
+                                                                     null,
+                                                                     Collections.singletonList("DataSet"),
+                                                                     null,
+                                                                     null);
+
+        EntityDetail dataSet  = getEntity("DataSet", Collections.singletonList("Asset"), null);
+        EntityDetail dataFile = getEntity("DataFile", Collections.singletonList("Asset"), null);
+
+        InstanceGraph matchingBatch    = new InstanceGraph(Arrays.asList(dataFile, dataSet), null);
+        InstanceGraph nonMatchingBatch = new InstanceGraph(Collections.singletonList(dataFile),
+                                                           Collections.singletonList(getRelationship("SemanticAssignment")));
+
+        assertTrue(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT, matchingBatch)));
+        assertFalse(filter.matches(new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT, nonMatchingBatch)));
+    }
+}
@@ -0,0 +1,266 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * OMRSSearchPredicateBenchmark measures the cost of testing a page of instances against search criteria.
+ * It compares String.matches(), which compiles the regular expression for every value, with the cached
+ * OMRSSearchStringMatcher, and creating an OMRSSearchPropertiesPredicate for each instance (as the repository
+ * validator does) with creating it once for the whole scan (as a repository connector should).
+ * The instances have the names and descriptions typical of glossary terms and database columns.
+ * <p>
+ * The benchmark is not run as part of the build.  Run it from the test classpath with:
+ * </p>
+ * <pre>
+ *     java -cp ... org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchPredicateBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OMRSSearchPredicateBenchmark
+{
+    private static final int      INSTANCE_COUNT = 1000;
+    private static final String[] words          = { "customer", "account", "order", "invoice", "product", "address",
+                                                     "payment", "shipment", "contract", "employee", "identifier", "date",
+                                                     "status", "balance", "region", "code" };
+
+    /**
+     * The style of search, matching the regular expressions created by the repository helper.
+     */
+    @Param({"exact", "startsWith", "contains", "containsIgnoreCase", "regex"})
+    public String searchStyle;
+
+    private final List<InstanceProperties> instances = new ArrayList<>();
+    private final List<String>             names     = new ArrayList<>();
+
+    private String           regex;
+    private SearchProperties searchProperties;
+
+
+    /**
+     * Generate the instances and search criteria.
+     */
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(42);
+
+        for (int i = 0; i < INSTANCE_COUNT; i++)
+        {
+            String secondWord  = getWord(random);
+            String name        = getWord(random) + Character.toUpperCase(secondWord.charAt(0)) + secondWord.substring(1) + i;
+            String description = "The " + getWord(random) + " of the " + getWord(random) + " for the " + getWord(random);
+
+            InstanceProperties properties = new InstanceProperties();
+
+            properties.setProperty("qualifiedName", getStringValue("Glossary::Term::" + name));
+            properties.setProperty("displayName", getStringValue(name));
+            properties.setProperty("description", getStringValue(description));
+
+            instances.add(properties);
+            names.add(name);
+        }
+
+        switch (searchStyle)
+        {
+            case "exact":
+                regex = Pattern.quote(names.get(INSTANCE_COUNT / 2));
+                break;
+
+            case "startsWith":
+                regex = Pattern.quote("customer") + ".*";
+                break;
+
+            case "contains":
+                regex = ".*" + Pattern.quote("Order") + ".*";
+                break;
+
+            case "containsIgnoreCase":
+                regex = "(?i).*" + Pattern.quote("order") + ".*";
+                break;
+
+            default:
+                regex = "(customer|account)[A-Z][a-z]+[0-9]*5";
+                break;
+        }
+
+        PropertyCondition condition = new PropertyCondition();
+
+        condition.setProperty("displayName");
+        condition.setOperator(PropertyComparisonOperator.LIKE);
+        condition.setValue(getStringValue(regex));
+
+        List<PropertyCondition> conditions = new ArrayList<>();
+        conditions.add(condition);
+
+        searchProperties = new SearchProperties();
+        searchProperties.setConditions(conditions);
+        searchProperties.setMatchCriteria(MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Return a random word.
+     *
+     * @param random random number generator
+     * @return word
+     */
+    private String getWord(Random random)
+    {
+        return words[random.nextInt(words.length)];
+    }
+
+
+    /**
+     * Return a string property value.
+     *
+     * @param value string
+     * @return property value
+     */
+    private PrimitivePropertyValue getStringValue(String value)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(value);
+
+        return propertyValue;
+    }
+
+
+    /**
+     * Test the names with String.matches().
+     *
+     * @return number of matches
+     */
+    @Benchmark
+    public int stringMatches()
+    {
+        int count = 0;
+
+        for (String name : names)
+        {
+            if (name.matches(regex))
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Test the names with the cached matcher.
+     *
+     * @return number of matches
+     */
+    @Benchmark
+    public int cachedMatcher()
+    {
+        int count = 0;
+
+        for (String name : names)
+        {
+            if (OMRSSearchStringMatcher.getMatcher(regex).matches(name))
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Test the instances with a predicate created for each instance.
+     *
+     * @return number of matches
+     * @throws InvalidParameterException invalid search properties
+     */
+    @Benchmark
+    public int predicatePerInstance() throws InvalidParameterException
+    {
+        int count = 0;
+
+        for (InstanceProperties properties : instances)
+        {
+            if (new OMRSSearchPropertiesPredicate(searchProperties).matches(properties))
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Test the instances with a predicate created once for the scan.
+     *
+     * @return number of matches
+     * @throws InvalidParameterException invalid search properties
+     */
+    @Benchmark
+    public int predicatePerScan() throws InvalidParameterException
+    {
+        int                           count     = 0;
+        OMRSSearchPropertiesPredicate predicate = new OMRSSearchPropertiesPredicate(searchProperties);
+
+        for (InstanceProperties properties : instances)
+        {
+            if (predicate.matches(properties))
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args ignored
+     * @throws RunnerException the benchmark failed
+     */
+    public static void main(String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(OMRSSearchPredicateBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,284 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.ClassificationCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * TestOMRSSearchPropertiesPredicate tests the compiled forms of SearchProperties and SearchClassifications.
+ */
+public class TestOMRSSearchPropertiesPredicate
+{
+    /**
+     * Return a primitive property value.
+     *
+     * @param category type of value
+     * @param value value
+     * @return property value
+     */
+    private PrimitivePropertyValue getPrimitive(PrimitiveDefCategory category, Object value)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(category);
+        propertyValue.setPrimitiveValue(value);
+
+        return propertyValue;
+    }
+
+
+    /**
+     * Return a property condition.
+     *
+     * @param property name of the property
+     * @param operator comparison operator
+     * @param value value to compare with
+     * @return condition
+     */
+    private PropertyCondition getCondition(String property, PropertyComparisonOperator operator, InstancePropertyValue value)
+    {
+        PropertyCondition condition = new PropertyCondition();
+
+        condition.setProperty(property);
+        condition.setOperator(operator);
+        condition.setValue(value);
+
+        return condition;
+    }
+
+
+    /**
+     * Return search properties.
+     *
+     * @param matchCriteria how to combine the conditions
+     * @param conditions conditions
+     * @return search properties
+     */
+    private SearchProperties getSearchProperties(MatchCriteria matchCriteria, PropertyCondition... conditions)
+    {
+        SearchProperties searchProperties = new SearchProperties();
+
+        searchProperties.setMatchCriteria(matchCriteria);
+        searchProperties.setConditions(new ArrayList<>(List.of(conditions)));
+
+        return searchProperties;
+    }
+
+
+    /**
+     * Return the properties of a test instance.
+     *
+     * @param name value of the name property
+     * @param size value of the size property
+     * @return instance properties
+     */
+    private InstanceProperties getInstanceProperties(String name, int size)
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("name", getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, name));
+        properties.setProperty("size", getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, size));
+
+        return properties;
+    }
+
+
+    /**
+     * Test each of the operators.
+     *
+     * @throws InvalidParameterException bad search properties
+     */
+    @Test public void testOperators() throws InvalidParameterException
+    {
+        InstanceProperties customer = getInstanceProperties("Customer", 10);
+        InstanceProperties order    = getInstanceProperties("Order", 20);
+
+        PrimitivePropertyValue customerName = getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Customer");
+        PrimitivePropertyValue fifteen      = getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_LONG, 15L);
+
+        OMRSSearchPropertiesPredicate predicate = new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("name", PropertyComparisonOperator.EQ, customerName)));
+        assertTrue(predicate.matches(customer));
+        assertFalse(predicate.matches(order));
+
+        predicate = new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("name", PropertyComparisonOperator.NEQ, customerName)));
+        assertFalse(predicate.matches(customer));
+        assertTrue(predicate.matches(order));
+
+        predicate = new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("size", PropertyComparisonOperator.LT, fifteen)));
+        assertTrue(predicate.matches(customer));
+        assertFalse(predicate.matches(order));
+
+        predicate = new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("size", PropertyComparisonOperator.GTE, fifteen)));
+        assertFalse(predicate.matches(customer));
+        assertTrue(predicate.matches(order));
+
+        predicate = new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("name", PropertyComparisonOperator.GT, fifteen)));
+        assertFalse(predicate.matches(customer));
+
+        predicate = new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("name", PropertyComparisonOperator.LIKE,
+                                                                                                           getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "(?i).*\\Qcust\\E.*"))));
+        assertTrue(predicate.matches(customer));
+        assertFalse(predicate.matches(order));
+        assertFalse(predicate.matches(null));
+
+        predicate = new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("description", PropertyComparisonOperator.IS_NULL, null)));
+        assertTrue(predicate.matches(customer));
+
+        predicate = new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("size", PropertyComparisonOperator.NOT_NULL, null)));
+        assertTrue(predicate.matches(customer));
+
+        ArrayPropertyValue names = new ArrayPropertyValue();
+        names.setArrayCount(2);
+        names.setArrayValue(0, getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Invoice"));
+        names.setArrayValue(1, getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Order"));
+
+        predicate = new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("name", PropertyComparisonOperator.IN, names)));
+        assertFalse(predicate.matches(customer));
+        assertTrue(predicate.matches(order));
+    }
+
+
+    /**
+     * Test the match criteria and nested conditions.
+     *
+     * @throws InvalidParameterException bad search properties
+     */
+    @Test public void testMatchCriteria() throws InvalidParameterException
+    {
+        InstanceProperties customer = getInstanceProperties("Customer", 10);
+
+        PropertyCondition nameMatches = getCondition("name", PropertyComparisonOperator.EQ, getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Customer"));
+        PropertyCondition sizeMatches = getCondition("size", PropertyComparisonOperator.EQ, getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, 20));
+
+        assertFalse(new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, nameMatches, sizeMatches)).matches(customer));
+        assertTrue(new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ANY, nameMatches, sizeMatches)).matches(customer));
+        assertFalse(new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.NONE, nameMatches, sizeMatches)).matches(customer));
+        assertTrue(new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.NONE, sizeMatches)).matches(customer));
+        assertTrue(new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL)).matches(customer));
+        assertFalse(new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ANY)).matches(customer));
+        assertTrue(new OMRSSearchPropertiesPredicate(null).matches(customer));
+
+        PropertyCondition nested = new PropertyCondition();
+        nested.setNestedConditions(getSearchProperties(MatchCriteria.ANY, nameMatches, sizeMatches));
+
+        assertTrue(new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, nested, nameMatches)).matches(customer));
+        assertFalse(new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, nested, sizeMatches)).matches(customer));
+    }
+
+
+    /**
+     * Test that invalid conditions are rejected when the predicate is created.
+     */
+    @Test public void testInvalidConditions()
+    {
+        PrimitivePropertyValue number = getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, 10);
+
+        for (PropertyComparisonOperator operator : new PropertyComparisonOperator[] { PropertyComparisonOperator.IN, PropertyComparisonOperator.LIKE })
+        {
+            try
+            {
+                new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL, getCondition("size", operator, number)));
+                fail("Invalid condition accepted for " + operator);
+            }
+            catch (InvalidParameterException error)
+            {
+                assertNotNull(error.getReportedErrorMessage());
+            }
+        }
+
+        try
+        {
+            new OMRSSearchPropertiesPredicate(getSearchProperties(MatchCriteria.ALL,
+                                                                  getCondition("name",
+                                                                               PropertyComparisonOperator.LIKE,
+                                                                               getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, null))));
+            fail("Null LIKE value accepted");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertNotNull(error.getReportedErrorMessage());
+        }
+    }
+
+
+    /**
+     * Test the classification conditions.
+     *
+     * @throws InvalidParameterException bad search classifications
+     */
+    @Test public void testClassifications() throws InvalidParameterException
+    {
+        Classification confidentiality = new Classification();
+        confidentiality.setName("Confidentiality");
+        confidentiality.setProperties(getInstanceProperties("Secret", 3));
+
+        EntityDetail classifiedEntity   = new EntityDetail();
+        EntityDetail unclassifiedEntity = new EntityDetail();
+
+        classifiedEntity.setClassifications(Collections.singletonList(confidentiality));
+
+        ClassificationCondition isConfidential = new ClassificationCondition();
+        isConfidential.setName("Confidentiality");
+
+        ClassificationCondition isHighlyConfidential = new ClassificationCondition();
+        isHighlyConfidential.setName("Confidentiality");
+        isHighlyConfidential.setMatchProperties(getSearchProperties(MatchCriteria.ALL,
+                                                                    getCondition("size",
+                                                                                 PropertyComparisonOperator.GT,
+                                                                                 getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, 3))));
+
+        SearchClassifications searchClassifications = new SearchClassifications();
+        searchClassifications.setConditions(List.of(isConfidential));
+        searchClassifications.setMatchCriteria(MatchCriteria.ALL);
+
+        OMRSSearchClassificationsPredicate predicate = new OMRSSearchClassificationsPredicate(searchClassifications);
+        assertTrue(predicate.matches(classifiedEntity));
+        assertFalse(predicate.matches(unclassifiedEntity));
+
+        searchClassifications.setMatchCriteria(MatchCriteria.NONE);
+        predicate = new OMRSSearchClassificationsPredicate(searchClassifications);
+        assertFalse(predicate.matches(classifiedEntity));
+        assertTrue(predicate.matches(unclassifiedEntity));
+
+        searchClassifications.setConditions(List.of(isHighlyConfidential));
+        searchClassifications.setMatchCriteria(MatchCriteria.ANY);
+        predicate = new OMRSSearchClassificationsPredicate(searchClassifications);
+        assertFalse(predicate.matches(classifiedEntity));
+
+        /*
+         * When the entity has the classification more than once, the last one is tested.
+         */
+        Classification largeConfidentiality = new Classification();
+        largeConfidentiality.setName("Confidentiality");
+        largeConfidentiality.setProperties(getInstanceProperties("Secret", 5));
+
+        classifiedEntity.setClassifications(List.of(largeConfidentiality, confidentiality));
+        assertFalse(predicate.matches(classifiedEntity));
+
+        classifiedEntity.setClassifications(List.of(confidentiality, largeConfidentiality));
+        assertTrue(predicate.matches(classifiedEntity));
+
+        assertTrue(new OMRSSearchClassificationsPredicate(null).matches(unclassifiedEntity));
+    }
+}
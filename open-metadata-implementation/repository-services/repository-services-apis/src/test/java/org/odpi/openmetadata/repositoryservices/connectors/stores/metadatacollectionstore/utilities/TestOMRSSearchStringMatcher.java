@@ -0,0 +1,115 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.testng.Assert.*;
+
+/**
+ * TestOMRSSearchStringMatcher checks that OMRSSearchStringMatcher gives the same results as String.matches()
+ */
+public class TestOMRSSearchStringMatcher
+{
+    private static final String[] searchStrings = { "Customer", "customer", "Cust", "mer", "cus.tomer", "a+b", "", "Ärger" };
+
+    private static final String[] values = { "Customer", "customer", "CUSTOMER", "Customers", "MyCustomer",
+                                             "My Customer Details", "cus.tomer", "cusXtomer", "a+b", "aab", "",
+                                             "Customer\nDetails", "Line\r\nCustomer", "Customer ", "Cust",
+                                             "ärger", "Ärger", "Ärgerlich" };
+
+
+    /**
+     * Compare the matcher with String.matches() for a regular expression over all of the values.
+     *
+     * @param regex regular expression
+     */
+    private void validateRegex(String regex)
+    {
+        OMRSSearchStringMatcher matcher = OMRSSearchStringMatcher.getMatcher(regex);
+
+        assertEquals(matcher.getRegex(), regex);
+
+        for (String value : values)
+        {
+            assertEquals(matcher.matches(value), value.matches(regex), "regex=" + regex + " value=" + value);
+        }
+    }
+
+
+    /**
+     * Test the regular expressions generated by the repository helper.
+     */
+    @Test public void testHelperRegex()
+    {
+        for (String searchString : searchStrings)
+        {
+            String quoted = Pattern.quote(searchString);
+
+            for (String caseOption : new String[] { "", "(?i)" })
+            {
+                validateRegex(caseOption + quoted);
+                validateRegex(caseOption + quoted + ".*");
+                validateRegex(caseOption + ".*" + quoted);
+                validateRegex(caseOption + ".*" + quoted + ".*");
+            }
+        }
+    }
+
+
+    /**
+     * Test unquoted literals and general regular expressions.
+     */
+    @Test public void testOtherRegex()
+    {
+        for (String searchString : searchStrings)
+        {
+            validateRegex(searchString);
+            validateRegex("(?i)" + searchString);
+            validateRegex(".*" + searchString + ".*");
+        }
+
+        validateRegex(".*");
+        validateRegex("Cust.*mer");
+        validateRegex("(?i)cust(omer)?s?");
+        validateRegex("[A-Z].*");
+        validateRegex("\\QCust\\E.*\\Qmer\\E");
+        validateRegex("\\Qa+b\\E|\\Qaab\\E");
+    }
+
+
+    /**
+     * Test that matchers are reused.
+     */
+    @Test public void testCache()
+    {
+        String regex = ".*" + Pattern.quote("Cache") + ".*";
+
+        assertSame(OMRSSearchStringMatcher.getMatcher(regex), OMRSSearchStringMatcher.getMatcher(regex));
+    }
+
+
+    /**
+     * Test that an invalid regular expression is reported when a value is tested.
+     */
+    @Test public void testInvalidRegex()
+    {
+        OMRSSearchStringMatcher matcher = OMRSSearchStringMatcher.getMatcher("Cust[omer");
+
+        assertNotNull(matcher.toString());
+
+        try
+        {
+            matcher.matches("Customer");
+            fail("Invalid regular expression accepted");
+        }
+        catch (PatternSyntaxException error)
+        {
+            assertEquals(error.getPattern(), "Cust[omer");
+        }
+    }
+}
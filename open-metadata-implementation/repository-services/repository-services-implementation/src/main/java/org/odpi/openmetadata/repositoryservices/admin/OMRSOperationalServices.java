@@ -734,7 +734,8 @@ public class OMRSOperationalServices
                 localRepositoryConnection = localRepositoryConfig.getLocalRepositoryRemoteConnection();
             }
             localRepositoryConnector = this.getLocalOMRSConnector(localRepositoryConnection,
-                                                                  localConnectorProvider);
+                                                                  localConnectorProvider,
+                                                                  localRepositoryConfig.getInboundInstanceEventThreads());
         }
 
         return localRepositoryConnector;
@@ -923,6 +924,14 @@ public class OMRSOperationalServices
 
         auditLog.logMessage(actionDescription, OMRSAuditCode.OMRS_DISCONNECTED.getMessageDefinition());
 
+        /*
+         * Write out the audit log records still waiting for their destinations.
+         */
+        if (auditLogDestination != null)
+        {
+            auditLogDestination.shutdown();
+        }
+
         return true;
     }
 
@@ -1131,10 +1140,12 @@ public class OMRSOperationalServices
      *
      * @param connection Connection properties for the real local connection
      * @param connectorProvider connector provider to create the repository connector
+     * @param inboundInstanceEventThreads number of threads to apply the instance events received from the cohorts
      * @return LocalOMRSRepositoryConnector wrapping the real local connector
      */
     private LocalOMRSRepositoryConnector getLocalOMRSConnector(Connection                       connection,
-                                                               LocalOMRSConnectorProvider       connectorProvider)
+                                                               LocalOMRSConnectorProvider       connectorProvider,
+                                                               int                              inboundInstanceEventThreads)
     {
         String     methodName = "getLocalOMRSConnector";
 
@@ -1156,6 +1167,7 @@ public class OMRSOperationalServices
             localRepositoryConnector.setOrganizationName(localOrganizationName);
             localRepositoryConnector.setRepositoryHelper(new OMRSRepositoryContentHelper(localRepositoryContentManager));
             localRepositoryConnector.setRepositoryValidator(new OMRSRepositoryContentValidator(localRepositoryContentManager));
+            localRepositoryConnector.setInboundInstanceEventThreads(inboundInstanceEventThreads);
             /*
              * Ensure that the metadataCollectionName is set before calling setMetadataCollectionId()
              * otherwise the connector will create the metadataCollection adopting the (default) server name.
@@ -3,7 +3,7 @@
 package org.odpi.openmetadata.repositoryservices.archivemanager;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveSnapshot;
 
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
@@ -127,13 +128,14 @@ public class OMRSArchiveManager
 
 
     /**
-     * Unpack and process the contents an open metadata archive store, passing its contents to the local
-     * repository (if it exists).
+     * Unpack and process the contents of the open metadata types archive, passing its contents to the local
+     * repository (if it exists).  The archive is loaded from the pre-built snapshot packaged with the
+     * open metadata types when it is available, rather than being constructed in code.
      */
     private void processOpenMetadataTypes()
     {
-        OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
-        OpenMetadataArchive      openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
+        OpenMetadataTypesArchiveSnapshot openMetadataTypesArchive = new OpenMetadataTypesArchiveSnapshot();
+        OpenMetadataArchive              openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
 
         repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
         processOpenMetadataArchive(openMetadataTypes, "Open Metadata Types", repositoryContentManager, localInstanceEventProcessor);
@@ -141,8 +143,9 @@ public class OMRSArchiveManager
 
 
     /**
-     * Unpack and process the contents an open metadata archive , passing its contents to the local
-     * repository (if it exists).
+     * Unpack and process the contents an open metadata archive store, passing its contents to the local
+     * repository (if it exists).  The archive store passes its content to the archive manager one element
+     * at a time so that large archives do not need to be held in memory.
      *
      * @param archiveStore open metadata archive  to process
      * @param archiveSource source of the archive - such as file name
@@ -160,18 +163,12 @@ public class OMRSArchiveManager
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
              * metadata instances.
              */
-            OpenMetadataArchive archiveContent = archiveStore.getArchiveContents();
-
-            if (archiveContent == null)
-            {
-                final String     actionDescription = "Process Open Metadata Archive";
+            ArchiveContentProcessor contentProcessor = new ArchiveContentProcessor(archiveSource,
+                                                                                   typeDefProcessor,
+                                                                                   instanceProcessor);
 
-                auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
-            }
-            else
-            {
-                processOpenMetadataArchive(archiveContent, archiveSource, typeDefProcessor, instanceProcessor);
-            }
+            archiveStore.processArchiveContents(contentProcessor);
+            contentProcessor.completeArchive();
         }
     }
 
@@ -190,280 +187,323 @@ public class OMRSArchiveManager
                                             OMRSTypeDefEventProcessorInterface    typeDefProcessor,
                                             OMRSInstanceEventProcessorInterface   instanceProcessor)
     {
-        final String     actionDescription = "Process Open Metadata Archive";
-
-        OpenMetadataArchiveProperties archiveProperties = archiveContent.getArchiveProperties();
-
-        if (archiveProperties != null)
-        {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
-
-
-            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
-            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
+        ArchiveContentProcessor contentProcessor = new ArchiveContentProcessor(archiveSource,
+                                                                               typeDefProcessor,
+                                                                               instanceProcessor);
 
-            int                              typeCount            = 0;
-            int                              instanceCount        = 0;
-
-
-            if (archiveTypeStore != null)
-            {
-                typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
-            }
-
-            if (archiveInstanceStore != null)
-            {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
-            }
-
-            auditLog.logMessage(actionDescription,
-                                OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
-                                                                                     Integer.toString(instanceCount),
-                                                                                     archiveProperties.getArchiveName()));
-        }
-        else
-        {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
-        }
+        contentProcessor.processArchive(archiveContent);
+        contentProcessor.completeArchive();
     }
 
 
     /**
+     * ArchiveContentProcessor receives the content of a single open metadata archive and passes it to the
+     * local repository (if it exists).
+     * <p>
      * The TypeStore is in two parts.  First there is an optional list of patches to existing TypeDefs.
      * Then an optional list of new TypeDefs.  It is possible that this archive has been processed before
      * and so any duplicates detected are ignored.  However, conflicting TypeDefs are detected.
+     * </p>
+     * <p>
+     * The InstanceStore is in three parts: an optional list of entities followed by an optional list
+     * of relationships followed by an optional list of classifications.  It is possible that this archive
+     * has been processed before and so any duplicates detected are ignored.  However, conflicting instances
+     * are detected.
+     * </p>
      * Any problems found in applying the archive contents are recorded on the audit log.
-     *
-     * @param archiveProperties properties of the archive used for logging
-     * @param archiveTypeStore TypeStore from the archive
-     * @param typeDefProcessor processor of type definitions found in the archive
-     * @return type count
      */
-    private int  processTypeDefStore(OpenMetadataArchiveProperties          archiveProperties,
-                                     OpenMetadataArchiveTypeStore           archiveTypeStore,
-                                     OMRSTypeDefEventProcessorInterface     typeDefProcessor)
+    private class ArchiveContentProcessor implements OpenMetadataArchiveContentProcessor
     {
-        List<TypeDefPatch>     typeDefPatches       = archiveTypeStore.getTypeDefPatches();
-        List<AttributeTypeDef> newAttributeTypeDefs = archiveTypeStore.getAttributeTypeDefs();
-        List<TypeDef>          newTypeDefs          = archiveTypeStore.getNewTypeDefs();
-        int                    typeCount            = 0;
+        private static final String actionDescription = "Process Open Metadata Archive";
 
-        if (typeDefProcessor != null)
+        private final String                              archiveSource;
+        private final OMRSTypeDefEventProcessorInterface  typeDefProcessor;
+        private final OMRSInstanceEventProcessorInterface instanceProcessor;
+
+        private boolean                       archivePropertiesReceived = false;
+        private OpenMetadataArchiveProperties archiveProperties         = null;
+        private int                           typeCount                 = 0;
+        private int                           instanceCount             = 0;
+
+        /*
+         * Values taken from the archive properties that are passed with each type.
+         */
+        private String typeArchiveId                  = null;
+        private String originatorMetadataCollectionId = null;
+        private String originatorServerName           = null;
+        private String typeOriginatorServerType       = null;
+        private String originatorOrganizationName     = null;
+
+        /*
+         * Values taken from the archive properties that are passed with, or set into, each instance.
+         */
+        private String                 instanceArchiveId            = null;
+        private String                 instanceOriginatorServerType = OpenMetadataArchiveType.CONTENT_PACK.getName();
+        private InstanceProvenanceType provenanceType               = InstanceProvenanceType.CONTENT_PACK;
+        private Date                   archiveCreationTime          = null;
+        private String                 originatorName               = null;
+        private String                 originatorLicense            = null;
+
+
+        /**
+         * Constructor
+         *
+         * @param archiveSource source of the archive - such as file name
+         * @param typeDefProcessor processor of type definitions found in the archive
+         * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
+         *                          if there is no local repository configured for this server.
+         */
+        ArchiveContentProcessor(String                              archiveSource,
+                                OMRSTypeDefEventProcessorInterface  typeDefProcessor,
+                                OMRSInstanceEventProcessorInterface instanceProcessor)
         {
-            String       sourceName = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
-            String       originatorMetadataCollectionId = archiveProperties.getArchiveGUID();
-            String       originatorServerName = archiveProperties.getArchiveName();
-            String       originatorServerType = null;
-            String       originatorName = archiveProperties.getOriginatorName();
-            String       archiveVersion = archiveProperties.getArchiveVersion();
-            String       originatorOrganizationName = archiveProperties.getOriginatorOrganization();
+            this.archiveSource     = archiveSource;
+            this.typeDefProcessor  = typeDefProcessor;
+            this.instanceProcessor = instanceProcessor;
+        }
 
-            /*
-             * Originator name can not be null since it is used as the userId for calls to the repository
-             */
-            if (originatorName == null)
+
+        /**
+         * Save the header of the archive.  The content of an archive without properties is ignored.
+         *
+         * @param archiveProperties properties of the archive
+         */
+        @Override
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            if (archivePropertiesReceived)
             {
-                originatorName = sourceName;
+                return;
             }
 
-            String archiveId = originatorName + " (" + archiveVersion + ")";
+            this.archivePropertiesReceived = true;
+            this.archiveProperties = archiveProperties;
 
-            if (archiveProperties.getArchiveType() != null)
+            if (archiveProperties != null)
             {
-                originatorServerType = archiveProperties.getArchiveType().getName();
-            }
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
 
-            if (newAttributeTypeDefs != null)
-            {
-                for (AttributeTypeDef newAttributeTypeDef : newAttributeTypeDefs)
+                String sourceName     = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
+                String archiveVersion = archiveProperties.getArchiveVersion();
+
+                originatorMetadataCollectionId = archiveProperties.getArchiveGUID();
+                originatorServerName = archiveProperties.getArchiveName();
+                originatorName = archiveProperties.getOriginatorName();
+                originatorOrganizationName = archiveProperties.getOriginatorOrganization();
+                originatorLicense = archiveProperties.getOriginatorLicense();
+                archiveCreationTime = archiveProperties.getCreationDate();
+
+                instanceArchiveId = originatorName + " (" + archiveVersion + ")";
+
+                /*
+                 * Originator name can not be null since it is used as the userId for calls to the repository
+                 */
+                if (originatorName == null)
                 {
-                    if (newAttributeTypeDef != null)
-                    {
-                        typeDefProcessor.processNewAttributeTypeDefEvent(archiveId,
-                                                                         originatorMetadataCollectionId,
-                                                                         originatorServerName,
-                                                                         originatorServerType,
-                                                                         originatorOrganizationName,
-                                                                         newAttributeTypeDef);
-
-                        typeCount ++;
-                    }
+                    typeArchiveId = sourceName + " (" + archiveVersion + ")";
+                }
+                else
+                {
+                    typeArchiveId = instanceArchiveId;
                 }
-            }
 
-            if (newTypeDefs != null)
-            {
-                for (TypeDef newTypeDef : newTypeDefs)
+                if (archiveProperties.getArchiveType() != null)
                 {
-                    if (newTypeDef != null)
-                    {
-                        typeDefProcessor.processNewTypeDefEvent(archiveId,
-                                                                originatorMetadataCollectionId,
-                                                                originatorServerName,
-                                                                originatorServerType,
-                                                                originatorOrganizationName,
-                                                                newTypeDef);
-                        typeCount ++;
-                    }
+                    typeOriginatorServerType = archiveProperties.getArchiveType().getName();
                 }
-            }
 
-            if (typeDefPatches != null)
-            {
-                for (TypeDefPatch typeDefPatch : typeDefPatches)
+                if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
                 {
-                    if (typeDefPatch != null)
-                    {
-                        typeDefProcessor.processUpdatedTypeDefEvent(archiveId,
-                                                                    originatorMetadataCollectionId,
-                                                                    originatorServerName,
-                                                                    originatorServerType,
-                                                                    originatorOrganizationName,
-                                                                    typeDefPatch);
-                        typeCount ++;
-                    }
+                    provenanceType               = InstanceProvenanceType.EXPORT_ARCHIVE;
+                    instanceOriginatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
                 }
             }
         }
 
-        return typeCount;
-    }
 
+        /**
+         * Pass a new AttributeTypeDef to the local repository.
+         *
+         * @param attributeTypeDef new attribute type definition
+         */
+        @Override
+        public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
+        {
+            if ((archiveProperties != null) && (typeDefProcessor != null) && (attributeTypeDef != null))
+            {
+                typeDefProcessor.processNewAttributeTypeDefEvent(typeArchiveId,
+                                                                 originatorMetadataCollectionId,
+                                                                 originatorServerName,
+                                                                 typeOriginatorServerType,
+                                                                 originatorOrganizationName,
+                                                                 attributeTypeDef);
+
+                typeCount ++;
+            }
+        }
 
-    /**
-     * The InstanceStore is in three parts: an optional list of entities followed by an optional list
-     * of relationships followed by an optional list of classifications.
-     *
-     * It is possible that this archive has been processed before
-     * and so any duplicates detected are ignored.  However, conflicting instances are detected.
-     * Any problems found in applying the archive contents are recorded on the audit log.
-     *
-     * @param archiveProperties properties describing the archive used in logging
-     * @param archiveInstanceStore the instance store to process
-     * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
-     *                          if there is no local repository configured for this server.
-     * @return instance count
-     */
-    private int  processInstanceStore(OpenMetadataArchiveProperties             archiveProperties,
-                                      OpenMetadataArchiveInstanceStore          archiveInstanceStore,
-                                      OMRSInstanceEventProcessorInterface       instanceProcessor)
-    {
-        List<EntityDetail>                  entities        = archiveInstanceStore.getEntities();
-        List<Relationship>                  relationships   = archiveInstanceStore.getRelationships();
-        List<ClassificationEntityExtension> classifications = archiveInstanceStore.getClassifications();
-        int                                 instanceCount   = 0;
 
-        if (instanceProcessor != null)
+        /**
+         * Pass a new TypeDef to the local repository.
+         *
+         * @param typeDef new type definition
+         */
+        @Override
+        public void processTypeDef(TypeDef typeDef)
         {
-            String                 sourceName                 = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
-            String                 homeMetadataCollectionId   = archiveProperties.getArchiveGUID();
-            String                 archiveName                = archiveProperties.getArchiveName();
-            String                 originatorServerType       = OpenMetadataArchiveType.CONTENT_PACK.getName();
-            InstanceProvenanceType provenanceType             = InstanceProvenanceType.CONTENT_PACK;
-            Date                   archiveCreationTime        = archiveProperties.getCreationDate();
-            String                 originatorName             = archiveProperties.getOriginatorName();
-            String                 archiveVersion             = archiveProperties.getArchiveVersion();
-            String                 originatorOrganizationName = archiveProperties.getOriginatorOrganization();
-            String                 originatorLicense          = archiveProperties.getOriginatorLicense();
-
-            String archiveId = originatorName + " (" + archiveVersion + ")";
-
-            if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
+            if ((archiveProperties != null) && (typeDefProcessor != null) && (typeDef != null))
             {
-                provenanceType       = InstanceProvenanceType.EXPORT_ARCHIVE;
-                originatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
+                typeDefProcessor.processNewTypeDefEvent(typeArchiveId,
+                                                        originatorMetadataCollectionId,
+                                                        originatorServerName,
+                                                        typeOriginatorServerType,
+                                                        originatorOrganizationName,
+                                                        typeDef);
+                typeCount ++;
             }
+        }
 
 
-            if (entities != null)
+        /**
+         * Pass a TypeDef patch to the local repository.
+         *
+         * @param typeDefPatch patch
+         */
+        @Override
+        public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+        {
+            if ((archiveProperties != null) && (typeDefProcessor != null) && (typeDefPatch != null))
             {
-                for (EntityDetail entity : entities)
-                {
-                    if (entity != null)
-                    {
-                        this.setInstanceAuditHeader(homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    entity);
-
-                        instanceProcessor.processNewEntityEvent(archiveId,
-                                                                homeMetadataCollectionId,
-                                                                archiveName,
-                                                                originatorServerType,
-                                                                originatorOrganizationName,
-                                                                entity);
+                typeDefProcessor.processUpdatedTypeDefEvent(typeArchiveId,
+                                                            originatorMetadataCollectionId,
+                                                            originatorServerName,
+                                                            typeOriginatorServerType,
+                                                            originatorOrganizationName,
+                                                            typeDefPatch);
+                typeCount ++;
+            }
+        }
 
-                        instanceCount++;
-                    }
-                }
+
+        /**
+         * Pass an entity to the local repository.
+         *
+         * @param entity entity
+         */
+        @Override
+        public void processEntity(EntityDetail entity)
+        {
+            if ((archiveProperties != null) && (instanceProcessor != null) && (entity != null))
+            {
+                setInstanceAuditHeader(originatorMetadataCollectionId,
+                                       originatorServerName,
+                                       originatorName,
+                                       archiveCreationTime,
+                                       provenanceType,
+                                       originatorLicense,
+                                       entity);
+
+                instanceProcessor.processNewEntityEvent(instanceArchiveId,
+                                                        originatorMetadataCollectionId,
+                                                        originatorServerName,
+                                                        instanceOriginatorServerType,
+                                                        originatorOrganizationName,
+                                                        entity);
+
+                instanceCount++;
             }
+        }
 
 
-            if (relationships != null)
+        /**
+         * Pass a relationship to the local repository.
+         *
+         * @param relationship relationship
+         */
+        @Override
+        public void processRelationship(Relationship relationship)
+        {
+            if ((archiveProperties != null) && (instanceProcessor != null) && (relationship != null))
             {
-                for (Relationship relationship : relationships)
-                {
-                    if (relationship != null)
-                    {
-                        this.setInstanceAuditHeader(homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    relationship);
-
-                        instanceProcessor.processNewRelationshipEvent(archiveId,
-                                                                      homeMetadataCollectionId,
-                                                                      archiveName,
-                                                                      originatorServerType,
-                                                                      originatorOrganizationName,
-                                                                      relationship);
-
-                        instanceCount ++;
-                    }
-                }
+                setInstanceAuditHeader(originatorMetadataCollectionId,
+                                       originatorServerName,
+                                       originatorName,
+                                       archiveCreationTime,
+                                       provenanceType,
+                                       originatorLicense,
+                                       relationship);
+
+                instanceProcessor.processNewRelationshipEvent(instanceArchiveId,
+                                                              originatorMetadataCollectionId,
+                                                              originatorServerName,
+                                                              instanceOriginatorServerType,
+                                                              originatorOrganizationName,
+                                                              relationship);
+
+                instanceCount ++;
             }
+        }
 
 
-            if (classifications != null)
+        /**
+         * Prepare a classification for the local repository.
+         *
+         * @param classificationEntityExtension classification and the entity it is attached to
+         */
+        @Override
+        public void processClassification(ClassificationEntityExtension classificationEntityExtension)
+        {
+            if ((archiveProperties != null) && (instanceProcessor != null) && (classificationEntityExtension != null))
             {
-                for (ClassificationEntityExtension classificationEntityExtension : classifications)
-                {
-                    if (classificationEntityExtension != null)
-                    {
-                        Classification classification = classificationEntityExtension.getClassification();
-
-                        this.setInstanceAuditHeader(homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    classification);
-
-                        classificationEntityExtension.setClassification(classification);
-
-                        // Todo
-                        /* new method required
-                        instanceProcessor.processNewClassificationEvent(archiveId,
-                                                                        homeMetadataCollectionId,
-                                                                        originatorServerName,
-                                                                        originatorServerType,
-                                                                        originatorOrganizationName,
-                                                                        classificationEntityExtension);
-
-                        instanceCount ++;
-                        */
-                    }
-                }
+                Classification classification = classificationEntityExtension.getClassification();
+
+                setInstanceAuditHeader(originatorMetadataCollectionId,
+                                       originatorServerName,
+                                       originatorName,
+                                       archiveCreationTime,
+                                       provenanceType,
+                                       originatorLicense,
+                                       classification);
+
+                classificationEntityExtension.setClassification(classification);
+
+                // Todo
+                /* new method required
+                instanceProcessor.processNewClassificationEvent(instanceArchiveId,
+                                                                originatorMetadataCollectionId,
+                                                                originatorServerName,
+                                                                instanceOriginatorServerType,
+                                                                originatorOrganizationName,
+                                                                classificationEntityExtension);
+
+                instanceCount ++;
+                */
             }
         }
 
-        return instanceCount;
+
+        /**
+         * Record the outcome of processing the archive on the audit log.
+         */
+        void completeArchive()
+        {
+            if (! archivePropertiesReceived)
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
+            }
+            else if (archiveProperties == null)
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+            }
+            else
+            {
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
+                                                                                         Integer.toString(instanceCount),
+                                                                                         archiveProperties.getArchiveName()));
+            }
+        }
     }
 
 
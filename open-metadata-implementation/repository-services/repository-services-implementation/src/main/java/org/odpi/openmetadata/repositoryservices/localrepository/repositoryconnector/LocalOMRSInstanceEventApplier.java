@@ -0,0 +1,709 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LocalOMRSInstanceEventApplier applies the inbound instance events received from the cohorts to the local
+ * repository on a fixed number of worker lanes rather than on the thread of the cohort topic listener.
+ * <p>
+ * Each event is assigned to a lane using the GUID of the instance it describes, so all of the events for an
+ * instance are applied in the order they were received.  Events for different instances may be applied in
+ * parallel.  Instance batch events are split so that each instance in the batch is applied on its own lane.
+ * The entities in the batch are applied before its relationships are queued so that a relationship is never
+ * saved ahead of the entities at its ends.  The few events that do not identify a single instance (such as
+ * conflict events) wait until all of the lanes are idle and are then applied on the listener thread.
+ * </p>
+ * <p>
+ * Each lane has a bounded queue.  When a lane's queue is full, the listener thread waits, which slows the
+ * consumption of the cohort topic to the rate that the local repository can accept the events.
+ * A lane takes all of the events that are waiting on its queue (up to a limit) and saves the reference copies
+ * from consecutive new and updated instance events with a single call to saveInstanceReferenceCopies().
+ * An event that fails is reported through the event handler and the lane carries on with the next event.
+ * </p>
+ */
+class LocalOMRSInstanceEventApplier
+{
+    private static final Logger log = LoggerFactory.getLogger(LocalOMRSInstanceEventApplier.class);
+
+    private static final int  LANE_QUEUE_CAPACITY = 1000;
+    private static final int  MAX_BATCH_SIZE      = 100;
+    private static final long POLL_INTERVAL_MSECS = 500;
+    private static final long SHUTDOWN_WAIT_MSECS = 30000;
+
+    private final EventHandler eventProcessor;
+    private final Lane[]       lanes;
+
+
+    /**
+     * EventHandler validates and saves the events taken from the lanes.  It is implemented by the
+     * LocalOMRSInstanceEventProcessor.
+     */
+    interface EventHandler
+    {
+        /**
+         * Return whether the event carries a new or updated instance that can be saved as a reference copy
+         * along with the instances from other events.
+         *
+         * @param instanceEvent event
+         * @return boolean flag
+         */
+        boolean isReferenceCopyEvent(OMRSInstanceEvent instanceEvent);
+
+
+        /**
+         * Log and validate a new or updated instance event without saving the instance.
+         *
+         * @param cohortName source of the event
+         * @param instanceEvent the event to process
+         * @return instance to save as a reference copy or null if the instance is not to be saved
+         */
+        InstanceHeader prepareReferenceCopy(String cohortName, OMRSInstanceEvent instanceEvent);
+
+
+        /**
+         * Save the reference copies returned by prepareReferenceCopy().
+         *
+         * @param instanceEvents events that the instances came from
+         * @param instances instances to save (in the same order as the events)
+         */
+        void saveReferenceCopies(List<OMRSInstanceEvent> instanceEvents, List<InstanceHeader> instances);
+
+
+        /**
+         * Unpack and process the event.
+         *
+         * @param cohortName source of the event
+         * @param instanceEvent the event to process
+         */
+        void applyInstanceEvent(String cohortName, OMRSInstanceEvent instanceEvent);
+
+
+        /**
+         * Report an event that could not be applied.
+         *
+         * @param instanceEvent event
+         * @param error exception from applying the event
+         */
+        void reportFailedEvent(OMRSInstanceEvent instanceEvent, Exception error);
+    }
+
+
+    /**
+     * Constructor creates and starts the worker lanes.
+     *
+     * @param eventProcessor event handler that validates and saves the events
+     * @param laneCount number of lanes (at least 2)
+     * @param serverName name of the local server (for thread names)
+     */
+    LocalOMRSInstanceEventApplier(EventHandler eventProcessor,
+                                  int          laneCount,
+                                  String       serverName)
+    {
+        this.eventProcessor = eventProcessor;
+        this.lanes = new Lane[laneCount];
+
+        for (int i = 0; i < laneCount; i++)
+        {
+            lanes[i] = new Lane(i);
+
+            Thread laneThread = new Thread(lanes[i], "InboundInstanceEvents-" + serverName + "-" + i);
+
+            laneThread.setDaemon(true);
+            laneThread.start();
+
+            lanes[i].thread = laneThread;
+        }
+    }
+
+
+    /**
+     * Queue an event for processing.  This method waits if the lane's queue is full.
+     *
+     * @param cohortName name of the cohort that the event came from
+     * @param instanceEvent event
+     */
+    void submit(String            cohortName,
+                OMRSInstanceEvent instanceEvent)
+    {
+        String instanceGUID = getInstanceGUID(instanceEvent);
+
+        if (instanceGUID != null)
+        {
+            lanes[getLaneNumber(instanceGUID)].put(new PendingEvent(cohortName, instanceEvent));
+        }
+        else if ((instanceEvent.getInstanceEventType() == OMRSInstanceEventType.BATCH_INSTANCES_EVENT) &&
+                 (instanceEvent.getInstanceBatch() != null))
+        {
+            submitBatch(cohortName, instanceEvent);
+        }
+        else
+        {
+            /*
+             * The event may affect any instance so all of the preceding events must be applied first.
+             */
+            awaitIdle();
+            eventProcessor.applyInstanceEvent(cohortName, instanceEvent);
+        }
+    }
+
+
+    /**
+     * Split an instance batch event into a batch for each lane.  The entities are queued first and the relationships
+     * are only queued once the lanes holding the entities are idle.
+     *
+     * @param cohortName name of the cohort that the event came from
+     * @param instanceEvent batch event
+     */
+    private void submitBatch(String            cohortName,
+                             OMRSInstanceEvent instanceEvent)
+    {
+        InstanceGraph            instances         = instanceEvent.getInstanceBatch();
+        List<List<EntityDetail>> laneEntities      = new ArrayList<>();
+        List<List<Relationship>> laneRelationships = new ArrayList<>();
+
+        for (int i = 0; i < lanes.length; i++)
+        {
+            laneEntities.add(new ArrayList<>());
+            laneRelationships.add(new ArrayList<>());
+        }
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (entity.getGUID() != null))
+                {
+                    laneEntities.get(getLaneNumber(entity.getGUID())).add(entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (relationship.getGUID() != null))
+                {
+                    laneRelationships.get(getLaneNumber(relationship.getGUID())).add(relationship);
+                }
+            }
+        }
+
+        boolean relationshipsQueued = false;
+
+        for (int i = 0; i < lanes.length; i++)
+        {
+            if (! laneEntities.get(i).isEmpty())
+            {
+                putBatch(cohortName, instanceEvent, i, laneEntities.get(i), new ArrayList<>());
+            }
+        }
+
+        for (int i = 0; i < lanes.length; i++)
+        {
+            if (! laneRelationships.get(i).isEmpty())
+            {
+                if (! relationshipsQueued)
+                {
+                    for (int j = 0; j < lanes.length; j++)
+                    {
+                        if (! laneEntities.get(j).isEmpty())
+                        {
+                            lanes[j].awaitIdle();
+                        }
+                    }
+
+                    relationshipsQueued = true;
+                }
+
+                putBatch(cohortName, instanceEvent, i, new ArrayList<>(), laneRelationships.get(i));
+            }
+        }
+    }
+
+
+    /**
+     * Queue part of an instance batch event on a lane.
+     *
+     * @param cohortName name of the cohort that the event came from
+     * @param instanceEvent original batch event
+     * @param laneNumber lane to use
+     * @param entities entities for the lane
+     * @param relationships relationships for the lane
+     */
+    private void putBatch(String             cohortName,
+                          OMRSInstanceEvent  instanceEvent,
+                          int                laneNumber,
+                          List<EntityDetail> entities,
+                          List<Relationship> relationships)
+    {
+        OMRSInstanceEvent laneEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT,
+                                                            new InstanceGraph(entities, relationships));
+
+        laneEvent.setEventOriginator(instanceEvent.getEventOriginator());
+        lanes[laneNumber].put(new PendingEvent(cohortName, laneEvent));
+    }
+
+
+    /**
+     * Return the unique identifier of the instance that the event describes.  Null is returned for events that
+     * describe many instances, and for re-identify events since they affect the events of two GUIDs.
+     *
+     * @param instanceEvent event
+     * @return instance GUID or null
+     */
+    private String getInstanceGUID(OMRSInstanceEvent instanceEvent)
+    {
+        OMRSInstanceEventType eventType = instanceEvent.getInstanceEventType();
+
+        if ((eventType == null) ||
+            (eventType == OMRSInstanceEventType.BATCH_INSTANCES_EVENT) ||
+            (eventType == OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT) ||
+            (eventType == OMRSInstanceEventType.RE_IDENTIFIED_RELATIONSHIP_EVENT))
+        {
+            return null;
+        }
+
+        if (instanceEvent.getEntity() != null)
+        {
+            return instanceEvent.getEntity().getGUID();
+        }
+
+        if (instanceEvent.getRelationship() != null)
+        {
+            return instanceEvent.getRelationship().getGUID();
+        }
+
+        return instanceEvent.getInstanceGUID();
+    }
+
+
+    /**
+     * Return the lane for an instance.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @return lane number
+     */
+    private int getLaneNumber(String instanceGUID)
+    {
+        return Math.floorMod(instanceGUID.hashCode(), lanes.length);
+    }
+
+
+    /**
+     * Wait until all of the events that have been submitted have been applied.
+     */
+    void awaitIdle()
+    {
+        for (Lane lane : lanes)
+        {
+            lane.awaitIdle();
+        }
+    }
+
+
+    /**
+     * Return the current statistics for each lane.
+     *
+     * @return list of statistics in lane order
+     */
+    List<LocalOMRSInstanceEventLaneStatistics> getLaneStatistics()
+    {
+        List<LocalOMRSInstanceEventLaneStatistics> laneStatistics = new ArrayList<>();
+
+        for (Lane lane : lanes)
+        {
+            laneStatistics.add(lane.getStatistics());
+        }
+
+        return laneStatistics;
+    }
+
+
+    /**
+     * Apply the events that are already queued and then stop the lanes.
+     */
+    void shutdown()
+    {
+        for (Lane lane : lanes)
+        {
+            lane.active = false;
+        }
+
+        for (Lane lane : lanes)
+        {
+            try
+            {
+                lane.thread.join(SHUTDOWN_WAIT_MSECS);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * PendingEvent is an event waiting on a lane's queue.
+     */
+    private static class PendingEvent
+    {
+        final String            cohortName;
+        final OMRSInstanceEvent instanceEvent;
+        final long              queuedTime = System.nanoTime();
+
+        /**
+         * Constructor
+         *
+         * @param cohortName name of the cohort that the event came from
+         * @param instanceEvent event
+         */
+        PendingEvent(String            cohortName,
+                     OMRSInstanceEvent instanceEvent)
+        {
+            this.cohortName = cohortName;
+            this.instanceEvent = instanceEvent;
+        }
+    }
+
+
+    /**
+     * Lane applies the events for its share of the instances in the order they were received.
+     */
+    private class Lane implements Runnable
+    {
+        private final int                         laneNumber;
+        private final BlockingQueue<PendingEvent> queue                = new LinkedBlockingQueue<>(LANE_QUEUE_CAPACITY);
+        private final AtomicInteger               unappliedEvents      = new AtomicInteger(0);
+        private final LongAdder                   eventsApplied        = new LongAdder();
+        private final LongAdder                   eventsFailed         = new LongAdder();
+        private final LongAdder                   referenceCopyBatches = new LongAdder();
+        private final LongAdder                   totalApplyNanos      = new LongAdder();
+        private final LongAdder                   totalLatencyNanos    = new LongAdder();
+        private volatile int                      maxQueueDepth        = 0;
+        private volatile boolean                  active               = true;
+        private Thread                            thread               = null;
+
+        /*
+         * These are only used by the lane's thread.
+         */
+        private final List<PendingEvent>          pendingSaveEvents    = new ArrayList<>();
+        private final List<InstanceHeader>        pendingSaveInstances = new ArrayList<>();
+        private final Set<String>                 pendingSaveGUIDs     = new HashSet<>();
+
+
+        /**
+         * Constructor
+         *
+         * @param laneNumber index of this lane
+         */
+        Lane(int laneNumber)
+        {
+            this.laneNumber = laneNumber;
+        }
+
+
+        /**
+         * Add an event to the queue, waiting if it is full.  An interrupt does not stop the event being queued
+         * (so the order of the events for an instance is kept); the thread's interrupt flag is set again once the
+         * event is on the queue.  If the lane has stopped, the event can not be queued and is reported as failed.
+         *
+         * @param pendingEvent event to add
+         */
+        void put(PendingEvent pendingEvent)
+        {
+            boolean interrupted = false;
+
+            unappliedEvents.incrementAndGet();
+
+            try
+            {
+                while (true)
+                {
+                    try
+                    {
+                        if (queue.offer(pendingEvent, POLL_INTERVAL_MSECS, TimeUnit.MILLISECONDS))
+                        {
+                            break;
+                        }
+
+                        if (! thread.isAlive())
+                        {
+                            reportFailedEvent(pendingEvent, new IllegalStateException("Lane " + laneNumber + " has stopped"));
+                            recordEventsApplied(1);
+                            return;
+                        }
+                    }
+                    catch (InterruptedException error)
+                    {
+                        log.debug("Interrupted while queuing event on lane " + laneNumber + "; still queuing it");
+                        interrupted = true;
+                    }
+                }
+            }
+            finally
+            {
+                if (interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            int queueDepth = queue.size();
+
+            if (queueDepth > maxQueueDepth)
+            {
+                maxQueueDepth = queueDepth;
+            }
+        }
+
+
+        /**
+         * Take events from the queue and apply them until the lane is shut down and the queue is empty.
+         */
+        @Override
+        public void run()
+        {
+            List<PendingEvent> events = new ArrayList<>();
+
+            /*
+             * The queue is polled rather than waited on without a timeout so that the lane notices when it is
+             * shut down without needing to be interrupted while it is calling the repository.
+             */
+            while (active || (! queue.isEmpty()))
+            {
+                try
+                {
+                    PendingEvent firstEvent = queue.poll(POLL_INTERVAL_MSECS, TimeUnit.MILLISECONDS);
+
+                    if (firstEvent != null)
+                    {
+                        events.add(firstEvent);
+                        queue.drainTo(events, MAX_BATCH_SIZE - 1);
+
+                        applyEvents(events);
+                    }
+                }
+                catch (InterruptedException error)
+                {
+                    log.debug("Lane " + laneNumber + " interrupted");
+                }
+                catch (Exception error)
+                {
+                    /*
+                     * applyEvents() reports each failed event, so this is not expected.  The counts are
+                     * updated so that awaitIdle() does not wait for events that will never be applied.
+                     */
+                    log.error("Unexpected exception applying inbound instance events on lane " + laneNumber, error);
+
+                    pendingSaveEvents.clear();
+                    pendingSaveInstances.clear();
+                    pendingSaveGUIDs.clear();
+                    recordEventsApplied(events.size());
+                }
+
+                events.clear();
+            }
+        }
+
+
+        /**
+         * Apply the events in order.  The reference copies from new and updated instance events are collected
+         * and saved together, unless another event for the same instance appears before they are saved.
+         * A failure is reported against the event (or events) that caused it and the remaining events are applied.
+         *
+         * @param events events taken from the queue
+         */
+        private void applyEvents(List<PendingEvent> events)
+        {
+            long startTime = System.nanoTime();
+
+            for (PendingEvent pendingEvent : events)
+            {
+                totalLatencyNanos.add(startTime - pendingEvent.queuedTime);
+
+                if (eventProcessor.isReferenceCopyEvent(pendingEvent.instanceEvent))
+                {
+                    String instanceGUID = getInstanceGUID(pendingEvent.instanceEvent);
+
+                    if (pendingSaveGUIDs.contains(instanceGUID))
+                    {
+                        saveReferenceCopies();
+                    }
+
+                    try
+                    {
+                        InstanceHeader instance = eventProcessor.prepareReferenceCopy(pendingEvent.cohortName, pendingEvent.instanceEvent);
+
+                        if (instance != null)
+                        {
+                            pendingSaveEvents.add(pendingEvent);
+                            pendingSaveInstances.add(instance);
+                            pendingSaveGUIDs.add(instanceGUID);
+                        }
+                    }
+                    catch (Exception error)
+                    {
+                        reportFailedEvent(pendingEvent, error);
+                    }
+                }
+                else
+                {
+                    saveReferenceCopies();
+
+                    try
+                    {
+                        eventProcessor.applyInstanceEvent(pendingEvent.cohortName, pendingEvent.instanceEvent);
+                    }
+                    catch (Exception error)
+                    {
+                        reportFailedEvent(pendingEvent, error);
+                    }
+                }
+            }
+
+            saveReferenceCopies();
+
+            totalApplyNanos.add(System.nanoTime() - startTime);
+            recordEventsApplied(events.size());
+        }
+
+
+        /**
+         * Save the collected reference copies.
+         */
+        private void saveReferenceCopies()
+        {
+            if (! pendingSaveInstances.isEmpty())
+            {
+                List<OMRSInstanceEvent> instanceEvents = new ArrayList<>();
+
+                for (PendingEvent pendingEvent : pendingSaveEvents)
+                {
+                    instanceEvents.add(pendingEvent.instanceEvent);
+                }
+
+                try
+                {
+                    eventProcessor.saveReferenceCopies(instanceEvents, pendingSaveInstances);
+
+                    if (pendingSaveInstances.size() > 1)
+                    {
+                        referenceCopyBatches.increment();
+                    }
+                }
+                catch (Exception error)
+                {
+                    for (PendingEvent pendingEvent : pendingSaveEvents)
+                    {
+                        reportFailedEvent(pendingEvent, error);
+                    }
+                }
+
+                pendingSaveEvents.clear();
+                pendingSaveInstances.clear();
+                pendingSaveGUIDs.clear();
+            }
+        }
+
+
+        /**
+         * Pass an event that could not be applied to the event handler to report.
+         *
+         * @param pendingEvent event that failed
+         * @param error exception from applying the event
+         */
+        private void reportFailedEvent(PendingEvent pendingEvent,
+                                       Exception    error)
+        {
+            eventsFailed.increment();
+
+            try
+            {
+                eventProcessor.reportFailedEvent(pendingEvent.instanceEvent, error);
+            }
+            catch (Exception reportError)
+            {
+                log.error("Unable to report failed inbound instance event on lane " + laneNumber, reportError);
+            }
+        }
+
+
+        /**
+         * Record that events have been applied and wake up any thread waiting for the lane to be idle.
+         *
+         * @param eventCount number of events
+         */
+        private void recordEventsApplied(int eventCount)
+        {
+            eventsApplied.add(eventCount);
+
+            if (unappliedEvents.addAndGet(- eventCount) <= 0)
+            {
+                synchronized (this)
+                {
+                    this.notifyAll();
+                }
+            }
+        }
+
+
+        /**
+         * Wait until all of the events submitted to this lane have been applied.
+         */
+        synchronized void awaitIdle()
+        {
+            while ((unappliedEvents.get() > 0) && (thread.isAlive()))
+            {
+                try
+                {
+                    this.wait(100);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+
+        /**
+         * Return the current statistics for this lane.
+         *
+         * @return statistics
+         */
+        LocalOMRSInstanceEventLaneStatistics getStatistics()
+        {
+            return new LocalOMRSInstanceEventLaneStatistics(laneNumber,
+                                                            queue.size(),
+                                                            maxQueueDepth,
+                                                            eventsApplied.sum(),
+                                                            eventsFailed.sum(),
+                                                            referenceCopyBatches.sum(),
+                                                            totalApplyNanos.sum(),
+                                                            totalLatencyNanos.sum());
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import java.util.Objects;
+
+/**
+ * LocalOMRSInstanceEventLaneStatistics is a snapshot of the activity of one of the worker lanes that apply
+ * inbound instance events to the local repository.  A steadily growing queue depth shows that the local
+ * repository can not keep up with the events from the cohorts, and the topic listener is being slowed down.
+ */
+public class LocalOMRSInstanceEventLaneStatistics
+{
+    private final int  laneNumber;
+    private final int  queueDepth;
+    private final int  maxQueueDepth;
+    private final long eventsApplied;
+    private final long eventsFailed;
+    private final long referenceCopyBatches;
+    private final long totalApplyNanos;
+    private final long totalLatencyNanos;
+
+
+    /**
+     * Constructor
+     *
+     * @param laneNumber index of the lane
+     * @param queueDepth number of events waiting on the lane's queue
+     * @param maxQueueDepth largest number of events that have been waiting on the lane's queue
+     * @param eventsApplied number of events that the lane has applied
+     * @param eventsFailed number of the applied events that failed
+     * @param referenceCopyBatches number of times that the lane has saved several reference copies in one call
+     * @param totalApplyNanos total time that the lane has spent applying events (nanoseconds)
+     * @param totalLatencyNanos total time that the applied events waited on the lane's queue (nanoseconds)
+     */
+    public LocalOMRSInstanceEventLaneStatistics(int  laneNumber,
+                                                int  queueDepth,
+                                                int  maxQueueDepth,
+                                                long eventsApplied,
+                                                long eventsFailed,
+                                                long referenceCopyBatches,
+                                                long totalApplyNanos,
+                                                long totalLatencyNanos)
+    {
+        this.laneNumber = laneNumber;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.eventsApplied = eventsApplied;
+        this.eventsFailed = eventsFailed;
+        this.referenceCopyBatches = referenceCopyBatches;
+        this.totalApplyNanos = totalApplyNanos;
+        this.totalLatencyNanos = totalLatencyNanos;
+    }
+
+
+    /**
+     * Return the index of the lane.
+     *
+     * @return int
+     */
+    public int getLaneNumber()
+    {
+        return laneNumber;
+    }
+
+
+    /**
+     * Return the number of events waiting on the lane's queue.
+     *
+     * @return int
+     */
+    public int getQueueDepth()
+    {
+        return queueDepth;
+    }
+
+
+    /**
+     * Return the largest number of events that have been waiting on the lane's queue.
+     *
+     * @return int
+     */
+    public int getMaxQueueDepth()
+    {
+        return maxQueueDepth;
+    }
+
+
+    /**
+     * Return the number of events that the lane has applied.
+     *
+     * @return long
+     */
+    public long getEventsApplied()
+    {
+        return eventsApplied;
+    }
+
+
+    /**
+     * Return the number of the applied events that failed.  Each failure is reported in the audit log.
+     *
+     * @return long
+     */
+    public long getEventsFailed()
+    {
+        return eventsFailed;
+    }
+
+
+    /**
+     * Return the number of times that the lane has saved several reference copies in one call to the repository.
+     *
+     * @return long
+     */
+    public long getReferenceCopyBatches()
+    {
+        return referenceCopyBatches;
+    }
+
+
+    /**
+     * Return the total time that the lane has spent applying events.
+     *
+     * @return nanoseconds
+     */
+    public long getTotalApplyNanos()
+    {
+        return totalApplyNanos;
+    }
+
+
+    /**
+     * Return the total time that the applied events waited on the lane's queue.
+     *
+     * @return nanoseconds
+     */
+    public long getTotalLatencyNanos()
+    {
+        return totalLatencyNanos;
+    }
+
+
+    /**
+     * Return the average time taken to apply an event.
+     *
+     * @return microseconds
+     */
+    public long getAverageApplyMicros()
+    {
+        return (eventsApplied == 0) ? 0 : (totalApplyNanos / eventsApplied) / 1000;
+    }
+
+
+    /**
+     * Return the average time that an event waited on the lane's queue.
+     *
+     * @return microseconds
+     */
+    public long getAverageLatencyMicros()
+    {
+        return (eventsApplied == 0) ? 0 : (totalLatencyNanos / eventsApplied) / 1000;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "LocalOMRSInstanceEventLaneStatistics{" +
+                "laneNumber=" + laneNumber +
+                ", queueDepth=" + queueDepth +
+                ", maxQueueDepth=" + maxQueueDepth +
+                ", eventsApplied=" + eventsApplied +
+                ", eventsFailed=" + eventsFailed +
+                ", referenceCopyBatches=" + referenceCopyBatches +
+                ", averageApplyMicros=" + getAverageApplyMicros() +
+                ", averageLatencyMicros=" + getAverageLatencyMicros() +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        LocalOMRSInstanceEventLaneStatistics that = (LocalOMRSInstanceEventLaneStatistics) objectToCompare;
+        return laneNumber == that.laneNumber &&
+                       queueDepth == that.queueDepth &&
+                       maxQueueDepth == that.maxQueueDepth &&
+                       eventsApplied == that.eventsApplied &&
+                       eventsFailed == that.eventsFailed &&
+                       referenceCopyBatches == that.referenceCopyBatches &&
+                       totalApplyNanos == that.totalApplyNanos &&
+                       totalLatencyNanos == that.totalLatencyNanos;
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(laneNumber, queueDepth, maxQueueDepth, eventsApplied, eventsFailed, referenceCopyBatches, totalApplyNanos,
+                            totalLatencyNanos);
+    }
+}
@@ -23,6 +23,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -49,6 +52,12 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     private boolean                         produceRefreshEvents;
     private OMRSRepositoryEventProcessor    outboundRepositoryEventProcessor;
 
+    /*
+     * The event applier is only created when the local repository is configured to apply inbound events
+     * on more than one thread.  Otherwise the events are applied on the thread of the cohort topic listener.
+     */
+    private volatile LocalOMRSInstanceEventApplier eventApplier = null;
+
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
      * the open metadata repository.  The Logger is for standard debug.
@@ -171,7 +180,55 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
 
     /**
-     * Unpack and process the incoming event
+     * Start the worker lanes that apply the inbound instance events.  Events for the same instance are always
+     * applied on the same lane so they are applied in the order they were received.
+     *
+     * @param laneCount number of lanes - a value of one or less means the events are applied on the
+     *                  thread of the cohort topic listener
+     */
+    synchronized void startEventApplier(int laneCount)
+    {
+        if ((laneCount > 1) && (eventApplier == null))
+        {
+            eventApplier = new LocalOMRSInstanceEventApplier(new LaneEventHandler(), laneCount, localServerName);
+        }
+    }
+
+
+    /**
+     * Apply any queued inbound instance events and stop the worker lanes.
+     */
+    synchronized void shutdown()
+    {
+        if (eventApplier != null)
+        {
+            eventApplier.shutdown();
+            eventApplier = null;
+        }
+    }
+
+
+    /**
+     * Return the statistics for each of the worker lanes that apply the inbound instance events.
+     *
+     * @return list of statistics in lane order (empty if the events are applied on the listener thread)
+     */
+    List<LocalOMRSInstanceEventLaneStatistics> getLaneStatistics()
+    {
+        LocalOMRSInstanceEventApplier currentApplier = eventApplier;
+
+        if (currentApplier == null)
+        {
+            return Collections.emptyList();
+        }
+
+        return currentApplier.getLaneStatistics();
+    }
+
+
+    /**
+     * Unpack and process the incoming event.  If worker lanes have been started, the event is queued for
+     * its lane, otherwise it is applied on the caller's thread.
      *
      * @param cohortName source of the event
      * @param instanceEvent the event to process
@@ -179,6 +236,213 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     @Override
     public void   sendInstanceEvent(String            cohortName,
                                     OMRSInstanceEvent instanceEvent)
+    {
+        LocalOMRSInstanceEventApplier currentApplier = eventApplier;
+
+        if (currentApplier != null)
+        {
+            currentApplier.submit(cohortName, instanceEvent);
+        }
+        else
+        {
+            applyInstanceEvent(cohortName, instanceEvent);
+        }
+    }
+
+
+    /**
+     * Return whether the event carries a new or updated instance that can be saved as a reference copy
+     * along with the instances from other events.
+     *
+     * @param instanceEvent event
+     * @return boolean flag
+     */
+    boolean isReferenceCopyEvent(OMRSInstanceEvent instanceEvent)
+    {
+        if (instanceEvent.getEventOriginator() == null)
+        {
+            return false;
+        }
+
+        OMRSInstanceEventType instanceEventType = instanceEvent.getInstanceEventType();
+
+        if ((instanceEventType == OMRSInstanceEventType.NEW_ENTITY_EVENT) ||
+            (instanceEventType == OMRSInstanceEventType.UPDATED_ENTITY_EVENT))
+        {
+            return (instanceEvent.getEntity() != null);
+        }
+
+        if ((instanceEventType == OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT) ||
+            (instanceEventType == OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT))
+        {
+            return (instanceEvent.getRelationship() != null);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Log and validate a new or updated instance event (see isReferenceCopyEvent()) without saving the
+     * instance.  The checks are the same as those made by processNewEntityEvent(), processUpdatedEntityEvent(),
+     * processNewRelationshipEvent() and processUpdatedRelationshipEvent().
+     *
+     * @param cohortName source of the event
+     * @param instanceEvent the event to process
+     * @return instance to save as a reference copy or null if the instance is not to be saved
+     */
+    InstanceHeader prepareReferenceCopy(String            cohortName,
+                                        OMRSInstanceEvent instanceEvent)
+    {
+        final String methodName = "sendInstanceEvent";
+
+        OMRSInstanceEventType instanceEventType       = instanceEvent.getInstanceEventType();
+        OMRSEventOriginator   instanceEventOriginator = instanceEvent.getEventOriginator();
+
+        if ((instanceEventType == OMRSInstanceEventType.NEW_ENTITY_EVENT) ||
+            (instanceEventType == OMRSInstanceEventType.UPDATED_ENTITY_EVENT))
+        {
+            EntityDetail entity = instanceEvent.getEntity();
+
+            this.logIncomingEvent(instanceEventType,
+                                  entity,
+                                  instanceEventOriginator,
+                                  instanceEvent,
+                                  methodName);
+
+            if ((validateReferenceEntity(cohortName,
+                                         getProcessMethodName(instanceEventType),
+                                         instanceEventOriginator.getMetadataCollectionId(),
+                                         instanceEventOriginator.getServerName(),
+                                         entity,
+                                         instanceEventType)) &&
+                (entity.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION))
+            {
+                return entity;
+            }
+        }
+        else
+        {
+            Relationship relationship = instanceEvent.getRelationship();
+
+            this.logIncomingEvent(instanceEventType,
+                                  relationship,
+                                  instanceEventOriginator,
+                                  instanceEvent,
+                                  methodName);
+
+            if (validateReferenceRelationship(cohortName,
+                                              getProcessMethodName(instanceEventType),
+                                              instanceEventOriginator.getMetadataCollectionId(),
+                                              instanceEventOriginator.getServerName(),
+                                              relationship))
+            {
+                return relationship;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Save the reference copies prepared by prepareReferenceCopy().  Multiple instances are passed to the
+     * local repository in a single call to saveInstanceReferenceCopies().  If this fails, the instances are
+     * saved one at a time so that the error is reported against the event that caused it.
+     *
+     * @param instanceEvents events that the instances came from
+     * @param instances instances to save (in the same order as the events)
+     */
+    void saveReferenceCopies(List<OMRSInstanceEvent> instanceEvents,
+                             List<InstanceHeader>    instances)
+    {
+        if (instances.size() > 1)
+        {
+            List<EntityDetail> entities      = new ArrayList<>();
+            List<Relationship> relationships = new ArrayList<>();
+
+            for (InstanceHeader instance : instances)
+            {
+                if (instance instanceof EntityDetail)
+                {
+                    entities.add((EntityDetail)instance);
+                }
+                else
+                {
+                    relationships.add((Relationship)instance);
+                }
+            }
+
+            try
+            {
+                localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
+                                                                    new InstanceGraph(entities, relationships));
+                return;
+            }
+            catch (Exception error)
+            {
+                log.debug("Unable to save " + instances.size() + " reference copies in one call; saving them one at a time", error);
+            }
+        }
+
+        for (int i = 0; i < instances.size(); i++)
+        {
+            OMRSInstanceEvent   instanceEvent           = instanceEvents.get(i);
+            OMRSEventOriginator instanceEventOriginator = instanceEvent.getEventOriginator();
+            InstanceHeader      instance                = instances.get(i);
+
+            if (instance instanceof EntityDetail)
+            {
+                saveReferenceEntity(getProcessMethodName(instanceEvent.getInstanceEventType()),
+                                    instanceEventOriginator.getMetadataCollectionId(),
+                                    instanceEventOriginator.getServerName(),
+                                    (EntityDetail)instance);
+            }
+            else
+            {
+                saveReferenceRelationship(getProcessMethodName(instanceEvent.getInstanceEventType()),
+                                          instanceEventOriginator.getMetadataCollectionId(),
+                                          instanceEventOriginator.getServerName(),
+                                          (Relationship)instance);
+            }
+        }
+    }
+
+
+    /**
+     * Return the name of the process method that handles a new or updated instance event.  This is used in
+     * audit log messages so that they are the same whether or not the event was applied on a worker lane.
+     *
+     * @param instanceEventType type of event
+     * @return method name
+     */
+    private String getProcessMethodName(OMRSInstanceEventType instanceEventType)
+    {
+        switch (instanceEventType)
+        {
+            case NEW_ENTITY_EVENT:
+                return "processNewEntityEvent";
+
+            case UPDATED_ENTITY_EVENT:
+                return "processUpdatedEntityEvent";
+
+            case NEW_RELATIONSHIP_EVENT:
+                return "processNewRelationshipEvent";
+
+            default:
+                return "processUpdatedRelationshipEvent";
+        }
+    }
+
+
+    /**
+     * Unpack and process the incoming event on the caller's thread.
+     *
+     * @param cohortName source of the event
+     * @param instanceEvent the event to process
+     */
+    void applyInstanceEvent(String            cohortName,
+                            OMRSInstanceEvent instanceEvent)
     {
         final String methodName = "sendInstanceEvent";
 
@@ -2224,6 +2488,41 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                        String                originatorServerName,
                                        EntityDetail          entity,
                                        OMRSInstanceEventType eventType)
+    {
+        if (validateReferenceEntity(sourceName,
+                                    methodName,
+                                    originatorMetadataCollectionId,
+                                    originatorServerName,
+                                    entity,
+                                    eventType))
+        {
+            saveReferenceEntity(methodName,
+                                originatorMetadataCollectionId,
+                                originatorServerName,
+                                entity);
+        }
+    }
+
+
+    /**
+     * Determine whether the reference entity should be saved in the local repository.  Any error is logged.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param entity                         details of the new entity
+     * @param eventType                      the type of event that triggered this update
+     * @return boolean indicating that the entity should be saved
+     */
+    private boolean validateReferenceEntity(String                sourceName,
+                                            String                methodName,
+                                            String                originatorMetadataCollectionId,
+                                            String                originatorServerName,
+                                            EntityDetail          entity,
+                                            OMRSInstanceEventType eventType)
     {
         try
         {
@@ -2240,22 +2539,45 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                                               entity.getGUID());
 
             /*
-             * Verify that the incoming instance is compatible with the stored instance.
+             * Verify that the incoming instance is compatible with the stored instance and that the rules
+             * allow the entity to be saved.
              */
-            if (compareAndValidateReferenceInstance(originatorServerName,
-                                                    entity,
-                                                    storedEntity,
-                                                    eventType,
-                                                    methodName))
-            {
-                /*
-                 * Verify that the rules allow the entity to be saved
-                 */
-                if (verifyEventToSave(sourceName, entity))
-                {
-                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
-                }
-            }
+            return ((compareAndValidateReferenceInstance(originatorServerName,
+                                                         entity,
+                                                         storedEntity,
+                                                         eventType,
+                                                         methodName)) &&
+                    (verifyEventToSave(sourceName, entity)));
+        }
+        catch (Exception error)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           methodName,
+                                           originatorServerName,
+                                           originatorMetadataCollectionId);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Save a validated reference entity in the local repository.
+     *
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param entity                         details of the new entity
+     */
+    private void saveReferenceEntity(String       methodName,
+                                     String       originatorMetadataCollectionId,
+                                     String       originatorServerName,
+                                     EntityDetail entity)
+    {
+        try
+        {
+            localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
         }
         catch (Exception error)
         {
@@ -2536,6 +2858,38 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                              String       originatorMetadataCollectionId,
                                              String       originatorServerName,
                                              Relationship relationship)
+    {
+        if (validateReferenceRelationship(sourceName,
+                                          methodName,
+                                          originatorMetadataCollectionId,
+                                          originatorServerName,
+                                          relationship))
+        {
+            saveReferenceRelationship(methodName,
+                                      originatorMetadataCollectionId,
+                                      originatorServerName,
+                                      relationship);
+        }
+    }
+
+
+    /**
+     * Determine whether the reference relationship should be saved in the local repository.  Any error is logged.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param relationship                   details of the relationship
+     * @return boolean indicating that the relationship should be saved
+     */
+    private boolean validateReferenceRelationship(String       sourceName,
+                                                  String       methodName,
+                                                  String       originatorMetadataCollectionId,
+                                                  String       originatorServerName,
+                                                  Relationship relationship)
     {
         try
         {
@@ -2548,11 +2902,38 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                                 relationship,
                                                                 methodName);
 
-            if (verifyEventToSave(sourceName, relationship))
-            {
-                localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
-                                                                      relationship);
-            }
+            return verifyEventToSave(sourceName, relationship);
+        }
+        catch (Exception error)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           methodName,
+                                           originatorServerName,
+                                           originatorMetadataCollectionId);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Save a validated reference relationship in the local repository.
+     *
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param relationship                   details of the relationship
+     */
+    private void saveReferenceRelationship(String       methodName,
+                                           String       originatorMetadataCollectionId,
+                                           String       originatorServerName,
+                                           Relationship relationship)
+    {
+        try
+        {
+            localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
+                                                                  relationship);
         }
         catch (Exception error)
         {
@@ -2615,6 +2996,31 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * Report an event that the worker lanes could not apply.
+     *
+     * @param instanceEvent event
+     * @param error exception from applying the event
+     */
+    void reportFailedEvent(OMRSInstanceEvent instanceEvent,
+                           Exception         error)
+    {
+        final String methodName = "applyInstanceEvent";
+
+        OMRSEventOriginator instanceEventOriginator        = instanceEvent.getEventOriginator();
+        String              originatorServerName           = null;
+        String              originatorMetadataCollectionId = null;
+
+        if (instanceEventOriginator != null)
+        {
+            originatorServerName           = instanceEventOriginator.getServerName();
+            originatorMetadataCollectionId = instanceEventOriginator.getMetadataCollectionId();
+        }
+
+        handleUnexpectedErrorFromEvent(error, methodName, originatorServerName, originatorMetadataCollectionId);
+    }
+
+
     /**
      * Log the fact that there has been an unexpected error when processing an incoming OMRS Event.
      *
@@ -2731,4 +3137,62 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * LaneEventHandler passes the events taken from the worker lanes to this event processor.
+     */
+    private class LaneEventHandler implements LocalOMRSInstanceEventApplier.EventHandler
+    {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isReferenceCopyEvent(OMRSInstanceEvent instanceEvent)
+        {
+            return LocalOMRSInstanceEventProcessor.this.isReferenceCopyEvent(instanceEvent);
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public InstanceHeader prepareReferenceCopy(String            cohortName,
+                                                   OMRSInstanceEvent instanceEvent)
+        {
+            return LocalOMRSInstanceEventProcessor.this.prepareReferenceCopy(cohortName, instanceEvent);
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void saveReferenceCopies(List<OMRSInstanceEvent> instanceEvents,
+                                        List<InstanceHeader>    instances)
+        {
+            LocalOMRSInstanceEventProcessor.this.saveReferenceCopies(instanceEvents, instances);
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyInstanceEvent(String            cohortName,
+                                       OMRSInstanceEvent instanceEvent)
+        {
+            LocalOMRSInstanceEventProcessor.this.applyInstanceEvent(cohortName, instanceEvent);
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void reportFailedEvent(OMRSInstanceEvent instanceEvent,
+                                      Exception         error)
+        {
+            LocalOMRSInstanceEventProcessor.this.reportFailedEvent(instanceEvent, error);
+        }
+    }
 }
@@ -20,6 +20,9 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorEx
 import org.odpi.openmetadata.repositoryservices.localrepository.OMRSLocalRepository;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.*;
 
+import java.util.Collections;
+import java.util.List;
+
 
 /**
  * LocalOMRSRepositoryConnector provides access the local metadata repository plus manages outbound
@@ -42,11 +45,13 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     private OMRSTypeDefEventProcessor           incomingTypeDefEventProcessor;
     private OMRSInstanceEventProcessor          incomingInstanceEventProcessor   = null;
     private OMRSInstanceRetrievalEventProcessor instanceRetrievalEventProcessor  = null;
+    private LocalOMRSInstanceEventProcessor     localInstanceEventProcessor      = null;
     private OMRSRepositoryEventManager          outboundRepositoryEventManager;
     private OMRSRepositoryEventExchangeRule     saveExchangeRule;
     private OMRSRepositoryConnector             realLocalConnector;
     private OMRSRepositoryEventMapperConnector  realEventMapper;
     private boolean                             produceEventsForRealConnector = true;
+    private int                                 inboundInstanceEventThreads   = 1;
 
 
     /**
@@ -173,6 +178,11 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     {
         super.disconnect();
 
+        if (localInstanceEventProcessor != null)
+        {
+            localInstanceEventProcessor.shutdown();
+        }
+
         if (realLocalConnector  != null)
         {
             realLocalConnector.disconnect();
@@ -249,6 +259,36 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     }
 
 
+    /**
+     * Set up the number of threads used to apply the instance events received from the cohorts.  Events for
+     * the same instance are always applied by the same thread, in the order they were received.
+     * This must be called before setMetadataCollectionId().
+     *
+     * @param inboundInstanceEventThreads number of threads - one (the default) means the events are applied on
+     *                                    the thread of the cohort topic listener
+     */
+    public void setInboundInstanceEventThreads(int inboundInstanceEventThreads)
+    {
+        this.inboundInstanceEventThreads = inboundInstanceEventThreads;
+    }
+
+
+    /**
+     * Return the statistics for each of the threads that apply the instance events received from the cohorts.
+     *
+     * @return list of statistics (empty if the events are applied on the thread of the cohort topic listener)
+     */
+    public List<LocalOMRSInstanceEventLaneStatistics> getInboundInstanceEventStatistics()
+    {
+        if (localInstanceEventProcessor == null)
+        {
+            return Collections.emptyList();
+        }
+
+        return localInstanceEventProcessor.getLaneStatistics();
+    }
+
+
     /**
      * Set up the name of the server where the metadata collection resides.
      *
@@ -407,6 +447,14 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
                                                           outboundRepositoryEventManager,
                                                           auditLog.createNewAuditLog(OMRSAuditingComponent.INSTANCE_EVENT_PROCESSOR));
 
+            if (this.localInstanceEventProcessor != null)
+            {
+                this.localInstanceEventProcessor.shutdown();
+            }
+
+            localOMRSInstanceEventProcessor.startEventApplier(inboundInstanceEventThreads);
+
+            this.localInstanceEventProcessor = localOMRSInstanceEventProcessor;
             this.incomingInstanceEventProcessor = localOMRSInstanceEventProcessor;
             this.instanceRetrievalEventProcessor = localOMRSInstanceEventProcessor;
         }
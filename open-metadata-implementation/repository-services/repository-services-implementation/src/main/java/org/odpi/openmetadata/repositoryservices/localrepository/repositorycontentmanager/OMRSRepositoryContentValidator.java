@@ -4,6 +4,9 @@ package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconte
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchClassificationsPredicate;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchPropertiesPredicate;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchStringMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
@@ -14,7 +17,6 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.*;
 
 import static org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyCategory.ENUM;
@@ -3416,42 +3418,6 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
     }
 
 
-    /**
-     * Return a boolean indicating whether the supplied entity is classified with the supplied classification.
-     *
-     * @param requiredClassification required classification; null means that there are no specific
-     *                               classification requirements and so results in a true response.
-     * @param entity entity to test.
-     * @return boolean result
-     */
-    private boolean verifyEntityIsClassified(String        requiredClassification,
-                                             EntitySummary entity)
-    {
-        if (requiredClassification != null)
-        {
-            List<Classification> entityClassifications = entity.getClassifications();
-            if (entityClassifications != null)
-            {
-                for (Classification entityClassification : entityClassifications)
-                {
-                    if (entityClassification != null)
-                    {
-                        if (requiredClassification.equals(entityClassification.getName()))
-                        {
-                            return true;
-                        }
-                    }
-                }
-            }
-        }
-        else
-        {
-            return true;
-        }
-        return false;
-    }
-
-
     /**
      * Return a boolean indicating whether the supplied entity is classified with one or more of the supplied
      * classifications.
@@ -3803,7 +3769,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                 {
                                                     try
                                                     {
-                                                        if (instancePropertyValueString.matches(matchPropertyValueString))
+                                                        if (OMRSSearchStringMatcher.getMatcher(matchPropertyValueString).matches(instancePropertyValueString))
                                                         {
                                                             matchingProperties++;
                                                         }
@@ -3862,7 +3828,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                     if (matchValue != null)
                     {
-                        if (expectedValue.matches(matchValue))
+                        if (OMRSSearchStringMatcher.getMatcher(matchValue).matches(expectedValue))
                         {
                             result = true;
                         }
@@ -4068,36 +4034,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
     @Override
     public BigDecimal getNumericRepresentation(InstancePropertyValue value)
     {
-        if (value == null)
-        {
-            return null;
-        }
-        InstancePropertyCategory category = value.getInstancePropertyCategory();
-        if (category.equals(PRIMITIVE))
-        {
-            PrimitivePropertyValue ppv = (PrimitivePropertyValue) value;
-            switch (ppv.getPrimitiveDefCategory())
-            {
-                case OM_PRIMITIVE_TYPE_DATE:
-                case OM_PRIMITIVE_TYPE_LONG:
-                    return BigDecimal.valueOf((Long)ppv.getPrimitiveValue());
-                case OM_PRIMITIVE_TYPE_SHORT:
-                    return BigDecimal.valueOf((Short)ppv.getPrimitiveValue());
-                case OM_PRIMITIVE_TYPE_INT:
-                    return BigDecimal.valueOf((Integer)ppv.getPrimitiveValue());
-                case OM_PRIMITIVE_TYPE_FLOAT:
-                    return BigDecimal.valueOf((Float) ppv.getPrimitiveValue());
-                case OM_PRIMITIVE_TYPE_DOUBLE:
-                    return BigDecimal.valueOf((Double) ppv.getPrimitiveValue());
-                case OM_PRIMITIVE_TYPE_BIGINTEGER:
-                    return new BigDecimal((BigInteger)ppv.getPrimitiveValue());
-                case OM_PRIMITIVE_TYPE_BIGDECIMAL:
-                    return (BigDecimal) ppv.getPrimitiveValue();
-                default:
-                    return null;
-            }
-        }
-        return null;
+        return OMRSSearchPropertiesPredicate.getNumericRepresentation(value);
     }
 
 
@@ -4109,158 +4046,11 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                         InstanceAuditHeader instanceHeader,
                                                         InstanceProperties  instanceProperties) throws InvalidParameterException
     {
-        final String methodName = "verifyMatchingInstancePropertyValues";
-        if (matchProperties == null)
-        {
-            return true;
-        }
-        List<PropertyCondition> conditions = matchProperties.getConditions();
-        int conditionMatchCount = 0;
-        for (PropertyCondition condition : conditions)
-        {
-            // Simplest way: this will also short-circuit to true immediately if nested conditions is null
-            boolean matchesNested = verifyMatchingInstancePropertyValues(condition.getNestedConditions(), instanceHeader, instanceProperties);
-            String propertyName = condition.getProperty();
-            InstancePropertyValue testValue = condition.getValue();
-            InstancePropertyValue actualValue = null;
-            if (instanceProperties != null)
-            {
-                actualValue = instanceProperties.getPropertyValue(propertyName);
-            }
-            boolean matchesProperties = true;
-            BigDecimal testBD = getNumericRepresentation(testValue);
-            BigDecimal actualBD = getNumericRepresentation(actualValue);
-            PropertyComparisonOperator operator = condition.getOperator();
-
-            /*
-             * When the nested branch is complete, operator will be null (along
-             * with propertyName, testValue, etc). All that remains for this
-             * (nested) property condition is to contribute its result
-             * (matchesNested && matchesProperties) into the current level of
-             * property condition combination.
-             *
-             * Do not attempt to use null operator in switch statement, it will NPE
-             */
-
-            if (operator != null)
-            {
-                switch (condition.getOperator())
-                {
-                    case EQ:
-                        matchesProperties = Objects.equals(actualValue, testValue);
-                        break;
-                    case NEQ:
-                        matchesProperties = !Objects.equals(actualValue, testValue);
-                        break;
-                    case LT:
-                        // Should only apply to numbers and dates
-                        matchesProperties = (actualBD != null && testBD != null && actualBD.compareTo(testBD) < 0);
-                        break;
-                    case LTE:
-                        // Should only apply to numbers and dates
-                        matchesProperties = (actualBD != null && testBD != null && actualBD.compareTo(testBD) <= 0);
-                        break;
-                    case GT:
-                        // Should only apply to numbers and dates
-                        matchesProperties = (actualBD != null && testBD != null && actualBD.compareTo(testBD) > 0);
-                        break;
-                    case GTE:
-                        // Should only apply to numbers and dates
-                        matchesProperties = (actualBD != null && testBD != null && actualBD.compareTo(testBD) >= 0);
-                        break;
-                    case IN:
-                        // The value to test against must be a list (ArrayPropertyValue)
-                        if (testValue instanceof ArrayPropertyValue)
-                        {
-                            ArrayPropertyValue apv = (ArrayPropertyValue) testValue;
-                            InstanceProperties values = apv.getArrayValues();
-                            if (values == null)
-                            {
-                                // Impossible to match against an empty list, so always return false
-                                matchesProperties = false;
-                            }
-                            else
-                            {
-                                Iterator<String> names = values.getPropertyNames();
-                                matchesProperties = false;
-                                while (names.hasNext() && !matchesProperties)
-                                {
-                                    String index = names.next();
-                                    InstancePropertyValue oneTestValue = values.getPropertyValue(index);
-                                    if (oneTestValue != null)
-                                    {
-                                        matchesProperties = oneTestValue.equals(actualValue);
-                                    }
-                                }
-                            }
-                        }
-                        else
-                        {
-                            throw new InvalidParameterException(OMRSErrorCode.INVALID_LIST_CONDITION.getMessageDefinition(),
-                                                                this.getClass().getName(),
-                                                                methodName,
-                                                                "matchProperties");
-                        }
-                        break;
-                    case IS_NULL:
-                        matchesProperties = (actualValue == null);
-                        break;
-                    case NOT_NULL:
-                        matchesProperties = (actualValue != null);
-                        break;
-                    case LIKE:
-                        // Should only apply to strings
-                        if (testValue instanceof PrimitivePropertyValue && ((PrimitivePropertyValue) testValue).getPrimitiveDefCategory().equals(OM_PRIMITIVE_TYPE_STRING))
-                        {
-                            String test = testValue.valueAsString();
-                            if (actualValue == null)
-                            {
-                                matchesProperties = false;
-                            }
-                            else
-                            {
-                                String actual = actualValue.valueAsString();
-                                matchesProperties = actual.matches(test);
-                            }
-                        }
-                        else
-                        {
-                            throw new InvalidParameterException(OMRSErrorCode.INVALID_LIKE_CONDITION.getMessageDefinition(),
-                                                                this.getClass().getName(),
-                                                                methodName,
-                                                                "matchProperties");
-                        }
-                        break;
-                    default:
-                        matchesProperties = true;
-                        break;
-                }
-            }
-            conditionMatchCount += (matchesNested && matchesProperties) ? 1 : 0;
-        }
-        // TODO: we may want to move this into the loop above to short-circuit (for performance)
-        switch (matchProperties.getMatchCriteria())
-        {
-            case ALL:
-                if (conditionMatchCount == conditions.size())
-                {
-                    return true;
-                }
-                break;
-            case ANY:
-                if (conditionMatchCount > 0)
-                {
-                    return true;
-                }
-                break;
-            case NONE:
-                if (conditionMatchCount == 0)
-                {
-                    return true;
-                }
-                break;
-        }
-        return false;
+        /*
+         * Connectors that test many instances against the same search properties should create the
+         * OMRSSearchPropertiesPredicate once and reuse it.
+         */
+        return new OMRSSearchPropertiesPredicate(matchProperties).matches(instanceProperties);
     }
 
 
@@ -4271,61 +4061,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
     public boolean verifyMatchingClassifications(SearchClassifications matchClassifications,
                                                  EntitySummary         entity) throws InvalidParameterException
     {
-        if (matchClassifications == null)
-        {
-            return true;
-        }
-        List<ClassificationCondition> conditions = matchClassifications.getConditions();
-        if (conditions == null)
-        {
-            return true;
-        }
-        int matchingClassificationCount = 0;
-        List<Classification> classifications = entity.getClassifications();
-        for (ClassificationCondition condition : conditions)
-        {
-            String classificationName = condition.getName();
-            if (classificationName != null)
-            {
-                // Only attempt to match if a classification name has been provided: if not, we cannot match against
-                // the requested classification (as no definition of a classification has been provided that we should
-                // attempt to match against)
-                boolean isClassified = verifyEntityIsClassified(classificationName, entity);
-                SearchProperties properties = condition.getMatchProperties();
-                boolean classificationMatches = false;
-                for (Classification classification : classifications)
-                {
-                    if (classificationName.equals(classification.getName()))
-                    {
-                        classificationMatches = verifyMatchingInstancePropertyValues(properties, entity, classification.getProperties());
-                    }
-                }
-                matchingClassificationCount += (isClassified && classificationMatches) ? 1 : 0;
-            }
-        }
-        // TODO: we may want to move this into the loop above to short-circuit (for performance)
-        switch (matchClassifications.getMatchCriteria())
-        {
-            case ALL:
-                if (matchingClassificationCount == conditions.size())
-                {
-                    return true;
-                }
-                break;
-            case ANY:
-                if (matchingClassificationCount > 0)
-                {
-                    return true;
-                }
-                break;
-            case NONE:
-                if (matchingClassificationCount == 0)
-                {
-                    return true;
-                }
-                break;
-        }
-        return false;
+        return new OMRSSearchClassificationsPredicate(matchClassifications).matches(entity);
     }
 
 
@@ -4462,7 +4198,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                             if (stringProperty != null)
                             {
-                                if (stringProperty.matches(searchCriteria))
+                                if (OMRSSearchStringMatcher.getMatcher(searchCriteria).matches(stringProperty))
                                 {
                                     return true;
                                 }
@@ -4476,7 +4212,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         String  enumValue = enumPropertyValue.getSymbolicName();
                         if (enumValue != null)
                         {
-                            if (enumValue.matches(searchCriteria))
+                            if (OMRSSearchStringMatcher.getMatcher(searchCriteria).matches(enumValue))
                             {
                                 return true;
                             }
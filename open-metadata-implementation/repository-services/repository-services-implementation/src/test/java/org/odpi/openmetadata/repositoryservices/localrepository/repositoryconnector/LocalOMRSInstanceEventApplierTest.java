@@ -0,0 +1,284 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that LocalOMRSInstanceEventApplier keeps the order of the events for an instance, applies the entities
+ * of a batch before its relationships, carries on after a failed event and applies the queued events on shutdown.
+ */
+public class LocalOMRSInstanceEventApplierTest
+{
+    private static final String cohortName = "testCohort";
+
+
+    /**
+     * Default constructor
+     */
+    public LocalOMRSInstanceEventApplierTest()
+    {
+    }
+
+
+    /**
+     * The events for each instance are applied in the order they were submitted.
+     */
+    @Test
+    public void testOrderIsKeptForEachInstance()
+    {
+        RecordingEventHandler         eventHandler = new RecordingEventHandler();
+        LocalOMRSInstanceEventApplier eventApplier = new LocalOMRSInstanceEventApplier(eventHandler, 4, "testServer");
+
+        for (int i = 0; i < 200; i++)
+        {
+            eventApplier.submit(cohortName, getEntityEvent("guid-" + (i % 10), i));
+        }
+
+        eventApplier.awaitIdle();
+        eventApplier.shutdown();
+
+        assertEquals(eventHandler.appliedEvents.size(), 200);
+
+        for (int guid = 0; guid < 10; guid++)
+        {
+            long lastVersion = -1;
+
+            for (OMRSInstanceEvent instanceEvent : eventHandler.appliedEvents)
+            {
+                EntityDetail entity = instanceEvent.getEntity();
+
+                if (("guid-" + guid).equals(entity.getGUID()))
+                {
+                    assertTrue(entity.getVersion() > lastVersion);
+                    lastVersion = entity.getVersion();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * The relationships in a batch event are applied after all of the entities in the batch.
+     */
+    @Test
+    public void testBatchEntitiesBeforeRelationships()
+    {
+        RecordingEventHandler         eventHandler = new RecordingEventHandler();
+        LocalOMRSInstanceEventApplier eventApplier = new LocalOMRSInstanceEventApplier(eventHandler, 4, "testServer");
+
+        eventHandler.applyDelayMsecs = 20;
+
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++)
+        {
+            entities.add(getEntity("entity-" + i, 1));
+
+            Relationship relationship = new Relationship();
+            relationship.setGUID("relationship-" + i);
+            relationships.add(relationship);
+        }
+
+        eventApplier.submit(cohortName, new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT,
+                                                              new InstanceGraph(entities, relationships)));
+        eventApplier.awaitIdle();
+        eventApplier.shutdown();
+
+        int appliedEntities      = 0;
+        int appliedRelationships = 0;
+
+        for (OMRSInstanceEvent instanceEvent : eventHandler.appliedEvents)
+        {
+            InstanceGraph instances = instanceEvent.getInstanceBatch();
+
+            if ((instances.getEntities() != null) && (! instances.getEntities().isEmpty()))
+            {
+                assertEquals(appliedRelationships, 0);
+                appliedEntities += instances.getEntities().size();
+            }
+
+            if (instances.getRelationships() != null)
+            {
+                appliedRelationships += instances.getRelationships().size();
+            }
+        }
+
+        assertEquals(appliedEntities, 8);
+        assertEquals(appliedRelationships, 8);
+    }
+
+
+    /**
+     * An event that fails is reported and the rest of the events taken from the queue are still applied.
+     */
+    @Test
+    public void testFailureDoesNotStopTheLane()
+    {
+        RecordingEventHandler         eventHandler = new RecordingEventHandler();
+        LocalOMRSInstanceEventApplier eventApplier = new LocalOMRSInstanceEventApplier(eventHandler, 2, "testServer");
+
+        eventHandler.failingVersion = 5;
+
+        for (int i = 0; i < 10; i++)
+        {
+            eventApplier.submit(cohortName, getEntityEvent("guid", i));
+        }
+
+        eventApplier.awaitIdle();
+        eventApplier.shutdown();
+
+        assertEquals(eventHandler.appliedEvents.size(), 9);
+        assertEquals(eventHandler.failedEvents.size(), 1);
+        assertEquals(eventHandler.failedEvents.get(0).getEntity().getVersion(), 5L);
+
+        long eventsApplied = 0;
+        long eventsFailed  = 0;
+
+        for (LocalOMRSInstanceEventLaneStatistics laneStatistics : eventApplier.getLaneStatistics())
+        {
+            eventsApplied += laneStatistics.getEventsApplied();
+            eventsFailed  += laneStatistics.getEventsFailed();
+        }
+
+        assertEquals(eventsApplied, 10L);
+        assertEquals(eventsFailed, 1L);
+    }
+
+
+    /**
+     * Shutdown applies the events that are still on the queues.
+     */
+    @Test
+    public void testShutdownDrainsTheQueues()
+    {
+        RecordingEventHandler         eventHandler = new RecordingEventHandler();
+        LocalOMRSInstanceEventApplier eventApplier = new LocalOMRSInstanceEventApplier(eventHandler, 3, "testServer");
+
+        eventHandler.applyDelayMsecs = 2;
+
+        for (int i = 0; i < 60; i++)
+        {
+            eventApplier.submit(cohortName, getEntityEvent("guid-" + (i % 6), i));
+        }
+
+        eventApplier.shutdown();
+
+        assertEquals(eventHandler.appliedEvents.size(), 60);
+    }
+
+
+    /**
+     * Return an updated entity event.
+     *
+     * @param guid unique identifier of the entity
+     * @param version version of the entity
+     * @return event
+     */
+    private OMRSInstanceEvent getEntityEvent(String guid,
+                                             long   version)
+    {
+        return new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, getEntity(guid, version));
+    }
+
+
+    /**
+     * Return an entity.
+     *
+     * @param guid unique identifier of the entity
+     * @param version version of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * RecordingEventHandler records the events that the lanes pass to it.  Every event is applied with
+     * applyInstanceEvent().
+     */
+    private static class RecordingEventHandler implements LocalOMRSInstanceEventApplier.EventHandler
+    {
+        final List<OMRSInstanceEvent> appliedEvents   = Collections.synchronizedList(new ArrayList<>());
+        final List<OMRSInstanceEvent> failedEvents    = Collections.synchronizedList(new ArrayList<>());
+        volatile long                 applyDelayMsecs = 0;
+        volatile long                 failingVersion  = -1;
+
+
+        @Override
+        public boolean isReferenceCopyEvent(OMRSInstanceEvent instanceEvent)
+        {
+            return false;
+        }
+
+
+        @Override
+        public InstanceHeader prepareReferenceCopy(String            cohortName,
+                                                   OMRSInstanceEvent instanceEvent)
+        {
+            return null;
+        }
+
+
+        @Override
+        public void saveReferenceCopies(List<OMRSInstanceEvent> instanceEvents,
+                                        List<InstanceHeader>    instances)
+        {
+        }
+
+
+        @Override
+        public void applyInstanceEvent(String            cohortName,
+                                       OMRSInstanceEvent instanceEvent)
+        {
+            if (applyDelayMsecs > 0)
+            {
+                try
+                {
+                    Thread.sleep(applyDelayMsecs);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if ((instanceEvent.getEntity() != null) && (instanceEvent.getEntity().getVersion() == failingVersion))
+            {
+                throw new IllegalStateException("Test failure");
+            }
+
+            appliedEvents.add(instanceEvent);
+        }
+
+
+        @Override
+        public void reportFailedEvent(OMRSInstanceEvent instanceEvent,
+                                      Exception         error)
+        {
+            failedEvents.add(instanceEvent);
+        }
+    }
+}
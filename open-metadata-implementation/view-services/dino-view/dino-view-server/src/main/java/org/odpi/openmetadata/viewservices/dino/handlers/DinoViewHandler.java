@@ -55,6 +55,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -105,6 +106,13 @@ public class DinoViewHandler {
     private Map<String, ResourceEndpoint> configuredPlatforms = null;  // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint> configuredServerInstances = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The clients for the platforms and servers are created on first use and then reused for later requests.
+     * They are keyed by client type, user (for the clients that are created for a particular administrator),
+     * server and root URL.
+     */
+    private final Map<String, Object> clients = new ConcurrentHashMap<>();
+
     /**
      * Default constructor for DinoViewHandler
      */
@@ -234,6 +242,63 @@ public class DinoViewHandler {
     }
 
 
+    /**
+     * Return the client of the requested type for a platform or server, creating it on first use.
+     *
+     * @param clientClass  - type of client
+     * @param userId       - user that the client is created for (null if the client is not specific to a user)
+     * @param resourceName - name of the platform or server to connect to
+     * @param rootURL      - the root URL to connect to
+     * @param clientFactory - creates the client if there is no cached client
+     * @param <T> type of client
+     * @param <E> exception thrown by the client's constructor
+     * @return client
+     * @throws E the client could not be created
+     */
+    private <T, E extends Exception> T getCachedClient(Class<T>            clientClass,
+                                                       String              userId,
+                                                       String              resourceName,
+                                                       String              rootURL,
+                                                       ClientFactory<T, E> clientFactory)
+    throws E
+    {
+        String clientKey = clientClass.getName() + ":" + userId + ":" + resourceName + ":" + rootURL;
+        Object client    = clients.get(clientKey);
+
+        if (client == null)
+        {
+            client = clientFactory.newClient();
+
+            Object existingClient = clients.putIfAbsent(clientKey, client);
+
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
+
+        return clientClass.cast(client);
+    }
+
+
+    /**
+     * ClientFactory creates a client when there is no cached client to reuse.
+     *
+     * @param <T> type of client
+     * @param <E> exception thrown by the client's constructor
+     */
+    private interface ClientFactory<T, E extends Exception>
+    {
+        /**
+         * Create the client.
+         *
+         * @return new client
+         * @throws E the client could not be created
+         */
+        T newClient() throws E;
+    }
+
+
     /**
      * getPlatformServicesClient
      * <p>
@@ -253,7 +318,11 @@ public class DinoViewHandler {
 
         try
         {
-            return new PlatformServicesClient(platformName, platformRootURL);
+            return getCachedClient(PlatformServicesClient.class,
+                                   null,
+                                   platformName,
+                                   platformRootURL,
+                                   () -> new PlatformServicesClient(platformName, platformRootURL));
         }
         catch (InvalidParameterException e)
 
@@ -285,7 +354,11 @@ public class DinoViewHandler {
         try
         {
 
-            return new OMAGServerConfigurationClient(userId, serverName, serverRootURL);
+            return getCachedClient(OMAGServerConfigurationClient.class,
+                                   userId,
+                                   serverName,
+                                   serverRootURL,
+                                   () -> new OMAGServerConfigurationClient(userId, serverName, serverRootURL));
 
         }
         catch (OMAGInvalidParameterException e)
@@ -321,7 +394,11 @@ public class DinoViewHandler {
         {
             String serverRootURL = platformRootURL + "/servers/" + serverName;
 
-            return new MetadataHighwayServicesClient(serverName, serverRootURL);
+            return getCachedClient(MetadataHighwayServicesClient.class,
+                                   null,
+                                   serverName,
+                                   serverRootURL,
+                                   () -> new MetadataHighwayServicesClient(serverName, serverRootURL));
 
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException e)
@@ -363,7 +440,11 @@ public class DinoViewHandler {
 
             String serverRootURL = platformRootURL + "/servers/" + serverName;
 
-            return new AuditLogServicesClient(serverName, serverRootURL);
+            return getCachedClient(AuditLogServicesClient.class,
+                                   null,
+                                   serverName,
+                                   serverRootURL,
+                                   () -> new AuditLogServicesClient(serverName, serverRootURL));
 
 
         }
@@ -401,7 +482,11 @@ public class DinoViewHandler {
         try
         {
 
-            return new IntegrationDaemonConfigurationClient(userId, serverName, platformRootURL);
+            return getCachedClient(IntegrationDaemonConfigurationClient.class,
+                                   userId,
+                                   serverName,
+                                   platformRootURL,
+                                   () -> new IntegrationDaemonConfigurationClient(userId, serverName, platformRootURL));
 
         }
         catch(OMAGInvalidParameterException e)
@@ -434,7 +519,11 @@ public class DinoViewHandler {
         try
         {
 
-            return new EngineHostConfigurationClient(userId, serverName, platformRootURL);
+            return getCachedClient(EngineHostConfigurationClient.class,
+                                   userId,
+                                   serverName,
+                                   platformRootURL,
+                                   () -> new EngineHostConfigurationClient(userId, serverName, platformRootURL));
 
         }
         catch(OMAGInvalidParameterException e)
@@ -468,7 +557,11 @@ public class DinoViewHandler {
         try
         {
 
-            return new MetadataAccessPointConfigurationClient(userId, serverName, platformRootURL);
+            return getCachedClient(MetadataAccessPointConfigurationClient.class,
+                                   userId,
+                                   serverName,
+                                   platformRootURL,
+                                   () -> new MetadataAccessPointConfigurationClient(userId, serverName, platformRootURL));
 
         }
         catch(OMAGInvalidParameterException e)
@@ -501,7 +594,11 @@ public class DinoViewHandler {
         try
         {
 
-            return new ViewServerConfigurationClient(userId, serverName, platformRootURL);
+            return getCachedClient(ViewServerConfigurationClient.class,
+                                   userId,
+                                   serverName,
+                                   platformRootURL,
+                                   () -> new ViewServerConfigurationClient(userId, serverName, platformRootURL));
 
         }
         catch(OMAGInvalidParameterException e)
@@ -535,7 +632,11 @@ public class DinoViewHandler {
         try
         {
 
-            return new GovernanceEngineConfigurationClient(serverName, platformRootURL );
+            return getCachedClient(GovernanceEngineConfigurationClient.class,
+                                   null,
+                                   serverName,
+                                   platformRootURL,
+                                   () -> new GovernanceEngineConfigurationClient(serverName, platformRootURL));
 
         }
         catch(InvalidParameterException e)
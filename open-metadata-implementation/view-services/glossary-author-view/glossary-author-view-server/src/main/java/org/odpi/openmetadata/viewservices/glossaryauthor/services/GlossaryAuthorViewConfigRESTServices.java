@@ -63,7 +63,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -130,7 +130,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -193,7 +193,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -243,7 +243,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -298,7 +298,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -337,7 +337,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -365,7 +365,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         } catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -393,7 +393,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
             } catch (Exception exception) {
                 response = getResponseForException(exception, auditLog, className, methodName);
             }
-            restCallLogger.logRESTCallReturn(token, response.toString());
+            restCallLogger.logRESTCallReturn(token, response);
             return response;
         }
 }
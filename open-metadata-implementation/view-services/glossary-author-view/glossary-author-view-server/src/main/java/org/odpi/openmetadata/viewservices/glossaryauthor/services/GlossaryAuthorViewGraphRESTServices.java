@@ -48,7 +48,7 @@ public class GlossaryAuthorViewGraphRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -104,7 +104,7 @@ public class GlossaryAuthorViewGraphRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
 
     }
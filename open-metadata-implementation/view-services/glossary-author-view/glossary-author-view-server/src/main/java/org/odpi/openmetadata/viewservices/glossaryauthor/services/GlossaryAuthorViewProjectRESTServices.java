@@ -67,7 +67,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -102,7 +102,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -169,7 +169,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -232,7 +232,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -283,7 +283,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -337,7 +337,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -376,7 +376,7 @@ public class GlossaryAuthorViewProjectRESTServices extends BaseGlossaryAuthorVie
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
@@ -57,7 +57,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -95,7 +95,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
 
@@ -138,7 +138,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
 
@@ -177,7 +177,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
 
@@ -216,7 +216,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
     /**
@@ -250,7 +250,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -288,7 +288,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -331,7 +331,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -370,7 +370,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -405,7 +405,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -440,7 +440,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -478,7 +478,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -521,7 +521,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -560,7 +560,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -595,7 +595,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -630,7 +630,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -668,7 +668,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -711,7 +711,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -750,7 +750,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -785,7 +785,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -820,7 +820,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -858,7 +858,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -901,7 +901,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -940,7 +940,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -975,7 +975,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1010,7 +1010,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1048,7 +1048,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1091,7 +1091,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1130,7 +1130,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1165,7 +1165,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1200,7 +1200,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1238,7 +1238,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1281,7 +1281,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1320,7 +1320,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1355,7 +1355,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1390,7 +1390,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1428,7 +1428,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1471,7 +1471,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1510,7 +1510,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1545,7 +1545,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1580,7 +1580,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1618,7 +1618,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1661,7 +1661,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1700,7 +1700,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1735,7 +1735,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1770,7 +1770,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1808,7 +1808,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1851,7 +1851,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1890,7 +1890,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1925,7 +1925,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     
@@ -1960,7 +1960,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1998,7 +1998,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2040,7 +2040,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2079,7 +2079,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2114,7 +2114,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2149,7 +2149,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2187,7 +2187,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2230,7 +2230,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2269,7 +2269,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2304,7 +2304,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     /**
@@ -2338,7 +2338,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2376,7 +2376,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2419,7 +2419,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2458,7 +2458,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2493,7 +2493,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     /**
@@ -2527,7 +2527,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2565,7 +2565,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2608,7 +2608,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2647,7 +2647,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2682,7 +2682,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2721,7 +2721,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2759,7 +2759,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2801,7 +2801,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2840,7 +2840,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2875,7 +2875,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2914,7 +2914,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2952,7 +2952,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2995,7 +2995,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3034,7 +3034,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3069,7 +3069,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     /**
@@ -3103,7 +3103,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3140,7 +3140,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3183,7 +3183,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3222,7 +3222,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3257,7 +3257,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3290,7 +3290,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3323,7 +3323,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     /**
@@ -3363,7 +3363,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;    }
 
     /**
@@ -3399,7 +3399,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3435,7 +3435,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3470,7 +3470,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
 }
\ No newline at end of file
@@ -64,7 +64,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -99,7 +99,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -166,7 +166,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -229,7 +229,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -280,7 +280,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -334,7 +334,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -373,7 +373,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -401,7 +401,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         } catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
@@ -0,0 +1,133 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.rex.api.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+import java.util.List;
+import java.util.Map;
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RexMultiTraversal {
+
+
+    // The RexMultiTraversal class packages the results of expanding several entity instances in
+    // a single request. It holds the same digests as a RexTraversal, merged across all of the
+    // entities that were expanded, so that the UI can add them to its graph in one step.
+    // The expansion may have been limited by the number of relationships of each type shown for
+    // an entity and by the total number of entities and relationships returned; if any instances
+    // were left out because of these limits the truncated flag is set.
+
+
+    // Fields that describe the query that was performed:
+    private List<String>         entityGUIDs;              // the entities that were expanded
+    private List<String>         entityGUIDsNotFound;      // requested entities that are not known to the repository
+    private List<String>         entityTypeNames;          // a list of type names or null
+    private List<String>         relationshipTypeGUIDs;    // a list of type guids or null
+    private List<String>         classificationNames;      // a list of names or null
+    private Integer              depth;                    // the depth used to create the subgraph
+    private Integer              gen;                      // which generation this subgraph pertains to
+    private String               serverName;               // the name of the repo server that was traversed
+    private String               platformName;             // the name of the platform for the operation
+    private Boolean              truncated;                // whether instances were left out because of the limits
+
+
+    // Fields that contain the maps of instance summaries, in the same form as a RexTraversal.
+    private Map<String,RexEntityDigest>         entities;
+    private Map<String,RexRelationshipDigest>   relationships;
+
+
+    public RexMultiTraversal() {
+
+       // No initialization yet
+    }
+
+    /*
+     * Getters for Jackson
+     */
+
+
+    public List<String> getEntityGUIDs() { return entityGUIDs; }
+
+    public List<String> getEntityGUIDsNotFound() { return entityGUIDsNotFound; }
+
+    public List<String> getEntityTypeNames() { return entityTypeNames; }
+
+    public List<String> getRelationshipTypeGUIDs() {
+        return relationshipTypeGUIDs;
+    }
+
+    public List<String> getClassificationNames() {
+        return classificationNames;
+    }
+
+    public Integer getDepth() { return depth; }
+
+    public Integer getGen() { return gen; }
+
+    public Boolean getTruncated() { return truncated; }
+
+    public Map<String,RexEntityDigest> getEntities() { return entities;}
+
+    public Map<String,RexRelationshipDigest> getRelationships() { return relationships;}
+
+    public String getServerName() { return serverName; }
+
+    public String getPlatformName() { return platformName; }
+
+
+
+
+    public void setEntityGUIDs(List<String> entityGUIDs) { this.entityGUIDs = entityGUIDs; }
+
+    public void setEntityGUIDsNotFound(List<String> entityGUIDsNotFound) { this.entityGUIDsNotFound = entityGUIDsNotFound; }
+
+    public void setEntityTypeNames(List<String> entityTypeNames) { this.entityTypeNames = entityTypeNames; }
+
+    public void setRelationshipTypeGUIDs(List<String> relationshipTypeGUIDs) { this.relationshipTypeGUIDs = relationshipTypeGUIDs; }
+
+    public void setClassificationNames(List<String> classificationNames) { this.classificationNames = classificationNames; }
+
+    public void setDepth(Integer depth) { this.depth = depth; }
+
+    public void setGen(Integer gen) { this.gen = gen; }
+
+    public void setTruncated(Boolean truncated) { this.truncated = truncated; }
+
+    public void setEntities(Map<String,RexEntityDigest> entities) { this.entities = entities;}
+
+    public void setRelationships(Map<String,RexRelationshipDigest> relationships) { this.relationships = relationships;}
+
+    public void setServerName(String serverName) { this.serverName = serverName; }
+
+    public void setPlatformName(String platformName) { this.platformName = platformName; }
+
+    @Override
+    public String toString()
+    {
+        return "RexMultiTraversal{" +
+                "entityGUIDs=" + entityGUIDs +
+                ", entityGUIDsNotFound=" + entityGUIDsNotFound +
+                ", depth=" + depth +
+                ", gen=" + gen +
+                ", truncated=" + truncated +
+                ", entityTypeNames=" + entityTypeNames +
+                ", relationshipTypeGUIDs=" + relationshipTypeGUIDs +
+                ", classificationNames=" + classificationNames +
+                ", entities=" + entities +
+                ", relationships=" + relationships +
+                ", serverName=" + serverName +
+                ", platformName=" + platformName +
+                '}';
+    }
+
+
+
+}
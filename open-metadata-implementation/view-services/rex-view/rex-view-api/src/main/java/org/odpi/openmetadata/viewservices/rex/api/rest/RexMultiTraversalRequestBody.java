@@ -0,0 +1,129 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.rex.api.rest;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+import java.util.List;
+
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RexMultiTraversalRequestBody {
+
+
+    /*
+     * The RexMultiTraversalRequestBody class provides a body for REST requests to expand several entities
+     * in a single rex-traversal.  The limits are optional - a null or zero limit means there is no limit.
+     */
+
+    private String                    serverName;                    // must be non-null
+    private String                    platformName;                  // must be non-null
+    private List<String>              entityGUIDs;                   // must be non-null, GUIDs of the roots of the traversal
+    private Boolean                   enterpriseOption;
+    private List<String>              entityTypeGUIDs;               // a list of type guids or null
+    private List<String>              relationshipTypeGUIDs;         // a list of type guids or null
+    private List<String>              classificationNames;           // a list of names or null
+    private Integer                   depth;                         // the depth of traversal
+    private Integer                   maxRelationshipsPerType;       // the most relationships of one type shown for an entity
+    private Integer                   maxEntities;                   // the most entities returned
+    private Integer                   maxRelationships;              // the most relationships returned
+
+
+    public RexMultiTraversalRequestBody() {
+       // No initialization yet
+    }
+
+    /*
+     * Getters for Jackson
+     */
+
+    public String getServerName() { return serverName; }
+
+    public String getPlatformName() { return platformName; }
+
+    public List<String> getEntityGUIDs() { return entityGUIDs; }
+
+    public Boolean getEnterpriseOption() {
+        if (enterpriseOption == null)
+            return false;
+        else
+            return enterpriseOption;
+    }
+
+    public List<String> getEntityTypeGUIDs() { return entityTypeGUIDs; }
+
+    public List<String> getRelationshipTypeGUIDs() {
+        return relationshipTypeGUIDs;
+    }
+
+    public List<String> getClassificationNames() {
+        return classificationNames;
+    }
+
+    public Integer getDepth() { return depth; }
+
+    public Integer getMaxRelationshipsPerType() { return maxRelationshipsPerType; }
+
+    public Integer getMaxEntities() { return maxEntities; }
+
+    public Integer getMaxRelationships() { return maxRelationships; }
+
+
+    public void setServerName(String serverName) { this.serverName = serverName; }
+
+    public void setPlatformName(String platformName) { this.platformName = platformName; }
+
+    public void setEntityGUIDs(List<String> entityGUIDs) { this.entityGUIDs = entityGUIDs; }
+
+    public void setEnterpriseOption(Boolean enterpriseOption) { this.enterpriseOption = enterpriseOption; }
+
+    public void setEntityTypeGUIDs(List<String> entityTypeGUIDs) { this.entityTypeGUIDs = entityTypeGUIDs; }
+
+    public void setRelationshipTypeGUIDs(List<String> relationshipTypeGUIDs) {
+        this.relationshipTypeGUIDs = relationshipTypeGUIDs;
+    }
+
+    public void setClassificationNames(List<String> classificationNames) {
+        this.classificationNames = classificationNames;
+    }
+
+    public void setDepth(Integer depth) { this.depth = depth; }
+
+    public void setMaxRelationshipsPerType(Integer maxRelationshipsPerType) { this.maxRelationshipsPerType = maxRelationshipsPerType; }
+
+    public void setMaxEntities(Integer maxEntities) { this.maxEntities = maxEntities; }
+
+    public void setMaxRelationships(Integer maxRelationships) { this.maxRelationships = maxRelationships; }
+
+
+
+
+    @Override
+    public String toString()
+    {
+        return "RexMultiTraversalRequestBody{" +
+                ", serverName=" + serverName +
+                ", platformName=" + platformName +
+                ", entityGUIDs=" + entityGUIDs +
+                ", depth=" + depth +
+                ", enterpriseOption=" + enterpriseOption +
+                ", entityTypeGUIDs=" + entityTypeGUIDs +
+                ", relationshipTypeGUIDs=" + relationshipTypeGUIDs +
+                ", classificationNames=" + classificationNames +
+                ", maxRelationshipsPerType=" + maxRelationshipsPerType +
+                ", maxEntities=" + maxEntities +
+                ", maxRelationships=" + maxRelationships +
+                '}';
+    }
+
+
+
+}
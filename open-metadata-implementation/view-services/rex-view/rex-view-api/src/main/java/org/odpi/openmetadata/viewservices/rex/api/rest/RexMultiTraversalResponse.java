@@ -0,0 +1,86 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.viewservices.rex.api.rest;
+
+
+import org.odpi.openmetadata.viewservices.rex.api.properties.RexMultiTraversal;
+
+import java.util.Arrays;
+
+public class RexMultiTraversalResponse extends RexViewOMVSAPIResponse {
+
+
+    private RexMultiTraversal rexMultiTraversal;
+
+    /**
+     * Default constructor
+     */
+    public RexMultiTraversalResponse()
+    {
+        super();
+    }
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RexMultiTraversalResponse(RexMultiTraversalResponse template)
+    {
+        super(template);
+
+        if (template != null) {
+            this.rexMultiTraversal = template.getRexMultiTraversal();
+        }
+    }
+
+
+    /**
+     * Return the rexMultiTraversal result.
+     *
+     * @return bean
+     */
+    public RexMultiTraversal getRexMultiTraversal()
+    {
+        return rexMultiTraversal;
+    }
+
+
+    /**
+     * Set the rexMultiTraversal result.
+     *
+     * @param rexMultiTraversal - bean
+     */
+    public void setRexMultiTraversal(RexMultiTraversal rexMultiTraversal)
+    {
+        this.rexMultiTraversal = rexMultiTraversal;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "RexMultiTraversalResponse{" +
+                "rexMultiTraversal=" + rexMultiTraversal +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+}
@@ -32,7 +32,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
         @JsonSubTypes.Type(value = RexEntityDetailResponse.class, name = "RexEntityDetailResponse"),
         @JsonSubTypes.Type(value = RexPreTraversalResponse.class, name = "RexPreTraversalResponse"),
         @JsonSubTypes.Type(value = RexRelationshipResponse.class, name = "RexRelationshipResponse"),
-        @JsonSubTypes.Type(value = RexTraversalResponse.class,    name = "RexTraversalResponse")
+        @JsonSubTypes.Type(value = RexTraversalResponse.class,    name = "RexTraversalResponse"),
+        @JsonSubTypes.Type(value = RexMultiTraversalResponse.class, name = "RexMultiTraversalResponse")
 })
 
 public abstract class RexViewOMVSAPIResponse extends FFDCResponseBase
@@ -44,6 +44,7 @@ import org.odpi.openmetadata.viewservices.rex.api.properties.ResourceEndpoint;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexEntityDigest;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexExpandedEntityDetail;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexExpandedRelationship;
+import org.odpi.openmetadata.viewservices.rex.api.properties.RexMultiTraversal;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexPreTraversal;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexRelationshipAndEntitiesDigest;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexRelationshipDigest;
@@ -56,8 +57,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -73,6 +78,12 @@ public class RexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * Specify how long a cached TypeExplorer is used before the repository server is asked for its types
+     * again to check whether they have changed.
+     */
+    private static final long TYPE_EXPLORER_REVALIDATION_INTERVAL = TimeUnit.SECONDS.toMillis(60);
+
 
     /*
      * viewServiceOptions should have been validated in the Admin layer.
@@ -116,6 +127,19 @@ public class RexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * Building a TypeExplorer means retrieving every type from the repository server and resolving the
+     * inheritance and linkage of each one, and nearly every request needs one.  The explorers are cached
+     * for each user, repository server, platform and enterprise option (so one user is never given types
+     * retrieved with another user's authority), along with the GUID and version of each
+     * type they were built from.  Once a cached explorer is older than the revalidation interval the types
+     * are retrieved again and the explorer is only rebuilt if a type has been added, removed or updated.
+     *
+     * The repository services clients are also reused rather than being created for each request.
+     */
+    private final Map<String, CachedTypeExplorer>               typeExplorerCache         = new ConcurrentHashMap<>();
+    private final Map<String, MetadataCollectionServicesClient> repositoryServicesClients = new ConcurrentHashMap<>();
+
 
 
 
@@ -243,7 +267,8 @@ public class RexViewHandler
     
 
     /**
-     * Retrieve type information from the repository server
+     * Retrieve type information from the repository server.  The TypeExplorer is cached for each user and
+     * is only rebuilt when the types known to the repository server change.
      * @param userId  userId under which the request is performed
      * @param repositoryServerName The name of the repository server to interrogate
      * @param platformName The name of the platform running the repository server to interrogate
@@ -270,6 +295,15 @@ public class RexViewHandler
 
             String platformRootURL = resolvePlatformRootURL(platformName, methodName);
 
+            String             cacheKey           = userId + ":" + getClientKey(repositoryServerName, platformRootURL, enterpriseOption);
+            CachedTypeExplorer cachedTypeExplorer = typeExplorerCache.get(cacheKey);
+            long               now                = System.currentTimeMillis();
+
+            if ((cachedTypeExplorer != null) && (now - cachedTypeExplorer.getValidatedTime() < TYPE_EXPLORER_REVALIDATION_INTERVAL))
+            {
+                return cachedTypeExplorer.getTypeExplorer();
+            }
+
             /*
              *  Switch between local and enterprise services clients depending
              *  on enterprise option...
@@ -285,55 +319,23 @@ public class RexViewHandler
                 repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
             }
 
-            TypeExplorer tex = new TypeExplorer();
-
             TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
+            String         typeVersions   = getTypeVersions(typeDefGallery);
 
-            List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
-            for (TypeDef typeDef : typeDefs)
+            TypeExplorer tex;
+
+            if ((cachedTypeExplorer != null) && (cachedTypeExplorer.getTypeVersions().equals(typeVersions)))
             {
-                TypeDefCategory tdCat = typeDef.getCategory();
-                switch (tdCat)
-                {
-                    case ENTITY_DEF:
-                        EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
-                        tex.addEntityExplorer(typeDef.getName(), eex);
-                        break;
-                    case RELATIONSHIP_DEF:
-                        RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
-                        tex.addRelationshipExplorer(typeDef.getName(), rex);
-                        break;
-                    case CLASSIFICATION_DEF:
-                        ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
-                        tex.addClassificationExplorer(typeDef.getName(), cex);
-                        break;
-                    default:
-                        // Ignore this typeDef and continue with next
-                        break;
-                }
+                tex = cachedTypeExplorer.getTypeExplorer();
             }
-
-            // Include EnumDefs in the TEX
-            List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
-            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+            else
             {
-                AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
-                switch (tdCat)
-                {
-                    case ENUM_DEF:
-                        tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
-                        break;
-                    default:
-                        // Ignore this AttributeTypeDef and continue with next
-                        break;
-                }
+                tex = buildTypeExplorer(typeDefGallery, platformRootURL, repositoryServerName);
             }
 
-            // All typeDefs processed, resolve linkages and return the TEX object
-            // The platformRootURL and repositoryName are passed in only for error logging
-            tex.resolve(platformRootURL, repositoryServerName);
-            return tex;
+            typeExplorerCache.put(cacheKey, new CachedTypeExplorer(tex, typeVersions, now));
 
+            return tex;
         }
 
 
@@ -353,6 +355,104 @@ public class RexViewHandler
 
     }
 
+
+    /**
+     * Build a TypeExplorer from the types retrieved from a repository server.
+     *
+     * @param typeDefGallery the types known to the repository server
+     * @param platformRootURL The root URL of the platform, used for error logging
+     * @param repositoryServerName The name of the repository server, used for error logging
+     * @return resolved TypeExplorer
+     * @throws RepositoryErrorException the types could not be resolved
+     */
+    private TypeExplorer buildTypeExplorer(TypeDefGallery typeDefGallery,
+                                           String         platformRootURL,
+                                           String         repositoryServerName)
+    throws
+        RepositoryErrorException
+    {
+        TypeExplorer tex = new TypeExplorer();
+
+        List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
+        for (TypeDef typeDef : typeDefs)
+        {
+            TypeDefCategory tdCat = typeDef.getCategory();
+            switch (tdCat)
+            {
+                case ENTITY_DEF:
+                    EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
+                    tex.addEntityExplorer(typeDef.getName(), eex);
+                    break;
+                case RELATIONSHIP_DEF:
+                    RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
+                    tex.addRelationshipExplorer(typeDef.getName(), rex);
+                    break;
+                case CLASSIFICATION_DEF:
+                    ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
+                    tex.addClassificationExplorer(typeDef.getName(), cex);
+                    break;
+                default:
+                    // Ignore this typeDef and continue with next
+                    break;
+            }
+        }
+
+        // Include EnumDefs in the TEX
+        List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
+        for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+        {
+            AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
+            switch (tdCat)
+            {
+                case ENUM_DEF:
+                    tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
+                    break;
+                default:
+                    // Ignore this AttributeTypeDef and continue with next
+                    break;
+            }
+        }
+
+        // All typeDefs processed, resolve linkages and return the TEX object
+        // The platformRootURL and repositoryName are passed in only for error logging
+        tex.resolve(platformRootURL, repositoryServerName);
+        return tex;
+    }
+
+
+    /**
+     * Describe the GUID and version of every type in a gallery so that a change to any of the types can be
+     * detected without rebuilding the TypeExplorer.
+     *
+     * @param typeDefGallery the types known to the repository server
+     * @return list of GUIDs and versions, sorted by GUID
+     */
+    private String getTypeVersions(TypeDefGallery typeDefGallery)
+    {
+        Map<String, Long> typeVersions = new TreeMap<>();
+
+        if (typeDefGallery != null)
+        {
+            if (typeDefGallery.getTypeDefs() != null)
+            {
+                for (TypeDef typeDef : typeDefGallery.getTypeDefs())
+                {
+                    typeVersions.put(typeDef.getGUID(), typeDef.getVersion());
+                }
+            }
+
+            if (typeDefGallery.getAttributeTypeDefs() != null)
+            {
+                for (AttributeTypeDef attributeTypeDef : typeDefGallery.getAttributeTypeDefs())
+                {
+                    typeVersions.put(attributeTypeDef.getGUID(), attributeTypeDef.getVersion());
+                }
+            }
+        }
+
+        return typeVersions.toString();
+    }
+
     /**
      * Retrieve entity (by GUID) from the repository server
      * @param userId  userId under which the request is performed
@@ -1262,41 +1362,13 @@ public class RexViewHandler
                                                         enterpriseOption,
                                                         methodName);
 
-            InstanceGraph instGraph = null;
-
-            if (depth > 0)
-            {
-
-                instGraph = repositoryServicesClient.getEntityNeighborhood(userId,
-                                                                           entityGUID,
-                                                                           entityTypeGUIDs,
-                                                                           relationshipTypeGUIDs,
-                                                                           null,
-                                                                           classificationNames,
-                                                                           null,
-                                                                           depth);
-            }
-
-
-            else
-            {
-
-                /*
-                 * Since depth is 0 - use getEntityDetail instead of neighborhood
-                 */
-
-                EntityDetail entityDetail = repositoryServicesClient.getEntityDetail(
-                        userId,
-                        entityGUID);
-
-                // Construct an InstanceGraph containing just the entityDetail
-                instGraph = new InstanceGraph();
-
-                List<EntityDetail> entityDetailList = new ArrayList<>();
-                entityDetailList.add(entityDetail);
-                instGraph.setEntities(entityDetailList);
-
-            }
+            InstanceGraph instGraph = this.getNeighborhood(repositoryServicesClient,
+                                                           userId,
+                                                           entityGUID,
+                                                           depth,
+                                                           entityTypeGUIDs,
+                                                           relationshipTypeGUIDs,
+                                                           classificationNames);
 
 
             // Should have an InstanceGraph with one or more entities and maybe relationships
@@ -1334,20 +1406,8 @@ public class RexViewHandler
                         /*
                          * We need entityGUID, label (computed) and if !preTraversal also include gen
                          */
-                        String entGUID = entityDetail.getGUID();
-
-                        // Pass the typeExplorer to the labeller so that it can traverse...
-                        String entLabel = this.chooseLabelForEntity(entityDetail, typeExplorer);
-
-                        String provenance = determineInstanceProvenance(entityDetail, metadataCollectionId, enterpriseOption);
-
-                        RexEntityDigest red = new RexEntityDigest(entGUID,
-                                                                  entLabel,
-                                                                  0,
-                                                                  entityDetail.getMetadataCollectionName(),
-                                                                  entityDetail.getMetadataCollectionId(),
-                                                                  provenance);
-                        entityDigestMap.put(entGUID, red);
+                        entityDigestMap.put(entityDetail.getGUID(),
+                                            this.getEntityDigest(entityDetail, typeExplorer, metadataCollectionId, enterpriseOption));
                     }
 
                 }
@@ -1364,7 +1424,6 @@ public class RexViewHandler
                          *   relationshipGUID, label (computed), end1GUID, end2GUID, idx (computed), gen
                          */
                         String relGUID = relationship.getGUID();
-                        String relLabel = this.chooseLabelForRelationship(relationship);
                         String end1GUID = relationship.getEntityOneProxy().getGUID();
                         String end2GUID = relationship.getEntityTwoProxy().getGUID();
 
@@ -1372,46 +1431,17 @@ public class RexViewHandler
                         if (entityDigestMap.get(end1GUID) == null)
                         {
                             /* add a digest for this proxy... */
-                            EntityProxy end1Proxy = relationship.getEntityOneProxy();
-                            String end1Label = this.chooseLabelForEntityProxy(end1Proxy, typeExplorer);
-                            RexEntityDigest red = new RexEntityDigest(end1GUID,
-                                                                      end1Label,
-                                                                      0,
-                                                                      end1Proxy.getMetadataCollectionName(),
-                                                                      end1Proxy.getMetadataCollectionId(),
-                                                                      "proxy"
-                            );
-                            entityDigestMap.put(end1GUID, red);
+                            entityDigestMap.put(end1GUID, this.getEntityProxyDigest(relationship.getEntityOneProxy(), typeExplorer));
                         }
                         if (entityDigestMap.get(end2GUID) == null)
                         {
                             /* add a digest for this proxy... */
-                            EntityProxy end2Proxy = relationship.getEntityTwoProxy();
-                            String end2Label = this.chooseLabelForEntityProxy(end2Proxy, typeExplorer);
-                            RexEntityDigest red = new RexEntityDigest(end2GUID,
-                                                                      end2Label,
-                                                                      0,
-                                                                      end2Proxy.getMetadataCollectionName(),
-                                                                      end2Proxy.getMetadataCollectionId(),
-                                                                      "proxy");
-                            entityDigestMap.put(end2GUID, red);
+                            entityDigestMap.put(end2GUID, this.getEntityProxyDigest(relationship.getEntityTwoProxy(), typeExplorer));
                         }
 
 
-                        int idx = 0;
-
-                        String provenance = determineInstanceProvenance(relationship, metadataCollectionId, enterpriseOption);
-
-                        RexRelationshipDigest rrd = new RexRelationshipDigest(relGUID,
-                                                                              relLabel,
-                                                                              end1GUID,
-                                                                              end2GUID,
-                                                                              idx,
-                                                                              0,
-                                                                              relationship.getMetadataCollectionName(),
-                                                                              relationship.getMetadataCollectionId(),
-                                                                              provenance);
-                        relationshipDigestMap.put(relGUID, rrd);
+                        relationshipDigestMap.put(relGUID,
+                                                  this.getRelationshipDigest(relationship, metadataCollectionId, enterpriseOption));
                     }
                 }
 
@@ -1497,12 +1527,427 @@ public class RexViewHandler
     }
 
 
+    /**
+     * Retrieve the neighborhoods surrounding several entities and merge them into a single set of digests.
+     * Each entity is expanded in the same way as the traversal method; the results are merged as they arrive so
+     * that the limits can be applied to the combined graph.  Any instances that are left out because of a
+     * limit cause the truncated flag to be set in the result.
+     *
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformName The name of the platform running the repository server to interrogate
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param entityGUIDs the identities of the entities from which to traverse
+     * @param depth the depth to which the method should traverse
+     * @param entityTypeGUIDs the GUIDs of entity types to filter the neighborhood
+     * @param relationshipTypeGUIDs the GUIDs of relationship types to filter the neighborhood
+     * @param classificationNames the names of classification types to filter the neighborhood
+     * @param maxRelationshipsPerType the most relationships of one type to return for each entity - 0 means no limit
+     * @param maxEntities the most entities to return - 0 means no limit
+     * @param maxRelationships the most relationships to return - 0 means no limit
+     * @param methodName The name of the method being invoked
+     * @return a RexMultiTraversal object containing the merged neighborhood information
+     *
+     * Exceptions
+     * @throws RexViewServiceException  an error was detected and details are reported in the exception
+     */
+    public RexMultiTraversal multiTraversal(String          userId,
+                                            String          repositoryServerName,
+                                            String          platformName,
+                                            boolean         enterpriseOption,
+                                            List<String>    entityGUIDs,
+                                            int             depth,
+                                            List<String>    entityTypeGUIDs,
+                                            List<String>    relationshipTypeGUIDs,
+                                            List<String>    classificationNames,
+                                            int             maxRelationshipsPerType,
+                                            int             maxEntities,
+                                            int             maxRelationships,
+                                            String          methodName)
+    throws
+    RexViewServiceException
+
+    {
+        try
+        {
+            String platformRootURL = resolvePlatformRootURL(platformName, methodName);
+
+            MetadataCollectionServicesClient repositoryServicesClient;
+
+            if (!enterpriseOption)
+            {
+                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
+            }
+            else
+            {
+                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
+            }
+
+            String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
+
+            TypeExplorer typeExplorer = getTypeExplorer(userId,
+                                                        repositoryServerName,
+                                                        platformName,
+                                                        enterpriseOption,
+                                                        methodName);
+
+            Map<String, RexEntityDigest>       entityDigestMap       = new HashMap<>();
+            Map<String, RexRelationshipDigest> relationshipDigestMap = new HashMap<>();
+            Map<String, Integer>               relationshipTypeCount = new HashMap<>();
+            List<String>                       expandedGUIDs         = new ArrayList<>();
+            List<String>                       notFoundGUIDs         = new ArrayList<>();
+            boolean                            truncated             = false;
+
+            if (entityGUIDs != null)
+            {
+                for (String entityGUID : new LinkedHashSet<>(entityGUIDs))
+                {
+                    if (entityGUID == null)
+                    {
+                        continue;
+                    }
+
+                    InstanceGraph instGraph;
+
+                    try
+                    {
+                        instGraph = this.getNeighborhood(repositoryServicesClient,
+                                                         userId,
+                                                         entityGUID,
+                                                         depth,
+                                                         entityTypeGUIDs,
+                                                         relationshipTypeGUIDs,
+                                                         classificationNames);
+                    }
+                    catch (EntityNotKnownException e)
+                    {
+                        /*
+                         * One missing entity should not fail the whole request - the caller is told which
+                         * entities could not be found.
+                         */
+                        notFoundGUIDs.add(entityGUID);
+                        continue;
+                    }
+
+                    expandedGUIDs.add(entityGUID);
+
+                    if (instGraph == null)
+                    {
+                        continue;
+                    }
+
+                    /*
+                     * Index the homed entities in this subgraph so that each end of a relationship can be given a full
+                     * digest if one is available, or a proxy digest if not.
+                     */
+                    Map<String, EntityDetail> graphEntities = new HashMap<>();
+                    List<EntityDetail>        entities      = instGraph.getEntities();
+
+                    if (entities != null)
+                    {
+                        for (EntityDetail entityDetail : entities)
+                        {
+                            graphEntities.put(entityDetail.getGUID(), entityDetail);
+                        }
+                    }
+
+                    /*
+                     * The entity that was expanded is always included, even if the entity limit has been reached, so
+                     * that the caller can see that it was processed.
+                     */
+                    if (!entityDigestMap.containsKey(entityGUID) && graphEntities.containsKey(entityGUID))
+                    {
+                        entityDigestMap.put(entityGUID,
+                                            this.getEntityDigest(graphEntities.get(entityGUID), typeExplorer, metadataCollectionId, enterpriseOption));
+                    }
+
+                    List<Relationship> relationships = instGraph.getRelationships();
+
+                    if (relationships == null)
+                    {
+                        continue;
+                    }
+
+                    for (Relationship relationship : relationships)
+                    {
+                        String relGUID = relationship.getGUID();
+
+                        if (relationshipDigestMap.containsKey(relGUID))
+                        {
+                            continue;
+                        }
+
+                        if ((maxRelationships > 0) && (relationshipDigestMap.size() >= maxRelationships))
+                        {
+                            truncated = true;
+                            break;
+                        }
+
+                        EntityProxy end1Proxy = relationship.getEntityOneProxy();
+                        EntityProxy end2Proxy = relationship.getEntityTwoProxy();
+                        String      end1GUID  = end1Proxy.getGUID();
+                        String      end2GUID  = end2Proxy.getGUID();
+
+                        /*
+                         * The fan-out limit is applied to each end of the relationship so that a hub entity does not
+                         * flood the graph with hundreds of relationships of the same type.
+                         */
+                        String relTypeName = (relationship.getType() == null) ? null : relationship.getType().getTypeDefName();
+                        String end1TypeKey = end1GUID + "::" + relTypeName;
+                        String end2TypeKey = end2GUID + "::" + relTypeName;
+
+                        if ((maxRelationshipsPerType > 0) &&
+                            ((relationshipTypeCount.getOrDefault(end1TypeKey, 0) >= maxRelationshipsPerType) ||
+                             (relationshipTypeCount.getOrDefault(end2TypeKey, 0) >= maxRelationshipsPerType)))
+                        {
+                            truncated = true;
+                            continue;
+                        }
+
+                        int newEntityCount = (entityDigestMap.containsKey(end1GUID) ? 0 : 1) +
+                                             ((entityDigestMap.containsKey(end2GUID) || end1GUID.equals(end2GUID)) ? 0 : 1);
+
+                        if ((maxEntities > 0) && (newEntityCount > 0) && (entityDigestMap.size() + newEntityCount > maxEntities))
+                        {
+                            truncated = true;
+                            continue;
+                        }
+
+                        if (!entityDigestMap.containsKey(end1GUID))
+                        {
+                            EntityDetail end1Detail = graphEntities.get(end1GUID);
+
+                            entityDigestMap.put(end1GUID, (end1Detail != null) ?
+                                    this.getEntityDigest(end1Detail, typeExplorer, metadataCollectionId, enterpriseOption) :
+                                    this.getEntityProxyDigest(end1Proxy, typeExplorer));
+                        }
+                        if (!entityDigestMap.containsKey(end2GUID))
+                        {
+                            EntityDetail end2Detail = graphEntities.get(end2GUID);
+
+                            entityDigestMap.put(end2GUID, (end2Detail != null) ?
+                                    this.getEntityDigest(end2Detail, typeExplorer, metadataCollectionId, enterpriseOption) :
+                                    this.getEntityProxyDigest(end2Proxy, typeExplorer));
+                        }
+
+                        relationshipTypeCount.merge(end1TypeKey, 1, Integer::sum);
+                        if (!end1GUID.equals(end2GUID))
+                        {
+                            relationshipTypeCount.merge(end2TypeKey, 1, Integer::sum);
+                        }
+
+                        relationshipDigestMap.put(relGUID,
+                                                  this.getRelationshipDigest(relationship, metadataCollectionId, enterpriseOption));
+                    }
+                }
+            }
+
+            RexMultiTraversal rt = new RexMultiTraversal();
+
+            rt.setEntityGUIDs(expandedGUIDs);
+            rt.setEntityGUIDsNotFound(notFoundGUIDs.isEmpty() ? null : notFoundGUIDs);
+            rt.setDepth(depth);
+            rt.setGen(0);
+            rt.setTruncated(truncated);
+            // Instead of using type guids in the traversal (which is to be sent to the browser) use type names instead.
+            List<String> entityTypeNames = new ArrayList<>();
+            if (entityTypeGUIDs != null && !entityTypeGUIDs.isEmpty())
+                for (String entityTypeGUID : entityTypeGUIDs)
+                {
+                    entityTypeNames.add(typeExplorer.getEntityTypeName(entityTypeGUID));
+                }
+            rt.setEntityTypeNames(entityTypeNames);
+            rt.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
+            rt.setClassificationNames(classificationNames);
+            rt.setEntities(entityDigestMap.isEmpty() ? null : entityDigestMap);
+            rt.setRelationships(relationshipDigestMap.isEmpty() ? null : relationshipDigestMap);
+            rt.setServerName(repositoryServerName);
+            rt.setPlatformName(platformName);
+
+            return rt;
+        }
+        catch (UserNotAuthorizedException e)
+        {
+            throw RexExceptionHandler.mapOMRSUserNotAuthorizedException(this.getClass().getName(),
+                                                                        methodName,
+                                                                        e);
+        }
+        catch (RepositoryErrorException e)
+        {
+            throw RexExceptionHandler.mapOMRSRepositoryErrorException(this.getClass().getName(),
+                                                                      methodName,
+                                                                      e);
+        }
+        catch (InvalidParameterException e)
+        {
+            throw RexExceptionHandler.mapOMRSInvalidParameterException(this.getClass().getName(),
+                                                                       methodName,
+                                                                       e);
+        }
+        catch (TypeErrorException e)
+        {
+            throw RexExceptionHandler.mapOMRSTypeErrorException(this.getClass().getName(),
+                                                                methodName,
+                                                                e);
+        }
+        catch (PropertyErrorException e)
+        {
+            throw RexExceptionHandler.mapOMRSPropertyErrorException(this.getClass().getName(),
+                                                                    methodName,
+                                                                    e);
+        }
+        catch (FunctionNotSupportedException e)
+        {
+            throw RexExceptionHandler.mapOMRSFunctionNotSupportedException(this.getClass().getName(),
+                                                                           methodName,
+                                                                           e);
+        }
+        catch (EntityProxyOnlyException e)
+        {
+            throw RexExceptionHandler.mapOMRSEntityProxyOnlyException(this.getClass().getName(), methodName, e);
+        }
+    }
+
+
+    /**
+     * Retrieve the subgraph around an entity.  If the depth is 0 the entity is retrieved on its own and returned
+     * in an instance graph.
+     *
+     * @param repositoryServicesClient client for the repository
+     * @param userId userId under which the request is performed
+     * @param entityGUID the identity of the entity from which to traverse
+     * @param depth the depth to which the method should traverse
+     * @param entityTypeGUIDs the GUIDs of entity types to filter the neighborhood
+     * @param relationshipTypeGUIDs the GUIDs of relationship types to filter the neighborhood
+     * @param classificationNames the names of classification types to filter the neighborhood
+     * @return instance graph
+     * @throws InvalidParameterException a parameter is invalid
+     * @throws TypeErrorException one of the type guids is not known
+     * @throws RepositoryErrorException there is a problem communicating with the repository
+     * @throws EntityNotKnownException the entity is not known
+     * @throws EntityProxyOnlyException the repository only has a proxy for the entity
+     * @throws PropertyErrorException one of the classification names is not valid
+     * @throws FunctionNotSupportedException the repository does not support this call
+     * @throws UserNotAuthorizedException the user is not permitted to perform this call
+     */
+    private InstanceGraph getNeighborhood(MetadataCollectionServicesClient repositoryServicesClient,
+                                          String                           userId,
+                                          String                           entityGUID,
+                                          int                              depth,
+                                          List<String>                     entityTypeGUIDs,
+                                          List<String>                     relationshipTypeGUIDs,
+                                          List<String>                     classificationNames)
+    throws
+    InvalidParameterException,
+    TypeErrorException,
+    RepositoryErrorException,
+    EntityNotKnownException,
+    EntityProxyOnlyException,
+    PropertyErrorException,
+    FunctionNotSupportedException,
+    UserNotAuthorizedException
+    {
+        if (depth > 0)
+        {
+            return repositoryServicesClient.getEntityNeighborhood(userId,
+                                                                  entityGUID,
+                                                                  entityTypeGUIDs,
+                                                                  relationshipTypeGUIDs,
+                                                                  null,
+                                                                  classificationNames,
+                                                                  null,
+                                                                  depth);
+        }
+
+        /*
+         * Since depth is 0 - use getEntityDetail instead of neighborhood
+         */
+        EntityDetail entityDetail = repositoryServicesClient.getEntityDetail(userId, entityGUID);
+
+        // Construct an InstanceGraph containing just the entityDetail
+        InstanceGraph instGraph = new InstanceGraph();
+
+        List<EntityDetail> entityDetailList = new ArrayList<>();
+        entityDetailList.add(entityDetail);
+        instGraph.setEntities(entityDetailList);
+
+        return instGraph;
+    }
+
+
+    /**
+     * Build the digest for an entity.
+     *
+     * @param entityDetail entity
+     * @param typeExplorer types supported by the repository, used to choose the label
+     * @param metadataCollectionId metadata collection of the repository that was queried
+     * @param enterpriseOption whether the query is at cohort level or server specific
+     * @return digest
+     */
+    private RexEntityDigest getEntityDigest(EntityDetail entityDetail,
+                                            TypeExplorer typeExplorer,
+                                            String       metadataCollectionId,
+                                            boolean      enterpriseOption)
+    {
+        return new RexEntityDigest(entityDetail.getGUID(),
+                                   this.chooseLabelForEntity(entityDetail, typeExplorer),
+                                   0,
+                                   entityDetail.getMetadataCollectionName(),
+                                   entityDetail.getMetadataCollectionId(),
+                                   determineInstanceProvenance(entityDetail, metadataCollectionId, enterpriseOption));
+    }
+
+
+    /**
+     * Build the digest for a relationship end that was not included in the entities of an instance graph.
+     *
+     * @param entityProxy proxy for the entity
+     * @param typeExplorer types supported by the repository, used to choose the label
+     * @return digest
+     */
+    private RexEntityDigest getEntityProxyDigest(EntityProxy  entityProxy,
+                                                 TypeExplorer typeExplorer)
+    {
+        return new RexEntityDigest(entityProxy.getGUID(),
+                                   this.chooseLabelForEntityProxy(entityProxy, typeExplorer),
+                                   0,
+                                   entityProxy.getMetadataCollectionName(),
+                                   entityProxy.getMetadataCollectionId(),
+                                   "proxy");
+    }
+
+
+    /**
+     * Build the digest for a relationship.
+     *
+     * @param relationship relationship
+     * @param metadataCollectionId metadata collection of the repository that was queried
+     * @param enterpriseOption whether the query is at cohort level or server specific
+     * @return digest
+     */
+    private RexRelationshipDigest getRelationshipDigest(Relationship relationship,
+                                                        String       metadataCollectionId,
+                                                        boolean      enterpriseOption)
+    {
+        return new RexRelationshipDigest(relationship.getGUID(),
+                                         this.chooseLabelForRelationship(relationship),
+                                         relationship.getEntityOneProxy().getGUID(),
+                                         relationship.getEntityTwoProxy().getGUID(),
+                                         0,
+                                         0,
+                                         relationship.getMetadataCollectionName(),
+                                         relationship.getMetadataCollectionId(),
+                                         determineInstanceProvenance(relationship, metadataCollectionId, enterpriseOption));
+    }
+
+
     /**
      * getLocalRepositoryServicesClient
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is not set, and will
-     * connect to the local repository.
+     * connect to the local repository.  The client is created on first use and then reused for
+     * later requests to the same server.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -1524,10 +1969,24 @@ public class RexViewHandler
          * here because we want to surface it to the REST API that called this method so that the
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
-        String restRootURL = serverRootURL + "/servers/" + serverName;
-        LocalRepositoryServicesClient client = new LocalRepositoryServicesClient(serverName, restRootURL);
+        String                           clientKey = getClientKey(serverName, serverRootURL, false);
+        MetadataCollectionServicesClient client    = repositoryServicesClients.get(clientKey);
 
-        return client;
+        if (client == null)
+        {
+            String restRootURL = serverRootURL + "/servers/" + serverName;
+
+            client = new LocalRepositoryServicesClient(serverName, restRootURL);
+
+            MetadataCollectionServicesClient existingClient = repositoryServicesClients.putIfAbsent(clientKey, client);
+
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
+
+        return (LocalRepositoryServicesClient) client;
     }
 
     /**
@@ -1535,7 +1994,8 @@ public class RexViewHandler
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is set, and will
-     * perform federation.
+     * perform federation.  The client is created on first use and then reused for
+     * later requests to the same server.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -1557,10 +2017,41 @@ public class RexViewHandler
          * here because we want to surface it to the REST API that called this method so that the
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
-        String restRootURL = serverRootURL + "/servers/" + serverName;
-        EnterpriseRepositoryServicesClient client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+        String                           clientKey = getClientKey(serverName, serverRootURL, true);
+        MetadataCollectionServicesClient client    = repositoryServicesClients.get(clientKey);
+
+        if (client == null)
+        {
+            String restRootURL = serverRootURL + "/servers/" + serverName;
+
+            client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+
+            MetadataCollectionServicesClient existingClient = repositoryServicesClients.putIfAbsent(clientKey, client);
+
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
 
-        return client;
+        return (EnterpriseRepositoryServicesClient) client;
+    }
+
+
+    /**
+     * Return the key used to cache the clients for a repository server.  The TypeExplorers are cached
+     * with this key prefixed by the user id.
+     *
+     * @param serverName - name of the server to connect to
+     * @param serverRootURL - the root URL to connect to the server
+     * @param enterpriseOption - whether the enterprise (cohort) view of the server is used
+     * @return cache key
+     */
+    private String getClientKey(String  serverName,
+                                String  serverRootURL,
+                                boolean enterpriseOption)
+    {
+        return (enterpriseOption ? "enterprise:" : "local:") + serverRootURL + "/servers/" + serverName;
     }
 
     private String chooseLabelForEntity(EntityDetail entityDetail, TypeExplorer typeExplorer)
@@ -1896,4 +2387,64 @@ public class RexViewHandler
     }
 
 
+    /**
+     * CachedTypeExplorer holds a TypeExplorer with the versions of the types it was built from and the time
+     * that those versions were last checked against the repository server.
+     */
+    private static class CachedTypeExplorer
+    {
+        private final TypeExplorer typeExplorer;
+        private final String       typeVersions;
+        private final long         validatedTime;
+
+
+        /**
+         * Constructor
+         *
+         * @param typeExplorer the resolved TypeExplorer
+         * @param typeVersions GUID and version of each type the explorer was built from
+         * @param validatedTime time that the versions were retrieved from the repository server
+         */
+        CachedTypeExplorer(TypeExplorer typeExplorer,
+                           String       typeVersions,
+                           long         validatedTime)
+        {
+            this.typeExplorer = typeExplorer;
+            this.typeVersions = typeVersions;
+            this.validatedTime = validatedTime;
+        }
+
+
+        /**
+         * Return the resolved TypeExplorer.
+         *
+         * @return TypeExplorer
+         */
+        TypeExplorer getTypeExplorer()
+        {
+            return typeExplorer;
+        }
+
+
+        /**
+         * Return the GUID and version of each type the explorer was built from.
+         *
+         * @return type versions
+         */
+        String getTypeVersions()
+        {
+            return typeVersions;
+        }
+
+
+        /**
+         * Return the time that the versions were retrieved from the repository server.
+         *
+         * @return milliseconds since the epoch
+         */
+        long getValidatedTime()
+        {
+            return validatedTime;
+        }
+    }
 }
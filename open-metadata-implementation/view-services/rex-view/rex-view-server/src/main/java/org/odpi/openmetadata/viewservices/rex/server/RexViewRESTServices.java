@@ -14,11 +14,14 @@ import org.odpi.openmetadata.viewservices.rex.api.ffdc.RexExceptionHandler;
 import org.odpi.openmetadata.viewservices.rex.api.ffdc.RexViewErrorCode;
 import org.odpi.openmetadata.viewservices.rex.api.ffdc.RexViewServiceException;
 import org.odpi.openmetadata.viewservices.rex.api.properties.ResourceEndpoint;
+import org.odpi.openmetadata.viewservices.rex.api.properties.RexMultiTraversal;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexPreTraversal;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexRelationshipAndEntitiesDigest;
 import org.odpi.openmetadata.viewservices.rex.api.properties.RexTraversal;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexEntityDetailResponse;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexEntityRequestBody;
+import org.odpi.openmetadata.viewservices.rex.api.rest.RexMultiTraversalRequestBody;
+import org.odpi.openmetadata.viewservices.rex.api.rest.RexMultiTraversalResponse;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexPreTraversalResponse;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexRelationshipRequestBody;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexRelationshipResponse;
@@ -205,7 +208,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -306,7 +309,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -401,7 +404,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -502,7 +505,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -605,7 +608,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -712,7 +715,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -821,12 +824,132 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
 
+    /**
+     *  This method retrieves the neighborhoods around several starting entities in one request.
+     *  <p>
+     *  The neighborhoods are merged into a single set of entity and relationship digests.  The optional
+     *  limits in the request body cap the number of relationships of each type shown for an entity and the
+     *  total size of the result; the response indicates whether any instances were left out.
+     *  <p>
+     *  The method used is POST because the parameters supplied by the UI to the VS are conveyed in
+     *  the request body.
+     *
+     *
+     * @param serverName   name of the server running the view-service.
+     * @param userId       user account under which to conduct operation.
+     * @param requestBody  request body containing parameters to formulate repository request
+     * @return response object containing the merged digests for the traversal or exception information
+     *
+     * <ul>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.
+     * </ul>
+     */
+
+    public RexMultiTraversalResponse multiTraversal(String                       serverName,
+                                                    String                       userId,
+                                                    RexMultiTraversalRequestBody requestBody)
+    {
+
+        final String methodName = "multiTraversal";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        RexMultiTraversalResponse response = new RexMultiTraversalResponse();
+
+        if (requestBody != null)
+        {
+
+            AuditLog auditLog = null;
+            RexViewHandler handler = null;
+
+            try
+            {
+                auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+                handler = instanceHandler.getRexViewHandler(userId, serverName, methodName);
+            }
+            catch (InvalidParameterException exception)
+            {
+                restExceptionHandler.captureInvalidParameterException(response, exception);
+            }
+            catch (PropertyServerException exception)
+            {
+                restExceptionHandler.capturePropertyServerException(response, exception);
+            }
+            catch (UserNotAuthorizedException exception)
+            {
+                restExceptionHandler.captureUserNotAuthorizedException(response, exception);
+            }
+            catch (Exception exception)
+            {
+                restExceptionHandler.captureExceptions(response, exception, methodName, auditLog);
+            }
+
+            try {
+
+                RexMultiTraversal traversal = handler.multiTraversal(userId,
+                                                                     requestBody.getServerName(),
+                                                                     requestBody.getPlatformName(),
+                                                                     requestBody.getEnterpriseOption(),
+                                                                     requestBody.getEntityGUIDs(),
+                                                                     getLimit(requestBody.getDepth()),
+                                                                     requestBody.getEntityTypeGUIDs(),
+                                                                     requestBody.getRelationshipTypeGUIDs(),
+                                                                     requestBody.getClassificationNames(),
+                                                                     getLimit(requestBody.getMaxRelationshipsPerType()),
+                                                                     getLimit(requestBody.getMaxEntities()),
+                                                                     getLimit(requestBody.getMaxRelationships()),
+                                                                     methodName);
+
+                if (traversal != null)
+                {
+                    response.setRexMultiTraversal(traversal);
+                }
+
+            }
+            catch (RexViewServiceException exception)
+            {
+                RexExceptionHandler.captureCheckedException(response, exception, exception.getClass().getName());
+            }
+            catch (Exception exception)
+            {
+                restExceptionHandler.captureExceptions(response, exception, methodName, auditLog);
+            }
+        }
+        else
+        {
+            /*
+             * Raise (and immediately capture) a RexViewServicesException
+             */
+            RexViewServiceException exception = new RexViewServiceException(RexViewErrorCode.VIEW_SERVICE_REQUEST_BODY_MISSING.getMessageDefinition(),
+                                                                        this.getClass().getName(),
+                                                                        methodName);
+
+            RexExceptionHandler.captureCheckedException(response, exception, exception.getClass().getName());
+        }
 
 
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        restCallLogger.logRESTCallReturn(token, response);
+
+        return response;
+    }
+
 
+    /**
+     * Convert an optional value from a request body into an int - null means 0.
+     *
+     * @param value value from the request body
+     * @return value or 0
+     */
+    private int getLimit(Integer value)
+    {
+        return (value == null) ? 0 : value;
+    }
 }
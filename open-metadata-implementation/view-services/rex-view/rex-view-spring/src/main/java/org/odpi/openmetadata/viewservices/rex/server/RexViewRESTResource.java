@@ -5,6 +5,8 @@ package org.odpi.openmetadata.viewservices.rex.server;
 
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexEntityDetailResponse;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexEntityRequestBody;
+import org.odpi.openmetadata.viewservices.rex.api.rest.RexMultiTraversalRequestBody;
+import org.odpi.openmetadata.viewservices.rex.api.rest.RexMultiTraversalResponse;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexPreTraversalResponse;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexRelationshipRequestBody;
 import org.odpi.openmetadata.viewservices.rex.api.rest.RexRelationshipResponse;
@@ -225,4 +227,26 @@ public class RexViewRESTResource {
 
 
     }
+
+    /**
+     *  This method retrieves the neighborhoods around several starting entities in one request.
+     *  <p>
+     *  The neighborhoods are merged into a single set of entity and relationship digests, limited by
+     *  the optional fan-out and size limits in the request body.
+     *  <p>
+     *  The method used is POST because the parameters supplied by the UI to the VS are conveyed in
+     *  the request body.
+     *
+     *
+     * @param viewServerName   name of the server running the view-service.
+     * @param userId       user account under which to conduct operation.
+     * @param body         request body containing parameters to formulate repository request
+     * @return response object containing the merged digests for the traversal or exception information
+     */
+    @PostMapping("/instances/multi-traversal")
+    public RexMultiTraversalResponse rexMultiTraversal(@PathVariable String                      viewServerName,
+                                                       @PathVariable String                      userId,
+                                                       @RequestBody RexMultiTraversalRequestBody body) {
+        return restAPI.multiTraversal(viewServerName, userId, body);
+    }
 }
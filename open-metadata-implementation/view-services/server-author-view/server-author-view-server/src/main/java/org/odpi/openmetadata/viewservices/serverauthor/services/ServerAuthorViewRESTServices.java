@@ -121,7 +121,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -155,7 +155,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -188,7 +188,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -220,7 +220,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -254,7 +254,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -290,7 +290,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -325,7 +325,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -360,7 +360,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -397,7 +397,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -438,7 +438,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -469,7 +469,7 @@ public class ServerAuthorViewRESTServices {
         } catch (Exception exception) {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -506,7 +506,7 @@ public class ServerAuthorViewRESTServices {
             ServerAuthorExceptionHandler.captureCheckedException(response, error, className);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -539,7 +539,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -572,7 +572,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -605,7 +605,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -638,7 +638,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -673,7 +673,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -706,7 +706,7 @@ public class ServerAuthorViewRESTServices {
         } catch (Exception exception) {
             restExceptionHandler.captureThrowable(response, exception, methodName, auditLog);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -742,7 +742,7 @@ public class ServerAuthorViewRESTServices {
             restExceptionHandler.captureUserNotAuthorizedException(response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
 
     }
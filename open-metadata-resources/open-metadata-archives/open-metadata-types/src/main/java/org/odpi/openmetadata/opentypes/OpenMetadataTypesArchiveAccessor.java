@@ -39,7 +39,7 @@ public class OpenMetadataTypesArchiveAccessor
     {
         if (instance == null)
         {
-            instance = new OpenMetadataTypesArchiveAccessor(new OpenMetadataTypesArchive().getOpenMetadataArchive());
+            instance = new OpenMetadataTypesArchiveAccessor(new OpenMetadataTypesArchiveSnapshot().getOpenMetadataArchive());
         }
 
         return instance;
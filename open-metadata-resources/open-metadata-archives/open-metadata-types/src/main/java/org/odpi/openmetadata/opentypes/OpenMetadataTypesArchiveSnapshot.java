@@ -0,0 +1,407 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.archiveutilities.OMRSArchiveBuilder;
+import org.odpi.openmetadata.repositoryservices.archiveutilities.OMRSArchiveHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * OpenMetadataTypesArchiveSnapshot manages a pre-built copy of the open metadata types archive that is
+ * packaged on the classpath alongside the archive classes.  The snapshot is written at build time (see the
+ * main method) from the same OpenMetadataTypesArchive that would otherwise be constructed in code on every server
+ * start.  At runtime, getOpenMetadataArchive() returns the content of the snapshot if it is present and
+ * was written from the classes on the classpath, and falls back to building the archive in code if it is not.
+ * <p>
+ * The snapshot starts with the name and CRC-32 of each class that its content depends on: the classes that build
+ * the type definitions (OpenMetadataTypesArchive and the OpenMetadataTypesArchiveN_N classes it chains to,
+ * OMRSArchiveBuilder and OMRSArchiveHelper) and every open metadata class that is serialized into the snapshot.
+ * The snapshot is only used if each of these classes has the same CRC-32 when it is read through the class loader,
+ * so a change to a type definition or to an archive bean means a snapshot left over from an earlier build is
+ * never used.  The class files are read as class loader resources so this works however the classes are packaged.
+ * </p>
+ * <p>
+ * The snapshot is checked and read from the classpath the first time it is needed in the JVM.  Its content is kept
+ * in memory so later servers on the same platform deserialize a new copy of the archive without reading or checking
+ * it again.  Java serialization of the archive beans is used since it restores the archive faster than either
+ * building it in code or parsing its JSON form.  Only open metadata and JDK classes are accepted when the snapshot
+ * is read.
+ * </p>
+ */
+public class OpenMetadataTypesArchiveSnapshot
+{
+    /**
+     * Name of the classpath resource holding the snapshot.
+     */
+    public static final String SNAPSHOT_RESOURCE_NAME = "OpenMetadataTypesArchive.snapshot";
+
+    private static final Logger log = LoggerFactory.getLogger(OpenMetadataTypesArchiveSnapshot.class);
+
+    private static final ObjectInputFilter snapshotFilter = ObjectInputFilter.Config.createFilter("org.odpi.openmetadata.**;java.**;!*");
+
+    private static final Pattern archiveClassNamePattern = Pattern.compile("OpenMetadataTypesArchive([0-9]+_[0-9]+)?(\\$.*)?\\.class");
+
+    private static final String openMetadataClassPrefix = "org.odpi.openmetadata.";
+
+    private static boolean snapshotChecked = false;
+    private static byte[]  snapshotContent = null;
+
+    private final OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
+
+
+    /**
+     * Default constructor
+     */
+    public OpenMetadataTypesArchiveSnapshot()
+    {
+    }
+
+
+    /**
+     * Return the unique identifier for the open metadata types archive.
+     *
+     * @return String guid
+     */
+    public String getArchiveGUID()
+    {
+        return openMetadataTypesArchive.getArchiveGUID();
+    }
+
+
+    /**
+     * Return the open metadata types archive.  The content comes from the snapshot on the classpath when it is
+     * available, otherwise the archive is built in code.  Each call returns a new copy of the archive since
+     * the receivers of the types are free to update them.
+     *
+     * @return populated open metadata archive object
+     */
+    public OpenMetadataArchive getOpenMetadataArchive()
+    {
+        OpenMetadataArchive snapshot = this.readSnapshot();
+
+        if (snapshot != null)
+        {
+            return snapshot;
+        }
+
+        return new OpenMetadataTypesArchive().getOpenMetadataArchive();
+    }
+
+
+    /**
+     * Return a new copy of the archive stored in the snapshot resource.  Null is returned if the resource is missing,
+     * unreadable or was produced from different classes to those on the classpath.
+     *
+     * @return open metadata archive or null
+     */
+    public OpenMetadataArchive readSnapshot()
+    {
+        byte[] content = getSnapshotContent();
+
+        if (content != null)
+        {
+            try
+            {
+                return this.readSnapshot(new ByteArrayInputStream(content), false);
+            }
+            catch (Exception error)
+            {
+                log.warn("Unable to read the open metadata types snapshot; building the archive in code", error);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the content of the snapshot resource, reading and checking it the first time it is requested.
+     *
+     * @return snapshot content or null if the snapshot can not be used
+     */
+    private static synchronized byte[] getSnapshotContent()
+    {
+        if (! snapshotChecked)
+        {
+            snapshotChecked = true;
+
+            try (InputStream resourceStream = OpenMetadataTypesArchiveSnapshot.class.getClassLoader().getResourceAsStream(SNAPSHOT_RESOURCE_NAME))
+            {
+                if (resourceStream == null)
+                {
+                    log.debug("No open metadata types snapshot on the classpath; building the archive in code");
+                }
+                else
+                {
+                    byte[] content = resourceStream.readAllBytes();
+
+                    if (new OpenMetadataTypesArchiveSnapshot().readSnapshot(new ByteArrayInputStream(content), true) == null)
+                    {
+                        log.info("Open metadata types snapshot is out of date; building the archive in code");
+                    }
+                    else
+                    {
+                        snapshotContent = content;
+                    }
+                }
+            }
+            catch (Exception error)
+            {
+                log.warn("Unable to read the open metadata types snapshot; building the archive in code", error);
+            }
+        }
+
+        return snapshotContent;
+    }
+
+
+    /**
+     * Read an archive from a snapshot stream.
+     *
+     * @param snapshotStream stream positioned at the start of the snapshot
+     * @param checkClasses compare the classes recorded in the snapshot with those on the classpath
+     * @return open metadata archive or null if the snapshot was written from different classes
+     * @throws IOException the stream is not readable or contains classes that are not allowed in the snapshot
+     * @throws ClassNotFoundException the snapshot contains a class that is not on the classpath
+     */
+    OpenMetadataArchive readSnapshot(InputStream snapshotStream,
+                                     boolean     checkClasses) throws IOException, ClassNotFoundException
+    {
+        try (ObjectInputStream objectStream = new ObjectInputStream(snapshotStream))
+        {
+            objectStream.setObjectInputFilter(snapshotFilter);
+
+            int classCount = objectStream.readInt();
+
+            for (int i = 0; i < classCount; i++)
+            {
+                String className = objectStream.readUTF();
+                long   classCRC  = objectStream.readLong();
+
+                if ((checkClasses) && (! Long.valueOf(classCRC).equals(getClassCRC(className))))
+                {
+                    log.debug("Class " + className + " has changed since the open metadata types snapshot was written");
+                    return null;
+                }
+            }
+
+            OpenMetadataArchive archive = (OpenMetadataArchive) objectStream.readObject();
+
+            if ((archive == null) || (archive.getArchiveProperties() == null) || (archive.getArchiveTypeStore() == null))
+            {
+                throw new IOException("Open metadata types snapshot does not contain a complete archive");
+            }
+
+            return archive;
+        }
+    }
+
+
+    /**
+     * Return the CRC-32 of a class file read through the class loader.
+     *
+     * @param className fully qualified class name
+     * @return CRC-32 or null if the class file is not available
+     * @throws IOException the class file can not be read
+     */
+    static Long getClassCRC(String className) throws IOException
+    {
+        String resourceName = className.replace('.', '/') + ".class";
+
+        try (InputStream classStream = OpenMetadataTypesArchiveSnapshot.class.getClassLoader().getResourceAsStream(resourceName))
+        {
+            if (classStream == null)
+            {
+                return null;
+            }
+
+            CRC32 crc = new CRC32();
+
+            crc.update(classStream.readAllBytes());
+
+            return crc.getValue();
+        }
+    }
+
+
+    /**
+     * Return the names and CRC-32 values of the classes that the content of the snapshot depends on.  The classes
+     * that build the archive are OMRSArchiveBuilder, OMRSArchiveHelper (with its open metadata superclasses) and the
+     * OpenMetadataTypesArchive classes in this package.  The OpenMetadataTypesArchive classes are found by listing
+     * the classes directory the snapshot is written from.  The classes of the archive beans are those recorded while
+     * serializing the archive.
+     *
+     * @param archive archive to be written to the snapshot
+     * @return map of class name to CRC-32
+     * @throws IOException the class files can not be listed or read
+     */
+    private Map<String, Long> getSnapshotClassCRCs(OpenMetadataArchive archive) throws IOException
+    {
+        Map<String, Long> classCRCs = new TreeMap<>();
+
+        CodeSource codeSource = OpenMetadataTypesArchiveSnapshot.class.getProtectionDomain().getCodeSource();
+        File       classesDirectory;
+
+        if ((codeSource == null) || (codeSource.getLocation() == null))
+        {
+            throw new IOException("Unable to locate the open metadata types archive classes");
+        }
+
+        try
+        {
+            classesDirectory = new File(codeSource.getLocation().toURI());
+        }
+        catch (URISyntaxException error)
+        {
+            throw new IOException(error);
+        }
+
+        String packageName  = OpenMetadataTypesArchiveSnapshot.class.getPackageName();
+        File[] archiveFiles = new File(classesDirectory, packageName.replace('.', '/')).listFiles();
+
+        if (archiveFiles != null)
+        {
+            for (File archiveFile : archiveFiles)
+            {
+                if (archiveClassNamePattern.matcher(archiveFile.getName()).matches())
+                {
+                    String fileName = archiveFile.getName();
+
+                    addClassCRC(packageName + "." + fileName.substring(0, fileName.length() - ".class".length()), classCRCs);
+                }
+            }
+        }
+
+        if (classCRCs.isEmpty())
+        {
+            throw new IOException("No open metadata types archive classes found in " + classesDirectory.getAbsolutePath());
+        }
+
+        for (Class<?> builderClass = OMRSArchiveHelper.class; builderClass.getName().startsWith(openMetadataClassPrefix); builderClass = builderClass.getSuperclass())
+        {
+            addClassCRC(builderClass.getName(), classCRCs);
+        }
+
+        addClassCRC(OMRSArchiveBuilder.class.getName(), classCRCs);
+
+        try (ObjectOutputStream classRecorder = new ObjectOutputStream(OutputStream.nullOutputStream())
+        {
+            @Override
+            protected void annotateClass(Class<?> serializedClass) throws IOException
+            {
+                if ((! serializedClass.isArray()) && (serializedClass.getName().startsWith(openMetadataClassPrefix)))
+                {
+                    addClassCRC(serializedClass.getName(), classCRCs);
+                }
+            }
+        })
+        {
+            classRecorder.writeObject(archive);
+        }
+
+        return classCRCs;
+    }
+
+
+    /**
+     * Add the CRC-32 of a class to the map.
+     *
+     * @param className fully qualified class name
+     * @param classCRCs map of class name to CRC-32
+     * @throws IOException the class file is not available
+     */
+    private void addClassCRC(String            className,
+                             Map<String, Long> classCRCs) throws IOException
+    {
+        Long classCRC = getClassCRC(className);
+
+        if (classCRC == null)
+        {
+            throw new IOException("Unable to read the class file for " + className);
+        }
+
+        classCRCs.put(className, classCRC);
+    }
+
+
+    /**
+     * Write the snapshot of the open metadata types archive into the supplied directory.
+     *
+     * @param directory directory to write the snapshot resource into
+     * @return snapshot file
+     * @throws IOException the file can not be written
+     */
+    public File writeSnapshot(File directory) throws IOException
+    {
+        File snapshotFile = new File(directory, SNAPSHOT_RESOURCE_NAME);
+
+        if ((! directory.exists()) && (! directory.mkdirs()))
+        {
+            throw new IOException("Unable to create directory " + directory.getAbsolutePath());
+        }
+
+        OpenMetadataArchive archive   = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        Map<String, Long>   classCRCs = getSnapshotClassCRCs(archive);
+
+        try (ObjectOutputStream objectStream = new ObjectOutputStream(new FileOutputStream(snapshotFile)))
+        {
+            objectStream.writeInt(classCRCs.size());
+
+            for (Map.Entry<String, Long> classCRC : classCRCs.entrySet())
+            {
+                objectStream.writeUTF(classCRC.getKey());
+                objectStream.writeLong(classCRC.getValue());
+            }
+
+            objectStream.writeObject(archive);
+        }
+
+        return snapshotFile;
+    }
+
+
+    /**
+     * Build-time entry point that writes the snapshot into the directory named in the first argument
+     * (typically the module's classes directory).
+     *
+     * @param args directory name
+     */
+    public static void main(String[] args)
+    {
+        if ((args == null) || (args.length != 1))
+        {
+            System.out.println("Usage: OpenMetadataTypesArchiveSnapshot <output directory>");
+            System.exit(-1);
+        }
+
+        try
+        {
+            File snapshotFile = new OpenMetadataTypesArchiveSnapshot().writeSnapshot(new File(args[0]));
+
+            System.out.println("Open metadata types snapshot written to " + snapshotFile.getAbsolutePath());
+        }
+        catch (Exception error)
+        {
+            System.out.println("Unable to write open metadata types snapshot: " + error.getMessage());
+            System.exit(-1);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+
+/**
+ * OpenMetadataTypesArchiveStartupBenchmark compares the time taken to obtain the open metadata types archive
+ * by building it in code and by loading the pre-built snapshot from the classpath.  It is run by hand
+ * (not as part of the unit tests) and takes two arguments: the path to measure ("build" or "snapshot")
+ * and the optional number of iterations.  The first call measures the cold start cost so each path
+ * should be measured in a new JVM.
+ */
+public class OpenMetadataTypesArchiveStartupBenchmark
+{
+    private static final int defaultIterations = 20;
+
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args path to measure followed by the optional number of measured iterations
+     */
+    public static void main(String[] args)
+    {
+        if ((args == null) || (args.length < 1))
+        {
+            System.out.println("Usage: OpenMetadataTypesArchiveStartupBenchmark build|snapshot [iterations]");
+            System.exit(-1);
+        }
+
+        boolean useSnapshot = "snapshot".equals(args[0]);
+        int     iterations  = defaultIterations;
+
+        if (args.length > 1)
+        {
+            iterations = Integer.parseInt(args[1]);
+        }
+
+        long                start         = System.nanoTime();
+        OpenMetadataArchive archive       = loadArchive(useSnapshot);
+        long                firstCallTime = System.nanoTime() - start;
+
+        if (archive == null)
+        {
+            System.out.println("No snapshot on the classpath - run the build first");
+            System.exit(-1);
+        }
+
+        long totalTime = 0L;
+
+        for (int i = 0; i < iterations; i++)
+        {
+            start = System.nanoTime();
+            loadArchive(useSnapshot);
+            totalTime += System.nanoTime() - start;
+        }
+
+        System.out.println("Path:                   " + (useSnapshot ? "load from snapshot" : "build in code"));
+        System.out.println("First call (ms):        " + firstCallTime / 1000000.0);
+        System.out.println("Iterations:             " + iterations);
+        System.out.println("Subsequent mean (ms):   " + (totalTime / iterations) / 1000000.0);
+    }
+
+
+    /**
+     * Retrieve the archive through the requested path.
+     *
+     * @param useSnapshot load the snapshot rather than building the archive
+     * @return archive or null if the snapshot is not available
+     */
+    private static OpenMetadataArchive loadArchive(boolean useSnapshot)
+    {
+        if (useSnapshot)
+        {
+            return new OpenMetadataTypesArchiveSnapshot().readSnapshot();
+        }
+        else
+        {
+            return new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.opentypes;
+
+
+import org.odpi.openmetadata.repositoryservices.archiveutilities.OMRSArchiveBuilder;
+import org.odpi.openmetadata.repositoryservices.archiveutilities.OMRSArchiveHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.nio.file.Files;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that the snapshot of the open metadata types archive has the same content as the archive built in code.
+ */
+public class TestOpenMetadataTypesArchiveSnapshot
+{
+    @Test
+    public void testSnapshotMatchesArchive() throws Exception
+    {
+        OpenMetadataArchive builtArchive = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+
+        OpenMetadataTypesArchiveSnapshot snapshot = new OpenMetadataTypesArchiveSnapshot();
+
+        File directory    = Files.createTempDirectory("open-metadata-types").toFile();
+        File snapshotFile = snapshot.writeSnapshot(directory);
+
+        try (InputStream snapshotStream = new FileInputStream(snapshotFile))
+        {
+            OpenMetadataArchive snapshotArchive = snapshot.readSnapshot(snapshotStream, true);
+
+            assertEquals(snapshotArchive.getArchiveProperties(), builtArchive.getArchiveProperties());
+            assertEquals(snapshotArchive.getArchiveTypeStore(), builtArchive.getArchiveTypeStore());
+        }
+        finally
+        {
+            snapshotFile.delete();
+            directory.delete();
+        }
+    }
+
+
+    @Test
+    public void testArchiveAlwaysAvailable()
+    {
+        OpenMetadataArchive archive = new OpenMetadataTypesArchiveSnapshot().getOpenMetadataArchive();
+
+        assertNotNull(archive.getArchiveTypeStore());
+        assertEquals(archive.getArchiveTypeStore(), new OpenMetadataTypesArchive().getOpenMetadataArchive().getArchiveTypeStore());
+    }
+
+
+    @Test
+    public void testStaleSnapshotIgnored() throws Exception
+    {
+        OpenMetadataTypesArchiveSnapshot snapshot = new OpenMetadataTypesArchiveSnapshot();
+
+        byte[] changedClass = getSnapshotBytes(EntityDef.class.getName(), 0L);
+        byte[] missingClass = getSnapshotBytes("org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive9_9", 0L);
+
+        assertNull(snapshot.readSnapshot(new ByteArrayInputStream(changedClass), true));
+        assertNull(snapshot.readSnapshot(new ByteArrayInputStream(missingClass), true));
+        assertNotNull(snapshot.readSnapshot(new ByteArrayInputStream(changedClass), false));
+    }
+
+
+    @Test
+    public void testTruncatedSnapshotRejected() throws Exception
+    {
+        OpenMetadataTypesArchiveSnapshot snapshot = new OpenMetadataTypesArchiveSnapshot();
+
+        File directory    = Files.createTempDirectory("open-metadata-types").toFile();
+        File snapshotFile = snapshot.writeSnapshot(directory);
+
+        try
+        {
+            byte[] snapshotBytes = Files.readAllBytes(snapshotFile.toPath());
+            byte[] truncated     = Arrays.copyOf(snapshotBytes, snapshotBytes.length / 2);
+
+            snapshot.readSnapshot(new ByteArrayInputStream(truncated), true);
+            fail("Truncated snapshot was accepted");
+        }
+        catch (IOException expected)
+        {
+            // expected
+        }
+        finally
+        {
+            snapshotFile.delete();
+            directory.delete();
+        }
+    }
+
+
+    @Test
+    public void testSnapshotRecordsDependentClasses() throws Exception
+    {
+        OpenMetadataTypesArchiveSnapshot snapshot = new OpenMetadataTypesArchiveSnapshot();
+
+        File        directory    = Files.createTempDirectory("open-metadata-types").toFile();
+        File        snapshotFile = snapshot.writeSnapshot(directory);
+        Set<String> classNames   = new HashSet<>();
+
+        try (ObjectInputStream snapshotStream = new ObjectInputStream(new FileInputStream(snapshotFile)))
+        {
+            int classCount = snapshotStream.readInt();
+
+            for (int i = 0; i < classCount; i++)
+            {
+                String className = snapshotStream.readUTF();
+
+                assertEquals(Long.valueOf(snapshotStream.readLong()), OpenMetadataTypesArchiveSnapshot.getClassCRC(className));
+                classNames.add(className);
+            }
+        }
+        finally
+        {
+            snapshotFile.delete();
+            directory.delete();
+        }
+
+        assertTrue(classNames.contains(OpenMetadataTypesArchive.class.getName()));
+        assertTrue(classNames.contains(OMRSArchiveBuilder.class.getName()));
+        assertTrue(classNames.contains(OMRSArchiveHelper.class.getName()));
+        assertTrue(classNames.contains(OpenMetadataArchive.class.getName()));
+        assertTrue(classNames.contains(EntityDef.class.getName()));
+    }
+
+
+    /**
+     * Return a snapshot that records a single class with the supplied CRC-32.
+     *
+     * @param className name of the recorded class
+     * @param classCRC recorded CRC-32
+     * @return snapshot content
+     * @throws IOException unable to write the snapshot
+     */
+    private byte[] getSnapshotBytes(String className,
+                                    long   classCRC) throws IOException
+    {
+        ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectStream = new ObjectOutputStream(snapshotBytes))
+        {
+            objectStream.writeInt(1);
+            objectStream.writeUTF(className);
+            objectStream.writeLong(classCRC);
+            objectStream.writeObject(new OpenMetadataTypesArchive().getOpenMetadataArchive());
+        }
+
+        return snapshotBytes.toByteArray();
+    }
+}